@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.core;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ObjectLoader;
+import org.eclipse.leshan.core.model.StaticModel;
+import org.eclipse.leshan.core.node.LwM2mMultipleResource;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures each content format supported by {@link DefaultLwM2mEncoder} and {@link DefaultLwM2mDecoder}.
+ * <p>
+ * Formats able to encode several resources use a Device object instance (/3/0) as payload, like a Read of this
+ * instance. Other formats use the single resource they are usually used for : a string for TEXT, an integer for CBOR
+ * and a firmware chunk for OPAQUE.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    @Param({ "TLV", "JSON", "SENML_JSON", "SENML_CBOR", "TEXT", "CBOR", "OPAQUE" })
+    public String format;
+
+    private final LwM2mEncoder encoder = new DefaultLwM2mEncoder();
+    private final LwM2mDecoder decoder = new DefaultLwM2mDecoder();
+    private final LwM2mModel model = new StaticModel(ObjectLoader.loadDefault());
+
+    private ContentFormat contentFormat;
+    private LwM2mPath path;
+    private LwM2mNode node;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contentFormat = ContentFormat.fromName(format);
+        switch (format) {
+        case "TEXT":
+            path = new LwM2mPath(3, 0, 0);
+            node = LwM2mSingleResource.newStringResource(0, "Leshan Demo Device");
+            break;
+        case "CBOR":
+            path = new LwM2mPath(3, 0, 9);
+            node = LwM2mSingleResource.newIntegerResource(9, 87);
+            break;
+        case "OPAQUE":
+            path = new LwM2mPath(5, 0, 0);
+            byte[] chunk = new byte[1024];
+            Arrays.fill(chunk, (byte) 0x5A);
+            node = LwM2mSingleResource.newBinaryResource(0, chunk);
+            break;
+        default:
+            path = new LwM2mPath(3, 0);
+            node = deviceInstance();
+            break;
+        }
+        encoded = encoder.encode(node, contentFormat, null, path, model);
+    }
+
+    private static LwM2mObjectInstance deviceInstance() {
+        Map<Integer, Long> powerSources = new HashMap<>();
+        powerSources.put(0, 1L);
+        powerSources.put(1, 5L);
+        Map<Integer, Long> voltages = new HashMap<>();
+        voltages.put(0, 3800L);
+        voltages.put(1, 5000L);
+        Map<Integer, Long> errorCodes = new HashMap<>();
+        errorCodes.put(0, 0L);
+
+        return new LwM2mObjectInstance(0, //
+                LwM2mSingleResource.newStringResource(0, "Leshan Demo Device"), //
+                LwM2mSingleResource.newStringResource(1, "Model 500"), //
+                LwM2mSingleResource.newStringResource(2, "LT-500-000-0001"), //
+                LwM2mSingleResource.newStringResource(3, "1.0.0"), //
+                LwM2mMultipleResource.newIntegerResource(6, powerSources), //
+                LwM2mMultipleResource.newIntegerResource(7, voltages), //
+                LwM2mSingleResource.newIntegerResource(9, 87), //
+                LwM2mMultipleResource.newIntegerResource(11, errorCodes), //
+                LwM2mSingleResource.newDateResource(13, new Date(1700000000000L)), //
+                LwM2mSingleResource.newStringResource(14, "+02"), //
+                LwM2mSingleResource.newStringResource(15, "Europe/Paris"), //
+                LwM2mSingleResource.newStringResource(16, "U"), //
+                LwM2mSingleResource.newStringResource(17, "Demo"), //
+                LwM2mSingleResource.newStringResource(18, "1.0.1"), //
+                LwM2mSingleResource.newStringResource(19, "1.0.2"), //
+                LwM2mSingleResource.newIntegerResource(20, 1), //
+                LwM2mSingleResource.newIntegerResource(21, 256));
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.encode(node, contentFormat, null, path, model);
+    }
+
+    @Benchmark
+    public LwM2mNode decode() {
+        return decoder.decode(encoded, contentFormat, null, path, model);
+    }
+}
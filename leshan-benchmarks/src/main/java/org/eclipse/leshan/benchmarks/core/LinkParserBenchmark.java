@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.link.DefaultLinkParser;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.LinkParseException;
+import org.eclipse.leshan.core.link.LinkParser;
+import org.eclipse.leshan.core.link.lwm2m.DefaultLwM2mLinkParser;
+import org.eclipse.leshan.core.link.lwm2m.LwM2mLink;
+import org.eclipse.leshan.core.link.lwm2m.LwM2mLinkParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures CoRE Link parsing of a usual Register request payload and of a Discover response payload.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinkParserBenchmark {
+
+    private final byte[] registerPayload = ("</>;rt=\"oma.lwm2m\";ct=\"60 110 112 11542 11543\","
+            + "</1>;ver=1.1,</1/0>,</3>;ver=1.1,</3/0>,</4/0>,</5/0>,</6/0>,</7/0>,"
+            + "</3303>;ver=1.1,</3303/0>,</3303/1>,</3304/0>,</3442/0>").getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] discoverPayload = ("</3>;ver=1.1,</3/0>;pmin=10,</3/0/0>,</3/0/1>,</3/0/2>,</3/0/3>,"
+            + "</3/0/6>;dim=2,</3/0/7>;dim=2,</3/0/9>;pmin=60;pmax=600;gt=80;lt=20,</3/0/11>;dim=1,</3/0/13>,"
+            + "</3/0/16>").getBytes(StandardCharsets.UTF_8);
+
+    private final LinkParser linkParser = new DefaultLinkParser();
+    private final LwM2mLinkParser lwm2mLinkParser = new DefaultLwM2mLinkParser();
+
+    @Benchmark
+    public Link[] parseCoreLinkFormat() throws LinkParseException {
+        return linkParser.parseCoreLinkFormat(registerPayload);
+    }
+
+    @Benchmark
+    public Link[] parseLwM2mCoreLinkFormat() throws LinkParseException {
+        return lwm2mLinkParser.parseCoreLinkFormat(registerPayload);
+    }
+
+    @Benchmark
+    public LwM2mLink[] parseLwM2mLinks() throws LinkParseException {
+        return lwm2mLinkParser.parseLwM2mLinkFromCoreLinkFormat(discoverPayload, null);
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link LwM2mPath} parsing and formatting, done for each request and each SenML record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LwM2mPathBenchmark {
+
+    @Param({ "/3", "/3/0", "/3303/0/5700", "/3/0/7/1" })
+    public String path;
+
+    private LwM2mPath parsedPath;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parsedPath = new LwM2mPath(path);
+    }
+
+    @Benchmark
+    public LwM2mPath parse() {
+        return new LwM2mPath(path);
+    }
+
+    @Benchmark
+    public String format() {
+        return parsedPath.toString();
+    }
+}
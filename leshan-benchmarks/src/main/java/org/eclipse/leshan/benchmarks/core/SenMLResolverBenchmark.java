@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.node.codec.senml.LwM2mResolvedSenMLRecord;
+import org.eclipse.leshan.core.node.codec.senml.LwM2mSenMLResolver;
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures resolution of SenML records (base name, base time and LWM2M path) by {@link LwM2mSenMLResolver}, done for
+ * each record of a SenML payload once parsed.
+ * <p>
+ * The pack looks like the one sent by a client using base name and base time to compress {@link #nbRecords} temperature
+ * samples.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SenMLResolverBenchmark {
+
+    @Param({ "10", "100" })
+    public int nbRecords;
+
+    private List<SenMLRecord> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        records = new ArrayList<>(nbRecords);
+        BigDecimal baseTime = BigDecimal.valueOf(1700000000L);
+        for (int i = 0; i < nbRecords; i++) {
+            boolean first = i == 0;
+            records.add(new SenMLRecord(first ? "/3303/" : null, first ? baseTime : null, (i % 2) + "/5700",
+                    BigDecimal.valueOf(i / 2 * 60), BigDecimal.valueOf(20 + (i % 50) / 10d), null, null, null, null));
+        }
+    }
+
+    @Benchmark
+    public void resolve(Blackhole bh) throws SenMLException {
+        // a resolver is stateful, one is created for each pack
+        LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
+        for (SenMLRecord record : records) {
+            LwM2mResolvedSenMLRecord resolved = resolver.resolve(record);
+            bh.consume(resolved);
+        }
+    }
+}
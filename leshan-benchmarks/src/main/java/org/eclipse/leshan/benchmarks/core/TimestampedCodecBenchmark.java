@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.core;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ObjectLoader;
+import org.eclipse.leshan.core.model.StaticModel;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures SenML encoding and decoding of timestamped data, like the payload of a Send request or of a notification
+ * carrying historical values.
+ * <p>
+ * Payload contains {@link #nbRecords} temperature samples of 2 sensors (/3303/0/5700 and /3303/1/5700).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimestampedCodecBenchmark {
+
+    @Param({ "SENML_JSON", "SENML_CBOR" })
+    public String format;
+
+    @Param({ "10", "100" })
+    public int nbRecords;
+
+    private final LwM2mEncoder encoder = new DefaultLwM2mEncoder();
+    private final LwM2mDecoder decoder = new DefaultLwM2mDecoder();
+    private final LwM2mModel model = new StaticModel(ObjectLoader.loadDefault());
+
+    private ContentFormat contentFormat;
+    private TimestampedLwM2mNodes data;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contentFormat = ContentFormat.fromName(format);
+
+        TimestampedLwM2mNodes.Builder builder = new TimestampedLwM2mNodes.Builder();
+        Instant start = Instant.ofEpochSecond(1700000000L);
+        for (int i = 0; i < nbRecords; i++) {
+            LwM2mPath path = new LwM2mPath(3303, i % 2, 5700);
+            builder.put(start.plusSeconds(i / 2 * 60), path,
+                    LwM2mSingleResource.newFloatResource(5700, 20 + (i % 50) / 10d));
+        }
+        data = builder.build();
+        encoded = encoder.encodeTimestampedNodes(data, contentFormat, null, model);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.encodeTimestampedNodes(data, contentFormat, null, model);
+    }
+
+    @Benchmark
+    public TimestampedLwM2mNodes decode() {
+        return decoder.decodeTimestampedNodes(encoded, contentFormat, null, null, model);
+    }
+}
@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.fleet;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.californium.elements.Connector;
+import org.eclipse.californium.elements.config.Configuration;
+import org.eclipse.californium.elements.util.ExecutorsUtil;
+import org.eclipse.californium.elements.util.ProtocolScheduledExecutorService;
+import org.eclipse.californium.scandium.config.DtlsConfig;
+import org.eclipse.californium.scandium.config.DtlsConnectorConfig;
+import org.eclipse.leshan.client.LeshanClient;
+import org.eclipse.leshan.client.LeshanClientBuilder;
+import org.eclipse.leshan.client.object.Security;
+import org.eclipse.leshan.client.object.Server;
+import org.eclipse.leshan.client.resource.LwM2mObjectEnabler;
+import org.eclipse.leshan.client.resource.ObjectsInitializer;
+import org.eclipse.leshan.client.send.ManualDataSender;
+import org.eclipse.leshan.core.LwM2mId;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ObjectLoader;
+import org.eclipse.leshan.core.model.StaticModel;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.HashedWheelTimeoutScheduler;
+import org.eclipse.leshan.transport.californium.client.endpoint.CaliforniumClientEndpointFactory;
+import org.eclipse.leshan.transport.californium.client.endpoint.CaliforniumClientEndpointsProvider;
+import org.eclipse.leshan.transport.californium.client.endpoint.ClientProtocolProvider;
+import org.eclipse.leshan.transport.californium.client.endpoint.coap.CoapClientEndpointFactory;
+import org.eclipse.leshan.transport.californium.client.endpoint.coap.CoapClientProtocolProvider;
+import org.eclipse.leshan.transport.californium.client.endpoint.coaps.CoapsClientEndpointFactory;
+import org.eclipse.leshan.transport.californium.client.endpoint.coaps.CoapsClientProtocolProvider;
+
+/**
+ * A fleet of lightweight {@link LeshanClient} running in the same JVM, generally used to load test a LWM2M server.
+ * <p>
+ * Each client has its own endpoint name, credentials and object tree but all clients share :
+ * <ul>
+ * <li>one scheduler used by registration engines and notification managers,</li>
+ * <li>one {@link HashedWheelTimeoutScheduler} used to raise request timeouts,</li>
+ * <li>one Californium protocol executor used by CoAP stacks and DTLS connectors,</li>
+ * <li>one {@link SharedUdpChannelPool} : a few selector threads which receive datagrams for all clients.</li>
+ * </ul>
+ * So the number of threads does not depend on the number of clients. Each client still has its own local port (a LWM2M
+ * server sends its requests to the address of a registration), so the fleet needs 1 file descriptor per client : raise
+ * OS limit (<code>ulimit -n</code>) to simulate big fleets.
+ * <p>
+ * Clients are created but not started, see {@link FleetDriver} to ramp up traffic.
+ */
+public class ClientFleet {
+
+    private final List<FleetClient> clients;
+    private final ScheduledExecutorService scheduler;
+    private final HashedWheelTimeoutScheduler timeoutScheduler;
+    private final ProtocolScheduledExecutorService protocolExecutor;
+    private final SharedUdpChannelPool channelPool;
+
+    protected ClientFleet(Builder builder) throws IOException {
+        channelPool = new SharedUdpChannelPool(builder.ioThreads);
+        scheduler = ExecutorsUtil.newScheduledThreadPool(builder.schedulerThreads,
+                new NamedThreadFactory("Fleet scheduler#%d"));
+        timeoutScheduler = new HashedWheelTimeoutScheduler.Builder()
+                .setThreadFactory(new NamedThreadFactory("Fleet request timeout")).build();
+        protocolExecutor = ExecutorsUtil.newProtocolScheduledThreadPool(builder.protocolThreads,
+                new NamedThreadFactory("Fleet CoAP#%d"));
+
+        // objects models are immutable and can be shared by all clients
+        LwM2mModel model = new StaticModel(ObjectLoader.loadDefault());
+        Configuration configuration = createConfiguration();
+
+        List<FleetClient> fleet = new ArrayList<>(builder.nbClients);
+        for (int i = 0; i < builder.nbClients; i++) {
+            String endpoint = builder.endpointPrefix + i;
+
+            // create objects
+            ObjectsInitializer initializer = new ObjectsInitializer(model);
+            if (builder.pskKeyProvider != null) {
+                initializer.setInstancesForObject(LwM2mId.SECURITY, Security.psk(builder.serverUri, 123,
+                        endpoint.getBytes(StandardCharsets.UTF_8), builder.pskKeyProvider.apply(endpoint)));
+            } else {
+                initializer.setInstancesForObject(LwM2mId.SECURITY, Security.noSec(builder.serverUri, 123));
+            }
+            initializer.setInstancesForObject(LwM2mId.SERVER, new Server(123, builder.lifetimeInSec));
+            SimulatedDevice device = new SimulatedDevice(endpoint);
+            initializer.setInstancesForObject(LwM2mId.DEVICE, device);
+            List<LwM2mObjectEnabler> objects = initializer.create(LwM2mId.SECURITY, LwM2mId.SERVER, LwM2mId.DEVICE);
+
+            // create endpoints provider
+            ClientProtocolProvider protocolProvider = builder.pskKeyProvider != null ? createCoapsProtocolProvider()
+                    : createCoapProtocolProvider();
+            CaliforniumClientEndpointsProvider endpointsProvider = new CaliforniumClientEndpointsProvider.Builder(
+                    protocolProvider) //
+                            .setConfiguration(configuration) //
+                            .setTimeoutScheduler(timeoutScheduler) //
+                            .setSharedExecutor(protocolExecutor) //
+                            .build();
+
+            // create client
+            ManualDataSender dataSender = new ManualDataSender();
+            LeshanClient client = new LeshanClientBuilder(endpoint) //
+                    .setObjects(objects) //
+                    .setDataSenders(dataSender) //
+                    .setEndpointsProviders(endpointsProvider) //
+                    .setSharedExecutor(scheduler) //
+                    .setSharedTimeoutScheduler(timeoutScheduler) //
+                    .build();
+            fleet.add(new FleetClient(endpoint, client, device, dataSender));
+        }
+        clients = Collections.unmodifiableList(fleet);
+    }
+
+    protected Configuration createConfiguration() {
+        Configuration configuration = new CaliforniumClientEndpointsProvider.Builder(new CoapClientProtocolProvider(),
+                new CoapsClientProtocolProvider()).createDefaultConfiguration();
+        // datagrams are received by the shared channel pool
+        configuration.set(DtlsConfig.DTLS_RECEIVER_THREAD_COUNT, 0);
+        return configuration;
+    }
+
+    protected ClientProtocolProvider createCoapProtocolProvider() {
+        return new CoapClientProtocolProvider() {
+            @Override
+            public CaliforniumClientEndpointFactory createDefaultEndpointFactory() {
+                return new CoapClientEndpointFactory() {
+                    @Override
+                    protected Connector createConnector(InetSocketAddress address, Configuration coapConfig) {
+                        return channelPool.createConnector(address);
+                    }
+                };
+            }
+        };
+    }
+
+    protected ClientProtocolProvider createCoapsProtocolProvider() {
+        return new CoapsClientProtocolProvider() {
+            @Override
+            public CaliforniumClientEndpointFactory createDefaultEndpointFactory() {
+                return new CoapsClientEndpointFactory() {
+                    @Override
+                    protected Connector createSecuredConnector(DtlsConnectorConfig dtlsConfig) {
+                        return channelPool.createDtlsConnector(dtlsConfig, protocolExecutor);
+                    }
+                };
+            }
+        };
+    }
+
+    public List<FleetClient> getClients() {
+        return clients;
+    }
+
+    /**
+     * @return the scheduler shared by all clients of this fleet.
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Destroy all clients of the fleet and release shared resources.
+     *
+     * @param deregister <code>true</code> to send a deregistration request for each registered client.
+     */
+    public void destroy(boolean deregister) {
+        for (FleetClient client : clients) {
+            client.getClient().destroy(deregister);
+        }
+        ExecutorsUtil.shutdownExecutorGracefully(1000, scheduler, protocolExecutor);
+        timeoutScheduler.destroy();
+        channelPool.destroy();
+    }
+
+    /**
+     * A client of the fleet and the objects used to simulate its activity.
+     */
+    public static class FleetClient {
+
+        private final String endpoint;
+        private final LeshanClient client;
+        private final SimulatedDevice device;
+        private final ManualDataSender dataSender;
+
+        public FleetClient(String endpoint, LeshanClient client, SimulatedDevice device, ManualDataSender dataSender) {
+            this.endpoint = endpoint;
+            this.client = client;
+            this.device = device;
+            this.dataSender = dataSender;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public LeshanClient getClient() {
+            return client;
+        }
+
+        public SimulatedDevice getDevice() {
+            return device;
+        }
+
+        public ManualDataSender getDataSender() {
+            return dataSender;
+        }
+
+        public boolean isRegistered() {
+            return !client.getRegisteredServers().isEmpty();
+        }
+    }
+
+    public static class Builder {
+
+        private final String serverUri;
+        private int nbClients = 1000;
+        private String endpointPrefix = "fleet-";
+        private long lifetimeInSec = 300;
+        private Function<String, byte[]> pskKeyProvider;
+        private int schedulerThreads = Runtime.getRuntime().availableProcessors();
+        private int protocolThreads = Runtime.getRuntime().availableProcessors();
+        private int ioThreads = 2;
+
+        /**
+         * @param serverUri the URI of the LWM2M server, <code>coap://</code> or <code>coaps://</code> if a PSK key
+         *        provider is set.
+         */
+        public Builder(String serverUri) {
+            Validate.notEmpty(serverUri);
+            this.serverUri = serverUri;
+        }
+
+        public Builder setNbClients(int nbClients) {
+            Validate.isTrue(nbClients > 0, "number of clients must be positive");
+            this.nbClients = nbClients;
+            return this;
+        }
+
+        /**
+         * Endpoint name of each client is this prefix followed by the index of the client in the fleet.
+         */
+        public Builder setEndpointPrefix(String endpointPrefix) {
+            Validate.notNull(endpointPrefix);
+            this.endpointPrefix = endpointPrefix;
+            return this;
+        }
+
+        public Builder setLifetime(long lifetime, TimeUnit unit) {
+            this.lifetimeInSec = unit.toSeconds(lifetime);
+            return this;
+        }
+
+        /**
+         * Use PSK : identity of each client is its endpoint name and its key is given by the provider.
+         */
+        public Builder setPskKeyProvider(Function<String, byte[]> pskKeyProvider) {
+            this.pskKeyProvider = pskKeyProvider;
+            return this;
+        }
+
+        /**
+         * Set the number of threads of the scheduler used by registration engines and notification managers.
+         */
+        public Builder setSchedulerThreads(int schedulerThreads) {
+            Validate.isTrue(schedulerThreads > 0, "number of threads must be positive");
+            this.schedulerThreads = schedulerThreads;
+            return this;
+        }
+
+        /**
+         * Set the number of threads of the executor used by CoAP stacks.
+         */
+        public Builder setProtocolThreads(int protocolThreads) {
+            Validate.isTrue(protocolThreads > 0, "number of threads must be positive");
+            this.protocolThreads = protocolThreads;
+            return this;
+        }
+
+        /**
+         * Set the number of selector threads which receive datagrams for all clients.
+         * <p>
+         * Default value is {@literal 2}.
+         */
+        public Builder setIoThreads(int ioThreads) {
+            Validate.isTrue(ioThreads > 0, "number of threads must be positive");
+            this.ioThreads = ioThreads;
+            return this;
+        }
+
+        /**
+         * Create the fleet, clients are not started.
+         *
+         * @throws IOException if shared UDP channel pool can not be created.
+         */
+        public ClientFleet build() throws IOException {
+            return new ClientFleet(this);
+        }
+    }
+}
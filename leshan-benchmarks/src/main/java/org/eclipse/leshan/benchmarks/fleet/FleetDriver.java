@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.fleet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.leshan.benchmarks.fleet.ClientFleet.FleetClient;
+import org.eclipse.leshan.client.send.NoDataException;
+import org.eclipse.leshan.client.servers.LwM2mServer;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives the traffic of a {@link ClientFleet} at configured rates (in operation per second) :
+ * <ul>
+ * <li>registrations : clients are started one by one until the whole fleet is started,</li>
+ * <li>updates : a random registered client sends a registration update,</li>
+ * <li>notifications : the battery level of a random registered client changes, a notification is sent if the server
+ * observes it,</li>
+ * <li>sends : a random registered client sends its battery level with a Send request.</li>
+ * </ul>
+ * A rate of <code>0</code> disables the corresponding traffic.
+ */
+public class FleetDriver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FleetDriver.class);
+
+    private static final List<LwM2mPath> SENT_PATHS = Collections.singletonList(new LwM2mPath(3, 0, 9));
+    private static final long SEND_TIMEOUT_IN_MS = 10000;
+
+    private final ClientFleet fleet;
+    private final ScheduledExecutorService ticker;
+    private final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+
+    private final Iterator<FleetClient> notStarted;
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong notifications = new AtomicLong();
+    private final AtomicLong sends = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    public FleetDriver(ClientFleet fleet) {
+        this.fleet = fleet;
+        this.notStarted = fleet.getClients().iterator();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("Fleet driver"));
+    }
+
+    /**
+     * Start to generate traffic.
+     */
+    public synchronized void start(double registrationRate, double updateRate, double notificationRate,
+            double sendRate) {
+        schedule(registrationRate, this::startNextClient);
+        schedule(updateRate, () -> {
+            FleetClient client = randomRegisteredClient();
+            if (client != null) {
+                client.getClient().triggerRegistrationUpdate();
+                updates.incrementAndGet();
+            }
+        });
+        schedule(notificationRate, () -> {
+            FleetClient client = randomRegisteredClient();
+            if (client != null) {
+                client.getDevice().changeBatteryLevel();
+                notifications.incrementAndGet();
+            }
+        });
+        schedule(sendRate, () -> {
+            FleetClient client = randomRegisteredClient();
+            if (client != null) {
+                send(client);
+            }
+        });
+    }
+
+    private void schedule(double rate, Runnable task) {
+        if (rate <= 0) {
+            return;
+        }
+        long periodInNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+        tasks.add(ticker.scheduleAtFixedRate(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // keep the task scheduled
+                LOG.warn("Unexpected error while driving fleet traffic", e);
+            }
+        }, 0, periodInNanos, TimeUnit.NANOSECONDS));
+    }
+
+    private void startNextClient() {
+        // only called from ticker thread
+        if (notStarted.hasNext()) {
+            FleetClient client = notStarted.next();
+            // starting a client may block, so don't do it in ticker thread
+            fleet.getScheduler().execute(() -> client.getClient().start());
+            started.incrementAndGet();
+        }
+    }
+
+    private FleetClient randomRegisteredClient() {
+        int nbStarted = started.get();
+        if (nbStarted == 0) {
+            return null;
+        }
+        FleetClient client = fleet.getClients().get(ThreadLocalRandom.current().nextInt(nbStarted));
+        if (!client.isRegistered()) {
+            skipped.incrementAndGet();
+            return null;
+        }
+        return client;
+    }
+
+    private void send(FleetClient client) {
+        Iterator<LwM2mServer> servers = client.getClient().getRegisteredServers().values().iterator();
+        if (!servers.hasNext()) {
+            skipped.incrementAndGet();
+            return;
+        }
+        client.getDataSender().collectData(SENT_PATHS);
+        try {
+            client.getDataSender().sendCollectedData(servers.next(), ContentFormat.SENML_CBOR, SEND_TIMEOUT_IN_MS,
+                    false);
+            sends.incrementAndGet();
+        } catch (NoDataException e) {
+            skipped.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return a one line summary of the traffic generated so far.
+     */
+    public String getStatistics() {
+        int registered = 0;
+        for (FleetClient client : fleet.getClients()) {
+            if (client.isRegistered()) {
+                registered++;
+            }
+        }
+        return String.format("started=%d registered=%d updates=%d notifications=%d sends=%d skipped=%d", started.get(),
+                registered, updates.get(), notifications.get(), sends.get(), skipped.get());
+    }
+
+    /**
+     * Stop to generate traffic, clients are not stopped.
+     */
+    public synchronized void stop() {
+        for (ScheduledFuture<?> task : tasks) {
+            task.cancel(false);
+        }
+        tasks.clear();
+        ticker.shutdownNow();
+    }
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.fleet;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.util.Hex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Simulates a fleet of clients against a LWM2M server :
+ * <code>java -cp target/benchmarks.jar org.eclipse.leshan.benchmarks.fleet.FleetSimulator [options]</code>.
+ * <p>
+ * Statistics are logged every 10 seconds. Clients are deregistered when the simulation ends.
+ * <p>
+ * Clients share a few threads (see {@link ClientFleet}), but each one needs a file descriptor for its UDP channel.
+ */
+public class FleetSimulator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FleetSimulator.class);
+
+    private static final String USAGE = "Options (all optional):%n" //
+            + "  --server <uri>              server URI (default: coap://localhost:5683)%n" //
+            + "  --clients <n>               number of clients (default: 1000)%n" //
+            + "  --prefix <prefix>           endpoint name prefix (default: fleet-)%n" //
+            + "  --psk-key <hex>             use coaps with PSK : identity is endpoint name, key is this one%n" //
+            + "  --lifetime <s>              registration lifetime in seconds (default: 300)%n" //
+            + "  --threads <n>               threads of shared scheduler and CoAP executor (default: nb cores)%n" //
+            + "  --io-threads <n>            threads receiving datagrams for all clients (default: 2)%n" //
+            + "  --registration-rate <r/s>   rate of client start (default: 100)%n" //
+            + "  --update-rate <r/s>         rate of registration update (default: 0)%n" //
+            + "  --notification-rate <r/s>   rate of resource change (default: 0)%n" //
+            + "  --send-rate <r/s>           rate of Send request (default: 0)%n" //
+            + "  --duration <s>              simulation duration in seconds, 0 means until killed (default: 0)%n";
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                LOG.error("Invalid arguments, {}", String.format(USAGE));
+                System.exit(1);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+
+        int threads = Integer.parseInt(
+                options.getOrDefault("threads", Integer.toString(Runtime.getRuntime().availableProcessors())));
+        ClientFleet.Builder builder = new ClientFleet.Builder(options.getOrDefault("server", "coap://localhost:5683"))
+                .setNbClients(Integer.parseInt(options.getOrDefault("clients", "1000")))
+                .setEndpointPrefix(options.getOrDefault("prefix", "fleet-"))
+                .setLifetime(Long.parseLong(options.getOrDefault("lifetime", "300")), TimeUnit.SECONDS)
+                .setSchedulerThreads(threads).setProtocolThreads(threads)
+                .setIoThreads(Integer.parseInt(options.getOrDefault("io-threads", "2")));
+        String pskKey = options.get("psk-key");
+        if (pskKey != null) {
+            byte[] key = Hex.decodeHex(pskKey.toCharArray());
+            builder.setPskKeyProvider(endpoint -> key);
+        }
+
+        ClientFleet fleet = builder.build();
+        FleetDriver driver = new FleetDriver(fleet);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            driver.stop();
+            LOG.info("Final statistics : {}", driver.getStatistics());
+            fleet.destroy(true);
+        }));
+
+        driver.start(Double.parseDouble(options.getOrDefault("registration-rate", "100")),
+                Double.parseDouble(options.getOrDefault("update-rate", "0")),
+                Double.parseDouble(options.getOrDefault("notification-rate", "0")),
+                Double.parseDouble(options.getOrDefault("send-rate", "0")));
+
+        long duration = TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("duration", "0")));
+        long end = duration > 0 ? System.currentTimeMillis() + duration : Long.MAX_VALUE;
+        while (System.currentTimeMillis() < end) {
+            Thread.sleep(Math.min(10000, Math.max(1, end - System.currentTimeMillis())));
+            LOG.info("{}", driver.getStatistics());
+        }
+        System.exit(0);
+    }
+}
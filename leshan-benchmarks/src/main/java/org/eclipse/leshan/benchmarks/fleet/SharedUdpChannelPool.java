@@ -0,0 +1,402 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.fleet;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.DatagramPacket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.californium.elements.Connector;
+import org.eclipse.californium.elements.EndpointContext;
+import org.eclipse.californium.elements.EndpointContextMatcher;
+import org.eclipse.californium.elements.RawData;
+import org.eclipse.californium.elements.RawDataChannel;
+import org.eclipse.californium.elements.UdpEndpointContext;
+import org.eclipse.californium.elements.exception.EndpointMismatchException;
+import org.eclipse.californium.elements.util.ClockUtil;
+import org.eclipse.californium.elements.util.ProtocolScheduledExecutorService;
+import org.eclipse.californium.scandium.DTLSConnector;
+import org.eclipse.californium.scandium.config.DtlsConfig;
+import org.eclipse.californium.scandium.config.DtlsConnectorConfig;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A small pool of I/O threads shared by the UDP connectors of all clients of a {@link ClientFleet}.
+ * <p>
+ * A LWM2M server sends its requests to the address of a registration and CoAP requests do not carry the endpoint name,
+ * so each client still needs its own local port. But instead of a blocking socket with its own receiver and sender
+ * threads, each connector created by this pool owns a non-blocking {@link DatagramChannel} registered on one of the
+ * {@link Selector} of the pool. Selector threads read incoming datagrams and dispatch them by local port : to the
+ * connector which owns the channel. Outgoing datagrams are written directly by the calling thread. So the number of
+ * threads does not depend on the number of clients.
+ */
+public class SharedUdpChannelPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedUdpChannelPool.class);
+
+    // large enough for any UDP datagram, so nothing is truncated
+    private static final int MAX_DATAGRAM_SIZE = 65535;
+
+    private final List<IoLoop> loops;
+    private final List<Thread> threads;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+    private volatile boolean running = true;
+
+    /**
+     * @param nbThreads the number of selector threads.
+     * @throws IOException if a selector can not be opened.
+     */
+    public SharedUdpChannelPool(int nbThreads) throws IOException {
+        Validate.isTrue(nbThreads > 0, "number of threads must be positive");
+        NamedThreadFactory threadFactory = new NamedThreadFactory("Fleet UDP#%d");
+        loops = new ArrayList<>(nbThreads);
+        threads = new ArrayList<>(nbThreads);
+        for (int i = 0; i < nbThreads; i++) {
+            IoLoop loop = new IoLoop(Selector.open());
+            loops.add(loop);
+            Thread thread = threadFactory.newThread(loop);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Create a CoAP over UDP connector. Its channel is opened and bound when the connector is started.
+     *
+     * @param bindAddress the local address, port 0 means an ephemeral port.
+     */
+    public Connector createConnector(InetSocketAddress bindAddress) {
+        return new PooledUdpConnector(bindAddress);
+    }
+
+    /**
+     * Create a DTLS connector. Its channel is opened and bound when the connector is started.
+     * <p>
+     * {@link DtlsConfig#DTLS_RECEIVER_THREAD_COUNT} must be 0 : datagrams are received by this pool.
+     *
+     * @param config the DTLS configuration.
+     * @param executor the executor used to process DTLS records and handshakes.
+     */
+    public Connector createDtlsConnector(DtlsConnectorConfig config, ProtocolScheduledExecutorService executor) {
+        Validate.isTrue(config.get(DtlsConfig.DTLS_RECEIVER_THREAD_COUNT) == 0,
+                "DTLS receiver thread count must be 0 to use a shared UDP channel pool");
+        PooledDtlsConnector connector = new PooledDtlsConnector(config);
+        connector.setExecutor(executor);
+        return connector;
+    }
+
+    /**
+     * Stop selector threads. Channels are closed by their connector.
+     */
+    public void destroy() {
+        running = false;
+        for (IoLoop loop : loops) {
+            loop.selector.wakeup();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (IoLoop loop : loops) {
+            try {
+                loop.selector.close();
+            } catch (IOException e) {
+                LOG.debug("Unable to close selector", e);
+            }
+        }
+    }
+
+    private DatagramChannel openChannel() throws IOException {
+        if (!running) {
+            throw new IOException("UDP channel pool is destroyed");
+        }
+        DatagramChannel channel = DatagramChannel.open();
+        channel.configureBlocking(false);
+        return channel;
+    }
+
+    private void register(DatagramChannel channel, Connector connector) {
+        IoLoop loop = loops.get(Math.floorMod(nextLoop.getAndIncrement(), loops.size()));
+        // register from the selector thread, else register() would block until select() returns
+        loop.pending.add(new Registration(channel, connector));
+        loop.selector.wakeup();
+    }
+
+    private static class Registration {
+        private final DatagramChannel channel;
+        private final Connector connector;
+
+        public Registration(DatagramChannel channel, Connector connector) {
+            this.channel = channel;
+            this.connector = connector;
+        }
+    }
+
+    private class IoLoop implements Runnable {
+
+        private final Selector selector;
+        private final Queue<Registration> pending = new ConcurrentLinkedQueue<>();
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_DATAGRAM_SIZE);
+
+        public IoLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    registerPendingChannels();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        if (key.isValid() && key.isReadable()) {
+                            receive(key);
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    if (running) {
+                        LOG.warn("Unexpected error in UDP channel pool", e);
+                    }
+                }
+            }
+        }
+
+        private void registerPendingChannels() {
+            Registration registration;
+            while ((registration = pending.poll()) != null) {
+                try {
+                    registration.channel.register(selector, SelectionKey.OP_READ, registration.connector);
+                } catch (IOException e) {
+                    // channel was closed before being registered : connector is already stopped
+                    LOG.debug("Unable to register channel of {}", registration.connector, e);
+                }
+            }
+        }
+
+        private void receive(SelectionKey key) {
+            DatagramChannel channel = (DatagramChannel) key.channel();
+            Connector connector = (Connector) key.attachment();
+            try {
+                InetSocketAddress source;
+                while ((source = (InetSocketAddress) channel.receive(buffer)) != null) {
+                    buffer.flip();
+                    byte[] data = new byte[buffer.remaining()];
+                    buffer.get(data);
+                    buffer.clear();
+                    try {
+                        connector.processDatagram(new DatagramPacket(data, data.length, source));
+                    } catch (RuntimeException e) {
+                        LOG.warn("Unable to process datagram received by {}", connector, e);
+                    }
+                }
+            } catch (IOException e) {
+                buffer.clear();
+                key.cancel();
+                if (channel.isOpen()) {
+                    LOG.warn("Unable to receive datagram for {}, channel is unregistered", connector, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A CoAP over UDP connector which is a lightweight version of {@link org.eclipse.californium.elements.UDPConnector}
+     * : it has no thread of its own.
+     */
+    private class PooledUdpConnector implements Connector {
+
+        private final InetSocketAddress bindAddress;
+        private volatile DatagramChannel channel;
+        private volatile InetSocketAddress effectiveAddress;
+        private volatile RawDataChannel receiver;
+        private volatile EndpointContextMatcher endpointContextMatcher;
+
+        public PooledUdpConnector(InetSocketAddress bindAddress) {
+            this.bindAddress = bindAddress != null ? bindAddress : new InetSocketAddress(0);
+        }
+
+        @Override
+        public synchronized void start() throws IOException {
+            if (channel != null) {
+                return;
+            }
+            DatagramChannel newChannel = openChannel();
+            try {
+                newChannel.bind(bindAddress);
+                effectiveAddress = (InetSocketAddress) newChannel.getLocalAddress();
+            } catch (IOException e) {
+                newChannel.close();
+                throw e;
+            }
+            channel = newChannel;
+            register(newChannel, this);
+        }
+
+        @Override
+        public synchronized void stop() {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOG.debug("Unable to close channel of {}", this, e);
+            }
+            channel = null;
+        }
+
+        @Override
+        public void destroy() {
+            stop();
+        }
+
+        @Override
+        public void send(RawData msg) {
+            DatagramChannel currentChannel = channel;
+            if (currentChannel == null) {
+                msg.onError(new InterruptedIOException("Connector is not running."));
+                return;
+            }
+            EndpointContext connectionContext = new UdpEndpointContext(msg.getInetSocketAddress());
+            EndpointContextMatcher matcher = endpointContextMatcher;
+            if (matcher != null && !matcher.isToBeSent(msg.getEndpointContext(), connectionContext)) {
+                msg.onError(new EndpointMismatchException());
+                return;
+            }
+            msg.onContextEstablished(connectionContext);
+            try {
+                if (currentChannel.send(ByteBuffer.wrap(msg.getBytes()), msg.getInetSocketAddress()) == 0) {
+                    // send buffer is full : handled like a datagram lost on the network, CoAP will retransmit it
+                    LOG.debug("Send buffer of {} is full, datagram to {} is dropped", this, msg.getInetSocketAddress());
+                }
+                msg.onSent();
+            } catch (IOException e) {
+                msg.onError(e);
+            }
+        }
+
+        @Override
+        public void processDatagram(DatagramPacket datagram) {
+            RawDataChannel currentReceiver = receiver;
+            if (currentReceiver == null) {
+                return;
+            }
+            byte[] data = Arrays.copyOfRange(datagram.getData(), datagram.getOffset(),
+                    datagram.getOffset() + datagram.getLength());
+            currentReceiver.receiveData(
+                    RawData.inbound(data, new UdpEndpointContext((InetSocketAddress) datagram.getSocketAddress()),
+                            false, ClockUtil.nanoRealtime(), getAddress()));
+        }
+
+        @Override
+        public void setRawDataReceiver(RawDataChannel receiver) {
+            this.receiver = receiver;
+        }
+
+        @Override
+        public void setEndpointContextMatcher(EndpointContextMatcher matcher) {
+            this.endpointContextMatcher = matcher;
+        }
+
+        @Override
+        public InetSocketAddress getAddress() {
+            InetSocketAddress address = effectiveAddress;
+            return address != null ? address : bindAddress;
+        }
+
+        @Override
+        public String getProtocol() {
+            return "UDP";
+        }
+
+        @Override
+        public boolean isRunning() {
+            return channel != null;
+        }
+
+        @Override
+        public String toString() {
+            return getProtocol() + "-" + getAddress();
+        }
+    }
+
+    /**
+     * A {@link DTLSConnector} without receiver thread : datagrams are read by the pool and passed to
+     * {@link #processDatagram(DatagramPacket)}, records are written directly to the channel.
+     */
+    private class PooledDtlsConnector extends DTLSConnector {
+
+        private volatile DatagramChannel channel;
+
+        public PooledDtlsConnector(DtlsConnectorConfig config) {
+            super(config);
+        }
+
+        @Override
+        protected void start(InetSocketAddress bindAddress) throws IOException {
+            if (isRunning()) {
+                return;
+            }
+            DatagramChannel newChannel = openChannel();
+            channel = newChannel;
+            try {
+                // socket adapter is only used to configure and bind the channel
+                init(bindAddress, newChannel.socket(), null);
+            } catch (IOException | RuntimeException e) {
+                newChannel.close();
+                throw e;
+            }
+            register(newChannel, this);
+        }
+
+        @Override
+        protected void sendNextDatagramOverNetwork(DatagramPacket datagram) throws IOException {
+            DatagramChannel currentChannel = channel;
+            if (currentChannel == null || !currentChannel.isOpen()) {
+                throw new IOException("Connector is not running.");
+            }
+            if (currentChannel.send(ByteBuffer.wrap(datagram.getData(), datagram.getOffset(), datagram.getLength()),
+                    datagram.getSocketAddress()) == 0) {
+                // handled like a datagram lost on the network, DTLS or CoAP will retransmit it
+                LOG.debug("Send buffer of {} is full, datagram to {} is dropped", this, datagram.getSocketAddress());
+            }
+        }
+    }
+}
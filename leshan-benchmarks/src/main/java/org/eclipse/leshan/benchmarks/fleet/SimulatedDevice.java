@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.fleet;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.leshan.client.object.Device;
+import org.eclipse.leshan.client.servers.LwM2mServer;
+import org.eclipse.leshan.core.model.ObjectModel;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.core.response.ReadResponse;
+
+/**
+ * A {@link Device} which also exposes a battery level (/3/0/9), changed on demand to generate notifications and Send
+ * data.
+ */
+public class SimulatedDevice extends Device {
+
+    private static final List<Integer> supportedResources = Arrays.asList(0, 1, 2, 9, 11, 14, 15, 16);
+
+    private volatile int batteryLevel = 100;
+
+    public SimulatedDevice() {
+        // should never be used
+    }
+
+    public SimulatedDevice(String serialNumber) {
+        super("Eclipse Leshan", "fleet-simulator", serialNumber, EnumSet.of(BindingMode.U));
+    }
+
+    /**
+     * Change the battery level, observers of this resource will be notified.
+     */
+    public void changeBatteryLevel() {
+        batteryLevel = ThreadLocalRandom.current().nextInt(101);
+        fireResourceChange(9);
+    }
+
+    @Override
+    public ReadResponse read(LwM2mServer server, int resourceid) {
+        if (resourceid == 9) {
+            return ReadResponse.success(resourceid, batteryLevel);
+        }
+        return super.read(server, resourceid);
+    }
+
+    @Override
+    public List<Integer> getAvailableResourceIds(ObjectModel model) {
+        return supportedResources;
+    }
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.server;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.attributes.ContentFormatAttribute;
+import org.eclipse.leshan.core.link.attributes.ResourceTypeAttribute;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.peer.PskIdentity;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.redis.serialization.BinaryObservationSerDes;
+import org.eclipse.leshan.server.redis.serialization.BinaryRegistrationSerDes;
+import org.eclipse.leshan.server.redis.serialization.LwM2mPeerSerDes;
+import org.eclipse.leshan.server.redis.serialization.ObservationSerDes;
+import org.eclipse.leshan.server.redis.serialization.RegistrationSerDes;
+import org.eclipse.leshan.server.registration.DefaultRegistrationDataExtractor;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationDataExtractor.RegistrationData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares JSON and binary serialization formats used by Redis stores to save {@link Registration} and
+ * {@link Observation}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisSerDesBenchmark {
+
+    @Param({ "json", "binary" })
+    public String format;
+
+    private RegistrationSerDes registrationSerDes;
+    private ObservationSerDes observationSerDes;
+
+    private Registration registration;
+    private Observation observation;
+    private byte[] serializedRegistration;
+    private byte[] serializedObservation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        switch (format) {
+        case "json":
+            registrationSerDes = new RegistrationSerDes(new LwM2mPeerSerDes());
+            observationSerDes = new ObservationSerDes();
+            break;
+        case "binary":
+            registrationSerDes = new BinaryRegistrationSerDes();
+            observationSerDes = new BinaryObservationSerDes();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown format " + format);
+        }
+
+        // a registration of a usual device
+        Link[] objectLinks = new Link[] { //
+                new Link("/", new ResourceTypeAttribute("oma.lwm2m"),
+                        new ContentFormatAttribute(ContentFormat.SENML_CBOR, ContentFormat.SENML_JSON)),
+                new Link("/1/0"), new Link("/3/0"), new Link("/4/0"), new Link("/5/0"), new Link("/6/0"),
+                new Link("/7/0"), new Link("/3303/0"), new Link("/3303/1") };
+        RegistrationData data = new DefaultRegistrationDataExtractor().extractDataFromObjectLinks(objectLinks,
+                LwM2mVersion.V1_1);
+        Map<String, String> applicationData = new HashMap<>();
+        applicationData.put("tenant", "benchmark");
+        EndpointUri endpointUri = new EndpointUri("coaps", "localhost", 5684);
+        registration = new Registration.Builder("2b6c9a7e-reg", "urn:imei:490154203237518",
+                new IpPeer(new InetSocketAddress(InetAddress.getByName("192.168.1.100"), 56830),
+                        new PskIdentity("urn:imei:490154203237518")),
+                endpointUri) //
+                        .lifeTimeInSec(86400L).lwM2mVersion(LwM2mVersion.V1_1).registrationDate(new Date())
+                        .lastUpdate(new Date()).objectLinks(objectLinks).rootPath(data.getAlternatePath())
+                        .supportedContentFormats(data.getSupportedContentFormats())
+                        .supportedObjects(data.getSupportedObjects()).availableInstances(data.getAvailableInstances())
+                        .applicationData(applicationData).build();
+
+        observation = new CompositeObservation(
+                new ObservationIdentifier(endpointUri, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }), registration.getId(),
+                Arrays.asList(new LwM2mPath(3303, 0, 5700), new LwM2mPath(3303, 1, 5700), new LwM2mPath(3, 0, 9)),
+                ContentFormat.SENML_CBOR, ContentFormat.SENML_CBOR, null, null);
+
+        serializedRegistration = registrationSerDes.bSerialize(registration);
+        serializedObservation = observationSerDes.serialize(observation);
+    }
+
+    @Benchmark
+    public byte[] serializeRegistration() {
+        return registrationSerDes.bSerialize(registration);
+    }
+
+    @Benchmark
+    public Registration deserializeRegistration() {
+        return registrationSerDes.deserialize(serializedRegistration);
+    }
+
+    @Benchmark
+    public byte[] serializeObservation() {
+        return observationSerDes.serialize(observation);
+    }
+
+    @Benchmark
+    public Observation deserializeObservation() {
+        return observationSerDes.deserialize(serializedObservation);
+    }
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.server;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.registration.ConcurrentInMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationStore;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares contention behavior of {@link RegistrationStore} implementations.
+ * <p>
+ * Each benchmark runs against a store pre-filled with {@link #nbRegistrations} registrations. The "storm" benchmark
+ * simulates an update storm (e.g. devices reconnecting after a network outage) where all threads update registrations
+ * and the "mixed" group simulates a usual server load where most of the operations are lookups triggered by uplink
+ * requests and notifications.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistrationStoreBenchmark {
+
+    @Param({ "InMemoryRegistrationStore", "ConcurrentInMemoryRegistrationStore" })
+    public String store;
+
+    @Param({ "100000" })
+    public int nbRegistrations;
+
+    private final Link[] objectLinks = new Link[] { new Link("/1/0"), new Link("/3/0"), new Link("/5/0") };
+    private final EndpointUri endpointUri = new EndpointUri("coap", "localhost", 5683);
+
+    private RegistrationStore registrationStore;
+    private Registration[] registrations;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        switch (store) {
+        case "InMemoryRegistrationStore":
+            registrationStore = new InMemoryRegistrationStore();
+            break;
+        case "ConcurrentInMemoryRegistrationStore":
+            registrationStore = new ConcurrentInMemoryRegistrationStore();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown store " + store);
+        }
+
+        InetAddress address = InetAddress.getLoopbackAddress();
+        registrations = new Registration[nbRegistrations];
+        for (int i = 0; i < nbRegistrations; i++) {
+            registrations[i] = newRegistration(address, i);
+            registrationStore.addRegistration(registrations[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (registrationStore instanceof InMemoryRegistrationStore) {
+            ((InMemoryRegistrationStore) registrationStore).destroy();
+        } else if (registrationStore instanceof ConcurrentInMemoryRegistrationStore) {
+            ((ConcurrentInMemoryRegistrationStore) registrationStore).destroy();
+        }
+    }
+
+    private Registration newRegistration(InetAddress address, int index) {
+        return new Registration.Builder("reg" + index, "urn:imei:" + index,
+                new IpPeer(new InetSocketAddress(address, 1024 + index % 60000)), endpointUri).lifeTimeInSec(86400L)
+                        .objectLinks(objectLinks).build();
+    }
+
+    private Registration randomRegistration() {
+        return registrations[ThreadLocalRandom.current().nextInt(nbRegistrations)];
+    }
+
+    private void update(Blackhole bh) {
+        Registration registration = randomRegistration();
+        bh.consume(registrationStore.updateRegistration(new RegistrationUpdate(registration.getId(),
+                registration.getClientTransportData(), null, null, null, null, null, null, null, null, null, null)));
+    }
+
+    /* *************** update storm **************** */
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void storm(Blackhole bh) {
+        update(bh);
+    }
+
+    /* *************** mixed load **************** */
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public void mixedLookup(Blackhole bh) {
+        Registration registration = randomRegistration();
+        bh.consume(registrationStore.getRegistrationByAdress(registration.getSocketAddress()));
+        bh.consume(registrationStore.getRegistration(registration.getId()));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void mixedUpdate(Blackhole bh) {
+        update(bh);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void mixedObserve(Blackhole bh) {
+        Registration registration = randomRegistration();
+        byte[] token = new byte[8];
+        ThreadLocalRandom.current().nextBytes(token);
+        bh.consume(
+                registrationStore.addObservation(
+                        registration.getId(), new SingleObservation(new ObservationIdentifier(endpointUri, token),
+                                registration.getId(), new LwM2mPath(3, 0, 9), ContentFormat.SENML_CBOR, null, null),
+                        false));
+    }
+}
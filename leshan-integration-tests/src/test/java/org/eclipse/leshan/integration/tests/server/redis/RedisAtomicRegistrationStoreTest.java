@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.integration.tests.server.redis;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.integration.tests.util.RedisTestUtil;
+import org.eclipse.leshan.server.redis.RedisRegistrationStore;
+import org.eclipse.leshan.server.registration.Deregistration;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.eclipse.leshan.server.registration.UpdatedRegistration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RedisAtomicRegistrationStoreTest {
+
+    private final String ep = "urn:endpoint:atomic";
+    private final int port = 23452;
+    private final EndpointUri endpointUri = uriHandler.createUri("coap://localhost:5683");
+    private final Link[] objectLinks = new Link[] { new Link("/3") };
+
+    RedisRegistrationStore store;
+    InetAddress address;
+
+    @BeforeEach
+    public void setUp() throws UnknownHostException {
+        address = InetAddress.getLocalHost();
+        store = RedisTestUtil.createAtomicRedisRegistrationStore();
+    }
+
+    @AfterEach
+    public void stop() {
+        store.removeRegistration("reg1");
+        store.removeRegistration("reg2");
+        store.destroy();
+    }
+
+    @Test
+    public void add_update_and_remove_registration() {
+        Registration registration = givenARegistration("reg1", port);
+        assertNull(store.addRegistration(registration));
+        assertEquals("reg1", store.getRegistration("reg1").getId());
+        assertEquals("reg1", store.getRegistrationByEndpoint(ep).getId());
+        assertEquals("reg1", store.getRegistrationByAdress(registration.getSocketAddress()).getId());
+        assertEquals("reg1",
+                store.getRegistrationByIdentity(registration.getClientTransportData().getIdentity()).getId());
+
+        // update address
+        IpPeer newPeer = new IpPeer(new InetSocketAddress(address, port + 1));
+        UpdatedRegistration updated = store.updateRegistration(
+                new RegistrationUpdate("reg1", newPeer, 20000L, null, null, null, null, null, null, null, null, null));
+        assertEquals(registration.getSocketAddress(), updated.getPreviousRegistration().getSocketAddress());
+        assertEquals(20000L, updated.getUpdatedRegistration().getLifeTimeInSec());
+        assertNull(store.getRegistrationByAdress(registration.getSocketAddress()));
+        assertEquals(20000L, store.getRegistrationByAdress(newPeer.getSocketAddress()).getLifeTimeInSec());
+
+        // remove
+        Deregistration deregistration = store.removeRegistration("reg1");
+        assertEquals(newPeer.getSocketAddress(), deregistration.getRegistration().getSocketAddress());
+        assertNull(store.getRegistration("reg1"));
+        assertNull(store.getRegistrationByEndpoint(ep));
+        assertNull(store.getRegistrationByAdress(newPeer.getSocketAddress()));
+        assertNull(store.removeRegistration("reg1"));
+    }
+
+    @Test
+    public void new_registration_replaces_previous_one_and_its_observations() {
+        Registration registration = givenARegistration("reg1", port);
+        store.addRegistration(registration);
+        Observation observation = givenAnObservation("reg1", (byte) 1, "/3/0/9");
+        store.addObservation("reg1", observation, false);
+
+        Registration newRegistration = givenARegistration("reg2", port + 1);
+        Deregistration deregistration = store.addRegistration(newRegistration);
+
+        assertEquals("reg1", deregistration.getRegistration().getId());
+        assertEquals(1, deregistration.getObservations().size());
+        assertNull(store.getRegistration("reg1"));
+        assertNull(store.getRegistrationByAdress(registration.getSocketAddress()));
+        assertNull(store.getObservation(observation.getId()));
+        assertEquals(newRegistration.getSocketAddress(), store.getRegistration("reg2").getSocketAddress());
+    }
+
+    @Test
+    public void add_and_remove_observations() {
+        store.addRegistration(givenARegistration("reg1", port));
+
+        Observation first = givenAnObservation("reg1", (byte) 1, "/3/0/9");
+        Observation other = givenAnObservation("reg1", (byte) 2, "/3/0/10");
+        assertTrue(store.addObservation("reg1", first, false).isEmpty());
+        assertTrue(store.addObservation("reg1", other, false).isEmpty());
+        assertEquals(2, store.getObservations("reg1").size());
+
+        // observation on same path replaces previous one
+        Observation second = givenAnObservation("reg1", (byte) 3, "/3/0/9");
+        Collection<Observation> removed = store.addObservation("reg1", second, false);
+        assertEquals(1, removed.size());
+        assertEquals(first.getId(), removed.iterator().next().getId());
+        assertNull(store.getObservation(first.getId()));
+        assertNotNull(store.getObservation("reg1", second.getId()));
+        assertEquals(2, store.getObservations("reg1").size());
+
+        // remove
+        assertEquals(second.getId(), store.removeObservation("reg1", second.getId()).getId());
+        assertNull(store.removeObservation("reg1", second.getId()));
+        assertEquals(1, store.removeObservations("reg1").size());
+        assertTrue(store.getObservations("reg1").isEmpty());
+    }
+
+    @Test
+    public void can_not_add_observation_without_registration() {
+        assertThrows(IllegalStateException.class,
+                () -> store.addObservation("reg1", givenAnObservation("reg1", (byte) 1, "/3/0/9"), false));
+    }
+
+    @Test
+    public void concurrent_updates_are_not_lost() throws Exception {
+        store.addRegistration(givenARegistration("reg1", port));
+
+        int nbUpdates = 50;
+        IpPeer peer = new IpPeer(new InetSocketAddress(address, port));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < nbUpdates; i++) {
+                final byte token = (byte) i;
+                futures.add(executor.submit(() -> {
+                    store.updateRegistration(new RegistrationUpdate("reg1", peer, null, null, null, null, null, null,
+                            null, null, null, null));
+                    store.addObservation("reg1", givenAnObservation("reg1", token, "/3/0/" + token), false);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertNotNull(store.getRegistration("reg1"));
+        assertEquals(nbUpdates, store.getObservations("reg1").size());
+    }
+
+    private Registration givenARegistration(String registrationId, int port) {
+        return new Registration.Builder(registrationId, ep, new IpPeer(new InetSocketAddress(address, port)),
+                endpointUri).lifeTimeInSec(10000L).objectLinks(objectLinks).build();
+    }
+
+    private Observation givenAnObservation(String registrationId, byte token, String path) {
+        return new SingleObservation(new ObservationIdentifier(endpointUri, new byte[] { token }), registrationId,
+                new LwM2mPath(path), ContentFormat.SENML_CBOR, null, null);
+    }
+}
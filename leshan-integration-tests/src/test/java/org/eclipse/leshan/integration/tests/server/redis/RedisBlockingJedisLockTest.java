@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.integration.tests.server.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.leshan.integration.tests.util.RedisTestUtil;
+import org.eclipse.leshan.server.redis.BlockingJedisLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.Pool;
+
+public class RedisBlockingJedisLockTest {
+
+    private final byte[] lockKey = "LESHAN_TEST_LOCK#key".getBytes(UTF_8);
+
+    Pool<Jedis> pool;
+    BlockingJedisLock lock;
+
+    @BeforeEach
+    public void setUp() {
+        pool = RedisTestUtil.createJedisPool();
+        lock = new BlockingJedisLock(500, 5000L, "LESHAN_TEST_LOCK_WAKEUP#");
+    }
+
+    @AfterEach
+    public void stop() {
+        pool.close();
+    }
+
+    @Test
+    public void acquire_and_release_lock() {
+        try (Jedis j = pool.getResource()) {
+            byte[] lockValue = lock.acquire(j, lockKey);
+            lock.release(j, lockKey, lockValue);
+            assertNull(j.get(lockKey));
+        }
+        assertEquals(1, lock.getAcquisitionCount());
+        assertEquals(0, lock.getContendedAcquisitionCount());
+    }
+
+    @Test
+    public void lock_is_exclusive() throws Exception {
+        int nbThreads = 4;
+        int nbIterations = 50;
+        AtomicInteger owners = new AtomicInteger();
+        AtomicInteger maxOwners = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < nbThreads; t++) {
+                futures.add(executor.submit(() -> {
+                    try (Jedis j = pool.getResource()) {
+                        for (int i = 0; i < nbIterations; i++) {
+                            byte[] lockValue = lock.acquire(j, lockKey);
+                            try {
+                                maxOwners.accumulateAndGet(owners.incrementAndGet(), Math::max);
+                                owners.decrementAndGet();
+                            } finally {
+                                lock.release(j, lockKey, lockValue);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, maxOwners.get());
+        assertEquals(nbThreads * nbIterations, lock.getAcquisitionCount());
+        assertEquals(0, lock.getTimeoutCount());
+    }
+
+    @Test
+    public void not_released_lock_is_acquired_after_expiration() {
+        try (Jedis j = pool.getResource()) {
+            lock.acquire(j, lockKey);
+
+            byte[] lockValue = lock.acquire(j, lockKey);
+            lock.release(j, lockKey, lockValue);
+        }
+        assertEquals(1, lock.getContendedAcquisitionCount());
+        assertTrue(lock.getMaxWaitTime() > 0);
+    }
+
+    @Test
+    public void acquire_fails_after_max_time() {
+        BlockingJedisLock shortLock = new BlockingJedisLock(5000, 100L, "LESHAN_TEST_LOCK_WAKEUP#");
+        try (Jedis j = pool.getResource()) {
+            byte[] lockValue = shortLock.acquire(j, lockKey);
+            try {
+                assertThrows(IllegalStateException.class, () -> shortLock.acquire(j, lockKey));
+            } finally {
+                shortLock.release(j, lockKey, lockValue);
+            }
+        }
+        assertEquals(1, shortLock.getTimeoutCount());
+    }
+}
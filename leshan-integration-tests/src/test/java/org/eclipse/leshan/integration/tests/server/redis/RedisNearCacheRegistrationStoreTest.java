@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.integration.tests.server.redis;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.integration.tests.util.RedisTestUtil;
+import org.eclipse.leshan.server.redis.RedisRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RedisNearCacheRegistrationStoreTest {
+
+    private final String ep = "urn:endpoint:nearcache";
+    private final String registrationId = "nearcache1";
+    private final int port = 23452;
+    private final String otherEp = "urn:endpoint:nearcache:other";
+    private final String otherRegistrationId = "nearcache2";
+    // registration used to detect that caches are enabled
+    private final String probeEp = "urn:endpoint:nearcache:probe";
+    private final String probeRegistrationId = "nearcacheprobe";
+
+    // 2 stores simulating 2 servers of a cluster
+    RedisRegistrationStore store1;
+    RedisRegistrationStore store2;
+    InetAddress address;
+
+    @BeforeEach
+    public void setUp() throws UnknownHostException, InterruptedException {
+        address = InetAddress.getLocalHost();
+        store1 = RedisTestUtil.createNearCacheRedisRegistrationStore();
+        store2 = RedisTestUtil.createNearCacheRedisRegistrationStore();
+        store1.start();
+        store2.start();
+
+        // wait for invalidation channel subscription : once subscribed, a registration read twice is served from cache
+        store1.addRegistration(givenARegistration(probeRegistrationId, probeEp,
+                new IpPeer(new InetSocketAddress(address, port + 10))));
+        assertTrue(eventually(() -> isCached(store1, probeRegistrationId)));
+        assertTrue(eventually(() -> isCached(store2, probeRegistrationId)));
+    }
+
+    @AfterEach
+    public void stop() {
+        store1.removeRegistration(registrationId);
+        store1.removeRegistration(otherRegistrationId);
+        store1.removeRegistration(probeRegistrationId);
+        store1.destroy();
+        store2.destroy();
+    }
+
+    @Test
+    public void registration_is_served_from_cache() {
+        Registration registration = givenARegistration(port);
+        store1.addRegistration(registration);
+
+        Registration cached = store2.getRegistration(registrationId);
+        assertEquals(registrationId, cached.getId());
+        assertSame(cached, store2.getRegistration(registrationId));
+        assertSame(cached, store2.getRegistrationByEndpoint(ep));
+        assertSame(cached, store2.getRegistrationByAdress(registration.getSocketAddress()));
+        assertSame(cached, store2.getRegistrationByIdentity(registration.getClientTransportData().getIdentity()));
+    }
+
+    @Test
+    public void cache_is_invalidated_by_other_instance() throws InterruptedException {
+        Registration registration = givenARegistration(port);
+        store1.addRegistration(registration);
+        assertEquals(10000L, store2.getRegistration(registrationId).getLifeTimeInSec());
+
+        // update from another instance
+        IpPeer newPeer = new IpPeer(new InetSocketAddress(address, port + 1));
+        store1.updateRegistration(new RegistrationUpdate(registrationId, newPeer, 20000L, null, null, null, null, null,
+                null, null, null, null));
+        assertTrue(eventually(() -> store2.getRegistration(registrationId).getLifeTimeInSec() == 20000L));
+        assertTrue(eventually(() -> store2.getRegistrationByAdress(registration.getSocketAddress()) == null));
+        assertEquals(registrationId, store2.getRegistrationByAdress(newPeer.getSocketAddress()).getId());
+
+        // remove from another instance
+        store1.removeRegistration(registrationId);
+        assertTrue(eventually(() -> store2.getRegistrationByEndpoint(ep) == null));
+        assertNull(store2.getRegistration(registrationId));
+    }
+
+    @Test
+    public void cached_registration_is_not_returned_for_an_address_taken_over_by_another_endpoint()
+            throws InterruptedException {
+        IpPeer peer1 = new IpPeer(new InetSocketAddress(address, port));
+        IpPeer peer2 = new IpPeer(new InetSocketAddress(address, port + 1));
+        store1.addRegistration(givenARegistration(registrationId, ep, peer1));
+        store1.addRegistration(givenARegistration(otherRegistrationId, otherEp, peer2));
+
+        // fill cache of other instance
+        assertEquals(ep, store2.getRegistrationByAdress(peer1.getSocketAddress()).getEndpoint());
+        assertEquals(otherEp, store2.getRegistrationByAdress(peer2.getSocketAddress()).getEndpoint());
+        assertEquals(ep, store2.getRegistrationByIdentity(peer1.getIdentity()).getEndpoint());
+
+        // endpoints swap their addresses
+        store1.updateRegistration(new RegistrationUpdate(registrationId, peer2, null, null, null, null, null, null,
+                null, null, null, null));
+        store1.updateRegistration(new RegistrationUpdate(otherRegistrationId, peer1, null, null, null, null, null, null,
+                null, null, null, null));
+
+        assertTrue(eventually(
+                () -> store2.getRegistration(registrationId).getSocketAddress().equals(peer2.getSocketAddress())));
+        assertEquals(otherEp, store2.getRegistrationByAdress(peer1.getSocketAddress()).getEndpoint());
+        assertEquals(ep, store2.getRegistrationByAdress(peer2.getSocketAddress()).getEndpoint());
+        assertEquals(otherEp, store2.getRegistrationByIdentity(peer1.getIdentity()).getEndpoint());
+        assertEquals(ep, store2.getRegistrationByIdentity(peer2.getIdentity()).getEndpoint());
+
+        // an endpoint takes over the address of another one without the latter being modified (e.g. NAT rebinding)
+        IpPeer peer3 = new IpPeer(new InetSocketAddress(address, port + 2));
+        store1.updateRegistration(new RegistrationUpdate(otherRegistrationId, peer3, null, null, null, null, null, null,
+                null, null, null, null));
+        assertEquals(otherEp, store2.getRegistrationByAdress(peer3.getSocketAddress()).getEndpoint());
+        store1.updateRegistration(new RegistrationUpdate(registrationId, peer3, null, null, null, null, null, null,
+                null, null, null, null));
+        assertEquals(ep, store2.getRegistrationByAdress(peer3.getSocketAddress()).getEndpoint());
+    }
+
+    private boolean isCached(RedisRegistrationStore store, String registrationId) {
+        Registration registration = store.getRegistration(registrationId);
+        return registration != null && registration == store.getRegistration(registrationId);
+    }
+
+    private boolean eventually(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get()) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private Registration givenARegistration(int port) {
+        return givenARegistration(registrationId, ep, new IpPeer(new InetSocketAddress(address, port)));
+    }
+
+    private Registration givenARegistration(String registrationId, String ep, IpPeer peer) {
+        return new Registration.Builder(registrationId, ep, peer, uriHandler.createUri("coap://localhost:5683"))
+                .lifeTimeInSec(10000L).objectLinks(new Link[] { new Link("/3") }).build();
+    }
+}
@@ -40,6 +40,7 @@ import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
 import org.eclipse.leshan.core.request.DownlinkBootstrapRequest;
 import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.servers.ServerEndpointNameProvider;
+import org.eclipse.leshan.servers.metrics.Metrics;
 import org.eclipse.leshan.servers.security.EditableSecurityStore;
 import org.eclipse.leshan.servers.security.ServerSecurityInfo;
 import org.mockito.ArgumentCaptor;
@@ -54,12 +55,12 @@ public class LeshanTestBootstrapServer extends LeshanBootstrapServer {
             BootstrapSessionManager bsSessionManager, ServerEndpointNameProvider endpointNameProvider,
             BootstrapHandlerFactory bsHandlerFactory, LwM2mEncoder encoder, LwM2mDecoder decoder,
             LwM2mLinkParser linkParser, EndPointUriHandler uriHandler, BootstrapSecurityStore securityStore,
-            ServerSecurityInfo serverSecurityInfo, //
+            ServerSecurityInfo serverSecurityInfo, Metrics metrics, //
             // arguments only needed for LeshanTestBootstrapServer
             EditableBootstrapConfigStore configStore, EditableSecurityStore editableSecurityStore) {
 
         super(endpointsProvider, bsSessionManager, endpointNameProvider, bsHandlerFactory, encoder, decoder, linkParser,
-                uriHandler, securityStore, serverSecurityInfo);
+                uriHandler, securityStore, serverSecurityInfo, metrics);
         // keep store reference for getter.
         this.configStore = configStore;
         this.securityStore = editableSecurityStore;
@@ -111,7 +111,8 @@ public class LeshanTestBootstrapServerBuilder extends LeshanBootstrapServerBuild
         }
 
         return new LeshanTestBootstrapServer(endpointsProvider, bsSessionManager, endpointNameProvider,
-                bsHandlerFactory, encoder, decoder, linkParser, uriHandler, securityStore, serverSecurityInfo, //
+                bsHandlerFactory, encoder, decoder, linkParser, uriHandler, securityStore, serverSecurityInfo,
+                getMetrics(), //
                 // arguments only needed for LeshanTestBootstrapServer
                 configStore, editableSecurityStore);
     }
@@ -55,6 +55,7 @@ import org.eclipse.leshan.core.link.LinkSerializer;
 import org.eclipse.leshan.core.link.lwm2m.attributes.LwM2mAttributeParser;
 import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
 import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
 import org.eclipse.leshan.transport.californium.client.endpoint.CaliforniumClientEndpoint;
 import org.mockito.ArgumentCaptor;
@@ -75,10 +76,11 @@ public class LeshanTestClient extends LeshanClient {
             Map<String, String> additionalAttributes, Map<String, String> bsAdditionalAttributes, LwM2mEncoder encoder,
             LwM2mDecoder decoder, ScheduledExecutorService sharedExecutor, LinkSerializer linkSerializer,
             LinkFormatHelper linkFormatHelper, LwM2mAttributeParser attributeParser, EndPointUriHandler uriHandler,
-            LwM2mClientEndpointsProvider endpointsProvider, ReverseProxy proxy) {
+            LwM2mClientEndpointsProvider endpointsProvider, TimeoutScheduler sharedTimeoutScheduler,
+            ReverseProxy proxy) {
         super(endpointNameProvider, objectEnablers, dataSenders, trustStore, engineFactory, checker,
                 additionalAttributes, bsAdditionalAttributes, encoder, decoder, sharedExecutor, linkSerializer,
-                linkFormatHelper, attributeParser, uriHandler, endpointsProvider);
+                linkFormatHelper, attributeParser, uriHandler, endpointsProvider, sharedTimeoutScheduler);
 
         // Store some internal attribute
         this.endpointName = endpointNameProvider.getEndpointName();
@@ -252,7 +252,7 @@ public class LeshanTestClientBuilder extends LeshanClientBuilder {
 
         return new LeshanTestClient(testEndpointNameProvider, objectEnablers, dataSenders, trustStore, engineFactory,
                 checker, additionalAttributes, bsAdditionalAttributes, encoder, decoder, sharedExecutor, linkSerializer,
-                linkFormatHelper, attributeParser, uriHandler, endpointsProvider, proxy);
+                linkFormatHelper, attributeParser, uriHandler, endpointsProvider, getSharedTimeoutScheduler(), proxy);
     }
 
     public static LeshanTestClientBuilder givenClientUsing(Protocol protocol) {
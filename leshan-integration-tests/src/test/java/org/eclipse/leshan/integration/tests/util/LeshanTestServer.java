@@ -46,6 +46,7 @@ import org.eclipse.leshan.core.observation.SingleObservation;
 import org.eclipse.leshan.core.response.ObserveCompositeResponse;
 import org.eclipse.leshan.core.response.ObserveResponse;
 import org.eclipse.leshan.server.LeshanServer;
+import org.eclipse.leshan.server.dispatch.ListenerDispatcher;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
 import org.eclipse.leshan.server.model.LwM2mModelProvider;
@@ -60,6 +61,7 @@ import org.eclipse.leshan.server.registration.RegistrationStore;
 import org.eclipse.leshan.server.security.Authorizer;
 import org.eclipse.leshan.server.send.SendListener;
 import org.eclipse.leshan.servers.ServerEndpointNameProvider;
+import org.eclipse.leshan.servers.metrics.Metrics;
 import org.eclipse.leshan.servers.security.EditableSecurityStore;
 import org.eclipse.leshan.servers.security.SecurityStore;
 import org.eclipse.leshan.servers.security.ServerSecurityInfo;
@@ -84,11 +86,11 @@ public class LeshanTestServer extends LeshanServer {
             RegistrationIdProvider registrationIdProvider, RegistrationDataExtractor registrationDataExtractor,
             LwM2mLinkParser linkParser, EndPointUriHandler uriHandler, ServerSecurityInfo serverSecurityInfo,
             ServerEndpointNameProvider endponNameProvider, boolean updateRegistrationOnNotification,
-            boolean updateRegistrationOnSend) {
+            boolean updateRegistrationOnSend, ListenerDispatcher listenerDispatcher, Metrics metrics) {
         super(endpointsProvider, registrationStore, securityStore, authorizer, modelProvider, encoder, decoder,
                 noQueueMode, awakeTimeProvider, registrationIdProvider, registrationDataExtractor,
                 updateRegistrationOnNotification, updateRegistrationOnSend, linkParser, uriHandler, serverSecurityInfo,
-                endponNameProvider);
+                endponNameProvider, listenerDispatcher, metrics);
 
         if (securityStore != null && !(securityStore instanceof EditableSecurityStore)) {
             throw new IllegalStateException(
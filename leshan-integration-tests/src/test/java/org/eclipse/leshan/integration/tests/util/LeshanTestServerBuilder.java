@@ -134,7 +134,7 @@ public class LeshanTestServerBuilder extends LeshanServerBuilder {
         return new LeshanTestServer(endpointsProvider, registrationStore, securityStore, authorizer, modelProvider,
                 encoder, decoder, noQueueMode, awakeTimeProvider, registrationIdProvider, registrationDataExtractor,
                 linkParser, uriHandler, serverSecurityInfo, endpointNameProvider, updateRegistrationOnNotification,
-                updateRegistrationOnSend);
+                updateRegistrationOnSend, getListenerDispatcher(), getMetrics());
     }
 
     public static LeshanTestServerBuilder givenServerUsing(Protocol protocolToUse) {
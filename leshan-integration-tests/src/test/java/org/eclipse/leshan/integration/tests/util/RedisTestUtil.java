@@ -36,4 +36,18 @@ public class RedisTestUtil {
                 .setPrefix("LESHAN_TEST_REGSTORE#") //
                 .build();
     }
+
+    public static RedisRegistrationStore createAtomicRedisRegistrationStore() {
+        return new RedisRegistrationStore.Builder(RedisTestUtil.createJedisPool()) //
+                .setPrefix("LESHAN_TEST_ATOMIC_REGSTORE#") //
+                .setAtomicMode(true) //
+                .build();
+    }
+
+    public static RedisRegistrationStore createNearCacheRedisRegistrationStore() {
+        return new RedisRegistrationStore.Builder(RedisTestUtil.createJedisPool()) //
+                .setPrefix("LESHAN_TEST_NEARCACHE_REGSTORE#") //
+                .setNearCacheSize(100) //
+                .build();
+    }
 }
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.bsserver;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.peer.LwM2mPeer;
+import org.eclipse.leshan.core.request.BootstrapRequest;
+import org.eclipse.leshan.servers.metrics.MetricNames;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.eclipse.leshan.servers.metrics.Metrics.Counter;
+import org.eclipse.leshan.servers.metrics.Metrics.Timer;
+
+/**
+ * A {@link BootstrapSessionListener} which counts bootstrap sessions by event (see
+ * {@link MetricNames#BOOTSTRAP_SESSIONS}) and records their duration (see
+ * {@link MetricNames#BOOTSTRAP_SESSION_DURATION}).
+ */
+public class BootstrapMetricsListener extends BootstrapSessionAdapter {
+
+    private final Counter initiated;
+    private final Counter unauthorized;
+    private final Counter ended;
+    private final Counter failed;
+
+    private final Timer successDuration;
+    private final Timer failureDuration;
+
+    public BootstrapMetricsListener(Metrics metrics) {
+        initiated = metrics.counter(MetricNames.BOOTSTRAP_SESSIONS, MetricNames.TAG_EVENT, "initiated");
+        unauthorized = metrics.counter(MetricNames.BOOTSTRAP_SESSIONS, MetricNames.TAG_EVENT, "unauthorized");
+        ended = metrics.counter(MetricNames.BOOTSTRAP_SESSIONS, MetricNames.TAG_EVENT, "ended");
+        failed = metrics.counter(MetricNames.BOOTSTRAP_SESSIONS, MetricNames.TAG_EVENT, "failed");
+
+        successDuration = metrics.timer(MetricNames.BOOTSTRAP_SESSION_DURATION, MetricNames.TAG_RESULT, "success");
+        failureDuration = metrics.timer(MetricNames.BOOTSTRAP_SESSION_DURATION, MetricNames.TAG_RESULT, "failure");
+    }
+
+    @Override
+    public void sessionInitiated(BootstrapRequest request, LwM2mPeer client) {
+        initiated.increment();
+    }
+
+    @Override
+    public void unAuthorized(BootstrapRequest request, LwM2mPeer client) {
+        unauthorized.increment();
+    }
+
+    @Override
+    public void end(BootstrapSession session) {
+        ended.increment();
+        recordDuration(successDuration, session);
+    }
+
+    @Override
+    public void failed(BootstrapSession session, BootstrapFailureCause cause) {
+        failed.increment();
+        recordDuration(failureDuration, session);
+    }
+
+    private void recordDuration(Timer timer, BootstrapSession session) {
+        long duration = System.currentTimeMillis() - session.getCreationTime();
+        if (duration >= 0) {
+            timer.record(duration, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -39,6 +39,10 @@ import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
 import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
 import org.eclipse.leshan.core.util.Validate;
 import org.eclipse.leshan.servers.ServerEndpointNameProvider;
+import org.eclipse.leshan.servers.metrics.InstrumentedLwM2mDecoder;
+import org.eclipse.leshan.servers.metrics.InstrumentedLwM2mEncoder;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.eclipse.leshan.servers.metrics.NoopMetrics;
 import org.eclipse.leshan.servers.security.ServerSecurityInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +59,7 @@ public class LeshanBootstrapServer {
     private final BootstrapDownlinkRequestSender requestSender;
     private final LwM2mBootstrapServerEndpointsProvider endpointsProvider;
     private final BootstrapSecurityStore securityStore;
+    private final Metrics metrics;
 
     /**
      * /** Initialize a server which will bind to the specified address and port.
@@ -73,12 +78,40 @@ public class LeshanBootstrapServer {
             BootstrapHandlerFactory bsHandlerFactory, LwM2mEncoder encoder, LwM2mDecoder decoder,
             LwM2mLinkParser linkParser, EndPointUriHandler uriHandler, BootstrapSecurityStore securityStore,
             ServerSecurityInfo serverSecurityInfo) {
+        this(endpointsProvider, bsSessionManager, endpointNameProvider, bsHandlerFactory, encoder, decoder, linkParser,
+                uriHandler, securityStore, serverSecurityInfo, NoopMetrics.INSTANCE);
+    }
+
+    /**
+     * Initialize a server which will bind to the specified address and port.
+     * <p>
+     * {@link LeshanBootstrapServerBuilder} is the priviledged way to create a {@link LeshanBootstrapServer}.
+     *
+     * @param metrics used to record bootstrap server activity, use {@link NoopMetrics} to disable instrumentation.
+     * @see #LeshanBootstrapServer(LwM2mBootstrapServerEndpointsProvider, BootstrapSessionManager,
+     *      ServerEndpointNameProvider, BootstrapHandlerFactory, LwM2mEncoder, LwM2mDecoder, LwM2mLinkParser,
+     *      EndPointUriHandler, BootstrapSecurityStore, ServerSecurityInfo)
+     */
+    public LeshanBootstrapServer(LwM2mBootstrapServerEndpointsProvider endpointsProvider,
+            BootstrapSessionManager bsSessionManager, ServerEndpointNameProvider endpointNameProvider,
+            BootstrapHandlerFactory bsHandlerFactory, LwM2mEncoder encoder, LwM2mDecoder decoder,
+            LwM2mLinkParser linkParser, EndPointUriHandler uriHandler, BootstrapSecurityStore securityStore,
+            ServerSecurityInfo serverSecurityInfo, Metrics metrics) {
 
         Validate.notNull(endpointsProvider, "endpoints provider must not be null");
         Validate.notNull(bsSessionManager, "session manager must not be null");
         Validate.notNull(bsHandlerFactory, "BootstrapHandler factory must not be null");
+        Validate.notNull(metrics, "metrics must not be null");
         this.endpointsProvider = endpointsProvider;
         this.securityStore = securityStore;
+        this.metrics = metrics;
+
+        // instrument bootstrap server components
+        if (!NoopMetrics.isNoop(metrics)) {
+            encoder = new InstrumentedLwM2mEncoder(encoder, metrics);
+            decoder = new InstrumentedLwM2mDecoder(decoder, metrics);
+            dispatcher.addListener(new BootstrapMetricsListener(metrics));
+        }
 
         // create request sender
         requestSender = createRequestSender(endpointsProvider);
@@ -178,4 +211,11 @@ public class LeshanBootstrapServer {
     public BootstrapSecurityStore getSecurityStore() {
         return securityStore;
     }
+
+    /**
+     * Get the {@link Metrics} used to record bootstrap server activity.
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
 }
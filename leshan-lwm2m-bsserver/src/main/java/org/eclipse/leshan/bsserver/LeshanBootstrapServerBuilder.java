@@ -42,6 +42,8 @@ import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
 import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
 import org.eclipse.leshan.servers.DefaultServerEndpointNameProvider;
 import org.eclipse.leshan.servers.ServerEndpointNameProvider;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.eclipse.leshan.servers.metrics.NoopMetrics;
 import org.eclipse.leshan.servers.security.SecurityChecker;
 import org.eclipse.leshan.servers.security.ServerSecurityInfo;
 import org.slf4j.Logger;
@@ -79,6 +81,7 @@ public class LeshanBootstrapServerBuilder {
     private EndPointUriHandler uriHandler;
 
     private LwM2mBootstrapServerEndpointsProvider endpointsProvider;
+    private Metrics metrics;
 
     /**
      * Set the {@link PublicKey} of the server which will be used for Raw Public Key DTLS authentication.
@@ -264,6 +267,24 @@ public class LeshanBootstrapServerBuilder {
         return this;
     }
 
+    /**
+     * Set the {@link Metrics} used to record bootstrap server activity : bootstrap sessions, their duration and
+     * encoding/decoding time.
+     * <p>
+     * By default {@link NoopMetrics} is used and bootstrap server is not instrumented at all.
+     */
+    public LeshanBootstrapServerBuilder setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * @return the {@link Metrics} to use, available to {@link #createBootstrapServer} implementations.
+     */
+    protected Metrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Set the Bootstrap authorizer {@link BootstrapAuthorizer}
      * <p>
@@ -386,6 +407,9 @@ public class LeshanBootstrapServerBuilder {
                         "authorizer is set but you also provide a custom SessionManager so this authorizer will not be used");
             }
         }
+        if (metrics == null) {
+            metrics = NoopMetrics.INSTANCE;
+        }
         return createBootstrapServer(endpointsProvider, sessionManager, endpointNameProvider, bootstrapHandlerFactory,
                 encoder, decoder, linkParser, uriHandler, securityStore,
                 new ServerSecurityInfo(privateKey, publicKey, certificateChain, trustedCertificates));
@@ -403,6 +427,7 @@ public class LeshanBootstrapServerBuilder {
      * @param encoder encode used to encode request payload.
      * @param linkParser a parser {@link LwM2mLinkParser} used to parse a CoRE Link.
      * @return the LWM2M Bootstrap server.
+     * @see #setMetrics(Metrics)
      */
     protected LeshanBootstrapServer createBootstrapServer(LwM2mBootstrapServerEndpointsProvider endpointsProvider,
             BootstrapSessionManager bsSessionManager, ServerEndpointNameProvider endpointNameProvider,
@@ -410,6 +435,6 @@ public class LeshanBootstrapServerBuilder {
             LwM2mLinkParser linkParser, EndPointUriHandler uriHandler, BootstrapSecurityStore securityStore,
             ServerSecurityInfo serverSecurityInfo) {
         return new LeshanBootstrapServer(endpointsProvider, bsSessionManager, endpointNameProvider, bsHandlerFactory,
-                encoder, decoder, linkParser, uriHandler, securityStore, serverSecurityInfo);
+                encoder, decoder, linkParser, uriHandler, securityStore, serverSecurityInfo, metrics);
     }
 }
@@ -68,6 +68,7 @@ import org.eclipse.leshan.core.response.ErrorCallback;
 import org.eclipse.leshan.core.response.ResponseCallback;
 import org.eclipse.leshan.core.response.SendResponse;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,6 +91,7 @@ public class LeshanClient implements LwM2mClient {
     private final LwM2mClientObserverDispatcher observers;
     private final DataSenderManager dataSenderManager;
     private final NotificationManager notificationManager;
+    private final TimeoutScheduler sharedTimeoutScheduler;
 
     public LeshanClient(ClientEndpointNameProvider endpointNameProvider,
             List<? extends LwM2mObjectEnabler> objectEnablers, List<DataSender> dataSenders,
@@ -98,6 +100,22 @@ public class LeshanClient implements LwM2mClient {
             LwM2mDecoder decoder, ScheduledExecutorService sharedExecutor, LinkSerializer linkSerializer,
             LinkFormatHelper linkFormatHelper, LwM2mAttributeParser attributeParser, EndPointUriHandler uriHandler,
             LwM2mClientEndpointsProvider endpointsProvider) {
+        this(endpointNameProvider, objectEnablers, dataSenders, trustStore, engineFactory, checker,
+                additionalAttributes, bsAdditionalAttributes, encoder, decoder, sharedExecutor, linkSerializer,
+                linkFormatHelper, attributeParser, uriHandler, endpointsProvider, null);
+    }
+
+    /**
+     * @param sharedTimeoutScheduler an optional timeout scheduler used for notification timers (PMIN/PMAX), if
+     *        <code>null</code> those timers are scheduled on the shared executor (or on an internal one).
+     */
+    public LeshanClient(ClientEndpointNameProvider endpointNameProvider,
+            List<? extends LwM2mObjectEnabler> objectEnablers, List<DataSender> dataSenders,
+            List<Certificate> trustStore, RegistrationEngineFactory engineFactory, BootstrapConsistencyChecker checker,
+            Map<String, String> additionalAttributes, Map<String, String> bsAdditionalAttributes, LwM2mEncoder encoder,
+            LwM2mDecoder decoder, ScheduledExecutorService sharedExecutor, LinkSerializer linkSerializer,
+            LinkFormatHelper linkFormatHelper, LwM2mAttributeParser attributeParser, EndPointUriHandler uriHandler,
+            LwM2mClientEndpointsProvider endpointsProvider, TimeoutScheduler sharedTimeoutScheduler) {
 
         // Validate.notNull(endpoint);
         Validate.notEmpty(objectEnablers);
@@ -111,6 +129,7 @@ public class LeshanClient implements LwM2mClient {
         }
 
         this.endpointsProvider = endpointsProvider;
+        this.sharedTimeoutScheduler = sharedTimeoutScheduler;
         rootEnabler = createRootEnabler(objectTree);
         observers = createClientObserverDispatcher();
         bootstrapHandler = createBoostrapHandler(objectTree, checker, linkFormatHelper);
@@ -136,7 +155,7 @@ public class LeshanClient implements LwM2mClient {
     protected NotificationManager createNotificationManager(LwM2mObjectTree objectTree,
             DownlinkRequestReceiver requestReceiver, ScheduledExecutorService sharedExecutor) {
         final NotificationManager notificationManager = new NotificationManager(objectTree, requestReceiver,
-                createNotificationStore(), createNotificationStrategy(), sharedExecutor);
+                createNotificationStore(), createNotificationStrategy(), sharedExecutor, sharedTimeoutScheduler);
         this.addObserver(new LwM2mClientObserverAdapter() {
             @Override
             public void onBootstrapStarted(LwM2mServer bsserver, BootstrapRequest request) {
@@ -249,6 +268,7 @@ public class LeshanClient implements LwM2mClient {
         engine.destroy(deregister);
         endpointsManager.destroy();
         endpointsProvider.destroy();
+        notificationManager.destroy();
         objectTree.destroy();
 
         LOG.info("Leshan client destroyed.");
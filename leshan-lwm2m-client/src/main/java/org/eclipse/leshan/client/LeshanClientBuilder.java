@@ -60,6 +60,7 @@ import org.eclipse.leshan.core.request.BindingMode;
 import org.eclipse.leshan.core.request.BootstrapRequest;
 import org.eclipse.leshan.core.request.WriteAttributesRequest;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 
 /**
  * Helper class to build and configure a Californium based Leshan Lightweight M2M client.
@@ -85,6 +86,7 @@ public class LeshanClientBuilder {
     private BootstrapConsistencyChecker bootstrapConsistencyChecker;
 
     private ScheduledExecutorService executor;
+    private TimeoutScheduler timeoutScheduler;
 
     private LwM2mClientEndpointsProvider endpointsProvider;
 
@@ -307,6 +309,28 @@ public class LeshanClientBuilder {
         return this;
     }
 
+    /**
+     * Set a shared {@link TimeoutScheduler} used for notification timers (PMIN/PMAX). This is generally used when you
+     * want to simulate a lot of clients sharing the same timer thread.
+     * <p>
+     * Timeout scheduler will not be destroyed automatically on {@link LeshanClient#destroy(boolean)}, this should be
+     * done manually.
+     *
+     * @param timeoutScheduler the timeout scheduler to share.
+     * @return the builder for fluent client creation.
+     */
+    public LeshanClientBuilder setSharedTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+        this.timeoutScheduler = timeoutScheduler;
+        return this;
+    }
+
+    /**
+     * @return the shared {@link TimeoutScheduler} to use, available to {@link #createLeshanClient} implementations.
+     */
+    protected TimeoutScheduler getSharedTimeoutScheduler() {
+        return timeoutScheduler;
+    }
+
     /**
      * By default LeshanClient doesn't support any protocol. Users need to provide 1 or several
      * {@link LwM2mClientEndpointsProvider} implementation.
@@ -400,6 +424,7 @@ public class LeshanClientBuilder {
      *        {@link WriteAttributesRequest}.
      *
      * @return the new {@link LeshanClient}
+     * @see #setSharedTimeoutScheduler(TimeoutScheduler)
      */
     protected LeshanClient createLeshanClient(ClientEndpointNameProvider endpointNameProvider,
             List<? extends LwM2mObjectEnabler> objectEnablers, List<DataSender> dataSenders,
@@ -410,6 +435,6 @@ public class LeshanClientBuilder {
             LwM2mClientEndpointsProvider endpointsProvider) {
         return new LeshanClient(endpointNameProvider, objectEnablers, dataSenders, trustStore, engineFactory, checker,
                 additionalAttributes, bsAdditionalAttributes, encoder, decoder, sharedExecutor, linkSerializer,
-                linkFormatHelper, attributeParser, uriHandler, endpointsProvider);
+                linkFormatHelper, attributeParser, uriHandler, endpointsProvider, timeoutScheduler);
     }
 }
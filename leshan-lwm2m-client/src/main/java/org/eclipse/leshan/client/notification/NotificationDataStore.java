@@ -15,11 +15,14 @@
  *******************************************************************************/
 package org.eclipse.leshan.client.notification;
 
-import java.util.Iterator;
-import java.util.NavigableMap;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.leshan.client.servers.LwM2mServer;
 import org.eclipse.leshan.core.link.lwm2m.attributes.NotificationAttributeTree;
@@ -27,87 +30,109 @@ import org.eclipse.leshan.core.node.LwM2mNode;
 import org.eclipse.leshan.core.node.LwM2mPath;
 import org.eclipse.leshan.core.request.ObserveRequest;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.Timeout;
 
 /**
  * This class store information needed to handle write attributes behavior.
  * <p>
- * It is used by {@link NotificationManager}
+ * It is used by {@link NotificationManager}. Each observe relation has its own immutable {@link NotificationData}, so
+ * the state of a relation can be updated without lock using
+ * {@link #replaceNotificationData(LwM2mServer, ObserveRequest, NotificationData, NotificationData)}.
  */
 public class NotificationDataStore {
 
-    private final NavigableMap<NotificationDataKey, NotificationData> store = new TreeMap<>();
+    private final ConcurrentNavigableMap<NotificationDataKey, NotificationData> store = new ConcurrentSkipListMap<>();
 
     public NotificationData getNotificationData(LwM2mServer server, ObserveRequest request) {
         return store.get(toKey(server, request));
     }
 
-    public synchronized NotificationData addNotificationData(LwM2mServer server, ObserveRequest request,
-            NotificationData data) {
+    public NotificationData addNotificationData(LwM2mServer server, ObserveRequest request, NotificationData data) {
         NotificationData previousData = store.put(toKey(server, request), data);
         if (previousData != null) {
             // cancel task of previous data
-            cancelTasks(previousData);
+            cancelTasks(previousData, data);
         }
         return previousData;
     }
 
-    public synchronized NotificationData updateNotificationData(LwM2mServer server, ObserveRequest request,
-            NotificationData data) {
+    public NotificationData updateNotificationData(LwM2mServer server, ObserveRequest request, NotificationData data) {
 
         NotificationData previousData = store.replace(toKey(server, request), data);
         if (previousData != null) {
             // If updated, cancel task of previous data
-            cancelTasks(previousData);
+            cancelTasks(previousData, data);
         } else {
             // If NOT updated, cancel task of given data
-            cancelTasks(data);
+            cancelTasks(data, null);
         }
         return previousData;
     }
 
-    public synchronized void removeNotificationData(LwM2mServer server, ObserveRequest request) {
+    /**
+     * Replace data of an observe relation only if it is still the expected one.
+     * <p>
+     * If data is replaced, tasks of expected data which are not reused by new data are cancelled. Else nothing is
+     * cancelled, caller is responsible of tasks of new data.
+     *
+     * @return <code>true</code> if data was replaced.
+     */
+    public boolean replaceNotificationData(LwM2mServer server, ObserveRequest request, NotificationData expected,
+            NotificationData data) {
+        if (store.replace(toKey(server, request), expected, data)) {
+            cancelTasks(expected, data);
+            return true;
+        }
+        return false;
+    }
+
+    public void removeNotificationData(LwM2mServer server, ObserveRequest request) {
         NotificationData removed = store.remove(toKey(server, request));
         if (removed != null) {
-            cancelTasks(removed);
+            cancelTasks(removed, null);
         }
     }
 
-    public synchronized void clearAllNotificationDataUnder(LwM2mPath parentPath) {
-        Iterator<NotificationDataKey> it = store.keySet().iterator();
-        while (it.hasNext()) {
-            NotificationDataKey key = it.next();
-            if (key.getPath().startWith(parentPath)) {
-                it.remove();
+    public void clearAllNotificationDataUnder(LwM2mPath parentPath) {
+        for (Entry<NotificationDataKey, NotificationData> entry : store.entrySet()) {
+            if (entry.getKey().getPath().startWith(parentPath)) {
+                remove(entry);
             }
         }
     }
 
-    public synchronized void clearAllNotificationDataFor(LwM2mServer server) {
-        SortedMap<NotificationDataKey, NotificationData> toRemove = store.subMap(floorKeyFor(server),
-                ceilKeyFor(server));
-        for (NotificationData toRemoveData : toRemove.values()) {
-            cancelTasks(toRemoveData);
+    public void clearAllNotificationDataFor(LwM2mServer server) {
+        for (Entry<NotificationDataKey, NotificationData> entry : store.subMap(floorKeyFor(server), ceilKeyFor(server))
+                .entrySet()) {
+            remove(entry);
         }
-        toRemove.clear();
     }
 
-    public synchronized void clearAllNotificationData() {
-        for (NotificationData toRemoveData : store.values()) {
-            cancelTasks(toRemoveData);
+    public void clearAllNotificationData() {
+        for (Entry<NotificationDataKey, NotificationData> entry : store.entrySet()) {
+            remove(entry);
         }
-        store.clear();
     }
 
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         return store.isEmpty();
     }
 
-    private void cancelTasks(NotificationData data) {
-        if (data.getPminFuture() != null) {
-            data.getPminFuture().cancel(false);
+    private void remove(Entry<NotificationDataKey, NotificationData> entry) {
+        if (store.remove(entry.getKey(), entry.getValue())) {
+            cancelTasks(entry.getValue(), null);
         }
-        if (data.getPmaxFuture() != null) {
-            data.getPmaxFuture().cancel(false);
+    }
+
+    private void cancelTasks(NotificationData data, NotificationData reusingData) {
+        cancel(data.getPminTimeout(), reusingData);
+        cancel(data.getPmaxTimeout(), reusingData);
+    }
+
+    private void cancel(Timeout timeout, NotificationData reusingData) {
+        if (timeout != null && (reusingData == null
+                || (timeout != reusingData.getPminTimeout() && timeout != reusingData.getPmaxTimeout()))) {
+            timeout.cancel();
         }
     }
 
@@ -169,24 +194,24 @@ public class NotificationDataStore {
         private final NotificationAttributeTree attributes;
         private final Long lastSendingTime; // time of last sent notification
         private final LwM2mNode lastSentValue; // last value sent
-        private final ScheduledFuture<Void> pminTask; // task which will send delayed notification for pmin.
-        private final ScheduledFuture<Void> pmaxTask; // task which will send delayed notification for pmax.
+        private final Timeout pminTimeout; // timeout which will send delayed notification for pmin.
+        private final Timeout pmaxTimeout; // timeout which will send delayed notification for pmax.
 
         public NotificationData(NotificationAttributeTree attributes, Long lastSendingTime, LwM2mNode lastSentValue,
-                ScheduledFuture<Void> nextNotification) {
+                Timeout nextNotification) {
             this.attributes = attributes;
             this.lastSendingTime = lastSendingTime;
             this.lastSentValue = lastSentValue;
-            this.pminTask = null;
-            this.pmaxTask = nextNotification;
+            this.pminTimeout = null;
+            this.pmaxTimeout = nextNotification;
         }
 
-        public NotificationData(NotificationData previous, ScheduledFuture<Void> pminTask) {
+        public NotificationData(NotificationData previous, Timeout pminTimeout) {
             this.attributes = previous.getAttributes();
             this.lastSendingTime = previous.getLastSendingTime();
             this.lastSentValue = previous.getLastSentValue();
-            this.pminTask = pminTask;
-            this.pmaxTask = previous.getPmaxFuture();
+            this.pminTimeout = pminTimeout;
+            this.pmaxTimeout = previous.getPmaxTimeout();
         }
 
         public NotificationAttributeTree getAttributes() {
@@ -201,12 +226,28 @@ public class NotificationDataStore {
             return lastSentValue;
         }
 
+        public Timeout getPminTimeout() {
+            return pminTimeout;
+        }
+
+        public Timeout getPmaxTimeout() {
+            return pmaxTimeout;
+        }
+
+        /**
+         * @deprecated use {@link #getPminTimeout()}, returned future is a view of the pmin timeout.
+         */
+        @Deprecated
         public ScheduledFuture<Void> getPminFuture() {
-            return pminTask;
+            return pminTimeout == null ? null : new TimeoutFuture(pminTimeout);
         }
 
+        /**
+         * @deprecated use {@link #getPmaxTimeout()}, returned future is a view of the pmax timeout.
+         */
+        @Deprecated
         public ScheduledFuture<Void> getPmaxFuture() {
-            return pmaxTask;
+            return pmaxTimeout == null ? null : new TimeoutFuture(pmaxTimeout);
         }
 
         public boolean usePmin() {
@@ -214,7 +255,7 @@ public class NotificationDataStore {
         }
 
         public boolean usePmax() {
-            return pmaxTask != null;
+            return pmaxTimeout != null;
         }
 
         public boolean hasCriteriaBasedOnValue() {
@@ -222,7 +263,82 @@ public class NotificationDataStore {
         }
 
         public boolean pminTaskScheduled() {
-            return pminTask != null;
+            return pminTimeout != null;
+        }
+    }
+
+    /**
+     * Adapts a {@link Timeout} to the {@link ScheduledFuture} API previously exposed by {@link NotificationData}. A
+     * timeout has no result, so {@link #get()} returns <code>null</code> once the timeout expired. As a timeout can not
+     * be waited for, <code>get</code> methods poll its state.
+     */
+    private static class TimeoutFuture implements ScheduledFuture<Void> {
+
+        private static final long POLL_PERIOD_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+        private final Timeout timeout;
+
+        public TimeoutFuture(Timeout timeout) {
+            this.timeout = timeout;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return timeout.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return timeout.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return timeout.isExpired() || timeout.isCancelled();
+        }
+
+        @Override
+        public Void get() throws InterruptedException {
+            while (!isDone()) {
+                TimeUnit.NANOSECONDS.sleep(nextPollDelay(Long.MAX_VALUE));
+            }
+            return result();
+        }
+
+        @Override
+        public Void get(long delay, TimeUnit unit) throws InterruptedException, TimeoutException {
+            long start = System.nanoTime();
+            long timeoutInNanos = unit.toNanos(delay);
+            while (!isDone()) {
+                long remaining = timeoutInNanos - (System.nanoTime() - start);
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.sleep(nextPollDelay(remaining));
+            }
+            return result();
+        }
+
+        private long nextPollDelay(long remainingInNanos) {
+            // sleep until deadline, then poll as the task can be executed a bit after it
+            return Math.min(Math.max(timeout.getDelay(TimeUnit.NANOSECONDS), POLL_PERIOD_IN_NANOS), remainingInNanos);
+        }
+
+        private Void result() {
+            if (timeout.isCancelled()) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return timeout.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
         }
     }
 }
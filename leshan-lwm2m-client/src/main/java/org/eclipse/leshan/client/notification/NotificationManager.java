@@ -15,10 +15,9 @@
  *******************************************************************************/
 package org.eclipse.leshan.client.notification;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.leshan.client.notification.NotificationDataStore.NotificationData;
@@ -37,12 +36,21 @@ import org.eclipse.leshan.core.node.LwM2mPath;
 import org.eclipse.leshan.core.request.ObserveRequest;
 import org.eclipse.leshan.core.response.ObserveResponse;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.ExecutorTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.Timeout;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This class is responsible to modify default observe behavior based on write attributes.
  * <p>
+ * State of each observe relation is stored in a {@link NotificationDataStore} and updated without lock, so
+ * notifications of different relations are handled in parallel. PMIN/PMAX timers are scheduled on a
+ * {@link TimeoutScheduler} which can be shared by several clients, notifications are then sent using the executor. If
+ * no {@link TimeoutScheduler} is given, timers are directly scheduled on the executor, so no additional thread is
+ * created.
+ * <p>
  * It does not support Observe-Composite.
  */
 public class NotificationManager {
@@ -54,6 +62,8 @@ public class NotificationManager {
     private final NotificationStrategy strategy;
     private final ScheduledExecutorService executor;
     private final boolean executorAttached;
+    private final TimeoutScheduler timeoutScheduler;
+    private final boolean timersOnExecutor;
 
     public NotificationManager(LwM2mObjectTree objectTree, DownlinkRequestReceiver requestReceiver) {
         this(objectTree, requestReceiver, new NotificationDataStore(), new DefaultNotificationStrategy(), null);
@@ -61,6 +71,18 @@ public class NotificationManager {
 
     public NotificationManager(LwM2mObjectTree objectTree, DownlinkRequestReceiver requestReceiver,
             NotificationDataStore store, NotificationStrategy strategy, ScheduledExecutorService executor) {
+        this(objectTree, requestReceiver, store, strategy, executor, null);
+    }
+
+    /**
+     * @param executor executor used to send notifications on PMIN/PMAX expiration, if <code>null</code> a single thread
+     *        executor is created for this manager.
+     * @param timeoutScheduler scheduler used for PMIN/PMAX timers, if <code>null</code> timers are scheduled on the
+     *        executor.
+     */
+    public NotificationManager(LwM2mObjectTree objectTree, DownlinkRequestReceiver requestReceiver,
+            NotificationDataStore store, NotificationStrategy strategy, ScheduledExecutorService executor,
+            TimeoutScheduler timeoutScheduler) {
         Validate.notNull(objectTree);
         Validate.notNull(requestReceiver);
         Validate.notNull(store);
@@ -78,6 +100,13 @@ public class NotificationManager {
             this.executor = executor;
             this.executorAttached = false;
         }
+        if (timeoutScheduler == null) {
+            this.timeoutScheduler = new ExecutorTimeoutScheduler(this.executor);
+            this.timersOnExecutor = true;
+        } else {
+            this.timeoutScheduler = timeoutScheduler;
+            this.timersOnExecutor = false;
+        }
         this.objectTree.addListener(new ObjectsListenerAdapter() {
             @Override
             public void objectRemoved(LwM2mObjectEnabler object) {
@@ -91,8 +120,8 @@ public class NotificationManager {
         });
     }
 
-    public synchronized void initRelation(LwM2mServer server, ObserveRequest request, LwM2mNode node,
-            NotificationSender sender) throws InvalidAttributesException {
+    public void initRelation(LwM2mServer server, ObserveRequest request, LwM2mNode node, NotificationSender sender)
+            throws InvalidAttributesException {
         // Get Attributes for this (server, request)
         LwM2mObjectEnabler objectEnabler = objectTree.getObjectEnabler(request.getPath().getObjectId());
         if (objectEnabler == null)
@@ -106,15 +135,14 @@ public class NotificationManager {
         if (attributes == null || attributes.isEmpty())
             return;
 
-        LOG.debug("Handle observe relation for {} / {}", server, request);
+        LOG.debug("Handle observe relation for {} / {}", server, request);
 
         // Store needed data for this observe relation.
         updateNotificationData(true, server, request, attributes, node, sender);
     }
 
-    public synchronized void notificationTriggered(LwM2mServer server, ObserveRequest request,
-            NotificationSender sender) {
-        LOG.trace("Notification triggered for observe relation of {} / {}", server, request);
+    public void notificationTriggered(LwM2mServer server, ObserveRequest request, NotificationSender sender) {
+        LOG.trace("Notification triggered for observe relation of {} / {}", server, request);
 
         // Get Notification Data for given server / request
         NotificationData notificationData = store.getNotificationData(server, request);
@@ -136,15 +164,22 @@ public class NotificationManager {
         if (notificationData.usePmax()) {
             Long pmin = strategy.getAttributeValue(attributes, request.getPath(), LwM2mAttributes.MINIMUM_PERIOD);
             Long pmax = strategy.getAttributeValue(attributes, request.getPath(), LwM2mAttributes.MAXIMUM_PERIOD);
-            if (pmax == pmin) {
+            if (pmax.equals(pmin)) {
                 // we only send notification when pmax timer is reached.
                 return;
             }
         }
 
+        // If a PMIN task is already scheduled, the notification will be sent when it expires, so there is no need to
+        // read the value now.
+        if (notificationData.pminTaskScheduled()) {
+            LOG.trace("pmin task already scheduled for observe relation of {} / {}", server, request);
+            return;
+        }
+
         // if there is criteria based on value
         if (notificationData.hasCriteriaBasedOnValue()) {
-            candidateNotificationToSend = createResponse(server, request);
+            candidateNotificationToSend = readObservedValue(server, request);
             if (candidateNotificationToSend.isSuccess()) {
                 LwM2mChildNode newValue = candidateNotificationToSend.getContent();
 
@@ -159,27 +194,32 @@ public class NotificationManager {
 
         // If PMIN is used check if we need to delay this notification.
         if (notificationData.usePmin()) {
-            LOG.trace("handle pmin for observe relation of {} / {}", server, request);
-
-            if (notificationData.pminTaskScheduled()) {
-                // nothing to do if a task is already scheduled
-                return;
-            }
+            LOG.trace("handle pmin for observe relation of {} / {}", server, request);
 
             // calculate time since last notification
             Long timeSinceLastNotification = TimeUnit.SECONDS
                     .convert(System.nanoTime() - notificationData.getLastSendingTime(), TimeUnit.NANOSECONDS);
             Long pmin = strategy.getAttributeValue(attributes, request.getPath(), LwM2mAttributes.MINIMUM_PERIOD);
+            NotificationData newData;
+            Timeout pminTask = null;
             if (timeSinceLastNotification < pmin) {
-                ScheduledFuture<Void> pminTask = executor.schedule(new Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        sendNotification(server, request, null, attributes, sender);
-                        return null;
-                    }
-                }, pmin - timeSinceLastNotification, TimeUnit.SECONDS);
                 // schedule next task for pmin but do not send notification
-                store.updateNotificationData(server, request, new NotificationData(notificationData, pminTask));
+                pminTask = scheduleNotification(server, request, attributes, sender, pmin - timeSinceLastNotification);
+                newData = new NotificationData(notificationData, pminTask);
+            } else {
+                // update sending time now, so concurrent triggers will wait for pmin
+                newData = new NotificationData(attributes, System.nanoTime(), notificationData.getLastSentValue(),
+                        notificationData.getPmaxTimeout());
+            }
+            if (!store.replaceNotificationData(server, request, notificationData, newData)) {
+                // state of this relation was modified concurrently, try again with new state
+                if (pminTask != null) {
+                    pminTask.cancel();
+                }
+                notificationTriggered(server, request, sender);
+                return;
+            }
+            if (pminTask != null) {
                 return;
             }
         }
@@ -187,22 +227,22 @@ public class NotificationManager {
         sendNotification(server, request, candidateNotificationToSend, attributes, sender);
     }
 
-    public synchronized void clear(LwM2mServer server, ObserveRequest request) {
+    public void clear(LwM2mServer server, ObserveRequest request) {
         // remove all data about observe relation for given server / request.
         store.removeNotificationData(server, request);
     }
 
-    public synchronized void clear(LwM2mServer server) {
+    public void clear(LwM2mServer server) {
         // remove all data about observe relation for given server.
         store.clearAllNotificationDataFor(server);
     }
 
-    public synchronized void clear() {
+    public void clear() {
         // remove all data about observe relation.
         store.clearAllNotificationData();
     }
 
-    protected synchronized void updateNotificationData(boolean newRelation, LwM2mServer server, ObserveRequest request,
+    protected void updateNotificationData(boolean newRelation, LwM2mServer server, ObserveRequest request,
             NotificationAttributeTree attributes, LwM2mNode newValue, NotificationSender sender) {
         // Get Request Path
         LwM2mPath path = request.getPath();
@@ -220,27 +260,56 @@ public class NotificationManager {
         }
 
         // Schedule notification for Max Period if needed
-        ScheduledFuture<Void> pmaxTask = null;
+        Timeout pmaxTask = null;
         if (strategy.hasAttribute(attributes, path, LwM2mAttributes.MAXIMUM_PERIOD)) {
-            pmaxTask = executor.schedule(new Callable<Void>() {
-                @Override
-                public Void call() throws Exception {
-                    sendNotification(server, request, null, attributes, sender);
-                    return null;
-                }
-            }, strategy.getAttributeValue(attributes, path, LwM2mAttributes.MAXIMUM_PERIOD), TimeUnit.SECONDS);
+            pmaxTask = scheduleNotification(server, request, attributes, sender,
+                    strategy.getAttributeValue(attributes, path, LwM2mAttributes.MAXIMUM_PERIOD));
         }
 
         // Create State for this observe relation
+        NotificationData newData = new NotificationData(attributes, lastSendingTime, lastValue, pmaxTask);
         if (newRelation) {
-            store.addNotificationData(server, request,
-                    new NotificationData(attributes, lastSendingTime, lastValue, pmaxTask));
-        } else {
-            store.updateNotificationData(server, request,
-                    new NotificationData(attributes, lastSendingTime, lastValue, pmaxTask));
+            store.addNotificationData(server, request, newData);
+            return;
+        }
+        while (true) {
+            NotificationData currentData = store.getNotificationData(server, request);
+            if (currentData == null) {
+                // relation was removed
+                if (pmaxTask != null) {
+                    pmaxTask.cancel();
+                }
+                return;
+            }
+            // keep PMIN task scheduled by a concurrent trigger while this notification was sent
+            Timeout pendingPminTask = currentData.getPminTimeout();
+            NotificationData data = newData;
+            if (pendingPminTask != null && !pendingPminTask.isExpired() && !pendingPminTask.isCancelled()) {
+                data = new NotificationData(newData, pendingPminTask);
+            }
+            if (store.replaceNotificationData(server, request, currentData, data)) {
+                return;
+            }
         }
     }
 
+    protected Timeout scheduleNotification(LwM2mServer server, ObserveRequest request,
+            NotificationAttributeTree attributes, NotificationSender sender, long delayInSec) {
+        if (timersOnExecutor) {
+            return timeoutScheduler.schedule(() -> sendNotification(server, request, null, attributes, sender),
+                    delayInSec, TimeUnit.SECONDS);
+        }
+        // timer thread may be shared, so notification is sent using executor
+        return timeoutScheduler.schedule(() -> {
+            try {
+                executor.execute(() -> sendNotification(server, request, null, attributes, sender));
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Unable to send notification for observe relation of {} / {} : executor is shutdown", server,
+                        request);
+            }
+        }, delayInSec, TimeUnit.SECONDS);
+    }
+
     protected void sendNotification(LwM2mServer server, ObserveRequest request, ObserveResponse observeResponse,
             NotificationAttributeTree attributes, NotificationSender sender) {
         if (observeResponse == null) {
@@ -264,7 +333,22 @@ public class NotificationManager {
         return receiver.requestReceived(server, request).getResponse();
     }
 
+    /**
+     * Read only the observed node to check criteria based on value. Those criteria only apply to a resource or a
+     * resource instance, so this is done directly on the {@link LwM2mObjectEnabler} without going through
+     * {@link DownlinkRequestReceiver}.
+     */
+    protected ObserveResponse readObservedValue(LwM2mServer server, ObserveRequest request) {
+        LwM2mObjectEnabler objectEnabler = objectTree.getObjectEnabler(request.getPath().getObjectId());
+        if (objectEnabler == null) {
+            return ObserveResponse.notFound();
+        }
+        return objectEnabler.observe(server, request);
+    }
+
     public void destroy() {
+        // cancel pending timers, executor or timeout scheduler may be shared and so still running.
+        store.clearAllNotificationData();
         if (executorAttached) {
             executor.shutdownNow();
         }
@@ -27,6 +27,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 import org.eclipse.leshan.client.LwM2mClient;
 import org.eclipse.leshan.client.resource.listener.ObjectListener;
@@ -86,15 +89,30 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
 
     private final NotificationAttributeTree assignedAttributes = new NotificationAttributeTree();
 
+    // null if concurrent reads mode is not enabled, the enabler itself is used as lock.
+    private final ReadWriteLock lock;
+
     public BaseObjectEnabler(int id, ObjectModel objectModel) {
+        this(id, objectModel, false);
+    }
+
+    /**
+     * @param concurrentReads <code>true</code> to enable the concurrent reads mode : read, observe and discover
+     *        operations are done in parallel while other operations stay exclusive (see
+     *        {@link #readOperation(Supplier)} and {@link #writeOperation(Supplier)}). In this mode
+     *        {@link LwM2mInstanceEnabler}s must support concurrent reads and must not modify the object structure
+     *        (instances) while they are read.
+     */
+    public BaseObjectEnabler(int id, ObjectModel objectModel, boolean concurrentReads) {
         this.id = id;
         this.objectModel = objectModel;
+        this.lock = concurrentReads ? new ReentrantReadWriteLock() : null;
         this.transactionalListener = createTransactionListener();
         this.transactionalListener.addListener(new ObjectsListenerAdapter() {
 
             @Override
             public void resourceChanged(LwM2mPath... paths) {
-                synchronized (BaseObjectEnabler.this) {
+                attributesHousekeeping(() -> {
                     // Assigned attributes housekeeping : if resource instance is removed we removed attached
                     // attributes.
                     for (LwM2mPath p : paths) {
@@ -119,18 +137,18 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
                             }
                         }
                     }
-                }
+                });
             }
 
             @Override
             public void objectInstancesRemoved(LwM2mObjectEnabler object, int... instanceIds) {
-                synchronized (BaseObjectEnabler.this) {
+                attributesHousekeeping(() -> {
                     // Assigned attributes housekeeping : if object instance is removed we removed attached
                     // attributes.
                     for (int instanceId : instanceIds) {
                         assignedAttributes.removeAllUnder(new LwM2mPath(getId(), instanceId));
                     }
-                }
+                });
             }
         });
     }
@@ -139,13 +157,77 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
         return new TransactionalObjectListener(this);
     }
 
+    /**
+     * @return <code>true</code> if read, observe and discover operations can be done in parallel.
+     */
+    public boolean isConcurrentReadsEnabled() {
+        return lock != null;
+    }
+
+    /**
+     * Execute an operation which does not modify this object. In concurrent reads mode, several read operations can be
+     * executed in parallel, else all operations are exclusive.
+     */
+    protected <T> T readOperation(Supplier<T> operation) {
+        if (lock == null) {
+            synchronized (this) {
+                return operation.get();
+            }
+        }
+        lock.readLock().lock();
+        try {
+            return operation.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Execute an operation which may modify this object. It is always exclusive.
+     */
+    protected <T> T writeOperation(Supplier<T> operation) {
+        if (lock == null) {
+            synchronized (this) {
+                return operation.get();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            return operation.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @see #writeOperation(Supplier)
+     */
+    protected void writeOperation(Runnable operation) {
+        writeOperation(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private void attributesHousekeeping(Runnable task) {
+        if (lock == null) {
+            synchronized (this) {
+                task.run();
+            }
+        } else {
+            // Object events can be raised by a thread which holds the read lock, taking the write lock here could lead
+            // to a deadlock. So we only rely on NotificationAttributeTree thread-safety.
+            task.run();
+        }
+    }
+
     @Override
-    public synchronized int getId() {
+    public int getId() {
         return id;
     }
 
     @Override
-    public synchronized ObjectModel getObjectModel() {
+    public ObjectModel getObjectModel() {
         return objectModel;
     }
 
@@ -177,36 +259,38 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized CreateResponse create(LwM2mServer server, CreateRequest request) {
-        try {
-            beginTransaction(LwM2mPath.OBJECT_DEPTH);
-
-            if (!server.isSystem()) {
-                if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
-                    return CreateResponse.notFound();
+    public CreateResponse create(LwM2mServer server, CreateRequest request) {
+        return writeOperation(() -> {
+            try {
+                beginTransaction(LwM2mPath.OBJECT_DEPTH);
+
+                if (!server.isSystem()) {
+                    if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
+                        return CreateResponse.notFound();
+                    }
+                } else if (server.isLwm2mBootstrapServer()) {
+                    // create is not supported for bootstrap
+                    CreateResponse.methodNotAllowed();
                 }
-            } else if (server.isLwm2mBootstrapServer()) {
-                // create is not supported for bootstrap
-                CreateResponse.methodNotAllowed();
-            }
 
-            if (request.unknownObjectInstanceId()) {
-                if (missingMandatoryResource(request.getResources())) {
-                    return CreateResponse.badRequest("mandatory writable resources missing!");
-                }
-            } else {
-                for (LwM2mObjectInstance instance : request.getObjectInstances()) {
-                    if (missingMandatoryResource(instance.getResources().values())) {
+                if (request.unknownObjectInstanceId()) {
+                    if (missingMandatoryResource(request.getResources())) {
                         return CreateResponse.badRequest("mandatory writable resources missing!");
                     }
+                } else {
+                    for (LwM2mObjectInstance instance : request.getObjectInstances()) {
+                        if (missingMandatoryResource(instance.getResources().values())) {
+                            return CreateResponse.badRequest("mandatory writable resources missing!");
+                        }
+                    }
                 }
-            }
 
-            return doCreate(server, request);
+                return doCreate(server, request);
 
-        } finally {
-            endTransaction(LwM2mPath.OBJECT_DEPTH);
-        }
+            } finally {
+                endTransaction(LwM2mPath.OBJECT_DEPTH);
+            }
+        });
     }
 
     protected CreateResponse doCreate(LwM2mServer server, CreateRequest request) {
@@ -215,36 +299,38 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized ReadResponse read(LwM2mServer server, ReadRequest request) {
-        LwM2mPath path = request.getPath();
-
-        // read is not supported for bootstrap
-        if (server.isLwm2mBootstrapServer()) {
-            return ReadResponse.methodNotAllowed();
-        }
+    public ReadResponse read(LwM2mServer server, ReadRequest request) {
+        return readOperation(() -> {
+            LwM2mPath path = request.getPath();
 
-        if (!server.isSystem()) {
-            // read the security or oscore object is forbidden
-            if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
-                return ReadResponse.notFound();
+            // read is not supported for bootstrap
+            if (server.isLwm2mBootstrapServer()) {
+                return ReadResponse.methodNotAllowed();
             }
 
-            // check if the resource is readable.
-            if (path.isResource() || path.isResourceInstance()) {
-                ResourceModel resourceModel = objectModel.resources.get(path.getResourceId());
-                if (resourceModel == null) {
+            if (!server.isSystem()) {
+                // read the security or oscore object is forbidden
+                if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
                     return ReadResponse.notFound();
-                } else if (!resourceModel.operations.isReadable()) {
-                    return ReadResponse.methodNotAllowed();
-                } else if (path.isResourceInstance() && !resourceModel.multiple) {
-                    return ReadResponse.badRequest("invalid path : resource is not multiple");
+                }
+
+                // check if the resource is readable.
+                if (path.isResource() || path.isResourceInstance()) {
+                    ResourceModel resourceModel = objectModel.resources.get(path.getResourceId());
+                    if (resourceModel == null) {
+                        return ReadResponse.notFound();
+                    } else if (!resourceModel.operations.isReadable()) {
+                        return ReadResponse.methodNotAllowed();
+                    } else if (path.isResourceInstance() && !resourceModel.multiple) {
+                        return ReadResponse.badRequest("invalid path : resource is not multiple");
+                    }
                 }
             }
-        }
 
-        return doRead(server, request);
+            return doRead(server, request);
 
-        // TODO we could do a validation of response.getContent by comparing with resourceSpec information
+            // TODO we could do a validation of response.getContent by comparing with resourceSpec information
+        });
     }
 
     protected ReadResponse doRead(LwM2mServer server, ReadRequest request) {
@@ -276,63 +362,67 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized WriteResponse write(LwM2mServer server, WriteRequest request) {
-        try {
-            beginTransaction(LwM2mPath.OBJECT_DEPTH);
-
-            LwM2mPath path = request.getPath();
+    public WriteResponse write(LwM2mServer server, WriteRequest request) {
+        return writeOperation(() -> {
+            try {
+                beginTransaction(LwM2mPath.OBJECT_DEPTH);
 
-            // write is not supported for bootstrap, use bootstrap write
-            if (server.isLwm2mBootstrapServer()) {
-                return WriteResponse.methodNotAllowed();
-            }
+                LwM2mPath path = request.getPath();
 
-            // write the security or oscore object is forbidden
-            if (!server.isSystem() && (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE)) {
-                return WriteResponse.notFound();
-            }
+                // write is not supported for bootstrap, use bootstrap write
+                if (server.isLwm2mBootstrapServer()) {
+                    return WriteResponse.methodNotAllowed();
+                }
 
-            if (path.isResource() || path.isResourceInstance()) {
-                // resource write:
-                // check if the resource is writable
-                if (id != LwM2mId.SECURITY && id != LwM2mId.OSCORE) {
-                    // security and oscore resources are writable by SYSTEM
-                    ResourceModel resourceModel = objectModel.resources.get(path.getResourceId());
-                    if (resourceModel == null) {
-                        return WriteResponse.notFound();
-                    } else if (!resourceModel.operations.isWritable()) {
-                        return WriteResponse.methodNotAllowed();
-                    } else if (path.isResourceInstance() && !resourceModel.multiple) {
-                        return WriteResponse.badRequest("invalid path : resource is not multiple");
-                    }
+                // write the security or oscore object is forbidden
+                if (!server.isSystem() && (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE)) {
+                    return WriteResponse.notFound();
                 }
-            } else if (path.isObjectInstance()) {
-                // instance write:
-                // check if all resources are writable
-                if (id != LwM2mId.SECURITY && id != LwM2mId.OSCORE) {
-                    // security and oscore resources are writable by SYSTEM
-                    ObjectModel model = getObjectModel();
-                    for (Integer writeResourceId : ((LwM2mObjectInstance) request.getNode()).getResources().keySet()) {
-                        ResourceModel resourceModel = model.resources.get(writeResourceId);
-                        if (null != resourceModel && !resourceModel.operations.isWritable()) {
+
+                if (path.isResource() || path.isResourceInstance()) {
+                    // resource write:
+                    // check if the resource is writable
+                    if (id != LwM2mId.SECURITY && id != LwM2mId.OSCORE) {
+                        // security and oscore resources are writable by SYSTEM
+                        ResourceModel resourceModel = objectModel.resources.get(path.getResourceId());
+                        if (resourceModel == null) {
+                            return WriteResponse.notFound();
+                        } else if (!resourceModel.operations.isWritable()) {
                             return WriteResponse.methodNotAllowed();
+                        } else if (path.isResourceInstance() && !resourceModel.multiple) {
+                            return WriteResponse.badRequest("invalid path : resource is not multiple");
+                        }
+                    }
+                } else if (path.isObjectInstance()) {
+                    // instance write:
+                    // check if all resources are writable
+                    if (id != LwM2mId.SECURITY && id != LwM2mId.OSCORE) {
+                        // security and oscore resources are writable by SYSTEM
+                        ObjectModel model = getObjectModel();
+                        for (Integer writeResourceId : ((LwM2mObjectInstance) request.getNode()).getResources()
+                                .keySet()) {
+                            ResourceModel resourceModel = model.resources.get(writeResourceId);
+                            if (null != resourceModel && !resourceModel.operations.isWritable()) {
+                                return WriteResponse.methodNotAllowed();
+                            }
                         }
                     }
-                }
 
-                if (request.isReplaceRequest()) {
-                    if (missingMandatoryResource(((LwM2mObjectInstance) request.getNode()).getResources().values())) {
-                        return WriteResponse.badRequest("mandatory writable resources missing!");
+                    if (request.isReplaceRequest()) {
+                        if (missingMandatoryResource(
+                                ((LwM2mObjectInstance) request.getNode()).getResources().values())) {
+                            return WriteResponse.badRequest("mandatory writable resources missing!");
+                        }
                     }
                 }
-            }
 
-            // TODO we could do a validation of request.getNode() by comparing with resourceSpec information
+                // TODO we could do a validation of request.getNode() by comparing with resourceSpec information
 
-            return doWrite(server, request);
-        } finally {
-            endTransaction(LwM2mPath.OBJECT_DEPTH);
-        }
+                return doWrite(server, request);
+            } finally {
+                endTransaction(LwM2mPath.OBJECT_DEPTH);
+            }
+        });
     }
 
     protected WriteResponse doWrite(LwM2mServer server, WriteRequest request) {
@@ -341,14 +431,16 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized BootstrapWriteResponse write(LwM2mServer server, BootstrapWriteRequest request) {
+    public BootstrapWriteResponse write(LwM2mServer server, BootstrapWriteRequest request) {
+        return writeOperation(() -> {
 
-        // We should not get a bootstrapWriteRequest from a LWM2M server
-        if (server.isLwm2mServer()) {
-            return BootstrapWriteResponse.internalServerError("bootstrap write request from LWM2M server");
-        }
+            // We should not get a bootstrapWriteRequest from a LWM2M server
+            if (server.isLwm2mServer()) {
+                return BootstrapWriteResponse.internalServerError("bootstrap write request from LWM2M server");
+            }
 
-        return doWrite(server, request);
+            return doWrite(server, request);
+        });
     }
 
     protected BootstrapWriteResponse doWrite(LwM2mServer server, BootstrapWriteRequest request) {
@@ -357,22 +449,24 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized DeleteResponse delete(LwM2mServer server, DeleteRequest request) {
-        if (!server.isSystem()) {
-            if (server.isLwm2mBootstrapServer())
-                return DeleteResponse.methodNotAllowed();
+    public DeleteResponse delete(LwM2mServer server, DeleteRequest request) {
+        return writeOperation(() -> {
+            if (!server.isSystem()) {
+                if (server.isLwm2mBootstrapServer())
+                    return DeleteResponse.methodNotAllowed();
 
-            // delete the security object is forbidden
-            if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
-                return DeleteResponse.notFound();
-            }
+                // delete the security object is forbidden
+                if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
+                    return DeleteResponse.notFound();
+                }
 
-            if (id == LwM2mId.DEVICE) {
-                return DeleteResponse.methodNotAllowed();
+                if (id == LwM2mId.DEVICE) {
+                    return DeleteResponse.methodNotAllowed();
+                }
             }
-        }
 
-        return doDelete(server, request);
+            return doDelete(server, request);
+        });
     }
 
     protected DeleteResponse doDelete(LwM2mServer server, DeleteRequest request) {
@@ -381,16 +475,18 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized BootstrapDeleteResponse delete(LwM2mServer server, BootstrapDeleteRequest request) {
-        if (!server.isSystem()) {
-            if (server.isLwm2mServer()) {
-                return BootstrapDeleteResponse.internalServerError("bootstrap delete request from LWM2M server");
-            }
-            if (id == LwM2mId.DEVICE) {
-                return BootstrapDeleteResponse.badRequest("Device object instance is not deletable");
+    public BootstrapDeleteResponse delete(LwM2mServer server, BootstrapDeleteRequest request) {
+        return writeOperation(() -> {
+            if (!server.isSystem()) {
+                if (server.isLwm2mServer()) {
+                    return BootstrapDeleteResponse.internalServerError("bootstrap delete request from LWM2M server");
+                }
+                if (id == LwM2mId.DEVICE) {
+                    return BootstrapDeleteResponse.badRequest("Device object instance is not deletable");
+                }
             }
-        }
-        return doDelete(server, request);
+            return doDelete(server, request);
+        });
     }
 
     protected BootstrapDeleteResponse doDelete(LwM2mServer server, BootstrapDeleteRequest request) {
@@ -399,33 +495,35 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized ExecuteResponse execute(LwM2mServer server, ExecuteRequest request) {
-        LwM2mPath path = request.getPath();
+    public ExecuteResponse execute(LwM2mServer server, ExecuteRequest request) {
+        return writeOperation(() -> {
+            LwM2mPath path = request.getPath();
 
-        // execute is not supported for bootstrap
-        if (server.isLwm2mBootstrapServer()) {
-            return ExecuteResponse.methodNotAllowed();
-        }
+            // execute is not supported for bootstrap
+            if (server.isLwm2mBootstrapServer()) {
+                return ExecuteResponse.methodNotAllowed();
+            }
 
-        // execute on security object is forbidden
-        if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
-            return ExecuteResponse.notFound();
-        }
+            // execute on security object is forbidden
+            if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
+                return ExecuteResponse.notFound();
+            }
 
-        // only resource could be executed
-        if (!path.isResource()) {
-            return ExecuteResponse.badRequest(null);
-        }
+            // only resource could be executed
+            if (!path.isResource()) {
+                return ExecuteResponse.badRequest(null);
+            }
 
-        // check if the resource is writable
-        ResourceModel resourceModel = objectModel.resources.get(path.getResourceId());
-        if (resourceModel == null) {
-            return ExecuteResponse.notFound();
-        } else if (!resourceModel.operations.isExecutable()) {
-            return ExecuteResponse.methodNotAllowed();
-        }
+            // check if the resource is writable
+            ResourceModel resourceModel = objectModel.resources.get(path.getResourceId());
+            if (resourceModel == null) {
+                return ExecuteResponse.notFound();
+            } else if (!resourceModel.operations.isExecutable()) {
+                return ExecuteResponse.methodNotAllowed();
+            }
 
-        return doExecute(server, request);
+            return doExecute(server, request);
+        });
     }
 
     protected ExecuteResponse doExecute(LwM2mServer server, ExecuteRequest request) {
@@ -434,48 +532,52 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized WriteAttributesResponse writeAttributes(LwM2mServer server, WriteAttributesRequest request) {
-        // execute is not supported for bootstrap
-        if (server.isLwm2mBootstrapServer()) {
-            return WriteAttributesResponse.methodNotAllowed();
-        }
+    public WriteAttributesResponse writeAttributes(LwM2mServer server, WriteAttributesRequest request) {
+        return writeOperation(() -> {
+            // execute is not supported for bootstrap
+            if (server.isLwm2mBootstrapServer()) {
+                return WriteAttributesResponse.methodNotAllowed();
+            }
 
-        // apply new attribute values
-        LwM2mAttributeSet currentAttributes = assignedAttributes.get(request.getPath());
-        LwM2mAttributeSet newValue;
-        if (currentAttributes != null) {
-            newValue = currentAttributes.apply(request.getAttributes());
-        } else {
-            newValue = request.getAttributes();
-        }
-        try {
-            newValue.validate(request.getPath(), getObjectModel());
-        } catch (InvalidAttributesException e) {
-            return WriteAttributesResponse.badRequest(e.getMessage());
-        }
+            // apply new attribute values
+            LwM2mAttributeSet currentAttributes = assignedAttributes.get(request.getPath());
+            LwM2mAttributeSet newValue;
+            if (currentAttributes != null) {
+                newValue = currentAttributes.apply(request.getAttributes());
+            } else {
+                newValue = request.getAttributes();
+            }
+            try {
+                newValue.validate(request.getPath(), getObjectModel());
+            } catch (InvalidAttributesException e) {
+                return WriteAttributesResponse.badRequest(e.getMessage());
+            }
 
-        if (newValue.isEmpty()) {
-            assignedAttributes.remove(request.getPath());
-        } else {
-            assignedAttributes.put(request.getPath(), newValue);
-        }
+            if (newValue.isEmpty()) {
+                assignedAttributes.remove(request.getPath());
+            } else {
+                assignedAttributes.put(request.getPath(), newValue);
+            }
 
-        return WriteAttributesResponse.success();
+            return WriteAttributesResponse.success();
+        });
     }
 
     @Override
-    public synchronized DiscoverResponse discover(LwM2mServer server, DiscoverRequest request) {
+    public DiscoverResponse discover(LwM2mServer server, DiscoverRequest request) {
+        return readOperation(() -> {
 
-        if (server.isLwm2mBootstrapServer()) {
-            // discover is not supported for bootstrap
-            return DiscoverResponse.methodNotAllowed();
-        }
+            if (server.isLwm2mBootstrapServer()) {
+                // discover is not supported for bootstrap
+                return DiscoverResponse.methodNotAllowed();
+            }
 
-        if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
-            return DiscoverResponse.notFound();
-        }
-        return doDiscover(server, request);
+            if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE) {
+                return DiscoverResponse.notFound();
+            }
+            return doDiscover(server, request);
 
+        });
     }
 
     protected DiscoverResponse doDiscover(LwM2mServer server, DiscoverRequest request) {
@@ -515,13 +617,15 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized BootstrapDiscoverResponse discover(LwM2mServer server, BootstrapDiscoverRequest request) {
+    public BootstrapDiscoverResponse discover(LwM2mServer server, BootstrapDiscoverRequest request) {
+        return readOperation(() -> {
 
-        if (!server.isLwm2mBootstrapServer()) {
-            return BootstrapDiscoverResponse.badRequest("not a bootstrap server");
-        }
+            if (!server.isLwm2mBootstrapServer()) {
+                return BootstrapDiscoverResponse.badRequest("not a bootstrap server");
+            }
 
-        return doDiscover(server, request);
+            return doDiscover(server, request);
+        });
     }
 
     protected BootstrapDiscoverResponse doDiscover(LwM2mServer server, BootstrapDiscoverRequest request) {
@@ -536,31 +640,33 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized ObserveResponse observe(LwM2mServer server, ObserveRequest request) {
-        LwM2mPath path = request.getPath();
+    public ObserveResponse observe(LwM2mServer server, ObserveRequest request) {
+        return readOperation(() -> {
+            LwM2mPath path = request.getPath();
 
-        // observe is not supported for bootstrap
-        if (server.isLwm2mBootstrapServer())
-            return ObserveResponse.methodNotAllowed();
+            // observe is not supported for bootstrap
+            if (server.isLwm2mBootstrapServer())
+                return ObserveResponse.methodNotAllowed();
 
-        if (!server.isSystem()) {
-            // observe or read of the security and oscore object are forbidden
-            if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE)
-                return ObserveResponse.notFound();
-
-            // check if the resource is readable.
-            if (path.isResource() || path.isResourceInstance()) {
-                ResourceModel resourceModel = objectModel.resources.get(path.getResourceId());
-                if (resourceModel == null) {
+            if (!server.isSystem()) {
+                // observe or read of the security and oscore object are forbidden
+                if (id == LwM2mId.SECURITY || id == LwM2mId.OSCORE)
                     return ObserveResponse.notFound();
-                } else if (!resourceModel.operations.isReadable()) {
-                    return ObserveResponse.methodNotAllowed();
-                } else if (path.isResourceInstance() && !resourceModel.multiple) {
-                    return ObserveResponse.badRequest("invalid path : resource is not multiple");
+
+                // check if the resource is readable.
+                if (path.isResource() || path.isResourceInstance()) {
+                    ResourceModel resourceModel = objectModel.resources.get(path.getResourceId());
+                    if (resourceModel == null) {
+                        return ObserveResponse.notFound();
+                    } else if (!resourceModel.operations.isReadable()) {
+                        return ObserveResponse.methodNotAllowed();
+                    } else if (path.isResourceInstance() && !resourceModel.multiple) {
+                        return ObserveResponse.badRequest("invalid path : resource is not multiple");
+                    }
                 }
             }
-        }
-        return doObserve(server, request);
+            return doObserve(server, request);
+        });
     }
 
     protected ObserveResponse doObserve(LwM2mServer server, ObserveRequest request) {
@@ -596,13 +702,13 @@ public abstract class BaseObjectEnabler implements LwM2mObjectEnabler {
     }
 
     @Override
-    public synchronized void beginTransaction(byte level) {
-        transactionalListener.beginTransaction(level);
+    public void beginTransaction(byte level) {
+        writeOperation(() -> transactionalListener.beginTransaction(level));
     }
 
     @Override
-    public synchronized void endTransaction(byte level) {
-        transactionalListener.endTransaction(level);
+    public void endTransaction(byte level) {
+        writeOperation(() -> transactionalListener.endTransaction(level));
     }
 
     @Override
@@ -83,7 +83,16 @@ public class ObjectEnabler extends BaseObjectEnabler implements Destroyable, Sta
 
     public ObjectEnabler(int id, ObjectModel objectModel, Map<Integer, LwM2mInstanceEnabler> instances,
             LwM2mInstanceEnablerFactory instanceFactory, ContentFormat defaultContentFormat) {
-        super(id, objectModel);
+        this(id, objectModel, instances, instanceFactory, defaultContentFormat, false);
+    }
+
+    /**
+     * @param concurrentReads <code>true</code> to enable concurrent reads mode (see
+     *        {@link BaseObjectEnabler#BaseObjectEnabler(int, ObjectModel, boolean)})
+     */
+    public ObjectEnabler(int id, ObjectModel objectModel, Map<Integer, LwM2mInstanceEnabler> instances,
+            LwM2mInstanceEnablerFactory instanceFactory, ContentFormat defaultContentFormat, boolean concurrentReads) {
+        super(id, objectModel, concurrentReads);
         this.instances = new HashMap<>(instances);
         this.instanceFactory = instanceFactory;
         this.defaultContentFormat = defaultContentFormat;
@@ -94,20 +103,24 @@ public class ObjectEnabler extends BaseObjectEnabler implements Destroyable, Sta
     }
 
     @Override
-    public synchronized List<Integer> getAvailableInstanceIds() {
-        List<Integer> ids = new ArrayList<>(instances.keySet());
-        Collections.sort(ids);
-        return ids;
+    public List<Integer> getAvailableInstanceIds() {
+        return readOperation(() -> {
+            List<Integer> ids = new ArrayList<>(instances.keySet());
+            Collections.sort(ids);
+            return ids;
+        });
     }
 
     @Override
-    public synchronized List<Integer> getAvailableResourceIds(int instanceId) {
-        LwM2mInstanceEnabler instanceEnabler = instances.get(instanceId);
-        if (instanceEnabler != null) {
-            return instanceEnabler.getAvailableResourceIds(getObjectModel());
-        } else {
-            return Collections.emptyList();
-        }
+    public List<Integer> getAvailableResourceIds(int instanceId) {
+        return readOperation(() -> {
+            LwM2mInstanceEnabler instanceEnabler = instances.get(instanceId);
+            if (instanceEnabler != null) {
+                return instanceEnabler.getAvailableResourceIds(getObjectModel());
+            } else {
+                return Collections.<Integer> emptyList();
+            }
+        });
     }
 
     @Override
@@ -117,8 +130,8 @@ public class ObjectEnabler extends BaseObjectEnabler implements Destroyable, Sta
         if (resourceModel == null || !resourceModel.multiple) {
             return Collections.emptyList();
         }
-        if (instances.containsKey(instanceId)) {
-            LwM2mInstanceEnabler instanceEnabler = instances.get(instanceId);
+        LwM2mInstanceEnabler instanceEnabler = getInstance(instanceId);
+        if (instanceEnabler != null) {
             ReadResponse response = instanceEnabler.read(LwM2mServer.SYSTEM, multipleResourceId);
             if (response.isSuccess() && response.getContent() instanceof LwM2mMultipleResource) {
                 LwM2mMultipleResource multiResource = (LwM2mMultipleResource) response.getContent();
@@ -130,22 +143,26 @@ public class ObjectEnabler extends BaseObjectEnabler implements Destroyable, Sta
         return Collections.emptyList();
     }
 
-    public synchronized void addInstance(int instanceId, LwM2mInstanceEnabler newInstance) {
-        instances.put(instanceId, newInstance);
-        listenInstance(newInstance, instanceId);
-        fireInstancesAdded(instanceId);
+    public void addInstance(int instanceId, LwM2mInstanceEnabler newInstance) {
+        writeOperation(() -> {
+            instances.put(instanceId, newInstance);
+            listenInstance(newInstance, instanceId);
+            fireInstancesAdded(instanceId);
+        });
     }
 
-    public synchronized LwM2mInstanceEnabler getInstance(int instanceId) {
-        return instances.get(instanceId);
+    public LwM2mInstanceEnabler getInstance(int instanceId) {
+        return readOperation(() -> instances.get(instanceId));
     }
 
-    public synchronized LwM2mInstanceEnabler removeInstance(int instanceId) {
-        LwM2mInstanceEnabler removedInstance = instances.remove(instanceId);
-        if (removedInstance != null) {
-            fireInstancesRemoved(removedInstance.getId());
-        }
-        return removedInstance;
+    public LwM2mInstanceEnabler removeInstance(int instanceId) {
+        return writeOperation(() -> {
+            LwM2mInstanceEnabler removedInstance = instances.remove(instanceId);
+            if (removedInstance != null) {
+                fireInstancesRemoved(removedInstance.getId());
+            }
+            return removedInstance;
+        });
     }
 
     @Override
@@ -59,6 +59,7 @@ public class ObjectsInitializer {
     protected Map<Integer, LwM2mInstanceEnabler[]> instances = new HashMap<>();
     protected Map<Integer, ContentFormat> defaultContentFormat = new HashMap<>();
     protected LwM2mModel model;
+    protected boolean concurrentReads = false;
 
     /**
      * Create an object initializer using a {@link StaticModel} containing all the default LWM2M object definition. (see
@@ -136,6 +137,20 @@ public class ObjectsInitializer {
         this.instances.put(objectId, instances);
     }
 
+    /**
+     * Enable concurrent reads mode for created {@link ObjectEnabler}s : read, observe and discover operations on a same
+     * object are done in parallel while other operations stay exclusive. This is useful when instances are slow to read
+     * or when the client is read by several servers.
+     * <p>
+     * {@link LwM2mInstanceEnabler}s must support concurrent reads and must not add or remove object instances while
+     * they are read.
+     * <p>
+     * Disabled by default.
+     */
+    public void setConcurrentReads(boolean concurrentReads) {
+        this.concurrentReads = concurrentReads;
+    }
+
     /**
      * Add dummy instance for each given <code>objectId</code>. ObjectId can be repeated to create several dummy
      * instances. A dummy instance is just a very simple instance implementation which respect the object model and
@@ -281,7 +296,7 @@ public class ObjectsInitializer {
             instances.put(instance.getId(), instance);
         }
         return new ObjectEnabler(objectModel.id, objectModel, instances, getFactoryFor(objectModel),
-                getContentFormat(objectModel.id));
+                getContentFormat(objectModel.id), concurrentReads);
     }
 
     protected ContentFormat getContentFormat(int id) {
@@ -0,0 +1,598 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.client.send;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.leshan.client.servers.LwM2mServer;
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.Startable;
+import org.eclipse.leshan.core.Stoppable;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A data sender which stores collected data in a bounded file and sends it when a flush condition is met.
+ * <p>
+ * Unlike {@link ManualDataSender}, collected data are not kept in memory : each sample is encoded and appended to a
+ * memory-mapped ring file. So data survive a client restart and memory usage does not grow during a long outage. When
+ * the file is full, oldest samples are dropped.
+ * <p>
+ * Data can be sampled periodically (see {@link Builder#setSampling(List, long, TimeUnit)}) or collected manually with
+ * {@link #collectData(List)}. Buffered data are sent :
+ * <ul>
+ * <li>when buffered data size reaches {@link Builder#setFlushSize(int)},</li>
+ * <li>when oldest buffered sample is older than {@link Builder#setMaxAge(long, TimeUnit)},</li>
+ * <li>or manually with {@link #sendCollectedData(LwM2mServer)}.</li>
+ * </ul>
+ * Data are sent in several Send requests if needed, the payload of each one is at most
+ * {@link Builder#setMaxPayloadSize(int)} bytes. Samples are removed from the file only once the server acknowledged
+ * them with a successful {@link org.eclipse.leshan.core.response.SendResponse}. On failure, data are kept and sent
+ * again on next flush.
+ * <p>
+ * When a server provider is set, flush conditions are also checked periodically once this sender is started, and a
+ * failed send is retried at the same period (see {@link Builder#setFlushPeriod(long, TimeUnit)}), so data are sent even
+ * if no more data are collected.
+ */
+public class PersistentDataSender implements DataSender, Startable, Stoppable, Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentDataSender.class);
+
+    public final static String DEFAULT_NAME = "PERSISTENT_SENDER";
+
+    // entry : timestamp in ms (long), content format (short), encoded data
+    private static final int ENTRY_HEADER_SIZE = 10;
+
+    private final String name;
+    private final RingFile ringFile;
+    private final List<LwM2mPath> sampledPaths;
+    private final long samplingPeriodInMs;
+    private final long flushSize;
+    private final long maxAgeInMs;
+    private final long flushPeriodInMs;
+    private final int maxPayloadSize;
+    private final ContentFormat format;
+    private final long timeoutInMs;
+    private final Supplier<LwM2mServer> serverProvider;
+    private final LwM2mEncoder encoder;
+    private final LwM2mDecoder decoder;
+    private final ScheduledExecutorService executor;
+    private final boolean attachedExecutor;
+
+    private DataSenderManager dataSenderManager;
+    private ScheduledFuture<?> samplingTask;
+    private ScheduledFuture<?> flushTask;
+    private boolean sending;
+    private boolean retryNeeded;
+    private boolean destroyed;
+
+    protected PersistentDataSender(Builder builder) throws IOException {
+        this.name = builder.name;
+        this.sampledPaths = builder.sampledPaths;
+        this.samplingPeriodInMs = builder.samplingPeriodInMs;
+        this.flushSize = builder.flushSize != null ? builder.flushSize : builder.capacity / 2;
+        this.maxAgeInMs = builder.maxAgeInMs;
+        this.flushPeriodInMs = builder.flushPeriodInMs;
+        this.maxPayloadSize = builder.maxPayloadSize;
+        this.format = builder.format;
+        this.timeoutInMs = builder.timeoutInMs;
+        this.serverProvider = builder.serverProvider;
+        this.encoder = builder.encoder;
+        this.decoder = builder.decoder;
+        if (builder.executor == null) {
+            this.executor = Executors
+                    .newSingleThreadScheduledExecutor(new NamedThreadFactory("PersistentDataSender#%d"));
+            this.attachedExecutor = true;
+        } else {
+            this.executor = builder.executor;
+            this.attachedExecutor = false;
+        }
+        this.ringFile = new RingFile(builder.file, builder.capacity);
+    }
+
+    /**
+     * Collect current values of given paths and store them in the file.
+     *
+     * @throws NoDataException if values could not be read.
+     */
+    public void collectData(List<LwM2mPath> paths) throws NoDataException {
+        Instant currentTimestamp = Instant.now();
+        Map<LwM2mPath, LwM2mNode> currentValues = dataSenderManager.getCurrentValues(LwM2mServer.SYSTEM, paths);
+
+        TimestampedLwM2mNodes.Builder builder = new TimestampedLwM2mNodes.Builder();
+        for (Entry<LwM2mPath, LwM2mNode> value : currentValues.entrySet()) {
+            // path without value are not stored
+            if (value.getValue() != null) {
+                builder.put(currentTimestamp, value.getKey(), value.getValue());
+            }
+        }
+        TimestampedLwM2mNodes nodes = builder.build();
+        if (nodes.isEmpty()) {
+            return;
+        }
+        byte[] encoded = encoder.encodeTimestampedNodes(nodes, format, null, dataSenderManager.getModel());
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER_SIZE + encoded.length);
+        entry.putLong(currentTimestamp.toEpochMilli()).putShort((short) format.getCode()).put(encoded);
+
+        synchronized (this) {
+            if (destroyed) {
+                return;
+            }
+            int dropped = ringFile.append(entry.array());
+            if (dropped > 0) {
+                LOG.warn("Data sender {} is full : {} oldest samples dropped", name, dropped);
+            }
+        }
+        flushIfNeeded();
+    }
+
+    /**
+     * Send all buffered data to the given server, in several Send requests if needed. This method returns immediately,
+     * data are removed from the file as soon as they are acknowledged by the server.
+     *
+     * @throws NoDataException if there is no buffered data.
+     */
+    public void sendCollectedData(LwM2mServer server) throws NoDataException {
+        synchronized (this) {
+            if (ringFile.isEmpty()) {
+                throw new NoDataException("Unable to send data to %s : no data collected", server);
+            }
+        }
+        sendNextChunk(server);
+    }
+
+    /**
+     * @return the number of bytes used by buffered data in the file.
+     */
+    public synchronized long getBufferedBytes() {
+        return ringFile.usedBytes();
+    }
+
+    @Override
+    public void setDataSenderManager(DataSenderManager dataSenderManager) {
+        this.dataSenderManager = dataSenderManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (samplingTask == null && !destroyed && !sampledPaths.isEmpty()) {
+            samplingTask = executor.scheduleAtFixedRate(this::sample, samplingPeriodInMs, samplingPeriodInMs,
+                    TimeUnit.MILLISECONDS);
+        }
+        if (flushTask == null && !destroyed && serverProvider != null) {
+            flushTask = executor.scheduleWithFixedDelay(this::periodicFlush, flushPeriodInMs, flushPeriodInMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (samplingTask != null) {
+            samplingTask.cancel(false);
+            samplingTask = null;
+        }
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        if (!destroyed) {
+            ringFile.force();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            stop();
+            destroyed = true;
+            try {
+                ringFile.close();
+            } catch (IOException e) {
+                LOG.warn("Unable to close file of data sender {}", name, e);
+            }
+        }
+        if (attachedExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    protected void sample() {
+        try {
+            collectData(sampledPaths);
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to collect data for data sender {}", name, e);
+        }
+    }
+
+    protected void periodicFlush() {
+        try {
+            flush(true);
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to flush data sender {}", name, e);
+        }
+    }
+
+    protected void flushIfNeeded() {
+        flush(false);
+    }
+
+    /**
+     * Send buffered data to the server given by the server provider if a flush condition is met.
+     *
+     * @param retry <code>true</code> if data must also be sent when previous send failed.
+     */
+    private void flush(boolean retry) {
+        boolean flushNeeded;
+        synchronized (this) {
+            if (sending || ringFile.isEmpty()) {
+                return;
+            }
+            flushNeeded = (retry && retryNeeded) || ringFile.usedBytes() >= flushSize;
+            if (!flushNeeded && maxAgeInMs > 0) {
+                long oldestTimestamp = ByteBuffer.wrap(ringFile.peek()).getLong();
+                flushNeeded = System.currentTimeMillis() - oldestTimestamp >= maxAgeInMs;
+            }
+        }
+        if (flushNeeded) {
+            LwM2mServer server = serverProvider != null ? serverProvider.get() : null;
+            if (server == null) {
+                LOG.debug("Unable to flush data sender {} : no server available", name);
+                return;
+            }
+            sendNextChunk(server);
+        }
+    }
+
+    protected void sendNextChunk(LwM2mServer server) {
+        Chunk chunk;
+        synchronized (this) {
+            if (sending || destroyed) {
+                return;
+            }
+            chunk = nextChunk();
+            if (chunk == null) {
+                return;
+            }
+            sending = true;
+        }
+
+        try {
+            dataSenderManager.sendData(server, format, chunk.nodes, response -> {
+                if (response.isSuccess()) {
+                    onChunkSent(server, chunk.end);
+                } else {
+                    LOG.debug("Unable to send data of data sender {} to {} : {}", name, server, response);
+                    onChunkFailed();
+                }
+            }, error -> {
+                LOG.debug("Unable to send data of data sender {} to {}", name, server, error);
+                onChunkFailed();
+            }, timeoutInMs);
+        } catch (RuntimeException e) {
+            // data are kept, they will be sent on next flush or retry
+            LOG.warn("Unable to send data of data sender {} to {}", name, server, e);
+            onChunkFailed();
+        }
+    }
+
+    /**
+     * Build the next chunk to send from oldest buffered samples. Samples are merged as long as the encoded payload fits
+     * in max payload size. Samples which can not be decoded or which are too large to be sent alone are dropped.
+     * <p>
+     * Must be called holding the lock.
+     *
+     * @return the next chunk or <code>null</code> if there is nothing to send.
+     */
+    private Chunk nextChunk() {
+        while (!ringFile.isEmpty()) {
+            // stored size is only an estimation of encoded size, so we start with it then back off if needed
+            List<RingFile.Entry> entries = ringFile.read(0, maxPayloadSize);
+            List<TimestampedLwM2mNodes> samples = new ArrayList<>(entries.size());
+            List<Long> ends = new ArrayList<>(entries.size());
+            for (RingFile.Entry entry : entries) {
+                try {
+                    samples.add(decode(entry.getData()));
+                    ends.add(entry.getNextOffset());
+                } catch (CodecException e) {
+                    LOG.warn("Unable to decode data stored by data sender {}, this sample is dropped", name, e);
+                }
+            }
+            if (samples.isEmpty()) {
+                // nothing valid to send
+                ringFile.truncate(entries.get(entries.size() - 1).getNextOffset());
+                continue;
+            }
+
+            int count = samples.size();
+            while (true) {
+                TimestampedLwM2mNodes.Builder builder = new TimestampedLwM2mNodes.Builder();
+                for (int i = 0; i < count; i++) {
+                    builder.add(samples.get(i));
+                }
+                TimestampedLwM2mNodes nodes = builder.build();
+                int size = encoder.encodeTimestampedNodes(nodes, format, null, dataSenderManager.getModel()).length;
+                if (size <= maxPayloadSize) {
+                    return new Chunk(nodes, ends.get(count - 1));
+                }
+                if (count == 1) {
+                    LOG.warn("Sample of data sender {} is dropped : its size ({} bytes) exceeds max payload size ({})",
+                            name, size, maxPayloadSize);
+                    ringFile.truncate(ends.get(0));
+                    break;
+                }
+                // remove samples in proportion of the overflow, at least one
+                count = Math.max(1, Math.min(count - 1, (int) ((long) count * maxPayloadSize / size)));
+            }
+        }
+        return null;
+    }
+
+    private void onChunkSent(LwM2mServer server, long chunkEnd) {
+        boolean remainingData;
+        synchronized (this) {
+            sending = false;
+            retryNeeded = false;
+            if (destroyed) {
+                return;
+            }
+            ringFile.truncate(chunkEnd);
+            ringFile.force();
+            remainingData = !ringFile.isEmpty();
+        }
+        if (remainingData) {
+            // send next chunk from executor to not block response thread
+            try {
+                executor.execute(() -> sendNextChunk(server));
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Unable to send next data of data sender {} : executor is shutdown", name);
+            }
+        }
+    }
+
+    private synchronized void onChunkFailed() {
+        sending = false;
+        retryNeeded = true;
+    }
+
+    private static class Chunk {
+        private final TimestampedLwM2mNodes nodes;
+        private final long end; // offset of first entry after this chunk
+
+        public Chunk(TimestampedLwM2mNodes nodes, long end) {
+            this.nodes = nodes;
+            this.end = end;
+        }
+    }
+
+    private TimestampedLwM2mNodes decode(byte[] entry) throws CodecException {
+        ByteBuffer buffer = ByteBuffer.wrap(entry);
+        buffer.getLong(); // timestamp is also in encoded data
+        ContentFormat entryFormat = ContentFormat.fromCode(buffer.getShort() & 0xFFFF);
+        byte[] encoded = new byte[buffer.remaining()];
+        buffer.get(encoded);
+        // paths are not given so all nodes are decoded as resources or resource instances, this is enough to send them
+        return decoder.decodeTimestampedNodes(encoded, entryFormat, null, null, dataSenderManager.getModel());
+    }
+
+    /* *************** Builder **************** */
+
+    public static class Builder {
+
+        private final Path file;
+        private String name = DEFAULT_NAME;
+        private int capacity = 1024 * 1024;
+        private Integer flushSize;
+        private List<LwM2mPath> sampledPaths = Collections.emptyList();
+        private long samplingPeriodInMs;
+        private long maxAgeInMs;
+        private long flushPeriodInMs = TimeUnit.SECONDS.toMillis(30);
+        private int maxPayloadSize = 1024;
+        private ContentFormat format = ContentFormat.SENML_CBOR;
+        private long timeoutInMs = TimeUnit.MINUTES.toMillis(1);
+        private Supplier<LwM2mServer> serverProvider;
+        private LwM2mEncoder encoder = new DefaultLwM2mEncoder();
+        private LwM2mDecoder decoder = new DefaultLwM2mDecoder();
+        private ScheduledExecutorService executor;
+
+        /**
+         * @param file the file where collected data are stored. It is created if it doesn't exist, else data it
+         *        contains are sent.
+         */
+        public Builder(Path file) {
+            Validate.notNull(file);
+            this.file = file;
+        }
+
+        public Builder setName(String name) {
+            Validate.notEmpty(name);
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Set the size of the file in bytes. When it is full, oldest data are dropped. Changing the capacity of an
+         * existing file resets it.
+         * <p>
+         * Default value is {@literal 1} MiB.
+         */
+        public Builder setCapacity(int capacity) {
+            Validate.isTrue(capacity >= 1024, "capacity must be at least 1024 bytes");
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Set the number of buffered bytes which triggers a flush.
+         * <p>
+         * Default value is half of the capacity.
+         */
+        public Builder setFlushSize(int flushSize) {
+            Validate.isTrue(flushSize > 0, "flush size must be positive");
+            this.flushSize = flushSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum age of oldest buffered sample before a flush is triggered. Age is checked each time data are
+         * collected and at each flush period.
+         * <p>
+         * By default, there is no age based flush.
+         */
+        public Builder setMaxAge(long maxAge, TimeUnit unit) {
+            Validate.notNull(unit);
+            Validate.isTrue(maxAge >= 0, "max age must be positive");
+            this.maxAgeInMs = unit.toMillis(maxAge);
+            return this;
+        }
+
+        /**
+         * Set the period at which flush conditions are checked and a failed send is retried. This is only used when a
+         * server provider is set and this sender is started.
+         * <p>
+         * Default value is {@literal 30} seconds.
+         */
+        public Builder setFlushPeriod(long period, TimeUnit unit) {
+            Validate.notNull(unit);
+            Validate.isTrue(unit.toMillis(period) > 0, "flush period must be at least 1 millisecond");
+            this.flushPeriodInMs = unit.toMillis(period);
+            return this;
+        }
+
+        /**
+         * Set paths sampled periodically once this sender is started.
+         * <p>
+         * By default, there is no periodic sampling, data are only collected by
+         * {@link PersistentDataSender#collectData(List)}.
+         */
+        public Builder setSampling(List<LwM2mPath> paths, long period, TimeUnit unit) {
+            Validate.notEmpty(paths);
+            Validate.notNull(unit);
+            Validate.isTrue(unit.toMillis(period) > 0, "sampling period must be at least 1 millisecond");
+            this.sampledPaths = new ArrayList<>(paths);
+            this.samplingPeriodInMs = unit.toMillis(period);
+            return this;
+        }
+
+        /**
+         * Set the maximum size of the payload of one Send request. Buffered samples are merged in one request as long
+         * as encoded payload fits in this size. A sample which is larger than this size alone can not be sent, it is
+         * dropped.
+         * <p>
+         * Default value is {@literal 1024} bytes.
+         */
+        public Builder setMaxPayloadSize(int maxPayloadSize) {
+            Validate.isTrue(maxPayloadSize > 0, "max payload size must be positive");
+            this.maxPayloadSize = maxPayloadSize;
+            return this;
+        }
+
+        /**
+         * Set the content format used to store and send data, it must be {@link ContentFormat#SENML_CBOR} or
+         * {@link ContentFormat#SENML_JSON}.
+         * <p>
+         * Default value is {@link ContentFormat#SENML_CBOR}.
+         */
+        public Builder setContentFormat(ContentFormat format) {
+            Validate.isTrue(ContentFormat.SENML_CBOR.equals(format) || ContentFormat.SENML_JSON.equals(format),
+                    "format must be SENML_CBOR or SENML_JSON");
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * Set the timeout of Send requests.
+         * <p>
+         * Default value is {@literal 1} minute.
+         */
+        public Builder setSendTimeout(long timeout, TimeUnit unit) {
+            Validate.notNull(unit);
+            this.timeoutInMs = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Set the provider of the server to which data are sent on automatic flush. It can return <code>null</code> if
+         * no server is available (e.g. client is not registered), then data are kept.
+         * <p>
+         * By default, there is no automatic flush, data are only sent by
+         * {@link PersistentDataSender#sendCollectedData(LwM2mServer)}.
+         */
+        public Builder setServerProvider(Supplier<LwM2mServer> serverProvider) {
+            this.serverProvider = serverProvider;
+            return this;
+        }
+
+        public Builder setEncoder(LwM2mEncoder encoder) {
+            Validate.notNull(encoder);
+            this.encoder = encoder;
+            return this;
+        }
+
+        public Builder setDecoder(LwM2mDecoder decoder) {
+            Validate.notNull(decoder);
+            this.decoder = decoder;
+            return this;
+        }
+
+        /**
+         * Set the executor used for periodic sampling and flush. If not set, a single thread executor is created and
+         * shutdown on {@link PersistentDataSender#destroy()}.
+         */
+        public Builder setExecutor(ScheduledExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Create the data sender, opening or creating its file.
+         *
+         * @throws IOException if the file can not be opened.
+         */
+        public PersistentDataSender build() throws IOException {
+            return new PersistentDataSender(this);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.client.send;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded FIFO of byte entries stored in a memory-mapped file, used by {@link PersistentDataSender}.
+ * <p>
+ * Entries are appended at the tail of a ring and removed from its head. Head and tail are logical offsets which only
+ * grow, the physical position in the file is the offset modulo the capacity. When there is not enough free space to
+ * append an entry, oldest entries are dropped.
+ * <p>
+ * Each entry is prefixed by its length and a CRC32 of its content. An entry is written before the tail is moved in the
+ * header, so after a crash the file is recovered from head to the last valid entry. When oldest entries are dropped,
+ * the new head is forced to the storage device before their bytes are overwritten, so head never points to overwritten
+ * bytes.
+ * <p>
+ * This class is not thread-safe.
+ */
+class RingFile implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RingFile.class);
+
+    private static final int MAGIC = 0x4C524246; // "LRBF"
+    private static final int VERSION = 1;
+
+    // header : magic (int), version (int), capacity (long), head (long), tail (long)
+    private static final int HEADER_SIZE = 32;
+    private static final int CAPACITY_POS = 8;
+    private static final int HEAD_POS = 16;
+    private static final int TAIL_POS = 24;
+
+    // entry header : length (int), crc32 (int)
+    static final int ENTRY_HEADER_SIZE = 8;
+
+    private final FileChannel channel;
+    // header and entries are mapped separately, so header can be forced alone
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private long head;
+    private long tail;
+
+    public static class Entry {
+        private final long nextOffset;
+        private final byte[] data;
+
+        Entry(long nextOffset, byte[] data) {
+            this.nextOffset = nextOffset;
+            this.data = data;
+        }
+
+        /**
+         * @return the offset of the entry following this one, this is the offset to truncate to once this entry is
+         *         consumed.
+         */
+        public long getNextOffset() {
+            return nextOffset;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+    }
+
+    /**
+     * Open the ring file, creating it if needed. If the file exists with the same capacity, its valid entries are kept,
+     * else it is reset.
+     *
+     * @param file the file to map.
+     * @param capacity the maximum number of bytes used by entries (including entry headers).
+     */
+    public RingFile(Path file, int capacity) throws IOException {
+        this.capacity = capacity;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            boolean existing = channel.size() == HEADER_SIZE + (long) capacity;
+            this.header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+            this.buffer = channel.map(MapMode.READ_WRITE, HEADER_SIZE, capacity);
+            if (!existing || !recover()) {
+                if (existing) {
+                    LOG.warn("Unable to recover ring file {}, it is reset", file);
+                }
+                reset();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Append an entry, dropping oldest entries if needed.
+     *
+     * @return the number of dropped entries.
+     * @throws IllegalArgumentException if the entry could not fit in this ring file even if empty.
+     */
+    public int append(byte[] data) {
+        long size = ENTRY_HEADER_SIZE + (long) data.length;
+        if (size > capacity) {
+            throw new IllegalArgumentException(
+                    String.format("Entry of %d bytes can not fit in a ring file of %d bytes", size, capacity));
+        }
+
+        // make room if needed
+        int dropped = 0;
+        while (capacity - usedBytes() < size) {
+            head += ENTRY_HEADER_SIZE + readInt(head);
+            dropped++;
+        }
+        if (dropped > 0) {
+            // dropped entries are overwritten below, if head was still pointing to them after a crash, all entries
+            // would be lost on recovery
+            header.putLong(HEAD_POS, head);
+            header.force();
+        }
+
+        // write entry then commit it by moving the tail
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        ByteBuffer entryHeader = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+        entryHeader.putInt(data.length).putInt((int) crc.getValue());
+        write(tail, entryHeader.array());
+        write(tail + ENTRY_HEADER_SIZE, data);
+        tail += size;
+        header.putLong(TAIL_POS, tail);
+        return dropped;
+    }
+
+    /**
+     * Read entries from the given offset without removing them.
+     *
+     * @param offset the offset of first entry to read, an offset before head means from head.
+     * @param maxBytes the maximum cumulated size of entries data to read, at least one entry is read.
+     */
+    public List<Entry> read(long offset, int maxBytes) {
+        List<Entry> entries = new ArrayList<>();
+        long position = Math.max(offset, head);
+        long readBytes = 0;
+        while (position < tail) {
+            int length = readInt(position);
+            if (!entries.isEmpty() && readBytes + length > maxBytes) {
+                break;
+            }
+            byte[] data = new byte[length];
+            read(position + ENTRY_HEADER_SIZE, data);
+            position += ENTRY_HEADER_SIZE + length;
+            readBytes += length;
+            entries.add(new Entry(position, data));
+        }
+        return entries;
+    }
+
+    /**
+     * @return the data of the oldest entry or <code>null</code> if this ring file is empty.
+     */
+    public byte[] peek() {
+        List<Entry> entries = read(head, 0);
+        return entries.isEmpty() ? null : entries.get(0).getData();
+    }
+
+    /**
+     * Remove all entries before the given offset. An offset before head is ignored, this happens when entries were
+     * dropped meanwhile.
+     */
+    public void truncate(long offset) {
+        if (offset > head && offset <= tail) {
+            head = offset;
+            header.putLong(HEAD_POS, head);
+        }
+    }
+
+    public long usedBytes() {
+        return tail - head;
+    }
+
+    public boolean isEmpty() {
+        return tail == head;
+    }
+
+    /**
+     * Force modifications to be written to the storage device.
+     */
+    public void force() {
+        buffer.force();
+        header.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private boolean recover() {
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getLong(CAPACITY_POS) != capacity) {
+            return false;
+        }
+        head = header.getLong(HEAD_POS);
+        tail = header.getLong(TAIL_POS);
+        if (head < 0 || tail < head || tail - head > capacity) {
+            return false;
+        }
+
+        // check entries and ignore the ones after the first invalid entry
+        long position = head;
+        CRC32 crc = new CRC32();
+        while (position < tail) {
+            int length = readInt(position);
+            if (length < 0 || position + ENTRY_HEADER_SIZE + length > tail) {
+                break;
+            }
+            byte[] data = new byte[length];
+            read(position + ENTRY_HEADER_SIZE, data);
+            crc.reset();
+            crc.update(data, 0, data.length);
+            if (readInt(position + 4) != (int) crc.getValue()) {
+                break;
+            }
+            position += ENTRY_HEADER_SIZE + length;
+        }
+        if (position != tail) {
+            LOG.warn("Invalid entry found in ring file, {} bytes are ignored", tail - position);
+            tail = position;
+            header.putLong(TAIL_POS, tail);
+        }
+        return true;
+    }
+
+    private void reset() {
+        head = 0;
+        tail = 0;
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putLong(CAPACITY_POS, capacity);
+        header.putLong(HEAD_POS, head);
+        header.putLong(TAIL_POS, tail);
+    }
+
+    private int readInt(long offset) {
+        // entry header may wrap around, so it is read as bytes
+        byte[] bytes = new byte[4];
+        read(offset, bytes);
+        return ByteBuffer.wrap(bytes).getInt();
+    }
+
+    // package-private to simulate crashes in tests
+    void write(long offset, byte[] data) {
+        ByteBuffer b = buffer.duplicate();
+        int start = (int) (offset % capacity);
+        int firstPart = Math.min(data.length, capacity - start);
+        ((Buffer) b).position(start);
+        b.put(data, 0, firstPart);
+        if (firstPart < data.length) {
+            // wrap around
+            ((Buffer) b).position(0);
+            b.put(data, firstPart, data.length - firstPart);
+        }
+    }
+
+    private void read(long offset, byte[] data) {
+        ByteBuffer b = buffer.duplicate();
+        int start = (int) (offset % capacity);
+        int firstPart = Math.min(data.length, capacity - start);
+        ((Buffer) b).position(start);
+        b.get(data, 0, firstPart);
+        if (firstPart < data.length) {
+            // wrap around
+            ((Buffer) b).position(0);
+            b.get(data, firstPart, data.length - firstPart);
+        }
+    }
+}
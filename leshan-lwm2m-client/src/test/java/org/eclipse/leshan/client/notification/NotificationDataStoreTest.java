@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.client.notification;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.leshan.client.notification.NotificationDataStore.NotificationData;
+import org.eclipse.leshan.client.servers.LwM2mServer;
+import org.eclipse.leshan.core.link.lwm2m.attributes.NotificationAttributeTree;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ObserveRequest;
+import org.eclipse.leshan.core.util.timeout.HashedWheelTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NotificationDataStoreTest {
+
+    private final LwM2mServer server = new LwM2mServer(new IpPeer(new InetSocketAddress("localhost", 5683)), 1l,
+            URI.create("coap://localhost:5683"));
+    private final ObserveRequest request = new ObserveRequest(3, 0, 9);
+
+    private NotificationDataStore store;
+    private HashedWheelTimeoutScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        store = new NotificationDataStore();
+        scheduler = new HashedWheelTimeoutScheduler.Builder().build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    public void replace_keeps_reused_timeout_and_cancels_others() {
+        Timeout pmax = newTimeout();
+        NotificationData data = new NotificationData(new NotificationAttributeTree(), null, null, pmax);
+        store.addNotificationData(server, request, data);
+
+        // add a pmin timeout, pmax timeout is reused
+        Timeout pmin = newTimeout();
+        NotificationData withPmin = new NotificationData(data, pmin);
+        assertTrue(store.replaceNotificationData(server, request, data, withPmin));
+        assertSame(withPmin, store.getNotificationData(server, request));
+        assertFalse(pmax.isCancelled());
+
+        // replace all timeouts
+        NotificationData newData = new NotificationData(new NotificationAttributeTree(), null, null, newTimeout());
+        assertTrue(store.replaceNotificationData(server, request, withPmin, newData));
+        assertTrue(pmax.isCancelled());
+        assertTrue(pmin.isCancelled());
+    }
+
+    @Test
+    public void replace_fails_if_data_was_modified_concurrently() {
+        Timeout pmax = newTimeout();
+        NotificationData data = new NotificationData(new NotificationAttributeTree(), null, null, pmax);
+        store.addNotificationData(server, request, data);
+        NotificationData outdatedData = new NotificationData(new NotificationAttributeTree(), null, null, null);
+
+        Timeout pmin = newTimeout();
+        assertFalse(store.replaceNotificationData(server, request, outdatedData, new NotificationData(data, pmin)));
+        assertSame(data, store.getNotificationData(server, request));
+        // caller is responsible of timeout of rejected data
+        assertFalse(pmin.isCancelled());
+        assertFalse(pmax.isCancelled());
+    }
+
+    @Test
+    public void clear_cancels_timeouts() {
+        Timeout pmax = newTimeout();
+        store.addNotificationData(server, request,
+                new NotificationData(new NotificationAttributeTree(), null, null, pmax));
+
+        store.clearAllNotificationDataUnder(new LwM2mPath(3));
+
+        assertNull(store.getNotificationData(server, request));
+        assertTrue(store.isEmpty());
+        assertTrue(pmax.isCancelled());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecated_future_getters_delegate_to_timeouts() {
+        Timeout pmax = newTimeout();
+        NotificationData data = new NotificationData(new NotificationAttributeTree(), null, null, pmax);
+        assertNull(data.getPminFuture());
+
+        ScheduledFuture<Void> pmaxFuture = data.getPmaxFuture();
+        assertFalse(pmaxFuture.isDone());
+        long delay = pmaxFuture.getDelay(TimeUnit.MINUTES);
+        assertTrue(delay > 55 && delay <= 60);
+        assertThrows(TimeoutException.class, () -> pmaxFuture.get(20, TimeUnit.MILLISECONDS));
+
+        assertTrue(pmaxFuture.cancel(false));
+        assertTrue(pmax.isCancelled());
+        assertTrue(pmaxFuture.isCancelled());
+        assertTrue(pmaxFuture.isDone());
+        assertThrows(CancellationException.class, () -> pmaxFuture.get());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecated_future_get_returns_once_timeout_expired() throws Exception {
+        NotificationData data = new NotificationData(new NotificationAttributeTree(), null, null,
+                scheduler.schedule(() -> {
+                }, 50, TimeUnit.MILLISECONDS));
+        ScheduledFuture<Void> shortFuture = data.getPmaxFuture();
+        ScheduledFuture<Void> longFuture = new NotificationData(new NotificationAttributeTree(), null, null,
+                newTimeout()).getPmaxFuture();
+        assertTrue(shortFuture.compareTo(longFuture) < 0);
+
+        assertNull(shortFuture.get(2, TimeUnit.SECONDS));
+        assertTrue(shortFuture.isDone());
+        assertFalse(shortFuture.isCancelled());
+        assertTrue(shortFuture.getDelay(TimeUnit.NANOSECONDS) <= 0);
+        longFuture.cancel(false);
+    }
+
+    private Timeout newTimeout() {
+        return scheduler.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+    }
+}
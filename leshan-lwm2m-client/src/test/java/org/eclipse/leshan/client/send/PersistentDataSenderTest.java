@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.client.send;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.client.servers.LwM2mServer;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ObjectLoader;
+import org.eclipse.leshan.core.model.StaticModel;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.core.response.SendResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentDataSenderTest {
+
+    private static final LwM2mModel MODEL = new StaticModel(ObjectLoader.loadDefault());
+    private static final LwM2mPath BATTERY_LEVEL = new LwM2mPath(3, 0, 9);
+    private static final LwM2mPath FREE_MEMORY = new LwM2mPath(3, 0, 10);
+    private static final List<LwM2mPath> PATHS = Arrays.asList(BATTERY_LEVEL, FREE_MEMORY);
+
+    @TempDir
+    Path tempDir;
+
+    private PersistentDataSender sender;
+    private FakeDataSenderManager manager;
+
+    @AfterEach
+    public void destroy() {
+        if (sender != null) {
+            sender.destroy();
+        }
+    }
+
+    @Test
+    public void collected_data_survive_restart_and_are_removed_once_acknowledged() throws Exception {
+        Path file = tempDir.resolve("data");
+        createSender(new PersistentDataSender.Builder(file));
+        manager.setValues(42, 1000);
+        sender.collectData(PATHS);
+        sender.destroy();
+
+        // restart
+        createSender(new PersistentDataSender.Builder(file));
+        sender.sendCollectedData(LwM2mServer.SYSTEM);
+
+        TimestampedLwM2mNodes sent = manager.nextSent();
+        assertEquals(1, sent.getTimestamps().size());
+        assertEquals(42l, ((LwM2mSingleResource) sent.getMostRecentNodes().get(BATTERY_LEVEL)).getValue());
+        assertEquals(1000l, ((LwM2mSingleResource) sent.getMostRecentNodes().get(FREE_MEMORY)).getValue());
+        assertEquals(0, sender.getBufferedBytes());
+        assertThrows(NoDataException.class, () -> sender.sendCollectedData(LwM2mServer.SYSTEM));
+    }
+
+    @Test
+    public void data_are_kept_on_send_failure() throws Exception {
+        createSender(new PersistentDataSender.Builder(tempDir.resolve("data")));
+        manager.setValues(42, 1000);
+        sender.collectData(PATHS);
+        long bufferedBytes = sender.getBufferedBytes();
+
+        manager.setSuccess(false);
+        sender.sendCollectedData(LwM2mServer.SYSTEM);
+        assertNotNull(manager.nextSent());
+        assertEquals(bufferedBytes, sender.getBufferedBytes());
+
+        manager.setSuccess(true);
+        sender.sendCollectedData(LwM2mServer.SYSTEM);
+        assertEquals(42l,
+                ((LwM2mSingleResource) manager.nextSent().getMostRecentNodes().get(BATTERY_LEVEL)).getValue());
+        assertEquals(0, sender.getBufferedBytes());
+    }
+
+    @Test
+    public void data_are_sent_in_chunks_when_flush_size_is_reached() throws Exception {
+        int maxPayloadSize = 100;
+        createSender(new PersistentDataSender.Builder(tempDir.resolve("data")) //
+                .setMaxPayloadSize(maxPayloadSize) //
+                .setFlushSize(300) //
+                .setServerProvider(() -> LwM2mServer.SYSTEM));
+
+        int nbSamples = 0;
+        while (manager.sent.isEmpty()) {
+            manager.setValues(nbSamples++, 1000);
+            sender.collectData(PATHS);
+            Thread.sleep(2);
+        }
+
+        // all samples are sent in order, in several requests which fit in max payload size
+        int nbRequests = 0;
+        long expectedValue = 0;
+        TimestampedLwM2mNodes sent;
+        while ((sent = manager.sent.poll(100, TimeUnit.MILLISECONDS)) != null) {
+            nbRequests++;
+            assertTrue(new DefaultLwM2mEncoder().encodeTimestampedNodes(sent, ContentFormat.SENML_CBOR, null,
+                    MODEL).length <= maxPayloadSize);
+            for (Instant timestamp : sent.getTimestamps()) {
+                assertEquals(expectedValue++,
+                        ((LwM2mSingleResource) sent.getNodesAt(timestamp).get(BATTERY_LEVEL)).getValue());
+            }
+        }
+        assertEquals(nbSamples, expectedValue);
+        assertTrue(nbRequests > 1);
+        assertEquals(0, sender.getBufferedBytes());
+    }
+
+    @Test
+    public void sample_larger_than_max_payload_size_is_dropped() throws Exception {
+        createSender(new PersistentDataSender.Builder(tempDir.resolve("data")).setMaxPayloadSize(10));
+        manager.setValues(42, 1000);
+        sender.collectData(PATHS);
+
+        sender.sendCollectedData(LwM2mServer.SYSTEM);
+
+        assertNull(manager.sent.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(0, sender.getBufferedBytes());
+    }
+
+    @Test
+    public void data_are_kept_when_send_throws() throws Exception {
+        createSender(new PersistentDataSender.Builder(tempDir.resolve("data")));
+        manager.setValues(42, 1000);
+        sender.collectData(PATHS);
+        long bufferedBytes = sender.getBufferedBytes();
+
+        manager.setFailure(new IllegalStateException("no endpoint available"));
+        sender.sendCollectedData(LwM2mServer.SYSTEM);
+        assertEquals(bufferedBytes, sender.getBufferedBytes());
+
+        // sender is not stuck in sending state
+        manager.setFailure(null);
+        sender.sendCollectedData(LwM2mServer.SYSTEM);
+        assertEquals(42l,
+                ((LwM2mSingleResource) manager.nextSent().getMostRecentNodes().get(BATTERY_LEVEL)).getValue());
+        assertEquals(0, sender.getBufferedBytes());
+    }
+
+    @Test
+    public void failed_send_is_retried_without_new_collect() throws Exception {
+        createSender(new PersistentDataSender.Builder(tempDir.resolve("data")) //
+                .setFlushSize(1) //
+                .setFlushPeriod(50, TimeUnit.MILLISECONDS) //
+                .setServerProvider(() -> LwM2mServer.SYSTEM));
+        sender.start();
+
+        manager.setSuccess(false);
+        manager.setValues(42, 1000);
+        sender.collectData(PATHS);
+        assertNotNull(manager.nextSent());
+        assertTrue(sender.getBufferedBytes() > 0);
+
+        // no more data are collected, but failed send is retried
+        manager.setSuccess(true);
+        long deadline = System.currentTimeMillis() + 2000;
+        while (sender.getBufferedBytes() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, sender.getBufferedBytes());
+    }
+
+    @Test
+    public void data_are_flushed_on_max_age_without_new_collect() throws Exception {
+        createSender(new PersistentDataSender.Builder(tempDir.resolve("data")) //
+                .setMaxAge(100, TimeUnit.MILLISECONDS) //
+                .setFlushPeriod(50, TimeUnit.MILLISECONDS) //
+                .setServerProvider(() -> LwM2mServer.SYSTEM));
+        sender.start();
+
+        manager.setValues(42, 1000);
+        sender.collectData(PATHS);
+
+        TimestampedLwM2mNodes sent = manager.nextSent();
+        assertNotNull(sent);
+        assertEquals(42l, ((LwM2mSingleResource) sent.getMostRecentNodes().get(BATTERY_LEVEL)).getValue());
+    }
+
+    @Test
+    public void oldest_data_are_dropped_when_file_is_full() throws Exception {
+        createSender(new PersistentDataSender.Builder(tempDir.resolve("data")).setCapacity(1024));
+
+        for (int i = 0; i < 200; i++) {
+            manager.setValues(i, 1000);
+            sender.collectData(PATHS);
+        }
+        assertTrue(sender.getBufferedBytes() <= 1024);
+
+        // drain all data
+        sender.sendCollectedData(LwM2mServer.SYSTEM);
+        Set<Object> sentValues = new HashSet<>();
+        TimestampedLwM2mNodes sent;
+        while ((sent = manager.sent.poll(100, TimeUnit.MILLISECONDS)) != null) {
+            for (Instant timestamp : sent.getTimestamps()) {
+                sentValues.add(((LwM2mSingleResource) sent.getNodesAt(timestamp).get(BATTERY_LEVEL)).getValue());
+            }
+        }
+        assertFalse(sentValues.contains(0l));
+        assertTrue(sentValues.contains(199l));
+        assertEquals(0, sender.getBufferedBytes());
+    }
+
+    private void createSender(PersistentDataSender.Builder builder) throws IOException {
+        sender = builder.build();
+        manager = new FakeDataSenderManager(sender);
+    }
+
+    static class FakeDataSenderManager extends DataSenderManager {
+
+        private final BlockingQueue<TimestampedLwM2mNodes> sent = new LinkedBlockingQueue<>();
+        private Map<LwM2mPath, LwM2mNode> currentValues;
+        private volatile boolean success = true;
+        private volatile RuntimeException failure;
+
+        public FakeDataSenderManager(DataSender dataSender) {
+            super(Collections.singletonMap(dataSender.getName(), dataSender), null, null);
+        }
+
+        public void setValues(long batteryLevel, long freeMemory) {
+            currentValues = new HashMap<>();
+            currentValues.put(BATTERY_LEVEL, LwM2mSingleResource.newIntegerResource(9, batteryLevel));
+            currentValues.put(FREE_MEMORY, LwM2mSingleResource.newIntegerResource(10, freeMemory));
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public void setFailure(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        public TimestampedLwM2mNodes nextSent() throws InterruptedException {
+            return sent.poll(1, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public LwM2mModel getModel() {
+            return MODEL;
+        }
+
+        @Override
+        public Map<LwM2mPath, LwM2mNode> getCurrentValues(LwM2mServer server, List<LwM2mPath> paths) {
+            return currentValues;
+        }
+
+        @Override
+        public void sendData(LwM2mServer server, ContentFormat format, TimestampedLwM2mNodes nodes,
+                ResponseCallback<SendResponse> onResponse, ErrorCallback onError, long timeoutInMs) {
+            if (failure != null) {
+                throw failure;
+            }
+            sent.add(nodes);
+            onResponse.onResponse(success ? SendResponse.success() : SendResponse.internalServerError("failure"));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.client.send;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RingFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void entries_wrap_around_end_of_file() throws IOException {
+        try (RingFile ringFile = new RingFile(tempDir.resolve("ring"), 100)) {
+            for (int i = 0; i < 50; i++) {
+                ringFile.append(entry(i, 20));
+                List<RingFile.Entry> entries = ringFile.read(0, Integer.MAX_VALUE);
+                // only 3 entries of 28 bytes can be stored
+                assertEquals(Math.min(i + 1, 3), entries.size());
+                assertArrayEquals(entry(i, 20), entries.get(entries.size() - 1).getData());
+            }
+        }
+    }
+
+    @Test
+    public void entries_are_recovered_until_first_corrupted_one() throws IOException {
+        Path file = tempDir.resolve("ring");
+        try (RingFile ringFile = new RingFile(file, 100)) {
+            ringFile.append(entry(1, 10));
+            ringFile.append(entry(2, 10));
+            ringFile.append(entry(3, 10));
+            // acknowledge first entry
+            ringFile.truncate(ringFile.read(0, 0).get(0).getNextOffset());
+        }
+
+        // corrupt last entry
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0 }), 32 + 2 * 18 + 8);
+        }
+
+        try (RingFile ringFile = new RingFile(file, 100)) {
+            List<RingFile.Entry> entries = ringFile.read(0, Integer.MAX_VALUE);
+            assertEquals(1, entries.size());
+            assertArrayEquals(entry(2, 10), entries.get(0).getData());
+        }
+
+        // file with another capacity is reset
+        try (RingFile ringFile = new RingFile(file, 200)) {
+            assertTrue(ringFile.isEmpty());
+        }
+    }
+
+    @Test
+    public void entries_are_recovered_after_crash_while_overwriting_dropped_entry() throws IOException {
+        Path file = tempDir.resolve("ring");
+        try (RingFile ringFile = new RingFile(file, 100)) {
+            ringFile.append(entry(1, 20));
+            ringFile.append(entry(2, 20));
+            ringFile.append(entry(3, 20));
+        }
+
+        // crash once new entry overwrote the dropped one, before tail is moved
+        RingFile crashingRingFile = new RingFile(file, 100) {
+            @Override
+            void write(long offset, byte[] data) {
+                super.write(offset, data);
+                if (data.length == 20) {
+                    throw new IllegalStateException("crash");
+                }
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> crashingRingFile.append(entry(4, 20)));
+        crashingRingFile.close();
+
+        try (RingFile ringFile = new RingFile(file, 100)) {
+            List<RingFile.Entry> entries = ringFile.read(0, Integer.MAX_VALUE);
+            assertEquals(2, entries.size());
+            assertArrayEquals(entry(2, 20), entries.get(0).getData());
+            assertArrayEquals(entry(3, 20), entries.get(1).getData());
+        }
+    }
+
+    @Test
+    public void too_big_entry_is_rejected() throws IOException {
+        try (RingFile ringFile = new RingFile(tempDir.resolve("ring"), 100)) {
+            assertThrows(IllegalArgumentException.class, () -> ringFile.append(new byte[93]));
+        }
+    }
+
+    private byte[] entry(int value, int size) {
+        byte[] entry = new byte[size];
+        Arrays.fill(entry, (byte) value);
+        return entry;
+    }
+}
@@ -17,9 +17,14 @@
  *******************************************************************************/
 package org.eclipse.leshan.client.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.leshan.client.resource.BaseInstanceEnabler;
@@ -28,6 +33,8 @@ import org.eclipse.leshan.client.resource.ObjectsInitializer;
 import org.eclipse.leshan.client.servers.LwM2mServer;
 import org.eclipse.leshan.core.LwM2mId;
 import org.eclipse.leshan.core.request.DeleteRequest;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.core.response.ReadResponse;
 import org.junit.jupiter.api.Test;
 
 public class ObjectEnablerTest {
@@ -43,6 +50,53 @@ public class ObjectEnablerTest {
         assertTrue(instanceEnabler.waitForDelete(2, TimeUnit.SECONDS), "callback delete should have been called");
     }
 
+    @Test
+    public void reads_are_done_in_parallel_in_concurrent_reads_mode() throws Exception {
+        assertEquals(2, countReadsDoneInParallel(true));
+    }
+
+    @Test
+    public void reads_are_exclusive_by_default() throws Exception {
+        assertEquals(0, countReadsDoneInParallel(false));
+    }
+
+    private int countReadsDoneInParallel(boolean concurrentReads) throws Exception {
+        ObjectsInitializer initializer = new ObjectsInitializer();
+        initializer.setConcurrentReads(concurrentReads);
+        initializer.setInstancesForObject(LwM2mId.ACCESS_CONTROL, new ParallelReadInstanceEnabler());
+        LwM2mObjectEnabler objectEnabler = initializer.create(LwM2mId.ACCESS_CONTROL);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ReadResponse> read1 = executor.submit(
+                    () -> objectEnabler.read(LwM2mServer.SYSTEM, new ReadRequest(LwM2mId.ACCESS_CONTROL, 0, 0)));
+            Future<ReadResponse> read2 = executor.submit(
+                    () -> objectEnabler.read(LwM2mServer.SYSTEM, new ReadRequest(LwM2mId.ACCESS_CONTROL, 0, 0)));
+            int success = 0;
+            success += read1.get(2, TimeUnit.SECONDS).isSuccess() ? 1 : 0;
+            success += read2.get(2, TimeUnit.SECONDS).isSuccess() ? 1 : 0;
+            return success;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static class ParallelReadInstanceEnabler extends BaseInstanceEnabler {
+
+        private final CyclicBarrier barrier = new CyclicBarrier(2);
+
+        @Override
+        public ReadResponse read(LwM2mServer server, int resourceid) {
+            // succeed only if another read is running at the same time
+            try {
+                barrier.await(500, TimeUnit.MILLISECONDS);
+                return ReadResponse.success(resourceid, 1l);
+            } catch (Exception e) {
+                return ReadResponse.internalServerError("not read in parallel");
+            }
+        }
+    }
+
     public static class TestInstanceEnabler extends BaseInstanceEnabler {
 
         CountDownLatch onDelete = new CountDownLatch(1);
@@ -18,12 +18,15 @@ package org.eclipse.leshan.core.node;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
-import java.util.Objects;
 
 import org.eclipse.leshan.core.util.Validate;
 
 /**
  * A path pointing to a LwM2M node (root, object, object instance, resource or resource instance).
+ * <p>
+ * Identifiers are stored as primitive <code>int</code>, so {@link #equals(Object)}, {@link #hashCode()} and
+ * {@link #compareTo(LwM2mPath)} do not allocate. {@link #LwM2mPath(String)} uses a bounded cache of already parsed
+ * paths.
  */
 public class LwM2mPath implements Comparable<LwM2mPath> {
 
@@ -33,10 +36,16 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
     public static final byte RESOURCE_DEPTH = 4;
     public static final byte RESOURCE_INSTANCE_DEPTH = 5;
 
-    private final Integer objectId;
-    private final Integer objectInstanceId;
-    private final Integer resourceId;
-    private final Integer resourceInstanceId;
+    // value used for absent identifier
+    private static final int NONE = Integer.MIN_VALUE;
+
+    // cache of paths parsed by LwM2mPath(String)
+    private static final LwM2mPathCache<LwM2mPath> PARSED_PATHS = new LwM2mPathCache<>(1024);
+
+    private final int objectId;
+    private final int objectInstanceId;
+    private final int resourceId;
+    private final int resourceInstanceId;
 
     public final static LwM2mPath ROOTPATH = new LwM2mPath();
 
@@ -108,6 +117,18 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      */
     public LwM2mPath(String path) throws InvalidLwM2mPathException {
         Validate.notNull(path);
+        LwM2mPath parsed = PARSED_PATHS.get(path);
+        if (parsed == null) {
+            parsed = parsePath(path);
+            PARSED_PATHS.put(path, parsed);
+        }
+        this.objectId = parsed.objectId;
+        this.objectInstanceId = parsed.objectInstanceId;
+        this.resourceId = parsed.resourceId;
+        this.resourceInstanceId = parsed.resourceInstanceId;
+    }
+
+    private static LwM2mPath parsePath(String path) throws InvalidLwM2mPathException {
         if (path.startsWith("/")) {
             path = path.substring(1);
         }
@@ -119,21 +140,44 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
             throw new InvalidLwM2mPathException("Invalid length for path %s", path);
         }
         try {
-            this.objectId = (p.length >= 1 && !p[0].isEmpty()) ? Integer.valueOf(p[0]) : null;
-            this.objectInstanceId = (p.length >= 2) ? Integer.valueOf(p[1]) : null;
-            this.resourceId = (p.length >= 3) ? Integer.valueOf(p[2]) : null;
-            this.resourceInstanceId = (p.length == 4) ? Integer.valueOf(p[3]) : null;
-            validate();
+            LwM2mPath parsed = new LwM2mPath( //
+                    (p.length >= 1 && !p[0].isEmpty()) ? Integer.valueOf(p[0]) : null, //
+                    (p.length >= 2) ? Integer.valueOf(p[1]) : null, //
+                    (p.length >= 3) ? Integer.valueOf(p[2]) : null, //
+                    (p.length == 4) ? Integer.valueOf(p[3]) : null);
+            parsed.validate();
+            return parsed;
         } catch (NumberFormatException e) {
             throw new InvalidLwM2mPathException(e, "Invalid elements in path %s", path);
         }
     }
 
     protected LwM2mPath(Integer objectId, Integer objectInstanceId, Integer resourceId, Integer resourceInstanceId) {
-        this.objectId = objectId;
-        this.objectInstanceId = objectInstanceId;
-        this.resourceId = resourceId;
-        this.resourceInstanceId = resourceInstanceId;
+        this.objectId = toPrimitive(objectId);
+        this.objectInstanceId = toPrimitive(objectInstanceId);
+        this.resourceId = toPrimitive(resourceId);
+        this.resourceInstanceId = toPrimitive(resourceInstanceId);
+    }
+
+    private static int toPrimitive(Integer id) {
+        if (id == null) {
+            return NONE;
+        }
+        if (id == NONE) {
+            throw new InvalidLwM2mPathException("Invalid LWM2M node id %d", id);
+        }
+        return id;
+    }
+
+    private static Integer toBoxed(int id) {
+        return id == NONE ? null : Integer.valueOf(id);
+    }
+
+    private int checkPresent(int id, String name) {
+        if (id == NONE) {
+            throw new IllegalStateException(String.format("%s has no %s", this, name));
+        }
+        return id;
     }
 
     /**
@@ -167,11 +211,11 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
         if (isRoot()) {
             return new LwM2mPath(end);
         } else if (isObject()) {
-            return new LwM2mPath(getObjectId(), end);
+            return new LwM2mPath(objectId, end);
         } else if (isObjectInstance()) {
-            return new LwM2mPath(getObjectId(), getObjectInstanceId(), end);
+            return new LwM2mPath(objectId, objectInstanceId, end);
         } else if (isResource()) {
-            return new LwM2mPath((int) getObjectId(), (int) getObjectInstanceId(), (int) getResourceId(), end);
+            return new LwM2mPath(objectId, objectInstanceId, resourceId, end);
         } else {
             throw new IllegalArgumentException(String.format(
                     "Unable to append Id(%d) to path %s. Resource instance level is the deeper one.", end, this));
@@ -184,30 +228,27 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      */
     public boolean startWith(LwM2mPath start) {
         // object id
-        if (start.getObjectId() == null)
+        if (start.objectId == NONE)
             return true;
-        if (!start.getObjectId().equals(this.getObjectId())) {
+        if (start.objectId != this.objectId) {
             return false;
         }
         // object instance id
-        if (start.getObjectInstanceId() == null)
+        if (start.objectInstanceId == NONE)
             return true;
-        if (!start.getObjectInstanceId().equals(this.getObjectInstanceId())) {
+        if (start.objectInstanceId != this.objectInstanceId) {
             return false;
         }
         // resource id
-        if (start.getResourceId() == null)
+        if (start.resourceId == NONE)
             return true;
-        if (!start.getResourceId().equals(this.getResourceId())) {
+        if (start.resourceId != this.resourceId) {
             return false;
         }
         // resource instance id
-        if (start.getResourceInstanceId() == null)
+        if (start.resourceInstanceId == NONE)
             return true;
-        if (!start.getResourceInstanceId().equals(this.getResourceInstanceId())) {
-            return false;
-        }
-        return true;
+        return start.resourceInstanceId == this.resourceInstanceId;
     }
 
     /**
@@ -216,7 +257,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return the object ID. Can be <code>null</code> when this is an root path.
      */
     public Integer getObjectId() {
-        return objectId;
+        return toBoxed(objectId);
     }
 
     /**
@@ -225,7 +266,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return the object instance ID. Can be <code>null</code> when this is an root/object path.
      */
     public Integer getObjectInstanceId() {
-        return objectInstanceId;
+        return toBoxed(objectInstanceId);
     }
 
     /**
@@ -234,7 +275,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return the resource ID. Can be <code>null</code> when this is a root/object/object instance path.
      */
     public Integer getResourceId() {
-        return resourceId;
+        return toBoxed(resourceId);
     }
 
     /**
@@ -244,50 +285,118 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      *         path.
      */
     public Integer getResourceInstanceId() {
-        return resourceInstanceId;
+        return toBoxed(resourceInstanceId);
+    }
+
+    /**
+     * @return <code>true</code> if this path contains an object ID.
+     */
+    public boolean hasObjectId() {
+        return objectId != NONE;
+    }
+
+    /**
+     * @return <code>true</code> if this path contains an object instance ID.
+     */
+    public boolean hasObjectInstanceId() {
+        return objectInstanceId != NONE;
+    }
+
+    /**
+     * @return <code>true</code> if this path contains a resource ID.
+     */
+    public boolean hasResourceId() {
+        return resourceId != NONE;
+    }
+
+    /**
+     * @return <code>true</code> if this path contains a resource instance ID.
+     */
+    public boolean hasResourceInstanceId() {
+        return resourceInstanceId != NONE;
+    }
+
+    /**
+     * Returns the object ID in the path, without boxing it unlike {@link #getObjectId()}.
+     *
+     * @return the object ID.
+     * @throws IllegalStateException if this is a root path.
+     */
+    public int getObjectIdAsInt() {
+        return checkPresent(objectId, "object id");
+    }
+
+    /**
+     * Returns the object instance ID in the path, without boxing it unlike {@link #getObjectInstanceId()}.
+     *
+     * @return the object instance ID.
+     * @throws IllegalStateException if this is a root/object path.
+     */
+    public int getObjectInstanceIdAsInt() {
+        return checkPresent(objectInstanceId, "object instance id");
+    }
+
+    /**
+     * Returns the resource ID in the path, without boxing it unlike {@link #getResourceId()}.
+     *
+     * @return the resource ID.
+     * @throws IllegalStateException if this is a root/object/object instance path.
+     */
+    public int getResourceIdAsInt() {
+        return checkPresent(resourceId, "resource id");
+    }
+
+    /**
+     * Returns the resource instance ID in the path, without boxing it unlike {@link #getResourceInstanceId()}.
+     *
+     * @return the resource instance ID.
+     * @throws IllegalStateException if this is a root/object/object instance/resource path.
+     */
+    public int getResourceInstanceIdAsInt() {
+        return checkPresent(resourceInstanceId, "resource instance id");
     }
 
     /**
      * @return <code>true</code> if this is the root path ("/").
      */
     public boolean isRoot() {
-        return objectId == null && objectInstanceId == null && resourceId == null && resourceInstanceId == null;
+        return objectId == NONE && objectInstanceId == NONE && resourceId == NONE && resourceInstanceId == NONE;
     }
 
     /**
      * @return <code>true</code> if this is an Object path.
      */
     public boolean isObject() {
-        return objectId != null && objectInstanceId == null && resourceId == null && resourceInstanceId == null;
+        return objectId != NONE && objectInstanceId == NONE && resourceId == NONE && resourceInstanceId == NONE;
     }
 
     /**
      * @return <code>true</code> if this is an ObjectInstance path.
      */
     public boolean isObjectInstance() {
-        return objectId != null && objectInstanceId != null && resourceId == null && resourceInstanceId == null;
+        return objectId != NONE && objectInstanceId != NONE && resourceId == NONE && resourceInstanceId == NONE;
     }
 
     /**
      * @return <code>true</code> if this is a Resource path.
      */
     public boolean isResource() {
-        return objectId != null && objectInstanceId != null && resourceId != null && resourceInstanceId == null;
+        return objectId != NONE && objectInstanceId != NONE && resourceId != NONE && resourceInstanceId == NONE;
     }
 
     /**
      * @return <code>true</code> if this is a Resource instance path.
      */
     public boolean isResourceInstance() {
-        return objectId != null && objectInstanceId != null && resourceId != null && resourceInstanceId != null;
+        return objectId != NONE && objectInstanceId != NONE && resourceId != NONE && resourceInstanceId != NONE;
     }
 
     /**
      * @return a new {@link LwM2mPath} targeting an object from current path.
      */
     public LwM2mPath toObjectPath() {
-        if (getObjectId() != null)
-            return new LwM2mPath(getObjectId());
+        if (objectId != NONE)
+            return new LwM2mPath(objectId);
         throw new IllegalStateException(String.format("an object path can not be created from %s", this));
     }
 
@@ -295,8 +404,8 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return a new {@link LwM2mPath} targeting an object instance from current path.
      */
     public LwM2mPath toObjectInstancePath() {
-        if (getObjectInstanceId() != null)
-            return new LwM2mPath(getObjectId(), getObjectInstanceId());
+        if (objectInstanceId != NONE)
+            return new LwM2mPath(objectId, objectInstanceId);
         throw new IllegalStateException(String.format("an object instance path can not be created from %s", this));
     }
 
@@ -304,8 +413,8 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return a new {@link LwM2mPath} targeting an resource from current path.
      */
     public LwM2mPath toResourcePath() {
-        if (getResourceId() != null)
-            return new LwM2mPath(getObjectId(), getObjectInstanceId(), getResourceId());
+        if (resourceId != NONE)
+            return new LwM2mPath(objectId, objectInstanceId, resourceId);
         throw new IllegalStateException(String.format("an resource path can not be created from %s", this));
     }
 
@@ -372,14 +481,14 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      */
     public void appendTo(StringBuilder b) {
         b.append("/");
-        if (getObjectId() != null) {
-            b.append(getObjectId());
-            if (getObjectInstanceId() != null) {
-                b.append("/").append(getObjectInstanceId());
-                if (getResourceId() != null) {
-                    b.append("/").append(getResourceId());
-                    if (getResourceInstanceId() != null) {
-                        b.append("/").append(getResourceInstanceId());
+        if (objectId != NONE) {
+            b.append(objectId);
+            if (objectInstanceId != NONE) {
+                b.append("/").append(objectInstanceId);
+                if (resourceId != NONE) {
+                    b.append("/").append(resourceId);
+                    if (resourceInstanceId != NONE) {
+                        b.append("/").append(resourceInstanceId);
                     }
                 }
             }
@@ -388,31 +497,24 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
 
     @Override
     public int compareTo(LwM2mPath o) {
-        int res = compareInteger(this.objectId, o.objectId);
-        if (res != 0 || this.objectId == null)
+        int res = compareId(this.objectId, o.objectId);
+        if (res != 0 || this.objectId == NONE)
             return res;
 
-        res = compareInteger(this.objectInstanceId, o.objectInstanceId);
-        if (res != 0 || this.objectInstanceId == null)
+        res = compareId(this.objectInstanceId, o.objectInstanceId);
+        if (res != 0 || this.objectInstanceId == NONE)
             return res;
 
-        res = compareInteger(this.resourceId, o.resourceId);
-        if (res != 0 || this.resourceId == null)
+        res = compareId(this.resourceId, o.resourceId);
+        if (res != 0 || this.resourceId == NONE)
             return res;
 
-        return compareInteger(this.resourceInstanceId, o.resourceInstanceId);
+        return compareId(this.resourceInstanceId, o.resourceInstanceId);
     }
 
-    private int compareInteger(Integer i1, Integer i2) {
-        if (i1 == i2) {
-            return 0;
-        } else if (i1 == null) {
-            return -1;
-        } else if (i2 == null) {
-            return 1;
-        } else {
-            return i1.compareTo(i2);
-        }
+    private static int compareId(int id1, int id2) {
+        // NONE is Integer.MIN_VALUE so absent id is lower than any id
+        return Integer.compare(id1, id2);
     }
 
     /**
@@ -482,10 +584,8 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
         if (!(o instanceof LwM2mPath))
             return false;
         LwM2mPath that = (LwM2mPath) o;
-        return that.canEqual(this) && Objects.equals(objectId, that.objectId)
-                && Objects.equals(objectInstanceId, that.objectInstanceId)
-                && Objects.equals(resourceId, that.resourceId)
-                && Objects.equals(resourceInstanceId, that.resourceInstanceId);
+        return that.canEqual(this) && objectId == that.objectId && objectInstanceId == that.objectInstanceId
+                && resourceId == that.resourceId && resourceInstanceId == that.resourceInstanceId;
     }
 
     public boolean canEqual(Object o) {
@@ -494,6 +594,16 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(objectId, objectInstanceId, resourceId, resourceInstanceId);
+        // same value than Objects.hash(objectId, objectInstanceId, resourceId, resourceInstanceId) without boxing
+        int result = 1;
+        result = 31 * result + hashId(objectId);
+        result = 31 * result + hashId(objectInstanceId);
+        result = 31 * result + hashId(resourceId);
+        result = 31 * result + hashId(resourceInstanceId);
+        return result;
+    }
+
+    private static int hashId(int id) {
+        return id == NONE ? 0 : id;
     }
 }
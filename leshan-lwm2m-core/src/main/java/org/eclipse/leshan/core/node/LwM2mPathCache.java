@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node;
+
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A bounded cache of values parsed from short strings like LwM2M paths.
+ * <p>
+ * This is a direct-mapped cache : each key can only be stored in one slot, a new entry simply replaces the previous
+ * one. Entries are immutable, so this cache is thread-safe without locking and never grows above its capacity.
+ */
+class LwM2mPathCache<T> {
+
+    // longer strings are not cached, they are unlikely to be frequent paths
+    static final int MAX_KEY_LENGTH = 64;
+
+    private final Entry<T>[] entries;
+    private final int mask;
+
+    /**
+     * @param size the number of slots of this cache, rounded up to a power of 2. <code>0</code> disables the cache.
+     */
+    @SuppressWarnings("unchecked")
+    LwM2mPathCache(int size) {
+        Validate.isTrue(size >= 0, "cache size must be positive or 0");
+        int capacity = size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    T get(String key) {
+        if (entries.length == 0) {
+            return null;
+        }
+        Entry<T> entry = entries[indexOf(key)];
+        if (entry != null && entry.key.equals(key)) {
+            return entry.value;
+        }
+        return null;
+    }
+
+    void put(String key, T value) {
+        if (entries.length == 0 || key.length() > MAX_KEY_LENGTH) {
+            return;
+        }
+        entries[indexOf(key)] = new Entry<>(key, value);
+    }
+
+    private int indexOf(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static class Entry<T> {
+        private final String key;
+        private final T value;
+
+        Entry(String key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -24,19 +24,44 @@ public class LwM2mPathParser {
         WITH_SLASH, WITHOUT_SLASH, WITH_OR_WITHOUT_SLASH
     }
 
+    /**
+     * Default number of parsed paths cached by {@link #parse(String)}.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
     private final Start startMode;
+    private final LwM2mPathCache<LwM2mPath> cache;
 
     public LwM2mPathParser() {
         this(Start.WITH_SLASH);
     }
 
     public LwM2mPathParser(Start startMode) {
+        this(startMode, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param startMode how path should start.
+     * @param cacheSize number of parsed paths cached by {@link #parse(String)}, <code>0</code> disables the cache.
+     */
+    public LwM2mPathParser(Start startMode, int cacheSize) {
         this.startMode = startMode;
+        this.cache = new LwM2mPathCache<>(cacheSize);
     }
 
+    /**
+     * Parse a LwM2M path.
+     * <p>
+     * Recently parsed paths are cached, so parsing again the same path returns the same {@link LwM2mPath} instance.
+     */
     public LwM2mPath parse(String path) {
         Validate.notNull(path);
 
+        LwM2mPath cachedPath = cache.get(path);
+        if (cachedPath != null) {
+            return cachedPath;
+        }
+
         // create a String Parser
         StringParser<InvalidLwM2mPathException> parser = new StringParser<InvalidLwM2mPathException>(path) {
             @Override
@@ -51,6 +76,7 @@ public class LwM2mPathParser {
             parser.raiseException("Unable to parse [%s] : Unexpected charaters '%s' after '%s'",
                     parser.getStringToParse(), parser.getNextChar(), parser.getAlreadyParsedString());
         }
+        cache.put(path, lwm2mPath);
         return lwm2mPath;
     }
 
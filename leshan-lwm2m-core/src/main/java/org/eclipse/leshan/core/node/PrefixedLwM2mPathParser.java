@@ -16,6 +16,7 @@
 package org.eclipse.leshan.core.node;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.leshan.core.node.LwM2mPathParser.Start;
@@ -26,18 +27,40 @@ public class PrefixedLwM2mPathParser {
 
     private final Start startMode;
     private final LwM2mPathParser pathParser = new LwM2mPathParser(Start.WITHOUT_SLASH);
+    private final LwM2mPathCache<PrefixedLwM2mPath> cache;
 
     public PrefixedLwM2mPathParser() {
         this(Start.WITH_SLASH);
     }
 
     public PrefixedLwM2mPathParser(Start startMode) {
+        this(startMode, LwM2mPathParser.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param startMode how path should start.
+     * @param cacheSize number of parsed paths cached by {@link #parsePrefixedPath(String)}, <code>0</code> disables the
+     *        cache.
+     */
+    public PrefixedLwM2mPathParser(Start startMode, int cacheSize) {
         this.startMode = startMode;
+        this.cache = new LwM2mPathCache<>(cacheSize);
     }
 
+    /**
+     * Parse a LwM2M path which could be prefixed by some URI segments.
+     * <p>
+     * Recently parsed paths are cached, so parsing again the same path returns the same {@link PrefixedLwM2mPath}
+     * instance. The prefix of the returned {@link PrefixedLwM2mPath} is not modifiable.
+     */
     public PrefixedLwM2mPath parsePrefixedPath(String path) {
         Validate.notNull(path);
 
+        PrefixedLwM2mPath cachedPath = cache.get(path);
+        if (cachedPath != null) {
+            return cachedPath;
+        }
+
         // create a String Parser
         StringParser<InvalidLwM2mPathException> parser = new StringParser<InvalidLwM2mPathException>(path) {
             @Override
@@ -52,6 +75,11 @@ public class PrefixedLwM2mPathParser {
             parser.raiseException("Unable to parse LWM2M path [%s] : Unexpected charaters '%s' after '%s'",
                     parser.getStringToParse(), parser.getNextChar(), parser.getAlreadyParsedString());
         }
+        // instance is shared, so prefix must not be modified
+        if (lwm2mPath.hasPrefix()) {
+            lwm2mPath = new PrefixedLwM2mPath(Collections.unmodifiableList(lwm2mPath.getPrefix()), lwm2mPath.getPath());
+        }
+        cache.put(path, lwm2mPath);
         return lwm2mPath;
     }
 
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,7 +43,7 @@ import org.eclipse.leshan.core.node.codec.text.LwM2mNodeTextDecoder;
 import org.eclipse.leshan.core.node.codec.tlv.LwM2mNodeTlvDecoder;
 import org.eclipse.leshan.core.request.ContentFormat;
 import org.eclipse.leshan.core.util.Validate;
-import org.eclipse.leshan.senml.cbor.upokecenter.SenMLCborUpokecenterEncoderDecoder;
+import org.eclipse.leshan.senml.cbor.streaming.SenMLCborStreamingEncoderDecoder;
 import org.eclipse.leshan.senml.json.jackson.SenMLJsonJacksonEncoderDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,7 +79,7 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
         decoders.put(ContentFormat.CBOR, new LwM2mNodeCborDecoder());
         decoders.put(ContentFormat.SENML_JSON, new LwM2mNodeSenMLDecoder(new SenMLJsonJacksonEncoderDecoder(), true));
         decoders.put(ContentFormat.SENML_CBOR,
-                new LwM2mNodeSenMLDecoder(new SenMLCborUpokecenterEncoderDecoder(), false));
+                new LwM2mNodeSenMLDecoder(new SenMLCborStreamingEncoderDecoder(), false));
 
         // tlv
         LwM2mNodeTlvDecoder tlvDecoder = new LwM2mNodeTlvDecoder();
@@ -98,7 +99,7 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
         Map<ContentFormat, PathDecoder> decoders = new HashMap<>();
         decoders.put(ContentFormat.SENML_JSON, new LwM2mPathSenMLDecoder(new SenMLJsonJacksonEncoderDecoder(true)));
         decoders.put(ContentFormat.SENML_CBOR,
-                new LwM2mPathSenMLDecoder(new SenMLCborUpokecenterEncoderDecoder(false, true)));
+                new LwM2mPathSenMLDecoder(new SenMLCborStreamingEncoderDecoder(false, true)));
 
         return decoders;
     }
@@ -147,15 +148,17 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
 
         LOG.trace("Decoding value for path {} and format {}: {}", path, format, content);
         Validate.notNull(path);
+        NodeDecoder decoder = findNodeDecoder(format, path);
+        return decoder.decode(content, normalizedRootPath(rootPath), path, model, nodeClass);
+    }
 
-        if (format == null) {
-            throw new CodecException("Content format is mandatory. [%s]", path);
-        }
+    @Override
+    public <T extends LwM2mNode> T decode(ByteBuffer content, ContentFormat format, String rootPath, LwM2mPath path,
+            LwM2mModel model, Class<T> nodeClass) throws CodecException {
 
-        NodeDecoder decoder = nodeDecoders.get(format);
-        if (decoder == null) {
-            throw new CodecException("Content format %s is not supported [%s]", format, path);
-        }
+        LOG.trace("Decoding value for path {} and format {}: {}", path, format, content);
+        Validate.notNull(path);
+        NodeDecoder decoder = findNodeDecoder(format, path);
         return decoder.decode(content, normalizedRootPath(rootPath), path, model, nodeClass);
     }
 
@@ -163,24 +166,16 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
     public Map<LwM2mPath, LwM2mNode> decodeNodes(byte[] content, ContentFormat format, String rootPath,
             List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
         LOG.trace("Decoding value for path {} and format {}: {}", paths, format, content);
-        if (paths != null)
-            Validate.notEmpty(paths);
-
-        if (format == null) {
-            throw new CodecException("Content format is mandatory. [%s]", paths);
-        }
-
-        NodeDecoder decoder = nodeDecoders.get(format);
-        if (decoder == null) {
-            throw new CodecException("Content format %s is not supported [%s]", format, paths);
-        }
+        MultiNodeDecoder decoder = findMultiNodeDecoder(format, paths);
+        return decoder.decodeNodes(content, normalizedRootPath(rootPath), paths, model);
+    }
 
-        if (decoder instanceof MultiNodeDecoder) {
-            return ((MultiNodeDecoder) decoder).decodeNodes(content, normalizedRootPath(rootPath), paths, model);
-        } else {
-            throw new CodecException("Decoder does not support multi node decoding for this content format %s [%s] ",
-                    format, paths);
-        }
+    @Override
+    public Map<LwM2mPath, LwM2mNode> decodeNodes(ByteBuffer content, ContentFormat format, String rootPath,
+            List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
+        LOG.trace("Decoding value for path {} and format {}: {}", paths, format, content);
+        MultiNodeDecoder decoder = findMultiNodeDecoder(format, paths);
+        return decoder.decodeNodes(content, normalizedRootPath(rootPath), paths, model);
     }
 
     @Override
@@ -188,15 +183,7 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
             LwM2mPath path, LwM2mModel model) throws CodecException {
         LOG.trace("Decoding value for path {} and format {}: {}", path, format, content);
         Validate.notNull(path);
-
-        if (format == null) {
-            throw new CodecException("Content format is mandatory. [%s]", path);
-        }
-
-        NodeDecoder decoder = nodeDecoders.get(format);
-        if (decoder == null) {
-            throw new CodecException("Content format %s is not supported [%s]", format, path);
-        }
+        NodeDecoder decoder = findNodeDecoder(format, path);
 
         if (decoder instanceof TimestampedNodeDecoder) {
             return ((TimestampedNodeDecoder) decoder).decodeTimestampedData(content, normalizedRootPath(rootPath), path,
@@ -211,15 +198,26 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
     public TimestampedLwM2mNodes decodeTimestampedNodes(byte[] content, ContentFormat format, String rootPath,
             List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
         LOG.trace("Decoding value for format {}: {}", format, content);
+        NodeDecoder decoder = findNodeDecoder(format, null);
 
-        if (format == null) {
-            throw new CodecException("Content format is mandatory.");
+        if (decoder instanceof TimestampedMultiNodeDecoder) {
+            return ((TimestampedMultiNodeDecoder) decoder).decodeTimestampedNodes(content, normalizedRootPath(rootPath),
+                    paths, model);
+        } else if (decoder instanceof MultiNodeDecoder) {
+            return new TimestampedLwM2mNodes.Builder(paths).addNodes(
+                    ((MultiNodeDecoder) decoder).decodeNodes(content, normalizedRootPath(rootPath), paths, model))
+                    .build();
+        } else {
+            throw new CodecException(
+                    "Decoder does not support multiple nodes decoding for this content format %s [%s] ", format);
         }
+    }
 
-        NodeDecoder decoder = nodeDecoders.get(format);
-        if (decoder == null) {
-            throw new CodecException("Content format %s is not supported", format);
-        }
+    @Override
+    public TimestampedLwM2mNodes decodeTimestampedNodes(ByteBuffer content, ContentFormat format, String rootPath,
+            List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
+        LOG.trace("Decoding value for format {}: {}", format, content);
+        NodeDecoder decoder = findNodeDecoder(format, null);
 
         if (decoder instanceof TimestampedMultiNodeDecoder) {
             return ((TimestampedMultiNodeDecoder) decoder).decodeTimestampedNodes(content, normalizedRootPath(rootPath),
@@ -234,6 +232,36 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
         }
     }
 
+    /**
+     * @param target the path(s) to decode, only used in error messages, can be <code>null</code>.
+     * @return the {@link NodeDecoder} for the given content format.
+     * @throws CodecException if format is <code>null</code> or not supported.
+     */
+    private NodeDecoder findNodeDecoder(ContentFormat format, Object target) throws CodecException {
+        if (format == null) {
+            throw target == null ? new CodecException("Content format is mandatory.")
+                    : new CodecException("Content format is mandatory. [%s]", target);
+        }
+        NodeDecoder decoder = nodeDecoders.get(format);
+        if (decoder == null) {
+            throw target == null ? new CodecException("Content format %s is not supported", format)
+                    : new CodecException("Content format %s is not supported [%s]", format, target);
+        }
+        return decoder;
+    }
+
+    private MultiNodeDecoder findMultiNodeDecoder(ContentFormat format, List<LwM2mPath> paths) throws CodecException {
+        if (paths != null)
+            Validate.notEmpty(paths);
+
+        NodeDecoder decoder = findNodeDecoder(format, paths);
+        if (!(decoder instanceof MultiNodeDecoder)) {
+            throw new CodecException("Decoder does not support multi node decoding for this content format %s [%s] ",
+                    format, paths);
+        }
+        return (MultiNodeDecoder) decoder;
+    }
+
     @Override
     public List<LwM2mPath> decodePaths(byte[] content, ContentFormat format, String rootPath) throws CodecException {
         LOG.trace("Decoding paths encoded with {}: {}", format, content);
@@ -16,6 +16,8 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,7 +37,7 @@ import org.eclipse.leshan.core.node.codec.text.LwM2mNodeTextEncoder;
 import org.eclipse.leshan.core.node.codec.tlv.LwM2mNodeTlvEncoder;
 import org.eclipse.leshan.core.request.ContentFormat;
 import org.eclipse.leshan.core.util.Validate;
-import org.eclipse.leshan.senml.cbor.upokecenter.SenMLCborUpokecenterEncoderDecoder;
+import org.eclipse.leshan.senml.cbor.streaming.SenMLCborStreamingEncoderDecoder;
 import org.eclipse.leshan.senml.json.jackson.SenMLJsonJacksonEncoderDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,7 +72,7 @@ public class DefaultLwM2mEncoder implements LwM2mEncoder {
         encoders.put(ContentFormat.OPAQUE, new LwM2mNodeOpaqueEncoder());
         encoders.put(ContentFormat.CBOR, new LwM2mNodeCborEncoder());
         encoders.put(ContentFormat.SENML_JSON, new LwM2mNodeSenMLEncoder(new SenMLJsonJacksonEncoderDecoder()));
-        encoders.put(ContentFormat.SENML_CBOR, new LwM2mNodeSenMLEncoder(new SenMLCborUpokecenterEncoderDecoder()));
+        encoders.put(ContentFormat.SENML_CBOR, new LwM2mNodeSenMLEncoder(new SenMLCborStreamingEncoderDecoder()));
 
         // tlv
         LwM2mNodeTlvEncoder tlvDecoder = new LwM2mNodeTlvEncoder();
@@ -90,7 +92,7 @@ public class DefaultLwM2mEncoder implements LwM2mEncoder {
         Map<ContentFormat, PathEncoder> encoders = new HashMap<>();
         encoders.put(ContentFormat.SENML_JSON, new LwM2mPathSenMLEncoder(new SenMLJsonJacksonEncoderDecoder(true)));
         encoders.put(ContentFormat.SENML_CBOR,
-                new LwM2mPathSenMLEncoder(new SenMLCborUpokecenterEncoderDecoder(false, true)));
+                new LwM2mPathSenMLEncoder(new SenMLCborStreamingEncoderDecoder(false, true)));
 
         return encoders;
     }
@@ -137,64 +139,61 @@ public class DefaultLwM2mEncoder implements LwM2mEncoder {
     public byte[] encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model)
             throws CodecException {
         Validate.notNull(node);
+        NodeEncoder encoder = findNodeEncoder(format, path);
 
-        if (format == null) {
-            throw new CodecException("Content format is mandatory. [%s]", path);
-        }
-
-        NodeEncoder encoder = nodeEncoders.get(format);
-        if (encoder == null) {
-            throw new CodecException("Content format %s is not supported [%s]", format, path);
-        }
-        LOG.trace("Encoding node {} for path {} and format {}", node, path, format);
+        LOG.trace("Encoding node {} for path {} and format {}", node, path, format);
         byte[] encoded = encoder.encode(node, normalizedRootPath(rootPath), path, model, converter);
         LOG.trace("Encoded node {}: {}", node, encoded);
         return encoded;
     }
 
+    @Override
+    public void encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model,
+            OutputStream out) throws CodecException {
+        Validate.notNull(node);
+        NodeEncoder encoder = findNodeEncoder(format, path);
+
+        LOG.trace("Encoding node {} for path {} and format {}", node, path, format);
+        encoder.encode(node, normalizedRootPath(rootPath), path, model, converter, out);
+    }
+
+    @Override
+    public void encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model,
+            ByteBuffer target) throws CodecException {
+        encode(node, format, rootPath, path, model, new ByteBufferOutputStream(target));
+    }
+
     @Override
     public byte[] encodeNodes(Map<LwM2mPath, LwM2mNode> nodes, ContentFormat format, String rootPath, LwM2mModel model)
             throws CodecException {
-        // Validate arguments
         Validate.notEmpty(nodes);
-        Set<LwM2mPath> paths = nodes.keySet();
-
-        // Search encoder
-        if (format == null) {
-            throw new CodecException("Content format is mandatory. [%s]", paths);
-        }
-        NodeEncoder encoder = nodeEncoders.get(format);
-        if (encoder == null) {
-            throw new CodecException("Content format %s is not supported [%s]", format, paths);
-        }
-        if (!(encoder instanceof MultiNodeEncoder)) {
-            throw new CodecException("Cannot encode several nodes with format %s. [%s]", format, paths);
-        }
+        MultiNodeEncoder encoder = findMultiNodeEncoder(format, nodes.keySet());
 
-        // Encode nodes
-        LOG.trace("Encoding nodes {} for path {} and format {}", nodes, paths, format);
-        byte[] encoded = ((MultiNodeEncoder) encoder).encodeNodes(normalizedRootPath(rootPath), nodes, model,
-                converter);
+        LOG.trace("Encoding nodes {} for path {} and format {}", nodes, nodes.keySet(), format);
+        byte[] encoded = encoder.encodeNodes(normalizedRootPath(rootPath), nodes, model, converter);
         LOG.trace("Encoded nodes {}: {}", nodes, encoded);
         return encoded;
     }
 
+    @Override
+    public void encodeNodes(Map<LwM2mPath, LwM2mNode> nodes, ContentFormat format, String rootPath, LwM2mModel model,
+            OutputStream out) throws CodecException {
+        Validate.notEmpty(nodes);
+        MultiNodeEncoder encoder = findMultiNodeEncoder(format, nodes.keySet());
+
+        LOG.trace("Encoding nodes {} for path {} and format {}", nodes, nodes.keySet(), format);
+        encoder.encodeNodes(normalizedRootPath(rootPath), nodes, model, converter, out);
+    }
+
     @Override
     public byte[] encodeTimestampedData(List<TimestampedLwM2mNode> timestampedNodes, ContentFormat format,
             String rootPath, LwM2mPath path, LwM2mModel model) throws CodecException {
         Validate.notEmpty(timestampedNodes);
-        if (format == null) {
-            throw new CodecException("Content format is mandatory. [%s]", path);
-        }
-
-        NodeEncoder encoder = nodeEncoders.get(format);
-        if (encoder == null) {
-            throw new CodecException("Content format %s is not supported [%s]", format, path);
-        }
+        NodeEncoder encoder = findNodeEncoder(format, path);
         if (!(encoder instanceof TimestampedNodeEncoder)) {
             throw new CodecException("Cannot encode timestampedNode with format %s. [%s]", format, path);
         }
-        LOG.trace("Encoding time-stamped nodes for path {} and format {}", timestampedNodes, path, format);
+        LOG.trace("Encoding time-stamped nodes for path {} and format {}", timestampedNodes, path, format);
         byte[] encoded = ((TimestampedNodeEncoder) encoder).encodeTimestampedData(timestampedNodes,
                 normalizedRootPath(rootPath), path, model, converter);
         LOG.trace("Encoded node timestampedNode: {}", timestampedNodes, encoded);
@@ -206,15 +205,7 @@ public class DefaultLwM2mEncoder implements LwM2mEncoder {
     public byte[] encodeTimestampedNodes(TimestampedLwM2mNodes timestampedNodes, ContentFormat format, String rootPath,
             LwM2mModel model) throws CodecException {
         Validate.notNull(timestampedNodes);
-
-        if (format == null) {
-            throw new CodecException("Content format is mandatory.");
-        }
-
-        NodeEncoder encoder = nodeEncoders.get(format);
-        if (encoder == null) {
-            throw new CodecException("Content format %s is not supported", format);
-        }
+        NodeEncoder encoder = findNodeEncoder(format, null);
 
         if (encoder instanceof TimestampedMultiNodeEncoder) {
             return ((TimestampedMultiNodeEncoder) encoder).encodeTimestampedNodes(normalizedRootPath(rootPath),
@@ -228,6 +219,50 @@ public class DefaultLwM2mEncoder implements LwM2mEncoder {
         }
     }
 
+    @Override
+    public void encodeTimestampedNodes(TimestampedLwM2mNodes timestampedNodes, ContentFormat format, String rootPath,
+            LwM2mModel model, OutputStream out) throws CodecException {
+        Validate.notNull(timestampedNodes);
+        NodeEncoder encoder = findNodeEncoder(format, null);
+
+        if (encoder instanceof TimestampedMultiNodeEncoder) {
+            ((TimestampedMultiNodeEncoder) encoder).encodeTimestampedNodes(normalizedRootPath(rootPath),
+                    timestampedNodes, model, converter, out);
+        } else if (encoder instanceof MultiNodeEncoder) {
+            ((MultiNodeEncoder) encoder).encodeNodes(normalizedRootPath(rootPath),
+                    timestampedNodes.getMostRecentNodes(), model, converter, out);
+        } else {
+            throw new CodecException("Encoder does not support multiple nodes encoding for this content format: %s",
+                    format);
+        }
+    }
+
+    /**
+     * @param target the path(s) to encode, only used in error messages, can be <code>null</code>.
+     * @return the {@link NodeEncoder} for the given content format.
+     * @throws CodecException if format is <code>null</code> or not supported.
+     */
+    private NodeEncoder findNodeEncoder(ContentFormat format, Object target) throws CodecException {
+        if (format == null) {
+            throw target == null ? new CodecException("Content format is mandatory.")
+                    : new CodecException("Content format is mandatory. [%s]", target);
+        }
+        NodeEncoder encoder = nodeEncoders.get(format);
+        if (encoder == null) {
+            throw target == null ? new CodecException("Content format %s is not supported", format)
+                    : new CodecException("Content format %s is not supported [%s]", format, target);
+        }
+        return encoder;
+    }
+
+    private MultiNodeEncoder findMultiNodeEncoder(ContentFormat format, Set<LwM2mPath> paths) throws CodecException {
+        NodeEncoder encoder = findNodeEncoder(format, paths);
+        if (!(encoder instanceof MultiNodeEncoder)) {
+            throw new CodecException("Cannot encode several nodes with format %s. [%s]", format, paths);
+        }
+        return (MultiNodeEncoder) encoder;
+    }
+
     @Override
     public byte[] encodePaths(List<LwM2mPath> paths, ContentFormat format, String rootPath) throws CodecException {
         Validate.notEmpty(paths);
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -70,6 +71,26 @@ public interface LwM2mDecoder {
     <T extends LwM2mNode> T decode(byte[] content, ContentFormat format, String rootPath, LwM2mPath path,
             LwM2mModel model, Class<T> nodeClass) throws CodecException;
 
+    /**
+     * Deserializes the bytes between position and limit of a {@link ByteBuffer} into a {@link LwM2mNode} of the
+     * expected type. The position of the buffer is not modified.
+     *
+     * @param content the content
+     * @param format the content format
+     * @param rootPath the expected rootPath also known as alternatePath of LWM2M client.
+     * @param path the path of the node to build
+     * @param model the collection of supported object models
+     * @param nodeClass the class of the {@link LwM2mNode} to decode
+     * @return the resulting node
+     * @throws CodecException if content is malformed.
+     */
+    default <T extends LwM2mNode> T decode(ByteBuffer content, ContentFormat format, String rootPath, LwM2mPath path,
+            LwM2mModel model, Class<T> nodeClass) throws CodecException {
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return decode(bytes, format, rootPath, path, model, nodeClass);
+    }
+
     /**
      * Deserializes a binary content into a list of {@link LwM2mNode} of the expected type.
      * <p>
@@ -89,6 +110,19 @@ public interface LwM2mDecoder {
     Map<LwM2mPath, LwM2mNode> decodeNodes(byte[] content, ContentFormat format, String rootPath, List<LwM2mPath> paths,
             LwM2mModel model) throws CodecException;
 
+    /**
+     * Deserializes the bytes between position and limit of a {@link ByteBuffer} into a list of {@link LwM2mNode} of the
+     * expected type. The position of the buffer is not modified.
+     *
+     * @see #decodeNodes(byte[], ContentFormat, String, List, LwM2mModel)
+     */
+    default Map<LwM2mPath, LwM2mNode> decodeNodes(ByteBuffer content, ContentFormat format, String rootPath,
+            List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return decodeNodes(bytes, format, rootPath, paths, model);
+    }
+
     /**
      * Deserializes a binary content into a list of time-stamped {@link LwM2mNode} ordering by time-stamp.
      *
@@ -119,6 +153,19 @@ public interface LwM2mDecoder {
     TimestampedLwM2mNodes decodeTimestampedNodes(byte[] content, ContentFormat format, String rootPath,
             List<LwM2mPath> paths, LwM2mModel model) throws CodecException;
 
+    /**
+     * Deserializes the bytes between position and limit of a {@link ByteBuffer} into a {@link TimestampedLwM2mNodes}.
+     * The position of the buffer is not modified.
+     *
+     * @see #decodeTimestampedNodes(byte[], ContentFormat, String, List, LwM2mModel)
+     */
+    default TimestampedLwM2mNodes decodeTimestampedNodes(ByteBuffer content, ContentFormat format, String rootPath,
+            List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return decodeTimestampedNodes(bytes, format, rootPath, paths, model);
+    }
+
     /**
      * Deserializes a binary content into a list of {@link LwM2mPath}.
      *
@@ -140,5 +187,4 @@ public interface LwM2mDecoder {
      * @return {@link ContentFormat} supported by this decoder
      */
     Set<ContentFormat> getSupportedContentFormat();
-
 }
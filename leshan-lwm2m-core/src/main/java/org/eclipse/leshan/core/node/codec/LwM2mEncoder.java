@@ -15,6 +15,10 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +38,7 @@ import org.eclipse.leshan.core.request.ContentFormat;
  * <li>a map of {@link LwM2mNode} (e.g. for composite operation)</li>
  * <li>a list of {@link LwM2mPath} (e.g. for composite operation)</li>
  * </ul>
+ * Nodes can be encoded in a new byte array or written in a caller-supplied {@link OutputStream} or {@link ByteBuffer}.
  */
 public interface LwM2mEncoder {
 
@@ -51,6 +56,50 @@ public interface LwM2mEncoder {
     byte[] encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model)
             throws CodecException;
 
+    /**
+     * Serializes a {@link LwM2mNode} with the given content format into an {@link OutputStream}.
+     *
+     * @param node the object/instance/resource to serialize
+     * @param format the content format
+     * @param rootPath to use by LWM2M client (also known as alternate path)
+     * @param path the path of the node to serialize
+     * @param model the collection of supported object models
+     * @param out the stream where the encoded node is written
+     * @throws CodecException if encoding or writing to the stream failed.
+     */
+    default void encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model,
+            OutputStream out) throws CodecException {
+        byte[] encoded = encode(node, format, rootPath, path, model);
+        try {
+            out.write(encoded);
+        } catch (IOException e) {
+            throw new CodecException(e, "Unable to write %d encoded bytes", encoded.length);
+        }
+    }
+
+    /**
+     * Serializes a {@link LwM2mNode} with the given content format into a {@link ByteBuffer}, starting at its current
+     * position. When this method returns, the position of the buffer is just after the encoded node.
+     *
+     * @param node the object/instance/resource to serialize
+     * @param format the content format
+     * @param rootPath to use by LWM2M client (also known as alternate path)
+     * @param path the path of the node to serialize
+     * @param model the collection of supported object models
+     * @param target the buffer where the encoded node is written
+     * @throws CodecException if encoding failed or if there is not enough remaining space in the buffer.
+     */
+    default void encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model,
+            ByteBuffer target) throws CodecException {
+        byte[] encoded = encode(node, format, rootPath, path, model);
+        try {
+            target.put(encoded);
+        } catch (BufferOverflowException e) {
+            throw new CodecException(e, "Not enough space in buffer to write %d bytes for path %s", encoded.length,
+                    path);
+        }
+    }
+
     /**
      * Serializes a list of {@link LwM2mNode} using the given content format.
      *
@@ -65,6 +114,27 @@ public interface LwM2mEncoder {
     byte[] encodeNodes(Map<LwM2mPath, LwM2mNode> nodes, ContentFormat format, String rootPath, LwM2mModel model)
             throws CodecException;
 
+    /**
+     * Serializes a list of {@link LwM2mNode} using the given content format into an {@link OutputStream}.
+     *
+     * @param nodes the Map from {@link LwM2mPath} to {@link LwM2mNode} to serialize. value can be <code>null</code> if
+     *        no data was available for a given path
+     * @param format the content format
+     * @param rootPath to use by LWM2M client (also known as alternate path)
+     * @param model the collection of supported object models
+     * @param out the stream where the encoded nodes are written
+     * @throws CodecException if encoding or writing to the stream failed.
+     */
+    default void encodeNodes(Map<LwM2mPath, LwM2mNode> nodes, ContentFormat format, String rootPath, LwM2mModel model,
+            OutputStream out) throws CodecException {
+        byte[] encoded = encodeNodes(nodes, format, rootPath, model);
+        try {
+            out.write(encoded);
+        } catch (IOException e) {
+            throw new CodecException(e, "Unable to write %d encoded bytes", encoded.length);
+        }
+    }
+
     /**
      * Serializes a list of time-stamped {@link LwM2mNode} with the given content format.
      *
@@ -93,6 +163,27 @@ public interface LwM2mEncoder {
     byte[] encodeTimestampedNodes(TimestampedLwM2mNodes data, ContentFormat format, String rootPath, LwM2mModel model)
             throws CodecException;
 
+    /**
+     * Serializes a multiple time-stamped nodes contained in {@link TimestampedLwM2mNodes} with the given content format
+     * into an {@link OutputStream}.
+     *
+     * @param data the {@link TimestampedLwM2mNodes} to serialize
+     * @param format the content format
+     * @param rootPath to use by LWM2M client (also known as alternate path)
+     * @param model the collection of supported object models
+     * @param out the stream where the encoded nodes are written
+     * @throws CodecException if encoding or writing to the stream failed.
+     */
+    default void encodeTimestampedNodes(TimestampedLwM2mNodes data, ContentFormat format, String rootPath,
+            LwM2mModel model, OutputStream out) throws CodecException {
+        byte[] encoded = encodeTimestampedNodes(data, format, rootPath, model);
+        try {
+            out.write(encoded);
+        } catch (IOException e) {
+            throw new CodecException(e, "Unable to write %d encoded bytes", encoded.length);
+        }
+    }
+
     /**
      * Serializes a list of {@link LwM2mPath} with the given content format.
      *
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -49,4 +50,21 @@ public interface MultiNodeDecoder {
      */
     Map<LwM2mPath, LwM2mNode> decodeNodes(byte[] content, String rootPath, List<LwM2mPath> paths, LwM2mModel model)
             throws CodecException;
+
+    /**
+     * Deserializes the bytes between position and limit of a {@link ByteBuffer} into a list of {@link LwM2mNode} of the
+     * expected type. The position of the buffer is not modified.
+     * <p>
+     * Default implementation copies the content in a byte array and calls
+     * {@link #decodeNodes(byte[], String, List, LwM2mModel)}. Implementations able to read directly from the buffer
+     * should override it.
+     *
+     * @see #decodeNodes(byte[], String, List, LwM2mModel)
+     */
+    default Map<LwM2mPath, LwM2mNode> decodeNodes(ByteBuffer content, String rootPath, List<LwM2mPath> paths,
+            LwM2mModel model) throws CodecException {
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return decodeNodes(bytes, rootPath, paths, model);
+    }
 }
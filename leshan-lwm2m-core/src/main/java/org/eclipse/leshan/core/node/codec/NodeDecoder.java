@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec;
 
+import java.nio.ByteBuffer;
+
 import org.eclipse.leshan.core.model.LwM2mModel;
 import org.eclipse.leshan.core.node.LwM2mNode;
 import org.eclipse.leshan.core.node.LwM2mPath;
@@ -41,4 +43,28 @@ public interface NodeDecoder {
      */
     <T extends LwM2mNode> T decode(byte[] content, String rootPath, LwM2mPath path, LwM2mModel model,
             Class<T> nodeClass) throws CodecException;
+
+    /**
+     * Deserializes the bytes between position and limit of a {@link ByteBuffer} into a {@link LwM2mNode} of the
+     * expected type. The position of the buffer is not modified.
+     * <p>
+     * Default implementation copies the content in a byte array and calls
+     * {@link #decode(byte[], String, LwM2mPath, LwM2mModel, Class)}. Implementations able to read directly from the
+     * buffer should override it.
+     *
+     * @param content the content
+     * @param rootPath the expected rootPath also known as alternatePath of LWM2M client.
+     * @param path the path of the node to build
+     * @param model the collection of supported object models
+     * @param nodeClass the class of the {@link LwM2mNode} to decode
+     * @return the resulting node
+     *
+     * @throws CodecException if there payload is malformed.
+     */
+    default <T extends LwM2mNode> T decode(ByteBuffer content, String rootPath, LwM2mPath path, LwM2mModel model,
+            Class<T> nodeClass) throws CodecException {
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return decode(bytes, rootPath, path, model, nodeClass);
+    }
 }
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.eclipse.leshan.core.model.LwM2mModel;
@@ -45,4 +46,21 @@ public interface TimestampedMultiNodeDecoder {
     TimestampedLwM2mNodes decodeTimestampedNodes(byte[] content, String rootPath, List<LwM2mPath> paths,
             LwM2mModel model) throws CodecException;
 
+    /**
+     * Deserializes the bytes between position and limit of a {@link ByteBuffer} into a {@link TimestampedLwM2mNodes}.
+     * The position of the buffer is not modified.
+     * <p>
+     * Default implementation copies the content in a byte array and calls
+     * {@link #decodeTimestampedNodes(byte[], String, List, LwM2mModel)}. Implementations able to read directly from the
+     * buffer should override it.
+     *
+     * @see #decodeTimestampedNodes(byte[], String, List, LwM2mModel)
+     */
+    default TimestampedLwM2mNodes decodeTimestampedNodes(ByteBuffer content, String rootPath, List<LwM2mPath> paths,
+            LwM2mModel model) throws CodecException {
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return decodeTimestampedNodes(bytes, rootPath, paths, model);
+    }
+
 }
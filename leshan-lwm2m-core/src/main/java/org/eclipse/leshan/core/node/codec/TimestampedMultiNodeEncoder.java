@@ -15,6 +15,9 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import org.eclipse.leshan.core.model.LwM2mModel;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
 
@@ -36,4 +39,28 @@ public interface TimestampedMultiNodeEncoder {
      */
     byte[] encodeTimestampedNodes(String rootPath, TimestampedLwM2mNodes timestampedNodes, LwM2mModel model,
             LwM2mValueConverter converter) throws CodecException;
+
+    /**
+     * Serializes a {@link TimestampedLwM2mNodes} object into the given {@link OutputStream}.
+     * <p>
+     * Default implementation writes the result of
+     * {@link #encodeTimestampedNodes(String, TimestampedLwM2mNodes, LwM2mModel, LwM2mValueConverter)}. Implementations
+     * able to write directly to the stream should override it.
+     *
+     * @param rootPath to use by LWM2M client (also known as alternate path)
+     * @param timestampedNodes timestamped nodes to be serialized
+     * @param model the collection of supported object models
+     * @param converter value converter for resources
+     * @param out the stream where the encoded nodes are written
+     * @throws CodecException if encoding or writing to the stream failed.
+     */
+    default void encodeTimestampedNodes(String rootPath, TimestampedLwM2mNodes timestampedNodes, LwM2mModel model,
+            LwM2mValueConverter converter, OutputStream out) throws CodecException {
+        byte[] encoded = encodeTimestampedNodes(rootPath, timestampedNodes, model, converter);
+        try {
+            out.write(encoded);
+        } catch (IOException e) {
+            throw new CodecException(e, "Unable to write %d encoded bytes", encoded.length);
+        }
+    }
 }
@@ -82,7 +82,7 @@ public class LwM2mNodeJsonEncoder implements TimestampedNodeEncoder {
         Validate.notNull(model);
 
         InternalEncoder internalEncoder = new InternalEncoder();
-        internalEncoder.objectId = path.getObjectId();
+        internalEncoder.objectId = path.getObjectIdAsInt();
         internalEncoder.model = model;
         internalEncoder.requestPath = path;
         internalEncoder.converter = converter;
@@ -106,7 +106,7 @@ public class LwM2mNodeJsonEncoder implements TimestampedNodeEncoder {
         ArrayList<JsonArrayEntry> entries = new ArrayList<>();
         String baseName = null;
         for (TimestampedLwM2mNode timestampedLwM2mNode : timestampedNodes) {
-            internalEncoder.objectId = path.getObjectId();
+            internalEncoder.objectId = path.getObjectIdAsInt();
             internalEncoder.model = model;
             internalEncoder.requestPath = path;
             internalEncoder.converter = converter;
@@ -215,7 +215,7 @@ public class LwM2mNodeJsonEncoder implements TimestampedNodeEncoder {
             baseName = requestPath.toString();
 
             // get type for this resource
-            ResourceModel rSpec = model.getResourceModel(objectId, requestPath.getResourceId());
+            ResourceModel rSpec = model.getResourceModel(objectId, requestPath.getResourceIdAsInt());
             Type expectedType = rSpec != null ? rSpec.type : instance.getType();
 
             JsonArrayEntry jsonArrayEntry = createJsonArrayEntry(null, timestampInSeconds, instance.getType(),
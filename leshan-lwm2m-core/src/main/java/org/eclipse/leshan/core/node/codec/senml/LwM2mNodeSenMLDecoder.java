@@ -15,6 +15,7 @@ package org.eclipse.leshan.core.node.codec.senml;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -80,93 +81,118 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
         this.linkParser = linkParser;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends LwM2mNode> T decode(byte[] content, String rootPath, LwM2mPath path, LwM2mModel model,
             Class<T> nodeClass) throws CodecException {
         try {
-            // Decode SenML pack
-            SenMLPack pack = decoder.fromSenML(content);
-            List<SenMLRecord> records = pack.getRecords();
+            return decode(decoder.fromSenML(content), rootPath, path, model, nodeClass);
+        } catch (SenMLException e) {
+            String hexValue = content != null ? Hex.encodeHexString(content) : "";
+            throw new CodecException(e, "Unable to decode node[path:%s] : %s", path, hexValue, e);
+        }
+    }
 
-            // Resolve records
-            LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
-            Collection<LwM2mResolvedSenMLRecord> resolvedRecords = new ArrayList<>(records.size());
-            for (SenMLRecord record : records) {
-                LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(record);
-                // Validate SenML resolved name
-                validateRootPath(resolvedRecord, rootPath);
-                if (!resolvedRecord.getPath().isResourceInstance() && !resolvedRecord.getPath().isResource()) {
-                    throw new CodecException(
-                            "Invalid path [%s] for resource, it should be a resource or a resource instance path",
-                            resolvedRecord.getName());
-                }
-                if (!resolvedRecord.getPath().startWith(path)) {
-                    throw new CodecException("Invalid path [%s] for resource, it should start by %s",
-                            resolvedRecord.getPrefixedPath(), path);
-                }
-                validateNoTimestampedRecord(resolvedRecord);
-                resolvedRecords.add(resolvedRecord);
+    @Override
+    public <T extends LwM2mNode> T decode(ByteBuffer content, String rootPath, LwM2mPath path, LwM2mModel model,
+            Class<T> nodeClass) throws CodecException {
+        try {
+            return decode(decoder.fromSenML(content), rootPath, path, model, nodeClass);
+        } catch (SenMLException e) {
+            throw new CodecException(e, "Unable to decode node[path:%s] : %s", path, toHexString(content), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends LwM2mNode> T decode(SenMLPack pack, String rootPath, LwM2mPath path, LwM2mModel model,
+            Class<T> nodeClass) throws SenMLException {
+        List<SenMLRecord> records = pack.getRecords();
+
+        // Resolve records
+        LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
+        Collection<LwM2mResolvedSenMLRecord> resolvedRecords = new ArrayList<>(records.size());
+        for (SenMLRecord record : records) {
+            LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(record);
+            // Validate SenML resolved name
+            validateRootPath(resolvedRecord, rootPath);
+            if (!resolvedRecord.getPath().isResourceInstance() && !resolvedRecord.getPath().isResource()) {
+                throw new CodecException(
+                        "Invalid path [%s] for resource, it should be a resource or a resource instance path",
+                        resolvedRecord.getName());
+            }
+            if (!resolvedRecord.getPath().startWith(path)) {
+                throw new CodecException("Invalid path [%s] for resource, it should start by %s",
+                        resolvedRecord.getPrefixedPath(), path);
             }
+            validateNoTimestampedRecord(resolvedRecord);
+            resolvedRecords.add(resolvedRecord);
+        }
 
-            // Parse records and create node
-            return (T) parseRecords(resolvedRecords, path, model, nodeClass);
+        // Parse records and create node
+        return (T) parseRecords(resolvedRecords, path, model, nodeClass);
+    }
+
+    @Override
+    public Map<LwM2mPath, LwM2mNode> decodeNodes(byte[] content, String rootPath, List<LwM2mPath> paths,
+            LwM2mModel model) throws CodecException {
+        try {
+            return decodeNodes(decoder.fromSenML(content), rootPath, paths, model);
         } catch (SenMLException e) {
             String hexValue = content != null ? Hex.encodeHexString(content) : "";
-            throw new CodecException(e, "Unable to decode node[path:%s] : %s", path, hexValue, e);
+            throw new CodecException(e, "Unable to decode nodes[path:%s] : %s", paths, hexValue, e);
         }
     }
 
     @Override
-    public Map<LwM2mPath, LwM2mNode> decodeNodes(byte[] content, String rootPath, List<LwM2mPath> paths,
+    public Map<LwM2mPath, LwM2mNode> decodeNodes(ByteBuffer content, String rootPath, List<LwM2mPath> paths,
             LwM2mModel model) throws CodecException {
         try {
-            // Decode SenML pack
-            SenMLPack pack = decoder.fromSenML(content);
+            return decodeNodes(decoder.fromSenML(content), rootPath, paths, model);
+        } catch (SenMLException e) {
+            throw new CodecException(e, "Unable to decode nodes[path:%s] : %s", paths, toHexString(content), e);
+        }
+    }
 
-            Map<LwM2mPath, LwM2mNode> nodes = new HashMap<>();
-            if (paths != null) {
-                // Resolve records & Group it by path
-                Map<LwM2mPath, Collection<LwM2mResolvedSenMLRecord>> recordsByPath = groupByPath(pack.getRecords(),
-                        paths, rootPath);
+    private Map<LwM2mPath, LwM2mNode> decodeNodes(SenMLPack pack, String rootPath, List<LwM2mPath> paths,
+            LwM2mModel model) throws SenMLException {
+        Map<LwM2mPath, LwM2mNode> nodes = new HashMap<>();
+        if (paths != null) {
+            // Resolve records & Group it by path
+            Map<LwM2mPath, Collection<LwM2mResolvedSenMLRecord>> recordsByPath = groupByPath(pack.getRecords(), paths,
+                    rootPath);
 
-                for (LwM2mPath path : paths) {
-                    Collection<LwM2mResolvedSenMLRecord> records = recordsByPath.get(path);
-                    if (records.isEmpty()) {
-                        // Node can be null as the LWM2M specification says that "Read-Composite operation is
-                        // treated as non-atomic and handled as best effort by the client. That is, if any of the
-                        // requested
-                        // resources do not have a valid value to return, they will not be included in the response".
-                        // Meaning that a given path could have no corresponding value.
-                        nodes.put(path, null);
-                    } else {
-                        validateNoTimestampedRecord(records);
-                        validateRootPath(records, rootPath);
-                        LwM2mNode node = parseRecords(recordsByPath.get(path), path, model,
-                                DefaultLwM2mDecoder.nodeClassFromPath(path));
-                        nodes.put(path, node);
-                    }
-                }
-            } else {
-                // Paths are not given so we given so we can not regroup by path
-                // let's assume that each path refer to a single resource or single resource instances.
-                LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
-                for (SenMLRecord record : pack.getRecords()) {
-                    LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(record);
-                    validateRootPath(resolvedRecord, rootPath);
-                    validateNoTimestampedRecord(resolvedRecord);
-
-                    LwM2mPath path = resolvedRecord.getPrefixedPath().getPath();
-                    LwM2mNode node = parseRecords(Arrays.asList(resolvedRecord), path, model,
+            for (LwM2mPath path : paths) {
+                Collection<LwM2mResolvedSenMLRecord> records = recordsByPath.get(path);
+                if (records.isEmpty()) {
+                    // Node can be null as the LWM2M specification says that "Read-Composite operation is
+                    // treated as non-atomic and handled as best effort by the client. That is, if any of the
+                    // requested
+                    // resources do not have a valid value to return, they will not be included in the response".
+                    // Meaning that a given path could have no corresponding value.
+                    nodes.put(path, null);
+                } else {
+                    validateNoTimestampedRecord(records);
+                    validateRootPath(records, rootPath);
+                    LwM2mNode node = parseRecords(recordsByPath.get(path), path, model,
                             DefaultLwM2mDecoder.nodeClassFromPath(path));
                     nodes.put(path, node);
                 }
             }
-            return nodes;
-        } catch (SenMLException e) {
-            String hexValue = content != null ? Hex.encodeHexString(content) : "";
-            throw new CodecException(e, "Unable to decode nodes[path:%s] : %s", paths, hexValue, e);
+        } else {
+            // Paths are not given so we given so we can not regroup by path
+            // let's assume that each path refer to a single resource or single resource instances.
+            LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
+            for (SenMLRecord record : pack.getRecords()) {
+                LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(record);
+                validateRootPath(resolvedRecord, rootPath);
+                validateNoTimestampedRecord(resolvedRecord);
+
+                LwM2mPath path = resolvedRecord.getPrefixedPath().getPath();
+                LwM2mNode node = parseRecords(Arrays.asList(resolvedRecord), path, model,
+                        DefaultLwM2mDecoder.nodeClassFromPath(path));
+                nodes.put(path, node);
+            }
         }
+        return nodes;
     }
 
     protected void validateNoTimestampedRecord(Collection<LwM2mResolvedSenMLRecord> resolvedRecords) {
@@ -226,61 +252,81 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
     public TimestampedLwM2mNodes decodeTimestampedNodes(byte[] content, String rootPath, List<LwM2mPath> paths,
             LwM2mModel model) throws CodecException {
         try {
-            // Decode SenML pack
-            SenMLPack pack = decoder.fromSenML(content);
+            return decodeTimestampedNodes(decoder.fromSenML(content), rootPath, paths, model);
+        } catch (SenMLException | IllegalArgumentException e) {
+            String hexValue = content != null ? Hex.encodeHexString(content) : "";
+            throw new CodecException(e, "Unable to decode nodes : %s", hexValue, e);
+        }
+    }
+
+    @Override
+    public TimestampedLwM2mNodes decodeTimestampedNodes(ByteBuffer content, String rootPath, List<LwM2mPath> paths,
+            LwM2mModel model) throws CodecException {
+        try {
+            return decodeTimestampedNodes(decoder.fromSenML(content), rootPath, paths, model);
+        } catch (SenMLException | IllegalArgumentException e) {
+            throw new CodecException(e, "Unable to decode nodes : %s", toHexString(content), e);
+        }
+    }
 
-            TimestampedLwM2mNodes.Builder nodes;
+    private TimestampedLwM2mNodes decodeTimestampedNodes(SenMLPack pack, String rootPath, List<LwM2mPath> paths,
+            LwM2mModel model) throws SenMLException {
+        TimestampedLwM2mNodes.Builder nodes;
 
-            if (paths != null && !paths.isEmpty()) {
-                nodes = TimestampedLwM2mNodes.builder(paths);
+        if (paths != null && !paths.isEmpty()) {
+            nodes = TimestampedLwM2mNodes.builder(paths);
 
-                // Group by time-stamp
-                SortedMap<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> recordsByTimestamp = groupRecordByTimestamp(
-                        pack.getRecords(), null, rootPath);
+            // Group by time-stamp
+            SortedMap<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> recordsByTimestamp = groupRecordByTimestamp(
+                    pack.getRecords(), null, rootPath);
 
-                // For each time-stamp
-                for (Entry<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> entryByTimestamp : recordsByTimestamp
-                        .entrySet()) {
-                    // Group records by path
-                    Map<LwM2mPath, Collection<LwM2mResolvedSenMLRecord>> recordsByPath = groupResolvedRecordByPath(
-                            entryByTimestamp.getValue(), paths);
-
-                    for (LwM2mPath path : paths) {
-                        Collection<LwM2mResolvedSenMLRecord> records = recordsByPath.get(path);
-                        if (records.isEmpty()) {
-                            // Node can be null as the LWM2M specification says that "Read-Composite operation is
-                            // treated as non-atomic and handled as best effort by the client. That is, if any of the
-                            // requested
-                            // resources do not have a valid value to return, they will not be included in the
-                            // response".
-                            // Meaning that a given path could have no corresponding value.
-                            nodes.put(TimestampUtil.fromSeconds(entryByTimestamp.getKey()), path, null);
-                        } else {
-                            LwM2mNode node = parseRecords(records, path, model,
-                                    DefaultLwM2mDecoder.nodeClassFromPath(path));
-                            nodes.put(TimestampUtil.fromSeconds(entryByTimestamp.getKey()), path, node);
-                        }
+            // For each time-stamp
+            for (Entry<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> entryByTimestamp : recordsByTimestamp
+                    .entrySet()) {
+                // Group records by path
+                Map<LwM2mPath, Collection<LwM2mResolvedSenMLRecord>> recordsByPath = groupResolvedRecordByPath(
+                        entryByTimestamp.getValue(), paths);
+
+                for (LwM2mPath path : paths) {
+                    Collection<LwM2mResolvedSenMLRecord> records = recordsByPath.get(path);
+                    if (records.isEmpty()) {
+                        // Node can be null as the LWM2M specification says that "Read-Composite operation is
+                        // treated as non-atomic and handled as best effort by the client. That is, if any of the
+                        // requested
+                        // resources do not have a valid value to return, they will not be included in the
+                        // response".
+                        // Meaning that a given path could have no corresponding value.
+                        nodes.put(TimestampUtil.fromSeconds(entryByTimestamp.getKey()), path, null);
+                    } else {
+                        LwM2mNode node = parseRecords(records, path, model,
+                                DefaultLwM2mDecoder.nodeClassFromPath(path));
+                        nodes.put(TimestampUtil.fromSeconds(entryByTimestamp.getKey()), path, node);
                     }
                 }
-            } else {
-                nodes = TimestampedLwM2mNodes.builder();
-                LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
-                for (SenMLRecord record : pack.getRecords()) {
-                    LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(record);
-                    validateRootPath(resolvedRecord, rootPath);
-                    LwM2mPath path = resolvedRecord.getPath();
-                    LwM2mNode node = parseRecords(Arrays.asList(resolvedRecord), path, model,
-                            DefaultLwM2mDecoder.nodeClassFromPath(path));
-                    nodes.put(TimestampUtil.fromSeconds(resolvedRecord.getTimeStamp()), path, node);
-                }
             }
+        } else {
+            nodes = TimestampedLwM2mNodes.builder();
+            LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
+            for (SenMLRecord record : pack.getRecords()) {
+                LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(record);
+                validateRootPath(resolvedRecord, rootPath);
+                LwM2mPath path = resolvedRecord.getPath();
+                LwM2mNode node = parseRecords(Arrays.asList(resolvedRecord), path, model,
+                        DefaultLwM2mDecoder.nodeClassFromPath(path));
+                nodes.put(TimestampUtil.fromSeconds(resolvedRecord.getTimeStamp()), path, node);
+            }
+        }
 
-            return nodes.build();
+        return nodes.build();
+    }
 
-        } catch (SenMLException | IllegalArgumentException e) {
-            String hexValue = content != null ? Hex.encodeHexString(content) : "";
-            throw new CodecException(e, "Unable to decode nodes : %s", hexValue, e);
+    private static String toHexString(ByteBuffer content) {
+        if (content == null) {
+            return "";
         }
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return Hex.encodeHexString(bytes);
     }
 
     /**
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec.senml;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -70,30 +71,70 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
     @Override
     public byte[] encode(LwM2mNode node, String rootPath, LwM2mPath path, LwM2mModel model,
             LwM2mValueConverter converter) {
+        SenMLPack pack = toPack(node, rootPath, path, model, converter);
+        try {
+            return encoder.toSenML(pack);
+        } catch (SenMLException e) {
+            throw new CodecException(e, "Unable to encode node[path:%s] : %s", path, node);
+        }
+    }
+
+    @Override
+    public void encode(LwM2mNode node, String rootPath, LwM2mPath path, LwM2mModel model, LwM2mValueConverter converter,
+            OutputStream out) throws CodecException {
+        SenMLPack pack = toPack(node, rootPath, path, model, converter);
+        try {
+            encoder.toSenML(pack, out);
+        } catch (SenMLException e) {
+            throw new CodecException(e, "Unable to encode node[path:%s] : %s", path, node);
+        }
+    }
+
+    private SenMLPack toPack(LwM2mNode node, String rootPath, LwM2mPath path, LwM2mModel model,
+            LwM2mValueConverter converter) {
         Validate.notNull(node);
         Validate.notNull(path);
         Validate.notNull(model);
 
         InternalEncoder internalEncoder = new InternalEncoder();
-        internalEncoder.objectId = path.getObjectId();
+        if (path.hasObjectId()) {
+            internalEncoder.objectId = path.getObjectIdAsInt();
+        }
         internalEncoder.model = model;
         internalEncoder.rootPath = rootPath;
         internalEncoder.requestPath = path;
         internalEncoder.converter = converter;
         node.accept(internalEncoder);
 
-        SenMLPack pack = new SenMLPack(internalEncoder.records);
+        return new SenMLPack(internalEncoder.records);
+    }
+
+    @Override
+    public byte[] encodeNodes(String rootPath, Map<LwM2mPath, LwM2mNode> nodes, LwM2mModel model,
+            LwM2mValueConverter converter) throws CodecException {
+        SenMLPack pack = toPack(rootPath, nodes, model, converter);
 
+        // Encodes SenML pack using internal encoder (it could be SenML-JSON or SenML-CBOR encoder)
         try {
             return encoder.toSenML(pack);
         } catch (SenMLException e) {
-            throw new CodecException(e, "Unable to encode node[path:%s] : %s", path, node);
+            throw new CodecException(e, "Unable to encode multi node[paths:%s] : %s", nodes.keySet(), nodes);
         }
     }
 
     @Override
-    public byte[] encodeNodes(String rootPath, Map<LwM2mPath, LwM2mNode> nodes, LwM2mModel model,
-            LwM2mValueConverter converter) throws CodecException {
+    public void encodeNodes(String rootPath, Map<LwM2mPath, LwM2mNode> nodes, LwM2mModel model,
+            LwM2mValueConverter converter, OutputStream out) throws CodecException {
+        SenMLPack pack = toPack(rootPath, nodes, model, converter);
+        try {
+            encoder.toSenML(pack, out);
+        } catch (SenMLException e) {
+            throw new CodecException(e, "Unable to encode multi node[paths:%s] : %s", nodes.keySet(), nodes);
+        }
+    }
+
+    private SenMLPack toPack(String rootPath, Map<LwM2mPath, LwM2mNode> nodes, LwM2mModel model,
+            LwM2mValueConverter converter) {
         // validate arguments
         Validate.notEmpty(nodes);
 
@@ -102,7 +143,9 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
         for (Entry<LwM2mPath, LwM2mNode> entry : nodes.entrySet()) {
             LwM2mPath path = entry.getKey();
             InternalEncoder internalEncoder = new InternalEncoder();
-            internalEncoder.objectId = path.getObjectId();
+            if (path.hasObjectId()) {
+                internalEncoder.objectId = path.getObjectIdAsInt();
+            }
             internalEncoder.model = model;
             internalEncoder.rootPath = rootPath;
             internalEncoder.requestPath = path;
@@ -119,13 +162,7 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
             // have a valid value to return, they will not be included in the response".
             // Meaning that a given path could have no corresponding value.
         }
-
-        // Encodes SenML pack using internal encoder (it could be SenML-JSON or SenML-CBOR encoder)
-        try {
-            return encoder.toSenML(pack);
-        } catch (SenMLException e) {
-            throw new CodecException(e, "Unable to encode multi node[paths:%s] : %s", nodes.keySet(), nodes);
-        }
+        return pack;
     }
 
     @Override
@@ -148,7 +185,9 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
             }
 
             InternalEncoder internalEncoder = new InternalEncoder();
-            internalEncoder.objectId = path.getObjectId();
+            if (path.hasObjectId()) {
+                internalEncoder.objectId = path.getObjectIdAsInt();
+            }
             internalEncoder.model = model;
             internalEncoder.rootPath = rootPath;
             internalEncoder.requestPath = path;
@@ -175,6 +214,27 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
     @Override
     public byte[] encodeTimestampedNodes(String rootPath, TimestampedLwM2mNodes timestampedNodes, LwM2mModel model,
             LwM2mValueConverter converter) throws CodecException {
+        SenMLPack pack = toPack(rootPath, timestampedNodes, model, converter);
+        try {
+            return encoder.toSenML(pack);
+        } catch (SenMLException e) {
+            throw new CodecException(e, "Unable to encode timestamped nodes: %s", timestampedNodes);
+        }
+    }
+
+    @Override
+    public void encodeTimestampedNodes(String rootPath, TimestampedLwM2mNodes timestampedNodes, LwM2mModel model,
+            LwM2mValueConverter converter, OutputStream out) throws CodecException {
+        SenMLPack pack = toPack(rootPath, timestampedNodes, model, converter);
+        try {
+            encoder.toSenML(pack, out);
+        } catch (SenMLException e) {
+            throw new CodecException(e, "Unable to encode timestamped nodes: %s", timestampedNodes);
+        }
+    }
+
+    private SenMLPack toPack(String rootPath, TimestampedLwM2mNodes timestampedNodes, LwM2mModel model,
+            LwM2mValueConverter converter) {
         Validate.notEmpty(timestampedNodes.getTimestamps());
 
         SenMLPack pack = new SenMLPack();
@@ -183,7 +243,9 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
             for (Entry<LwM2mPath, LwM2mNode> entry : nodesAtTimestamp.entrySet()) {
                 LwM2mPath path = entry.getKey();
                 InternalEncoder internalEncoder = new InternalEncoder();
-                internalEncoder.objectId = path.getObjectId();
+                if (path.hasObjectId()) {
+                    internalEncoder.objectId = path.getObjectIdAsInt();
+                }
                 internalEncoder.model = model;
                 internalEncoder.rootPath = rootPath;
                 internalEncoder.requestPath = path;
@@ -207,17 +269,12 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
                 }
             }
         }
-
-        try {
-            return encoder.toSenML(pack);
-        } catch (SenMLException e) {
-            throw new CodecException(e, "Unable to encode timestamped nodes: %s", timestampedNodes);
-        }
+        return pack;
     }
 
     private class InternalEncoder implements LwM2mNodeVisitor {
         // visitor inputs
-        private Integer objectId;
+        private int objectId;
         private LwM2mModel model;
         private LwM2mPath requestPath;
         private LwM2mValueConverter converter;
@@ -302,7 +359,7 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
             }
 
             // get type for this resource
-            ResourceModel rSpec = model.getResourceModel(objectId, requestPath.getResourceId());
+            ResourceModel rSpec = model.getResourceModel(objectId, requestPath.getResourceIdAsInt());
             Type expectedType = rSpec != null ? rSpec.type : resourceInstance.getType();
 
             // Using request path as base name, and record doesn't have name
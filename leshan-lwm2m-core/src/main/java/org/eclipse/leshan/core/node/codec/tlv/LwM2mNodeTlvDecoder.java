@@ -39,15 +39,19 @@ import org.eclipse.leshan.core.node.LwM2mResourceInstance;
 import org.eclipse.leshan.core.node.LwM2mSingleResource;
 import org.eclipse.leshan.core.node.codec.CodecException;
 import org.eclipse.leshan.core.node.codec.NodeDecoder;
-import org.eclipse.leshan.core.tlv.Tlv;
 import org.eclipse.leshan.core.tlv.Tlv.TlvType;
-import org.eclipse.leshan.core.tlv.TlvDecoder;
 import org.eclipse.leshan.core.tlv.TlvException;
+import org.eclipse.leshan.core.tlv.TlvReader;
 import org.eclipse.leshan.core.util.Hex;
 import org.eclipse.leshan.core.util.datatype.ULong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * TLV decoder for {@link LwM2mNode}.
+ * <p>
+ * TLV entries are read in one pass with a {@link TlvReader}, values are decoded directly from the input content.
+ */
 public class LwM2mNodeTlvDecoder implements NodeDecoder {
 
     private static final Logger LOG = LoggerFactory.getLogger(LwM2mNodeTlvDecoder.class);
@@ -72,25 +76,36 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
     public <T extends LwM2mNode> T decode(byte[] content, String rootPath, LwM2mPath path, LwM2mModel model,
             Class<T> nodeClass) throws CodecException {
         try {
-            Tlv[] tlvs = TlvDecoder.decode(ByteBuffer.wrap(content != null ? content : new byte[0]));
-            return parseTlv(tlvs, path, model, nodeClass);
+            TlvReader reader = new TlvReader(ByteBuffer.wrap(content != null ? content : new byte[0]));
+            return parseTlv(reader, path, model, nodeClass);
+        } catch (TlvException | LwM2mNodeException | InvalidLwM2mPathException e) {
+            throw new CodecException(String.format("Unable to decode tlv for path [%s]", path), e);
+        }
+    }
+
+    @Override
+    public <T extends LwM2mNode> T decode(ByteBuffer content, String rootPath, LwM2mPath path, LwM2mModel model,
+            Class<T> nodeClass) throws CodecException {
+        try {
+            // read directly from buffer, without copy
+            return parseTlv(new TlvReader(content), path, model, nodeClass);
         } catch (TlvException | LwM2mNodeException | InvalidLwM2mPathException e) {
             throw new CodecException(String.format("Unable to decode tlv for path [%s]", path), e);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T extends LwM2mNode> T parseTlv(Tlv[] tlvs, LwM2mPath path, LwM2mModel model, Class<T> nodeClass)
-            throws CodecException {
-        LOG.trace("Parsing TLV content for path {}: {}", path, tlvs);
+    private <T extends LwM2mNode> T parseTlv(TlvReader tlvs, LwM2mPath path, LwM2mModel model, Class<T> nodeClass)
+            throws CodecException, TlvException {
+        LOG.trace("Parsing TLV content for path {}", path);
 
         // Object
         if (nodeClass == LwM2mObject.class) {
-            Map<Integer, LwM2mObjectInstance> instances = new HashMap<>(tlvs.length);
+            Map<Integer, LwM2mObjectInstance> instances = new HashMap<>();
 
             // is it an array of TLV resources?
-            if (tlvs.length > 0 && //
-                    (tlvs[0].getType() == TlvType.MULTIPLE_RESOURCE || tlvs[0].getType() == TlvType.RESOURCE_VALUE)) {
+            if (tlvs.hasNext() && //
+                    (tlvs.peekType() == TlvType.MULTIPLE_RESOURCE || tlvs.peekType() == TlvType.RESOURCE_VALUE)) {
 
                 ObjectModel oModel = model.getObjectModel(path.getObjectId());
                 if (oModel == null) {
@@ -105,13 +120,14 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
                             parseObjectInstanceTlvWithoutId(tlvs, path.getObjectId(), model));
                 }
             } else {
-                for (Tlv tlv : tlvs) {
-                    if (tlv.getType() != TlvType.OBJECT_INSTANCE)
+                while (tlvs.hasNext()) {
+                    tlvs.next();
+                    if (tlvs.getType() != TlvType.OBJECT_INSTANCE)
                         throw new CodecException("Expected TLV of type OBJECT_INSTANCE but was %s  [path:%s]",
-                                tlv.getType().name(), path);
+                                tlvs.getType().name(), path);
 
-                    LwM2mObjectInstance objectInstance = parseObjectInstanceTlv(tlv.getChildren(), path.getObjectId(),
-                            tlv.getIdentifier(), model);
+                    LwM2mObjectInstance objectInstance = parseObjectInstanceTlv(tlvs.getChildren(), path.getObjectId(),
+                            tlvs.getIdentifier(), model);
                     LwM2mObjectInstance previousObjectInstance = instances.put(objectInstance.getId(), objectInstance);
                     if (previousObjectInstance != null) {
                         throw new CodecException(
@@ -126,14 +142,13 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
         // Object instance
         else if (nodeClass == LwM2mObjectInstance.class) {
 
-            if (tlvs.length == 1 && tlvs[0].getType() == TlvType.OBJECT_INSTANCE) {
-                if (path.isObjectInstance() && tlvs[0].getIdentifier() != path.getObjectInstanceId()) {
+            if (isOnlyOneObjectInstanceTlv(tlvs)) {
+                if (path.isObjectInstance() && tlvs.getIdentifier() != path.getObjectInstanceId()) {
                     throw new CodecException("Id conflict between path [%s] and instance TLV [object instance id=%d]",
-                            path, tlvs[0].getIdentifier());
+                            path, tlvs.getIdentifier());
                 }
                 // object instance TLV
-                return (T) parseObjectInstanceTlv(tlvs[0].getChildren(), path.getObjectId(), tlvs[0].getIdentifier(),
-                        model);
+                return (T) parseObjectInstanceTlv(tlvs.getChildren(), path.getObjectId(), tlvs.getIdentifier(), model);
             } else {
                 // array of TLV resources
                 // try to retrieve the instanceId from the path or the model
@@ -157,32 +172,31 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
         else if (nodeClass == LwM2mResource.class) {
             // The object instance level should not be here, but if it is provided and
             // consistent we tolerate it
-            if (tlvs.length == 1 && tlvs[0].getType() == TlvType.OBJECT_INSTANCE) {
-                if (tlvs[0].getIdentifier() != path.getObjectInstanceId()) {
+            if (isOnlyOneObjectInstanceTlv(tlvs)) {
+                if (tlvs.getIdentifier() != path.getObjectInstanceId()) {
                     throw new CodecException("Id conflict between path [%s] and instance TLV [object instance id=%d]",
-                            path, tlvs[0].getIdentifier());
+                            path, tlvs.getIdentifier());
                 }
-                tlvs = tlvs[0].getChildren();
+                tlvs = tlvs.getChildren();
             }
 
             ResourceModel resourceModel = model.getResourceModel(path.getObjectId(), path.getResourceId());
-            if (tlvs.length == 0 && resourceModel != null && !resourceModel.multiple) {
+            if (!tlvs.hasNext() && resourceModel != null && !resourceModel.multiple) {
                 // If there is no TlV value and we know that this resource is a single resource
                 // we raise an exception
                 // else we consider this is a multi-instance resource
                 throw new CodecException("TLV payload is mandatory for single resource %s", path);
-            } else if (tlvs.length == 1 && tlvs[0].getType() != TlvType.RESOURCE_INSTANCE) {
-                Tlv tlv = tlvs[0];
-                if (tlv.getType() != TlvType.RESOURCE_VALUE && tlv.getType() != TlvType.MULTIPLE_RESOURCE) {
+            } else if (tlvs.hasNext() && tlvs.peekType() != TlvType.RESOURCE_INSTANCE && isOnlyOneTlv(tlvs)) {
+                if (tlvs.getType() != TlvType.RESOURCE_VALUE && tlvs.getType() != TlvType.MULTIPLE_RESOURCE) {
                     throw new CodecException(
                             "Expected TLV of type RESOURCE_VALUE or MUlTIPLE_RESOURCE but was %s [path:%s]",
-                            tlv.getType().name(), path);
+                            tlvs.getType().name(), path);
                 }
-                if (path.isResource() && path.getResourceId() != tlv.getIdentifier()) {
+                if (path.isResource() && path.getResourceId() != tlvs.getIdentifier()) {
                     throw new CodecException("Id conflict between path [%s] and resource TLV [resource id=%s]", path,
-                            tlv.getIdentifier());
+                            tlvs.getIdentifier());
                 }
-                return (T) parseResourceTlv(tlv, path, model);
+                return (T) parseResourceTlv(tlvs, path, model);
             } else {
                 Type expectedRscType = getResourceType(path, model);
                 return (T) parseResourceInstancesTlv(tlvs, path, expectedRscType);
@@ -191,29 +205,50 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
 
         // Resource Instance
         else if (nodeClass == LwM2mResourceInstance.class) {
-            if (tlvs.length == 0) {
+            if (!tlvs.hasNext()) {
                 throw new CodecException("TLV payload is mandatory for resource instance %s", path);
-            } else if (tlvs.length > 1) {
+            } else if (!isOnlyOneTlv(tlvs)) {
                 throw new CodecException("TLV payload must contain only 1 resource instance for %s", path);
             } else {
-                Tlv tlv = tlvs[0];
-                if (path.isResourceInstance() && path.getResourceInstanceId() != tlv.getIdentifier()) {
+                if (path.isResourceInstance() && path.getResourceInstanceId() != tlvs.getIdentifier()) {
                     throw new CodecException("Id conflict between path [%s] and resource instance TLV [resource id=%s]",
-                            path, tlv.getIdentifier());
+                            path, tlvs.getIdentifier());
                 }
                 Type expectedType = getResourceType(path, model);
-                return (T) parseResourceInstanceTlv(tlv, path, expectedType);
+                return (T) parseResourceInstanceTlv(tlvs, path, expectedType);
             }
         }
         throw new IllegalArgumentException("invalid node class: " + nodeClass);
     }
 
-    private LwM2mObjectInstance parseObjectInstanceTlv(Tlv[] rscTlvs, int objectId, int instanceId, LwM2mModel model)
-            throws CodecException {
-        Map<Integer, LwM2mResource> resources = new HashMap<>(rscTlvs.length);
-        for (Tlv rscTlv : rscTlvs) {
-            LwM2mPath resourcePath = new LwM2mPath(objectId, instanceId, rscTlv.getIdentifier());
-            LwM2mResource resource = parseResourceTlv(rscTlv, resourcePath, model);
+    /**
+     * Check if there is only one TLV to read and it is an OBJECT_INSTANCE. If this is the case, this TLV is the current
+     * entry of the reader, else the reader is rewound.
+     */
+    private boolean isOnlyOneObjectInstanceTlv(TlvReader tlvs) throws TlvException {
+        return tlvs.hasNext() && tlvs.peekType() == TlvType.OBJECT_INSTANCE && isOnlyOneTlv(tlvs);
+    }
+
+    /**
+     * Check if there is only one TLV to read. If this is the case, this TLV is the current entry of the reader, else
+     * the reader is rewound.
+     */
+    private boolean isOnlyOneTlv(TlvReader tlvs) throws TlvException {
+        tlvs.next();
+        if (tlvs.hasNext()) {
+            tlvs.rewind();
+            return false;
+        }
+        return true;
+    }
+
+    private LwM2mObjectInstance parseObjectInstanceTlv(TlvReader rscTlvs, int objectId, int instanceId,
+            LwM2mModel model) throws CodecException, TlvException {
+        Map<Integer, LwM2mResource> resources = new HashMap<>();
+        while (rscTlvs.hasNext()) {
+            rscTlvs.next();
+            LwM2mPath resourcePath = new LwM2mPath(objectId, instanceId, rscTlvs.getIdentifier());
+            LwM2mResource resource = parseResourceTlv(rscTlvs, resourcePath, model);
             LwM2mResource previousResource = resources.put(resource.getId(), resource);
             if (previousResource != null) {
                 throw new CodecException("2 RESOURCE nodes (%s,%s) with the same identifier %d for path %s",
@@ -224,12 +259,13 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
 
     }
 
-    private LwM2mObjectInstance parseObjectInstanceTlvWithoutId(Tlv[] rscTlvs, int objectId, LwM2mModel model)
-            throws CodecException {
-        Map<Integer, LwM2mResource> resources = new HashMap<>(rscTlvs.length);
-        for (Tlv rscTlv : rscTlvs) {
-            LwM2mPath resourcePath = new LwM2mIncompletePath(objectId, rscTlv.getIdentifier());
-            LwM2mResource resource = parseResourceTlv(rscTlv, resourcePath, model);
+    private LwM2mObjectInstance parseObjectInstanceTlvWithoutId(TlvReader rscTlvs, int objectId, LwM2mModel model)
+            throws CodecException, TlvException {
+        Map<Integer, LwM2mResource> resources = new HashMap<>();
+        while (rscTlvs.hasNext()) {
+            rscTlvs.next();
+            LwM2mPath resourcePath = new LwM2mIncompletePath(objectId, rscTlvs.getIdentifier());
+            LwM2mResource resource = parseResourceTlv(rscTlvs, resourcePath, model);
             LwM2mResource previousResource = resources.put(resource.getId(), resource);
             if (previousResource != null) {
                 throw new CodecException("2 RESOURCE nodes (%s,%s) with the same identifier %d for path %s",
@@ -239,80 +275,82 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
         return new LwM2mObjectInstance(resources.values());
     }
 
-    private LwM2mResource parseResourceTlv(Tlv tlv, LwM2mPath resourcePath, LwM2mModel model) throws CodecException {
+    private LwM2mResource parseResourceTlv(TlvReader tlv, LwM2mPath resourcePath, LwM2mModel model)
+            throws CodecException, TlvException {
         Type expectedType = getResourceType(resourcePath, model);
-        Integer resourceId = tlv.getIdentifier();
+        int resourceId = tlv.getIdentifier();
         switch (tlv.getType()) {
         case MULTIPLE_RESOURCE:
             return parseResourceInstancesTlv(tlv.getChildren(), resourcePath, expectedType);
         case RESOURCE_VALUE:
-            return LwM2mSingleResource.newResource(resourceId,
-                    parseTlvValue(tlv.getValue(), expectedType, resourcePath), expectedType);
+            return LwM2mSingleResource.newResource(resourceId, parseTlvValue(tlv, expectedType, resourcePath),
+                    expectedType);
         default:
             throw new CodecException("Invalid TLV type %s for resource %s", tlv.getType(), resourcePath);
         }
     }
 
-    private LwM2mMultipleResource parseResourceInstancesTlv(Tlv[] tlvs, LwM2mPath resourcePath, Type expectedType)
-            throws CodecException {
-        Map<Integer, LwM2mResourceInstance> instances = new HashMap<>(tlvs.length);
-        for (Tlv tlvChild : tlvs) {
-            if (tlvChild.getType() != TlvType.RESOURCE_INSTANCE)
+    private LwM2mMultipleResource parseResourceInstancesTlv(TlvReader tlvs, LwM2mPath resourcePath, Type expectedType)
+            throws CodecException, TlvException {
+        Map<Integer, LwM2mResourceInstance> instances = new HashMap<>();
+        while (tlvs.hasNext()) {
+            tlvs.next();
+            if (tlvs.getType() != TlvType.RESOURCE_INSTANCE)
                 throw new CodecException("Expected TLV of type RESOURCE_INSTANCE but was %s for path %s",
-                        tlvChild.getType().name(), resourcePath.append(tlvChild.getIdentifier()));
+                        tlvs.getType().name(), resourcePath.append(tlvs.getIdentifier()));
 
-            LwM2mResourceInstance resourceInstance = parseResourceInstanceTlv(tlvChild,
-                    resourcePath.append(tlvChild.getIdentifier()), expectedType);
-            LwM2mResourceInstance previousResourceInstance = instances.put(tlvChild.getIdentifier(), resourceInstance);
+            LwM2mResourceInstance resourceInstance = parseResourceInstanceTlv(tlvs,
+                    resourcePath.append(tlvs.getIdentifier()), expectedType);
+            LwM2mResourceInstance previousResourceInstance = instances.put(tlvs.getIdentifier(), resourceInstance);
             if (previousResourceInstance != null) {
                 throw new CodecException("2 RESOURCE_INSTANCE nodes (%s,%s) with the same identifier %d for path %s",
-                        previousResourceInstance, resourceInstance, tlvChild.getIdentifier(), resourcePath);
+                        previousResourceInstance, resourceInstance, tlvs.getIdentifier(), resourcePath);
             }
         }
         return new LwM2mMultipleResource(resourcePath.getResourceId(), expectedType, instances.values());
     }
 
-    private LwM2mResourceInstance parseResourceInstanceTlv(Tlv tlv, LwM2mPath resourceInstancePath, Type expectedType)
-            throws CodecException {
-        Integer resourceInstanceId = tlv.getIdentifier();
+    private LwM2mResourceInstance parseResourceInstanceTlv(TlvReader tlv, LwM2mPath resourceInstancePath,
+            Type expectedType) throws CodecException {
+        int resourceInstanceId = tlv.getIdentifier();
         if (tlv.getType() != TlvType.RESOURCE_INSTANCE) {
             throw new CodecException("Expected TLV of type RESOURCE_INSTANCE but was %s for path %s", tlv.getType(),
                     resourceInstancePath);
         } else {
             return LwM2mResourceInstance.newInstance(resourceInstanceId,
-                    parseTlvValue(tlv.getValue(), expectedType, resourceInstancePath), expectedType);
+                    parseTlvValue(tlv, expectedType, resourceInstancePath), expectedType);
         }
 
     }
 
-    private Object parseTlvValue(byte[] value, Type expectedType, LwM2mPath path) throws CodecException {
+    private Object parseTlvValue(TlvReader tlv, Type expectedType, LwM2mPath path) throws CodecException {
         try {
-            LOG.trace("TLV value for path {} and expected type {}: {}", path, expectedType, value);
+            LOG.trace("TLV value for path {} and expected type {}", path, expectedType);
             switch (expectedType) {
             case STRING:
-                return TlvDecoder.decodeString(value);
+                return tlv.getStringValue();
             case INTEGER:
-                return TlvDecoder.decodeInteger(value).longValue();
+                return tlv.getIntegerValue();
             case UNSIGNED_INTEGER:
-                return ULong.valueOf(TlvDecoder.decodeInteger(value).longValue());
+                return ULong.valueOf(tlv.getIntegerValue());
             case FLOAT:
-                return TlvDecoder.decodeFloat(value).doubleValue();
+                return tlv.getFloatValue();
             case BOOLEAN:
-                return TlvDecoder.decodeBoolean(value);
+                return tlv.getBooleanValue();
             case TIME:
-                return TlvDecoder.decodeDate(value);
+                return tlv.getDateValue();
             case OPAQUE:
-                return value;
+                return tlv.getValue();
             case OBJLNK:
-                return TlvDecoder.decodeObjlnk(value);
+                return tlv.getObjlnkValue();
             case CORELINK:
-                return linkParser.parseCoreLinkFormat(value);
+                return linkParser.parseCoreLinkFormat(tlv.getValue());
             default:
                 throw new CodecException("Unsupported type %s for path %s", expectedType, path);
             }
         } catch (TlvException | LinkParseException e) {
-            throw new CodecException(e, "Invalid content [%s] for type %s for path %s", Hex.encodeHexString(value),
-                    expectedType, path);
+            throw new CodecException(e, "Invalid content [%s] for type %s for path %s",
+                    Hex.encodeHexString(tlv.getValue()), expectedType, path);
         }
     }
 
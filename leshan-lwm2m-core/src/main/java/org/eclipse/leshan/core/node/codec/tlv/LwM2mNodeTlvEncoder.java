@@ -15,8 +15,8 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node.codec.tlv;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map.Entry;
@@ -40,28 +40,46 @@ import org.eclipse.leshan.core.node.ObjectLink;
 import org.eclipse.leshan.core.node.codec.CodecException;
 import org.eclipse.leshan.core.node.codec.LwM2mValueConverter;
 import org.eclipse.leshan.core.node.codec.NodeEncoder;
-import org.eclipse.leshan.core.tlv.Tlv;
 import org.eclipse.leshan.core.tlv.Tlv.TlvType;
-import org.eclipse.leshan.core.tlv.TlvEncoder;
+import org.eclipse.leshan.core.tlv.TlvWriter;
 import org.eclipse.leshan.core.util.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * TLV encoder for {@link LwM2mNode}.
+ * <p>
+ * Values are encoded directly in one buffer with a {@link TlvWriter}.
  */
 public class LwM2mNodeTlvEncoder implements NodeEncoder {
 
     private static final Logger LOG = LoggerFactory.getLogger(LwM2mNodeTlvEncoder.class);
 
+    // writers bigger than this are not kept in the pool
+    private static final int MAX_POOLED_WRITER_SIZE = 64 * 1024;
+
     private final LinkSerializer linkSerializer;
+    private final ThreadLocal<TlvWriter> writerPool;
 
     public LwM2mNodeTlvEncoder() {
         this(new DefaultLinkSerializer());
     }
 
     public LwM2mNodeTlvEncoder(LinkSerializer linkSerializer) {
+        this(linkSerializer, false);
+    }
+
+    /**
+     * Create a new LwM2mNodeTlvEncoder.
+     *
+     * @param linkSerializer the link serializer for core link format resources.
+     * @param pooledBuffers if <code>true</code> the buffer used to encode nodes is kept by thread and reused for next
+     *        encoding. This avoids to grow a new buffer for each encoding at the cost of keeping up to 64KB of memory
+     *        by thread.
+     */
+    public LwM2mNodeTlvEncoder(LinkSerializer linkSerializer, boolean pooledBuffers) {
         this.linkSerializer = linkSerializer;
+        this.writerPool = pooledBuffers ? ThreadLocal.withInitial(() -> new TlvWriter(256)) : null;
     }
 
     @Override
@@ -71,12 +89,56 @@ public class LwM2mNodeTlvEncoder implements NodeEncoder {
         Validate.notNull(path);
         Validate.notNull(model);
 
-        InternalEncoder internalEncoder = new InternalEncoder();
+        TlvWriter writer = acquireWriter();
+        try {
+            encode(node, path, model, converter, writer);
+            return writer.toByteArray();
+        } finally {
+            releaseWriter(writer);
+        }
+    }
+
+    @Override
+    public void encode(LwM2mNode node, String rootPath, LwM2mPath path, LwM2mModel model, LwM2mValueConverter converter,
+            OutputStream out) throws CodecException {
+        Validate.notNull(node);
+        Validate.notNull(path);
+        Validate.notNull(model);
+
+        TlvWriter writer = acquireWriter();
+        try {
+            encode(node, path, model, converter, writer);
+            writer.writeTo(out);
+        } catch (IOException e) {
+            throw new CodecException(e, "Unable to write encoded node for path %s", path);
+        } finally {
+            releaseWriter(writer);
+        }
+    }
+
+    private void encode(LwM2mNode node, LwM2mPath path, LwM2mModel model, LwM2mValueConverter converter,
+            TlvWriter writer) {
+        InternalEncoder internalEncoder = new InternalEncoder(writer);
         internalEncoder.path = path;
         internalEncoder.model = model;
         internalEncoder.converter = converter;
         node.accept(internalEncoder);
-        return internalEncoder.out.toByteArray();
+    }
+
+    private TlvWriter acquireWriter() {
+        if (writerPool == null) {
+            return new TlvWriter(256);
+        }
+        TlvWriter writer = writerPool.get();
+        writer.reset();
+        return writer;
+    }
+
+    private void releaseWriter(TlvWriter writer) {
+        if (writerPool != null && writer.size() > MAX_POOLED_WRITER_SIZE) {
+            // do not keep too big buffer
+            writerPool.remove();
+        }
     }
 
     private class InternalEncoder implements LwM2mNodeVisitor {
@@ -87,7 +149,11 @@ public class LwM2mNodeTlvEncoder implements NodeEncoder {
         private LwM2mValueConverter converter;
 
         // visitor output
-        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final TlvWriter out;
+
+        InternalEncoder(TlvWriter out) {
+            this.out = out;
+        }
 
         @Override
         public void visit(LwM2mRoot root) {
@@ -98,22 +164,12 @@ public class LwM2mNodeTlvEncoder implements NodeEncoder {
         public void visit(LwM2mObject object) {
             LOG.trace("Encoding object {} into TLV", object);
 
-            Tlv[] tlvs;
-
             // encoded as an array of instances
-            tlvs = new Tlv[object.getInstances().size()];
-            int i = 0;
             for (Entry<Integer, LwM2mObjectInstance> instance : object.getInstances().entrySet()) {
-                Tlv[] resources = encodeResources(instance.getValue().getResources().values(),
+                out.startContainer(TlvType.OBJECT_INSTANCE, instance.getKey());
+                encodeResources(instance.getValue().getResources().values(),
                         new LwM2mPath(object.getId(), instance.getKey()));
-                tlvs[i] = new Tlv(TlvType.OBJECT_INSTANCE, resources, null, instance.getKey());
-                i++;
-            }
-
-            try {
-                out.write(TlvEncoder.encode(tlvs).array());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+                out.endContainer();
             }
         }
 
@@ -121,23 +177,17 @@ public class LwM2mNodeTlvEncoder implements NodeEncoder {
         public void visit(LwM2mObjectInstance instance) {
             LOG.trace("Encoding object instance {} into TLV", instance);
 
-            Tlv[] tlvs;
             if (path.isObjectInstance() || instance.getId() == LwM2mObjectInstance.UNDEFINED) {
                 // the instanceId is part of the request path or is undefined
                 // so the instance TLV layer is not needed.
                 // encoded as an array of resource TLVs
-                tlvs = encodeResources(instance.getResources().values(), new LwM2mIncompletePath(path.getObjectId()));
+                encodeResources(instance.getResources().values(), new LwM2mIncompletePath(path.getObjectIdAsInt()));
             } else {
                 // encoded as an instance TLV
-                Tlv[] resources = encodeResources(instance.getResources().values(),
-                        new LwM2mPath(path.getObjectId(), instance.getId()));
-                tlvs = new Tlv[] { new Tlv(TlvType.OBJECT_INSTANCE, resources, null, instance.getId()) };
-            }
-
-            try {
-                out.write(TlvEncoder.encode(tlvs).array());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+                out.startContainer(TlvType.OBJECT_INSTANCE, instance.getId());
+                encodeResources(instance.getResources().values(),
+                        new LwM2mPath(path.getObjectIdAsInt(), instance.getId()));
+                out.endContainer();
             }
         }
 
@@ -145,73 +195,53 @@ public class LwM2mNodeTlvEncoder implements NodeEncoder {
         public void visit(LwM2mResource resource) {
             LOG.trace("Encoding resource {} into TLV", resource);
 
-            Tlv rTlv = encodeResource(resource, path);
-
-            try {
-                out.write(TlvEncoder.encode(new Tlv[] { rTlv }).array());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            encodeResource(resource, path);
         }
 
-        private Tlv[] encodeResources(Collection<LwM2mResource> resources, LwM2mPath instancePath) {
-            Tlv[] rTlvs = new Tlv[resources.size()];
-            int i = 0;
+        private void encodeResources(Collection<LwM2mResource> resources, LwM2mPath instancePath) {
             for (LwM2mResource resource : resources) {
-                rTlvs[i] = encodeResource(resource, instancePath.append(resource.getId()));
-                i++;
+                encodeResource(resource, instancePath.append(resource.getId()));
             }
-            return rTlvs;
         }
 
-        private Tlv encodeResource(LwM2mResource resource, LwM2mPath resourcePath) {
-            ResourceModel rSpec = model.getResourceModel(path.getObjectId(), resource.getId());
+        private void encodeResource(LwM2mResource resource, LwM2mPath resourcePath) {
+            ResourceModel rSpec = model.getResourceModel(path.getObjectIdAsInt(), resource.getId());
             Type expectedType = rSpec != null ? rSpec.type : resource.getType();
 
-            Tlv rTlv;
             if (resource.isMultiInstances()) {
-                Tlv[] instances = new Tlv[resource.getInstances().size()];
-                int i = 0;
+                out.startContainer(TlvType.MULTIPLE_RESOURCE, resource.getId());
                 for (LwM2mResourceInstance resourceInstance : resource.getInstances().values()) {
                     LwM2mPath resourceInstancePath = resourcePath.append(resourceInstance.getId());
-                    instances[i] = encodeResourceInstance(resourceInstance, resourceInstancePath, expectedType);
-                    i++;
+                    encodeResourceInstance(resourceInstance, resourceInstancePath, expectedType);
                 }
-                rTlv = new Tlv(TlvType.MULTIPLE_RESOURCE, instances, null, resource.getId());
+                out.endContainer();
             } else {
                 Object convertedValue = converter.convertValue(resource.getValue(), resource.getType(), expectedType,
                         resourcePath);
-                rTlv = new Tlv(TlvType.RESOURCE_VALUE, null,
-                        this.encodeTlvValue(convertedValue, expectedType, resourcePath), resource.getId());
+                this.encodeTlvValue(TlvType.RESOURCE_VALUE, resource.getId(), convertedValue, expectedType,
+                        resourcePath);
             }
-            return rTlv;
         }
 
         @Override
         public void visit(LwM2mResourceInstance resourceInstance) {
             LOG.trace("Encoding resource instance {} into TLV", resourceInstance);
 
-            ResourceModel rSpec = model.getResourceModel(path.getObjectId(), path.getResourceId());
+            ResourceModel rSpec = model.getResourceModel(path.getObjectIdAsInt(), path.getResourceIdAsInt());
             Type expectedType = rSpec != null ? rSpec.type : resourceInstance.getType();
 
-            Tlv rTlv = encodeResourceInstance(resourceInstance, path, expectedType);
-
-            try {
-                out.write(TlvEncoder.encode(new Tlv[] { rTlv }).array());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            encodeResourceInstance(resourceInstance, path, expectedType);
         }
 
-        private Tlv encodeResourceInstance(LwM2mResourceInstance resourceInstance, LwM2mPath resourceInstancePath,
+        private void encodeResourceInstance(LwM2mResourceInstance resourceInstance, LwM2mPath resourceInstancePath,
                 Type expectedType) {
             Object convertedValue = converter.convertValue(resourceInstance.getValue(), resourceInstance.getType(),
                     expectedType, resourceInstancePath);
-            return new Tlv(TlvType.RESOURCE_INSTANCE, null,
-                    this.encodeTlvValue(convertedValue, expectedType, resourceInstancePath), resourceInstance.getId());
+            this.encodeTlvValue(TlvType.RESOURCE_INSTANCE, resourceInstance.getId(), convertedValue, expectedType,
+                    resourceInstancePath);
         }
 
-        private byte[] encodeTlvValue(Object value, Type type, LwM2mPath path) {
+        private void encodeTlvValue(TlvType tlvType, int id, Object value, Type type, LwM2mPath path) {
             LOG.trace("Encoding value {} in TLV", value);
             if (type == null || type == Type.NONE) {
                 throw new CodecException(
@@ -221,22 +251,30 @@ public class LwM2mNodeTlvEncoder implements NodeEncoder {
             try {
                 switch (type) {
                 case STRING:
-                    return TlvEncoder.encodeString((String) value);
+                    out.writeString(tlvType, id, (String) value);
+                    break;
                 case INTEGER:
                 case UNSIGNED_INTEGER:
-                    return TlvEncoder.encodeInteger((Number) value);
+                    out.writeInteger(tlvType, id, ((Number) value).longValue());
+                    break;
                 case FLOAT:
-                    return TlvEncoder.encodeFloat((Number) value);
+                    out.writeFloat(tlvType, id, (Number) value);
+                    break;
                 case BOOLEAN:
-                    return TlvEncoder.encodeBoolean((Boolean) value);
+                    out.writeBoolean(tlvType, id, (Boolean) value);
+                    break;
                 case TIME:
-                    return TlvEncoder.encodeDate((Date) value);
+                    out.writeDate(tlvType, id, (Date) value);
+                    break;
                 case OPAQUE:
-                    return (byte[]) value;
+                    out.writeOpaque(tlvType, id, (byte[]) value);
+                    break;
                 case OBJLNK:
-                    return TlvEncoder.encodeObjlnk((ObjectLink) value);
+                    out.writeObjlnk(tlvType, id, (ObjectLink) value);
+                    break;
                 case CORELINK:
-                    return TlvEncoder.encodeString(linkSerializer.serializeCoreLinkFormat((Link[]) value));
+                    out.writeString(tlvType, id, linkSerializer.serializeCoreLinkFormat((Link[]) value));
+                    break;
                 default:
                     throw new CodecException("Invalid value %s for type %s of %s", value, type, path);
                 }
@@ -62,37 +62,18 @@ public class TlvEncoder {
      * Encodes an integer value.
      */
     public static byte[] encodeInteger(Number number) {
-        ByteBuffer iBuf;
-        long lValue = number.longValue();
-        if (lValue >= Byte.MIN_VALUE && lValue <= Byte.MAX_VALUE) {
-            iBuf = ByteBuffer.allocate(1);
-            iBuf.put((byte) lValue);
-        } else if (lValue >= Short.MIN_VALUE && lValue <= Short.MAX_VALUE) {
-            iBuf = ByteBuffer.allocate(2);
-            iBuf.putShort((short) lValue);
-        } else if (lValue >= Integer.MIN_VALUE && lValue <= Integer.MAX_VALUE) {
-            iBuf = ByteBuffer.allocate(4);
-            iBuf.putInt((int) lValue);
-        } else {
-            iBuf = ByteBuffer.allocate(8);
-            iBuf.putLong(lValue);
-        }
-        return iBuf.array();
+        return encodeLong(number.longValue());
     }
 
     /**
      * Encodes a floating point value.
      */
     public static byte[] encodeFloat(Number number) {
-        ByteBuffer fBuf;
         if (number instanceof Float) {
-            fBuf = ByteBuffer.allocate(4);
-            fBuf.putFloat(number.floatValue());
+            return toBytes(Float.floatToIntBits(number.floatValue()), 4);
         } else {
-            fBuf = ByteBuffer.allocate(8);
-            fBuf.putDouble(number.doubleValue());
+            return toBytes(Double.doubleToLongBits(number.doubleValue()), 8);
         }
-        return fBuf.array();
     }
 
     /**
@@ -113,22 +94,7 @@ public class TlvEncoder {
      * Encodes a date value.
      */
     public static byte[] encodeDate(Date value) {
-        ByteBuffer tBuf;
-        long lValue = value.getTime() / 1000L;
-        if (lValue <= Byte.MAX_VALUE && lValue >= Byte.MIN_VALUE) {
-            tBuf = ByteBuffer.allocate(1);
-            tBuf.put((byte) lValue);
-        } else if (lValue <= Short.MAX_VALUE && lValue >= Short.MIN_VALUE) {
-            tBuf = ByteBuffer.allocate(2);
-            tBuf.putShort((short) lValue);
-        } else if (lValue <= Integer.MAX_VALUE && lValue >= Integer.MIN_VALUE) {
-            tBuf = ByteBuffer.allocate(4);
-            tBuf.putInt((int) lValue);
-        } else {
-            tBuf = ByteBuffer.allocate(8);
-            tBuf.putLong(lValue);
-        }
-        return tBuf.array();
+        return encodeLong(value.getTime() / 1000L);
     }
 
     /**
@@ -141,6 +107,27 @@ public class TlvEncoder {
         return objlnkBuffer.array();
     }
 
+    private static byte[] encodeLong(long lValue) {
+        if (lValue >= Byte.MIN_VALUE && lValue <= Byte.MAX_VALUE) {
+            return toBytes(lValue, 1);
+        } else if (lValue >= Short.MIN_VALUE && lValue <= Short.MAX_VALUE) {
+            return toBytes(lValue, 2);
+        } else if (lValue >= Integer.MIN_VALUE && lValue <= Integer.MAX_VALUE) {
+            return toBytes(lValue, 4);
+        } else {
+            return toBytes(lValue, 8);
+        }
+    }
+
+    private static byte[] toBytes(long value, int length) {
+        // big-endian
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (value >> ((length - 1 - i) * 8));
+        }
+        return bytes;
+    }
+
     private static int tlvEncodedSize(Tlv tlv, int length) {
         int size = 1 /* HEADER */;
         size += (tlv.getIdentifier() < MAX_LENGTH_8BIT) ? 1 : 2; /* 8 bits or 16 bits identifiers */
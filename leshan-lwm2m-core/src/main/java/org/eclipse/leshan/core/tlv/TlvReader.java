@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.tlv;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.tlv.Tlv.TlvType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pull reader of TLV entries.
+ * <p>
+ * Contrary to {@link TlvDecoder#decode(ByteBuffer)}, no {@link Tlv} tree is built and values are not copied : entries
+ * are read one by one directly from the input buffer and values are decoded in place.
+ *
+ * <pre>
+ * TlvReader reader = new TlvReader(ByteBuffer.wrap(content));
+ * while (reader.hasNext()) {
+ *     reader.next();
+ *     switch (reader.getType()) {
+ *     case OBJECT_INSTANCE:
+ *         TlvReader resources = reader.getChildren();
+ *         ...
+ *     case RESOURCE_VALUE:
+ *         long value = reader.getIntegerValue();
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * The position of the given {@link ByteBuffer} is never modified. This class is not thread-safe.
+ */
+public class TlvReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TlvReader.class);
+
+    private final ByteBuffer input;
+    private final int start;
+    private final int limit;
+
+    // position of next entry
+    private int position;
+
+    // current entry
+    private TlvType type;
+    private int identifier;
+    private int valueOffset;
+    private int valueLength;
+
+    /**
+     * Create a reader for TLV entries between current position and limit of the given buffer.
+     */
+    public TlvReader(ByteBuffer input) {
+        this(input, input.position(), input.limit());
+    }
+
+    private TlvReader(ByteBuffer input, int start, int limit) {
+        this.input = input;
+        this.start = start;
+        this.limit = limit;
+        this.position = start;
+    }
+
+    /**
+     * @return <code>true</code> if there is at least one more entry to read.
+     */
+    public boolean hasNext() {
+        return position < limit;
+    }
+
+    /**
+     * @return the type of the next entry without reading it.
+     */
+    public TlvType peekType() {
+        if (!hasNext()) {
+            throw new IllegalStateException("No more TLV entry");
+        }
+        return toType(input.get(position) & 0xFF);
+    }
+
+    /**
+     * Read the header of the next entry, then type, identifier and value of this entry are available.
+     *
+     * @throws TlvException if header is invalid or if value length exceeds the available bytes.
+     */
+    public void next() throws TlvException {
+        if (!hasNext()) {
+            throw new IllegalStateException("No more TLV entry");
+        }
+
+        int pos = position;
+        int typeByte = input.get(pos++) & 0xFF;
+        TlvType entryType = toType(typeByte);
+
+        // decode identifier
+        int id;
+        if ((typeByte & 0b0010_0000) == 0) {
+            checkAvailable(pos, 1, "identifier");
+            id = input.get(pos++) & 0xFF;
+        } else {
+            checkAvailable(pos, 2, "identifier");
+            id = readUnsignedShort(pos);
+            pos += 2;
+        }
+
+        // decode length
+        int length;
+        switch (typeByte & 0b0001_1000) {
+        case 0b0000_0000:
+            // 3 bit length
+            length = typeByte & 0b0000_0111;
+            break;
+        case 0b0000_1000:
+            // 8 bit length
+            checkAvailable(pos, 1, "length");
+            length = input.get(pos++) & 0xFF;
+            break;
+        case 0b0001_0000:
+            // 16 bit length
+            checkAvailable(pos, 2, "length");
+            length = readUnsignedShort(pos);
+            pos += 2;
+            break;
+        default:
+            // 24 bit length
+            checkAvailable(pos, 3, "length");
+            length = (input.get(pos) & 0xFF) << 16 | readUnsignedShort(pos + 1);
+            pos += 3;
+            break;
+        }
+        checkAvailable(pos, length, "value");
+        LOG.trace("reading {} {} with length {}", entryType, id, length);
+
+        this.type = entryType;
+        this.identifier = id;
+        this.valueOffset = pos;
+        this.valueLength = length;
+        this.position = pos + length;
+    }
+
+    /**
+     * Go back to the first entry.
+     */
+    public void rewind() {
+        position = start;
+        type = null;
+    }
+
+    public TlvType getType() {
+        checkCurrentEntry();
+        return type;
+    }
+
+    public int getIdentifier() {
+        checkCurrentEntry();
+        return identifier;
+    }
+
+    /**
+     * @return the length in bytes of the value of the current entry.
+     */
+    public int getLength() {
+        checkCurrentEntry();
+        return valueLength;
+    }
+
+    /**
+     * @return a reader for the entries contained by the current {@link TlvType#OBJECT_INSTANCE} or
+     *         {@link TlvType#MULTIPLE_RESOURCE} entry.
+     */
+    public TlvReader getChildren() {
+        checkCurrentEntry();
+        if (type == TlvType.RESOURCE_VALUE || type == TlvType.RESOURCE_INSTANCE) {
+            throw new IllegalStateException("a " + type.name() + " can't have children");
+        }
+        return new TlvReader(input, valueOffset, valueOffset + valueLength);
+    }
+
+    /**
+     * @return a copy of the raw value of the current entry.
+     */
+    public byte[] getValue() {
+        checkValueEntry();
+        byte[] value = new byte[valueLength];
+        for (int i = 0; i < valueLength; i++) {
+            value[i] = input.get(valueOffset + i);
+        }
+        return value;
+    }
+
+    /**
+     * Decodes value of the current entry as an UTF-8 string.
+     */
+    public String getStringValue() {
+        checkValueEntry();
+        if (input.hasArray()) {
+            return new String(input.array(), input.arrayOffset() + valueOffset, valueLength, StandardCharsets.UTF_8);
+        } else {
+            return new String(getValue(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Decodes value of the current entry as a big-endian signed integer of 1 to 8 bytes.
+     */
+    public long getIntegerValue() throws TlvException {
+        checkValueEntry();
+        if (valueLength == 0 || valueLength > 8) {
+            throw new TlvException("Invalid length for an integer value: " + valueLength);
+        }
+        return readSignedLong();
+    }
+
+    /**
+     * Decodes value of the current entry as a float of 4 or 8 bytes.
+     */
+    public double getFloatValue() throws TlvException {
+        checkValueEntry();
+        if (valueLength == 4) {
+            return Float.intBitsToFloat((int) readSignedLong());
+        } else if (valueLength == 8) {
+            return Double.longBitsToDouble(readSignedLong());
+        } else {
+            throw new TlvException("Invalid length for a float value: " + valueLength);
+        }
+    }
+
+    /**
+     * Decodes value of the current entry as a boolean.
+     */
+    public boolean getBooleanValue() throws TlvException {
+        checkValueEntry();
+        if (valueLength != 1) {
+            throw new TlvException("Invalid length for a boolean value: " + valueLength);
+        }
+        byte value = input.get(valueOffset);
+        if (value == 0) {
+            return false;
+        } else if (value == 1) {
+            return true;
+        } else {
+            LOG.warn("Boolean value should be encoded as integer with value 0 or 1, not {}", value);
+            return false;
+        }
+    }
+
+    /**
+     * Decodes value of the current entry as a date encoded as a number of seconds since epoch.
+     */
+    public Date getDateValue() throws TlvException {
+        checkValueEntry();
+        if (valueLength == 0 || valueLength > 8) {
+            throw new TlvException("Invalid length for a time value: " + valueLength);
+        }
+        return new Date(readSignedLong() * 1000L);
+    }
+
+    /**
+     * Decodes value of the current entry as an object link.
+     */
+    public ObjectLink getObjlnkValue() throws TlvException {
+        checkValueEntry();
+        if (valueLength != 4) {
+            throw new TlvException("Invalid length for an objlnk value: " + valueLength);
+        }
+        return new ObjectLink(readUnsignedShort(valueOffset), readUnsignedShort(valueOffset + 2));
+    }
+
+    private long readSignedLong() {
+        // first byte is signed to get sign extension
+        long value = input.get(valueOffset);
+        for (int i = 1; i < valueLength; i++) {
+            value = (value << 8) | (input.get(valueOffset + i) & 0xFF);
+        }
+        return value;
+    }
+
+    private int readUnsignedShort(int pos) {
+        // read big-endian whatever the byte order of the buffer
+        return (input.get(pos) & 0xFF) << 8 | (input.get(pos + 1) & 0xFF);
+    }
+
+    private TlvType toType(int typeByte) {
+        switch (typeByte & 0b1100_0000) {
+        case 0b0000_0000:
+            return TlvType.OBJECT_INSTANCE;
+        case 0b0100_0000:
+            return TlvType.RESOURCE_INSTANCE;
+        case 0b1000_0000:
+            return TlvType.MULTIPLE_RESOURCE;
+        default:
+            return TlvType.RESOURCE_VALUE;
+        }
+    }
+
+    private void checkAvailable(int pos, int length, String field) throws TlvException {
+        if (length > limit - pos) {
+            throw new TlvException(String.format("Invalid '%s' length at index %d", field, pos - start));
+        }
+    }
+
+    private void checkCurrentEntry() {
+        if (type == null) {
+            throw new IllegalStateException("next() must be called before reading an entry");
+        }
+    }
+
+    private void checkValueEntry() {
+        checkCurrentEntry();
+        if (type != TlvType.RESOURCE_VALUE && type != TlvType.RESOURCE_INSTANCE) {
+            throw new IllegalStateException("a " + type.name() + " can't have a value");
+        }
+    }
+}
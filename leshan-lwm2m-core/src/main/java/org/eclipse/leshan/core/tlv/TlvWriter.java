@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.tlv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.tlv.Tlv.TlvType;
+
+/**
+ * A writer of TLV entries which encodes values directly in one byte array.
+ * <p>
+ * Contrary to {@link TlvEncoder#encode(Tlv[])}, no {@link Tlv} tree and no intermediate byte array by value are needed.
+ * Length of a container entry ({@link TlvType#OBJECT_INSTANCE} or {@link TlvType#MULTIPLE_RESOURCE}) is only known once
+ * its children are written, so space for the largest possible header is reserved when the container is started and
+ * unused bytes are removed when it ends.
+ *
+ * <pre>
+ * TlvWriter writer = new TlvWriter();
+ * writer.startContainer(TlvType.OBJECT_INSTANCE, 0);
+ * writer.writeString(TlvType.RESOURCE_VALUE, 0, "Leshan");
+ * writer.writeInteger(TlvType.RESOURCE_VALUE, 9, 100);
+ * writer.endContainer();
+ * byte[] tlv = writer.toByteArray();
+ * </pre>
+ *
+ * This class is not thread-safe.
+ */
+public class TlvWriter {
+
+    private static final int MAX_LENGTH_8BIT = 256;
+    private static final int MAX_LENGTH_16BIT = 65_536;
+    private static final int MAX_LENGTH_24BIT = 16_777_216;
+
+    // type(1) + identifier(2) + length(3)
+    private static final int MAX_HEADER_SIZE = 6;
+    // containers are Object Instance and Multiple Resource, they can not be nested more than twice
+    private static final int MAX_DEPTH = 2;
+
+    private byte[] buffer;
+    private int size;
+
+    // start of reserved header and type of each opened container
+    private final int[] containerStarts = new int[MAX_DEPTH];
+    private final TlvType[] containerTypes = new TlvType[MAX_DEPTH];
+    private final int[] containerIds = new int[MAX_DEPTH];
+    private int depth;
+
+    public TlvWriter() {
+        this(64);
+    }
+
+    /**
+     * @param initialCapacity the initial size of the internal buffer, it grows if needed.
+     */
+    public TlvWriter(int initialCapacity) {
+        buffer = new byte[Math.max(initialCapacity, MAX_HEADER_SIZE)];
+    }
+
+    /**
+     * Start a {@link TlvType#OBJECT_INSTANCE} or {@link TlvType#MULTIPLE_RESOURCE} entry, following entries are its
+     * children until {@link #endContainer()} is called.
+     */
+    public void startContainer(TlvType type, int identifier) {
+        if (type != TlvType.OBJECT_INSTANCE && type != TlvType.MULTIPLE_RESOURCE) {
+            throw new IllegalArgumentException("a " + type.name() + " can't have children");
+        }
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("too many nested TLV containers");
+        }
+        ensureCapacity(MAX_HEADER_SIZE);
+        containerStarts[depth] = size;
+        containerTypes[depth] = type;
+        containerIds[depth] = identifier;
+        depth++;
+        size += MAX_HEADER_SIZE;
+    }
+
+    /**
+     * End the last started container entry.
+     */
+    public void endContainer() {
+        if (depth == 0) {
+            throw new IllegalStateException("no TLV container to end");
+        }
+        depth--;
+        int headerStart = containerStarts[depth];
+        int valueStart = headerStart + MAX_HEADER_SIZE;
+        int length = size - valueStart;
+
+        // write header at the reserved place then move value just after it
+        size = headerStart;
+        writeHeader(containerTypes[depth], containerIds[depth], length);
+        System.arraycopy(buffer, valueStart, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * Write an entry with a raw value.
+     */
+    public void writeOpaque(TlvType type, int identifier, byte[] value) {
+        startValue(type, identifier, value.length);
+        System.arraycopy(value, 0, buffer, size, value.length);
+        size += value.length;
+    }
+
+    /**
+     * Write an entry with an UTF-8 string value.
+     */
+    public void writeString(TlvType type, int identifier, String value) {
+        writeOpaque(type, identifier, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write an entry with an integer value encoded on the smallest possible number of bytes (1, 2, 4 or 8).
+     */
+    public void writeInteger(TlvType type, int identifier, long value) {
+        int length = integerLength(value);
+        startValue(type, identifier, length);
+        writeLong(value, length);
+    }
+
+    /**
+     * Write an entry with a floating point value, encoded on 4 bytes for {@link Float} else on 8 bytes.
+     */
+    public void writeFloat(TlvType type, int identifier, Number value) {
+        if (value instanceof Float) {
+            startValue(type, identifier, 4);
+            writeLong(Float.floatToIntBits(value.floatValue()), 4);
+        } else {
+            startValue(type, identifier, 8);
+            writeLong(Double.doubleToLongBits(value.doubleValue()), 8);
+        }
+    }
+
+    /**
+     * Write an entry with a boolean value.
+     */
+    public void writeBoolean(TlvType type, int identifier, boolean value) {
+        startValue(type, identifier, 1);
+        buffer[size++] = (byte) (value ? 1 : 0);
+    }
+
+    /**
+     * Write an entry with a date value encoded as an integer number of seconds since epoch.
+     */
+    public void writeDate(TlvType type, int identifier, Date value) {
+        writeInteger(type, identifier, value.getTime() / 1000L);
+    }
+
+    /**
+     * Write an entry with an object link value.
+     */
+    public void writeObjlnk(TlvType type, int identifier, ObjectLink value) {
+        startValue(type, identifier, 4);
+        writeLong(value.getObjectId(), 2);
+        writeLong(value.getObjectInstanceId(), 2);
+    }
+
+    /**
+     * @return the size in bytes of the TLV written so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of all written entries.
+     */
+    public byte[] toByteArray() {
+        if (depth != 0) {
+            throw new IllegalStateException("all TLV containers must be ended");
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Write all written entries to the given stream without intermediate copy.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (depth != 0) {
+            throw new IllegalStateException("all TLV containers must be ended");
+        }
+        out.write(buffer, 0, size);
+    }
+
+    /**
+     * Clear all written entries, so this writer can be reused.
+     */
+    public void reset() {
+        size = 0;
+        depth = 0;
+    }
+
+    private void startValue(TlvType type, int identifier, int length) {
+        if (type != TlvType.RESOURCE_VALUE && type != TlvType.RESOURCE_INSTANCE) {
+            throw new IllegalArgumentException("a " + type.name() + " can't have a value");
+        }
+        ensureCapacity(MAX_HEADER_SIZE + length);
+        writeHeader(type, identifier, length);
+    }
+
+    private void writeHeader(TlvType type, int identifier, int length) {
+        int typeByte;
+        switch (type) {
+        case OBJECT_INSTANCE:
+            typeByte = 0b00_000000;
+            break;
+        case RESOURCE_INSTANCE:
+            typeByte = 0b01_000000;
+            break;
+        case MULTIPLE_RESOURCE:
+            typeByte = 0b10_000000;
+            break;
+        case RESOURCE_VALUE:
+        default:
+            typeByte = 0b11_000000;
+            break;
+        }
+
+        // identifier length
+        boolean shortId = identifier < MAX_LENGTH_8BIT;
+        typeByte |= shortId ? 0b00_0000 : 0b10_0000;
+
+        // type of length
+        int lengthSize;
+        if (length < 8) {
+            typeByte |= length;
+            lengthSize = 0;
+        } else if (length < MAX_LENGTH_8BIT) {
+            typeByte |= 0b0000_1000;
+            lengthSize = 1;
+        } else if (length < MAX_LENGTH_16BIT) {
+            typeByte |= 0b0001_0000;
+            lengthSize = 2;
+        } else if (length < MAX_LENGTH_24BIT) {
+            typeByte |= 0b0001_1000;
+            lengthSize = 3;
+        } else {
+            throw new IllegalArgumentException("length should fit in max 24bits");
+        }
+
+        buffer[size++] = (byte) typeByte;
+        writeLong(identifier, shortId ? 1 : 2);
+        writeLong(length, lengthSize);
+    }
+
+    private void writeLong(long value, int length) {
+        // big-endian
+        for (int i = length - 1; i >= 0; i--) {
+            buffer[size++] = (byte) (value >> (i * 8));
+        }
+    }
+
+    private static int integerLength(long value) {
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            return 1;
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            return 2;
+        } else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return 4;
+        } else {
+            return 8;
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+        }
+    }
+}
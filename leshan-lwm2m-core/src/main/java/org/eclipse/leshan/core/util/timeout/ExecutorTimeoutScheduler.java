@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.timeout;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A {@link TimeoutScheduler} which schedules timeouts on a {@link ScheduledExecutorService}.
+ * <p>
+ * This is mainly useful to keep using an existing executor, e.g. the one given to constructors which accepted a
+ * {@link ScheduledExecutorService} before {@link TimeoutScheduler} was introduced. The executor is not owned by this
+ * scheduler, so it is never shut down by it.
+ */
+public class ExecutorTimeoutScheduler implements TimeoutScheduler {
+
+    private final ScheduledExecutorService executor;
+
+    public ExecutorTimeoutScheduler(ScheduledExecutorService executor) {
+        Validate.notNull(executor);
+        this.executor = executor;
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        ExecutorTimeout timeout = new ExecutorTimeout(task);
+        try {
+            timeout.future = executor.schedule(timeout, delay, unit);
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("executor is shutdown", e);
+        }
+        return timeout;
+    }
+
+    private static class ExecutorTimeout implements Timeout, Runnable {
+
+        private final Runnable task;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean expired;
+
+        public ExecutorTimeout(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            expired = true;
+            task.run();
+        }
+
+        @Override
+        public boolean cancel() {
+            return !expired && future.cancel(false);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return expired;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return future.getDelay(unit);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.timeout;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link TimeoutScheduler} based on a hashed timing wheel.
+ * <p>
+ * Time is divided in ticks (see {@link Builder#setTickDuration(long, TimeUnit)}) and timeouts are stored in a wheel of
+ * buckets indexed by their expiration tick. Scheduling and cancelling a timeout is done in constant time, without any
+ * lock, which makes it well suited to handle a large number of timeouts which are mostly cancelled before expiration
+ * (like request timeouts).
+ * <p>
+ * The counterpart is that timeouts are not executed at their exact deadline but on the first tick following it, so the
+ * tick duration is the resolution of this scheduler. Expired tasks are executed by a single worker thread which is
+ * started on first scheduled timeout, so tasks should be short and not blocking.
+ * <p>
+ * Timeouts which are still pending when this scheduler is destroyed are never executed.
+ */
+public class HashedWheelTimeoutScheduler implements TimeoutScheduler, Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTimeoutScheduler.class);
+
+    private static final int INIT = 0;
+    private static final int STARTED = 1;
+    private static final int DESTROYED = 2;
+
+    // maximum number of new timeouts added to the wheel by tick, so scheduling can not starve the worker
+    private static final int MAX_TRANSFER_BY_TICK = 100000;
+
+    private final long tickDurationInNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread worker;
+
+    private final AtomicInteger state = new AtomicInteger(INIT);
+    // worker start time, all deadlines are relative to it.
+    private volatile long startTime;
+
+    private final Queue<WheelTimeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+
+    public HashedWheelTimeoutScheduler() {
+        this(new Builder());
+    }
+
+    protected HashedWheelTimeoutScheduler(Builder builder) {
+        this.tickDurationInNanos = builder.tickDurationInNanos;
+        int wheelSize = Integer.highestOneBit(builder.wheelSize - 1) << 1;
+        if (wheelSize == 0) {
+            wheelSize = 1;
+        }
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.worker = builder.threadFactory.newThread(this::run);
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Validate.notNull(task);
+        Validate.notNull(unit);
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        // guard against overflow
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pendingTimeouts.incrementAndGet();
+        scheduledTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return the number of timeouts which are neither expired nor cancelled.
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    private void start() {
+        if (state.get() == STARTED) {
+            return;
+        }
+        synchronized (this) {
+            switch (state.get()) {
+            case INIT:
+                startTime = System.nanoTime();
+                state.set(STARTED);
+                worker.start();
+                break;
+            case STARTED:
+                break;
+            default:
+                throw new IllegalStateException("Timeout scheduler is destroyed");
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (state.getAndSet(DESTROYED) != STARTED) {
+                return;
+            }
+        }
+        worker.interrupt();
+        try {
+            worker.join(5000);
+        } catch (InterruptedException e) {
+            LOG.warn("Destroying HashedWheelTimeoutScheduler was interrupted.", e);
+        }
+    }
+
+    private void run() {
+        long tick = 0;
+        while (state.get() == STARTED) {
+            long deadline = waitForNextTick(tick);
+            if (deadline < 0) {
+                // destroyed
+                return;
+            }
+            removeCancelledTimeouts();
+            transferScheduledTimeouts(tick);
+            wheel[(int) (tick & mask)].expireTimeouts();
+            tick++;
+        }
+    }
+
+    /**
+     * Waits for the end of the given tick.
+     *
+     * @return the current time relative to {@link #startTime} or <code>-1</code> if the scheduler is destroyed.
+     */
+    private long waitForNextTick(long tick) {
+        long deadline = tickDurationInNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepTimeInMs = (deadline - currentTime + 999999) / 1000000;
+            if (sleepTimeInMs <= 0) {
+                return currentTime;
+            }
+            try {
+                Thread.sleep(sleepTimeInMs);
+            } catch (InterruptedException e) {
+                if (state.get() == DESTROYED) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferScheduledTimeouts(long tick) {
+        for (int i = 0; i < MAX_TRANSFER_BY_TICK; i++) {
+            WheelTimeout timeout = scheduledTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expirationTick = timeout.deadline / tickDurationInNanos;
+            timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+            // timeout already expired are executed on current tick
+            long ticks = Math.max(expirationTick, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            // timeout not yet in the wheel will be ignored on transfer
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private static final class WheelTimeout implements Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(WheelTimeout.class, "state");
+
+        private final HashedWheelTimeoutScheduler scheduler;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // only accessed by worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTimeout next;
+        private WheelTimeout previous;
+
+        private WheelTimeout(HashedWheelTimeoutScheduler scheduler, Runnable task, long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            // removal from the wheel is done by the worker thread
+            scheduler.pendingTimeouts.decrementAndGet();
+            scheduler.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - scheduler.startTime), TimeUnit.NANOSECONDS);
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            scheduler.pendingTimeouts.decrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOG.warn("Unexpected exception raised by timeout task {}", task, e);
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private WheelTimeout head;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            timeout.next = head;
+            if (head != null) {
+                head.previous = timeout;
+            }
+            head = timeout;
+        }
+
+        private WheelTimeout remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.bucket != this) {
+                // already removed
+                return next;
+            }
+            if (timeout.previous != null) {
+                timeout.previous.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.previous = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        private void expireTimeouts() {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next;
+                if (timeout.remainingRounds <= 0) {
+                    next = remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    next = remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                    next = timeout.next;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /* *************** Builder **************** */
+
+    public static class Builder {
+
+        private long tickDurationInNanos = TimeUnit.MILLISECONDS.toNanos(10);
+        private int wheelSize = 512;
+        private ThreadFactory threadFactory = new NamedThreadFactory("Leshan Timeout Scheduler");
+
+        /**
+         * Set the duration of a tick, this is the resolution of the scheduler : a timeout is executed on the first tick
+         * following its deadline. A smaller value gives more accurate timeouts but wakes up the worker thread more
+         * often.
+         * <p>
+         * Default value is {@literal 10} milliseconds.
+         */
+        public Builder setTickDuration(long tickDuration, TimeUnit unit) {
+            Validate.notNull(unit);
+            Validate.isTrue(unit.toMillis(tickDuration) >= 1, "tick duration must be at least 1 millisecond");
+            this.tickDurationInNanos = unit.toNanos(tickDuration);
+            return this;
+        }
+
+        /**
+         * Set the number of buckets of the wheel. Timeouts with a delay longer than a wheel round (tick duration x
+         * wheel size) stay in their bucket for several rounds. This value is rounded up to a power of 2.
+         * <p>
+         * Default value is {@literal 512}.
+         */
+        public Builder setWheelSize(int wheelSize) {
+            Validate.isTrue(wheelSize > 0 && wheelSize <= (1 << 30), "wheel size must be between 1 and 2^30");
+            this.wheelSize = wheelSize;
+            return this;
+        }
+
+        /**
+         * Set the thread factory used to create the worker thread which executes expired timeouts.
+         */
+        public Builder setThreadFactory(ThreadFactory threadFactory) {
+            Validate.notNull(threadFactory);
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        public HashedWheelTimeoutScheduler build() {
+            return new HashedWheelTimeoutScheduler(this);
+        }
+    }
+}
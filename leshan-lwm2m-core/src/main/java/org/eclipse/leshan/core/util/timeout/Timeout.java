@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.timeout;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A handle on a task scheduled by a {@link TimeoutScheduler}.
+ */
+public interface Timeout {
+
+    /**
+     * Cancels this timeout, its task will not be executed.
+     *
+     * @return <code>true</code> if the timeout was cancelled, <code>false</code> if it was already expired or
+     *         cancelled.
+     */
+    boolean cancel();
+
+    /**
+     * @return <code>true</code> if this timeout was cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * @return <code>true</code> if this timeout expired, meaning its task was executed or is being executed.
+     */
+    boolean isExpired();
+
+    /**
+     * @param unit the unit of the returned delay.
+     * @return the remaining delay before the deadline of this timeout, zero or negative if the deadline is elapsed.
+     */
+    long getDelay(TimeUnit unit);
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.timeout;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scheduler of timeout tasks, e.g. used by endpoints to raise a response timeout when no response is received for a
+ * request.
+ * <p>
+ * Most of scheduled timeouts are expected to be cancelled before expiration, so implementations should make scheduling
+ * and cancellation as cheap as possible. A same instance can be shared by several endpoints.
+ *
+ * @see HashedWheelTimeoutScheduler
+ * @see ExecutorTimeoutScheduler
+ */
+public interface TimeoutScheduler {
+
+    /**
+     * Schedules a task to be executed once the given delay expires.
+     *
+     * @param task the task to execute on expiration, it should be short and not blocking.
+     * @param delay the delay after which the task is executed.
+     * @param unit the unit of the delay.
+     * @return a handle which can be used to cancel the timeout.
+     * @throws IllegalStateException if the scheduler is destroyed.
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+}
@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.eclipse.leshan.senml;
 
+import java.nio.ByteBuffer;
+
 /**
  * A decoder for SenML format.
  *
@@ -23,4 +25,15 @@ package org.eclipse.leshan.senml;
 public interface SenMLDecoder {
 
     SenMLPack fromSenML(byte[] encodedSenML) throws SenMLException;
+
+    /**
+     * Decode the bytes between position and limit of a {@link ByteBuffer}. The position of the buffer is not modified.
+     * <p>
+     * Default implementation copies the content in a byte array and calls {@link #fromSenML(byte[])}.
+     */
+    default SenMLPack fromSenML(ByteBuffer encodedSenML) throws SenMLException {
+        byte[] bytes = new byte[encodedSenML.remaining()];
+        encodedSenML.duplicate().get(bytes);
+        return fromSenML(bytes);
+    }
 }
@@ -15,6 +15,9 @@
  *******************************************************************************/
 package org.eclipse.leshan.senml;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * An encoder for SenML format.
  *
@@ -24,4 +27,20 @@ public interface SenMLEncoder {
 
     public byte[] toSenML(SenMLPack pack) throws SenMLException;
 
+    /**
+     * Encode a pack into the given {@link OutputStream}. The stream is not closed.
+     * <p>
+     * Default implementation writes the result of {@link #toSenML(SenMLPack)}.
+     */
+    public default void toSenML(SenMLPack pack, OutputStream out) throws SenMLException {
+        byte[] encoded = toSenML(pack);
+        if (encoded == null)
+            return;
+        try {
+            out.write(encoded);
+        } catch (IOException e) {
+            throw new SenMLException("Unable to write SenML pack.", e);
+        }
+    }
+
 }
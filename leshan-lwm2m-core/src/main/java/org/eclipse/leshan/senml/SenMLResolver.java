@@ -27,6 +27,8 @@ import org.eclipse.leshan.core.util.TimestampUtil;
  */
 public abstract class SenMLResolver<T extends ResolvedSenMLRecord> {
 
+    private static final BigDecimal RELATIVE_TIME_LIMIT = BigDecimal.valueOf(268_435_456);
+
     private BigDecimal currentTimestampInSeconds = TimestampUtil.fromInstant(Instant.now());
     private String currentBasename = null;
     private BigDecimal currentBasetime = null;
@@ -48,12 +50,18 @@ public abstract class SenMLResolver<T extends ResolvedSenMLRecord> {
             currentBasetime = record.getBaseTime();
         if (currentBasetime != null || record.getTime() != null) {
             BigDecimal basetime = currentBasetime != null ? currentBasetime : BigDecimal.ZERO;
-            resolvedTimestamp = record.getTime() != null ? basetime.add(record.getTime()) : basetime;
+            if (record.getTime() == null) {
+                resolvedTimestamp = basetime;
+            } else if (currentBasetime == null) {
+                resolvedTimestamp = record.getTime();
+            } else {
+                resolvedTimestamp = basetime.add(record.getTime());
+            }
 
             // Values less than 268,435,456 (2**28) represent time relative to the current time.
             // A negative value indicates seconds in the past from roughly "now".
             // Positive values up to 2**28 indicate seconds in the future from "now".
-            if (resolvedTimestamp.compareTo(BigDecimal.valueOf(268_435_456)) < 0) {
+            if (resolvedTimestamp.compareTo(RELATIVE_TIME_LIMIT) < 0) {
                 resolvedTimestamp = currentTimestampInSeconds.add(resolvedTimestamp);
             }
             // else
@@ -0,0 +1,485 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.senml.cbor.streaming;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.leshan.core.util.datatype.NumberUtil;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.senml.SenMLException;
+
+/**
+ * A minimal CBOR (<a href="https://datatracker.ietf.org/doc/html/rfc8949">RFC8949</a>) pull reader working directly on
+ * a byte array.
+ * <p>
+ * {@link #readHeader()} reads the initial byte of the next data item and its argument, then the content is consumed by
+ * one of the <code>read*</code> methods or by {@link #skip()}.
+ */
+class CborReader {
+
+    static final int UNSIGNED_INTEGER = 0;
+    static final int NEGATIVE_INTEGER = 1;
+    static final int BYTE_STRING = 2;
+    static final int TEXT_STRING = 3;
+    static final int ARRAY = 4;
+    static final int MAP = 5;
+    static final int TAG = 6;
+    static final int SIMPLE = 7;
+
+    private static final int TAG_POSITIVE_BIGNUM = 2;
+    private static final int TAG_NEGATIVE_BIGNUM = 3;
+    private static final int TAG_DECIMAL_FRACTION = 4;
+    private static final int TAG_BIGFLOAT = 5;
+
+    private static final int MAX_DEPTH = 64;
+    private static final int MAX_BIGFLOAT_EXPONENT = 1100;
+
+    private final byte[] data;
+    private final int offset;
+    private final int end;
+    private int pos;
+
+    // current header
+    private int majorType;
+    private int additionalInfo;
+    private long argument;
+
+    CborReader(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    /**
+     * Read <code>length</code> bytes of <code>data</code> starting at <code>offset</code>, without copying them.
+     */
+    CborReader(byte[] data, int offset, int length) {
+        this.data = data;
+        this.offset = offset;
+        this.end = offset + length;
+        this.pos = offset;
+    }
+
+    boolean hasRemaining() {
+        return pos < end;
+    }
+
+    int remaining() {
+        return end - pos;
+    }
+
+    /**
+     * Read initial byte and argument of next data item.
+     */
+    void readHeader() throws SenMLException {
+        int initialByte = readByte();
+        majorType = initialByte >>> 5;
+        additionalInfo = initialByte & 0x1f;
+        if (additionalInfo < 24) {
+            argument = additionalInfo;
+        } else if (additionalInfo == 24) {
+            argument = readByte();
+        } else if (additionalInfo == 25) {
+            argument = readUnsigned(2);
+        } else if (additionalInfo == 26) {
+            argument = readUnsigned(4);
+        } else if (additionalInfo == 27) {
+            argument = readUnsigned(8);
+        } else if (additionalInfo == 31 && majorType != UNSIGNED_INTEGER && majorType != NEGATIVE_INTEGER
+                && majorType != TAG) {
+            // indefinite length or break
+            argument = 0;
+        } else {
+            throw new SenMLException("Invalid CBOR: unexpected additional information %d for major type %d at %d",
+                    additionalInfo, majorType, pos - offset - 1);
+        }
+    }
+
+    int getMajorType() {
+        return majorType;
+    }
+
+    boolean isIndefiniteLength() {
+        return additionalInfo == 31 && majorType != SIMPLE;
+    }
+
+    boolean isBreak() {
+        return additionalInfo == 31 && majorType == SIMPLE;
+    }
+
+    /**
+     * @return the length of current definite length array, map or string.
+     */
+    int getLength() throws SenMLException {
+        if (argument < 0 || argument > Integer.MAX_VALUE) {
+            throw new SenMLException("Invalid CBOR: length %d is too large", argument);
+        }
+        return (int) argument;
+    }
+
+    /**
+     * @return the value of current integer data item if it fits in an int, else <code>null</code>.
+     */
+    Integer getIntegerKey() {
+        if (majorType == UNSIGNED_INTEGER && argument >= 0 && argument <= Integer.MAX_VALUE) {
+            return (int) argument;
+        } else if (majorType == NEGATIVE_INTEGER && argument >= 0 && argument <= Integer.MAX_VALUE) {
+            return (int) (-1 - argument);
+        }
+        return null;
+    }
+
+    /**
+     * Skip tags preceding a data item and read its header.
+     */
+    void readUntaggedHeader() throws SenMLException {
+        readHeader();
+        while (majorType == TAG) {
+            readHeader();
+        }
+    }
+
+    String readText(String fieldName) throws SenMLException {
+        readUntaggedHeader();
+        if (majorType != TEXT_STRING) {
+            throw new SenMLException("Invalid SenML record : 'string' type was expected but was '%s' for '%s' field",
+                    typeName(), fieldName);
+        }
+        return readCurrentText();
+    }
+
+    /**
+     * Read content of current text string.
+     */
+    String readCurrentText() throws SenMLException {
+        if (isIndefiniteLength()) {
+            return new String(readChunks(TEXT_STRING), StandardCharsets.UTF_8);
+        }
+        int length = getLength();
+        checkRemaining(length);
+        String text = new String(data, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        return text;
+    }
+
+    byte[] readBytes(String fieldName) throws SenMLException {
+        readUntaggedHeader();
+        if (majorType != BYTE_STRING) {
+            throw new SenMLException(
+                    "Invalid SenML record : 'byteString' type was expected but was '%s' for '%s' field", typeName(),
+                    fieldName);
+        }
+        if (isIndefiniteLength()) {
+            return readChunks(BYTE_STRING);
+        }
+        int length = getLength();
+        checkRemaining(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(data, pos, bytes, 0, length);
+        pos += length;
+        return bytes;
+    }
+
+    boolean readBoolean(String fieldName) throws SenMLException {
+        readUntaggedHeader();
+        if (majorType == SIMPLE && additionalInfo == 20) {
+            return false;
+        } else if (majorType == SIMPLE && additionalInfo == 21) {
+            return true;
+        }
+        throw new SenMLException("Invalid SenML record : 'boolean' type was expected but was '%s' for '%s' field",
+                typeName(), fieldName);
+    }
+
+    /**
+     * Read a number.
+     * <p>
+     * Integers are returned as {@link Long}, {@link ULong} or {@link BigInteger}. Floating-point numbers are returned
+     * as {@link Double} or as {@link BigDecimal} if value can not be represented exactly by a double.
+     */
+    Number readNumber(String fieldName) throws SenMLException {
+        return readNumber(fieldName, true);
+    }
+
+    /**
+     * Read a number as a {@link BigDecimal}, decimal fractions are kept as is.
+     */
+    BigDecimal readDecimal(String fieldName) throws SenMLException {
+        Number number = readNumber(fieldName, false);
+        if (number instanceof Double && (((Double) number).isNaN() || ((Double) number).isInfinite())) {
+            throw new SenMLException("Invalid SenML record : finite number was expected for '%s' field", fieldName);
+        }
+        return NumberUtil.numberToBigDecimal(number);
+    }
+
+    private Number readNumber(String fieldName, boolean toDoubleIfExact) throws SenMLException {
+        readHeader();
+        switch (majorType) {
+        case UNSIGNED_INTEGER:
+        case NEGATIVE_INTEGER:
+            return integerValue();
+        case SIMPLE:
+            if (additionalInfo == 25) {
+                return halfToDouble((int) argument);
+            } else if (additionalInfo == 26) {
+                return (double) Float.intBitsToFloat((int) argument);
+            } else if (additionalInfo == 27) {
+                return Double.longBitsToDouble(argument);
+            }
+            break;
+        case TAG:
+            if (argument == TAG_POSITIVE_BIGNUM || argument == TAG_NEGATIVE_BIGNUM) {
+                return normalizeInteger(readBignum(argument == TAG_NEGATIVE_BIGNUM, fieldName));
+            } else if (argument == TAG_DECIMAL_FRACTION || argument == TAG_BIGFLOAT) {
+                BigDecimal decimal = readFraction(argument == TAG_BIGFLOAT, fieldName);
+                return toDoubleIfExact ? toDoubleIfExact(decimal) : decimal;
+            }
+            break;
+        default:
+            break;
+        }
+        throw new SenMLException("Invalid SenML record : number was expected for '%s' field", fieldName);
+    }
+
+    /**
+     * Skip content of current data item, its header must already be read.
+     */
+    void skip() throws SenMLException {
+        skip(0);
+    }
+
+    private void skip(int depth) throws SenMLException {
+        if (depth > MAX_DEPTH) {
+            throw new SenMLException("Invalid CBOR: too many nested data items");
+        }
+        switch (majorType) {
+        case BYTE_STRING:
+        case TEXT_STRING:
+            if (isIndefiniteLength()) {
+                readChunks(majorType);
+            } else {
+                int length = getLength();
+                checkRemaining(length);
+                pos += length;
+            }
+            break;
+        case ARRAY:
+        case MAP:
+            boolean indefinite = isIndefiniteLength();
+            long items = majorType == MAP ? argument * 2 : argument;
+            for (long i = 0; indefinite || i < items; i++) {
+                readHeader();
+                if (indefinite && isBreak()) {
+                    break;
+                }
+                skip(depth + 1);
+            }
+            break;
+        case TAG:
+            readHeader();
+            skip(depth + 1);
+            break;
+        default:
+            // integer and simple values have no content
+            break;
+        }
+    }
+
+    String typeName() {
+        switch (majorType) {
+        case UNSIGNED_INTEGER:
+        case NEGATIVE_INTEGER:
+            return "Integer";
+        case BYTE_STRING:
+            return "ByteString";
+        case TEXT_STRING:
+            return "TextString";
+        case ARRAY:
+            return "Array";
+        case MAP:
+            return "Map";
+        case TAG:
+            return "Tag";
+        default:
+            if (additionalInfo == 20 || additionalInfo == 21) {
+                return "Boolean";
+            } else if (additionalInfo >= 25 && additionalInfo <= 27) {
+                return "FloatingPoint";
+            }
+            return "SimpleValue";
+        }
+    }
+
+    private BigInteger readBignum(boolean negative, String fieldName) throws SenMLException {
+        byte[] magnitude = readBytes(fieldName);
+        BigInteger value = new BigInteger(1, magnitude);
+        return negative ? BigInteger.ONE.negate().subtract(value) : value;
+    }
+
+    private BigDecimal readFraction(boolean bigfloat, String fieldName) throws SenMLException {
+        readHeader();
+        if (majorType != ARRAY || isIndefiniteLength() || argument != 2) {
+            throw new SenMLException("Invalid SenML record : invalid decimal fraction or bigfloat for '%s' field",
+                    fieldName);
+        }
+        // RFC 8949 §3.4.4 : exponent is an integer and mantissa an integer or a bignum, so they are not read with
+        // readNumber which would accept nested fractions.
+        Number exponent = readInteger(fieldName);
+        Number mantissa = readInteger(fieldName);
+        if (!(exponent instanceof Long)) {
+            throw new SenMLException("Invalid SenML record : invalid decimal fraction or bigfloat for '%s' field",
+                    fieldName);
+        }
+        long exp = exponent.longValue();
+        BigInteger unscaled = toBigInteger(mantissa);
+        if (!bigfloat) {
+            if (exp < Integer.MIN_VALUE + 1 || exp > Integer.MAX_VALUE) {
+                throw new SenMLException("Invalid SenML record : decimal fraction exponent too large for '%s' field",
+                        fieldName);
+            }
+            return new BigDecimal(unscaled, (int) -exp);
+        } else {
+            if (Math.abs(exp) > MAX_BIGFLOAT_EXPONENT) {
+                throw new SenMLException("Invalid SenML record : bigfloat exponent too large for '%s' field",
+                        fieldName);
+            }
+            if (exp >= 0) {
+                return new BigDecimal(unscaled.shiftLeft((int) exp));
+            } else {
+                // m * 2^-n == m * 5^n * 10^-n
+                return new BigDecimal(unscaled.multiply(BigInteger.valueOf(5).pow((int) -exp)), (int) -exp);
+            }
+        }
+    }
+
+    /**
+     * Read an integer or a bignum.
+     */
+    private Number readInteger(String fieldName) throws SenMLException {
+        readHeader();
+        switch (majorType) {
+        case UNSIGNED_INTEGER:
+        case NEGATIVE_INTEGER:
+            return integerValue();
+        case TAG:
+            if (argument == TAG_POSITIVE_BIGNUM || argument == TAG_NEGATIVE_BIGNUM) {
+                return normalizeInteger(readBignum(argument == TAG_NEGATIVE_BIGNUM, fieldName));
+            }
+            break;
+        default:
+            break;
+        }
+        throw new SenMLException("Invalid SenML record : invalid decimal fraction or bigfloat for '%s' field",
+                fieldName);
+    }
+
+    /**
+     * @return value of current integer data item, its header must already be read.
+     */
+    private Number integerValue() {
+        if (majorType == UNSIGNED_INTEGER) {
+            return argument >= 0 ? (Number) argument : ULong.valueOf(argument);
+        } else {
+            return argument >= 0 ? (Number) (-1 - argument)
+                    : BigInteger.ONE.negate().subtract(unsignedToBigInteger(argument));
+        }
+    }
+
+    private byte[] readChunks(int chunkMajorType) throws SenMLException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while (true) {
+            readHeader();
+            if (isBreak()) {
+                return out.toByteArray();
+            }
+            if (majorType != chunkMajorType || isIndefiniteLength()) {
+                throw new SenMLException("Invalid CBOR: unexpected chunk in indefinite length string at %d",
+                        pos - offset);
+            }
+            int length = getLength();
+            checkRemaining(length);
+            out.write(data, pos, length);
+            pos += length;
+        }
+    }
+
+    private int readByte() throws SenMLException {
+        checkRemaining(1);
+        return data[pos++] & 0xff;
+    }
+
+    private long readUnsigned(int size) throws SenMLException {
+        checkRemaining(size);
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+            value = (value << 8) | (data[pos++] & 0xff);
+        }
+        return value;
+    }
+
+    private void checkRemaining(int size) throws SenMLException {
+        if (size > end - pos) {
+            throw new SenMLException("Invalid CBOR: unexpected end of data, %d bytes expected at %d", size,
+                    pos - offset);
+        }
+    }
+
+    private static Number normalizeInteger(BigInteger value) {
+        int bitLength = value.bitLength();
+        if (bitLength < 64) {
+            return value.longValue();
+        } else if (bitLength == 64 && value.signum() > 0) {
+            return ULong.valueOf(value.longValue());
+        }
+        return value;
+    }
+
+    private static Number toDoubleIfExact(BigDecimal value) {
+        double doubleValue = value.doubleValue();
+        if (!Double.isInfinite(doubleValue) && new BigDecimal(doubleValue).compareTo(value) == 0) {
+            return doubleValue;
+        }
+        return value;
+    }
+
+    private static BigInteger toBigInteger(Number integer) {
+        if (integer instanceof BigInteger) {
+            return (BigInteger) integer;
+        } else if (integer instanceof ULong) {
+            return ((ULong) integer).toBigInteger();
+        }
+        return BigInteger.valueOf(integer.longValue());
+    }
+
+    private static BigInteger unsignedToBigInteger(long value) {
+        return BigInteger.valueOf(value >>> 1).shiftLeft(1).or(BigInteger.valueOf(value & 1));
+    }
+
+    private static double halfToDouble(int half) {
+        int exponent = (half >>> 10) & 0x1f;
+        int mantissa = half & 0x3ff;
+        double value;
+        if (exponent == 0) {
+            value = mantissa * 0x1p-24;
+        } else if (exponent != 31) {
+            value = (mantissa + 1024) * Math.pow(2, exponent - 25);
+        } else {
+            value = mantissa == 0 ? Double.POSITIVE_INFINITY : Double.NaN;
+        }
+        return (half & 0x8000) != 0 ? -value : value;
+    }
+}
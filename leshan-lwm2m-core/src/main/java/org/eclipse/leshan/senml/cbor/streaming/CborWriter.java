@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.senml.cbor.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A minimal CBOR (<a href="https://datatracker.ietf.org/doc/html/rfc8949">RFC8949</a>) writer to a growable byte array.
+ * <p>
+ * Integers and floating-point numbers are written using their shortest form without losing precision.
+ */
+class CborWriter {
+
+    private static final BigInteger UINT64_LIMIT = BigInteger.ONE.shiftLeft(64);
+
+    private byte[] buffer;
+    private int size;
+
+    CborWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    byte[] toByteArray() {
+        return buffer.length == size ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Write the encoded bytes to <code>out</code>, without copying them in a new array.
+     */
+    void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    void writeArrayHeader(int length) {
+        writeHeader(CborReader.ARRAY, length);
+    }
+
+    void writeMapHeader(int length) {
+        writeHeader(CborReader.MAP, length);
+    }
+
+    void writeLong(long value) {
+        if (value >= 0) {
+            writeHeader(CborReader.UNSIGNED_INTEGER, value);
+        } else {
+            writeHeader(CborReader.NEGATIVE_INTEGER, -1 - value);
+        }
+    }
+
+    void writeUnsignedLong(long value) {
+        writeHeader(CborReader.UNSIGNED_INTEGER, value);
+    }
+
+    void writeBigInteger(BigInteger value) {
+        if (value.bitLength() < 64) {
+            writeLong(value.longValue());
+            return;
+        }
+        boolean negative = value.signum() < 0;
+        // for negative value, -1 - value is encoded
+        BigInteger magnitude = negative ? BigInteger.ONE.negate().subtract(value) : value;
+        if (magnitude.compareTo(UINT64_LIMIT) < 0) {
+            writeHeader(negative ? CborReader.NEGATIVE_INTEGER : CborReader.UNSIGNED_INTEGER, magnitude.longValue());
+        } else {
+            writeHeader(CborReader.TAG, negative ? 3 : 2);
+            byte[] bytes = magnitude.toByteArray();
+            // remove sign byte
+            int offset = bytes[0] == 0 ? 1 : 0;
+            writeHeader(CborReader.BYTE_STRING, bytes.length - offset);
+            writeRaw(bytes, offset, bytes.length - offset);
+        }
+    }
+
+    /**
+     * Write a {@link BigDecimal} as a decimal fraction (tag 4).
+     */
+    void writeBigDecimal(BigDecimal value) {
+        writeHeader(CborReader.TAG, 4);
+        writeArrayHeader(2);
+        writeLong(-(long) value.scale());
+        writeBigInteger(value.unscaledValue());
+    }
+
+    void writeDouble(double value) {
+        float floatValue = (float) value;
+        if (floatValue == value || Double.isNaN(value)) {
+            writeFloat(floatValue);
+        } else {
+            ensureCapacity(9);
+            buffer[size++] = (byte) 0xfb;
+            writeBigEndian(Double.doubleToLongBits(value), 8);
+        }
+    }
+
+    void writeFloat(float value) {
+        int half = toHalfIfExact(value);
+        if (half >= 0) {
+            ensureCapacity(3);
+            buffer[size++] = (byte) 0xf9;
+            writeBigEndian(half, 2);
+        } else {
+            ensureCapacity(5);
+            buffer[size++] = (byte) 0xfa;
+            writeBigEndian(Float.floatToIntBits(value), 4);
+        }
+    }
+
+    void writeBoolean(boolean value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) (value ? 0xf5 : 0xf4);
+    }
+
+    void writeBytes(byte[] value) {
+        writeHeader(CborReader.BYTE_STRING, value.length);
+        writeRaw(value, 0, value.length);
+    }
+
+    void writeText(String value) {
+        int length = value.length();
+        int utf8Length = utf8Length(value);
+        writeHeader(CborReader.TEXT_STRING, utf8Length);
+        ensureCapacity(utf8Length);
+        if (utf8Length == length) {
+            // ASCII only
+            for (int i = 0; i < length; i++) {
+                buffer[size++] = (byte) value.charAt(i);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                int c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[size++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[size++] = (byte) (0xc0 | (c >> 6));
+                    buffer[size++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate((char) c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint((char) c, value.charAt(++i));
+                    buffer[size++] = (byte) (0xf0 | (codePoint >> 18));
+                    buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    buffer[size++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else if (Character.isSurrogate((char) c)) {
+                    // unpaired surrogate, replaced like String.getBytes() does
+                    buffer[size++] = (byte) '?';
+                } else {
+                    buffer[size++] = (byte) (0xe0 | (c >> 12));
+                    buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    buffer[size++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+        }
+    }
+
+    private void writeHeader(int majorType, long argument) {
+        ensureCapacity(9);
+        int type = majorType << 5;
+        if (argument >= 0 && argument < 24) {
+            buffer[size++] = (byte) (type | (int) argument);
+        } else if (argument >= 0 && argument <= 0xffL) {
+            buffer[size++] = (byte) (type | 24);
+            buffer[size++] = (byte) argument;
+        } else if (argument >= 0 && argument <= 0xffffL) {
+            buffer[size++] = (byte) (type | 25);
+            writeBigEndian(argument, 2);
+        } else if (argument >= 0 && argument <= 0xffffffffL) {
+            buffer[size++] = (byte) (type | 26);
+            writeBigEndian(argument, 4);
+        } else {
+            // argument is handled as an unsigned 64 bits integer
+            buffer[size++] = (byte) (type | 27);
+            writeBigEndian(argument, 8);
+        }
+    }
+
+    private void writeBigEndian(long value, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            buffer[size++] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private void writeRaw(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+
+    static int utf8Length(String value) {
+        int length = value.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    utf8Length += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // 4 bytes for 2 chars
+                    utf8Length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    utf8Length += 2;
+                }
+            }
+        }
+        return utf8Length;
+    }
+
+    /**
+     * @return the IEEE 754 half-precision representation of the value if it is exact, else <code>-1</code>.
+     */
+    private static int toHalfIfExact(float value) {
+        int bits = Float.floatToIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xff;
+        int mantissa = bits & 0x7fffff;
+
+        if (exponent == 0xff) {
+            // infinity or canonical NaN
+            return mantissa == 0 ? sign | 0x7c00 : 0x7e00;
+        }
+        if (exponent == 0) {
+            // zero, float subnormal values are too small for half-precision
+            return mantissa == 0 ? sign : -1;
+        }
+        int e = exponent - 127;
+        if (e > 15 || e < -24) {
+            return -1;
+        }
+        if (e >= -14) {
+            // normal half-precision value
+            return (mantissa & 0x1fff) == 0 ? sign | ((e + 15) << 10) | (mantissa >>> 13) : -1;
+        }
+        // subnormal half-precision value
+        int significand = mantissa | 0x800000;
+        int shift = -1 - e;
+        return (significand & ((1 << shift) - 1)) == 0 ? sign | (significand >>> shift) : -1;
+    }
+}
@@ -0,0 +1,374 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.senml.cbor.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.senml.SenMLDecoder;
+import org.eclipse.leshan.senml.SenMLEncoder;
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLPack;
+import org.eclipse.leshan.senml.SenMLRecord;
+import org.eclipse.leshan.senml.SenMLRecord.Type;
+
+/**
+ * Helper for encoding/decoding SenML CBOR without any CBOR library.
+ * <p>
+ * Records are read directly from the CBOR byte array and written to a pre-sized output buffer, without building an
+ * intermediate tree of CBOR objects like {@code SenMLCborUpokecenterEncoderDecoder} does. Decoded records and encoded
+ * bytes are the same than the ones of {@code SenMLCborUpokecenterEncoderDecoder}.
+ */
+public class SenMLCborStreamingEncoderDecoder implements SenMLDecoder, SenMLEncoder {
+
+    // SenML CBOR labels (https://datatracker.ietf.org/doc/html/rfc8428#section-6)
+    private static final int BASE_NAME = -2;
+    private static final int BASE_TIME = -3;
+    private static final int NAME = 0;
+    private static final int TIME = 6;
+    private static final int VALUE = 2;
+    private static final int STRING_VALUE = 3;
+    private static final int BOOLEAN_VALUE = 4;
+    private static final int DATA_VALUE = 8;
+    // LWM2M specific label (see LWM2M-v1.1-Core 7.4.5 SenML CBOR)
+    private static final String OBJLNK_VALUE = "vlo";
+
+    private final boolean keepingInsertionOrder;
+    private final boolean allowNoValue;
+
+    public SenMLCborStreamingEncoderDecoder() {
+        this(false, false);
+    }
+
+    /**
+     * Create an Encoder/Decoder for SenML-CBOR.
+     * <p>
+     * SenML value is defined as mandatory in <a href="https://tools.ietf.org/html/rfc8428#section-4.2">rfc8428</a>, but
+     * SenML records used with a Read-Composite operation do not contain any value field, so
+     * <code>allowNoValue=true</code> can be used skip this validation.
+     *
+     * @param keepingInsertionOrder <code>True</code> to write record fields in SenML order (base name, base time, name,
+     *        time, value) instead of CBOR canonical order.
+     * @param allowNoValue <code>True</code> to not check if there is a value for each SenML record.
+     */
+    public SenMLCborStreamingEncoderDecoder(boolean keepingInsertionOrder, boolean allowNoValue) {
+        this.keepingInsertionOrder = keepingInsertionOrder;
+        this.allowNoValue = allowNoValue;
+    }
+
+    @Override
+    public byte[] toSenML(SenMLPack pack) throws SenMLException {
+        if (pack == null)
+            return null;
+
+        return write(pack).toByteArray();
+    }
+
+    @Override
+    public void toSenML(SenMLPack pack, OutputStream out) throws SenMLException {
+        if (pack == null)
+            return;
+
+        try {
+            write(pack).writeTo(out);
+        } catch (IOException e) {
+            throw new SenMLException("Unable to write SenML CBOR.", e);
+        }
+    }
+
+    private CborWriter write(SenMLPack pack) throws SenMLException {
+        List<SenMLRecord> records = pack.getRecords();
+        CborWriter writer = new CborWriter(estimateSize(records));
+        writer.writeArrayHeader(records.size());
+        for (SenMLRecord record : records) {
+            writeRecord(writer, record);
+        }
+        return writer;
+    }
+
+    private int estimateSize(List<SenMLRecord> records) {
+        // ~ 16 bytes for map header, keys, numbers and string headers + content of strings
+        int size = 9;
+        for (SenMLRecord record : records) {
+            size += 16 + length(record.getBaseName()) + length(record.getName()) + length(record.getStringValue())
+                    + length(record.getObjectLinkValue());
+            if (record.getOpaqueValue() != null) {
+                size += record.getOpaqueValue().length;
+            }
+            if (record.getBaseTime() != null || record.getTime() != null) {
+                size += 20;
+            }
+        }
+        return size;
+    }
+
+    private int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private void writeRecord(CborWriter writer, SenMLRecord record) throws SenMLException {
+        boolean hasBaseName = record.getBaseName() != null && !record.getBaseName().isEmpty();
+        boolean hasName = record.getName() != null && !record.getName().isEmpty();
+        Type type = record.getType();
+        if (type == null && !allowNoValue) {
+            throw new SenMLException("Invalid SenML record : record must have a value (v,vb,vlo,vd,vs) : %s", record);
+        }
+
+        int fieldCount = (hasBaseName ? 1 : 0) + (record.getBaseTime() != null ? 1 : 0) + (hasName ? 1 : 0)
+                + (record.getTime() != null ? 1 : 0) + (type != null ? 1 : 0);
+        writer.writeMapHeader(fieldCount);
+
+        if (keepingInsertionOrder) {
+            if (hasBaseName) {
+                writer.writeLong(BASE_NAME);
+                writer.writeText(record.getBaseName());
+            }
+            if (record.getBaseTime() != null) {
+                writer.writeLong(BASE_TIME);
+                writer.writeBigDecimal(record.getBaseTime());
+            }
+            if (hasName) {
+                writer.writeLong(NAME);
+                writer.writeText(record.getName());
+            }
+            if (record.getTime() != null) {
+                writer.writeLong(TIME);
+                writer.writeBigDecimal(record.getTime());
+            }
+            writeValue(writer, record);
+        } else {
+            // canonical order : keys sorted by their encoded bytes, so n(0), v(2), vs(3), vb(4), t(6), vd(8), bn(-2),
+            // bt(-3) and vlo
+            if (hasName) {
+                writer.writeLong(NAME);
+                writer.writeText(record.getName());
+            }
+            if (type == Type.NUMBER || type == Type.STRING || type == Type.BOOLEAN) {
+                writeValue(writer, record);
+            }
+            if (record.getTime() != null) {
+                writer.writeLong(TIME);
+                writer.writeBigDecimal(record.getTime());
+            }
+            if (type == Type.OPAQUE) {
+                writeValue(writer, record);
+            }
+            if (hasBaseName) {
+                writer.writeLong(BASE_NAME);
+                writer.writeText(record.getBaseName());
+            }
+            if (record.getBaseTime() != null) {
+                writer.writeLong(BASE_TIME);
+                writer.writeBigDecimal(record.getBaseTime());
+            }
+            if (type == Type.OBJLNK) {
+                writeValue(writer, record);
+            }
+        }
+    }
+
+    private void writeValue(CborWriter writer, SenMLRecord record) throws SenMLException {
+        if (record.getType() == null) {
+            return;
+        }
+        switch (record.getType()) {
+        case NUMBER:
+            writer.writeLong(VALUE);
+            writeNumber(writer, record.getNumberValue());
+            break;
+        case BOOLEAN:
+            writer.writeLong(BOOLEAN_VALUE);
+            writer.writeBoolean(record.getBooleanValue());
+            break;
+        case OBJLNK:
+            writer.writeText(OBJLNK_VALUE);
+            writer.writeText(record.getObjectLinkValue());
+            break;
+        case OPAQUE:
+            writer.writeLong(DATA_VALUE);
+            writer.writeBytes(record.getOpaqueValue());
+            break;
+        case STRING:
+            writer.writeLong(STRING_VALUE);
+            writer.writeText(record.getStringValue());
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void writeNumber(CborWriter writer, Number value) throws SenMLException {
+        // integer
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            writer.writeLong(value.longValue());
+        } else if (value instanceof BigInteger) {
+            writer.writeBigInteger((BigInteger) value);
+        }
+        // unsigned integer
+        else if (value instanceof ULong) {
+            writer.writeUnsignedLong(value.longValue());
+        }
+        // floating-point
+        else if (value instanceof Float) {
+            writer.writeFloat(value.floatValue());
+        } else if (value instanceof Double) {
+            writer.writeDouble(value.doubleValue());
+        } else if (value instanceof BigDecimal) {
+            writer.writeBigDecimal((BigDecimal) value);
+        } else {
+            throw new SenMLException("Unable to serialize SenML in CBOR : unsupported number type %s",
+                    value.getClass().getName());
+        }
+    }
+
+    @Override
+    public SenMLPack fromSenML(byte[] data) throws SenMLException {
+        // handle empty payload
+        if (data == null || data.length == 0) {
+            return new SenMLPack();
+        }
+        return read(new CborReader(data));
+    }
+
+    @Override
+    public SenMLPack fromSenML(ByteBuffer data) throws SenMLException {
+        // handle empty payload
+        if (data == null || !data.hasRemaining()) {
+            return new SenMLPack();
+        }
+        if (!data.hasArray()) {
+            return SenMLDecoder.super.fromSenML(data);
+        }
+        // read backing array directly, without copy
+        return read(new CborReader(data.array(), data.arrayOffset() + data.position(), data.remaining()));
+    }
+
+    private SenMLPack read(CborReader reader) throws SenMLException {
+        reader.readUntaggedHeader();
+        if (reader.getMajorType() != CborReader.ARRAY) {
+            throw new SenMLException("Unable to parse SenML CBOR: Array expected but was %s", reader.typeName());
+        }
+
+        boolean indefinite = reader.isIndefiniteLength();
+        int count = indefinite ? -1 : reader.getLength();
+        // each record needs at least 1 byte, do not trust announced length for pre-allocation
+        List<SenMLRecord> records = new ArrayList<>(indefinite ? 10 : Math.min(count, reader.remaining()));
+        for (int i = 0; indefinite || i < count; i++) {
+            reader.readUntaggedHeader();
+            if (indefinite && reader.isBreak()) {
+                break;
+            }
+            if (reader.getMajorType() != CborReader.MAP) {
+                throw new SenMLException("Unable to parse SenML CBOR: Map expected but was %s", reader.typeName());
+            }
+            records.add(readRecord(reader));
+        }
+        if (reader.hasRemaining()) {
+            throw new SenMLException("Unable to parse SenML CBOR: unexpected data after SenML pack");
+        }
+        return new SenMLPack(records);
+    }
+
+    /**
+     * Read a record, header of the record map must already be read.
+     */
+    private SenMLRecord readRecord(CborReader reader) throws SenMLException {
+        String recordBaseName = null;
+        BigDecimal recordBaseTime = null;
+        String recordName = null;
+        BigDecimal recordTime = null;
+        Number recordNumberValue = null;
+        Boolean recordBooleanValue = null;
+        String recordStringValue = null;
+        String recordObjectLinkValue = null;
+        byte[] recordOpaqueValue = null;
+
+        boolean indefinite = reader.isIndefiniteLength();
+        int count = indefinite ? -1 : reader.getLength();
+        for (int i = 0; indefinite || i < count; i++) {
+            reader.readHeader();
+            if (indefinite && reader.isBreak()) {
+                break;
+            }
+
+            // read key
+            Integer label = reader.getIntegerKey();
+            boolean objectLinkLabel = false;
+            if (label == null) {
+                if (reader.getMajorType() == CborReader.TEXT_STRING) {
+                    objectLinkLabel = OBJLNK_VALUE.equals(reader.readCurrentText());
+                } else {
+                    reader.skip();
+                }
+            }
+
+            // read value
+            if (objectLinkLabel) {
+                recordObjectLinkValue = reader.readText(OBJLNK_VALUE);
+            } else if (label == null) {
+                reader.readHeader();
+                reader.skip();
+            } else {
+                switch (label) {
+                case BASE_NAME:
+                    recordBaseName = reader.readText("bn");
+                    break;
+                case BASE_TIME:
+                    recordBaseTime = reader.readDecimal("bt");
+                    break;
+                case NAME:
+                    recordName = reader.readText("n");
+                    break;
+                case TIME:
+                    recordTime = reader.readDecimal("t");
+                    break;
+                case VALUE:
+                    recordNumberValue = reader.readNumber("v");
+                    break;
+                case BOOLEAN_VALUE:
+                    recordBooleanValue = reader.readBoolean("vb");
+                    break;
+                case STRING_VALUE:
+                    recordStringValue = reader.readText("vs");
+                    break;
+                case DATA_VALUE:
+                    recordOpaqueValue = reader.readBytes("vd");
+                    break;
+                default:
+                    // unknown label
+                    reader.readHeader();
+                    reader.skip();
+                    break;
+                }
+            }
+        }
+
+        SenMLRecord record = new SenMLRecord(recordBaseName, recordBaseTime, recordName, recordTime, recordNumberValue,
+                recordBooleanValue, recordObjectLinkValue, recordStringValue, recordOpaqueValue);
+        if (!allowNoValue && record.getType() == null) {
+            throw new SenMLException(
+                    "Invalid SenML record: record must have a value, meaning one of those field must be present v(number:2), vb(number:4), vlo(string:vlo) ,vd(number:8) or vs(number:3): %s",
+                    record);
+        }
+        return record;
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.leshan.senml.json.jackson;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.eclipse.leshan.core.util.base64.Base64Decoder;
 import org.eclipse.leshan.core.util.base64.Base64Encoder;
@@ -101,14 +102,38 @@ public class SenMLJsonJacksonEncoderDecoder implements SenMLDecoder, SenMLEncode
                 return new SenMLPack();
             }
 
-            JsonNode node = mapper.readTree(jsonString);
-            if (!node.isArray()) {
-                throw new SenMLException("Unable to parse SenML JSON: JsonArray expected but was %s",
-                        node.getNodeType());
+            return read(mapper.readTree(jsonString));
+        } catch (IOException e) {
+            throw new SenMLException("Unable to parse SenML JSON.", e);
+        }
+    }
+
+    @Override
+    public SenMLPack fromSenML(ByteBuffer jsonString) throws SenMLException {
+        try {
+            // handle empty payload
+            if (jsonString == null || !jsonString.hasRemaining()) {
+                return new SenMLPack();
             }
-            return new SenMLPack(serDes.deserialize(node.iterator()));
+            if (!jsonString.hasArray()) {
+                return SenMLDecoder.super.fromSenML(jsonString);
+            }
+
+            // parse backing array directly, without copy
+            return read(mapper.readTree(jsonString.array(), jsonString.arrayOffset() + jsonString.position(),
+                    jsonString.remaining()));
+        } catch (IOException e) {
+            throw new SenMLException("Unable to parse SenML JSON.", e);
+        }
+    }
 
-        } catch (JsonException | IOException e) {
+    private SenMLPack read(JsonNode node) throws SenMLException {
+        if (!node.isArray()) {
+            throw new SenMLException("Unable to parse SenML JSON: JsonArray expected but was %s", node.getNodeType());
+        }
+        try {
+            return new SenMLPack(serDes.deserialize(node.iterator()));
+        } catch (JsonException e) {
             throw new SenMLException("Unable to parse SenML JSON.", e);
         }
     }
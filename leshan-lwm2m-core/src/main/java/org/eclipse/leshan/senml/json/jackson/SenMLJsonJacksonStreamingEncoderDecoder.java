@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.senml.json.jackson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.leshan.core.util.base64.Base64Decoder;
+import org.eclipse.leshan.core.util.base64.Base64Encoder;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Decoder;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Decoder.DecoderAlphabet;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Decoder.DecoderPadding;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Encoder;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Encoder.EncoderAlphabet;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Encoder.EncoderPadding;
+import org.eclipse.leshan.core.util.base64.InvalidBase64Exception;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.senml.SenMLDecoder;
+import org.eclipse.leshan.senml.SenMLEncoder;
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLPack;
+import org.eclipse.leshan.senml.SenMLRecord;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Helper for encoding/decoding SenML JSON using Jackson streaming API.
+ * <p>
+ * Unlike {@link SenMLJsonJacksonEncoderDecoder}, no intermediate {@code JsonNode} tree is created : records are read
+ * from a {@link JsonParser} and written to a {@link JsonGenerator} directly. This reduces allocations for large
+ * payloads like Send requests with many timestamped records.
+ * <p>
+ * Both implementations produce same {@link SenMLPack}, so this one can be used instead of the default one, e.g. :
+ *
+ * <pre>
+ * decoders.put(ContentFormat.SENML_JSON,
+ *         new LwM2mNodeSenMLDecoder(new SenMLJsonJacksonStreamingEncoderDecoder(), true));
+ * </pre>
+ */
+public class SenMLJsonJacksonStreamingEncoderDecoder implements SenMLDecoder, SenMLEncoder {
+
+    private final JsonFactory factory;
+    private final boolean allowNoValue;
+    private final Base64Decoder base64Decoder;
+    private final Base64Encoder base64Encoder;
+
+    public SenMLJsonJacksonStreamingEncoderDecoder() {
+        this(false);
+    }
+
+    /**
+     * Create an Encoder/Decoder for SenML-JSON based on Jackson streaming API.
+     *
+     * SenML value is defined as mandatory in <a href="https://tools.ietf.org/html/rfc8428#section-4.2">rfc8428</a>, but
+     * SenML records used with a Read-Composite operation do not contain any value field, so
+     * <code>allowNoValue=true</code> can be used skip this validation.
+     *
+     * @param allowNoValue <code>True</code> to not check if there is a value for each SenML record.
+     */
+    public SenMLJsonJacksonStreamingEncoderDecoder(boolean allowNoValue) {
+        this(allowNoValue, new DefaultBase64Decoder(DecoderAlphabet.BASE64URL, DecoderPadding.FORBIDEN),
+                new DefaultBase64Encoder(EncoderAlphabet.BASE64URL, EncoderPadding.WITHOUT));
+    }
+
+    public SenMLJsonJacksonStreamingEncoderDecoder(boolean allowNoValue, Base64Decoder base64Decoder,
+            Base64Encoder base64Encoder) {
+        this(allowNoValue, base64Decoder, base64Encoder, null);
+    }
+
+    public SenMLJsonJacksonStreamingEncoderDecoder(boolean allowNoValue, Base64Decoder base64Decoder,
+            Base64Encoder base64Encoder, JsonFactory factory) {
+        this.allowNoValue = allowNoValue;
+        this.base64Decoder = base64Decoder;
+        this.base64Encoder = base64Encoder;
+        this.factory = factory == null ? new JsonFactory() : factory;
+    }
+
+    @Override
+    public byte[] toSenML(SenMLPack pack) throws SenMLException {
+        if (pack == null)
+            return null;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        toSenML(pack, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void toSenML(SenMLPack pack, OutputStream out) throws SenMLException {
+        if (pack == null)
+            return;
+
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            // caller owns the stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            for (SenMLRecord record : pack.getRecords()) {
+                writeRecord(generator, record);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new SenMLException("Unable to serialize SenML JSON.", e);
+        }
+    }
+
+    protected void writeRecord(JsonGenerator generator, SenMLRecord record) throws IOException, SenMLException {
+        generator.writeStartObject();
+
+        if (record.getBaseName() != null && record.getBaseName().length() > 0) {
+            generator.writeStringField("bn", record.getBaseName());
+        }
+
+        if (record.getBaseTime() != null) {
+            generator.writeNumberField("bt", record.getBaseTime());
+        }
+
+        if (record.getName() != null && record.getName().length() > 0) {
+            generator.writeStringField("n", record.getName());
+        }
+
+        if (record.getTime() != null) {
+            generator.writeNumberField("t", record.getTime());
+        }
+
+        if (record.getType() != null) {
+            switch (record.getType()) {
+            case NUMBER:
+                generator.writeFieldName("v");
+                writeNumber(generator, record.getNumberValue());
+                break;
+            case BOOLEAN:
+                generator.writeBooleanField("vb", record.getBooleanValue());
+                break;
+            case OBJLNK:
+                generator.writeStringField("vlo", record.getObjectLinkValue());
+                break;
+            case OPAQUE:
+                generator.writeStringField("vd", base64Encoder.encode(record.getOpaqueValue()));
+                break;
+            case STRING:
+                generator.writeStringField("vs", record.getStringValue());
+                break;
+            default:
+                break;
+            }
+        } else if (!allowNoValue) {
+            throw new SenMLException("Invalid SenML record : record must have a value (v,vb,vlo,vd,vs) : %s", record);
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void writeNumber(JsonGenerator generator, Number value) throws IOException {
+        // integer
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            generator.writeNumber(value.intValue());
+        } else if (value instanceof Long) {
+            generator.writeNumber(value.longValue());
+        } else if (value instanceof BigInteger) {
+            generator.writeNumber((BigInteger) value);
+        }
+        // unsigned integer
+        else if (value instanceof ULong) {
+            generator.writeNumber(((ULong) value).toBigInteger());
+        }
+        // floating-point
+        else if (value instanceof Float) {
+            generator.writeNumber(value.floatValue());
+        } else if (value instanceof Double) {
+            generator.writeNumber(value.doubleValue());
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    @Override
+    public SenMLPack fromSenML(byte[] jsonString) throws SenMLException {
+        // handle empty payload
+        if (jsonString == null || jsonString.length == 0) {
+            return new SenMLPack();
+        }
+        return read(jsonString, 0, jsonString.length);
+    }
+
+    @Override
+    public SenMLPack fromSenML(ByteBuffer jsonString) throws SenMLException {
+        // handle empty payload
+        if (jsonString == null || !jsonString.hasRemaining()) {
+            return new SenMLPack();
+        }
+        if (!jsonString.hasArray()) {
+            return SenMLDecoder.super.fromSenML(jsonString);
+        }
+        // parse backing array directly, without copy
+        return read(jsonString.array(), jsonString.arrayOffset() + jsonString.position(), jsonString.remaining());
+    }
+
+    private SenMLPack read(byte[] data, int offset, int length) throws SenMLException {
+        try (JsonParser parser = factory.createParser(data, offset, length)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_ARRAY) {
+                throw new SenMLException("Unable to parse SenML JSON: JsonArray expected but was %s", token);
+            }
+
+            List<SenMLRecord> records = new ArrayList<>();
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                records.add(readRecord(parser));
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new SenMLException("Unable to parse SenML JSON: JsonObject expected but was %s", token);
+            }
+            return new SenMLPack(records);
+        } catch (IOException e) {
+            throw new SenMLException("Unable to parse SenML JSON.", e);
+        }
+    }
+
+    /**
+     * Read a record, parser must be positioned on the {@link JsonToken#START_OBJECT} of this record.
+     */
+    protected SenMLRecord readRecord(JsonParser parser) throws IOException, SenMLException {
+        String recordBaseName = null;
+        BigDecimal recordBaseTime = null;
+        String recordName = null;
+        BigDecimal recordTime = null;
+        Number recordNumberValue = null;
+        Boolean recordBooleanValue = null;
+        String recordStringValue = null;
+        String recordObjectLinkValue = null;
+        byte[] recordOpaqueValue = null;
+        boolean hasValue = false;
+
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+            case "bn":
+                if (token == JsonToken.VALUE_STRING)
+                    recordBaseName = parser.getText();
+                break;
+            case "bt":
+                if (token.isNumeric())
+                    recordBaseTime = readTime(parser, token);
+                break;
+            case "n":
+                if (token == JsonToken.VALUE_STRING)
+                    recordName = parser.getText();
+                break;
+            case "t":
+                if (token.isNumeric())
+                    recordTime = readTime(parser, token);
+                break;
+            case "v":
+                if (token.isNumeric()) {
+                    // like Jackson tree with USE_BIG_DECIMAL_FOR_FLOATS : Integer, Long, BigInteger or BigDecimal
+                    recordNumberValue = token == JsonToken.VALUE_NUMBER_FLOAT ? parser.getDecimalValue()
+                            : parser.getNumberValue();
+                    hasValue = true;
+                }
+                break;
+            case "vb":
+                if (token.isBoolean()) {
+                    recordBooleanValue = token == JsonToken.VALUE_TRUE;
+                    hasValue = true;
+                }
+                break;
+            case "vs":
+                if (token == JsonToken.VALUE_STRING) {
+                    recordStringValue = parser.getText();
+                    hasValue = true;
+                }
+                break;
+            case "vlo":
+                if (token == JsonToken.VALUE_STRING) {
+                    recordObjectLinkValue = parser.getText();
+                    hasValue = true;
+                }
+                break;
+            case "vd":
+                if (token == JsonToken.VALUE_STRING) {
+                    String vd = parser.getText();
+                    try {
+                        recordOpaqueValue = base64Decoder.decode(vd);
+                    } catch (InvalidBase64Exception exception) {
+                        throw new SenMLException(exception, "Node vd with value '%s' is not in valid Base64 format.",
+                                vd);
+                    }
+                    hasValue = true;
+                }
+                break;
+            default:
+                break;
+            }
+            // ignore unknown or unexpected nested content
+            parser.skipChildren();
+        }
+
+        SenMLRecord record = new SenMLRecord(recordBaseName, recordBaseTime, recordName, recordTime, recordNumberValue,
+                recordBooleanValue, recordObjectLinkValue, recordStringValue, recordOpaqueValue);
+        if (!allowNoValue && !hasValue)
+            throw new SenMLException("Invalid SenML record : record must have a value (v,vb,vlo,vd,vs) : %s", record);
+        return record;
+    }
+
+    private BigDecimal readTime(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        } else if (parser.getNumberType() == NumberType.BIG_INTEGER) {
+            return new BigDecimal(parser.getBigIntegerValue());
+        } else {
+            // avoid parsing integer timestamp from text
+            return BigDecimal.valueOf(parser.getLongValue());
+        }
+    }
+}
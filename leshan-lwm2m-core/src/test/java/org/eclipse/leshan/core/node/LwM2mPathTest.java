@@ -16,14 +16,21 @@
 package org.eclipse.leshan.core.node;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
+import org.eclipse.leshan.core.node.LwM2mPathParser.Start;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -78,4 +85,63 @@ public class LwM2mPathTest {
     public void assertEqualsHashcode() {
         EqualsVerifier.forClass(LwM2mPath.class).withRedefinedSubclass(LwM2mIncompletePath.class).verify();
     }
+
+    @ParameterizedTest(name = "[{0}] hashcode")
+    @MethodSource("equalsTestArguements")
+    public void test_hashcode_unchanged(String path) {
+        LwM2mPath p = new LwM2mPath(path);
+        assertEquals(
+                Objects.hash(p.getObjectId(), p.getObjectInstanceId(), p.getResourceId(), p.getResourceInstanceId()),
+                p.hashCode());
+    }
+
+    @Test
+    public void test_string_constructor_with_cache() {
+        LwM2mPath path = new LwM2mPath("/3/0/1/2");
+        assertEquals(new LwM2mPath(3, 0, 1, 2), path);
+        assertEquals(path, new LwM2mPath("3/0/1/2"));
+        assertEquals(LwM2mPath.ROOTPATH, new LwM2mPath("/"));
+        assertNull(new LwM2mPath("/3/0").getResourceId());
+
+        // invalid paths are not cached
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath("/3/a"));
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath("/3/a"));
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath("/3/0/70000"));
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath("/3/0/70000"));
+    }
+
+    @Test
+    public void test_parser_returns_cached_path() {
+        LwM2mPathParser parser = new LwM2mPathParser();
+        LwM2mPath path = parser.parse("/3/0/1");
+        assertEquals(new LwM2mPath(3, 0, 1), path);
+        assertSame(path, parser.parse("/3/0/1"));
+
+        assertThrows(InvalidLwM2mPathException.class, () -> parser.parse("3/0/1"));
+        assertThrows(InvalidLwM2mPathException.class, () -> parser.parse("/3/0/1/"));
+    }
+
+    @Test
+    public void test_parser_without_cache() {
+        LwM2mPathParser parser = new LwM2mPathParser(Start.WITH_SLASH, 0);
+        LwM2mPath path = parser.parse("/3/0/1");
+        assertEquals(path, parser.parse("/3/0/1"));
+        assertNotSame(path, parser.parse("/3/0/1"));
+    }
+
+    @Test
+    public void test_primitive_accessors() {
+        LwM2mPath path = new LwM2mPath(3303, 0, 5700);
+        assertTrue(path.hasObjectId());
+        assertTrue(path.hasObjectInstanceId());
+        assertTrue(path.hasResourceId());
+        assertFalse(path.hasResourceInstanceId());
+        assertEquals(3303, path.getObjectIdAsInt());
+        assertEquals(0, path.getObjectInstanceIdAsInt());
+        assertEquals(5700, path.getResourceIdAsInt());
+        assertThrows(IllegalStateException.class, () -> path.getResourceInstanceIdAsInt());
+
+        assertFalse(LwM2mPath.ROOTPATH.hasObjectId());
+        assertThrows(IllegalStateException.class, () -> LwM2mPath.ROOTPATH.getObjectIdAsInt());
+    }
 }
@@ -16,6 +16,8 @@
 package org.eclipse.leshan.core.node;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -95,4 +97,16 @@ public class PrefixedLwM2mPathTest {
     public void assertEqualsHashcode() {
         EqualsVerifier.forClass(PrefixedLwM2mPath.class).verify();
     }
+
+    @Test
+    public void test_parser_returns_cached_path() {
+        PrefixedLwM2mPathParser parser = new PrefixedLwM2mPathParser();
+        PrefixedLwM2mPath path = parser.parsePrefixedPath("/lwm2m/folder1/3/0");
+        assertEquals(Arrays.asList("lwm2m", "folder1"), path.getPrefix());
+        assertEquals(new LwM2mPath(3, 0), path.getPath());
+        assertSame(path, parser.parsePrefixedPath("/lwm2m/folder1/3/0"));
+
+        // cached instance is shared so prefix can not be modified
+        assertThrows(UnsupportedOperationException.class, () -> path.getPrefix().add("other"));
+    }
 }
@@ -28,6 +28,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -351,6 +352,31 @@ public class LwM2mNodeDecoderTest {
         assertDeviceInstance(oInstance);
     }
 
+    @TestAllRootPaths
+    public void tlv_device_object_instance0_from_byte_buffer_slice(String rootPath) throws CodecException {
+        // content in the middle of a bigger buffer
+        byte[] bytes = new byte[ENCODED_DEVICE_WITHOUT_INSTANCE.length + 10];
+        System.arraycopy(ENCODED_DEVICE_WITHOUT_INSTANCE, 0, bytes, 5, ENCODED_DEVICE_WITHOUT_INSTANCE.length);
+        ByteBuffer content = ByteBuffer.wrap(bytes, 5, ENCODED_DEVICE_WITHOUT_INSTANCE.length);
+
+        LwM2mObjectInstance oInstance = decoder.decode(content, ContentFormat.TLV, rootPath, new LwM2mPath(3, 0), model,
+                LwM2mObjectInstance.class);
+        assertDeviceInstance(oInstance);
+        assertEquals(5, content.position());
+
+    }
+
+    @TestAllRootPaths
+    public void text_manufacturer_resource_from_byte_buffer_slice(String rootPath) throws CodecException {
+        // decoder which does not read directly from buffer
+        ByteBuffer content = ByteBuffer.wrap("__Open Mobile Alliance__".getBytes(StandardCharsets.UTF_8), 2, 20);
+
+        LwM2mSingleResource resource = decoder.decode(content, ContentFormat.TEXT, rootPath, new LwM2mPath(3, 0, 0),
+                model, LwM2mSingleResource.class);
+        assertEquals("Open Mobile Alliance", resource.getValue());
+        assertEquals(2, content.position());
+    }
+
     @TestAllRootPaths
     public void tlv_device_object_instance0_from_resources_tlv__instance_expected(String rootPath)
             throws CodecException {
@@ -1292,6 +1318,45 @@ public class LwM2mNodeDecoderTest {
         assertEquals(nodes, res);
     }
 
+    @TestAllRootPaths
+    public void senml_json_decode_resources_from_byte_buffer_slice(String rootPath) {
+        String payload = addRooPath("[{\"bn\":\"%%ROOTPATH%%/3/0/0\",\"vs\":\"Open Mobile Alliance\"},"
+                + "{\"bn\":\"%%ROOTPATH%%/3/0/9\",\"v\":95}]", rootPath);
+        // content in the middle of a bigger buffer
+        ByteBuffer content = ByteBuffer.wrap(("__" + payload + "__").getBytes(StandardCharsets.UTF_8), 2,
+                payload.length());
+
+        List<LwM2mPath> paths = Arrays.asList(new LwM2mPath("3/0/0"), new LwM2mPath("3/0/9"));
+        Map<LwM2mPath, LwM2mNode> res = decoder.decodeNodes(content, ContentFormat.SENML_JSON, rootPath, paths, model);
+
+        Map<LwM2mPath, LwM2mNode> nodes = new HashMap<>();
+        nodes.put(new LwM2mPath("3/0/0"), LwM2mSingleResource.newStringResource(0, "Open Mobile Alliance"));
+        nodes.put(new LwM2mPath("3/0/9"), LwM2mSingleResource.newIntegerResource(9, 95));
+        assertEquals(nodes, res);
+        assertEquals(2, content.position());
+    }
+
+    @Test
+    public void senml_cbor_decode_timestamped_nodes_from_byte_buffer_slice() {
+        byte[] payload = Hex.decodeHex(
+                "ffff83a321662f302f302f3022c482001a1dcd6504036c53616d706c65537472696e67a321662f302f302f3122c482001a1dcd650504f4a321662f302f302f3222c482001a1dcd6506021901c8ff"
+                        .toCharArray());
+        ByteBuffer content = ByteBuffer.wrap(payload, 2, payload.length - 3).slice();
+
+        TimestampedLwM2mNodes data = decoder.decodeTimestampedNodes(content, ContentFormat.SENML_CBOR, null, null,
+                model);
+
+        Instant timestamp = Instant.ofEpochSecond(500_000_000);
+        TimestampedLwM2mNodes expected = TimestampedLwM2mNodes.builder()
+                .put(timestamp.plusSeconds(4), new LwM2mPath(0, 0, 0),
+                        LwM2mSingleResource.newStringResource(0, "SampleString"))
+                .put(timestamp.plusSeconds(5), new LwM2mPath(0, 0, 1), LwM2mSingleResource.newBooleanResource(1, false))
+                .put(timestamp.plusSeconds(6), new LwM2mPath(0, 0, 2), LwM2mSingleResource.newIntegerResource(2, 456))
+                .build();
+        assertEquals(expected, data);
+        assertEquals(0, content.position());
+    }
+
     @TestAllRootPaths
     public void senml_json_decode_mixed_resource_and_instance(String rootPath) {
         // Prepare data to decode
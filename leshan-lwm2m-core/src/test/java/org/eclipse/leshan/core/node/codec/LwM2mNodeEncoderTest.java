@@ -21,8 +21,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.io.ByteArrayOutputStream;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -35,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import org.eclipse.leshan.core.link.DefaultLinkSerializer;
 import org.eclipse.leshan.core.model.LwM2mModel;
 import org.eclipse.leshan.core.model.ObjectLoader;
 import org.eclipse.leshan.core.model.StaticModel;
@@ -49,6 +53,7 @@ import org.eclipse.leshan.core.node.LwM2mSingleResource;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
 import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLEncoder;
+import org.eclipse.leshan.core.node.codec.tlv.LwM2mNodeTlvEncoder;
 import org.eclipse.leshan.core.request.ContentFormat;
 import org.eclipse.leshan.core.util.Hex;
 import org.eclipse.leshan.senml.cbor.upokecenter.SenMLCborUpokecenterEncoderDecoder;
@@ -214,6 +219,64 @@ public class LwM2mNodeEncoderTest {
         assertArrayEquals(ENCODED_DEVICE_WITH_INSTANCE, encoded);
     }
 
+    @TestAllRootPaths
+    public void tlv_encode_device_object_to_output_stream(String rootPath) {
+        LwM2mObject object = new LwM2mObject(3, new LwM2mObjectInstance(0, getDeviceResources()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(object, ContentFormat.TLV, rootPath, new LwM2mPath("/3"), model, out);
+
+        assertArrayEquals(ENCODED_DEVICE_WITH_INSTANCE, out.toByteArray());
+    }
+
+    @TestAllRootPaths
+    public void tlv_encode_device_object_to_byte_buffer(String rootPath) {
+        LwM2mObject object = new LwM2mObject(3, new LwM2mObjectInstance(0, getDeviceResources()));
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_DEVICE_WITH_INSTANCE.length + 10);
+        buffer.put((byte) 0xFF);
+        encoder.encode(object, ContentFormat.TLV, rootPath, new LwM2mPath("/3"), model, buffer);
+
+        assertEquals(ENCODED_DEVICE_WITH_INSTANCE.length + 1, buffer.position());
+        byte[] encoded = new byte[ENCODED_DEVICE_WITH_INSTANCE.length];
+        ((Buffer) buffer).position(1);
+        buffer.get(encoded);
+        assertArrayEquals(ENCODED_DEVICE_WITH_INSTANCE, encoded);
+    }
+
+    @Test
+    public void tlv_encode_device_object_to_too_small_byte_buffer() {
+        LwM2mObject object = new LwM2mObject(3, new LwM2mObjectInstance(0, getDeviceResources()));
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_DEVICE_WITH_INSTANCE.length - 1);
+
+        assertThrowsExactly(CodecException.class, () -> {
+            encoder.encode(object, ContentFormat.TLV, null, new LwM2mPath("/3"), model, buffer);
+        });
+    }
+
+    @Test
+    public void json_encode_device_object_instance_to_output_stream() {
+        LwM2mObjectInstance oInstance = new LwM2mObjectInstance(0, getDeviceResources());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(oInstance, ContentFormat.JSON, null, new LwM2mPath("/3/0"), model, out);
+
+        assertArrayEquals(encoder.encode(oInstance, ContentFormat.JSON, null, new LwM2mPath("/3/0"), model),
+                out.toByteArray());
+    }
+
+    @Test
+    public void tlv_encode_with_pooled_buffers() {
+        LwM2mNodeTlvEncoder pooledEncoder = new LwM2mNodeTlvEncoder(new DefaultLinkSerializer(), true);
+        LwM2mObject object = new LwM2mObject(3, new LwM2mObjectInstance(0, getDeviceResources()));
+
+        // encode several times to reuse buffer
+        for (int i = 0; i < 3; i++) {
+            byte[] encoded = pooledEncoder.encode(object, null, new LwM2mPath("/3"), model, new LwM2mValueChecker());
+            assertArrayEquals(ENCODED_DEVICE_WITH_INSTANCE, encoded);
+        }
+        byte[] encoded = pooledEncoder.encode(LwM2mSingleResource.newIntegerResource(9, 100), null,
+                new LwM2mPath("/3/0/9"), model, new LwM2mValueChecker());
+        assertArrayEquals(Hex.decodeHex("C10964".toCharArray()), encoded);
+    }
+
     @TestAllRootPaths
     public void json_encode_device_object_instance(String rootPath) {
 
@@ -459,6 +522,25 @@ public class LwM2mNodeEncoderTest {
         assertEquals(expectedString, Hex.encodeHexString(encoded));
     }
 
+    @Test
+    public void senml_cbor_encode_timestamped_nodes_to_output_stream() throws CodecException {
+        Instant timestamp = Instant.ofEpochSecond(500_000_000);
+        TimestampedLwM2mNodes timestampedLwM2mNodes = TimestampedLwM2mNodes.builder()
+                .put(timestamp.plusSeconds(4), new LwM2mPath(0, 0, 0),
+                        LwM2mSingleResource.newStringResource(0, "SampleString"))
+                .put(timestamp.plusSeconds(5), new LwM2mPath(0, 0, 1), LwM2mSingleResource.newBooleanResource(1, false))
+                .put(timestamp.plusSeconds(6), new LwM2mPath(0, 0, 2), LwM2mSingleResource.newIntegerResource(2, 456))
+                .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xFF);
+        encoder.encodeTimestampedNodes(timestampedLwM2mNodes, ContentFormat.SENML_CBOR, null, model, out);
+
+        String expectedString = "ff83a321662f302f302f3022c482001a1dcd6504036c53616d706c65537472696e67a321662f302f302f3122c482001a1dcd650504f4a321662f302f302f3222c482001a1dcd6506021901c8";
+
+        assertEquals(expectedString, Hex.encodeHexString(out.toByteArray()));
+    }
+
     @TestAllRootPaths
     public void senml_json_encode_resources(String rootPath) {
         // Nodes to encode
@@ -481,6 +563,32 @@ public class LwM2mNodeEncoderTest {
         assertEquals(expectedWithRootPath, new String(encoded));
     }
 
+    @TestAllRootPaths
+    public void senml_json_encode_resources_to_output_stream(String rootPath) {
+        Map<LwM2mPath, LwM2mNode> nodes = new LinkedHashMap<>();
+        nodes.put(new LwM2mPath("3/0/0"), LwM2mSingleResource.newStringResource(0, "Open Mobile Alliance"));
+        nodes.put(new LwM2mPath("3/0/9"), LwM2mSingleResource.newIntegerResource(9, 95));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encodeNodes(nodes, ContentFormat.SENML_JSON, rootPath, model, out);
+
+        String expected = "[{\"bn\":\"%%ROOTPATH%%/3/0/0\",\"vs\":\"Open Mobile Alliance\"},"
+                + "{\"bn\":\"%%ROOTPATH%%/3/0/9\",\"v\":95}]";
+        assertEquals(addRooPath(expected, rootPath), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void senml_cbor_encode_resources_to_output_stream() {
+        Map<LwM2mPath, LwM2mNode> nodes = new LinkedHashMap<>();
+        nodes.put(new LwM2mPath("3/0/0"), LwM2mSingleResource.newStringResource(0, "Open Mobile Alliance"));
+        nodes.put(new LwM2mPath("3/0/9"), LwM2mSingleResource.newIntegerResource(9, 95));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encodeNodes(nodes, ContentFormat.SENML_CBOR, null, model, out);
+
+        assertArrayEquals(encoder.encodeNodes(nodes, ContentFormat.SENML_CBOR, null, model), out.toByteArray());
+    }
+
     @TestAllRootPaths
     public void senml_json_encode_mixed_resource_and_instance(String rootPath) {
         // Nodes to encode
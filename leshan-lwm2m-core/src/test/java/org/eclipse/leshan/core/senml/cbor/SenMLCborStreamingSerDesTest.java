@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.senml.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.eclipse.leshan.core.util.Hex;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.senml.SenMLDecoder;
+import org.eclipse.leshan.senml.SenMLEncoder;
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLPack;
+import org.eclipse.leshan.senml.SenMLRecord;
+import org.eclipse.leshan.senml.cbor.streaming.SenMLCborStreamingEncoderDecoder;
+import org.eclipse.leshan.senml.cbor.upokecenter.SenMLCborUpokecenterEncoderDecoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SenMLCborStreamingSerDesTest extends AbstractSenMLTest {
+
+    private final SenMLEncoder encoder;
+    private final SenMLDecoder decoder;
+
+    public SenMLCborStreamingSerDesTest() {
+        SenMLCborStreamingEncoderDecoder streaming = new SenMLCborStreamingEncoderDecoder(true, false);
+        this.encoder = streaming;
+        this.decoder = streaming;
+    }
+
+    @Test
+    public void serialize_then_deserialize_device_object() throws SenMLException {
+        byte[] cbor = encoder.toSenML(givenDeviceObjectInstance());
+        SenMLPack pack = decoder.fromSenML(cbor);
+        SenMLTestUtil.assertSenMLPackEquals(givenDeviceObjectInstance(), pack);
+    }
+
+    @Test
+    public void serialize_device_object() throws Exception {
+        byte[] cbor = encoder.toSenML(givenDeviceObjectInstance());
+        assertEquals(givenSenMLCborExample(), Hex.encodeHexString(cbor));
+    }
+
+    @Test
+    public void deserialize_device_object_() throws Exception {
+        SenMLPack pack = decoder.fromSenML(Hex.decodeHex(givenSenMLCborExample().toCharArray()));
+        SenMLTestUtil.assertSenMLPackEquals(givenDeviceObjectInstance(), pack);
+    }
+
+    @Test
+    public void deserialize_opaque_resource() throws Exception {
+        // value : [{-2: "/0/0/3", 8: h'ABCDEF'}]
+        byte[] cbor = Hex.decodeHex("81a221662f302f302f330843abcdef".toCharArray());
+        SenMLPack pack = decoder.fromSenML(cbor);
+
+        SenMLTestUtil.assertSenMLPackEquals(
+                getPackWithSingleOpaqueValue("/0/0/3", Hex.decodeHex("ABCDEF".toCharArray())), pack);
+    }
+
+    @Test
+    public void serialize_opaque_resource_() throws Exception {
+        SenMLPack pack = getPackWithSingleOpaqueValue("/0/0/3", Hex.decodeHex("ABCDEF".toCharArray()));
+        byte[] cbor = encoder.toSenML(pack);
+
+        // value : [{-2: "/0/0/3", 8: h'ABCDEF'}]
+        String expected = "81a221662f302f302f330843abcdef";
+        assertEquals(expected, Hex.encodeHexString(cbor));
+    }
+
+    @Test
+    public void deserialize_float_resource() throws Exception {
+        // value : [{2: 300.0, -2: "/3442/0/130"}]
+        byte[] cbor = Hex.decodeHex("81a202f95cb0216b2f333434322f302f313330".toCharArray());
+        SenMLPack pack = decoder.fromSenML(cbor);
+
+        assertEquals(pack.getRecords().size(), 1);
+        SenMLRecord record = pack.getRecords().get(0);
+        assertEquals("/3442/0/130", record.getBaseName());
+        assertEquals(300.0d, record.getNumberValue());
+    }
+
+    @Test
+    public void deserialize_indefinite_length_items() throws Exception {
+        // value : [_ {_ -2: (_ "/3/0/", "13"), 2: 1, 99: [_ 1, 2]}]
+        byte[] cbor = Hex.decodeHex("9fbf217f652f332f302f623133ff020118639f0102ffffff".toCharArray());
+        SenMLPack pack = decoder.fromSenML(cbor);
+
+        assertEquals(1, pack.getRecords().size());
+        SenMLRecord record = pack.getRecords().get(0);
+        assertEquals("/3/0/13", record.getBaseName());
+        assertEquals(1L, record.getNumberValue());
+    }
+
+    @ParameterizedTest(name = "keepingInsertionOrder={0}")
+    @ValueSource(booleans = { true, false })
+    public void encode_and_decode_like_upokecenter(boolean keepingInsertionOrder) throws SenMLException {
+        SenMLCborStreamingEncoderDecoder streaming = new SenMLCborStreamingEncoderDecoder(keepingInsertionOrder, false);
+        SenMLCborUpokecenterEncoderDecoder upokecenter = new SenMLCborUpokecenterEncoderDecoder(keepingInsertionOrder,
+                false);
+
+        SenMLPack pack = new SenMLPack();
+        pack.addRecord(new SenMLRecord("/3303/0/", new BigDecimal("1.6E9"), "5700", new BigDecimal("0.25"), 24.1d, null,
+                null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "5700", new BigDecimal("1"), 1.5d, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "5700", new BigDecimal("-5.0"), 100000.5f, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "5700", null, Double.NaN, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "5700", null, -0.0d, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "5700", null, 5.960464477539063E-8, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "5701", null, new BigDecimal("24.10"), null, null, null, null));
+        pack.addRecord(new SenMLRecord("/3/0/", null, "13", null, -1234567890123L, null, null, null, null));
+        pack.addRecord(
+                new SenMLRecord(null, null, "14", null, ULong.valueOf("18446744073709551615"), null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "15", null, new BigInteger("18446744073709551616"), null, null, null,
+                null));
+        pack.addRecord(new SenMLRecord(null, null, "16", null, new BigInteger("-18446744073709551617"), null, null,
+                null, null));
+        pack.addRecord(new SenMLRecord(null, null, "17", null, Integer.MIN_VALUE, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "18", null, null, true, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "19", null, null, null, "3:0", null, null));
+        pack.addRecord(new SenMLRecord(null, null, "20", null, null, null, null, "Été 😀", null));
+        pack.addRecord(
+                new SenMLRecord(null, new BigDecimal("1700000000"), "21", null, null, null, null, null, new byte[300]));
+
+        byte[] encoded = streaming.toSenML(pack);
+        assertEquals(Hex.encodeHexString(upokecenter.toSenML(pack)), Hex.encodeHexString(encoded));
+        SenMLTestUtil.assertSenMLPackEquals(pack, streaming.fromSenML(encoded));
+    }
+
+    @Test
+    public void decode_numbers_like_upokecenter() throws Exception {
+        SenMLCborUpokecenterEncoderDecoder upokecenter = new SenMLCborUpokecenterEncoderDecoder();
+        String[] values = { //
+                "00", "17", "1818", "19ffff", "1a7fffffff", "1b7fffffffffffffff", "1b8000000000000000",
+                "1bffffffffffffffff", "20", "3b7fffffffffffffff", "3b8000000000000000", // integers
+                "c249010000000000000000", "c349010000000000000000", "c24101", "c3410a", // bignums
+                "f93c00", "f90001", "fa47c35040", "fb403819999999999a", "f97c00" // floats
+        };
+        for (String value : values) {
+            // [{0: "5700", 6: <value>, 2: <value>}]
+            byte[] cbor = Hex.decodeHex(("81a3006435373030" + "06" + value + "02" + value).toCharArray());
+            SenMLPack expected;
+            try {
+                expected = upokecenter.fromSenML(cbor);
+            } catch (SenMLException e) {
+                assertThrows(SenMLException.class, () -> decoder.fromSenML(cbor), value);
+                continue;
+            }
+            assertEquals(expected, decoder.fromSenML(cbor), value);
+        }
+    }
+
+    @Test
+    public void decode_decimal_fractions_and_bigfloats() throws Exception {
+        assertDecodedNumber("c4820005", 5.0d, new BigDecimal("5"));
+        assertDecodedNumber("c482201832", 5.0d, new BigDecimal("5.0"));
+        assertDecodedNumber("c4822119096a", new BigDecimal("24.10"), new BigDecimal("24.10"));
+        assertDecodedNumber("c4820ac249010000000000000000", 1.8446744073709552E29,
+                new BigDecimal("18446744073709551616E10"));
+        assertDecodedNumber("c5822003", 1.5d, new BigDecimal("1.5"));
+        assertDecodedNumber("c5820103", 6.0d, new BigDecimal("6"));
+    }
+
+    private void assertDecodedNumber(String value, Number expectedValue, BigDecimal expectedTime)
+            throws SenMLException {
+        // [{0: "5700", 6: <value>, 2: <value>}]
+        byte[] cbor = Hex.decodeHex(("81a3006435373030" + "06" + value + "02" + value).toCharArray());
+        SenMLRecord record = decoder.fromSenML(cbor).getRecords().get(0);
+        assertEquals(expectedValue, record.getNumberValue(), value);
+        assertEquals(expectedTime, record.getTime(), value);
+    }
+
+    @Test
+    public void deserialize_invalid_payload() {
+        // not an array
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("a10001".toCharArray())));
+        // not a map
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("8101".toCharArray())));
+        // truncated
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("81a200643537".toCharArray())));
+        // unexpected trailing data
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("81a1020100".toCharArray())));
+        // no value
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("81a1006130".toCharArray())));
+        // wrong value type
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("81a1046130".toCharArray())));
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("81a1026130".toCharArray())));
+        // huge announced length
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("9b7fffffffffffffff".toCharArray())));
+        // decimal fraction with a float exponent
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("81a102c482f93e0005".toCharArray())));
+        // bigfloat with a string mantissa
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(Hex.decodeHex("81a102c582016130".toCharArray())));
+    }
+
+    @Test
+    public void deserialize_deeply_nested_decimal_fractions() throws Exception {
+        // [{2: 4([4([4([... , 1]), 1]), 1])}] : must be rejected, not blow the stack
+        StringBuilder hex = new StringBuilder("81a102");
+        int depth = 100000;
+        for (int i = 0; i < depth; i++) {
+            hex.append("c482");
+        }
+        hex.append("00");
+        for (int i = 0; i < depth; i++) {
+            hex.append("01");
+        }
+        byte[] cbor = Hex.decodeHex(hex.toString().toCharArray());
+        assertThrows(SenMLException.class, () -> decoder.fromSenML(cbor));
+    }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.senml.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.leshan.core.util.Hex;
+import org.eclipse.leshan.senml.SenMLDecoder;
+import org.eclipse.leshan.senml.SenMLEncoder;
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLPack;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonJacksonEncoderDecoder;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonJacksonStreamingEncoderDecoder;
+import org.junit.jupiter.api.Test;
+
+public class SenMLJsonStreamingSerDesTest extends AbstractSenMLTest {
+
+    private final SenMLEncoder encoder;
+    private final SenMLDecoder decoder;
+    private final SenMLJsonJacksonEncoderDecoder treeEncoderDecoder = new SenMLJsonJacksonEncoderDecoder();
+
+    public SenMLJsonStreamingSerDesTest() {
+        SenMLJsonJacksonStreamingEncoderDecoder jackson = new SenMLJsonJacksonStreamingEncoderDecoder();
+        this.encoder = jackson;
+        this.decoder = jackson;
+    }
+
+    @Test
+    public void serialize_then_deserialize_device_object() throws SenMLException {
+        byte[] json = encoder.toSenML(givenDeviceObjectInstance());
+        SenMLPack pack = decoder.fromSenML(json);
+        SenMLTestUtil.assertSenMLPackEquals(givenDeviceObjectInstance(), pack);
+    }
+
+    @Test
+    public void deserialize_device_object() throws SenMLException {
+        String dataString = givenSenMLJsonExample();
+        SenMLPack pack = decoder.fromSenML(dataString.getBytes());
+
+        SenMLTestUtil.assertSenMLPackEquals(givenDeviceObjectInstance(), pack);
+    }
+
+    @Test
+    public void serialize_device_object() throws SenMLException {
+        SenMLPack pack = givenDeviceObjectInstance();
+        byte[] json = encoder.toSenML(pack);
+        assertEquals(givenSenMLJsonExample(), new String(json));
+    }
+
+    @Test
+    public void deserialize_opaque_object_() throws Exception {
+        byte[] json = "[{\"bn\":\"/0/0/3\",\"vd\":\"q83v\"}]".getBytes(); // q83v is base64 of ABCDE
+        SenMLPack pack = decoder.fromSenML(json);
+
+        SenMLTestUtil.assertSenMLPackEquals(
+                getPackWithSingleOpaqueValue("/0/0/3", Hex.decodeHex("ABCDEF".toCharArray())), pack);
+    }
+
+    @Test
+    public void serialize_opaque_object_() throws Exception {
+        SenMLPack pack = getPackWithSingleOpaqueValue("/0/0/3", Hex.decodeHex("ABCDEF".toCharArray()));
+        byte[] json = encoder.toSenML(pack);
+
+        String expected = "[{\"bn\":\"/0/0/3\",\"vd\":\"q83v\"}]"; // q83v is base64 of ABCDE
+        assertEquals(expected, new String(json));
+    }
+
+    @Test
+    public void deserialize_timestamped_records_like_tree_decoder() throws SenMLException {
+        byte[] json = ("[{\"bn\":\"/3303/0/\",\"bt\":1.6e9,\"n\":\"5700\",\"t\":0.25,\"v\":24.10},"
+                + "{\"n\":\"5700\",\"t\":1,\"v\":-3},{\"n\":\"5700\",\"t\":2,\"v\":123456789012},"
+                + "{\"bt\":1700000000,\"n\":\"5701\",\"vs\":\"Cel\",\"unknown\":{\"nested\":[1,2]}},"
+                + "{\"bn\":\"/3/0/\",\"n\":\"13\",\"t\":-5,\"v\":18446744073709551615},"
+                + "{\"n\":\"0\",\"vb\":true},{\"n\":\"1\",\"vlo\":\"3:0\"}]").getBytes();
+
+        SenMLPack streamingPack = decoder.fromSenML(json);
+        SenMLPack treePack = treeEncoderDecoder.fromSenML(json);
+
+        // same records and same number types than the tree based decoder
+        assertEquals(treePack, streamingPack);
+        assertArrayEquals(treeEncoderDecoder.toSenML(treePack), encoder.toSenML(streamingPack));
+    }
+
+    @Test
+    public void deserialize_empty_payload() throws SenMLException {
+        assertEquals(new SenMLPack(), decoder.fromSenML(new byte[0]));
+    }
+
+    @Test
+    public void deserialize_invalid_payload() {
+        assertThrows(SenMLException.class, () -> decoder.fromSenML("{\"n\":\"0\",\"v\":1}".getBytes()));
+        assertThrows(SenMLException.class, () -> decoder.fromSenML("[{\"n\":\"0\",\"v\":1},2]".getBytes()));
+        assertThrows(SenMLException.class, () -> decoder.fromSenML("[{\"n\":\"0\"}]".getBytes()));
+        assertThrows(SenMLException.class, () -> decoder.fromSenML("[{\"n\":\"0\",\"vd\":\"q8=\"}]".getBytes()));
+    }
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.tlv.Tlv.TlvType;
+import org.eclipse.leshan.core.util.Hex;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link TlvReader} and {@link TlvWriter}
+ */
+public class TlvReaderWriterTest {
+
+    // the /3// from liwblwm2m
+    private static final String DEVICE_OBJECT = "C800144F70656E204D6F62696C6520416C6C69616E6365C801164C69676874776569676874204D324D20436C69656E74C80209333435303030313233C303312E30860641000141010588070842000ED842011388870841007D42010384C10964C10A0F830B410000C40D5182428FC60E2B30323A3030C10F55";
+
+    @Test
+    public void read_device_object_like_tlv_decoder() throws TlvException {
+        byte[] bytes = Hex.decodeHex(DEVICE_OBJECT.toCharArray());
+        Tlv[] expected = TlvDecoder.decode(ByteBuffer.wrap(bytes));
+
+        TlvReader reader = new TlvReader(ByteBuffer.wrap(bytes));
+        assertReaderEquals(expected, reader);
+
+        // can be read again after rewind
+        reader.rewind();
+        assertReaderEquals(expected, reader);
+    }
+
+    @Test
+    public void write_device_object_like_tlv_encoder() throws TlvException {
+        byte[] bytes = Hex.decodeHex(DEVICE_OBJECT.toCharArray());
+        Tlv[] tlvs = TlvDecoder.decode(ByteBuffer.wrap(bytes));
+
+        // use small initial capacity to check buffer growth
+        TlvWriter writer = new TlvWriter(8);
+        write(tlvs, writer);
+        assertArrayEquals(bytes, writer.toByteArray());
+    }
+
+    @Test
+    public void write_and_read_values() throws TlvException {
+        TlvWriter writer = new TlvWriter();
+        writer.startContainer(TlvType.OBJECT_INSTANCE, 1);
+        writer.writeString(TlvType.RESOURCE_VALUE, 0, "héllo");
+        writer.writeInteger(TlvType.RESOURCE_VALUE, 1, -129);
+        writer.writeInteger(TlvType.RESOURCE_VALUE, 2, Long.MIN_VALUE);
+        writer.writeFloat(TlvType.RESOURCE_VALUE, 3, 1.5f);
+        writer.writeFloat(TlvType.RESOURCE_VALUE, 4, -0.1d);
+        writer.writeBoolean(TlvType.RESOURCE_VALUE, 5, true);
+        writer.writeDate(TlvType.RESOURCE_VALUE, 6, new Date(1_700_000_000_000L));
+        writer.startContainer(TlvType.MULTIPLE_RESOURCE, 300);
+        writer.writeObjlnk(TlvType.RESOURCE_INSTANCE, 0, new ObjectLink(3303, 2));
+        writer.writeOpaque(TlvType.RESOURCE_INSTANCE, 1, new byte[300]);
+        writer.endContainer();
+        writer.endContainer();
+        byte[] content = writer.toByteArray();
+
+        // same encoding than TlvEncoder
+        Tlv[] tlvs = TlvDecoder.decode(ByteBuffer.wrap(content));
+        assertArrayEquals(TlvEncoder.encode(tlvs).array(), content);
+
+        TlvReader reader = new TlvReader(ByteBuffer.wrap(content));
+        reader.next();
+        assertEquals(TlvType.OBJECT_INSTANCE, reader.getType());
+        assertEquals(1, reader.getIdentifier());
+        assertFalse(reader.hasNext());
+
+        TlvReader resources = reader.getChildren();
+        resources.next();
+        assertEquals("héllo", resources.getStringValue());
+        resources.next();
+        assertEquals(-129, resources.getIntegerValue());
+        resources.next();
+        assertEquals(Long.MIN_VALUE, resources.getIntegerValue());
+        resources.next();
+        assertEquals(1.5d, resources.getFloatValue());
+        resources.next();
+        assertEquals(-0.1d, resources.getFloatValue());
+        resources.next();
+        assertTrue(resources.getBooleanValue());
+        resources.next();
+        assertEquals(new Date(1_700_000_000_000L), resources.getDateValue());
+        resources.next();
+        assertEquals(TlvType.MULTIPLE_RESOURCE, resources.getType());
+        assertEquals(300, resources.getIdentifier());
+        assertFalse(resources.hasNext());
+
+        TlvReader instances = resources.getChildren();
+        instances.next();
+        assertEquals(new ObjectLink(3303, 2), instances.getObjlnkValue());
+        instances.next();
+        assertArrayEquals(new byte[300], instances.getValue());
+        assertFalse(instances.hasNext());
+    }
+
+    @Test
+    public void read_truncated_tlv() {
+        // resource value of 4 bytes with only 3 bytes
+        TlvReader reader = new TlvReader(ByteBuffer.wrap(Hex.decodeHex("C400010203".toCharArray())));
+        assertThrows(TlvException.class, () -> reader.next());
+
+        // 16 bits identifier with only 1 byte
+        TlvReader reader2 = new TlvReader(ByteBuffer.wrap(Hex.decodeHex("E001".toCharArray())));
+        assertThrows(TlvException.class, () -> reader2.next());
+    }
+
+    @Test
+    public void read_invalid_value_length() throws TlvException {
+        TlvReader reader = new TlvReader(ByteBuffer.wrap(Hex.decodeHex("C300010203".toCharArray())));
+        reader.next();
+        assertThrows(TlvException.class, () -> reader.getFloatValue());
+        assertThrows(TlvException.class, () -> reader.getBooleanValue());
+        assertThrows(TlvException.class, () -> reader.getObjlnkValue());
+        assertEquals(0x010203, reader.getIntegerValue());
+    }
+
+    private void assertReaderEquals(Tlv[] expected, TlvReader reader) throws TlvException {
+        for (Tlv tlv : expected) {
+            assertTrue(reader.hasNext());
+            assertEquals(tlv.getType(), reader.peekType());
+            reader.next();
+            assertEquals(tlv.getType(), reader.getType());
+            assertEquals(tlv.getIdentifier(), reader.getIdentifier());
+            if (tlv.getValue() != null) {
+                assertArrayEquals(tlv.getValue(), reader.getValue());
+            } else {
+                assertReaderEquals(tlv.getChildren(), reader.getChildren());
+            }
+        }
+        assertFalse(reader.hasNext());
+    }
+
+    private void write(Tlv[] tlvs, TlvWriter writer) {
+        for (Tlv tlv : tlvs) {
+            if (tlv.getValue() != null) {
+                writer.writeOpaque(tlv.getType(), tlv.getIdentifier(), tlv.getValue());
+            } else {
+                writer.startContainer(tlv.getType(), tlv.getIdentifier());
+                write(tlv.getChildren(), writer);
+                writer.endContainer();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.timeout;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tests the implementation of {@link ExecutorTimeoutScheduler}
+ */
+public class ExecutorTimeoutSchedulerTest {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorTimeoutScheduler scheduler = new ExecutorTimeoutScheduler(executor);
+
+    @AfterEach
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void timeout_expires_after_delay() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        Timeout timeout = scheduler.schedule(expired::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertFalse(timeout.isCancelled());
+    }
+
+    @Test
+    public void cancelled_timeout_does_not_expire() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        Timeout timeout = scheduler.schedule(expired::countDown, 50, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.getDelay(TimeUnit.MILLISECONDS) <= 50);
+
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(expired.await(200, TimeUnit.MILLISECONDS));
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    public void schedule_on_shutdown_executor_fails() {
+        executor.shutdown();
+        assertThrows(IllegalStateException.class, () -> scheduler.schedule(() -> {
+        }, 1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.timeout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tests the implementation of {@link HashedWheelTimeoutScheduler}
+ */
+public class HashedWheelTimeoutSchedulerTest {
+
+    // small wheel to test timeouts lasting several rounds
+    private final HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler.Builder()
+            .setTickDuration(5, TimeUnit.MILLISECONDS).setWheelSize(4).build();
+
+    @AfterEach
+    public void destroy() {
+        scheduler.destroy();
+    }
+
+    @Test
+    public void timeout_expires_after_delay() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        Timeout timeout = scheduler.schedule(expired::countDown, 100, TimeUnit.MILLISECONDS);
+        long delay = timeout.getDelay(TimeUnit.MILLISECONDS);
+        assertTrue(delay > 0 && delay <= 100);
+
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+        assertTrue(timeout.getDelay(TimeUnit.NANOSECONDS) <= 0);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(0, scheduler.getPendingTimeouts());
+    }
+
+    @Test
+    public void cancelled_timeout_does_not_expire() throws InterruptedException {
+        AtomicInteger expiredCount = new AtomicInteger();
+        CountDownLatch lastExpired = new CountDownLatch(1);
+        Timeout cancelled = scheduler.schedule(expiredCount::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        scheduler.schedule(lastExpired::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+        assertEquals(1, scheduler.getPendingTimeouts());
+
+        assertTrue(lastExpired.await(2, TimeUnit.SECONDS));
+        assertEquals(0, expiredCount.get());
+        assertFalse(cancelled.isExpired());
+    }
+
+    @Test
+    public void all_timeouts_expire() throws InterruptedException {
+        int count = 1000;
+        CountDownLatch expired = new CountDownLatch(count);
+        AtomicInteger cancelledExpired = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            // delays up to several wheel rounds
+            scheduler.schedule(expired::countDown, i % 100, TimeUnit.MILLISECONDS);
+            scheduler.schedule(cancelledExpired::incrementAndGet, i % 100, TimeUnit.MILLISECONDS).cancel();
+        }
+
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+        assertEquals(0, cancelledExpired.get());
+        assertEquals(0, scheduler.getPendingTimeouts());
+    }
+
+    @Test
+    public void failing_task_does_not_stop_scheduler() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        scheduler.schedule(() -> {
+            throw new IllegalStateException("task failure");
+        }, 0, TimeUnit.MILLISECONDS);
+        scheduler.schedule(expired::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cannot_schedule_on_destroyed_scheduler() {
+        scheduler.destroy();
+        assertThrows(IllegalStateException.class, () -> scheduler.schedule(() -> {
+        }, 10, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.leshan.core.util.Hex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.params.SetParams;
+
+/**
+ * A {@link JedisLock} usable in a single instance environment which does not poll Redis while waiting for a lock.
+ * <p>
+ * Like {@link SingleInstanceJedisLock} the lock is acquired using <code>SET NX PX</code>, but :
+ * <ul>
+ * <li>the lock is released using only one compare and delete Lua script.</li>
+ * <li>on release, a waiter is woken up by pushing a token in a "wakeup" list, waiters are blocked on this list using
+ * <code>BLPOP</code> instead of sleeping and retrying. A waiter never waits more than lock expiration, so a lock which
+ * was not released (e.g. the owner crashed) is acquired as soon as it expires.</li>
+ * </ul>
+ * This implementation also collects some metrics about time spent waiting for locks.
+ * <p>
+ * <code>BLPOP</code> with a decimal timeout is used, so Redis 6.0 or later is needed.
+ */
+public class BlockingJedisLock implements JedisLock {
+    private static final Logger LOG = LoggerFactory.getLogger(BlockingJedisLock.class);
+
+    private static final LuaScript RELEASE = new LuaScript("" //
+            + "if redis.call('GET', KEYS[1]) ~= ARGV[1] then\n" //
+            + "  return 0\n" //
+            + "end\n" //
+            + "redis.call('DEL', KEYS[1], KEYS[2])\n" //
+            + "redis.call('RPUSH', KEYS[2], '1')\n" //
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[2])\n" //
+            + "return 1\n");
+
+    protected final int DEFAULT_VALUE_SIZE = 16;
+
+    private final Random random = new Random();
+    private final int expiration; // in ms
+    private final long maxTime; // in ms
+    private final byte[] wakeupKeyPrefix;
+
+    // metrics
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contendedAcquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder(); // in ns
+    private final LongAccumulator maxWaitTime = new LongAccumulator(Long::max, 0); // in ns
+
+    /**
+     * Create a {@link BlockingJedisLock} with {@code expiration} of 500ms, {@code maxTime} of 5000ms and
+     * {@code wakeupKeyPrefix} {@literal LOCK_WAKEUP#}.
+     *
+     * @see #BlockingJedisLock(int, long, String)
+     */
+    public BlockingJedisLock() {
+        this(500, 5000L);
+    }
+
+    /**
+     * Create a {@link BlockingJedisLock} with {@code wakeupKeyPrefix} {@literal LOCK_WAKEUP#}.
+     *
+     * @see #BlockingJedisLock(int, long, String)
+     */
+    public BlockingJedisLock(int expiration, long maxTime) {
+        this(expiration, maxTime, "LOCK_WAKEUP#");
+    }
+
+    /**
+     * @param expiration The lockKey expiration time in milliseconds. After this time the lock will be release even if
+     *        {@link #release(Jedis, byte[], byte[])} is not called.
+     * @param maxTime The maximum time to wait in milliseconds to acquire the lock. After this time an
+     *        {@link IllegalStateException} is raised.
+     * @param wakeupKeyPrefix The prefix added to the lock key to get the key of the list used to wake up waiters. It
+     *        should not be a prefix of any other key used in Redis.
+     */
+    public BlockingJedisLock(int expiration, long maxTime, String wakeupKeyPrefix) {
+        this.expiration = expiration;
+        this.maxTime = maxTime;
+        this.wakeupKeyPrefix = wakeupKeyPrefix.getBytes(UTF_8);
+    }
+
+    /**
+     * Try to acquires a lock for the given key. if it failed after {@code maxTime} raise an
+     * {@link IllegalStateException}
+     *
+     * @param j a Redis connection
+     * @param lockKey the key to use as lock
+     * @return a lock value that must be used to release the lock.
+     */
+    @Override
+    public byte[] acquire(Jedis j, byte[] lockKey) throws IllegalStateException {
+        long start = System.nanoTime();
+        byte[] lockValue = generateLockValue(random);
+        byte[] wakeupKey = null;
+
+        while (!"OK".equals(j.set(lockKey, lockValue, SetParams.setParams().nx().px(expiration)))) {
+            long remaining = maxTime - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (remaining <= 0) {
+                timeouts.increment();
+                throw new IllegalStateException(
+                        String.format("Could not acquire a lock from redis after waiting for %dms", maxTime));
+            }
+            if (wakeupKey == null) {
+                wakeupKey = toWakeupKey(lockKey);
+            }
+            // wait for a release but not more than lock expiration as owner could never release it.
+            j.blpop(Math.min(remaining, expiration) / 1000d, wakeupKey);
+        }
+
+        long waitTime = System.nanoTime() - start;
+        acquisitions.increment();
+        if (wakeupKey != null) {
+            contendedAcquisitions.increment();
+            totalWaitTime.add(waitTime);
+            maxWaitTime.accumulate(waitTime);
+        }
+        return lockValue;
+    }
+
+    /**
+     * Releases a lock for a given key and value and wakes up one of the waiters.
+     *
+     * @param j a Redis connection
+     * @param lockKey the locked key
+     * @param lockValue the value returned when the lock was acquired
+     */
+    @Override
+    public void release(Jedis j, byte[] lockKey, byte[] lockValue) {
+        if (lockValue != null) {
+            Object released = RELEASE.eval(j, Arrays.asList(lockKey, toWakeupKey(lockKey)),
+                    Arrays.asList(lockValue, Integer.toString(expiration).getBytes(UTF_8)));
+            if (!Long.valueOf(1L).equals(released)) {
+                LOG.warn(
+                        "Nothing to release for key {}/{}, meaning the key probably expired because of acquiring the lock for too long (expiration at {}ms)",
+                        new String(lockKey), Hex.encodeHexString(lockValue), expiration);
+            }
+        } else {
+            LOG.warn("Trying to release a lock for {} with a null value", new String(lockKey));
+        }
+    }
+
+    protected byte[] generateLockValue(Random r) {
+        byte[] randomLockValue = new byte[DEFAULT_VALUE_SIZE];
+        r.nextBytes(randomLockValue);
+        return randomLockValue;
+    }
+
+    private byte[] toWakeupKey(byte[] lockKey) {
+        byte[] key = Arrays.copyOf(wakeupKeyPrefix, wakeupKeyPrefix.length + lockKey.length);
+        System.arraycopy(lockKey, 0, key, wakeupKeyPrefix.length, lockKey.length);
+        return key;
+    }
+
+    /* *************** Metrics **************** */
+
+    /**
+     * @return the number of acquired locks.
+     */
+    public long getAcquisitionCount() {
+        return acquisitions.sum();
+    }
+
+    /**
+     * @return the number of acquired locks which were not immediately available.
+     */
+    public long getContendedAcquisitionCount() {
+        return contendedAcquisitions.sum();
+    }
+
+    /**
+     * @return the number of lock acquisitions which failed because lock was not available after {@code maxTime}.
+     */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    /**
+     * @return the total time spent waiting for locks which were not immediately available, in nanoseconds.
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime.sum();
+    }
+
+    /**
+     * @return the longest time spent waiting for a lock, in nanoseconds.
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import org.eclipse.leshan.core.util.Hex;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+/**
+ * A Lua script executed server side by Redis.
+ * <p>
+ * Script is executed using <code>EVALSHA</code>, so only its SHA1 digest is sent on the wire. If the script is not (or
+ * no more) in the Redis script cache, it is sent using <code>EVAL</code> which also loads it in the cache.
+ *
+ * @see <a href="https://redis.io/docs/manual/programmability/eval-intro/">Redis scripting</a>
+ */
+public class LuaScript {
+
+    private final byte[] script;
+    private final byte[] sha1;
+
+    public LuaScript(String script) {
+        this.script = script.getBytes(UTF_8);
+        this.sha1 = sha1Hex(this.script);
+    }
+
+    /**
+     * Execute the script.
+     *
+     * @param j a Redis connection
+     * @param keys the keys accessed by the script (available as <code>KEYS</code> table)
+     * @param args the arguments of the script (available as <code>ARGV</code> table)
+     * @return the script result as returned by Jedis.
+     */
+    public Object eval(Jedis j, List<byte[]> keys, List<byte[]> args) {
+        try {
+            return j.evalsha(sha1, keys, args);
+        } catch (JedisNoScriptException e) {
+            return j.eval(script, keys, args);
+        }
+    }
+
+    private static byte[] sha1Hex(byte[] script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return Hex.encodeHexString(digest.digest(script)).toLowerCase().getBytes(UTF_8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 algorithm is not available", e);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.leshan.server.queue.DownlinkRequestQueue;
+import org.eclipse.leshan.server.queue.DownlinkRequestQueueStore;
+import org.eclipse.leshan.server.queue.QueuedRequest;
+import org.eclipse.leshan.server.redis.serialization.BinaryQueuedRequestSerDes;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * A {@link DownlinkRequestQueueStore} implementation based on Redis, queued requests survive a server restart.
+ * <p>
+ * For each endpoint, ids of queued requests are stored in a list to keep queue order and requests are stored in a hash
+ * by id. Requests are serialized with {@link BinaryQueuedRequestSerDes}, so only requests supported by this format can
+ * be queued.
+ * <p>
+ * The {@link DownlinkRequestQueue} using this store keeps in-flight state in memory, so a given queue should be drained
+ * by only one server instance at a time.
+ */
+public class RedisDownlinkRequestQueueStore implements DownlinkRequestQueueStore {
+
+    private final Pool<Jedis> pool;
+    private final String requestIdsByEndpointPrefix;
+    private final String requestsByEndpointPrefix;
+    private final BinaryQueuedRequestSerDes serDes;
+
+    public RedisDownlinkRequestQueueStore(Pool<Jedis> pool) {
+        this(new Builder(pool));
+    }
+
+    /**
+     * Create a store from the given builder configuration.
+     *
+     * @throws IllegalArgumentException when {@link Builder#setRequestIdsByEndpointPrefix(String)} or
+     *         {@link Builder#setRequestsByEndpointPrefix(String)} are not set or are equal to each other.
+     */
+    protected RedisDownlinkRequestQueueStore(Builder builder) {
+        if (builder.requestIdsByEndpointPrefix == null || builder.requestIdsByEndpointPrefix.isEmpty()) {
+            throw new IllegalArgumentException("requestIdsByEndpointPrefix should not be empty");
+        }
+
+        if (builder.requestsByEndpointPrefix == null || builder.requestsByEndpointPrefix.isEmpty()) {
+            throw new IllegalArgumentException("requestsByEndpointPrefix should not be empty");
+        }
+
+        if (builder.requestIdsByEndpointPrefix.equals(builder.requestsByEndpointPrefix)) {
+            throw new IllegalArgumentException(
+                    "requestIdsByEndpointPrefix should not be equal to requestsByEndpointPrefix");
+        }
+
+        String prefix = builder.prefix != null ? builder.prefix : "";
+        this.pool = builder.pool;
+        this.requestIdsByEndpointPrefix = prefix + builder.requestIdsByEndpointPrefix;
+        this.requestsByEndpointPrefix = prefix + builder.requestsByEndpointPrefix;
+        this.serDes = builder.serDes != null ? builder.serDes : new BinaryQueuedRequestSerDes();
+    }
+
+    @Override
+    public void add(QueuedRequest request) {
+        byte[] data = serDes.serialize(request);
+        byte[] id = request.getId().getBytes(UTF_8);
+        try (Jedis j = pool.getResource()) {
+            Transaction transaction = j.multi();
+            transaction.hset(toRequestsKey(request.getEndpoint()), id, data);
+            transaction.rpush(toRequestIdsKey(request.getEndpoint()), id);
+            transaction.exec();
+        }
+    }
+
+    @Override
+    public boolean replace(QueuedRequest request) {
+        byte[] data = serDes.serialize(request);
+        byte[] key = toRequestsKey(request.getEndpoint());
+        byte[] id = request.getId().getBytes(UTF_8);
+        try (Jedis j = pool.getResource()) {
+            if (!j.hexists(key, id)) {
+                return false;
+            }
+            j.hset(key, id, data);
+            return true;
+        }
+    }
+
+    @Override
+    public List<QueuedRequest> get(String endpoint) {
+        try (Jedis j = pool.getResource()) {
+            List<byte[]> ids = j.lrange(toRequestIdsKey(endpoint), 0, -1);
+            List<QueuedRequest> requests = new ArrayList<>(ids.size());
+            if (ids.isEmpty()) {
+                return requests;
+            }
+            for (byte[] data : j.hmget(toRequestsKey(endpoint), ids.toArray(new byte[ids.size()][]))) {
+                if (data != null) {
+                    requests.add(serDes.deserialize(data));
+                }
+            }
+            return requests;
+        }
+    }
+
+    @Override
+    public boolean remove(String endpoint, String requestId) {
+        byte[] id = requestId.getBytes(UTF_8);
+        try (Jedis j = pool.getResource()) {
+            Transaction transaction = j.multi();
+            Response<Long> removed = transaction.hdel(toRequestsKey(endpoint), id);
+            transaction.lrem(toRequestIdsKey(endpoint), 1, id);
+            transaction.exec();
+            return removed.get() > 0;
+        }
+    }
+
+    private byte[] toRequestIdsKey(String endpoint) {
+        return (requestIdsByEndpointPrefix + endpoint).getBytes(UTF_8);
+    }
+
+    private byte[] toRequestsKey(String endpoint) {
+        return (requestsByEndpointPrefix + endpoint).getBytes(UTF_8);
+    }
+
+    /**
+     * Class helping to build and configure a {@link RedisDownlinkRequestQueueStore}.
+     */
+    public static class Builder {
+
+        private final Pool<Jedis> pool;
+        private String prefix;
+        private String requestIdsByEndpointPrefix;
+        private String requestsByEndpointPrefix;
+        private BinaryQueuedRequestSerDes serDes;
+
+        public Builder(Pool<Jedis> pool) {
+            this.pool = pool;
+            this.prefix = "QUEUESTORE#";
+            this.requestIdsByEndpointPrefix = "IDS#EP#";
+            this.requestsByEndpointPrefix = "REQ#EP#";
+        }
+
+        /**
+         * Set the prefix for all keys and prefixes including {@link #requestIdsByEndpointPrefix} and
+         * {@link #requestsByEndpointPrefix}.
+         * <p>
+         * Default value is {@literal QUEUESTORE#}.
+         */
+        public Builder setPrefix(String prefix) {
+            this.prefix = prefix;
+            return this;
+        }
+
+        /**
+         * Set the key prefix for the ordered list of queued request ids by endpoint.
+         * <p>
+         * Default value is {@literal IDS#EP#}. Should not be {@code null} or empty.
+         */
+        public Builder setRequestIdsByEndpointPrefix(String requestIdsByEndpointPrefix) {
+            this.requestIdsByEndpointPrefix = requestIdsByEndpointPrefix;
+            return this;
+        }
+
+        /**
+         * Set the key prefix for the hash of queued requests by endpoint.
+         * <p>
+         * Default value is {@literal REQ#EP#}. Should not be {@code null} or empty.
+         */
+        public Builder setRequestsByEndpointPrefix(String requestsByEndpointPrefix) {
+            this.requestsByEndpointPrefix = requestsByEndpointPrefix;
+            return this;
+        }
+
+        /**
+         * Set the serializer/deserializer used for queued requests.
+         * <p>
+         * Default value is {@link BinaryQueuedRequestSerDes}.
+         */
+        public Builder setSerDes(BinaryQueuedRequestSerDes serDes) {
+            this.serDes = serDes;
+            return this;
+        }
+
+        /**
+         * Create the {@link RedisDownlinkRequestQueueStore}.
+         * <p>
+         * Throws {@link IllegalArgumentException} when {@link #requestIdsByEndpointPrefix} or
+         * {@link #requestsByEndpointPrefix} are not set or are equal to each other.
+         */
+        public RedisDownlinkRequestQueueStore build() throws IllegalArgumentException {
+            return new RedisDownlinkRequestQueueStore(this);
+        }
+    }
+}
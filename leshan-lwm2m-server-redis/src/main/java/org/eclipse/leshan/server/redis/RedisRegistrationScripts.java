@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+/**
+ * Lua scripts used by {@link RedisRegistrationStore} in atomic mode.
+ * <p>
+ * Each modification script is a "compare and set" : it is applied only if the stored value is still the one read by the
+ * caller, else it does nothing and returns <code>0</code> so caller can retry with fresh data.
+ */
+class RedisRegistrationScripts {
+
+    private RedisRegistrationScripts() {
+    }
+
+    private static final String FUNCTIONS = "" //
+            + "local function removeIndex(indexKey, endpoint)\n" //
+            + "  if redis.call('GET', indexKey) == endpoint then\n" //
+            + "    redis.call('DEL', indexKey)\n" //
+            + "  end\n" //
+            + "end\n" //
+            + "local function removeAllObservations(obsIdsKey, obsPrefix)\n" //
+            + "  local removed = {}\n" //
+            + "  for _, id in ipairs(redis.call('LRANGE', obsIdsKey, 0, -1)) do\n" //
+            + "    local key = obsPrefix .. id\n" //
+            + "    local obs = redis.call('GET', key)\n" //
+            + "    if obs then\n" //
+            + "      table.insert(removed, obs)\n" //
+            + "      redis.call('DEL', key)\n" //
+            + "    end\n" //
+            + "  end\n" //
+            + "  redis.call('DEL', obsIdsKey)\n" //
+            + "  return removed\n" //
+            + "end\n";
+
+    /**
+     * Get a registration using a secondary index.
+     * <p>
+     * KEYS : index key<br>
+     * ARGV : registration by endpoint prefix<br>
+     * Returns : the registration or <code>nil</code>
+     */
+    static final LuaScript GET_REGISTRATION_BY_INDEX = new LuaScript("" //
+            + "local ep = redis.call('GET', KEYS[1])\n" //
+            + "if not ep then\n" //
+            + "  return false\n" //
+            + "end\n" //
+            + "return redis.call('GET', ARGV[1] .. ep)\n");
+
+    /**
+     * Add a registration, replacing the previous one for the same endpoint.
+     * <p>
+     * KEYS : endpoint key, registration id index, address index, identity index, expiration key and if there is a
+     * previous registration : its registration id index, address index, identity index and observation ids key.<br>
+     * ARGV : expected previous registration (empty if none), new registration, endpoint, expiration timestamp,
+     * observation prefix<br>
+     * Returns : <code>{0}</code> if previous registration changed, <code>{1, removedObservations}</code> else.
+     */
+    static final LuaScript ADD_REGISTRATION = new LuaScript(FUNCTIONS //
+            + "local current = redis.call('GET', KEYS[1])\n" //
+            + "if ARGV[1] == '' then\n" //
+            + "  if current then\n" //
+            + "    return {0}\n" //
+            + "  end\n" //
+            + "elseif current ~= ARGV[1] then\n" //
+            + "  return {0}\n" //
+            + "end\n" //
+            + "redis.call('SET', KEYS[1], ARGV[2])\n" //
+            + "redis.call('SET', KEYS[2], ARGV[3])\n" //
+            + "redis.call('SET', KEYS[3], ARGV[3])\n" //
+            + "redis.call('SET', KEYS[4], ARGV[3])\n" //
+            + "redis.call('ZADD', KEYS[5], ARGV[4], ARGV[3])\n" //
+            + "if #KEYS > 5 then\n" //
+            + "  if KEYS[6] ~= KEYS[2] then\n" //
+            + "    redis.call('DEL', KEYS[6])\n" //
+            + "  end\n" //
+            + "  if KEYS[7] ~= KEYS[3] then\n" //
+            + "    removeIndex(KEYS[7], ARGV[3])\n" //
+            + "  end\n" //
+            + "  if KEYS[8] ~= KEYS[4] then\n" //
+            + "    removeIndex(KEYS[8], ARGV[3])\n" //
+            + "  end\n" //
+            + "  return {1, removeAllObservations(KEYS[9], ARGV[5])}\n" //
+            + "end\n" //
+            + "return {1, {}}\n");
+
+    /**
+     * Replace a registration by its updated version.
+     * <p>
+     * KEYS : endpoint key, address index, identity index, expiration key, previous address index, previous identity
+     * index<br>
+     * ARGV : expected previous registration, updated registration, endpoint, expiration timestamp<br>
+     * Returns : <code>0</code> if previous registration changed, <code>1</code> else.
+     */
+    static final LuaScript UPDATE_REGISTRATION = new LuaScript(FUNCTIONS //
+            + "if redis.call('GET', KEYS[1]) ~= ARGV[1] then\n" //
+            + "  return 0\n" //
+            + "end\n" //
+            + "redis.call('SET', KEYS[1], ARGV[2])\n" //
+            + "redis.call('ZADD', KEYS[4], ARGV[4], ARGV[3])\n" //
+            + "redis.call('SET', KEYS[2], ARGV[3])\n" //
+            + "if KEYS[5] ~= KEYS[2] then\n" //
+            + "  removeIndex(KEYS[5], ARGV[3])\n" //
+            + "end\n" //
+            + "redis.call('SET', KEYS[3], ARGV[3])\n" //
+            + "if KEYS[6] ~= KEYS[3] then\n" //
+            + "  removeIndex(KEYS[6], ARGV[3])\n" //
+            + "end\n" //
+            + "return 1\n");
+
+    /**
+     * Remove a registration and its observations.
+     * <p>
+     * KEYS : endpoint key, registration id index, address index, identity index, expiration key, observation ids
+     * key<br>
+     * ARGV : expected registration, endpoint, observation prefix<br>
+     * Returns : <code>{0}</code> if registration changed, <code>{1, removedObservations}</code> else.
+     */
+    static final LuaScript REMOVE_REGISTRATION = new LuaScript(FUNCTIONS //
+            + "if redis.call('GET', KEYS[1]) ~= ARGV[1] then\n" //
+            + "  return {0}\n" //
+            + "end\n" //
+            + "redis.call('DEL', KEYS[1], KEYS[2])\n" //
+            + "removeIndex(KEYS[3], ARGV[2])\n" //
+            + "removeIndex(KEYS[4], ARGV[2])\n" //
+            + "redis.call('ZREM', KEYS[5], ARGV[2])\n" //
+            + "return {1, removeAllObservations(KEYS[6], ARGV[3])}\n");
+
+    /**
+     * Get observation ids of a registration and the corresponding observations.
+     * <p>
+     * KEYS : observation ids key<br>
+     * ARGV : observation prefix<br>
+     * Returns : <code>{ids, observations}</code>, observation is an empty string if it does not exist anymore.
+     */
+    static final LuaScript GET_OBSERVATIONS = new LuaScript("" //
+            + "local ids = redis.call('LRANGE', KEYS[1], 0, -1)\n" //
+            + "local observations = {}\n" //
+            + "for i, id in ipairs(ids) do\n" //
+            + "  observations[i] = redis.call('GET', ARGV[1] .. id) or ''\n" //
+            + "end\n" //
+            + "return {ids, observations}\n");
+
+    /**
+     * Add an observation and remove the given ones.
+     * <p>
+     * KEYS : registration id index, observation key, observation ids key<br>
+     * ARGV : observation id, observation, addIfAbsent ('1' or '0'), observation prefix, number of expected observation
+     * ids, expected observation ids..., observation ids to remove...<br>
+     * Returns : <code>{-1}</code> if there is no registration, <code>{0}</code> if observation ids changed,
+     * <code>{1, previousObservation}</code> else.
+     */
+    static final LuaScript ADD_OBSERVATION = new LuaScript("" //
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then\n" //
+            + "  return {-1}\n" //
+            + "end\n" //
+            + "local ids = redis.call('LRANGE', KEYS[3], 0, -1)\n" //
+            + "local n = tonumber(ARGV[5])\n" //
+            + "if #ids ~= n then\n" //
+            + "  return {0}\n" //
+            + "end\n" //
+            + "for i = 1, n do\n" //
+            + "  if ids[i] ~= ARGV[5 + i] then\n" //
+            + "    return {0}\n" //
+            + "  end\n" //
+            + "end\n" //
+            + "local previous = redis.call('GET', KEYS[2])\n" //
+            + "if ARGV[3] ~= '1' or not previous then\n" //
+            + "  redis.call('SET', KEYS[2], ARGV[2])\n" //
+            + "end\n" //
+            + "redis.call('LPUSH', KEYS[3], ARGV[1])\n" //
+            + "for i = 6 + n, #ARGV do\n" //
+            + "  if redis.call('DEL', ARGV[4] .. ARGV[i]) > 0 then\n" //
+            + "    redis.call('LREM', KEYS[3], 0, ARGV[i])\n" //
+            + "  end\n" //
+            + "end\n" //
+            + "if previous then\n" //
+            + "  return {1, previous}\n" //
+            + "end\n" //
+            + "return {1}\n");
+
+    /**
+     * Remove an observation.
+     * <p>
+     * KEYS : registration id index, observation key, observation ids key<br>
+     * ARGV : expected observation, observation id<br>
+     * Returns : <code>0</code> if there is no registration, <code>-1</code> if observation changed, <code>1</code>
+     * else.
+     */
+    static final LuaScript REMOVE_OBSERVATION = new LuaScript("" //
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then\n" //
+            + "  return 0\n" //
+            + "end\n" //
+            + "if redis.call('GET', KEYS[2]) ~= ARGV[1] then\n" //
+            + "  return -1\n" //
+            + "end\n" //
+            + "redis.call('DEL', KEYS[2])\n" //
+            + "redis.call('LREM', KEYS[3], 0, ARGV[2])\n" //
+            + "return 1\n");
+
+    /**
+     * Remove all observations of a registration.
+     * <p>
+     * KEYS : registration id index, observation ids key<br>
+     * ARGV : observation prefix<br>
+     * Returns : removed observations.
+     */
+    static final LuaScript REMOVE_OBSERVATIONS = new LuaScript(FUNCTIONS //
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then\n" //
+            + "  return {}\n" //
+            + "end\n" //
+            + "return removeAllObservations(KEYS[2], ARGV[1])\n");
+}
@@ -21,6 +21,14 @@
 package org.eclipse.leshan.server.redis;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.leshan.server.redis.RedisRegistrationScripts.ADD_OBSERVATION;
+import static org.eclipse.leshan.server.redis.RedisRegistrationScripts.ADD_REGISTRATION;
+import static org.eclipse.leshan.server.redis.RedisRegistrationScripts.GET_OBSERVATIONS;
+import static org.eclipse.leshan.server.redis.RedisRegistrationScripts.GET_REGISTRATION_BY_INDEX;
+import static org.eclipse.leshan.server.redis.RedisRegistrationScripts.REMOVE_OBSERVATION;
+import static org.eclipse.leshan.server.redis.RedisRegistrationScripts.REMOVE_OBSERVATIONS;
+import static org.eclipse.leshan.server.redis.RedisRegistrationScripts.REMOVE_REGISTRATION;
+import static org.eclipse.leshan.server.redis.RedisRegistrationScripts.UPDATE_REGISTRATION;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
@@ -48,6 +56,8 @@ import org.eclipse.leshan.core.peer.LwM2mIdentity;
 import org.eclipse.leshan.core.peer.LwM2mPeer;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.redis.serialization.BinaryObservationSerDes;
+import org.eclipse.leshan.server.redis.serialization.BinaryRegistrationSerDes;
 import org.eclipse.leshan.server.redis.serialization.LwM2mIdentitySerDes;
 import org.eclipse.leshan.server.redis.serialization.LwM2mPeerSerDes;
 import org.eclipse.leshan.server.redis.serialization.ObservationSerDes;
@@ -73,6 +83,9 @@ import redis.clients.jedis.util.Pool;
 public class RedisRegistrationStore implements RegistrationStore, Startable, Stoppable, Destroyable {
     private static final Logger LOG = LoggerFactory.getLogger(RedisRegistrationStore.class);
 
+    // Maximum number of attempts of an atomic operation which failed because of concurrent modifications
+    private static final int MAX_ATOMIC_ATTEMPTS = 100;
+
     // Redis key prefixes
     private final String registrationByEndpointPrefix; // (Endpoint => Registration)
     private final String endpointByRegistrationIdPrefix; // secondary index key (Registration ID => Endpoint)
@@ -101,6 +114,8 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     private final RegistrationSerDes registrationSerDes;
     private final ObservationSerDes observationSerDes;
     private final LwM2mIdentitySerDes identitySerDes;
+    private final boolean atomicMode;
+    private final RegistrationNearCache nearCache; // null if disabled
 
     public RedisRegistrationStore(Pool<Jedis> p) {
         this(new Builder(p).generateDefaultValue());
@@ -124,6 +139,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         this.registrationSerDes = builder.registrationSerDes;
         this.observationSerDes = builder.observationSerDes;
         this.identitySerDes = builder.identitySerDes;
+        this.atomicMode = builder.atomicMode;
+        this.nearCache = builder.nearCacheSize > 0
+                ? new RegistrationNearCache(pool, builder.nearCacheInvalidationChannel, builder.nearCacheSize)
+                : null;
     }
 
     /* *************** Redis Key utility function **************** */
@@ -162,109 +181,127 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     @Override
     public Deregistration addRegistration(Registration registration) {
         try (Jedis j = pool.getResource()) {
-            byte[] lockValue = null;
-            byte[] lockKey = toLockKey(registration.getEndpoint());
+            Deregistration deregistration = atomicMode ? atomicAddRegistration(j, registration)
+                    : lockedAddRegistration(j, registration);
+            publishInvalidation(j, registration.getEndpoint());
+            return deregistration;
+        }
+    }
 
-            try {
-                lockValue = lock.acquire(j, lockKey);
+    private Deregistration lockedAddRegistration(Jedis j, Registration registration) {
+        byte[] lockValue = null;
+        byte[] lockKey = toLockKey(registration.getEndpoint());
 
-                // add registration
-                byte[] k = toEndpointKey(registration.getEndpoint());
-                byte[] old = j.getSet(k, serializeReg(registration));
-
-                // add registration: secondary indexes
-                byte[] regid_idx = toRegIdKey(registration.getId());
-                j.set(regid_idx, registration.getEndpoint().getBytes(UTF_8));
-                byte[] addr_idx = toRegAddrKey(registration.getSocketAddress());
-                j.set(addr_idx, registration.getEndpoint().getBytes(UTF_8));
-                byte[] identity_idx = toRegIdentityKey(registration.getClientTransportData().getIdentity());
-                j.set(identity_idx, registration.getEndpoint().getBytes(UTF_8));
-
-                // Add or update expiration
-                addOrUpdateExpiration(j, registration);
-
-                if (old != null) {
-                    Registration oldRegistration = deserializeReg(old);
-                    // remove old secondary index
-                    if (!registration.getId().equals(oldRegistration.getId()))
-                        j.del(toRegIdKey(oldRegistration.getId()));
-                    if (!oldRegistration.getSocketAddress().equals(registration.getSocketAddress())) {
-                        removeAddrIndex(j, oldRegistration);
-                    }
-                    if (!oldRegistration.getClientTransportData().getIdentity()
-                            .equals(registration.getClientTransportData().getIdentity())) {
-                        removeIdentityIndex(j, oldRegistration);
-                    }
-                    // remove old observation
-                    Collection<Observation> obsRemoved = unsafeRemoveAllObservations(j, oldRegistration.getId());
+        try {
+            lockValue = lock.acquire(j, lockKey);
 
-                    return new Deregistration(oldRegistration, obsRemoved);
+            // add registration
+            byte[] k = toEndpointKey(registration.getEndpoint());
+            byte[] old = j.getSet(k, serializeReg(registration));
+
+            // add registration: secondary indexes
+            byte[] regid_idx = toRegIdKey(registration.getId());
+            j.set(regid_idx, registration.getEndpoint().getBytes(UTF_8));
+            byte[] addr_idx = toRegAddrKey(registration.getSocketAddress());
+            j.set(addr_idx, registration.getEndpoint().getBytes(UTF_8));
+            byte[] identity_idx = toRegIdentityKey(registration.getClientTransportData().getIdentity());
+            j.set(identity_idx, registration.getEndpoint().getBytes(UTF_8));
+
+            // Add or update expiration
+            addOrUpdateExpiration(j, registration);
+
+            if (old != null) {
+                Registration oldRegistration = deserializeReg(old);
+                // remove old secondary index
+                if (!registration.getId().equals(oldRegistration.getId()))
+                    j.del(toRegIdKey(oldRegistration.getId()));
+                if (!oldRegistration.getSocketAddress().equals(registration.getSocketAddress())) {
+                    removeAddrIndex(j, oldRegistration);
                 }
+                if (!oldRegistration.getClientTransportData().getIdentity()
+                        .equals(registration.getClientTransportData().getIdentity())) {
+                    removeIdentityIndex(j, oldRegistration);
+                }
+                // remove old observation
+                Collection<Observation> obsRemoved = unsafeRemoveAllObservations(j, oldRegistration.getId());
 
-                return null;
-            } finally {
-                lock.release(j, lockKey, lockValue);
+                return new Deregistration(oldRegistration, obsRemoved);
             }
+
+            return null;
+        } finally {
+            lock.release(j, lockKey, lockValue);
         }
     }
 
     @Override
     public UpdatedRegistration updateRegistration(RegistrationUpdate update) {
         try (Jedis j = pool.getResource()) {
-
-            // Fetch the registration ep by registration ID index
-            byte[] ep = j.get(toRegIdKey(update.getRegistrationId()));
-            if (ep == null) {
-                return null;
+            UpdatedRegistration updatedRegistration = atomicMode ? atomicUpdateRegistration(j, update)
+                    : lockedUpdateRegistration(j, update);
+            if (updatedRegistration != null) {
+                publishInvalidation(j, updatedRegistration.getUpdatedRegistration().getEndpoint());
             }
+            return updatedRegistration;
+        }
+    }
 
-            byte[] lockValue = null;
-            byte[] lockKey = toLockKey(ep);
-            try {
-                lockValue = lock.acquire(j, lockKey);
-
-                // Fetch the registration
-                byte[] data = j.get(toEndpointKey(ep));
-                if (data == null) {
-                    return null;
-                }
+    private UpdatedRegistration lockedUpdateRegistration(Jedis j, RegistrationUpdate update) {
+        // Fetch the registration ep by registration ID index
+        byte[] ep = j.get(toRegIdKey(update.getRegistrationId()));
+        if (ep == null) {
+            return null;
+        }
 
-                Registration r = deserializeReg(data);
+        byte[] lockValue = null;
+        byte[] lockKey = toLockKey(ep);
+        try {
+            lockValue = lock.acquire(j, lockKey);
 
-                Registration updatedRegistration = update.update(r);
+            // Fetch the registration
+            byte[] data = j.get(toEndpointKey(ep));
+            if (data == null) {
+                return null;
+            }
 
-                // Store the new registration
-                j.set(toEndpointKey(updatedRegistration.getEndpoint()), serializeReg(updatedRegistration));
+            Registration r = deserializeReg(data);
 
-                // Add or update expiration
-                addOrUpdateExpiration(j, updatedRegistration);
+            Registration updatedRegistration = update.update(r);
 
-                // Update secondary index :
-                // If registration is already associated to this address we don't care as we only want to keep the most
-                // recent binding.
-                byte[] addr_idx = toRegAddrKey(updatedRegistration.getSocketAddress());
-                j.set(addr_idx, updatedRegistration.getEndpoint().getBytes(UTF_8));
-                if (!r.getSocketAddress().equals(updatedRegistration.getSocketAddress())) {
-                    removeAddrIndex(j, r);
-                }
-                // update secondary index :
-                byte[] identity_idx = toRegIdentityKey(updatedRegistration.getClientTransportData().getIdentity());
-                j.set(identity_idx, updatedRegistration.getEndpoint().getBytes(UTF_8));
-                if (!r.getClientTransportData().getIdentity()
-                        .equals(updatedRegistration.getClientTransportData().getIdentity())) {
-                    removeIdentityIndex(j, r);
-                }
+            // Store the new registration
+            j.set(toEndpointKey(updatedRegistration.getEndpoint()), serializeReg(updatedRegistration));
 
-                return new UpdatedRegistration(r, updatedRegistration);
+            // Add or update expiration
+            addOrUpdateExpiration(j, updatedRegistration);
 
-            } finally {
-                lock.release(j, lockKey, lockValue);
+            // Update secondary index :
+            // If registration is already associated to this address we don't care as we only want to keep the most
+            // recent binding.
+            byte[] addr_idx = toRegAddrKey(updatedRegistration.getSocketAddress());
+            j.set(addr_idx, updatedRegistration.getEndpoint().getBytes(UTF_8));
+            if (!r.getSocketAddress().equals(updatedRegistration.getSocketAddress())) {
+                removeAddrIndex(j, r);
             }
+            // update secondary index :
+            byte[] identity_idx = toRegIdentityKey(updatedRegistration.getClientTransportData().getIdentity());
+            j.set(identity_idx, updatedRegistration.getEndpoint().getBytes(UTF_8));
+            if (!r.getClientTransportData().getIdentity()
+                    .equals(updatedRegistration.getClientTransportData().getIdentity())) {
+                removeIdentityIndex(j, r);
+            }
+
+            return new UpdatedRegistration(r, updatedRegistration);
+
+        } finally {
+            lock.release(j, lockKey, lockValue);
         }
     }
 
     @Override
     public Registration getRegistration(String registrationId) {
+        if (nearCache != null) {
+            return getCachedRegistrationByIndex(toRegIdIndex(registrationId));
+        }
         try (Jedis j = pool.getResource()) {
             return getRegistration(j, registrationId);
         }
@@ -273,44 +310,97 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     @Override
     public Registration getRegistrationByEndpoint(String endpoint) {
         Validate.notNull(endpoint);
+        if (nearCache != null) {
+            Registration registration = nearCache.getByEndpoint(endpoint);
+            if (registration != null) {
+                return registration;
+            }
+        }
         try (Jedis j = pool.getResource()) {
+            long stamp = nearCache != null ? nearCache.stamp(endpoint) : 0;
             byte[] data = j.get(toEndpointKey(endpoint));
             if (data == null) {
                 return null;
             }
-            return deserializeReg(data);
+            Registration registration = deserializeReg(data);
+            addToNearCache(registration, stamp);
+            return registration;
         }
     }
 
     @Override
     public Registration getRegistrationByAdress(InetSocketAddress address) {
         Validate.notNull(address);
+        if (nearCache != null) {
+            return getCachedRegistrationBySharedIndex(toRegAddrKey(address));
+        }
         try (Jedis j = pool.getResource()) {
-            byte[] ep = j.get(toRegAddrKey(address));
-            if (ep == null) {
-                return null;
-            }
-            byte[] data = j.get(toEndpointKey(ep));
-            if (data == null) {
-                return null;
-            }
-            return deserializeReg(data);
+            return getRegistrationByIndex(j, toRegAddrKey(address));
         }
     }
 
     @Override
     public Registration getRegistrationByIdentity(LwM2mIdentity identity) {
         Validate.notNull(identity);
+        if (nearCache != null) {
+            return getCachedRegistrationBySharedIndex(toRegIdentityKey(identity));
+        }
+        try (Jedis j = pool.getResource()) {
+            return getRegistrationByIndex(j, toRegIdentityKey(identity));
+        }
+    }
+
+    /* *************** Near cache **************** */
+
+    private Registration getCachedRegistrationByIndex(String indexKey) {
+        Registration registration = nearCache.getByIndexKey(indexKey);
+        if (registration != null) {
+            return registration;
+        }
+
         try (Jedis j = pool.getResource()) {
-            byte[] ep = j.get(toRegIdentityKey(identity));
+            byte[] ep = j.get(indexKey.getBytes());
             if (ep == null) {
                 return null;
             }
+            // get stamp before reading registration, see RegistrationNearCache
+            long stamp = nearCache.stamp(new String(ep, UTF_8));
             byte[] data = j.get(toEndpointKey(ep));
             if (data == null) {
                 return null;
             }
-            return deserializeReg(data);
+            registration = deserializeReg(data);
+            addToNearCache(registration, stamp);
+            return registration;
+        }
+    }
+
+    /**
+     * An address or an identity can be taken over by another endpoint without the registration of its previous owner
+     * being modified (e.g. NAT rebinding), so cached registrations can not be trusted for those indexes : the index is
+     * always read from Redis and only the registration of the endpoint it references is served from the cache.
+     */
+    private Registration getCachedRegistrationBySharedIndex(byte[] indexKey) {
+        byte[] ep;
+        try (Jedis j = pool.getResource()) {
+            ep = j.get(indexKey);
+        }
+        if (ep == null) {
+            return null;
+        }
+        return getRegistrationByEndpoint(new String(ep, UTF_8));
+    }
+
+    private void addToNearCache(Registration registration, long stamp) {
+        if (nearCache != null) {
+            // only registration id is cached as index key, it is never shared by several endpoints
+            nearCache.put(registration, stamp, toRegIdIndex(registration.getId()));
+        }
+    }
+
+    private void publishInvalidation(Jedis j, String endpoint) {
+        if (nearCache != null) {
+            nearCache.publishInvalidation(j, endpoint);
         }
     }
 
@@ -390,6 +480,15 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     }
 
     private Deregistration removeRegistration(Jedis j, String registrationId, boolean removeOnlyIfNotAlive) {
+        Deregistration deregistration = atomicMode ? atomicRemoveRegistration(j, registrationId, removeOnlyIfNotAlive)
+                : lockedRemoveRegistration(j, registrationId, removeOnlyIfNotAlive);
+        if (deregistration != null) {
+            publishInvalidation(j, deregistration.getRegistration().getEndpoint());
+        }
+        return deregistration;
+    }
+
+    private Deregistration lockedRemoveRegistration(Jedis j, String registrationId, boolean removeOnlyIfNotAlive) {
         // fetch the client ep by registration ID index
         byte[] ep = j.get(toRegIdKey(registrationId));
         if (ep == null) {
@@ -462,7 +561,11 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     }
 
     private byte[] toRegIdKey(String registrationId) {
-        return toKey(endpointByRegistrationIdPrefix, registrationId);
+        return toRegIdIndex(registrationId).getBytes();
+    }
+
+    private String toRegIdIndex(String registrationId) {
+        return endpointByRegistrationIdPrefix + registrationId;
     }
 
     private byte[] toRegAddrKey(InetSocketAddress addr) {
@@ -481,6 +584,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         return toKey(registrationByEndpointPrefix.getBytes(UTF_8), endpoint);
     }
 
+    private byte[] toObservationIdsKey(String registrationId) {
+        return toKey(observationIdsByRegistrationIdPrefix, registrationId);
+    }
+
     private byte[] toObservationKey(ObservationIdentifier observationId) {
         return toKey(observationByIdPrefix, toObservationId(observationId));
     }
@@ -508,6 +615,9 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
         List<Observation> removed = new ArrayList<>();
         try (Jedis j = pool.getResource()) {
+            if (atomicMode) {
+                return atomicAddObservation(j, registrationId, observation, addIfAbsent);
+            }
 
             // fetch the client ep by registration ID index
             byte[] ep = j.get(toRegIdKey(registrationId));
@@ -573,6 +683,9 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     @Override
     public Observation removeObservation(String registrationId, ObservationIdentifier observationId) {
         try (Jedis j = pool.getResource()) {
+            if (atomicMode) {
+                return atomicRemoveObservation(j, registrationId, observationId);
+            }
 
             // fetch the client ep by registration ID index
             byte[] ep = j.get(toRegIdKey(registrationId));
@@ -621,6 +734,9 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     @Override
     public Collection<Observation> getObservations(String registrationId) {
         try (Jedis j = pool.getResource()) {
+            if (atomicMode) {
+                return deserializeObservations(getObservationIdsAndValues(j, registrationId).get(1));
+            }
             return unsafeGetObservations(j, registrationId);
         }
     }
@@ -628,6 +744,12 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     @Override
     public Collection<Observation> removeObservations(String registrationId) {
         try (Jedis j = pool.getResource()) {
+            if (atomicMode) {
+                return deserializeObservations(REMOVE_OBSERVATIONS.eval(j,
+                        list(toRegIdKey(registrationId), toObservationIdsKey(registrationId)),
+                        list(observationByIdPrefix)));
+            }
+
             // check registration exists
             Registration registration = getRegistration(j, registrationId);
             if (registration == null)
@@ -650,11 +772,21 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     /* *************** Observation utility functions **************** */
 
     private Registration getRegistration(Jedis j, String registrationId) {
-        byte[] ep = j.get(toRegIdKey(registrationId));
-        if (ep == null) {
-            return null;
+        return getRegistrationByIndex(j, toRegIdKey(registrationId));
+    }
+
+    private Registration getRegistrationByIndex(Jedis j, byte[] indexKey) {
+        byte[] data;
+        if (atomicMode) {
+            data = (byte[]) GET_REGISTRATION_BY_INDEX.eval(j, list(indexKey),
+                    list(registrationByEndpointPrefix.getBytes(UTF_8)));
+        } else {
+            byte[] ep = j.get(indexKey);
+            if (ep == null) {
+                return null;
+            }
+            data = j.get(toEndpointKey(ep));
         }
-        byte[] data = j.get(toEndpointKey(ep));
         if (data == null) {
             return null;
         }
@@ -715,6 +847,211 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         return observationSerDes.deserialize(data);
     }
 
+    /* *************** Atomic mode **************** */
+
+    // In atomic mode, each modification is an optimistic "compare and set" Lua script : data are read, modified in Java
+    // then the script writes them only if they were not modified in the meantime, else we retry with fresh data.
+
+    private Deregistration atomicAddRegistration(Jedis j, Registration registration) {
+        byte[] endpoint = registration.getEndpoint().getBytes(UTF_8);
+        byte[] endpointKey = toEndpointKey(registration.getEndpoint());
+        byte[] serializedReg = serializeReg(registration);
+        byte[] expiration = toExpirationScore(registration);
+
+        for (int attempt = 0; attempt < MAX_ATOMIC_ATTEMPTS; attempt++) {
+            byte[] old = j.get(endpointKey);
+            Registration oldRegistration = old == null ? null : deserializeReg(old);
+
+            List<byte[]> keys = new ArrayList<>(9);
+            keys.add(endpointKey);
+            keys.add(toRegIdKey(registration.getId()));
+            keys.add(toRegAddrKey(registration.getSocketAddress()));
+            keys.add(toRegIdentityKey(registration.getClientTransportData().getIdentity()));
+            keys.add(endpointExpirationKey);
+            if (oldRegistration != null) {
+                keys.add(toRegIdKey(oldRegistration.getId()));
+                keys.add(toRegAddrKey(oldRegistration.getSocketAddress()));
+                keys.add(toRegIdentityKey(oldRegistration.getClientTransportData().getIdentity()));
+                keys.add(toObservationIdsKey(oldRegistration.getId()));
+            }
+
+            List<?> result = (List<?>) ADD_REGISTRATION.eval(j, keys,
+                    list(old == null ? new byte[0] : old, serializedReg, endpoint, expiration, observationByIdPrefix));
+            if (isApplied(result.get(0))) {
+                if (oldRegistration != null) {
+                    return new Deregistration(oldRegistration, deserializeObservations(result.get(1)));
+                }
+                return null;
+            }
+        }
+        throw tooManyAttempts("add registration", registration.getEndpoint());
+    }
+
+    private UpdatedRegistration atomicUpdateRegistration(Jedis j, RegistrationUpdate update) {
+        byte[] regIdKey = toRegIdKey(update.getRegistrationId());
+        byte[] endpointPrefix = registrationByEndpointPrefix.getBytes(UTF_8);
+
+        for (int attempt = 0; attempt < MAX_ATOMIC_ATTEMPTS; attempt++) {
+            byte[] data = (byte[]) GET_REGISTRATION_BY_INDEX.eval(j, list(regIdKey), list(endpointPrefix));
+            if (data == null) {
+                return null;
+            }
+            Registration r = deserializeReg(data);
+            Registration updatedRegistration = update.update(r);
+
+            List<byte[]> keys = list(toEndpointKey(updatedRegistration.getEndpoint()),
+                    toRegAddrKey(updatedRegistration.getSocketAddress()),
+                    toRegIdentityKey(updatedRegistration.getClientTransportData().getIdentity()), endpointExpirationKey,
+                    toRegAddrKey(r.getSocketAddress()), toRegIdentityKey(r.getClientTransportData().getIdentity()));
+            Object result = UPDATE_REGISTRATION.eval(j, keys, list(data, serializeReg(updatedRegistration),
+                    updatedRegistration.getEndpoint().getBytes(UTF_8), toExpirationScore(updatedRegistration)));
+            if (isApplied(result)) {
+                return new UpdatedRegistration(r, updatedRegistration);
+            }
+        }
+        throw tooManyAttempts("update registration", update.getRegistrationId());
+    }
+
+    private Deregistration atomicRemoveRegistration(Jedis j, String registrationId, boolean removeOnlyIfNotAlive) {
+        byte[] regIdKey = toRegIdKey(registrationId);
+        byte[] endpointPrefix = registrationByEndpointPrefix.getBytes(UTF_8);
+
+        for (int attempt = 0; attempt < MAX_ATOMIC_ATTEMPTS; attempt++) {
+            byte[] data = (byte[]) GET_REGISTRATION_BY_INDEX.eval(j, list(regIdKey), list(endpointPrefix));
+            if (data == null) {
+                return null;
+            }
+            Registration r = deserializeReg(data);
+            if (removeOnlyIfNotAlive && r.isAlive(gracePeriod)) {
+                return null;
+            }
+
+            List<byte[]> keys = list(toEndpointKey(r.getEndpoint()), regIdKey, toRegAddrKey(r.getSocketAddress()),
+                    toRegIdentityKey(r.getClientTransportData().getIdentity()), endpointExpirationKey,
+                    toObservationIdsKey(r.getId()));
+            List<?> result = (List<?>) REMOVE_REGISTRATION.eval(j, keys,
+                    list(data, r.getEndpoint().getBytes(UTF_8), observationByIdPrefix));
+            if (isApplied(result.get(0))) {
+                return new Deregistration(r, deserializeObservations(result.get(1)));
+            }
+        }
+        throw tooManyAttempts("remove registration", registrationId);
+    }
+
+    private Collection<Observation> atomicAddObservation(Jedis j, String registrationId, Observation observation,
+            boolean addIfAbsent) {
+        byte[] obsId = toObservationId(observation.getId());
+        List<byte[]> keys = list(toRegIdKey(registrationId), toObservationKey(obsId),
+                toObservationIdsKey(registrationId));
+
+        for (int attempt = 0; attempt < MAX_ATOMIC_ATTEMPTS; attempt++) {
+            List<?> current = getObservationIdsAndValues(j, registrationId);
+            List<?> ids = (List<?>) current.get(0);
+            List<?> values = (List<?>) current.get(1);
+
+            List<byte[]> args = new ArrayList<>();
+            args.add(obsId);
+            args.add(serializeObs(observation));
+            args.add((addIfAbsent ? "1" : "0").getBytes(UTF_8));
+            args.add(observationByIdPrefix);
+            args.add(Integer.toString(ids.size()).getBytes(UTF_8));
+            for (Object id : ids) {
+                args.add((byte[]) id);
+            }
+
+            // cancel existing observations for the same path and registration id.
+            List<Observation> removed = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                byte[] value = (byte[]) values.get(i);
+                if (value.length != 0) {
+                    Observation obs = deserializeObs(value);
+                    if (areTheSamePaths(observation, obs) && !observation.getId().equals(obs.getId())) {
+                        removed.add(obs);
+                        args.add((byte[]) ids.get(i));
+                    }
+                }
+            }
+
+            List<?> result = (List<?>) ADD_OBSERVATION.eval(j, keys, args);
+            if ((Long) result.get(0) < 0) {
+                throw new IllegalStateException(String.format(
+                        "can not add observation %s there is no registration with id %s", observation, registrationId));
+            }
+            if (isApplied(result.get(0))) {
+                // log any collisions
+                if (result.size() > 1) {
+                    LOG.warn("Token collision ? observation [{}] will be replaced by observation [{}] ",
+                            deserializeObs((byte[]) result.get(1)), observation);
+                }
+                return removed;
+            }
+        }
+        throw tooManyAttempts("add observation to registration", registrationId);
+    }
+
+    private Observation atomicRemoveObservation(Jedis j, String registrationId, ObservationIdentifier observationId) {
+        byte[] obsId = toObservationId(observationId);
+        byte[] key = toObservationKey(obsId);
+        List<byte[]> keys = list(toRegIdKey(registrationId), key, toObservationIdsKey(registrationId));
+
+        for (int attempt = 0; attempt < MAX_ATOMIC_ATTEMPTS; attempt++) {
+            byte[] value = j.get(key);
+            if (value == null) {
+                return null;
+            }
+            Observation observation = deserializeObs(value);
+            if (registrationId != null && !registrationId.equals(observation.getRegistrationId())) {
+                return null;
+            }
+
+            long result = (Long) REMOVE_OBSERVATION.eval(j, keys, list(value, obsId));
+            if (result == 1) {
+                return observation;
+            } else if (result == 0) {
+                // no registration
+                return null;
+            }
+        }
+        throw tooManyAttempts("remove observation from registration", registrationId);
+    }
+
+    /**
+     * @return a list containing the list of observation ids of the given registration and the list of corresponding
+     *         serialized observations (empty if the observation does not exist anymore).
+     */
+    private List<?> getObservationIdsAndValues(Jedis j, String registrationId) {
+        return (List<?>) GET_OBSERVATIONS.eval(j, list(toObservationIdsKey(registrationId)),
+                list(observationByIdPrefix));
+    }
+
+    private Collection<Observation> deserializeObservations(Object serializedObservations) {
+        Collection<Observation> result = new ArrayList<>();
+        for (Object obs : (List<?>) serializedObservations) {
+            byte[] data = (byte[]) obs;
+            if (data.length != 0) {
+                result.add(deserializeObs(data));
+            }
+        }
+        return result;
+    }
+
+    private byte[] toExpirationScore(Registration registration) {
+        return Long.toString(registration.getExpirationTimeStamp(gracePeriod)).getBytes(UTF_8);
+    }
+
+    private static boolean isApplied(Object scriptResult) {
+        return ((Long) scriptResult) == 1L;
+    }
+
+    private static List<byte[]> list(byte[]... values) {
+        return Arrays.asList(values);
+    }
+
+    private IllegalStateException tooManyAttempts(String operation, String id) {
+        return new IllegalStateException(String.format(
+                "Unable to %s %s : still concurrently modified after %d attempts", operation, id, MAX_ATOMIC_ATTEMPTS));
+    }
+
     /* *************** Expiration handling **************** */
 
     /**
@@ -725,6 +1062,9 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         if (!started) {
             started = true;
             cleanerTask = schedExecutor.scheduleAtFixedRate(new Cleaner(), cleanPeriod, cleanPeriod, TimeUnit.SECONDS);
+            if (nearCache != null) {
+                nearCache.start();
+            }
         }
     }
 
@@ -739,6 +1079,9 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 cleanerTask.cancel(false);
                 cleanerTask = null;
             }
+            if (nearCache != null) {
+                nearCache.stop();
+            }
         }
     }
 
@@ -748,6 +1091,9 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     @Override
     public synchronized void destroy() {
         started = false;
+        if (nearCache != null) {
+            nearCache.stop();
+        }
         schedExecutor.shutdownNow();
         try {
             schedExecutor.awaitTermination(5, TimeUnit.SECONDS);
@@ -817,6 +1163,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         private ObservationSerDes observationSerDes;
         private LwM2mIdentitySerDes identitySerDes;
         private LwM2mPeerSerDes peerSerDes;
+        private boolean binarySerialization;
+        private boolean atomicMode;
+        private int nearCacheSize;
+        private String nearCacheInvalidationChannel;
 
         /**
          * Set the prefix for all keys and prefixes.
@@ -957,7 +1307,8 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         /**
          * Set {@link JedisLock} implementation used to handle concurrent access to this store.
          * <p>
-         * Default implementation used is {@link SingleInstanceJedisLock}
+         * Default implementation used is {@link SingleInstanceJedisLock}. {@link BlockingJedisLock} could be preferred
+         * when there is contention on some endpoints as waiters do not poll Redis.
          */
         public Builder setLock(JedisLock lock) {
             this.lock = lock;
@@ -998,6 +1349,74 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             return this;
         }
 
+        /**
+         * Set if {@link Registration} and {@link Observation} should be stored using a compact binary format
+         * ({@link BinaryRegistrationSerDes} and {@link BinaryObservationSerDes}) instead of JSON.
+         * <p>
+         * Binary format is smaller and faster to serialize/de-serialize. Data stored in JSON can still be read, so this
+         * can be enabled on an existing Redis, but older Leshan versions are not able to read binary data. This is not
+         * used for {@link Registration} (respectively {@link Observation}) if
+         * {@link #setRegistrationSerDes(RegistrationSerDes)} (respectively
+         * {@link #setObservationSerDes(ObservationSerDes)}) is used.
+         * <p>
+         * Default value is {@literal false}.
+         */
+        public Builder setBinarySerialization(boolean binarySerialization) {
+            this.binarySerialization = binarySerialization;
+            return this;
+        }
+
+        /**
+         * Set if store operations should be executed using Redis Lua scripts instead of {@link JedisLock}.
+         * <p>
+         * In atomic mode, each modification is an optimistic "compare and set" script : data are read, modified then
+         * written by a script only if they were not modified in the meantime, else the operation is retried. No lock is
+         * needed and most of the operations need only 1 or 2 round trips to Redis. {@link IllegalStateException} is
+         * raised if data are still concurrently modified after several attempts.
+         * <p>
+         * Scripts compute some keys on server side, so this mode can only be used with a single Redis instance (not
+         * with Redis Cluster). Atomic mode does not use locks, so all stores sharing the same Redis should use the same
+         * mode.
+         * <p>
+         * Default value is {@literal false}.
+         */
+        public Builder setAtomicMode(boolean atomicMode) {
+            this.atomicMode = atomicMode;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of deserialized {@link Registration} kept in a local cache, 0 means no cache.
+         * <p>
+         * When enabled, {@link RegistrationStore#getRegistration(String)} and
+         * {@link RegistrationStore#getRegistrationByEndpoint(String)} are served from this cache without any access to
+         * Redis. {@link RegistrationStore#getRegistrationByAdress(InetSocketAddress)} and
+         * {@link RegistrationStore#getRegistrationByIdentity(LwM2mIdentity)} still read the index from Redis, as an
+         * address or an identity can be taken over by another endpoint, but the registration is served from this cache.
+         * Each modification is published on {@link #setNearCacheInvalidationChannel(String)} channel so caches of all
+         * instances sharing the same Redis are invalidated. This requires that all those instances enable the near
+         * cache. One connection of the pool is used to listen to invalidations, and the cache is only used once the
+         * store is started.
+         * <p>
+         * Default value is {@literal 0}.
+         */
+        public Builder setNearCacheSize(int nearCacheSize) {
+            this.nearCacheSize = nearCacheSize;
+            return this;
+        }
+
+        /**
+         * Set the Redis pub/sub channel used to invalidate near caches.
+         * <p>
+         * Default value is {@literal NEARCACHE#INVALIDATION}. Should not be {@code null} or empty.
+         *
+         * @see #setNearCacheSize(int)
+         */
+        public Builder setNearCacheInvalidationChannel(String nearCacheInvalidationChannel) {
+            this.nearCacheInvalidationChannel = nearCacheInvalidationChannel;
+            return this;
+        }
+
         public Builder(Pool<Jedis> pool) {
             this.pool = pool;
             this.prefix = "REGSTORE#";
@@ -1012,6 +1431,7 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             this.cleanPeriod = 60;
             this.cleanLimit = 500;
             this.gracePeriod = 0;
+            this.nearCacheInvalidationChannel = "NEARCACHE#INVALIDATION";
         }
 
         protected Builder generateDefaultValue() {
@@ -1024,6 +1444,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 this.lock = new SingleInstanceJedisLock();
             }
 
+            if (this.registrationSerDes == null && binarySerialization) {
+                this.registrationSerDes = new BinaryRegistrationSerDes();
+            }
+
             if (this.registrationSerDes == null) {
                 if (peerSerDes == null) {
                     this.peerSerDes = new LwM2mPeerSerDes();
@@ -1036,7 +1460,7 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             }
 
             if (this.observationSerDes == null) {
-                this.observationSerDes = new ObservationSerDes();
+                this.observationSerDes = binarySerialization ? new BinaryObservationSerDes() : new ObservationSerDes();
             }
 
             return this;
@@ -1081,6 +1505,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 throw new IllegalArgumentException("endpointExpirationKey should not be empty");
             }
 
+            if (this.nearCacheInvalidationChannel == null || this.nearCacheInvalidationChannel.isEmpty()) {
+                throw new IllegalArgumentException("nearCacheInvalidationChannel should not be empty");
+            }
+
             // Make sure same prefix is not used more than once
             String[] prefixes = new String[] { this.registrationByEndpointPrefix, this.endpointByRegistrationIdPrefix,
                     this.endpointBySocketAddressPrefix, this.endpointByIdentityPrefix, this.endpointLockPrefix,
@@ -1102,6 +1530,7 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 this.observationByIdPrefix = this.prefix + this.observationByIdPrefix;
                 this.observationIdsByRegistrationIdPrefix = this.prefix + this.observationIdsByRegistrationIdPrefix;
                 this.endpointExpirationKey = this.prefix + this.endpointExpirationKey;
+                this.nearCacheInvalidationChannel = this.prefix + this.nearCacheInvalidationChannel;
             }
 
             generateDefaultValue();
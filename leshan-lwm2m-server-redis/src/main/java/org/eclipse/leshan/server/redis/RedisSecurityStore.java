@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.leshan.core.peer.OscoreIdentity;
+import org.eclipse.leshan.server.redis.serialization.BinarySecurityInfoSerDes;
 import org.eclipse.leshan.server.redis.serialization.SecurityInfoSerDes;
 import org.eclipse.leshan.servers.security.EditableSecurityStore;
 import org.eclipse.leshan.servers.security.NonUniqueSecurityInfoException;
@@ -44,6 +45,7 @@ public class RedisSecurityStore implements EditableSecurityStore {
     private final String securityInfoByEndpointPrefix;
     private final String endpointByPskIdKey;
     private final Pool<Jedis> pool;
+    private final boolean binarySerialization;
 
     private final List<SecurityStoreListener> listeners = new CopyOnWriteArrayList<>();
 
@@ -55,6 +57,7 @@ public class RedisSecurityStore implements EditableSecurityStore {
         this.pool = builder.pool;
         this.securityInfoByEndpointPrefix = builder.securityInfoByEndpointPrefix;
         this.endpointByPskIdKey = builder.endpointByPskIdKey;
+        this.binarySerialization = builder.binarySerialization;
     }
 
     @Override
@@ -156,11 +159,15 @@ public class RedisSecurityStore implements EditableSecurityStore {
     }
 
     private byte[] serialize(SecurityInfo secInfo) {
+        if (binarySerialization) {
+            return BinarySecurityInfoSerDes.serialize(secInfo);
+        }
         return SecurityInfoSerDes.serialize(secInfo);
     }
 
     private SecurityInfo deserialize(byte[] data) {
-        return SecurityInfoSerDes.deserialize(data);
+        // binary SerDes also handles JSON format
+        return BinarySecurityInfoSerDes.deserialize(data);
     }
 
     @Override
@@ -186,6 +193,7 @@ public class RedisSecurityStore implements EditableSecurityStore {
         private String securityInfoByEndpointPrefix;
         private String endpointByPskIdKey;
         private String prefix;
+        private boolean binarySerialization;
 
         /**
          * Set the key prefix for security info lookup by endpoint.
@@ -218,6 +226,18 @@ public class RedisSecurityStore implements EditableSecurityStore {
             return this;
         }
 
+        /**
+         * Set if {@link SecurityInfo} should be stored using a compact binary format ({@link BinarySecurityInfoSerDes})
+         * instead of JSON. Data stored in JSON can still be read, but older Leshan versions are not able to read binary
+         * data.
+         * <p>
+         * Default value is {@literal false}.
+         */
+        public Builder setBinarySerialization(boolean binarySerialization) {
+            this.binarySerialization = binarySerialization;
+            return this;
+        }
+
         public Builder(Pool<Jedis> pool) {
             this.pool = pool;
             this.prefix = "SECSTORE#";
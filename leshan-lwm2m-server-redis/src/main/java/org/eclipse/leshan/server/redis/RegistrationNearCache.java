@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.server.registration.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * A bounded in-process cache of deserialized {@link Registration} used by {@link RedisRegistrationStore}.
+ * <p>
+ * Each time a registration is modified, its endpoint name is published on a Redis channel. All cache instances
+ * subscribe to this channel and invalidate the corresponding entry. While the channel is not subscribed (e.g. Redis
+ * connection lost) the cache is disabled and cleared, as invalidations could be missed.
+ * <p>
+ * To avoid caching a registration read just before a concurrent modification, a value read from Redis is only added if
+ * no invalidation happened for this endpoint since {@link #stamp(String)} was called before the read.
+ */
+class RegistrationNearCache {
+    private static final Logger LOG = LoggerFactory.getLogger(RegistrationNearCache.class);
+
+    private static final int NB_STAMPS = 1024; // must be a power of 2
+    private static final long RESUBSCRIBE_DELAY = 1000; // in ms
+
+    private final Pool<Jedis> pool;
+    private final String channel;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<String, CachedRegistration> entriesByEndpoint = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> endpointsByIndexKey = new ConcurrentHashMap<>();
+    // invalidation counters, striped by endpoint
+    private final AtomicLongArray stamps = new AtomicLongArray(NB_STAMPS);
+
+    private volatile boolean enabled = false;
+    private volatile boolean running = false;
+    private volatile JedisPubSub subscriber;
+    private ExecutorService executor;
+
+    public RegistrationNearCache(Pool<Jedis> pool, String channel, int maxSize) {
+        this.pool = pool;
+        this.channel = channel;
+        this.maxSize = maxSize;
+    }
+
+    /* *************** Cache access **************** */
+
+    /**
+     * @return the current invalidation stamp of this endpoint, it must be called before reading registration from Redis
+     *         and given to {@link #put(Registration, long, String...)}.
+     */
+    public long stamp(String endpoint) {
+        return stamps.get(stampIndex(endpoint));
+    }
+
+    public Registration getByEndpoint(String endpoint) {
+        if (!enabled) {
+            return null;
+        }
+        CachedRegistration entry = entriesByEndpoint.get(endpoint);
+        return entry == null ? null : entry.registration;
+    }
+
+    public Registration getByIndexKey(String indexKey) {
+        if (!enabled) {
+            return null;
+        }
+        String endpoint = endpointsByIndexKey.get(indexKey);
+        if (endpoint == null) {
+            return null;
+        }
+        CachedRegistration entry = entriesByEndpoint.get(endpoint);
+        if (entry == null || !entry.hasIndexKey(indexKey)) {
+            return null;
+        }
+        return entry.registration;
+    }
+
+    /**
+     * Add a registration read from Redis.
+     *
+     * @param registration the registration to cache
+     * @param stamp the stamp of registration endpoint got before reading the registration from Redis.
+     * @param indexKeys the secondary index keys which can be used to get this registration.
+     */
+    public void put(Registration registration, long stamp, String... indexKeys) {
+        if (!enabled) {
+            return;
+        }
+        String endpoint = registration.getEndpoint();
+        int stampIndex = stampIndex(endpoint);
+        if (stamps.get(stampIndex) != stamp) {
+            return;
+        }
+
+        CachedRegistration entry = new CachedRegistration(registration, indexKeys);
+        CachedRegistration previous = entriesByEndpoint.put(endpoint, entry);
+        if (previous != null) {
+            removeIndexKeys(endpoint, previous);
+        }
+        for (String indexKey : indexKeys) {
+            endpointsByIndexKey.put(indexKey, endpoint);
+        }
+
+        // an invalidation could happen while we were adding the entry
+        if (stamps.get(stampIndex) != stamp) {
+            remove(endpoint, entry);
+            return;
+        }
+
+        evictIfNeeded();
+    }
+
+    /**
+     * Remove the registration of the given endpoint from the cache.
+     */
+    public void invalidate(String endpoint) {
+        stamps.incrementAndGet(stampIndex(endpoint));
+        CachedRegistration entry = entriesByEndpoint.remove(endpoint);
+        if (entry != null) {
+            removeIndexKeys(endpoint, entry);
+        }
+    }
+
+    public int size() {
+        return entriesByEndpoint.size();
+    }
+
+    private void remove(String endpoint, CachedRegistration entry) {
+        if (entriesByEndpoint.remove(endpoint, entry)) {
+            removeIndexKeys(endpoint, entry);
+        }
+    }
+
+    private void removeIndexKeys(String endpoint, CachedRegistration entry) {
+        for (String indexKey : entry.indexKeys) {
+            endpointsByIndexKey.remove(indexKey, endpoint);
+        }
+    }
+
+    private void evictIfNeeded() {
+        // remove arbitrary entries, this is cheaper than maintaining an access order.
+        Iterator<Map.Entry<String, CachedRegistration>> iterator = entriesByEndpoint.entrySet().iterator();
+        while (entriesByEndpoint.size() > maxSize && iterator.hasNext()) {
+            Map.Entry<String, CachedRegistration> e = iterator.next();
+            remove(e.getKey(), e.getValue());
+        }
+    }
+
+    private void clear() {
+        for (int i = 0; i < NB_STAMPS; i++) {
+            stamps.incrementAndGet(i);
+        }
+        entriesByEndpoint.clear();
+        endpointsByIndexKey.clear();
+    }
+
+    private int stampIndex(String endpoint) {
+        int h = endpoint.hashCode();
+        return (h ^ (h >>> 16)) & (NB_STAMPS - 1);
+    }
+
+    private static class CachedRegistration {
+        private final Registration registration;
+        private final String[] indexKeys;
+
+        public CachedRegistration(Registration registration, String[] indexKeys) {
+            this.registration = registration;
+            this.indexKeys = indexKeys;
+        }
+
+        public boolean hasIndexKey(String indexKey) {
+            for (String key : indexKeys) {
+                if (key.equals(indexKey)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /* *************** Invalidation **************** */
+
+    /**
+     * Notify all cache instances that registration of this endpoint was modified.
+     */
+    public void publishInvalidation(Jedis j, String endpoint) {
+        invalidate(endpoint);
+        j.publish(channel, endpoint);
+    }
+
+    /**
+     * Start listening invalidation, cache is enabled once channel is subscribed.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        executor = Executors.newSingleThreadExecutor(new NamedThreadFactory("RedisRegistrationStore NearCache"));
+        executor.execute(this::listenInvalidations);
+    }
+
+    /**
+     * Stop listening invalidation and disable the cache.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        JedisPubSub s = subscriber;
+        if (s != null && s.isSubscribed()) {
+            s.unsubscribe();
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            LOG.warn("Stopping RegistrationNearCache was interrupted.", e);
+            Thread.currentThread().interrupt();
+        }
+        disable();
+    }
+
+    private void listenInvalidations() {
+        while (running) {
+            try (Jedis j = pool.getResource()) {
+                subscriber = new JedisPubSub() {
+                    @Override
+                    public void onSubscribe(String channel, int subscribedChannels) {
+                        clear();
+                        enabled = true;
+                    }
+
+                    @Override
+                    public void onMessage(String channel, String endpoint) {
+                        invalidate(endpoint);
+                    }
+                };
+                // blocks until unsubscribe
+                j.subscribe(subscriber, channel);
+            } catch (RuntimeException e) {
+                LOG.warn("Unable to listen near cache invalidations, cache is disabled", e);
+            }
+            disable();
+
+            if (running) {
+                try {
+                    Thread.sleep(RESUBSCRIBE_DELAY);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void disable() {
+        enabled = false;
+        clear();
+    }
+}
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.peer.LwM2mIdentity;
+import org.eclipse.leshan.core.peer.LwM2mPeer;
+import org.eclipse.leshan.core.peer.PskIdentity;
+import org.eclipse.leshan.core.peer.RpkIdentity;
+import org.eclipse.leshan.core.peer.SocketIdentity;
+import org.eclipse.leshan.core.peer.X509Identity;
+
+/**
+ * Functions for serialize and deserialize a {@link LwM2mPeer} in a compact binary format.
+ *
+ * @see BinaryRegistrationSerDes
+ */
+public class BinaryLwM2mPeerSerDes {
+
+    protected static final int VERSION = 1;
+
+    // LwM2mPeer fields
+    private static final int PEER_TYPE = 1;
+    private static final int PEER_ADDRESS = 2;
+    private static final int PEER_HOST = 3;
+    private static final int PEER_PORT = 4;
+    private static final int PEER_IDENTITY = 5;
+
+    private static final int PEER_TYPE_IP = 0;
+
+    // LwM2mIdentity fields
+    private static final int IDENTITY_TYPE = 1;
+    private static final int IDENTITY_ADDRESS = 2;
+    private static final int IDENTITY_HOST = 3;
+    private static final int IDENTITY_PORT = 4;
+    private static final int IDENTITY_PSK_ID = 5;
+    private static final int IDENTITY_RPK = 6;
+    private static final int IDENTITY_RPK_ALGORITHM = 7;
+    private static final int IDENTITY_CN = 8;
+
+    private static final int IDENTITY_TYPE_UNSECURE = 0;
+    private static final int IDENTITY_TYPE_PSK = 1;
+    private static final int IDENTITY_TYPE_RPK = 2;
+    private static final int IDENTITY_TYPE_X509 = 3;
+
+    public byte[] serialize(LwM2mPeer peer) {
+        BinaryWriter writer = new BinaryWriter().header(VERSION);
+        write(writer, peer);
+        return writer.toByteArray();
+    }
+
+    public LwM2mPeer deserialize(byte[] data) {
+        return read(BinaryReader.fromHeader(data, VERSION));
+    }
+
+    void write(BinaryWriter writer, LwM2mPeer peer) {
+        if (peer.getClass() == IpPeer.class) {
+            writer.varint(PEER_TYPE, PEER_TYPE_IP);
+            writeSocketAddress(writer, PEER_ADDRESS, PEER_HOST, PEER_PORT, ((IpPeer) peer).getSocketAddress());
+        } else {
+            throw new IllegalStateException(String.format("Can not serialize %s", peer.getClass().getSimpleName()));
+        }
+        BinaryWriter identity = new BinaryWriter();
+        writeIdentity(identity, peer.getIdentity());
+        writer.message(PEER_IDENTITY, identity);
+    }
+
+    LwM2mPeer read(BinaryReader reader) {
+        int type = -1;
+        byte[] address = null;
+        String host = null;
+        int port = 0;
+        LwM2mIdentity identity = null;
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case PEER_TYPE:
+                type = reader.readInt();
+                break;
+            case PEER_ADDRESS:
+                address = reader.readBytes();
+                break;
+            case PEER_HOST:
+                host = reader.readString();
+                break;
+            case PEER_PORT:
+                port = reader.readInt();
+                break;
+            case PEER_IDENTITY:
+                identity = readIdentity(reader.readMessage());
+                break;
+            default:
+                reader.skip();
+            }
+        }
+
+        if (type != PEER_TYPE_IP) {
+            throw new IllegalStateException(String.format("Invalid type of LWM2M Peer :  %d is not supported", type));
+        }
+        return new IpPeer(toSocketAddress(address, host, port), identity);
+    }
+
+    private void writeIdentity(BinaryWriter writer, LwM2mIdentity identity) {
+        if (identity.getClass() == SocketIdentity.class) {
+            writer.varint(IDENTITY_TYPE, IDENTITY_TYPE_UNSECURE);
+            writeSocketAddress(writer, IDENTITY_ADDRESS, IDENTITY_HOST, IDENTITY_PORT,
+                    ((SocketIdentity) identity).getSocketAddress());
+        } else if (identity.getClass() == PskIdentity.class) {
+            writer.varint(IDENTITY_TYPE, IDENTITY_TYPE_PSK);
+            writer.string(IDENTITY_PSK_ID, ((PskIdentity) identity).getPskIdentity());
+        } else if (identity.getClass() == RpkIdentity.class) {
+            writer.varint(IDENTITY_TYPE, IDENTITY_TYPE_RPK);
+            PublicKey publicKey = ((RpkIdentity) identity).getPublicKey();
+            writer.bytes(IDENTITY_RPK, publicKey.getEncoded());
+            writer.string(IDENTITY_RPK_ALGORITHM, publicKey.getAlgorithm());
+        } else if (identity.getClass() == X509Identity.class) {
+            writer.varint(IDENTITY_TYPE, IDENTITY_TYPE_X509);
+            writer.string(IDENTITY_CN, ((X509Identity) identity).getX509CommonName());
+        } else {
+            throw new IllegalStateException(String.format("Can not serialize %s", identity.getClass().getSimpleName()));
+        }
+    }
+
+    private LwM2mIdentity readIdentity(BinaryReader reader) {
+        int type = -1;
+        byte[] address = null;
+        String host = null;
+        int port = 0;
+        String pskId = null;
+        byte[] rpk = null;
+        String rpkAlgorithm = "EC";
+        String cn = null;
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case IDENTITY_TYPE:
+                type = reader.readInt();
+                break;
+            case IDENTITY_ADDRESS:
+                address = reader.readBytes();
+                break;
+            case IDENTITY_HOST:
+                host = reader.readString();
+                break;
+            case IDENTITY_PORT:
+                port = reader.readInt();
+                break;
+            case IDENTITY_PSK_ID:
+                pskId = reader.readString();
+                break;
+            case IDENTITY_RPK:
+                rpk = reader.readBytes();
+                break;
+            case IDENTITY_RPK_ALGORITHM:
+                rpkAlgorithm = reader.readString();
+                break;
+            case IDENTITY_CN:
+                cn = reader.readString();
+                break;
+            default:
+                reader.skip();
+            }
+        }
+
+        switch (type) {
+        case IDENTITY_TYPE_UNSECURE:
+            return new SocketIdentity(toSocketAddress(address, host, port));
+        case IDENTITY_TYPE_PSK:
+            return new PskIdentity(pskId);
+        case IDENTITY_TYPE_RPK:
+            try {
+                return new RpkIdentity(
+                        KeyFactory.getInstance(rpkAlgorithm).generatePublic(new X509EncodedKeySpec(rpk)));
+            } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Invalid security info content", e);
+            }
+        case IDENTITY_TYPE_X509:
+            return new X509Identity(cn);
+        default:
+            throw new IllegalStateException(String.format("Can not deserialize identity of type %d", type));
+        }
+    }
+
+    private void writeSocketAddress(BinaryWriter writer, int addressField, int hostField, int portField,
+            InetSocketAddress address) {
+        if (address.isUnresolved()) {
+            writer.string(hostField, address.getHostString());
+        } else {
+            writer.bytes(addressField, address.getAddress().getAddress());
+        }
+        writer.varint(portField, address.getPort());
+    }
+
+    private InetSocketAddress toSocketAddress(byte[] address, String host, int port) {
+        if (address != null) {
+            try {
+                return new InetSocketAddress(InetAddress.getByAddress(address), port);
+            } catch (UnknownHostException e) {
+                throw new IllegalStateException("Invalid IP address", e);
+            }
+        }
+        return new InetSocketAddress(host, port);
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.leshan.core.endpoint.DefaultEndPointUriHandler;
+import org.eclipse.leshan.core.endpoint.EndPointUriHandler;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.request.ContentFormat;
+
+/**
+ * Functions for serializing and deserializing a {@link Observation} in a compact binary format.
+ * <p>
+ * {@link #deserialize(byte[])} also accepts JSON format of {@link ObservationSerDes}, so a store can switch to this
+ * format without migrating existing data.
+ *
+ * @see BinaryRegistrationSerDes
+ */
+public class BinaryObservationSerDes extends ObservationSerDes {
+
+    protected static final int VERSION = 1;
+
+    private static final int OBS_ID = 1;
+    private static final int OBS_EP_URI = 2;
+    private static final int OBS_REGID = 3;
+    private static final int OBS_USER_CONTEXT = 4;
+    private static final int OBS_PROTOCOL_DATA = 5;
+    private static final int OBS_KIND = 6;
+    private static final int OBS_PATH = 7;
+
+    private static final int SOBS_CONTENT_FORMAT = 8;
+
+    private static final int COBS_REQ_CONTENT_FORMAT = 9;
+    private static final int COBS_RESP_CONTENT_FORMAT = 10;
+
+    private static final int KIND_SINGLE = 0;
+    private static final int KIND_COMPOSITE = 1;
+
+    private final EndPointUriHandler uriHandler;
+
+    public BinaryObservationSerDes() {
+        this(new DefaultEndPointUriHandler());
+    }
+
+    public BinaryObservationSerDes(EndPointUriHandler uriHandler) {
+        // parent is used for data still in JSON format
+        super(uriHandler);
+        this.uriHandler = uriHandler;
+    }
+
+    @Override
+    public byte[] serialize(Observation obs) {
+        BinaryWriter w = new BinaryWriter(128).header(VERSION);
+        w.bytes(OBS_ID, obs.getId().getBytes());
+        w.string(OBS_EP_URI, obs.getId().getEndpointUri().toString());
+        w.string(OBS_REGID, obs.getRegistrationId());
+        w.entries(OBS_USER_CONTEXT, obs.getContext());
+        w.entries(OBS_PROTOCOL_DATA, obs.getProtocolData());
+
+        if (obs instanceof SingleObservation) {
+            SingleObservation sobs = (SingleObservation) obs;
+            w.varint(OBS_KIND, KIND_SINGLE);
+            if (sobs.getContentFormat() != null) {
+                w.varint(SOBS_CONTENT_FORMAT, sobs.getContentFormat().getCode());
+            }
+            w.path(OBS_PATH, sobs.getPath());
+        } else if (obs instanceof CompositeObservation) {
+            CompositeObservation cobs = (CompositeObservation) obs;
+            w.varint(OBS_KIND, KIND_COMPOSITE);
+            if (cobs.getRequestContentFormat() != null) {
+                w.varint(COBS_REQ_CONTENT_FORMAT, cobs.getRequestContentFormat().getCode());
+            }
+            if (cobs.getResponseContentFormat() != null) {
+                w.varint(COBS_RESP_CONTENT_FORMAT, cobs.getResponseContentFormat().getCode());
+            }
+            for (LwM2mPath path : cobs.getPaths()) {
+                w.path(OBS_PATH, path);
+            }
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported kind of Observation : %s", obs));
+        }
+
+        return w.toByteArray();
+    }
+
+    @Override
+    public Observation deserialize(byte[] data) {
+        if (!BinaryReader.isBinary(data)) {
+            return super.deserialize(data);
+        }
+        BinaryReader reader = BinaryReader.fromHeader(data, VERSION);
+
+        byte[] id = null;
+        String endpointUri = null;
+        String regid = null;
+        Map<String, String> context = new HashMap<>();
+        Map<String, String> protocolData = new HashMap<>();
+        int kind = -1;
+        List<LwM2mPath> paths = new ArrayList<>();
+        ContentFormat contentFormat = null;
+        ContentFormat reqContentFormat = null;
+        ContentFormat respContentFormat = null;
+
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case OBS_ID:
+                id = reader.readBytes();
+                break;
+            case OBS_EP_URI:
+                endpointUri = reader.readString();
+                break;
+            case OBS_REGID:
+                regid = reader.readString();
+                break;
+            case OBS_USER_CONTEXT:
+                reader.readEntry(context);
+                break;
+            case OBS_PROTOCOL_DATA:
+                reader.readEntry(protocolData);
+                break;
+            case OBS_KIND:
+                kind = reader.readInt();
+                break;
+            case OBS_PATH:
+                paths.add(reader.readPath());
+                break;
+            case SOBS_CONTENT_FORMAT:
+                contentFormat = ContentFormat.fromCode(reader.readInt());
+                break;
+            case COBS_REQ_CONTENT_FORMAT:
+                reqContentFormat = ContentFormat.fromCode(reader.readInt());
+                break;
+            case COBS_RESP_CONTENT_FORMAT:
+                respContentFormat = ContentFormat.fromCode(reader.readInt());
+                break;
+            default:
+                reader.skip();
+            }
+        }
+
+        ObservationIdentifier obsId = new ObservationIdentifier(uriHandler.createUri(endpointUri), id);
+        if (kind == KIND_SINGLE) {
+            if (paths.size() != 1) {
+                throw new IllegalArgumentException(
+                        String.format("Single Observation %s must have exactly one path", obsId));
+            }
+            return new SingleObservation(obsId, regid, paths.get(0), contentFormat, context, protocolData);
+        } else if (kind == KIND_COMPOSITE) {
+            return new CompositeObservation(obsId, regid, paths, reqContentFormat, respContentFormat, context,
+                    protocolData);
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported kind of Observation : %d", kind));
+        }
+    }
+}
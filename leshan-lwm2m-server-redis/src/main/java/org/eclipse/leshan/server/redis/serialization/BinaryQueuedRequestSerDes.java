@@ -0,0 +1,458 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.leshan.core.link.DefaultLinkParser;
+import org.eclipse.leshan.core.link.DefaultLinkSerializer;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.LinkParseException;
+import org.eclipse.leshan.core.link.LinkParser;
+import org.eclipse.leshan.core.link.LinkSerializer;
+import org.eclipse.leshan.core.model.ResourceModel.Type;
+import org.eclipse.leshan.core.node.LwM2mChildNode;
+import org.eclipse.leshan.core.node.LwM2mMultipleResource;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mObject;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mResource;
+import org.eclipse.leshan.core.node.LwM2mResourceInstance;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.request.CreateRequest;
+import org.eclipse.leshan.core.request.DeleteRequest;
+import org.eclipse.leshan.core.request.DiscoverRequest;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.core.request.ReadCompositeRequest;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.core.request.WriteCompositeRequest;
+import org.eclipse.leshan.core.request.WriteRequest;
+import org.eclipse.leshan.core.request.WriteRequest.Mode;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.server.queue.QueuedRequest;
+
+/**
+ * Functions for serializing and deserializing a {@link QueuedRequest} in a compact binary format.
+ * <p>
+ * Supported requests are Read, Discover, Execute, Delete, Write, Create, Read-Composite and Write-Composite. Nodes are
+ * stored with the type of their values, so no model is needed to deserialize them.
+ *
+ * @see BinaryRegistrationSerDes
+ */
+public class BinaryQueuedRequestSerDes {
+
+    protected static final int VERSION = 1;
+
+    private static final int QR_ID = 1;
+    private static final int QR_ENDPOINT = 2;
+    private static final int QR_REQUEST = 3;
+    private static final int QR_TIMEOUT = 4;
+    private static final int QR_CREATION_TIME = 5;
+    private static final int QR_EXPIRATION_TIME = 6;
+
+    private static final int REQ_KIND = 1;
+    private static final int REQ_PATH = 2;
+    private static final int REQ_CONTENT_FORMAT = 3;
+    private static final int REQ_RESP_CONTENT_FORMAT = 4;
+    private static final int REQ_ARGUMENTS = 5;
+    private static final int REQ_REPLACE = 6;
+    private static final int REQ_NODE = 7;
+
+    private static final int NODE_KIND = 1;
+    private static final int NODE_ID = 2;
+    private static final int NODE_TYPE = 3;
+    private static final int NODE_VALUE = 4;
+    private static final int NODE_CHILD = 5;
+
+    private static final int KIND_READ = 1;
+    private static final int KIND_DISCOVER = 2;
+    private static final int KIND_EXECUTE = 3;
+    private static final int KIND_DELETE = 4;
+    private static final int KIND_WRITE = 5;
+    private static final int KIND_CREATE = 6;
+    private static final int KIND_READ_COMPOSITE = 7;
+    private static final int KIND_WRITE_COMPOSITE = 8;
+
+    private static final int NODE_OBJECT = 1;
+    private static final int NODE_OBJECT_INSTANCE = 2;
+    private static final int NODE_SINGLE_RESOURCE = 3;
+    private static final int NODE_MULTIPLE_RESOURCE = 4;
+    private static final int NODE_RESOURCE_INSTANCE = 5;
+
+    private final LinkSerializer linkSerializer = new DefaultLinkSerializer();
+    private final LinkParser linkParser = new DefaultLinkParser();
+
+    public byte[] serialize(QueuedRequest queued) {
+        BinaryWriter w = new BinaryWriter(128).header(VERSION);
+        w.string(QR_ID, queued.getId());
+        w.string(QR_ENDPOINT, queued.getEndpoint());
+        w.message(QR_REQUEST, writeRequest(queued.getRequest()));
+        w.varint(QR_TIMEOUT, queued.getTimeoutInMs());
+        w.varint(QR_CREATION_TIME, queued.getCreationTime());
+        w.varint(QR_EXPIRATION_TIME, queued.getExpirationTime());
+        return w.toByteArray();
+    }
+
+    public QueuedRequest deserialize(byte[] data) {
+        BinaryReader reader = BinaryReader.fromHeader(data, VERSION);
+
+        String id = null;
+        String endpoint = null;
+        DownlinkDeviceManagementRequest<?> request = null;
+        long timeout = 0;
+        long creationTime = 0;
+        long expirationTime = Long.MAX_VALUE;
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case QR_ID:
+                id = reader.readString();
+                break;
+            case QR_ENDPOINT:
+                endpoint = reader.readString();
+                break;
+            case QR_REQUEST:
+                request = readRequest(reader.readMessage());
+                break;
+            case QR_TIMEOUT:
+                timeout = reader.readVarint();
+                break;
+            case QR_CREATION_TIME:
+                creationTime = reader.readVarint();
+                break;
+            case QR_EXPIRATION_TIME:
+                expirationTime = reader.readVarint();
+                break;
+            default:
+                reader.skip();
+            }
+        }
+        return new QueuedRequest(id, endpoint, request, timeout, creationTime, expirationTime);
+    }
+
+    /* *************** Requests **************** */
+
+    private BinaryWriter writeRequest(DownlinkDeviceManagementRequest<?> request) {
+        BinaryWriter w = new BinaryWriter();
+        if (request instanceof ReadRequest) {
+            ReadRequest read = (ReadRequest) request;
+            w.varint(REQ_KIND, KIND_READ);
+            w.path(REQ_PATH, read.getPath());
+            writeContentFormat(w, REQ_CONTENT_FORMAT, read.getContentFormat());
+        } else if (request instanceof DiscoverRequest) {
+            w.varint(REQ_KIND, KIND_DISCOVER);
+            w.path(REQ_PATH, ((DiscoverRequest) request).getPath());
+        } else if (request instanceof ExecuteRequest) {
+            ExecuteRequest execute = (ExecuteRequest) request;
+            w.varint(REQ_KIND, KIND_EXECUTE);
+            w.path(REQ_PATH, execute.getPath());
+            if (execute.getArguments() != null) {
+                w.string(REQ_ARGUMENTS, execute.getArguments().serialize());
+            }
+        } else if (request instanceof DeleteRequest) {
+            w.varint(REQ_KIND, KIND_DELETE);
+            w.path(REQ_PATH, ((DeleteRequest) request).getPath());
+        } else if (request instanceof WriteRequest) {
+            WriteRequest write = (WriteRequest) request;
+            w.varint(REQ_KIND, KIND_WRITE);
+            w.path(REQ_PATH, write.getPath());
+            writeContentFormat(w, REQ_CONTENT_FORMAT, write.getContentFormat());
+            w.bool(REQ_REPLACE, write.isReplaceRequest());
+            w.message(REQ_NODE, writeNode(write.getNode()));
+        } else if (request instanceof CreateRequest) {
+            CreateRequest create = (CreateRequest) request;
+            w.varint(REQ_KIND, KIND_CREATE);
+            w.path(REQ_PATH, create.getPath());
+            writeContentFormat(w, REQ_CONTENT_FORMAT, create.getContentFormat());
+            if (create.getObjectInstances() != null) {
+                for (LwM2mObjectInstance instance : create.getObjectInstances()) {
+                    w.message(REQ_NODE, writeNode(instance));
+                }
+            } else {
+                for (LwM2mResource resource : create.getResources()) {
+                    w.message(REQ_NODE, writeNode(resource));
+                }
+            }
+        } else if (request instanceof ReadCompositeRequest) {
+            ReadCompositeRequest read = (ReadCompositeRequest) request;
+            w.varint(REQ_KIND, KIND_READ_COMPOSITE);
+            for (LwM2mPath path : read.getPaths()) {
+                w.path(REQ_PATH, path);
+            }
+            writeContentFormat(w, REQ_CONTENT_FORMAT, read.getRequestContentFormat());
+            writeContentFormat(w, REQ_RESP_CONTENT_FORMAT, read.getResponseContentFormat());
+        } else if (request instanceof WriteCompositeRequest) {
+            WriteCompositeRequest write = (WriteCompositeRequest) request;
+            w.varint(REQ_KIND, KIND_WRITE_COMPOSITE);
+            writeContentFormat(w, REQ_CONTENT_FORMAT, write.getContentFormat());
+            // paths and nodes are written in the same order
+            for (Entry<LwM2mPath, LwM2mNode> entry : write.getNodes().entrySet()) {
+                w.path(REQ_PATH, entry.getKey());
+                w.message(REQ_NODE, writeNode(entry.getValue()));
+            }
+        } else {
+            throw new IllegalArgumentException(String.format("Unable to serialize %s : unsupported request", request));
+        }
+        return w;
+    }
+
+    private DownlinkDeviceManagementRequest<?> readRequest(BinaryReader reader) {
+        int kind = -1;
+        List<LwM2mPath> paths = new ArrayList<>();
+        ContentFormat contentFormat = null;
+        ContentFormat responseContentFormat = null;
+        String arguments = null;
+        boolean replace = false;
+        List<LwM2mNode> nodes = new ArrayList<>();
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case REQ_KIND:
+                kind = reader.readInt();
+                break;
+            case REQ_PATH:
+                paths.add(reader.readPath());
+                break;
+            case REQ_CONTENT_FORMAT:
+                contentFormat = ContentFormat.fromCode(reader.readInt());
+                break;
+            case REQ_RESP_CONTENT_FORMAT:
+                responseContentFormat = ContentFormat.fromCode(reader.readInt());
+                break;
+            case REQ_ARGUMENTS:
+                arguments = reader.readString();
+                break;
+            case REQ_REPLACE:
+                replace = reader.readBool();
+                break;
+            case REQ_NODE:
+                nodes.add(readNode(reader.readMessage()));
+                break;
+            default:
+                reader.skip();
+            }
+        }
+
+        switch (kind) {
+        case KIND_READ:
+            return new ReadRequest(contentFormat, paths.get(0), null);
+        case KIND_DISCOVER:
+            return new DiscoverRequest(paths.get(0).toString());
+        case KIND_EXECUTE:
+            return new ExecuteRequest(paths.get(0).toString(), arguments);
+        case KIND_DELETE:
+            return new DeleteRequest(paths.get(0));
+        case KIND_WRITE:
+            return new WriteRequest(replace ? Mode.REPLACE : Mode.UPDATE, contentFormat, paths.get(0), nodes.get(0));
+        case KIND_CREATE:
+            if (!nodes.isEmpty() && nodes.get(0) instanceof LwM2mObjectInstance) {
+                return new CreateRequest(contentFormat, paths.get(0).toString(),
+                        nodes.toArray(new LwM2mObjectInstance[nodes.size()]));
+            } else {
+                return new CreateRequest(contentFormat, paths.get(0).toString(),
+                        nodes.toArray(new LwM2mResource[nodes.size()]));
+            }
+        case KIND_READ_COMPOSITE:
+            return new ReadCompositeRequest(paths, contentFormat, responseContentFormat, null);
+        case KIND_WRITE_COMPOSITE:
+            Map<LwM2mPath, LwM2mNode> writeNodes = new HashMap<>();
+            for (int i = 0; i < paths.size(); i++) {
+                writeNodes.put(paths.get(i), nodes.get(i));
+            }
+            return new WriteCompositeRequest(contentFormat, writeNodes, null);
+        default:
+            throw new IllegalArgumentException(String.format("Unsupported kind of request : %d", kind));
+        }
+    }
+
+    private void writeContentFormat(BinaryWriter w, int field, ContentFormat contentFormat) {
+        if (contentFormat != null) {
+            w.varint(field, contentFormat.getCode());
+        }
+    }
+
+    /* *************** Nodes **************** */
+
+    private BinaryWriter writeNode(LwM2mNode node) {
+        BinaryWriter w = new BinaryWriter();
+        if (node instanceof LwM2mChildNode) {
+            w.varint(NODE_ID, ((LwM2mChildNode) node).getId());
+        }
+        if (node instanceof LwM2mObject) {
+            w.varint(NODE_KIND, NODE_OBJECT);
+            for (LwM2mObjectInstance instance : ((LwM2mObject) node).getInstances().values()) {
+                w.message(NODE_CHILD, writeNode(instance));
+            }
+        } else if (node instanceof LwM2mObjectInstance) {
+            w.varint(NODE_KIND, NODE_OBJECT_INSTANCE);
+            for (LwM2mResource resource : ((LwM2mObjectInstance) node).getResources().values()) {
+                w.message(NODE_CHILD, writeNode(resource));
+            }
+        } else if (node instanceof LwM2mSingleResource) {
+            LwM2mSingleResource resource = (LwM2mSingleResource) node;
+            w.varint(NODE_KIND, NODE_SINGLE_RESOURCE);
+            w.varint(NODE_TYPE, resource.getType().ordinal());
+            writeValue(w, resource.getType(), resource.getValue());
+        } else if (node instanceof LwM2mMultipleResource) {
+            LwM2mMultipleResource resource = (LwM2mMultipleResource) node;
+            w.varint(NODE_KIND, NODE_MULTIPLE_RESOURCE);
+            w.varint(NODE_TYPE, resource.getType().ordinal());
+            for (LwM2mResourceInstance instance : resource.getInstances().values()) {
+                w.message(NODE_CHILD, writeNode(instance));
+            }
+        } else if (node instanceof LwM2mResourceInstance) {
+            LwM2mResourceInstance instance = (LwM2mResourceInstance) node;
+            w.varint(NODE_KIND, NODE_RESOURCE_INSTANCE);
+            w.varint(NODE_TYPE, instance.getType().ordinal());
+            writeValue(w, instance.getType(), instance.getValue());
+        } else {
+            throw new IllegalArgumentException(String.format("Unable to serialize %s : unsupported node", node));
+        }
+        return w;
+    }
+
+    private LwM2mNode readNode(BinaryReader reader) {
+        int kind = -1;
+        int id = LwM2mObjectInstance.UNDEFINED;
+        Type type = null;
+        Object value = null;
+        List<LwM2mNode> children = new ArrayList<>();
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case NODE_KIND:
+                kind = reader.readInt();
+                break;
+            case NODE_ID:
+                id = reader.readInt();
+                break;
+            case NODE_TYPE:
+                type = Type.values()[reader.readInt()];
+                break;
+            case NODE_VALUE:
+                value = readValue(reader, type);
+                break;
+            case NODE_CHILD:
+                children.add(readNode(reader.readMessage()));
+                break;
+            default:
+                reader.skip();
+            }
+        }
+
+        switch (kind) {
+        case NODE_OBJECT:
+            List<LwM2mObjectInstance> instances = new ArrayList<>();
+            for (LwM2mNode child : children) {
+                instances.add((LwM2mObjectInstance) child);
+            }
+            return new LwM2mObject(id, instances);
+        case NODE_OBJECT_INSTANCE:
+            List<LwM2mResource> resources = new ArrayList<>();
+            for (LwM2mNode child : children) {
+                resources.add((LwM2mResource) child);
+            }
+            return id == LwM2mObjectInstance.UNDEFINED ? new LwM2mObjectInstance(resources)
+                    : new LwM2mObjectInstance(id, resources);
+        case NODE_SINGLE_RESOURCE:
+            return LwM2mSingleResource.newResource(id, value, type);
+        case NODE_MULTIPLE_RESOURCE:
+            List<LwM2mResourceInstance> resourceInstances = new ArrayList<>();
+            for (LwM2mNode child : children) {
+                resourceInstances.add((LwM2mResourceInstance) child);
+            }
+            return new LwM2mMultipleResource(id, type, resourceInstances);
+        case NODE_RESOURCE_INSTANCE:
+            return LwM2mResourceInstance.newInstance(id, value, type);
+        default:
+            throw new IllegalArgumentException(String.format("Unsupported kind of node : %d", kind));
+        }
+    }
+
+    private void writeValue(BinaryWriter w, Type type, Object value) {
+        switch (type) {
+        case STRING:
+            w.string(NODE_VALUE, (String) value);
+            break;
+        case INTEGER:
+            w.varint(NODE_VALUE, (Long) value);
+            break;
+        case UNSIGNED_INTEGER:
+            w.varint(NODE_VALUE, ((ULong) value).longValue());
+            break;
+        case FLOAT:
+            w.varint(NODE_VALUE, Double.doubleToRawLongBits((Double) value));
+            break;
+        case BOOLEAN:
+            w.bool(NODE_VALUE, (Boolean) value);
+            break;
+        case OPAQUE:
+            w.bytes(NODE_VALUE, (byte[]) value);
+            break;
+        case TIME:
+            w.varint(NODE_VALUE, ((Date) value).getTime());
+            break;
+        case OBJLNK:
+            ObjectLink link = (ObjectLink) value;
+            w.varint(NODE_VALUE, ((long) link.getObjectId() << 16) | link.getObjectInstanceId());
+            break;
+        case CORELINK:
+            w.string(NODE_VALUE, linkSerializer.serializeCoreLinkFormat((Link[]) value));
+            break;
+        default:
+            throw new IllegalArgumentException(String.format("Unable to serialize value of type %s", type));
+        }
+    }
+
+    private Object readValue(BinaryReader reader, Type type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Node value must be preceded by its type");
+        }
+        switch (type) {
+        case STRING:
+            return reader.readString();
+        case INTEGER:
+            return reader.readVarint();
+        case UNSIGNED_INTEGER:
+            return ULong.valueOf(reader.readVarint());
+        case FLOAT:
+            return Double.longBitsToDouble(reader.readVarint());
+        case BOOLEAN:
+            return reader.readBool();
+        case OPAQUE:
+            return reader.readBytes();
+        case TIME:
+            return new Date(reader.readVarint());
+        case OBJLNK:
+            long link = reader.readVarint();
+            return new ObjectLink((int) (link >>> 16), (int) (link & 0xFFFF));
+        case CORELINK:
+            try {
+                return linkParser.parseCoreLinkFormat(reader.readBytes());
+            } catch (LinkParseException e) {
+                throw new IllegalArgumentException("Invalid core link value", e);
+            }
+        default:
+            throw new IllegalArgumentException(String.format("Unable to deserialize value of type %s", type));
+        }
+    }
+}
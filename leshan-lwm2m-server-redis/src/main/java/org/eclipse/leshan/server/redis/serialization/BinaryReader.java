@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+
+/**
+ * Reads the compact binary format written by {@link BinaryWriter}.
+ * <p>
+ * Usage :
+ *
+ * <pre>
+ * while (reader.hasNext()) {
+ *     switch (reader.nextField()) {
+ *     case 1:
+ *         value = reader.readString();
+ *         break;
+ *     default:
+ *         reader.skip();
+ *     }
+ * }
+ * </pre>
+ */
+class BinaryReader {
+
+    /**
+     * First byte of binary format, followed by format version. JSON format always starts with <code>{</code> so both
+     * formats can be distinguished.
+     */
+    static final byte MAGIC = (byte) 0xB1;
+
+    private final byte[] data;
+    private int position;
+    private final int end;
+    private int wireType;
+
+    BinaryReader(byte[] data, int offset, int length) {
+        this.data = data;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * @return <code>true</code> if this data is in binary format.
+     */
+    static boolean isBinary(byte[] data) {
+        return data.length >= 2 && data[0] == MAGIC;
+    }
+
+    /**
+     * Create a reader for top level structure, header is skipped.
+     *
+     * @param maxVersion the highest format version supported by the caller.
+     * @throws IllegalArgumentException if data is not in binary format or use a newer version.
+     */
+    static BinaryReader fromHeader(byte[] data, int maxVersion) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("Data is not in binary format");
+        }
+        int version = data[1] & 0xFF;
+        if (version > maxVersion) {
+            throw new IllegalArgumentException(
+                    String.format("Unsupported binary format version %d, max supported is %d", version, maxVersion));
+        }
+        return new BinaryReader(data, 2, data.length - 2);
+    }
+
+    boolean hasNext() {
+        return position < end;
+    }
+
+    /**
+     * Read next field tag.
+     *
+     * @return the field number
+     */
+    int nextField() {
+        long tag = rawVarint();
+        wireType = (int) (tag & 0x7);
+        if (wireType != BinaryWriter.WIRE_TYPE_VARINT && wireType != BinaryWriter.WIRE_TYPE_BYTES) {
+            throw new IllegalArgumentException(String.format("Unsupported wire type %d", wireType));
+        }
+        return (int) (tag >>> 3);
+    }
+
+    long readVarint() {
+        checkWireType(BinaryWriter.WIRE_TYPE_VARINT);
+        return rawVarint();
+    }
+
+    int readInt() {
+        return (int) readVarint();
+    }
+
+    boolean readBool() {
+        return readVarint() != 0;
+    }
+
+    byte[] readBytes() {
+        int length = readLength();
+        byte[] value = Arrays.copyOfRange(data, position, position + length);
+        position += length;
+        return value;
+    }
+
+    String readString() {
+        int length = readLength();
+        String value = new String(data, position, length, UTF_8);
+        position += length;
+        return value;
+    }
+
+    BinaryReader readMessage() {
+        int length = readLength();
+        BinaryReader message = new BinaryReader(data, position, length);
+        position += length;
+        return message;
+    }
+
+    /**
+     * Read an entry written by {@link BinaryWriter#entries(int, Map)} and add it to the given map.
+     */
+    void readEntry(Map<String, String> entries) {
+        BinaryReader entry = readMessage();
+        String key = null;
+        String value = null;
+        while (entry.hasNext()) {
+            switch (entry.nextField()) {
+            case 1:
+                key = entry.readString();
+                break;
+            case 2:
+                value = entry.readString();
+                break;
+            default:
+                entry.skip();
+            }
+        }
+        entries.put(key, value);
+    }
+
+    /**
+     * Read a {@link LwM2mPath} written by {@link BinaryWriter#path(int, LwM2mPath)}.
+     */
+    LwM2mPath readPath() {
+        BinaryReader segments = readMessage();
+        LwM2mPath path = LwM2mPath.ROOTPATH;
+        while (segments.hasNext()) {
+            path = path.append((int) segments.rawVarint());
+        }
+        return path;
+    }
+
+    /**
+     * Skip value of current field.
+     */
+    void skip() {
+        if (wireType == BinaryWriter.WIRE_TYPE_VARINT) {
+            rawVarint();
+        } else {
+            int length = readLength();
+            position += length;
+        }
+    }
+
+    private int readLength() {
+        checkWireType(BinaryWriter.WIRE_TYPE_BYTES);
+        long length = rawVarint();
+        if (length < 0 || length > end - position) {
+            throw new IllegalArgumentException(String.format("Invalid length %d at position %d", length, position));
+        }
+        return (int) length;
+    }
+
+    private void checkWireType(int expected) {
+        if (wireType != expected) {
+            throw new IllegalArgumentException(
+                    String.format("Unexpected wire type %d, expected %d at position %d", wireType, expected, position));
+        }
+    }
+
+    private long rawVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= end) {
+                throw new IllegalArgumentException("Unexpected end of data");
+            }
+            byte b = data[position++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.LwM2m.Version;
+import org.eclipse.leshan.core.endpoint.DefaultEndPointUriHandler;
+import org.eclipse.leshan.core.endpoint.EndPointUriHandler;
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.attributes.Attribute;
+import org.eclipse.leshan.core.link.attributes.AttributeModel;
+import org.eclipse.leshan.core.link.attributes.AttributeParser;
+import org.eclipse.leshan.core.link.attributes.Attributes;
+import org.eclipse.leshan.core.link.attributes.DefaultAttributeParser;
+import org.eclipse.leshan.core.link.attributes.InvalidAttributeException;
+import org.eclipse.leshan.core.link.lwm2m.MixedLwM2mLink;
+import org.eclipse.leshan.core.link.lwm2m.attributes.LwM2mAttributes;
+import org.eclipse.leshan.core.link.lwm2m.attributes.MixedLwM2mAttributeSet;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.peer.LwM2mPeer;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * Functions for serialize and deserialize a {@link Registration} in a compact binary format.
+ * <p>
+ * Compared to JSON format of {@link RegistrationSerDes}, field names are replaced by small numbers, numbers are written
+ * as varint and IP addresses as raw bytes. Unknown fields are ignored, so new fields can be added while older Leshan
+ * instances still share the same Redis.
+ * <p>
+ * {@link #deserialize(byte[])} also accepts JSON format, so a store can switch to this format without migrating
+ * existing data.
+ */
+public class BinaryRegistrationSerDes extends RegistrationSerDes {
+
+    protected static final int VERSION = 1;
+
+    // Registration fields
+    private static final int REG_ID = 1;
+    private static final int REG_ENDPOINT = 2;
+    private static final int REG_PEER = 3;
+    private static final int REG_DATE = 4;
+    private static final int REG_LAST_UPDATE = 5;
+    private static final int REG_LIFETIME = 6;
+    private static final int REG_SMS = 7;
+    private static final int REG_VERSION = 8;
+    private static final int REG_BINDING = 9;
+    private static final int REG_QUEUE_MODE = 10;
+    private static final int REG_ENDPOINT_URI = 11;
+    private static final int REG_ROOT_PATH = 12;
+    private static final int REG_LINK = 13;
+    private static final int REG_ADDITIONAL_ATTRIBUTE = 14;
+    private static final int REG_CONTENT_FORMAT = 15;
+    private static final int REG_SUPPORTED_OBJECT = 16;
+    private static final int REG_AVAILABLE_INSTANCE = 17;
+    private static final int REG_APPLICATION_DATA = 18;
+
+    // Link fields
+    private static final int LINK_URL = 1;
+    private static final int LINK_ATTRIBUTE = 2;
+
+    // Supported object fields
+    private static final int OBJECT_ID = 1;
+    private static final int OBJECT_VERSION = 2;
+
+    private final AttributeParser attributeParser;
+    private final BinaryLwM2mPeerSerDes peerSerDes;
+    private final EndPointUriHandler uriHandler;
+
+    public BinaryRegistrationSerDes() {
+        this(createDefaultAttributeParser(), new BinaryLwM2mPeerSerDes(), new DefaultEndPointUriHandler());
+    }
+
+    public BinaryRegistrationSerDes(AttributeParser attributeParser, BinaryLwM2mPeerSerDes peerSerDes,
+            EndPointUriHandler uriHandler) {
+        // parent is used for data still in JSON format
+        super(attributeParser, new LwM2mPeerSerDes(), uriHandler);
+        this.attributeParser = attributeParser;
+        this.peerSerDes = peerSerDes;
+        this.uriHandler = uriHandler;
+    }
+
+    private static AttributeParser createDefaultAttributeParser() {
+        Collection<AttributeModel<?>> suppportedAttributes = new ArrayList<AttributeModel<?>>();
+        suppportedAttributes.addAll(Attributes.ALL);
+        suppportedAttributes.addAll(LwM2mAttributes.ALL);
+        return new DefaultAttributeParser(suppportedAttributes);
+    }
+
+    @Override
+    public byte[] bSerialize(Registration r) {
+        BinaryWriter w = new BinaryWriter(256).header(VERSION);
+        w.string(REG_ID, r.getId());
+        w.string(REG_ENDPOINT, r.getEndpoint());
+        BinaryWriter peer = new BinaryWriter();
+        peerSerDes.write(peer, r.getClientTransportData());
+        w.message(REG_PEER, peer);
+        w.varint(REG_DATE, r.getRegistrationDate().getTime());
+        w.varint(REG_LAST_UPDATE, r.getLastUpdate().getTime());
+        w.varint(REG_LIFETIME, r.getLifeTimeInSec());
+        w.string(REG_SMS, r.getSmsNumber());
+        w.string(REG_VERSION, r.getLwM2mVersion().toString());
+        w.string(REG_BINDING, BindingMode.toString(r.getBindingMode()));
+        if (r.getQueueMode() != null) {
+            w.bool(REG_QUEUE_MODE, r.getQueueMode());
+        }
+        w.string(REG_ENDPOINT_URI, r.getEndpointUri().toString());
+        w.string(REG_ROOT_PATH, r.getRootPath());
+
+        // handle object links
+        for (Link l : r.getObjectLinks()) {
+            BinaryWriter link = new BinaryWriter();
+            link.string(LINK_URL, l.getUriReference());
+            for (Attribute a : l.getAttributes()) {
+                link.entries(LINK_ATTRIBUTE,
+                        Collections.singletonMap(a.getName(), a.hasValue() ? a.getCoreLinkValue() : null));
+            }
+            w.message(REG_LINK, link);
+        }
+
+        w.entries(REG_ADDITIONAL_ATTRIBUTE, r.getAdditionalRegistrationAttributes());
+
+        // handle supported content format
+        for (ContentFormat contentFormat : r.getSupportedContentFormats()) {
+            w.varint(REG_CONTENT_FORMAT, contentFormat.getCode());
+        }
+
+        // handle supported object
+        for (Entry<Integer, Version> supportedObject : r.getSupportedObject().entrySet()) {
+            BinaryWriter object = new BinaryWriter(16);
+            object.varint(OBJECT_ID, supportedObject.getKey());
+            object.string(OBJECT_VERSION, supportedObject.getValue().toString());
+            w.message(REG_SUPPORTED_OBJECT, object);
+        }
+
+        // handle available instances
+        for (LwM2mPath instance : r.getAvailableInstances()) {
+            w.path(REG_AVAILABLE_INSTANCE, instance);
+        }
+
+        w.entries(REG_APPLICATION_DATA, r.getApplicationData());
+        return w.toByteArray();
+    }
+
+    @Override
+    public Registration deserialize(byte[] data) {
+        if (!BinaryReader.isBinary(data)) {
+            return super.deserialize(data);
+        }
+        BinaryReader reader = BinaryReader.fromHeader(data, VERSION);
+
+        String id = null;
+        String endpoint = null;
+        LwM2mPeer peer = null;
+        Date registrationDate = null;
+        Date lastUpdate = null;
+        Long lifetime = null;
+        String sms = null;
+        LwM2mVersion lwm2mVersion = null;
+        String binding = null;
+        Boolean queueMode = null;
+        String endpointUri = null;
+        String rootPath = "/";
+        List<BinaryReader> links = new ArrayList<>();
+        Map<String, String> additionalAttributes = new HashMap<>();
+        Set<ContentFormat> supportedContentFormats = new HashSet<>();
+        Map<Integer, Version> supportedObjects = new HashMap<>();
+        Set<LwM2mPath> availableInstances = new HashSet<>();
+        Map<String, String> applicationData = new HashMap<>();
+
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case REG_ID:
+                id = reader.readString();
+                break;
+            case REG_ENDPOINT:
+                endpoint = reader.readString();
+                break;
+            case REG_PEER:
+                peer = peerSerDes.read(reader.readMessage());
+                break;
+            case REG_DATE:
+                registrationDate = new Date(reader.readVarint());
+                break;
+            case REG_LAST_UPDATE:
+                lastUpdate = new Date(reader.readVarint());
+                break;
+            case REG_LIFETIME:
+                lifetime = reader.readVarint();
+                break;
+            case REG_SMS:
+                sms = reader.readString();
+                break;
+            case REG_VERSION:
+                lwm2mVersion = LwM2mVersion.get(reader.readString());
+                break;
+            case REG_BINDING:
+                binding = reader.readString();
+                break;
+            case REG_QUEUE_MODE:
+                queueMode = reader.readBool();
+                break;
+            case REG_ENDPOINT_URI:
+                endpointUri = reader.readString();
+                break;
+            case REG_ROOT_PATH:
+                rootPath = reader.readString();
+                break;
+            case REG_LINK:
+                // links are parsed once root path is known
+                links.add(reader.readMessage());
+                break;
+            case REG_ADDITIONAL_ATTRIBUTE:
+                reader.readEntry(additionalAttributes);
+                break;
+            case REG_CONTENT_FORMAT:
+                supportedContentFormats.add(ContentFormat.fromCode(reader.readInt()));
+                break;
+            case REG_SUPPORTED_OBJECT:
+                readSupportedObject(reader.readMessage(), supportedObjects);
+                break;
+            case REG_AVAILABLE_INSTANCE:
+                availableInstances.add(reader.readPath());
+                break;
+            case REG_APPLICATION_DATA:
+                reader.readEntry(applicationData);
+                break;
+            default:
+                reader.skip();
+            }
+        }
+
+        EndpointUri uri;
+        try {
+            uri = uriHandler.createUri(endpointUri);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException(
+                    String.format("Unable to deserialize last endpoint used URI %s of registration %s/%s", endpointUri,
+                            id, endpoint));
+        }
+
+        Registration.Builder b = new Registration.Builder(id, endpoint, peer, uri);
+        b.registrationDate(registrationDate);
+        b.lastUpdate(lastUpdate);
+        b.lifeTimeInSec(lifetime);
+        b.smsNumber(sms);
+        b.lwM2mVersion(lwm2mVersion);
+        b.bindingMode(binding == null ? null : BindingMode.parse(binding));
+        b.queueMode(queueMode);
+        b.rootPath(rootPath);
+
+        Link[] linkObjs = new Link[links.size()];
+        for (int i = 0; i < linkObjs.length; i++) {
+            linkObjs[i] = readLink(links.get(i), rootPath, id, endpoint);
+        }
+        b.objectLinks(linkObjs);
+
+        b.additionalRegistrationAttributes(additionalAttributes);
+        b.supportedContentFormats(supportedContentFormats);
+        b.supportedObjects(supportedObjects);
+        b.availableInstances(availableInstances);
+        b.applicationData(applicationData);
+        return b.build();
+    }
+
+    private Link readLink(BinaryReader reader, String rootPath, String id, String endpoint) {
+        String path = null;
+        List<Attribute> atts = new ArrayList<>();
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case LINK_URL:
+                path = reader.readString();
+                break;
+            case LINK_ATTRIBUTE:
+                Map<String, String> attribute = new HashMap<>(2);
+                reader.readEntry(attribute);
+                for (Entry<String, String> e : attribute.entrySet()) {
+                    try {
+                        atts.add(attributeParser.parseCoreLinkValue(e.getKey(), e.getValue()));
+                    } catch (InvalidAttributeException ex) {
+                        throw new IllegalStateException(
+                                String.format("Unable to deserialize attribute value from links of registraiton %s/%s",
+                                        id, endpoint),
+                                ex);
+                    }
+                }
+                break;
+            default:
+                reader.skip();
+            }
+        }
+
+        // handle lwm2m path
+        if (path.startsWith(rootPath)) {
+            LwM2mPath lwm2mPath = LwM2mPath.parse(path, rootPath);
+            return new MixedLwM2mLink(rootPath, lwm2mPath, new MixedLwM2mAttributeSet(atts));
+        } else {
+            return new Link(path, atts);
+        }
+    }
+
+    private void readSupportedObject(BinaryReader reader, Map<Integer, Version> supportedObjects) {
+        Integer objectId = null;
+        String version = null;
+        while (reader.hasNext()) {
+            switch (reader.nextField()) {
+            case OBJECT_ID:
+                objectId = reader.readInt();
+                break;
+            case OBJECT_VERSION:
+                version = reader.readString();
+                break;
+            default:
+                reader.skip();
+            }
+        }
+        supportedObjects.put(objectId, new Version(version));
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+
+import org.eclipse.leshan.servers.security.SecurityInfo;
+
+/**
+ * Functions for serialize and deserialize security information in a compact binary format for storage.
+ * <p>
+ * {@link #deserialize(byte[])} also accepts JSON format of {@link SecurityInfoSerDes}, so a store can switch to this
+ * format without migrating existing data.
+ *
+ * @see BinaryRegistrationSerDes
+ */
+public class BinarySecurityInfoSerDes {
+
+    protected static final int VERSION = 1;
+
+    private static final int SEC_ENDPOINT = 1;
+    private static final int SEC_PSK_ID = 2;
+    private static final int SEC_PSK = 3;
+    private static final int SEC_RPK = 4;
+    private static final int SEC_RPK_ALGORITHM = 5;
+    private static final int SEC_X509 = 6;
+
+    public static byte[] serialize(SecurityInfo s) {
+        BinaryWriter w = new BinaryWriter().header(VERSION);
+        w.string(SEC_ENDPOINT, s.getEndpoint());
+        if (s.usePSK()) {
+            w.string(SEC_PSK_ID, s.getPskIdentity());
+            w.bytes(SEC_PSK, s.getPreSharedKey());
+        } else if (s.useRPK()) {
+            PublicKey rpk = s.getRawPublicKey();
+            w.bytes(SEC_RPK, rpk.getEncoded());
+            w.string(SEC_RPK_ALGORITHM, rpk.getAlgorithm());
+        } else if (s.useX509Cert()) {
+            w.bool(SEC_X509, true);
+        } else {
+            throw new IllegalArgumentException(
+                    String.format("Unable to serialize security info of %s : unsupported kind", s.getEndpoint()));
+        }
+        return w.toByteArray();
+    }
+
+    public static SecurityInfo deserialize(byte[] data) {
+        if (!BinaryReader.isBinary(data)) {
+            return SecurityInfoSerDes.deserialize(data);
+        }
+
+        String endpoint = null;
+        String pskId = null;
+        byte[] psk = null;
+        byte[] rpk = null;
+        String rpkAlgorithm = "EC";
+        boolean x509 = false;
+        try {
+            BinaryReader reader = BinaryReader.fromHeader(data, VERSION);
+            while (reader.hasNext()) {
+                switch (reader.nextField()) {
+                case SEC_ENDPOINT:
+                    endpoint = reader.readString();
+                    break;
+                case SEC_PSK_ID:
+                    pskId = reader.readString();
+                    break;
+                case SEC_PSK:
+                    psk = reader.readBytes();
+                    break;
+                case SEC_RPK:
+                    rpk = reader.readBytes();
+                    break;
+                case SEC_RPK_ALGORITHM:
+                    rpkAlgorithm = reader.readString();
+                    break;
+                case SEC_X509:
+                    x509 = reader.readBool();
+                    break;
+                default:
+                    reader.skip();
+                }
+            }
+
+            if (psk != null) {
+                return SecurityInfo.newPreSharedKeyInfo(endpoint, pskId, psk);
+            } else if (x509) {
+                return SecurityInfo.newX509CertInfo(endpoint);
+            } else {
+                PublicKey key = KeyFactory.getInstance(rpkAlgorithm).generatePublic(new X509EncodedKeySpec(rpk));
+                return SecurityInfo.newRawPublicKeyInfo(endpoint, key);
+            }
+        } catch (IllegalArgumentException | InvalidKeySpecException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Invalid security info content", e);
+        }
+    }
+}
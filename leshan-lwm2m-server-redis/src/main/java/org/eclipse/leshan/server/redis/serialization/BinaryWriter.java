@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+
+/**
+ * Writes the compact binary format used by binary SerDes.
+ * <p>
+ * Data is a header (see {@link BinaryReader#MAGIC}) followed by a list of fields. Each field starts with a varint tag
+ * containing the field number and the wire type, followed by a varint value or by a varint length and the corresponding
+ * bytes. A reader skips fields it does not know, so fields can be added without breaking older readers. Nested
+ * structures are written as bytes fields containing a list of fields (without header).
+ */
+class BinaryWriter {
+
+    static final int WIRE_TYPE_VARINT = 0;
+    static final int WIRE_TYPE_BYTES = 2;
+
+    private byte[] buffer;
+    private int size;
+
+    BinaryWriter() {
+        this(64);
+    }
+
+    BinaryWriter(int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Write the header identifying binary format and its version, must only be used on top level structure.
+     */
+    BinaryWriter header(int version) {
+        ensureCapacity(2);
+        buffer[size++] = BinaryReader.MAGIC;
+        buffer[size++] = (byte) version;
+        return this;
+    }
+
+    BinaryWriter varint(int field, long value) {
+        rawVarint(((long) field << 3) | WIRE_TYPE_VARINT);
+        rawVarint(value);
+        return this;
+    }
+
+    BinaryWriter bool(int field, boolean value) {
+        return varint(field, value ? 1 : 0);
+    }
+
+    /**
+     * Write a string field, nothing is written if value is <code>null</code>.
+     */
+    BinaryWriter string(int field, String value) {
+        if (value != null) {
+            bytes(field, value.getBytes(UTF_8));
+        }
+        return this;
+    }
+
+    /**
+     * Write a bytes field, nothing is written if value is <code>null</code>.
+     */
+    BinaryWriter bytes(int field, byte[] value) {
+        if (value != null) {
+            bytes(field, value, 0, value.length);
+        }
+        return this;
+    }
+
+    BinaryWriter message(int field, BinaryWriter message) {
+        bytes(field, message.buffer, 0, message.size);
+        return this;
+    }
+
+    /**
+     * Write each entry of the map as a repeated nested structure containing a key (field 1) and an optional value
+     * (field 2).
+     */
+    BinaryWriter entries(int field, Map<String, String> entries) {
+        for (Entry<String, String> e : entries.entrySet()) {
+            BinaryWriter entry = new BinaryWriter(32);
+            entry.string(1, e.getKey());
+            entry.string(2, e.getValue());
+            message(field, entry);
+        }
+        return this;
+    }
+
+    /**
+     * Write a {@link LwM2mPath} as a nested list of varint, one by path segment.
+     */
+    BinaryWriter path(int field, LwM2mPath path) {
+        BinaryWriter segments = new BinaryWriter(8);
+        for (Integer segment : new Integer[] { path.getObjectId(), path.getObjectInstanceId(), path.getResourceId(),
+                path.getResourceInstanceId() }) {
+            if (segment == null) {
+                break;
+            }
+            segments.rawVarint(segment);
+        }
+        return message(field, segments);
+    }
+
+    private void bytes(int field, byte[] value, int offset, int length) {
+        rawVarint(((long) field << 3) | WIRE_TYPE_BYTES);
+        rawVarint(length);
+        ensureCapacity(length);
+        System.arraycopy(value, offset, buffer, size, length);
+        size += length;
+    }
+
+    private void rawVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+        }
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+}
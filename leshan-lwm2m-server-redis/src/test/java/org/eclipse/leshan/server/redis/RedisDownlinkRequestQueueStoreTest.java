@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.server.queue.QueuedRequest;
+import org.eclipse.leshan.server.redis.serialization.BinaryQueuedRequestSerDes;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.Pool;
+
+public class RedisDownlinkRequestQueueStoreTest {
+
+    private static final String ENDPOINT = "urn:client";
+
+    private final FakeJedis jedis = new FakeJedis();
+    private final Pool<Jedis> pool = new Pool<Jedis>(new FakeJedisFactory()) {
+        @Override
+        public Jedis getResource() {
+            return jedis;
+        }
+    };
+
+    @Test
+    public void store_created_with_pool_only_uses_default_configuration() {
+        RedisDownlinkRequestQueueStore store = new RedisDownlinkRequestQueueStore(pool);
+
+        // requests stored with default prefixes and serializer can be read
+        QueuedRequest request = givenQueuedRequest("req1");
+        jedis.lists.put("QUEUESTORE#IDS#EP#" + ENDPOINT, new ArrayList<>(Collections.singletonList("req1")));
+        jedis.hashes.computeIfAbsent("QUEUESTORE#REQ#EP#" + ENDPOINT, k -> new HashMap<>()).put("req1",
+                new BinaryQueuedRequestSerDes().serialize(request));
+
+        List<QueuedRequest> requests = store.get(ENDPOINT);
+        assertEquals(1, requests.size());
+        assertEquals(request.getRequest(), requests.get(0).getRequest());
+
+        // and replaced under the same key
+        assertTrue(store.replace(givenQueuedRequest("req1")));
+        assertFalse(store.replace(givenQueuedRequest("unknown")));
+        assertEquals(Collections.singleton("QUEUESTORE#REQ#EP#" + ENDPOINT), jedis.hashes.keySet());
+    }
+
+    @Test
+    public void builder_and_pool_constructor_use_same_keys() {
+        RedisDownlinkRequestQueueStore store = new RedisDownlinkRequestQueueStore.Builder(pool).build();
+        store.get(ENDPOINT);
+        new RedisDownlinkRequestQueueStore(pool).get(ENDPOINT);
+
+        assertEquals(2, jedis.readKeys.size());
+        assertEquals(jedis.readKeys.get(0), jedis.readKeys.get(1));
+        assertEquals("QUEUESTORE#IDS#EP#" + ENDPOINT, jedis.readKeys.get(0));
+    }
+
+    @Test
+    public void building_twice_does_not_prefix_keys_twice() {
+        RedisDownlinkRequestQueueStore.Builder builder = new RedisDownlinkRequestQueueStore.Builder(pool);
+        builder.build();
+        builder.build().get(ENDPOINT);
+
+        assertEquals("QUEUESTORE#IDS#EP#" + ENDPOINT, jedis.readKeys.get(0));
+    }
+
+    @Test
+    public void same_prefixes_are_rejected() {
+        RedisDownlinkRequestQueueStore.Builder builder = new RedisDownlinkRequestQueueStore.Builder(pool)
+                .setRequestIdsByEndpointPrefix("EP#").setRequestsByEndpointPrefix("EP#");
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    private QueuedRequest givenQueuedRequest(String id) {
+        return new QueuedRequest(id, ENDPOINT, new ReadRequest(ContentFormat.SENML_CBOR, 3, 0, 1), 2000, 1000, 5000);
+    }
+
+    /**
+     * A {@link Jedis} which keeps hashes and lists in memory, only commands used outside of transactions are supported.
+     */
+    private static class FakeJedis extends Jedis {
+        private final Map<String, Map<String, byte[]>> hashes = new HashMap<>();
+        private final Map<String, List<String>> lists = new HashMap<>();
+        private final List<String> readKeys = new ArrayList<>();
+
+        @Override
+        public boolean hexists(byte[] key, byte[] field) {
+            Map<String, byte[]> hash = hashes.get(new String(key, UTF_8));
+            return hash != null && hash.containsKey(new String(field, UTF_8));
+        }
+
+        @Override
+        public long hset(byte[] key, byte[] field, byte[] value) {
+            hashes.computeIfAbsent(new String(key, UTF_8), k -> new HashMap<>()).put(new String(field, UTF_8), value);
+            return 1;
+        }
+
+        @Override
+        public List<byte[]> lrange(byte[] key, long start, long stop) {
+            readKeys.add(new String(key, UTF_8));
+            List<byte[]> result = new ArrayList<>();
+            for (String value : lists.getOrDefault(new String(key, UTF_8), Collections.emptyList())) {
+                result.add(value.getBytes(UTF_8));
+            }
+            return result;
+        }
+
+        @Override
+        public List<byte[]> hmget(byte[] key, byte[]... fields) {
+            Map<String, byte[]> hash = hashes.getOrDefault(new String(key, UTF_8), Collections.emptyMap());
+            List<byte[]> result = new ArrayList<>();
+            for (byte[] field : fields) {
+                result.add(hash.get(new String(field, UTF_8)));
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+
+    private static class FakeJedisFactory extends BasePooledObjectFactory<Jedis> {
+        @Override
+        public Jedis create() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PooledObject<Jedis> wrap(Jedis jedis) {
+            return new DefaultPooledObject<>(jedis);
+        }
+    }
+}
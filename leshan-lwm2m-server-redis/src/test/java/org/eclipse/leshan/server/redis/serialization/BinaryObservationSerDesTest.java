@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.junit.jupiter.api.Test;
+
+public class BinaryObservationSerDesTest {
+
+    private final BinaryObservationSerDes observationSerDes = new BinaryObservationSerDes(uriHandler);
+
+    private ObservationIdentifier createId() {
+        return new ObservationIdentifier(uriHandler.createUri("coap://localhost:5683"),
+                new byte[] { 0x01, 0x02, 0x03, 0x04 });
+    }
+
+    private Map<String, String> createMap(String key, String value) {
+        Map<String, String> map = new HashMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    @Test
+    public void ser_and_des_single_observation() {
+        Observation obs = new SingleObservation(createId(), "registrationId", new LwM2mPath(3, 0, 1),
+                ContentFormat.SENML_CBOR, createMap("ctx", "value"), createMap("protocol", "data"));
+
+        Observation obs2 = observationSerDes.deserialize(observationSerDes.serialize(obs));
+
+        assertEquals(obs, obs2);
+        assertEquals(obs.getProtocolData(), obs2.getProtocolData());
+    }
+
+    @Test
+    public void ser_and_des_composite_observation() {
+        Observation obs = new CompositeObservation(createId(), "registrationId",
+                Arrays.asList(LwM2mPath.ROOTPATH, new LwM2mPath(3), new LwM2mPath(3, 0, 1, 2)),
+                ContentFormat.SENML_CBOR, ContentFormat.SENML_JSON, createMap("ctx", "value"),
+                createMap("protocol", "data"));
+
+        Observation obs2 = observationSerDes.deserialize(observationSerDes.serialize(obs));
+
+        assertEquals(obs, obs2);
+        assertEquals(obs.getProtocolData(), obs2.getProtocolData());
+    }
+
+    @Test
+    public void des_json_format() {
+        Observation obs = new SingleObservation(createId(), "registrationId", new LwM2mPath(3, 0, 1), null,
+                createMap("ctx", "value"), createMap("protocol", "data"));
+
+        byte[] json = new ObservationSerDes(uriHandler).serialize(obs);
+
+        assertEquals(obs, observationSerDes.deserialize(json));
+    }
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.leshan.core.node.LwM2mMultipleResource;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mResourceInstance;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.request.CreateRequest;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.core.request.ObserveRequest;
+import org.eclipse.leshan.core.request.ReadCompositeRequest;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.core.request.WriteCompositeRequest;
+import org.eclipse.leshan.core.request.WriteRequest;
+import org.eclipse.leshan.core.request.WriteRequest.Mode;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.server.queue.QueuedRequest;
+import org.junit.jupiter.api.Test;
+
+public class BinaryQueuedRequestSerDesTest {
+
+    private final BinaryQueuedRequestSerDes serDes = new BinaryQueuedRequestSerDes();
+
+    private QueuedRequest serAndDes(DownlinkDeviceManagementRequest<?> request) {
+        QueuedRequest queued = new QueuedRequest("id", "urn:client", request, 2000, 1000, 5000);
+        QueuedRequest queued2 = serDes.deserialize(serDes.serialize(queued));
+
+        assertEquals(queued.getId(), queued2.getId());
+        assertEquals(queued.getEndpoint(), queued2.getEndpoint());
+        assertEquals(queued.getTimeoutInMs(), queued2.getTimeoutInMs());
+        assertEquals(queued.getCreationTime(), queued2.getCreationTime());
+        assertEquals(queued.getExpirationTime(), queued2.getExpirationTime());
+        return queued2;
+    }
+
+    @Test
+    public void ser_and_des_read_request() {
+        ReadRequest request = new ReadRequest(ContentFormat.SENML_CBOR, 3, 0, 1);
+        assertEquals(request, serAndDes(request).getRequest());
+    }
+
+    @Test
+    public void ser_and_des_execute_request() {
+        ExecuteRequest request = new ExecuteRequest("/3/0/4", "0='param'");
+        assertEquals(request, serAndDes(request).getRequest());
+    }
+
+    @Test
+    public void ser_and_des_write_request() {
+        Map<Integer, Long> values = new HashMap<>();
+        values.put(0, -5L);
+        values.put(3, Long.MAX_VALUE);
+        WriteRequest request = new WriteRequest(Mode.UPDATE, ContentFormat.TLV, 1234, 0,
+                LwM2mSingleResource.newStringResource(0, "string"), LwM2mSingleResource.newFloatResource(1, -1.5),
+                LwM2mSingleResource.newBooleanResource(2, true),
+                LwM2mSingleResource.newBinaryResource(3, new byte[] { 1, 2, 3 }),
+                LwM2mSingleResource.newDateResource(4, new Date(1700000000000L)),
+                LwM2mSingleResource.newObjectLinkResource(5, new ObjectLink()),
+                LwM2mSingleResource.newUnsignedIntegerResource(6, ULong.valueOf("18446744073709551615")),
+                LwM2mMultipleResource.newIntegerResource(7, values));
+        assertEquals(request, serAndDes(request).getRequest());
+    }
+
+    @Test
+    public void ser_and_des_create_request() {
+        CreateRequest request = new CreateRequest(ContentFormat.SENML_JSON, "/1234",
+                new LwM2mObjectInstance(2, LwM2mSingleResource.newIntegerResource(0, 42)));
+        assertEquals(request, serAndDes(request).getRequest());
+    }
+
+    @Test
+    public void ser_and_des_composite_requests() {
+        ReadCompositeRequest read = new ReadCompositeRequest(ContentFormat.SENML_CBOR, ContentFormat.SENML_CBOR,
+                "/3/0/1", "/1/0");
+        assertEquals(read, serAndDes(read).getRequest());
+
+        Map<LwM2mPath, LwM2mNode> nodes = new HashMap<>();
+        nodes.put(new LwM2mPath(3, 0, 14), LwM2mSingleResource.newStringResource(14, "+02"));
+        nodes.put(new LwM2mPath(1, 0, 8, 1), LwM2mResourceInstance.newIntegerInstance(1, 10));
+        WriteCompositeRequest write = new WriteCompositeRequest(ContentFormat.SENML_CBOR, nodes, null);
+        WriteCompositeRequest write2 = (WriteCompositeRequest) serAndDes(write).getRequest();
+        assertEquals(write.getContentFormat(), write2.getContentFormat());
+        assertEquals(write.getNodes(), write2.getNodes());
+    }
+
+    @Test
+    public void unsupported_request() {
+        QueuedRequest queued = new QueuedRequest("id", "urn:client", new ObserveRequest(3, 0), 2000, 1000, 5000);
+        assertThrows(IllegalArgumentException.class, () -> serDes.serialize(queued));
+    }
+
+    @Test
+    public void ser_and_des_read_composite_paths_order() {
+        ReadCompositeRequest read = new ReadCompositeRequest(Arrays.asList(new LwM2mPath(5), new LwM2mPath(1, 0)), null,
+                null, null);
+        assertEquals(read.getPaths(), ((ReadCompositeRequest) serAndDes(read).getRequest()).getPaths());
+    }
+}
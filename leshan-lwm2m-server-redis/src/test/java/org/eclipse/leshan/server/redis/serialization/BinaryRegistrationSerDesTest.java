@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.Inet6Address;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.attributes.AttributeSet;
+import org.eclipse.leshan.core.link.attributes.ContentFormatAttribute;
+import org.eclipse.leshan.core.link.attributes.QuotedStringAttribute;
+import org.eclipse.leshan.core.link.attributes.ResourceTypeAttribute;
+import org.eclipse.leshan.core.link.attributes.UnquotedStringAttribute;
+import org.eclipse.leshan.core.link.attributes.ValuelessAttribute;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.peer.PskIdentity;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.registration.DefaultRegistrationDataExtractor;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationDataExtractor.RegistrationData;
+import org.junit.jupiter.api.Test;
+
+public class BinaryRegistrationSerDesTest {
+
+    private final BinaryRegistrationSerDes registrationSerDes = new BinaryRegistrationSerDes();
+
+    private Registration createRegistration() throws Exception {
+        Link[] objs = new Link[2];
+        AttributeSet attrs = new AttributeSet( //
+                new UnquotedStringAttribute("us", "12"), //
+                new QuotedStringAttribute("qt", "test"), //
+                new ResourceTypeAttribute("oma.lwm2m"), //
+                new ContentFormatAttribute(ContentFormat.CBOR, ContentFormat.JSON), //
+                new ValuelessAttribute("hb"));
+        objs[0] = new Link("/0/1024/2", attrs);
+        objs[1] = new Link("/0/2");
+
+        Map<String, String> appData = new HashMap<>();
+        appData.put("string", "string test");
+        appData.put("null", null);
+
+        Map<String, String> additionalAttributes = new HashMap<>();
+        additionalAttributes.put("apn", "internet");
+
+        Registration.Builder builder = new Registration.Builder("registrationId", "endpoint",
+                new IpPeer(new InetSocketAddress(Inet6Address.getByName("::1"), 5684), new PskIdentity("pskId")),
+                uriHandler.createUri("coaps://localhost:5684")).objectLinks(objs).lifeTimeInSec(300L)
+                        .smsNumber("0123456789").lwM2mVersion(LwM2mVersion.V1_1).queueMode(true)
+                        .additionalRegistrationAttributes(additionalAttributes).applicationData(appData);
+        builder.registrationDate(new Date(100L));
+        builder.lastUpdate(new Date(101L));
+
+        RegistrationData dataFromObjectLinks = new DefaultRegistrationDataExtractor().extractDataFromObjectLinks(objs,
+                LwM2mVersion.V1_1);
+        builder.rootPath(dataFromObjectLinks.getAlternatePath());
+        builder.supportedContentFormats(dataFromObjectLinks.getSupportedContentFormats());
+        builder.supportedObjects(dataFromObjectLinks.getSupportedObjects());
+        builder.availableInstances(dataFromObjectLinks.getAvailableInstances());
+
+        return builder.build();
+    }
+
+    @Test
+    public void ser_and_des_are_equals() throws Exception {
+        Registration r = createRegistration();
+
+        byte[] ser = registrationSerDes.bSerialize(r);
+        Registration r2 = registrationSerDes.deserialize(ser);
+
+        assertEquals(r, r2);
+    }
+
+    @Test
+    public void binary_is_smaller_than_json() throws Exception {
+        Registration r = createRegistration();
+
+        byte[] json = new RegistrationSerDes().bSerialize(r);
+        byte[] binary = registrationSerDes.bSerialize(r);
+
+        assertTrue(binary.length < json.length / 2,
+                String.format("binary size %d should be less than half of json size %d", binary.length, json.length));
+    }
+
+    @Test
+    public void des_json_format() throws Exception {
+        Registration r = createRegistration();
+
+        byte[] json = new RegistrationSerDes().bSerialize(r);
+        Registration r2 = registrationSerDes.deserialize(json);
+
+        assertEquals(r.getId(), r2.getId());
+        assertEquals(r.getEndpoint(), r2.getEndpoint());
+        assertEquals(r.getClientTransportData(), r2.getClientTransportData());
+        assertEquals(r.getSupportedObject(), r2.getSupportedObject());
+        assertEquals(r.getApplicationData(), r2.getApplicationData());
+    }
+
+    @Test
+    public void unknown_fields_are_ignored() throws Exception {
+        Registration r = createRegistration();
+
+        // simulate data written by a newer version with additional fields
+        byte[] ser = registrationSerDes.bSerialize(r);
+        byte[] newField = new BinaryWriter().varint(100, 42).string(101, "new field").toByteArray();
+        byte[] newer = Arrays.copyOf(ser, ser.length + newField.length);
+        System.arraycopy(newField, 0, newer, ser.length, newField.length);
+
+        assertEquals(r, registrationSerDes.deserialize(newer));
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+
+import org.eclipse.leshan.core.util.Hex;
+import org.eclipse.leshan.servers.security.SecurityInfo;
+import org.junit.jupiter.api.Test;
+
+public class BinarySecurityInfoSerDesTest {
+
+    @Test
+    public void security_info_psk_ser_des_then_equal() {
+        SecurityInfo si = SecurityInfo.newPreSharedKeyInfo("myendPoint", "pskIdentity",
+                Hex.decodeHex("deadbeef".toCharArray()));
+
+        byte[] data = BinarySecurityInfoSerDes.serialize(si);
+        assertEquals(si, BinarySecurityInfoSerDes.deserialize(data));
+    }
+
+    @Test
+    public void security_info_rpk_ser_des_then_equal() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        SecurityInfo si = SecurityInfo.newRawPublicKeyInfo("myendpoint", generator.generateKeyPair().getPublic());
+
+        byte[] data = BinarySecurityInfoSerDes.serialize(si);
+        assertEquals(si, BinarySecurityInfoSerDes.deserialize(data));
+    }
+
+    @Test
+    public void security_info_x509_ser_des_then_equal() {
+        SecurityInfo si = SecurityInfo.newX509CertInfo("myendpoint");
+
+        byte[] data = BinarySecurityInfoSerDes.serialize(si);
+        assertEquals(si, BinarySecurityInfoSerDes.deserialize(data));
+    }
+
+    @Test
+    public void security_info_json_des_then_equal() {
+        SecurityInfo si = SecurityInfo.newPreSharedKeyInfo("myendPoint", "pskIdentity",
+                Hex.decodeHex("deadbeef".toCharArray()));
+
+        byte[] json = SecurityInfoSerDes.serialize(si);
+        assertEquals(si, BinarySecurityInfoSerDes.deserialize(json));
+    }
+}
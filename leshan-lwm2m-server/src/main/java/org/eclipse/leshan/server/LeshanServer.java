@@ -44,10 +44,15 @@ import org.eclipse.leshan.core.response.ErrorCallback;
 import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.core.response.ResponseCallback;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.dispatch.ListenerDispatcher;
+import org.eclipse.leshan.server.dispatch.SynchronousListenerDispatcher;
 import org.eclipse.leshan.server.endpoint.CompositeServerEndpointsProvider;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
 import org.eclipse.leshan.server.endpoint.ServerEndpointToolbox;
+import org.eclipse.leshan.server.metrics.InstrumentedDownlinkRequestSender;
+import org.eclipse.leshan.server.metrics.InstrumentedRegistrationStore;
+import org.eclipse.leshan.server.metrics.ServerMetricsListener;
 import org.eclipse.leshan.server.model.LwM2mModelProvider;
 import org.eclipse.leshan.server.observation.ObservationService;
 import org.eclipse.leshan.server.observation.ObservationServiceImpl;
@@ -76,6 +81,10 @@ import org.eclipse.leshan.server.security.Authorizer;
 import org.eclipse.leshan.server.send.SendHandler;
 import org.eclipse.leshan.server.send.SendService;
 import org.eclipse.leshan.servers.ServerEndpointNameProvider;
+import org.eclipse.leshan.servers.metrics.InstrumentedLwM2mDecoder;
+import org.eclipse.leshan.servers.metrics.InstrumentedLwM2mEncoder;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.eclipse.leshan.servers.metrics.NoopMetrics;
 import org.eclipse.leshan.servers.security.SecurityInfo;
 import org.eclipse.leshan.servers.security.SecurityStore;
 import org.eclipse.leshan.servers.security.ServerSecurityInfo;
@@ -108,6 +117,8 @@ public class LeshanServer {
     private final LwM2mModelProvider modelProvider;
     private PresenceServiceImpl presenceService;
     private final DownlinkRequestSender requestSender;
+    private final ListenerDispatcher listenerDispatcher;
+    private final Metrics metrics;
 
     /**
      * Initialize a server which will bind to the specified address and port.
@@ -140,6 +151,31 @@ public class LeshanServer {
             boolean updateRegistrationOnNotification, boolean updateRegistrationOnSend, LwM2mLinkParser linkParser,
             EndPointUriHandler uriHandler, ServerSecurityInfo serverSecurityInfo,
             ServerEndpointNameProvider endpointNameProvider) {
+        this(endpointsProvider, registrationStore, securityStore, authorizer, modelProvider, encoder, decoder,
+                noQueueMode, awakeTimeProvider, registrationIdProvider, registrationDataExtractor,
+                updateRegistrationOnNotification, updateRegistrationOnSend, linkParser, uriHandler, serverSecurityInfo,
+                endpointNameProvider, new SynchronousListenerDispatcher(), NoopMetrics.INSTANCE);
+    }
+
+    /**
+     * Initialize a server which will bind to the specified address and port.
+     * <p>
+     * {@link LeshanServerBuilder} is the priviledged way to create a {@link LeshanServer}.
+     *
+     * @param listenerDispatcher used to notify registration, observation and send listeners.
+     * @param metrics used to record server activity, use {@link NoopMetrics} to disable instrumentation.
+     * @see #LeshanServer(LwM2mServerEndpointsProvider, RegistrationStore, SecurityStore, Authorizer,
+     *      LwM2mModelProvider, LwM2mEncoder, LwM2mDecoder, boolean, ClientAwakeTimeProvider, RegistrationIdProvider,
+     *      RegistrationDataExtractor, boolean, boolean, LwM2mLinkParser, EndPointUriHandler, ServerSecurityInfo,
+     *      ServerEndpointNameProvider)
+     */
+    public LeshanServer(LwM2mServerEndpointsProvider endpointsProvider, RegistrationStore registrationStore,
+            SecurityStore securityStore, Authorizer authorizer, LwM2mModelProvider modelProvider, LwM2mEncoder encoder,
+            LwM2mDecoder decoder, boolean noQueueMode, ClientAwakeTimeProvider awakeTimeProvider,
+            RegistrationIdProvider registrationIdProvider, RegistrationDataExtractor registrationDataExtractor,
+            boolean updateRegistrationOnNotification, boolean updateRegistrationOnSend, LwM2mLinkParser linkParser,
+            EndPointUriHandler uriHandler, ServerSecurityInfo serverSecurityInfo,
+            ServerEndpointNameProvider endpointNameProvider, ListenerDispatcher listenerDispatcher, Metrics metrics) {
 
         Validate.notNull(endpointsProvider, "endpointsProvider cannot be null");
         Validate.notNull(registrationStore, "registration store cannot be null");
@@ -148,10 +184,22 @@ public class LeshanServer {
         Validate.notNull(encoder, "encoder cannot be null");
         Validate.notNull(decoder, "decoder cannot be null");
         Validate.notNull(registrationIdProvider, "registrationIdProvider cannot be null");
+        Validate.notNull(listenerDispatcher, "listenerDispatcher cannot be null");
+        Validate.notNull(metrics, "metrics cannot be null");
+
+        // instrument server components
+        boolean instrumented = !NoopMetrics.isNoop(metrics);
+        if (instrumented) {
+            registrationStore = new InstrumentedRegistrationStore(registrationStore, metrics);
+            encoder = new InstrumentedLwM2mEncoder(encoder, metrics);
+            decoder = new InstrumentedLwM2mDecoder(decoder, metrics);
+        }
+        this.metrics = metrics;
 
         // init services and stores
         this.endpointsProvider = endpointsProvider;
         this.registrationStore = registrationStore;
+        this.listenerDispatcher = listenerDispatcher;
         registrationService = createRegistrationService(registrationStore);
         this.securityStore = securityStore;
         this.modelProvider = modelProvider;
@@ -174,13 +222,26 @@ public class LeshanServer {
         endpointsProvider.createEndpoints(requestReceiver, observationService, toolbox, serverSecurityInfo, this);
 
         // create request sender
-        requestSender = createRequestSender(endpointsProvider, registrationService, this.modelProvider,
+        DownlinkRequestSender sender = createRequestSender(endpointsProvider, registrationService, this.modelProvider,
                 presenceService);
+        if (instrumented) {
+            requestSender = new InstrumentedDownlinkRequestSender(sender, metrics);
+
+            ServerMetricsListener metricsListener = new ServerMetricsListener(metrics, presenceService);
+            registrationService.addSynchronousListener(metricsListener);
+            observationService.addSynchronousListener(metricsListener);
+            sendService.addSynchronousListener(metricsListener);
+            if (presenceService != null) {
+                presenceService.addListener(metricsListener);
+            }
+        } else {
+            requestSender = sender;
+        }
 
     }
 
     protected RegistrationServiceImpl createRegistrationService(RegistrationStore registrationStore) {
-        return new RegistrationServiceImpl(registrationStore);
+        return new RegistrationServiceImpl(registrationStore, listenerDispatcher);
     }
 
     protected ObservationServiceImpl createObservationService(RegistrationStore registrationStore,
@@ -188,7 +249,7 @@ public class LeshanServer {
             Authorizer authorizer) {
 
         ObservationServiceImpl observationService = new ObservationServiceImpl(registrationStore, endpointsProvider,
-                updateRegistrationOnNotification, authorizer);
+                updateRegistrationOnNotification, authorizer, listenerDispatcher);
         return observationService;
     }
 
@@ -196,16 +257,22 @@ public class LeshanServer {
             ClientAwakeTimeProvider awakeTimeProvider, boolean updateRegistrationOnNotification) {
         PresenceServiceImpl presenceService = new PresenceServiceImpl(awakeTimeProvider);
         PresenceStateListener presenceStateListener = new PresenceStateListener(presenceService);
-        registrationService.addListener(new PresenceStateListener(presenceService));
+        // presence state is part of protocol processing, it must be up to date before handling next messages
+        if (registrationService instanceof RegistrationServiceImpl) {
+            ((RegistrationServiceImpl) registrationService)
+                    .addSynchronousListener(new PresenceStateListener(presenceService));
+        } else {
+            registrationService.addListener(new PresenceStateListener(presenceService));
+        }
         if (updateRegistrationOnNotification) {
-            observationService.addListener(presenceStateListener);
+            observationService.addSynchronousListener(presenceStateListener);
         }
         return presenceService;
     }
 
     protected SendHandler createSendHandler(RegistrationStore registrationStore, Authorizer authorizer,
             boolean updateRegistrationOnSend) {
-        return new SendHandler(registrationStore, authorizer, updateRegistrationOnSend);
+        return new SendHandler(registrationStore, authorizer, updateRegistrationOnSend, listenerDispatcher);
     }
 
     protected UplinkDeviceManagementRequestReceiver createRequestReceiver(RegistrationHandler registrationHandler,
@@ -226,7 +293,7 @@ public class LeshanServer {
                     new DefaultDownlinkRequestSender(endpointsProvider, modelProvider));
 
         // Cancel observations on client unregistering
-        registrationService.addListener(new RegistrationListener() {
+        registrationService.addSynchronousListener(new RegistrationListener() {
 
             @Override
             public void updated(RegistrationUpdate update, Registration updatedRegistration, Registration previousReg) {
@@ -331,6 +398,10 @@ public class LeshanServer {
             presenceService.destroy();
         }
 
+        if (listenerDispatcher instanceof Destroyable) {
+            ((Destroyable) listenerDispatcher).destroy();
+        }
+
         LOG.info("LWM2M server destroyed.");
     }
 
@@ -374,6 +445,20 @@ public class LeshanServer {
         return this.presenceService;
     }
 
+    /**
+     * Get the {@link ListenerDispatcher} used to notify registration, observation and send listeners.
+     */
+    public ListenerDispatcher getListenerDispatcher() {
+        return this.listenerDispatcher;
+    }
+
+    /**
+     * Get the {@link Metrics} used to record server activity.
+     */
+    public Metrics getMetrics() {
+        return this.metrics;
+    }
+
     /**
      * Get the SecurityStore containing of security information.
      */
@@ -589,4 +674,14 @@ public class LeshanServer {
             ErrorCallback errorCallback) {
         requestSender.send(destination, request, lowerLayerConfig, timeoutInMs, responseCallback, errorCallback);
     }
+
+    /**
+     * Cancel all ongoing requests sent to the given registration. Their {@link ErrorCallback} are called with a
+     * {@link RequestCanceledException}.
+     *
+     * @param registration the registration of the client.
+     */
+    public void cancelOngoingRequests(Registration registration) {
+        requestSender.cancelOngoingRequests(registration);
+    }
 }
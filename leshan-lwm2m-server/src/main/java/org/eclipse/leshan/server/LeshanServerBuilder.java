@@ -39,6 +39,9 @@ import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
 import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
 import org.eclipse.leshan.core.observation.Observation;
 import org.eclipse.leshan.core.request.exception.ClientSleepingException;
+import org.eclipse.leshan.server.dispatch.AsyncListenerDispatcher;
+import org.eclipse.leshan.server.dispatch.ListenerDispatcher;
+import org.eclipse.leshan.server.dispatch.SynchronousListenerDispatcher;
 import org.eclipse.leshan.server.endpoint.DefaultCompositeServerEndpointsProvider;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
 import org.eclipse.leshan.server.model.LwM2mModelProvider;
@@ -56,6 +59,8 @@ import org.eclipse.leshan.server.security.Authorizer;
 import org.eclipse.leshan.server.security.DefaultAuthorizer;
 import org.eclipse.leshan.servers.DefaultServerEndpointNameProvider;
 import org.eclipse.leshan.servers.ServerEndpointNameProvider;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.eclipse.leshan.servers.metrics.NoopMetrics;
 import org.eclipse.leshan.servers.security.InMemorySecurityStore;
 import org.eclipse.leshan.servers.security.SecurityInfo;
 import org.eclipse.leshan.servers.security.SecurityStore;
@@ -92,6 +97,8 @@ public class LeshanServerBuilder {
 
     private LwM2mServerEndpointsProvider endpointsProvider;
     private EndPointUriHandler uriHandler;
+    private ListenerDispatcher listenerDispatcher;
+    private Metrics metrics;
 
     /**
      * <p>
@@ -328,6 +335,46 @@ public class LeshanServerBuilder {
         return this;
     }
 
+    /**
+     * Set the {@link ListenerDispatcher} used to notify registration, observation and send listeners added by users.
+     * <p>
+     * Use an {@link AsyncListenerDispatcher} to call listeners on dedicated threads, so slow listeners (e.g. doing
+     * database writes or HTTP calls) do not stall the handling of incoming messages. The dispatcher is destroyed by
+     * {@link LeshanServer#destroy()}.
+     * <p>
+     * By default a {@link SynchronousListenerDispatcher} is used.
+     */
+    public LeshanServerBuilder setListenerDispatcher(ListenerDispatcher listenerDispatcher) {
+        this.listenerDispatcher = listenerDispatcher;
+        return this;
+    }
+
+    /**
+     * Set the {@link Metrics} used to record server activity : registrations, registration store latency,
+     * notifications, Send records, encoding/decoding time, downlink requests round trip time, timeouts and in-flight
+     * requests, awake and sleeping clients.
+     * <p>
+     * By default {@link NoopMetrics} is used and server is not instrumented at all.
+     */
+    public LeshanServerBuilder setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * @return the {@link ListenerDispatcher} to use, available to {@link #createServer} implementations.
+     */
+    protected ListenerDispatcher getListenerDispatcher() {
+        return listenerDispatcher;
+    }
+
+    /**
+     * @return the {@link Metrics} to use, available to {@link #createServer} implementations.
+     */
+    protected Metrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * By default LeshanServer doesn't support any protocol. Users need to provide 1 or several
      * {@link LwM2mServerEndpointsProvider} implementation.
@@ -391,6 +438,13 @@ public class LeshanServerBuilder {
             uriHandler = new DefaultEndPointUriHandler();
         }
 
+        if (listenerDispatcher == null) {
+            listenerDispatcher = new SynchronousListenerDispatcher();
+        }
+        if (metrics == null) {
+            metrics = NoopMetrics.INSTANCE;
+        }
+
         ServerSecurityInfo serverSecurityInfo = new ServerSecurityInfo(privateKey, publicKey, certificateChain,
                 trustedCertificates);
 
@@ -409,7 +463,9 @@ public class LeshanServerBuilder {
      * @see LeshanServer#LeshanServer(LwM2mServerEndpointsProvider, RegistrationStore, SecurityStore, Authorizer,
      *      LwM2mModelProvider, LwM2mEncoder, LwM2mDecoder, boolean, ClientAwakeTimeProvider, RegistrationIdProvider,
      *      RegistrationDataExtractor, boolean, boolean, LwM2mLinkParser, EndPointUriHandler, ServerSecurityInfo,
-     *      ServerEndpointNameProvider)
+     *      ServerEndpointNameProvider, ListenerDispatcher, Metrics)
+     * @see #setListenerDispatcher(ListenerDispatcher)
+     * @see #setMetrics(Metrics)
      */
     protected LeshanServer createServer(LwM2mServerEndpointsProvider endpointsProvider,
             RegistrationStore registrationStore, SecurityStore securityStore, Authorizer authorizer,
@@ -422,6 +478,6 @@ public class LeshanServerBuilder {
         return new LeshanServer(endpointsProvider, registrationStore, securityStore, authorizer, modelProvider, encoder,
                 decoder, noQueueMode, awakeTimeProvider, registrationIdProvider, registrationDataExtractor,
                 updateRegistrationOnNotification, updateRegistrationOnSend, linkParser, uriHandler, serverSecurityInfo,
-                endpointNameProvider);
+                endpointNameProvider, listenerDispatcher, metrics);
     }
 }
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * A request sent to a set of clients by a {@link BulkRequestSender}.
+ * <p>
+ * Counters can be used to follow the progress of the operation.
+ */
+public class BulkOperation<T extends LwM2mResponse> {
+
+    private final BulkRequestSender bulkSender;
+    final Iterator<Registration> registrations;
+    final Function<Registration, DownlinkDeviceManagementRequest<T>> requestFactory;
+    final BulkOperationListener<T> listener;
+
+    // state guarded by bulk sender lock
+    // registrations pulled from the iterator but not selected yet
+    final ArrayDeque<Registration> prefetched = new ArrayDeque<>();
+    boolean iteratorDone;
+    boolean fetching;
+    boolean exhausted;
+    boolean completed;
+    int outstanding;
+
+    private volatile boolean cancelled;
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    final AtomicLong selectedCount = new AtomicLong();
+    final AtomicLong sentCount = new AtomicLong();
+    final AtomicLong successCount = new AtomicLong();
+    final AtomicLong failureCount = new AtomicLong();
+    final AtomicLong skippedCount = new AtomicLong();
+    final AtomicLong deferredCount = new AtomicLong();
+
+    BulkOperation(BulkRequestSender bulkSender, Iterator<Registration> registrations,
+            Function<Registration, DownlinkDeviceManagementRequest<T>> requestFactory,
+            BulkOperationListener<T> listener) {
+        this.bulkSender = bulkSender;
+        this.registrations = registrations;
+        this.requestFactory = requestFactory;
+        this.listener = listener;
+    }
+
+    /**
+     * @return the number of registrations taken into account so far.
+     */
+    public long getSelectedCount() {
+        return selectedCount.get();
+    }
+
+    /**
+     * @return the number of requests sent so far. A request sent again after the client woke up is counted twice.
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * @return the number of success responses received.
+     */
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    /**
+     * @return the number of error responses received plus the number of requests which failed.
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * @return the number of registrations for which the request factory did not return a request.
+     */
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    /**
+     * @return the number of requests currently waiting for their client to wake up.
+     */
+    public long getDeferredCount() {
+        return deferredCount.get();
+    }
+
+    /**
+     * @return <code>true</code> if all requests of this operation are completed.
+     */
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels this operation : no more request will be sent and requests waiting to be sent fail with a
+     * {@link org.eclipse.leshan.core.request.exception.RequestCanceledException}. Requests already sent are not
+     * cancelled.
+     */
+    public void cancel() {
+        cancelled = true;
+        bulkSender.cancel(this);
+    }
+
+    /**
+     * Waits until all requests of this operation are completed.
+     *
+     * @return <code>true</code> if the operation is done, <code>false</code> if the timeout expired.
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit);
+    }
+
+    void markDone() {
+        done.countDown();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "BulkOperation [selected=%s, sent=%s, success=%s, failure=%s, skipped=%s, deferred=%s, done=%s, cancelled=%s]",
+                selectedCount, sentCount, successCount, failureCount, skippedCount, deferredCount, isDone(), cancelled);
+    }
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * A listener notified with results of a {@link BulkOperation}.
+ * <p>
+ * Methods are called from the threads handling responses, so they should not block.
+ */
+public interface BulkOperationListener<T extends LwM2mResponse> {
+
+    /**
+     * Called when a response is received from a client, the response could be an error response.
+     */
+    void onResponse(Registration registration, DownlinkDeviceManagementRequest<T> request, T response);
+
+    /**
+     * Called when a request could not be created or sent to a client, or when no response was received.
+     *
+     * @param request the request which failed, <code>null</code> if the request factory failed.
+     */
+    void onError(Registration registration, DownlinkDeviceManagementRequest<T> request, Exception error);
+
+    /**
+     * Called once when all requests of the operation are completed.
+     */
+    default void onCompleted(BulkOperation<T> operation) {
+    }
+}
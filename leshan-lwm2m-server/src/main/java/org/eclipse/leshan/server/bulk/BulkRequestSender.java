@@ -0,0 +1,776 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.exception.ClientSleepingException;
+import org.eclipse.leshan.core.request.exception.RequestCanceledException;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.LeshanServer;
+import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
+import org.eclipse.leshan.server.queue.PresenceListener;
+import org.eclipse.leshan.server.queue.PresenceService;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationListener;
+import org.eclipse.leshan.server.registration.RegistrationService;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.eclipse.leshan.server.request.LeshanServerRequestSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends a request to a large set of clients, e.g. to write a configuration value or to reboot a whole fleet.
+ * <p>
+ * Registrations are pulled lazily from the given selection, only when a request can be sent, so millions of clients can
+ * be targeted without buffering them. Sending is bounded by :
+ * <ul>
+ * <li>a global number of concurrent requests (see {@link Builder#setMaxConcurrentRequests(int)}),</li>
+ * <li>a number of concurrent requests by {@link LwM2mServerEndpoint} (see
+ * {@link Builder#setMaxConcurrentRequestsPerEndpoint(int)}),</li>
+ * <li>an optional number of requests per second (see {@link Builder#setMaxRequestsPerSecond(double)}).</li>
+ * </ul>
+ * These limits are shared by all {@link BulkOperation}s of a {@link BulkRequestSender}, which are served in a round
+ * robin way.
+ * <p>
+ * Requests to sleeping clients using queue mode are deferred, without using any concurrency slot, until the client
+ * wakes up. Deferred requests are cancelled if the client unregisters.
+ */
+public class BulkRequestSender implements Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestSender.class);
+
+    // maximum number of registrations pulled from an operation iterator at once
+    private static final int PREFETCH_SIZE = 32;
+
+    private final DownlinkRequestSender sender;
+    private final RegistrationService registrationService;
+    private final PresenceService presenceService;
+    private final int maxConcurrentRequests;
+    private final int maxConcurrentRequestsPerEndpoint;
+    private final long sendIntervalInNanos;
+    private final long timeoutInMs;
+    private final ScheduledExecutorService schedExecutor;
+    private final boolean shutdownSchedExecutor;
+
+    private final PresenceListener presenceListener;
+    private final RegistrationListener registrationListener;
+
+    // state below is guarded by lock
+    private final Object lock = new Object();
+    // operations which still have registrations to pull, in round robin order
+    private final ArrayDeque<BulkOperation<?>> operations = new ArrayDeque<>();
+    // all operations not yet completed
+    private final List<BulkOperation<?>> activeOperations = new ArrayList<>();
+    // tasks which can be sent as soon as a concurrency slot is available
+    private final ArrayDeque<Task<?>> readyTasks = new ArrayDeque<>();
+    private final Map<EndpointUri, EndpointSlots> endpointSlots = new HashMap<>();
+    private final Map<String /* endpoint name */, List<Task<?>>> deferredTasks = new HashMap<>();
+    private int inFlightCount;
+    private int waitingCount;
+    private long nextSendTime;
+    private boolean pumpScheduled;
+    private boolean pumping;
+    private boolean pumpRequested;
+
+    protected BulkRequestSender(Builder builder) {
+        this.sender = builder.sender;
+        this.registrationService = builder.registrationService;
+        this.presenceService = builder.presenceService;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.maxConcurrentRequestsPerEndpoint = builder.maxConcurrentRequestsPerEndpoint;
+        this.sendIntervalInNanos = builder.maxRequestsPerSecond > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / builder.maxRequestsPerSecond)
+                : 0;
+        this.timeoutInMs = builder.timeoutInMs;
+        this.schedExecutor = builder.schedExecutor;
+        this.shutdownSchedExecutor = builder.shutdownSchedExecutor;
+        this.nextSendTime = System.nanoTime();
+
+        presenceListener = new PresenceListener() {
+            @Override
+            public void onAwake(Registration registration) {
+                resume(registration);
+            }
+
+            @Override
+            public void onSleeping(Registration registration) {
+            }
+        };
+        registrationListener = new RegistrationListener() {
+            @Override
+            public void registered(Registration registration, Registration previousReg,
+                    Collection<Observation> previousObservations) {
+                resume(registration);
+            }
+
+            @Override
+            public void updated(RegistrationUpdate update, Registration updatedReg, Registration previousReg) {
+                resume(updatedReg);
+            }
+
+            @Override
+            public void unregistered(Registration registration, Collection<Observation> observations, boolean expired,
+                    Registration newReg) {
+                if (newReg == null) {
+                    cancelDeferred(registration);
+                }
+            }
+        };
+        if (presenceService != null) {
+            presenceService.addListener(presenceListener);
+            registrationService.addListener(registrationListener);
+        }
+    }
+
+    /**
+     * Sends a request to all registered clients matching the given selector.
+     *
+     * @param selector select registrations which should receive a request.
+     * @param requestFactory creates the request to send to a registration, it can return <code>null</code> to skip this
+     *        registration.
+     * @param listener notified of each result and of the operation completion, could be <code>null</code>.
+     */
+    public <T extends LwM2mResponse> BulkOperation<T> send(Predicate<Registration> selector,
+            Function<Registration, DownlinkDeviceManagementRequest<T>> requestFactory,
+            BulkOperationListener<T> listener) {
+        Validate.notNull(selector);
+        return send(new FilteredIterator(registrationService.getAllRegistrations(), selector), requestFactory,
+                listener);
+    }
+
+    /**
+     * Sends a request to each registration of the given iterator. The iterator is only used by one thread at a time and
+     * is consumed as requests can be sent, by batches of a few registrations. It is never used while holding the
+     * internal lock of this sender, so it can do blocking I/O.
+     *
+     * @param registrations registrations which should receive a request.
+     * @param requestFactory creates the request to send to a registration, it can return <code>null</code> to skip this
+     *        registration.
+     * @param listener notified of each result and of the operation completion, could be <code>null</code>.
+     */
+    public <T extends LwM2mResponse> BulkOperation<T> send(Iterator<Registration> registrations,
+            Function<Registration, DownlinkDeviceManagementRequest<T>> requestFactory,
+            BulkOperationListener<T> listener) {
+        Validate.notNull(registrations);
+        Validate.notNull(requestFactory);
+
+        BulkOperation<T> operation = new BulkOperation<>(this, registrations, requestFactory, listener);
+        synchronized (lock) {
+            activeOperations.add(operation);
+            operations.add(operation);
+        }
+        pump();
+        return operation;
+    }
+
+    /**
+     * @return the number of requests currently sent and waiting for a response.
+     */
+    public int getInFlightCount() {
+        synchronized (lock) {
+            return inFlightCount;
+        }
+    }
+
+    /**
+     * @return the number of requests waiting for a concurrency slot.
+     */
+    public int getWaitingCount() {
+        synchronized (lock) {
+            return readyTasks.size() + waitingCount;
+        }
+    }
+
+    /**
+     * @return the number of requests waiting for their client to wake up.
+     */
+    public int getDeferredCount() {
+        synchronized (lock) {
+            int count = 0;
+            for (List<Task<?>> tasks : deferredTasks.values()) {
+                count += tasks.size();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * @return operations which are not completed yet.
+     */
+    public List<BulkOperation<?>> getActiveOperations() {
+        synchronized (lock) {
+            return new ArrayList<>(activeOperations);
+        }
+    }
+
+    /**
+     * Cancels all active operations.
+     */
+    @Override
+    public void destroy() {
+        if (presenceService != null) {
+            presenceService.removeListener(presenceListener);
+            registrationService.removeListener(registrationListener);
+        }
+        for (BulkOperation<?> operation : getActiveOperations()) {
+            operation.cancel();
+        }
+        if (shutdownSchedExecutor) {
+            schedExecutor.shutdownNow();
+            try {
+                schedExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                LOG.warn("Destroying BulkRequestSender was interrupted.", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    void cancel(BulkOperation<?> operation) {
+        List<Task<?>> cancelledTasks = new ArrayList<>();
+        synchronized (lock) {
+            for (Iterator<List<Task<?>>> it = deferredTasks.values().iterator(); it.hasNext();) {
+                List<Task<?>> tasks = it.next();
+                for (Iterator<Task<?>> taskIt = tasks.iterator(); taskIt.hasNext();) {
+                    Task<?> task = taskIt.next();
+                    if (task.operation == operation) {
+                        taskIt.remove();
+                        cancelledTasks.add(task);
+                    }
+                }
+                if (tasks.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+        for (Task<?> task : cancelledTasks) {
+            task.operation.deferredCount.decrementAndGet();
+            finish(task, null, new RequestCanceledException("Bulk operation cancelled"));
+        }
+        // waiting tasks will be cancelled by pump
+        pump();
+    }
+
+    private void resume(Registration registration) {
+        synchronized (lock) {
+            List<Task<?>> tasks = deferredTasks.remove(registration.getEndpoint());
+            if (tasks == null) {
+                return;
+            }
+            for (Task<?> task : tasks) {
+                task.registration = registration;
+                task.operation.deferredCount.decrementAndGet();
+                readyTasks.add(task);
+            }
+        }
+        pump();
+    }
+
+    private void cancelDeferred(Registration registration) {
+        List<Task<?>> tasks;
+        synchronized (lock) {
+            tasks = deferredTasks.remove(registration.getEndpoint());
+        }
+        if (tasks != null) {
+            for (Task<?> task : tasks) {
+                task.operation.deferredCount.decrementAndGet();
+                finish(task, null, new RequestCanceledException("Request cancelled as client %s is unregistered",
+                        registration.getEndpoint()));
+            }
+            pump();
+        }
+    }
+
+    /**
+     * Sends as many requests as limits allow. Only one thread pumps at a time, a call made while another thread is
+     * pumping (e.g. from a callback called synchronously) just asks it to loop again.
+     */
+    private void pump() {
+        synchronized (lock) {
+            if (pumping) {
+                pumpRequested = true;
+                return;
+            }
+            pumping = true;
+        }
+        List<Task<?>> toSend = new ArrayList<>();
+        List<Task<?>> toCancel = new ArrayList<>();
+        List<BulkOperation<?>> completed = new ArrayList<>();
+        List<BulkOperation<?>> toFetch = new ArrayList<>();
+        try {
+            while (true) {
+                synchronized (lock) {
+                    selectTasks(toSend, toCancel, completed, toFetch);
+                    if (toSend.isEmpty() && toCancel.isEmpty() && completed.isEmpty() && toFetch.isEmpty()) {
+                        if (!pumpRequested) {
+                            pumping = false;
+                            return;
+                        }
+                        pumpRequested = false;
+                        continue;
+                    }
+                }
+                for (Task<?> task : toSend) {
+                    sendTask(task);
+                }
+                for (Task<?> task : toCancel) {
+                    finish(task, null, new RequestCanceledException("Bulk operation cancelled"));
+                }
+                for (BulkOperation<?> operation : completed) {
+                    fireCompleted(operation);
+                }
+                // iterators may do I/O (e.g. a redis SCAN), so they are consumed outside the lock
+                for (BulkOperation<?> operation : toFetch) {
+                    fetch(operation);
+                }
+                toSend.clear();
+                toCancel.clear();
+                completed.clear();
+                toFetch.clear();
+            }
+        } catch (RuntimeException | Error e) {
+            synchronized (lock) {
+                pumping = false;
+            }
+            throw e;
+        }
+    }
+
+    // must be called with lock
+    private void selectTasks(List<Task<?>> toSend, List<Task<?>> toCancel, List<BulkOperation<?>> completed,
+            List<BulkOperation<?>> toFetch) {
+        while (inFlightCount < maxConcurrentRequests) {
+            Task<?> task = readyTasks.poll();
+            if (task == null) {
+                task = pullTask(completed, toFetch);
+                if (task == null) {
+                    return;
+                }
+            }
+            if (task.operation.isCancelled()) {
+                toCancel.add(task);
+                continue;
+            }
+
+            // defer request to sleeping client
+            Registration registration = task.registration;
+            if (presenceService != null && registration.usesQueueMode()
+                    && !presenceService.isClientAwake(registration)) {
+                defer(task);
+                continue;
+            }
+
+            // wait for a slot on this endpoint
+            EndpointSlots slots = endpointSlots.computeIfAbsent(registration.getEndpointUri(),
+                    uri -> new EndpointSlots());
+            if (slots.inFlight >= maxConcurrentRequestsPerEndpoint) {
+                slots.waiting.add(task);
+                waitingCount++;
+                continue;
+            }
+
+            // respect rate limit
+            if (sendIntervalInNanos > 0) {
+                long now = System.nanoTime();
+                if (nextSendTime - now > 0) {
+                    readyTasks.addFirst(task);
+                    schedulePump(nextSendTime - now);
+                    return;
+                }
+                if (nextSendTime - now < 0) {
+                    nextSendTime = now;
+                }
+                nextSendTime += sendIntervalInNanos;
+            }
+
+            slots.inFlight++;
+            inFlightCount++;
+            toSend.add(task);
+        }
+    }
+
+    // must be called with lock
+    private Task<?> pullTask(List<BulkOperation<?>> completed, List<BulkOperation<?>> toFetch) {
+        // do not pull too much registrations when endpoints are saturated
+        if (waitingCount >= maxConcurrentRequests) {
+            return null;
+        }
+        for (int i = operations.size(); i > 0; i--) {
+            BulkOperation<?> operation = operations.poll();
+            Registration registration = null;
+            if (operation.isCancelled()) {
+                operation.prefetched.clear();
+                operation.iteratorDone = true;
+            } else {
+                registration = operation.prefetched.poll();
+            }
+
+            if (operation.prefetched.isEmpty() && operation.iteratorDone) {
+                operation.exhausted = true;
+            } else {
+                // round robin between operations
+                operations.add(operation);
+                if (operation.prefetched.isEmpty() && !operation.fetching) {
+                    operation.fetching = true;
+                    toFetch.add(operation);
+                }
+            }
+
+            if (registration != null) {
+                operation.outstanding++;
+                operation.selectedCount.incrementAndGet();
+                return new Task<>(operation, registration);
+            } else if (checkCompleted(operation)) {
+                completed.add(operation);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Pulls the next registrations of an operation, must be called without lock by the pumping thread.
+     */
+    private void fetch(BulkOperation<?> operation) {
+        List<Registration> fetched = new ArrayList<>(PREFETCH_SIZE);
+        boolean done = false;
+        try {
+            while (fetched.size() < PREFETCH_SIZE && !operation.isCancelled()) {
+                if (!operation.registrations.hasNext()) {
+                    done = true;
+                    break;
+                }
+                fetched.add(operation.registrations.next());
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to get next registration of {}", operation, e);
+            done = true;
+        }
+        synchronized (lock) {
+            operation.prefetched.addAll(fetched);
+            operation.iteratorDone |= done;
+            operation.fetching = false;
+        }
+    }
+
+    // must be called with lock
+    private boolean checkCompleted(BulkOperation<?> operation) {
+        if (operation.exhausted && operation.outstanding == 0 && !operation.completed) {
+            operation.completed = true;
+            activeOperations.remove(operation);
+            return true;
+        }
+        return false;
+    }
+
+    // must be called with lock
+    private void defer(Task<?> task) {
+        deferredTasks.computeIfAbsent(task.registration.getEndpoint(), e -> new ArrayList<>()).add(task);
+        task.operation.deferredCount.incrementAndGet();
+    }
+
+    // must be called with lock
+    private void schedulePump(long delayInNanos) {
+        if (pumpScheduled) {
+            return;
+        }
+        pumpScheduled = true;
+        schedExecutor.schedule(() -> {
+            synchronized (lock) {
+                pumpScheduled = false;
+            }
+            pump();
+        }, delayInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private <T extends LwM2mResponse> void sendTask(Task<T> task) {
+        if (task.request == null) {
+            try {
+                task.request = task.operation.requestFactory.apply(task.registration);
+            } catch (RuntimeException e) {
+                complete(task, null, e);
+                return;
+            }
+            if (task.request == null) {
+                complete(task, null, null);
+                return;
+            }
+        }
+
+        try {
+            // a task deferred after a ClientSleepingException is sent again, count it once
+            if (!task.sent) {
+                task.sent = true;
+                task.operation.sentCount.incrementAndGet();
+            }
+            sender.send(task.registration, task.request, null, timeoutInMs, response -> complete(task, response, null),
+                    error -> complete(task, null, error));
+        } catch (RuntimeException e) {
+            complete(task, null, e);
+        }
+    }
+
+    /**
+     * Called when a sent request is completed, with a response, an error or nothing if it was skipped.
+     */
+    private <T extends LwM2mResponse> void complete(Task<T> task, T response, Exception error) {
+        boolean deferred = false;
+        synchronized (lock) {
+            // release concurrency slots
+            inFlightCount--;
+            EndpointUri endpointUri = task.registration.getEndpointUri();
+            EndpointSlots slots = endpointSlots.get(endpointUri);
+            slots.inFlight--;
+            Task<?> waitingTask = slots.waiting.poll();
+            if (waitingTask != null) {
+                waitingCount--;
+                readyTasks.addFirst(waitingTask);
+            } else if (slots.inFlight == 0) {
+                endpointSlots.remove(endpointUri);
+            }
+
+            // client felt asleep before request was sent
+            if (error instanceof ClientSleepingException && presenceService != null && !task.operation.isCancelled()) {
+                defer(task);
+                deferred = true;
+            }
+        }
+        if (!deferred) {
+            finish(task, response, error);
+        }
+        pump();
+    }
+
+    /**
+     * Counts and notifies the result of a task which does not use any concurrency slot anymore.
+     */
+    private <T extends LwM2mResponse> void finish(Task<T> task, T response, Exception error) {
+        BulkOperation<T> operation = task.operation;
+        BulkOperationListener<T> listener = operation.listener;
+        try {
+            if (response != null) {
+                if (response.isSuccess()) {
+                    operation.successCount.incrementAndGet();
+                } else {
+                    operation.failureCount.incrementAndGet();
+                }
+                if (listener != null) {
+                    listener.onResponse(task.registration, task.request, response);
+                }
+            } else if (error != null) {
+                operation.failureCount.incrementAndGet();
+                if (listener != null) {
+                    listener.onError(task.registration, task.request, error);
+                }
+            } else {
+                operation.skippedCount.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Unexpected exception raised by bulk operation listener", e);
+        }
+
+        boolean completed;
+        synchronized (lock) {
+            operation.outstanding--;
+            completed = checkCompleted(operation);
+        }
+        if (completed) {
+            fireCompleted(operation);
+        }
+    }
+
+    private <T extends LwM2mResponse> void fireCompleted(BulkOperation<T> operation) {
+        try {
+            if (operation.listener != null) {
+                operation.listener.onCompleted(operation);
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Unexpected exception raised by bulk operation listener", e);
+        }
+        operation.markDone();
+    }
+
+    private static class Task<T extends LwM2mResponse> {
+        final BulkOperation<T> operation;
+        Registration registration;
+        DownlinkDeviceManagementRequest<T> request;
+        boolean sent;
+
+        Task(BulkOperation<T> operation, Registration registration) {
+            this.operation = operation;
+            this.registration = registration;
+        }
+    }
+
+    private static class EndpointSlots {
+        int inFlight;
+        final ArrayDeque<Task<?>> waiting = new ArrayDeque<>();
+    }
+
+    private static class FilteredIterator implements Iterator<Registration> {
+        private final Iterator<Registration> delegate;
+        private final Predicate<Registration> selector;
+        private Registration next;
+
+        FilteredIterator(Iterator<Registration> delegate, Predicate<Registration> selector) {
+            this.delegate = delegate;
+            this.selector = selector;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && delegate.hasNext()) {
+                Registration registration = delegate.next();
+                if (selector.test(registration)) {
+                    next = registration;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Registration next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Registration registration = next;
+            next = null;
+            return registration;
+        }
+    }
+
+    /* *************** Builder **************** */
+
+    /**
+     * Class helping to build and configure a {@link BulkRequestSender}.
+     */
+    public static class Builder {
+
+        private final DownlinkRequestSender sender;
+        private final RegistrationService registrationService;
+        private final PresenceService presenceService;
+        private int maxConcurrentRequests = 256;
+        private int maxConcurrentRequestsPerEndpoint = 128;
+        private double maxRequestsPerSecond = 0;
+        private long timeoutInMs = 2 * 60 * 1000l; // 2min in ms
+        private ScheduledExecutorService schedExecutor;
+        private boolean shutdownSchedExecutor;
+
+        /**
+         * Creates a builder for a {@link BulkRequestSender} sending requests with the given {@link LeshanServer}.
+         */
+        public Builder(LeshanServer server) {
+            this(new LeshanServerRequestSender(server), server.getRegistrationService(), server.getPresenceService());
+        }
+
+        /**
+         * @param presenceService used to defer requests to sleeping clients, could be <code>null</code> if queue mode
+         *        is not used.
+         */
+        public Builder(DownlinkRequestSender sender, RegistrationService registrationService,
+                PresenceService presenceService) {
+            Validate.notNull(sender);
+            Validate.notNull(registrationService);
+            this.sender = sender;
+            this.registrationService = registrationService;
+            this.presenceService = presenceService;
+        }
+
+        /**
+         * Set the maximum number of requests sent at the same time, for all operations.
+         * <p>
+         * Default value is {@literal 256}.
+         */
+        public Builder setMaxConcurrentRequests(int maxConcurrentRequests) {
+            Validate.isTrue(maxConcurrentRequests > 0, "max concurrent requests must be strictly positive");
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests sent at the same time through a given {@link LwM2mServerEndpoint}.
+         * <p>
+         * Default value is {@literal 128}.
+         */
+        public Builder setMaxConcurrentRequestsPerEndpoint(int maxConcurrentRequestsPerEndpoint) {
+            Validate.isTrue(maxConcurrentRequestsPerEndpoint > 0,
+                    "max concurrent requests per endpoint must be strictly positive");
+            this.maxConcurrentRequestsPerEndpoint = maxConcurrentRequestsPerEndpoint;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests sent per second, for all operations. <code>0</code> means no limit.
+         * <p>
+         * Default value is {@literal 0}.
+         */
+        public Builder setMaxRequestsPerSecond(double maxRequestsPerSecond) {
+            Validate.isTrue(maxRequestsPerSecond >= 0, "max requests per second must be positive");
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the timeout of each request.
+         * <p>
+         * Default value is {@literal 2 minutes}.
+         */
+        public Builder setTimeout(long timeoutInMs) {
+            Validate.isTrue(timeoutInMs > 0, "timeout must be strictly positive");
+            this.timeoutInMs = timeoutInMs;
+            return this;
+        }
+
+        /**
+         * Set the executor used to delay requests when a rate limit is set. It will not be shutdown on
+         * {@link BulkRequestSender#destroy()}.
+         * <p>
+         * Default value is a single thread scheduled executor, created only if a rate limit is set.
+         */
+        public Builder setSchedExecutor(ScheduledExecutorService schedExecutor) {
+            this.schedExecutor = schedExecutor;
+            return this;
+        }
+
+        public BulkRequestSender build() {
+            shutdownSchedExecutor = schedExecutor == null && maxRequestsPerSecond > 0;
+            if (shutdownSchedExecutor) {
+                schedExecutor = Executors
+                        .newSingleThreadScheduledExecutor(new NamedThreadFactory("BulkRequestSender Rate Limiter"));
+            }
+            return new BulkRequestSender(this);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.dispatch;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ListenerDispatcher} which calls listeners asynchronously using an {@link ExecutorService}.
+ * <p>
+ * Each listener has its own bounded queues, so a slow listener only delays its own events. Events of a listener are
+ * spread over several queues (see {@link Builder#setQueuesPerListener(int)}) using the registration id, events of a
+ * given registration always use the same queue and so are handled in dispatch order, while events of different
+ * registrations can be handled concurrently.
+ * <p>
+ * When a queue is full, the {@link OverflowPolicy} decides what to do with the new event. Exceptions thrown by
+ * listeners are logged and do not stop the dispatching.
+ */
+public class AsyncListenerDispatcher implements ListenerDispatcher, Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncListenerDispatcher.class);
+
+    /**
+     * What to do when an event is dispatched to a full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The dispatching thread waits until there is room in the queue. This applies back-pressure on the thread
+         * handling incoming messages.
+         */
+        BLOCK,
+        /**
+         * The oldest event of the queue is dropped to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * The new event is dropped.
+         */
+        REJECT
+    }
+
+    // maximum number of events handled by a queue before giving its thread back to the executor
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private final ExecutorService executor;
+    private final boolean shutdownExecutor;
+    private final int queueMask;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private final ConcurrentMap<Object, EventQueue[]> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    private final AtomicLong rejectedEventCount = new AtomicLong();
+
+    protected AsyncListenerDispatcher(Builder builder) {
+        this.executor = builder.executor;
+        this.shutdownExecutor = builder.shutdownExecutor;
+        this.queueMask = builder.queuesPerListener - 1;
+        this.queueCapacity = builder.queueCapacity;
+        this.overflowPolicy = builder.overflowPolicy;
+    }
+
+    @Override
+    public void dispatch(Object listener, String registrationId, Runnable event) {
+        EventQueue[] listenerQueues = queues.computeIfAbsent(listener, l -> {
+            EventQueue[] newQueues = new EventQueue[queueMask + 1];
+            for (int i = 0; i < newQueues.length; i++) {
+                newQueues[i] = new EventQueue();
+            }
+            return newQueues;
+        });
+        listenerQueues[queueIndex(registrationId)].offer(listener, event);
+    }
+
+    /**
+     * Release queues of the given listener. Events already queued for this listener are still handled.
+     */
+    @Override
+    public void removeListener(Object listener) {
+        queues.remove(listener);
+    }
+
+    private int queueIndex(String registrationId) {
+        if (registrationId == null) {
+            return 0;
+        }
+        int h = registrationId.hashCode();
+        return (h ^ (h >>> 16)) & queueMask;
+    }
+
+    /**
+     * @return the number of events waiting to be handled for all listeners.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the number of events waiting to be handled by the given listener.
+     */
+    public int getQueueDepth(Object listener) {
+        EventQueue[] listenerQueues = queues.get(listener);
+        if (listenerQueues == null) {
+            return 0;
+        }
+        int depth = 0;
+        for (EventQueue queue : listenerQueues) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    /**
+     * @return the number of events dropped by the {@link OverflowPolicy#DROP_OLDEST} policy.
+     */
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    /**
+     * @return the number of events rejected by the {@link OverflowPolicy#REJECT} policy or because the dispatcher is
+     *         destroyed.
+     */
+    public long getRejectedEventCount() {
+        return rejectedEventCount.get();
+    }
+
+    /**
+     * Stops the dispatcher, events still queued are discarded.
+     */
+    @Override
+    public void destroy() {
+        if (shutdownExecutor) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                LOG.warn("Destroying AsyncListenerDispatcher was interrupted.", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * A bounded queue of events handled sequentially.
+     * <p>
+     * The queue is submitted to the executor only when it has events and is not already submitted, so each queue uses
+     * at most one thread at a time.
+     */
+    private class EventQueue implements Runnable {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+        private final ArrayDeque<Runnable> events = new ArrayDeque<>();
+        private boolean scheduled;
+
+        void offer(Object listener, Runnable event) {
+            boolean schedule = false;
+            lock.lock();
+            try {
+                while (events.size() >= queueCapacity) {
+                    switch (overflowPolicy) {
+                    case BLOCK:
+                        try {
+                            notFull.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            reject(listener, "dispatching thread was interrupted");
+                            return;
+                        }
+                        break;
+                    case DROP_OLDEST:
+                        events.poll();
+                        queueDepth.decrementAndGet();
+                        droppedEventCount.incrementAndGet();
+                        break;
+                    default:
+                        reject(listener, "queue is full");
+                        return;
+                    }
+                }
+                events.add(event);
+                queueDepth.incrementAndGet();
+                if (!scheduled) {
+                    scheduled = true;
+                    schedule = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (schedule) {
+                submit();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return events.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void reject(Object listener, String reason) {
+            rejectedEventCount.incrementAndGet();
+            LOG.warn("Event for listener {} rejected : {}", listener, reason);
+        }
+
+        private void submit() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // executor is shutdown, queued events will never be handled
+                lock.lock();
+                try {
+                    scheduled = false;
+                    rejectedEventCount.addAndGet(events.size());
+                    queueDepth.addAndGet(-events.size());
+                    events.clear();
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            boolean drained = false;
+            try {
+                drained = drain();
+            } finally {
+                if (!drained) {
+                    // batch is over or an Error was raised : handle remaining events later
+                    reschedule();
+                }
+            }
+        }
+
+        /**
+         * Handle at most {@link #MAX_BATCH_SIZE} events.
+         *
+         * @return <code>true</code> if the queue is empty and no more scheduled.
+         */
+        private boolean drain() {
+            for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+                Runnable event;
+                lock.lock();
+                try {
+                    event = events.poll();
+                    if (event == null) {
+                        scheduled = false;
+                        return true;
+                    }
+                    queueDepth.decrementAndGet();
+                    notFull.signal();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    event.run();
+                } catch (RuntimeException e) {
+                    LOG.error("Unexpected exception raised by listener", e);
+                }
+            }
+            return false;
+        }
+
+        private void reschedule() {
+            lock.lock();
+            try {
+                if (events.isEmpty()) {
+                    scheduled = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            // let other queues use this thread, we will be handled again later
+            submit();
+        }
+    }
+
+    /* *************** Builder **************** */
+
+    /**
+     * Class helping to build and configure an {@link AsyncListenerDispatcher}.
+     */
+    public static class Builder {
+
+        private ExecutorService executor;
+        private boolean shutdownExecutor;
+        private int queuesPerListener = 4;
+        private int queueCapacity = 1024;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+        /**
+         * Set the executor used to call listeners. It will not be shutdown on
+         * {@link AsyncListenerDispatcher#destroy()}.
+         * <p>
+         * Default value is a fixed thread pool of size equal to the number of available processors.
+         */
+        public Builder setExecutor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set the number of queues used by each listener. Events of different registrations using different queues can
+         * be handled concurrently. This value is rounded up to a power of 2.
+         * <p>
+         * Default value is {@literal 4}.
+         */
+        public Builder setQueuesPerListener(int queuesPerListener) {
+            Validate.isTrue(queuesPerListener > 0 && queuesPerListener <= (1 << 16),
+                    "queues per listener must be between 1 and 65536");
+            this.queuesPerListener = queuesPerListener;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of events waiting in a queue.
+         * <p>
+         * Default value is {@literal 1024}.
+         */
+        public Builder setQueueCapacity(int queueCapacity) {
+            Validate.isTrue(queueCapacity > 0, "queue capacity must be strictly positive");
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Set what to do when an event is dispatched to a full queue.
+         * <p>
+         * Default value is {@link OverflowPolicy#BLOCK}. Note that with this policy, a listener must not raise events
+         * for itself (e.g. by sending requests from the listener thread) as it could wait forever on its own queue.
+         */
+        public Builder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            Validate.notNull(overflowPolicy);
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public AsyncListenerDispatcher build() {
+            queuesPerListener = Integer.highestOneBit(queuesPerListener - 1) << 1;
+            if (queuesPerListener == 0) {
+                queuesPerListener = 1;
+            }
+            shutdownExecutor = executor == null;
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                        new NamedThreadFactory("AsyncListenerDispatcher#%d"));
+            }
+            return new AsyncListenerDispatcher(this);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.dispatch;
+
+/**
+ * Dispatches events raised by server services (registration, observation, send ...) to their listeners.
+ * <p>
+ * This allows to decouple protocol processing from application processing : a dispatcher can call listeners on other
+ * threads, so a slow listener does not stall the thread which handles incoming messages.
+ *
+ * @see SynchronousListenerDispatcher
+ * @see AsyncListenerDispatcher
+ */
+public interface ListenerDispatcher {
+
+    /**
+     * Dispatch an event to a listener.
+     * <p>
+     * Events dispatched for the same listener and the same registration MUST be handled in dispatch order.
+     *
+     * @param listener the listener targeted by this event.
+     * @param registrationId the id of the registration concerned by this event, could be <code>null</code>.
+     * @param event the code calling the listener.
+     */
+    void dispatch(Object listener, String registrationId, Runnable event);
+
+    /**
+     * Called when a listener is removed from a service, so resources allocated for it can be released.
+     * <p>
+     * Events dispatched before this call may still be delivered.
+     *
+     * @param listener the removed listener.
+     */
+    default void removeListener(Object listener) {
+    }
+}
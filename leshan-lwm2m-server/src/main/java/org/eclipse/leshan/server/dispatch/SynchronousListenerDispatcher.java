@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.dispatch;
+
+/**
+ * A {@link ListenerDispatcher} which calls listeners directly on the thread which raised the event.
+ * <p>
+ * Exceptions thrown by listeners are propagated to the caller. This is the default behavior of the server.
+ */
+public class SynchronousListenerDispatcher implements ListenerDispatcher {
+
+    @Override
+    public void dispatch(Object listener, String registrationId, Runnable event) {
+        event.run();
+    }
+}
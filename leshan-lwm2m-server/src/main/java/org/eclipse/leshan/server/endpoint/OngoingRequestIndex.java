@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.endpoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of ongoing requests by registration, which can be used by {@link LwM2mServerEndpoint} implementations to
+ * cancel all requests of a registration (see {@link LwM2mServerEndpoint#cancelRequests(String)}).
+ * <p>
+ * Requests of a registration are kept in a linked list, the {@link Entry} returned when a request is added is its node
+ * in this list. So adding a request, removing it when it is completed and removing all requests of a registration are
+ * done in constant time, without building any key.
+ *
+ * @param <T> the type of ongoing request (e.g. a CoAP request or a future of the response).
+ */
+public class OngoingRequestIndex<T> {
+
+    private final ConcurrentHashMap<String /* registration id */, Requests<T>> requestsByRegistration = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an ongoing request.
+     *
+     * @return the entry which must be used to remove this request when it is completed.
+     */
+    public Entry<T> add(String registrationId, T request) {
+        while (true) {
+            Requests<T> requests = requestsByRegistration.computeIfAbsent(registrationId, Requests::new);
+            synchronized (requests) {
+                // requests could have been removed from index just before we lock it
+                if (!requests.removed) {
+                    Entry<T> entry = new Entry<>(requests, request);
+                    requests.link(entry);
+                    return entry;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a request which is completed.
+     *
+     * @return <code>true</code> if the request was in the index.
+     */
+    public boolean remove(Entry<T> entry) {
+        Requests<T> requests = entry.requests;
+        synchronized (requests) {
+            if (!entry.linked) {
+                return false;
+            }
+            requests.unlink(entry);
+            if (requests.head == null) {
+                requests.removed = true;
+                requestsByRegistration.remove(requests.registrationId, requests);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Removes all ongoing requests of the given registration.
+     *
+     * @return the removed requests, so they can be cancelled.
+     */
+    public List<T> removeAll(String registrationId) {
+        Requests<T> requests = requestsByRegistration.remove(registrationId);
+        if (requests == null) {
+            return Collections.emptyList();
+        }
+        synchronized (requests) {
+            requests.removed = true;
+            List<T> result = new ArrayList<>();
+            for (Entry<T> entry = requests.head; entry != null; entry = entry.next) {
+                entry.linked = false;
+                result.add(entry.request);
+            }
+            requests.head = null;
+            return result;
+        }
+    }
+
+    /**
+     * @return the number of registrations which have ongoing requests.
+     */
+    public int getRegistrationCount() {
+        return requestsByRegistration.size();
+    }
+
+    /**
+     * An ongoing request in the index.
+     */
+    public static final class Entry<T> {
+        private final Requests<T> requests;
+        private final T request;
+        // guarded by requests lock
+        private Entry<T> previous;
+        private Entry<T> next;
+        private boolean linked;
+
+        private Entry(Requests<T> requests, T request) {
+            this.requests = requests;
+            this.request = request;
+        }
+
+        public T getRequest() {
+            return request;
+        }
+    }
+
+    private static final class Requests<T> {
+        private final String registrationId;
+        private Entry<T> head;
+        private boolean removed;
+
+        private Requests(String registrationId) {
+            this.registrationId = registrationId;
+        }
+
+        private void link(Entry<T> entry) {
+            entry.next = head;
+            if (head != null) {
+                head.previous = entry;
+            }
+            head = entry;
+            entry.linked = true;
+        }
+
+        private void unlink(Entry<T> entry) {
+            if (entry.previous != null) {
+                entry.previous.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.previous = entry.previous;
+            }
+            entry.previous = null;
+            entry.next = null;
+            entry.linked = false;
+        }
+    }
+}
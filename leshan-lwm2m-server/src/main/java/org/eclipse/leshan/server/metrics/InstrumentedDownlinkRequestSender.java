@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.Startable;
+import org.eclipse.leshan.core.Stoppable;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.exception.TimeoutException;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.eclipse.leshan.server.request.LowerLayerConfig;
+import org.eclipse.leshan.servers.metrics.MetricNames;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.eclipse.leshan.servers.metrics.Metrics.Counter;
+import org.eclipse.leshan.servers.metrics.Metrics.Timer;
+
+/**
+ * A {@link DownlinkRequestSender} which records, for the wrapped sender :
+ * <ul>
+ * <li>round trip time by request type (see {@link MetricNames#REQUESTS_RTT}),</li>
+ * <li>number of requests which timed out (see {@link MetricNames#REQUESTS_TIMEOUTS}),</li>
+ * <li>number of requests waiting for a response (see {@link MetricNames#REQUESTS_IN_FLIGHT}).</li>
+ * </ul>
+ * Lifecycle calls are forwarded to the wrapped sender if it supports them.
+ */
+public class InstrumentedDownlinkRequestSender implements DownlinkRequestSender, Startable, Stoppable, Destroyable {
+
+    private final DownlinkRequestSender sender;
+    private final Metrics metrics;
+
+    private final ConcurrentHashMap<Class<?>, Timer> rttTimers = new ConcurrentHashMap<>();
+    private final Counter timeouts;
+    private final AtomicLong inFlight = new AtomicLong();
+
+    public InstrumentedDownlinkRequestSender(DownlinkRequestSender sender, Metrics metrics) {
+        this.sender = sender;
+        this.metrics = metrics;
+        this.timeouts = metrics.counter(MetricNames.REQUESTS_TIMEOUTS);
+        metrics.gauge(MetricNames.REQUESTS_IN_FLIGHT, inFlight::get);
+    }
+
+    @Override
+    public <T extends LwM2mResponse> T send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+            LowerLayerConfig lowerLayerConfig, long timeoutInMs) throws InterruptedException {
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        try {
+            T response = sender.send(destination, request, lowerLayerConfig, timeoutInMs);
+            if (response != null) {
+                recordRtt(request, start);
+            } else {
+                timeouts.increment();
+            }
+            return response;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public <T extends LwM2mResponse> void send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+            LowerLayerConfig lowerLayerConfig, long timeoutInMs, ResponseCallback<T> responseCallback,
+            ErrorCallback errorCallback) {
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        try {
+            sender.send(destination, request, lowerLayerConfig, timeoutInMs, response -> {
+                inFlight.decrementAndGet();
+                recordRtt(request, start);
+                responseCallback.onResponse(response);
+            }, e -> {
+                inFlight.decrementAndGet();
+                if (e instanceof TimeoutException) {
+                    timeouts.increment();
+                }
+                errorCallback.onError(e);
+            });
+        } catch (RuntimeException e) {
+            // request was not sent, so no callback will be called
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void cancelOngoingRequests(Registration registration) {
+        sender.cancelOngoingRequests(registration);
+    }
+
+    private void recordRtt(DownlinkDeviceManagementRequest<?> request, long start) {
+        rttTimers
+                .computeIfAbsent(request.getClass(),
+                        c -> metrics.timer(MetricNames.REQUESTS_RTT, MetricNames.TAG_TYPE, c.getSimpleName()))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void start() {
+        if (sender instanceof Startable) {
+            ((Startable) sender).start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (sender instanceof Stoppable) {
+            ((Stoppable) sender).stop();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (sender instanceof Destroyable) {
+            ((Destroyable) sender).destroy();
+        } else if (sender instanceof Stoppable) {
+            ((Stoppable) sender).stop();
+        }
+    }
+}
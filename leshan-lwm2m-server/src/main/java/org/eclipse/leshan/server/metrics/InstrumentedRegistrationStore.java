@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.metrics;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.Startable;
+import org.eclipse.leshan.core.Stoppable;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.peer.LwM2mIdentity;
+import org.eclipse.leshan.server.registration.Deregistration;
+import org.eclipse.leshan.server.registration.ExpirationListener;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationStore;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.eclipse.leshan.server.registration.UpdatedRegistration;
+import org.eclipse.leshan.servers.metrics.MetricNames;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.eclipse.leshan.servers.metrics.Metrics.Timer;
+
+/**
+ * A {@link RegistrationStore} which records latency of each operation of the wrapped store (see
+ * {@link MetricNames#REGISTRATION_STORE_OPERATIONS}).
+ * <p>
+ * Lifecycle calls are forwarded to the wrapped store if it supports them.
+ */
+public class InstrumentedRegistrationStore implements RegistrationStore, Startable, Stoppable, Destroyable {
+
+    private final RegistrationStore store;
+
+    private final Timer addRegistration;
+    private final Timer updateRegistration;
+    private final Timer getRegistration;
+    private final Timer removeRegistration;
+    private final Timer addObservation;
+    private final Timer getObservation;
+    private final Timer removeObservation;
+
+    public InstrumentedRegistrationStore(RegistrationStore store, Metrics metrics) {
+        this.store = store;
+        this.addRegistration = timer(metrics, "addRegistration");
+        this.updateRegistration = timer(metrics, "updateRegistration");
+        this.getRegistration = timer(metrics, "getRegistration");
+        this.removeRegistration = timer(metrics, "removeRegistration");
+        this.addObservation = timer(metrics, "addObservation");
+        this.getObservation = timer(metrics, "getObservation");
+        this.removeObservation = timer(metrics, "removeObservation");
+    }
+
+    private static Timer timer(Metrics metrics, String operation) {
+        return metrics.timer(MetricNames.REGISTRATION_STORE_OPERATIONS, MetricNames.TAG_OPERATION, operation);
+    }
+
+    public RegistrationStore getStore() {
+        return store;
+    }
+
+    @Override
+    public Deregistration addRegistration(Registration registration) {
+        long start = System.nanoTime();
+        try {
+            return store.addRegistration(registration);
+        } finally {
+            record(addRegistration, start);
+        }
+    }
+
+    @Override
+    public UpdatedRegistration updateRegistration(RegistrationUpdate update) {
+        long start = System.nanoTime();
+        try {
+            return store.updateRegistration(update);
+        } finally {
+            record(updateRegistration, start);
+        }
+    }
+
+    @Override
+    public Registration getRegistration(String registrationId) {
+        long start = System.nanoTime();
+        try {
+            return store.getRegistration(registrationId);
+        } finally {
+            record(getRegistration, start);
+        }
+    }
+
+    @Override
+    public Registration getRegistrationByEndpoint(String endpoint) {
+        long start = System.nanoTime();
+        try {
+            return store.getRegistrationByEndpoint(endpoint);
+        } finally {
+            record(getRegistration, start);
+        }
+    }
+
+    @Override
+    public Registration getRegistrationByAdress(InetSocketAddress address) {
+        long start = System.nanoTime();
+        try {
+            return store.getRegistrationByAdress(address);
+        } finally {
+            record(getRegistration, start);
+        }
+    }
+
+    @Override
+    public Registration getRegistrationByIdentity(LwM2mIdentity identity) {
+        long start = System.nanoTime();
+        try {
+            return store.getRegistrationByIdentity(identity);
+        } finally {
+            record(getRegistration, start);
+        }
+    }
+
+    @Override
+    public Iterator<Registration> getAllRegistrations() {
+        return store.getAllRegistrations();
+    }
+
+    @Override
+    public Deregistration removeRegistration(String registrationId) {
+        long start = System.nanoTime();
+        try {
+            return store.removeRegistration(registrationId);
+        } finally {
+            record(removeRegistration, start);
+        }
+    }
+
+    @Override
+    public Collection<Observation> addObservation(String registrationId, Observation observation, boolean addIfAbsent) {
+        long start = System.nanoTime();
+        try {
+            return store.addObservation(registrationId, observation, addIfAbsent);
+        } finally {
+            record(addObservation, start);
+        }
+    }
+
+    @Override
+    public Observation getObservation(String registrationId, ObservationIdentifier observationId) {
+        long start = System.nanoTime();
+        try {
+            return store.getObservation(registrationId, observationId);
+        } finally {
+            record(getObservation, start);
+        }
+    }
+
+    @Override
+    public Observation getObservation(ObservationIdentifier observationId) {
+        long start = System.nanoTime();
+        try {
+            return store.getObservation(observationId);
+        } finally {
+            record(getObservation, start);
+        }
+    }
+
+    @Override
+    public Observation removeObservation(String registrationId, ObservationIdentifier observationId) {
+        long start = System.nanoTime();
+        try {
+            return store.removeObservation(registrationId, observationId);
+        } finally {
+            record(removeObservation, start);
+        }
+    }
+
+    @Override
+    public Collection<Observation> getObservations(String registrationId) {
+        long start = System.nanoTime();
+        try {
+            return store.getObservations(registrationId);
+        } finally {
+            record(getObservation, start);
+        }
+    }
+
+    @Override
+    public Collection<Observation> removeObservations(String registrationId) {
+        long start = System.nanoTime();
+        try {
+            return store.removeObservations(registrationId);
+        } finally {
+            record(removeObservation, start);
+        }
+    }
+
+    @Override
+    public void setExpirationListener(ExpirationListener listener) {
+        store.setExpirationListener(listener);
+    }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void start() {
+        if (store instanceof Startable) {
+            ((Startable) store).start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (store instanceof Stoppable) {
+            ((Stoppable) store).stop();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (store instanceof Destroyable) {
+            ((Destroyable) store).destroy();
+        } else if (store instanceof Stoppable) {
+            ((Stoppable) store).stop();
+        }
+    }
+}
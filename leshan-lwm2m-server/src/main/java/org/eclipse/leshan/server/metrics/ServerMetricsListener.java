@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.metrics;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.request.SendRequest;
+import org.eclipse.leshan.core.response.ObserveCompositeResponse;
+import org.eclipse.leshan.core.response.ObserveResponse;
+import org.eclipse.leshan.server.observation.ObservationListener;
+import org.eclipse.leshan.server.queue.PresenceListener;
+import org.eclipse.leshan.server.queue.PresenceServiceImpl;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationListener;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.eclipse.leshan.server.send.SendListener;
+import org.eclipse.leshan.servers.metrics.MetricNames;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.eclipse.leshan.servers.metrics.Metrics.Counter;
+
+/**
+ * A listener which turns registration, observation, send and presence events of a server into metrics.
+ * <p>
+ * It must be added as a synchronous listener, so metrics are up to date when the event is processed.
+ * <p>
+ * Number of sleeping clients is computed from queue mode registrations seen by this listener, so with a persistent
+ * {@link org.eclipse.leshan.server.registration.RegistrationStore} clients registered before server start are not
+ * counted.
+ */
+public class ServerMetricsListener
+        implements RegistrationListener, ObservationListener, SendListener, PresenceListener {
+
+    private final Counter registered;
+    private final Counter updated;
+    private final Counter deregistered;
+
+    private final Counter notificationSuccess;
+    private final Counter notificationError;
+
+    private final Counter sendSuccess;
+    private final Counter sendError;
+    private final Counter sendRecords;
+
+    private final Counter awakeTransitions;
+    private final Counter sleepingTransitions;
+
+    private final AtomicLong queueModeClients = new AtomicLong();
+
+    /**
+     * @param metrics the metrics to record.
+     * @param presenceService the presence service of the server or <code>null</code> if queue mode is not supported.
+     */
+    public ServerMetricsListener(Metrics metrics, PresenceServiceImpl presenceService) {
+        registered = metrics.counter(MetricNames.REGISTRATIONS, MetricNames.TAG_EVENT, "registered");
+        updated = metrics.counter(MetricNames.REGISTRATIONS, MetricNames.TAG_EVENT, "updated");
+        deregistered = metrics.counter(MetricNames.REGISTRATIONS, MetricNames.TAG_EVENT, "deregistered");
+
+        notificationSuccess = metrics.counter(MetricNames.NOTIFICATIONS, MetricNames.TAG_RESULT, "success");
+        notificationError = metrics.counter(MetricNames.NOTIFICATIONS, MetricNames.TAG_RESULT, "error");
+
+        sendSuccess = metrics.counter(MetricNames.SEND_REQUESTS, MetricNames.TAG_RESULT, "success");
+        sendError = metrics.counter(MetricNames.SEND_REQUESTS, MetricNames.TAG_RESULT, "error");
+        sendRecords = metrics.counter(MetricNames.SEND_RECORDS);
+
+        awakeTransitions = metrics.counter(MetricNames.PRESENCE_TRANSITIONS, MetricNames.TAG_STATE, "awake");
+        sleepingTransitions = metrics.counter(MetricNames.PRESENCE_TRANSITIONS, MetricNames.TAG_STATE, "sleeping");
+
+        if (presenceService != null) {
+            metrics.gauge(MetricNames.PRESENCE_CLIENTS, presenceService::getAwakeClientCount, MetricNames.TAG_STATE,
+                    "awake");
+            metrics.gauge(MetricNames.PRESENCE_CLIENTS,
+                    () -> Math.max(0, queueModeClients.get() - presenceService.getAwakeClientCount()),
+                    MetricNames.TAG_STATE, "sleeping");
+        }
+    }
+
+    /* *************** Registration **************** */
+
+    @Override
+    public void registered(Registration registration, Registration previousReg,
+            Collection<Observation> previousObservations) {
+        registered.increment();
+        if (registration.usesQueueMode()) {
+            queueModeClients.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void updated(RegistrationUpdate update, Registration updatedReg, Registration previousReg) {
+        updated.increment();
+        if (updatedReg.usesQueueMode() != previousReg.usesQueueMode()) {
+            if (updatedReg.usesQueueMode()) {
+                queueModeClients.incrementAndGet();
+            } else {
+                queueModeClients.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void unregistered(Registration registration, Collection<Observation> observations, boolean expired,
+            Registration newReg) {
+        deregistered.increment();
+        if (registration.usesQueueMode()) {
+            queueModeClients.decrementAndGet();
+        }
+    }
+
+    /* *************** Observation **************** */
+
+    @Override
+    public void newObservation(Observation observation, Registration registration) {
+    }
+
+    @Override
+    public void cancelled(Observation observation) {
+    }
+
+    @Override
+    public void onResponse(SingleObservation observation, Registration registration, ObserveResponse response) {
+        notificationSuccess.increment();
+    }
+
+    @Override
+    public void onResponse(CompositeObservation observation, Registration registration,
+            ObserveCompositeResponse response) {
+        notificationSuccess.increment();
+    }
+
+    @Override
+    public void onError(Observation observation, Registration registration, Exception error) {
+        notificationError.increment();
+    }
+
+    /* *************** Send **************** */
+
+    @Override
+    public void dataReceived(Registration registration, TimestampedLwM2mNodes data, SendRequest request) {
+        sendSuccess.increment();
+        long records = 0;
+        for (Instant timestamp : data.getTimestamps()) {
+            records += data.getNodesAt(timestamp).size();
+        }
+        sendRecords.increment(records);
+    }
+
+    @Override
+    public void onError(Registration registration, String errorMessage, Exception error) {
+        sendError.increment();
+    }
+
+    /* *************** Presence **************** */
+
+    @Override
+    public void onAwake(Registration registration) {
+        awakeTransitions.increment();
+    }
+
+    @Override
+    public void onSleeping(Registration registration) {
+        sleepingTransitions.increment();
+    }
+}
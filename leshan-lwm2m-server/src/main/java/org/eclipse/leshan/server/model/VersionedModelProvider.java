@@ -16,9 +16,13 @@
 package org.eclipse.leshan.server.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.leshan.core.LwM2m.Version;
 import org.eclipse.leshan.core.model.LwM2mModel;
@@ -30,30 +34,91 @@ import org.eclipse.leshan.server.registration.Registration;
 /**
  * A LwM2mModelProvider which supports object versioning. It returns a LwM2mModel taking into account object version
  * given in registration.
+ * <p>
+ * Models are resolved once for a given set of supported objects (see {@link Registration#getSupportedObject()}) and
+ * shared between all registrations supporting the same objects in the same versions. As this set comes from object
+ * links, a registration update changing object links naturally gets a new model.
  */
 public class VersionedModelProvider implements LwM2mModelProvider {
 
-    private LwM2mModelRepository repository;
+    /**
+     * Default maximum number of cached models.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final LwM2mModelRepository repository;
+    private final ConcurrentHashMap<Map<Integer, Version>, ResolvedModel> models = new ConcurrentHashMap<>();
+    private final int maxCacheSize;
 
     public VersionedModelProvider(Collection<ObjectModel> objectModels) {
-        this.repository = new LwM2mModelRepository(objectModels);
+        this(new LwM2mModelRepository(objectModels));
     }
 
     public VersionedModelProvider(LwM2mModelRepository repository) {
+        this(repository, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param maxCacheSize maximum number of distinct sets of supported objects for which a resolved model is kept,
+     *        <code>0</code> disables the cache.
+     */
+    public VersionedModelProvider(LwM2mModelRepository repository, int maxCacheSize) {
         this.repository = repository;
+        this.maxCacheSize = maxCacheSize;
     }
 
     @Override
     public LwM2mModel getObjectModel(Registration registration) {
-        return new DynamicModel(registration);
+        Map<Integer, Version> supportedObjects = registration.getSupportedObject();
+        if (maxCacheSize <= 0) {
+            return resolve(supportedObjects);
+        }
+
+        ResolvedModel model = models.get(supportedObjects);
+        if (model == null) {
+            model = resolve(supportedObjects);
+            if (models.size() >= maxCacheSize) {
+                // too many distinct devices, start again from scratch rather than tracking usage of each model
+                models.clear();
+            }
+            // registration supported objects map is immutable so it can be used as key
+            ResolvedModel previous = models.putIfAbsent(supportedObjects, model);
+            if (previous != null) {
+                model = previous;
+            }
+        }
+        return model;
     }
 
-    private class DynamicModel implements LwM2mModel {
+    private ResolvedModel resolve(Map<Integer, Version> supportedObjects) {
+        List<ObjectModel> objectModels = new ArrayList<>(supportedObjects.size());
+        for (Entry<Integer, Version> supportedObject : supportedObjects.entrySet()) {
+            ObjectModel objectModel = repository.getObjectModel(supportedObject.getKey(), supportedObject.getValue());
+            if (objectModel != null)
+                objectModels.add(objectModel);
+        }
+        return new ResolvedModel(objectModels);
+    }
+
+    /**
+     * An immutable {@link LwM2mModel} where object models are sorted by id, so they can be found without any
+     * allocation.
+     */
+    private static class ResolvedModel implements LwM2mModel {
 
-        private final Registration registration;
+        private final int[] objectIds;
+        private final ObjectModel[] objectModels;
+        private final Collection<ObjectModel> objectModelCollection;
 
-        public DynamicModel(Registration registration) {
-            this.registration = registration;
+        public ResolvedModel(List<ObjectModel> models) {
+            models.sort((m1, m2) -> Integer.compare(m1.id, m2.id));
+            objectIds = new int[models.size()];
+            objectModels = new ObjectModel[models.size()];
+            for (int i = 0; i < objectModels.length; i++) {
+                objectIds[i] = models.get(i).id;
+                objectModels[i] = models.get(i);
+            }
+            objectModelCollection = Collections.unmodifiableList(Arrays.asList(objectModels));
         }
 
         @Override
@@ -67,24 +132,13 @@ public class VersionedModelProvider implements LwM2mModelProvider {
 
         @Override
         public ObjectModel getObjectModel(int objectId) {
-            Version version = registration.getSupportedVersion(objectId);
-            if (version != null) {
-                return repository.getObjectModel(objectId, version);
-            }
-            return null;
+            int index = Arrays.binarySearch(objectIds, objectId);
+            return index >= 0 ? objectModels[index] : null;
         }
 
         @Override
         public Collection<ObjectModel> getObjectModels() {
-            Map<Integer, Version> supportedObjects = registration.getSupportedObject();
-            Collection<ObjectModel> result = new ArrayList<>(supportedObjects.size());
-            for (Entry<Integer, Version> supportedObject : supportedObjects.entrySet()) {
-                ObjectModel objectModel = repository.getObjectModel(supportedObject.getKey(),
-                        supportedObject.getValue());
-                if (objectModel != null)
-                    result.add(objectModel);
-            }
-            return result;
+            return objectModelCollection;
         }
     }
 }
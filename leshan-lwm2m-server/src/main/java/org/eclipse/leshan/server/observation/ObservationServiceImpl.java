@@ -33,6 +33,8 @@ import org.eclipse.leshan.core.request.UpdateRequest;
 import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.core.response.ObserveCompositeResponse;
 import org.eclipse.leshan.core.response.ObserveResponse;
+import org.eclipse.leshan.server.dispatch.ListenerDispatcher;
+import org.eclipse.leshan.server.dispatch.SynchronousListenerDispatcher;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
 import org.eclipse.leshan.server.profile.ClientProfile;
@@ -60,7 +62,9 @@ public class ObservationServiceImpl implements ObservationService, LwM2mNotifica
     private final boolean updateRegistrationOnNotification;
     private final Authorizer authorizer;
 
-    private final List<ObservationListener> listeners = new CopyOnWriteArrayList<>();;
+    private final List<ObservationListener> synchronousListeners = new CopyOnWriteArrayList<>();
+    private final List<ObservationListener> listeners = new CopyOnWriteArrayList<>();
+    private final ListenerDispatcher dispatcher;
 
     /**
      * Creates an instance of {@link ObservationServiceImpl}
@@ -79,7 +83,20 @@ public class ObservationServiceImpl implements ObservationService, LwM2mNotifica
      */
     public ObservationServiceImpl(RegistrationStore store, LwM2mServerEndpointsProvider endpointProvider,
             boolean updateRegistrationOnNotification, Authorizer authorizer) {
+        this(store, endpointProvider, updateRegistrationOnNotification, authorizer,
+                new SynchronousListenerDispatcher());
+    }
+
+    /**
+     * Creates an instance of {@link ObservationServiceImpl}
+     *
+     * @param updateRegistrationOnNotification will activate registration update on observe notification.
+     * @param dispatcher used to notify listeners added with {@link #addListener(ObservationListener)}.
+     */
+    public ObservationServiceImpl(RegistrationStore store, LwM2mServerEndpointsProvider endpointProvider,
+            boolean updateRegistrationOnNotification, Authorizer authorizer, ListenerDispatcher dispatcher) {
         this.registrationStore = store;
+        this.dispatcher = dispatcher;
         this.updateRegistrationOnNotification = updateRegistrationOnNotification;
         this.endpointProvider = endpointProvider;
         this.authorizer = authorizer;
@@ -142,9 +159,7 @@ public class ObservationServiceImpl implements ObservationService, LwM2mNotifica
             lwM2mEndpoint.cancelObservation(observation);
         }
 
-        for (ObservationListener listener : listeners) {
-            listener.cancelled(observation);
-        }
+        fireCancelled(observation);
     }
 
     @Override
@@ -202,9 +217,22 @@ public class ObservationServiceImpl implements ObservationService, LwM2mNotifica
         listeners.add(listener);
     }
 
+    /**
+     * Adds a listener which is always called synchronously, before listeners added with
+     * {@link #addListener(ObservationListener)}, whatever the {@link ListenerDispatcher} used.
+     * <p>
+     * This should be used for listeners which are part of the protocol processing.
+     */
+    public void addSynchronousListener(ObservationListener listener) {
+        synchronousListeners.add(listener);
+    }
+
     @Override
     public void removeListener(ObservationListener listener) {
-        listeners.remove(listener);
+        synchronousListeners.remove(listener);
+        if (listeners.remove(listener) && !listeners.contains(listener)) {
+            dispatcher.removeListener(listener);
+        }
     }
 
     protected Registration updateRegistrationOnRegistration(Observation observation, LwM2mPeer sender,
@@ -248,13 +276,15 @@ public class ObservationServiceImpl implements ObservationService, LwM2mNotifica
             ObserveResponse response) {
         try {
             Registration updatedRegistration = updateRegistrationOnRegistration(observation, sender, profile, response);
-            for (ObservationListener listener : listeners) {
+            for (ObservationListener listener : synchronousListeners) {
                 listener.onResponse(observation, updatedRegistration, response);
             }
-        } catch (Exception e) {
             for (ObservationListener listener : listeners) {
-                listener.onError(observation, profile.getRegistration(), e);
+                dispatcher.dispatch(listener, observation.getRegistrationId(),
+                        () -> listener.onResponse(observation, updatedRegistration, response));
             }
+        } catch (Exception e) {
+            fireError(observation, profile.getRegistration(), e);
         }
     }
 
@@ -263,35 +293,55 @@ public class ObservationServiceImpl implements ObservationService, LwM2mNotifica
             ObserveCompositeResponse response) {
         try {
             Registration updatedRegistration = updateRegistrationOnRegistration(observation, sender, profile, response);
-            for (ObservationListener listener : listeners) {
+            for (ObservationListener listener : synchronousListeners) {
                 listener.onResponse(observation, updatedRegistration, response);
             }
-        } catch (Exception e) {
             for (ObservationListener listener : listeners) {
-                listener.onError(observation, profile.getRegistration(), e);
+                dispatcher.dispatch(listener, observation.getRegistrationId(),
+                        () -> listener.onResponse(observation, updatedRegistration, response));
             }
+        } catch (Exception e) {
+            fireError(observation, profile.getRegistration(), e);
         }
     }
 
     @Override
     public void onError(Observation observation, LwM2mPeer sender, ClientProfile profile, Exception error) {
-        for (ObservationListener listener : listeners) {
-            listener.onError(observation, profile.getRegistration(), error);
-        }
+        fireError(observation, profile.getRegistration(), error);
     }
 
     @Override
     public void newObservation(Observation observation, Registration registration) {
-        for (ObservationListener listener : listeners) {
+        for (ObservationListener listener : synchronousListeners) {
             listener.newObservation(observation, registration);
         }
+        for (ObservationListener listener : listeners) {
+            dispatcher.dispatch(listener, observation.getRegistrationId(),
+                    () -> listener.newObservation(observation, registration));
+        }
     }
 
     @Override
     public void cancelled(Observation observation) {
-        for (ObservationListener listener : listeners) {
+        fireCancelled(observation);
+    }
+
+    private void fireCancelled(Observation observation) {
+        for (ObservationListener listener : synchronousListeners) {
             listener.cancelled(observation);
         }
+        for (ObservationListener listener : listeners) {
+            dispatcher.dispatch(listener, observation.getRegistrationId(), () -> listener.cancelled(observation));
+        }
+    }
 
+    private void fireError(Observation observation, Registration registration, Exception error) {
+        for (ObservationListener listener : synchronousListeners) {
+            listener.onError(observation, registration, error);
+        }
+        for (ObservationListener listener : listeners) {
+            dispatcher.dispatch(listener, observation.getRegistrationId(),
+                    () -> listener.onError(observation, registration, error));
+        }
     }
 }
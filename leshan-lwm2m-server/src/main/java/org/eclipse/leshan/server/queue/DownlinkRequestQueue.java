@@ -0,0 +1,774 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.request.CompositeDownlinkRequest;
+import org.eclipse.leshan.core.request.DiscoverRequest;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.ReadCompositeRequest;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.core.request.SimpleDownlinkRequest;
+import org.eclipse.leshan.core.request.WriteCompositeRequest;
+import org.eclipse.leshan.core.request.WriteRequest;
+import org.eclipse.leshan.core.request.exception.ClientSleepingException;
+import org.eclipse.leshan.core.request.exception.RequestCanceledException;
+import org.eclipse.leshan.core.request.exception.UnconnectedPeerException;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.LeshanServer;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationListener;
+import org.eclipse.leshan.server.registration.RegistrationService;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.eclipse.leshan.server.request.LeshanServerRequestSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A per-registration queue of downlink requests for LWM2M clients using queue mode.
+ * <p>
+ * Instead of failing with a {@link ClientSleepingException} when the destination client is sleeping, requests are
+ * queued and sent as soon as the client wakes up. On wake up, up to {@link Builder#setPipelineDepth(int)} queued
+ * requests are sent at the same time and each response triggers the sending of the next queued request, so short wake
+ * windows can be fully used.
+ * <p>
+ * Each queue is bounded (see {@link Builder#setMaxQueueSize(int)}) and each queued request has a time to live after
+ * which it is dropped and fails with a {@link QueuedRequestExpiredException}. When coalescing is enabled (see
+ * {@link Builder#setCoalescing(boolean)}):
+ * <ul>
+ * <li>a Read, Discover or Write request equal to the last queued request targeting the same path is not queued again,
+ * its callbacks are notified with the response of the already queued one.</li>
+ * <li>a Write request in replace mode supersedes a not yet sent Write request in replace mode queued for the same path,
+ * if no other request targeting this path was queued in between. Both callbacks are notified with the response of the
+ * Write request which is finally sent.</li>
+ * </ul>
+ * Queued requests are kept in a {@link DownlinkRequestQueueStore}, a persistent implementation allows queues to survive
+ * a server restart. Callbacks can not be persisted, so completion of requests restored from the store is only notified
+ * to {@link DownlinkRequestQueueListener}s.
+ * <p>
+ * Requests to clients which does not use queue mode are sent directly.
+ */
+public class DownlinkRequestQueue implements Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DownlinkRequestQueue.class);
+
+    private final PresenceService presenceService;
+    private final RegistrationService registrationService;
+    private final DownlinkRequestSender sender;
+    private final DownlinkRequestQueueStore store;
+    private final int maxQueueSize;
+    private final long defaultTimeToLive;
+    private final int pipelineDepth;
+    private final boolean coalescing;
+    private final ExecutorService executor;
+    private final boolean shutdownExecutor;
+    private final ScheduledExecutorService schedExecutor;
+    private final boolean shutdownSchedExecutor;
+
+    // Locks used to serialize queue modifications for a given endpoint
+    private final Lock[] stripes;
+    private final int stripeMask;
+
+    // Callbacks and expiration task of queued requests, by request id
+    private final ConcurrentMap<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    // Ids of requests currently sent, by endpoint (only modified with the lock of the endpoint)
+    private final ConcurrentMap<String, Set<String>> inFlightRequests = new ConcurrentHashMap<>();
+
+    private final List<DownlinkRequestQueueListener> listeners = new CopyOnWriteArrayList<>();
+    private final PresenceListener presenceListener;
+    private final RegistrationListener registrationListener;
+
+    protected DownlinkRequestQueue(Builder builder) {
+        this.presenceService = builder.presenceService;
+        this.registrationService = builder.registrationService;
+        this.sender = builder.sender;
+        this.store = builder.store;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.defaultTimeToLive = builder.defaultTimeToLive;
+        this.pipelineDepth = builder.pipelineDepth;
+        this.coalescing = builder.coalescing;
+        this.executor = builder.executor;
+        this.shutdownExecutor = builder.shutdownExecutor;
+        this.schedExecutor = builder.schedExecutor;
+        this.shutdownSchedExecutor = builder.shutdownSchedExecutor;
+
+        int size = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 16);
+        this.stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.stripeMask = size - 1;
+
+        presenceListener = new PresenceListener() {
+            @Override
+            public void onAwake(Registration registration) {
+                drainAsync(registration.getEndpoint());
+            }
+
+            @Override
+            public void onSleeping(Registration registration) {
+            }
+        };
+        registrationListener = new RegistrationListener() {
+            @Override
+            public void registered(Registration registration, Registration previousReg,
+                    Collection<Observation> previousObservations) {
+                drainAsync(registration.getEndpoint());
+            }
+
+            @Override
+            public void updated(RegistrationUpdate update, Registration updatedReg, Registration previousReg) {
+                drainAsync(updatedReg.getEndpoint());
+            }
+
+            @Override
+            public void unregistered(Registration registration, Collection<Observation> observations, boolean expired,
+                    Registration newReg) {
+                if (newReg == null) {
+                    clear(registration.getEndpoint(), new RequestCanceledException(
+                            "Request cancelled as client %s is unregistered", registration.getEndpoint()));
+                }
+            }
+        };
+        presenceService.addListener(presenceListener);
+        registrationService.addListener(registrationListener);
+    }
+
+    /**
+     * Send a request to a client or queue it until the client wakes up if it is sleeping. Queued requests expire after
+     * the default time to live (see {@link Builder#setDefaultTimeToLive(long)}).
+     *
+     * @see #send(Registration, DownlinkDeviceManagementRequest, long, long, ResponseCallback, ErrorCallback)
+     */
+    public <T extends LwM2mResponse> void send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+            long timeoutInMs, ResponseCallback<T> responseCallback, ErrorCallback errorCallback) {
+        send(destination, request, timeoutInMs, defaultTimeToLive, responseCallback, errorCallback);
+    }
+
+    /**
+     * Send a request to a client or queue it until the client wakes up if it is sleeping.
+     * <p>
+     * Callbacks are called at most once, in addition to the errors raised by {@link DownlinkRequestSender}, the error
+     * callback can be called with :
+     * <ul>
+     * <li>{@link QueueFullException} if the queue of the client is full.</li>
+     * <li>{@link QueuedRequestExpiredException} if the client did not wake up before the time to live expired.</li>
+     * <li>{@link RequestCanceledException} if the request was removed from the queue by {@link #clear(String)} or
+     * because the client was unregistered.</li>
+     * </ul>
+     *
+     * @param destination the registration of the client.
+     * @param request the request to send.
+     * @param timeoutInMs the timeout used when the request is sent.
+     * @param timeToLiveInMs the maximum time in milliseconds during which the request can stay in queue.
+     * @param responseCallback a callback called when a response is received.
+     * @param errorCallback a callback called when an error occurred.
+     */
+    public <T extends LwM2mResponse> void send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+            long timeoutInMs, long timeToLiveInMs, ResponseCallback<T> responseCallback, ErrorCallback errorCallback) {
+        Validate.notNull(destination);
+        Validate.notNull(request);
+        Validate.isTrue(timeToLiveInMs > 0, "time to live must be strictly positive");
+        Validate.notNull(responseCallback);
+        Validate.notNull(errorCallback);
+
+        if (!destination.usesQueueMode()) {
+            sender.send(destination, request, null, timeoutInMs, responseCallback, errorCallback);
+            return;
+        }
+
+        String endpoint = destination.getEndpoint();
+        long now = System.currentTimeMillis();
+        long expirationTime = timeToLiveInMs >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeToLiveInMs;
+        QueueFullException queueFull = null;
+
+        Lock lock = lockFor(endpoint);
+        try {
+            lock.lock();
+            List<QueuedRequest> queue = loadQueue(endpoint);
+
+            QueuedRequest last = coalescing ? lastRequestOverlapping(queue, request) : null;
+            if (last != null && isCoalescable(last.getRequest()) && last.getRequest().equals(request)) {
+                // same request already queued, share its response
+                pendingRequest(last).addCallbacks(responseCallback, errorCallback);
+                LOG.trace("{} coalesced with queued request {}", request, last.getId());
+            } else if (last != null && supersedes(request, last.getRequest()) && !isInFlight(last)) {
+                // replace the queued write, keeping its position in queue
+                QueuedRequest replacement = new QueuedRequest(last.getId(), endpoint, request, timeoutInMs, now,
+                        Math.max(expirationTime, last.getExpirationTime()));
+                store.replace(replacement);
+                PendingRequest pending = pendingRequest(last);
+                pending.addCallbacks(responseCallback, errorCallback);
+                pending.scheduleExpiration(replacement);
+                LOG.trace("{} supersedes queued request {}", request, last.getId());
+            } else if (queue.size() >= maxQueueSize) {
+                queueFull = new QueueFullException("Unable to queue %s : queue of %s is full (%d requests)", request,
+                        endpoint, queue.size());
+            } else {
+                QueuedRequest queued = new QueuedRequest(UUID.randomUUID().toString(), endpoint, request, timeoutInMs,
+                        now, expirationTime);
+                store.add(queued);
+                PendingRequest pending = new PendingRequest(queued);
+                pending.addCallbacks(responseCallback, errorCallback);
+                pendingRequests.put(queued.getId(), pending);
+                pending.scheduleExpiration(queued);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (queueFull != null) {
+            errorCallback.onError(queueFull);
+        } else {
+            drainAsync(endpoint);
+        }
+    }
+
+    /**
+     * @return the requests queued for the given endpoint, including the ones currently sent.
+     */
+    public List<QueuedRequest> getQueuedRequests(String endpoint) {
+        Lock lock = lockFor(endpoint);
+        try {
+            lock.lock();
+            return loadQueue(endpoint);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all not yet sent requests queued for the given endpoint. Their error callbacks are called with a
+     * {@link RequestCanceledException}.
+     */
+    public void clear(String endpoint) {
+        clear(endpoint, new RequestCanceledException("Queued request cancelled"));
+    }
+
+    protected void clear(String endpoint, Exception error) {
+        List<PendingRequest> removed = new ArrayList<>();
+        Lock lock = lockFor(endpoint);
+        try {
+            lock.lock();
+            for (QueuedRequest queued : loadQueue(endpoint)) {
+                if (!isInFlight(queued) && store.remove(endpoint, queued.getId())) {
+                    PendingRequest pending = pendingRequest(queued);
+                    pendingRequests.remove(queued.getId(), pending);
+                    removed.add(pending);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (PendingRequest pending : removed) {
+            pending.notifyError(error);
+        }
+    }
+
+    public void addListener(DownlinkRequestQueueListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(DownlinkRequestQueueListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void destroy() {
+        presenceService.removeListener(presenceListener);
+        registrationService.removeListener(registrationListener);
+        if (shutdownExecutor) {
+            executor.shutdownNow();
+        }
+        if (shutdownSchedExecutor) {
+            schedExecutor.shutdownNow();
+        }
+        try {
+            if (shutdownExecutor) {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+            if (shutdownSchedExecutor) {
+                schedExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            LOG.warn("Destroying DownlinkRequestQueue was interrupted.", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* *************** Queue draining **************** */
+
+    protected void drainAsync(String endpoint) {
+        try {
+            executor.execute(() -> drain(endpoint));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Unable to drain queue of {} : executor is shutdown", endpoint);
+        }
+    }
+
+    /**
+     * Send queued requests of the given endpoint if the client is awake, until pipeline depth is reached.
+     */
+    protected void drain(String endpoint) {
+        Registration registration = registrationService.getByEndpoint(endpoint);
+        if (registration == null || registration.usesQueueMode() && !presenceService.isClientAwake(registration)) {
+            return;
+        }
+
+        List<PendingRequest> toSend = new ArrayList<>();
+        List<PendingRequest> expired = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        Lock lock = lockFor(endpoint);
+        try {
+            lock.lock();
+            Set<String> inFlight = inFlightRequests.get(endpoint);
+            int inFlightCount = inFlight == null ? 0 : inFlight.size();
+            for (QueuedRequest queued : loadQueue(endpoint)) {
+                if (inFlightCount >= pipelineDepth) {
+                    break;
+                }
+                if (inFlight != null && inFlight.contains(queued.getId())) {
+                    continue;
+                }
+                PendingRequest pending = pendingRequest(queued);
+                if (queued.isExpired(now)) {
+                    store.remove(endpoint, queued.getId());
+                    pendingRequests.remove(queued.getId(), pending);
+                    expired.add(pending);
+                } else {
+                    if (inFlight == null) {
+                        inFlight = new HashSet<>();
+                        inFlightRequests.put(endpoint, inFlight);
+                    }
+                    inFlight.add(queued.getId());
+                    inFlightCount++;
+                    pending.request = queued;
+                    toSend.add(pending);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (PendingRequest pending : expired) {
+            pending.notifyError(new QueuedRequestExpiredException("%s to %s expired before being sent",
+                    pending.request.getRequest(), endpoint));
+        }
+        for (PendingRequest pending : toSend) {
+            sendQueued(registration, pending, pending.request.getRequest());
+        }
+    }
+
+    private <T extends LwM2mResponse> void sendQueued(Registration registration, PendingRequest pending,
+            DownlinkDeviceManagementRequest<T> request) {
+        try {
+            sender.send(registration, request, null, pending.request.getTimeoutInMs(),
+                    response -> onResponse(pending, response), error -> onError(registration, pending, error));
+        } catch (RuntimeException e) {
+            onError(registration, pending, e);
+        }
+    }
+
+    private void onResponse(PendingRequest pending, LwM2mResponse response) {
+        if (complete(pending)) {
+            pending.notifyResponse(response);
+        }
+        drainAsync(pending.request.getEndpoint());
+    }
+
+    private void onError(Registration registration, PendingRequest pending, Exception error) {
+        // Request was not sent because client is not reachable, keep it in queue until next wake up
+        boolean retry = registration.usesQueueMode()
+                && (error instanceof ClientSleepingException || error instanceof UnconnectedPeerException)
+                && !pending.request.isExpired(System.currentTimeMillis());
+        if (retry) {
+            String endpoint = pending.request.getEndpoint();
+            Lock lock = lockFor(endpoint);
+            try {
+                lock.lock();
+                removeInFlight(pending.request);
+            } finally {
+                lock.unlock();
+            }
+            LOG.debug("{} to {} not sent : {}, it will be retried on next wake up", pending.request.getRequest(),
+                    endpoint, error.getMessage());
+        } else if (complete(pending)) {
+            pending.notifyError(error);
+        }
+    }
+
+    /**
+     * Remove a sent request from queue.
+     *
+     * @return <code>true</code> if callbacks of this request should be called
+     */
+    private boolean complete(PendingRequest pending) {
+        QueuedRequest queued = pending.request;
+        Lock lock = lockFor(queued.getEndpoint());
+        try {
+            lock.lock();
+            removeInFlight(queued);
+            store.remove(queued.getEndpoint(), queued.getId());
+            return pendingRequests.remove(queued.getId(), pending);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expire(PendingRequest pending, QueuedRequest queued) {
+        Lock lock = lockFor(queued.getEndpoint());
+        try {
+            lock.lock();
+            // ignore if request was superseded, is currently sent or was already removed
+            if (pending.request != queued || isInFlight(queued)
+                    || !store.remove(queued.getEndpoint(), queued.getId())) {
+                return;
+            }
+            pendingRequests.remove(queued.getId(), pending);
+        } finally {
+            lock.unlock();
+        }
+        pending.notifyError(new QueuedRequestExpiredException("%s to %s expired before client woke up",
+                queued.getRequest(), queued.getEndpoint()));
+    }
+
+    /* *************** Helpers (must be called with the lock of the endpoint) **************** */
+
+    /**
+     * @return the requests queued for the given endpoint, restoring pending state of the ones loaded from a persistent
+     *         store.
+     */
+    private List<QueuedRequest> loadQueue(String endpoint) {
+        List<QueuedRequest> queue = store.get(endpoint);
+        for (QueuedRequest queued : queue) {
+            pendingRequest(queued);
+        }
+        return queue;
+    }
+
+    private PendingRequest pendingRequest(QueuedRequest queued) {
+        PendingRequest pending = pendingRequests.get(queued.getId());
+        if (pending == null) {
+            // requests restored from a persistent store have no pending state, nor expiration task
+            pending = new PendingRequest(queued);
+            pendingRequests.put(queued.getId(), pending);
+            pending.scheduleExpiration(queued);
+        }
+        return pending;
+    }
+
+    private boolean isInFlight(QueuedRequest queued) {
+        Set<String> inFlight = inFlightRequests.get(queued.getEndpoint());
+        return inFlight != null && inFlight.contains(queued.getId());
+    }
+
+    private void removeInFlight(QueuedRequest queued) {
+        Set<String> inFlight = inFlightRequests.get(queued.getEndpoint());
+        if (inFlight != null && inFlight.remove(queued.getId()) && inFlight.isEmpty()) {
+            inFlightRequests.remove(queued.getEndpoint());
+        }
+    }
+
+    private Lock lockFor(String endpoint) {
+        int h = endpoint.hashCode();
+        // spread higher bits to lower ones, as done by ConcurrentHashMap
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+
+    /* *************** Coalescing **************** */
+
+    /**
+     * @return the last queued request targeting a path overlapping the ones of the given request or <code>null</code>
+     */
+    protected QueuedRequest lastRequestOverlapping(List<QueuedRequest> queue,
+            DownlinkDeviceManagementRequest<?> request) {
+        List<LwM2mPath> paths = pathsOf(request);
+        for (int i = queue.size() - 1; i >= 0; i--) {
+            QueuedRequest queued = queue.get(i);
+            for (LwM2mPath queuedPath : pathsOf(queued.getRequest())) {
+                for (LwM2mPath path : paths) {
+                    if (path.startWith(queuedPath) || queuedPath.startWith(path)) {
+                        return queued;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return <code>true</code> if an equal request can share the response of this request.
+     */
+    protected boolean isCoalescable(DownlinkDeviceManagementRequest<?> request) {
+        return request instanceof ReadRequest || request instanceof DiscoverRequest
+                || request instanceof ReadCompositeRequest || request instanceof WriteRequest
+                || request instanceof WriteCompositeRequest;
+    }
+
+    /**
+     * @return <code>true</code> if sending <code>request</code> makes sending <code>queued</code> useless.
+     */
+    protected boolean supersedes(DownlinkDeviceManagementRequest<?> request,
+            DownlinkDeviceManagementRequest<?> queued) {
+        if (request instanceof WriteRequest && queued instanceof WriteRequest) {
+            WriteRequest write = (WriteRequest) request;
+            WriteRequest queuedWrite = (WriteRequest) queued;
+            return write.isReplaceRequest() && queuedWrite.isReplaceRequest()
+                    && write.getPath().equals(queuedWrite.getPath());
+        }
+        return false;
+    }
+
+    private static List<LwM2mPath> pathsOf(DownlinkDeviceManagementRequest<?> request) {
+        if (request instanceof SimpleDownlinkRequest) {
+            return Collections.singletonList(((SimpleDownlinkRequest<?>) request).getPath());
+        } else if (request instanceof CompositeDownlinkRequest) {
+            return ((CompositeDownlinkRequest<?>) request).getPaths();
+        } else {
+            return Collections.singletonList(LwM2mPath.ROOTPATH);
+        }
+    }
+
+    /* *************** Pending request **************** */
+
+    private class PendingRequest {
+        private volatile QueuedRequest request;
+        private final List<ResponseCallback<?>> responseCallbacks = new CopyOnWriteArrayList<>();
+        private final List<ErrorCallback> errorCallbacks = new CopyOnWriteArrayList<>();
+        private ScheduledFuture<?> expirationTask;
+
+        PendingRequest(QueuedRequest request) {
+            this.request = request;
+        }
+
+        void addCallbacks(ResponseCallback<?> responseCallback, ErrorCallback errorCallback) {
+            responseCallbacks.add(responseCallback);
+            errorCallbacks.add(errorCallback);
+        }
+
+        synchronized void scheduleExpiration(QueuedRequest queued) {
+            this.request = queued;
+            if (expirationTask != null) {
+                expirationTask.cancel(false);
+                expirationTask = null;
+            }
+            if (queued.getExpirationTime() != Long.MAX_VALUE) {
+                long delay = Math.max(0, queued.getExpirationTime() - System.currentTimeMillis());
+                try {
+                    expirationTask = schedExecutor.schedule(() -> expire(this, queued), delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Unable to schedule expiration of {} : executor is shutdown", queued);
+                }
+            }
+        }
+
+        synchronized void cancelExpiration() {
+            if (expirationTask != null) {
+                expirationTask.cancel(false);
+                expirationTask = null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void notifyResponse(LwM2mResponse response) {
+            cancelExpiration();
+            for (ResponseCallback<?> callback : responseCallbacks) {
+                try {
+                    // coalesced requests are equal, so they expect the same response type
+                    ((ResponseCallback<LwM2mResponse>) callback).onResponse(response);
+                } catch (RuntimeException e) {
+                    LOG.warn("Unexpected error in response callback of {}", request, e);
+                }
+            }
+            for (DownlinkRequestQueueListener listener : listeners) {
+                listener.onResponse(request, response);
+            }
+        }
+
+        void notifyError(Exception error) {
+            cancelExpiration();
+            for (ErrorCallback callback : errorCallbacks) {
+                try {
+                    callback.onError(error);
+                } catch (RuntimeException e) {
+                    LOG.warn("Unexpected error in error callback of {}", request, e);
+                }
+            }
+            for (DownlinkRequestQueueListener listener : listeners) {
+                listener.onError(request, error);
+            }
+        }
+    }
+
+    /* *************** Builder **************** */
+
+    /**
+     * Class helping to build and configure a {@link DownlinkRequestQueue}.
+     */
+    public static class Builder {
+
+        private final PresenceService presenceService;
+        private final RegistrationService registrationService;
+        private final DownlinkRequestSender sender;
+        private DownlinkRequestQueueStore store;
+        private int maxQueueSize = 32;
+        private long defaultTimeToLive = TimeUnit.DAYS.toMillis(1);
+        private int pipelineDepth = 4;
+        private boolean coalescing = true;
+        private ExecutorService executor;
+        private boolean shutdownExecutor;
+        private ScheduledExecutorService schedExecutor;
+        private boolean shutdownSchedExecutor;
+
+        /**
+         * Create a builder for a queue sending requests with the given {@link LeshanServer}. Queue mode must be enabled
+         * on this server.
+         */
+        public Builder(LeshanServer server) {
+            this(server.getPresenceService(), server.getRegistrationService(), new LeshanServerRequestSender(server));
+        }
+
+        public Builder(PresenceService presenceService, RegistrationService registrationService,
+                DownlinkRequestSender sender) {
+            Validate.notNull(presenceService, "presence service must not be null, is queue mode enabled ?");
+            Validate.notNull(registrationService);
+            Validate.notNull(sender);
+            this.presenceService = presenceService;
+            this.registrationService = registrationService;
+            this.sender = sender;
+        }
+
+        /**
+         * Set the store used to keep queued requests.
+         * <p>
+         * Default value is {@link InMemoryDownlinkRequestQueueStore}.
+         */
+        public Builder setStore(DownlinkRequestQueueStore store) {
+            this.store = store;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests which can be queued for a client. Beyond this limit, requests fail with a
+         * {@link QueueFullException}.
+         * <p>
+         * Default value is {@literal 32}.
+         */
+        public Builder setMaxQueueSize(int maxQueueSize) {
+            Validate.isTrue(maxQueueSize > 0, "max queue size must be strictly positive");
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Set the time to live of queued requests when none is given to
+         * {@link DownlinkRequestQueue#send(Registration, DownlinkDeviceManagementRequest, long, ResponseCallback, ErrorCallback)}.
+         * <p>
+         * Default value is {@literal 1 day}.
+         */
+        public Builder setDefaultTimeToLive(long timeToLiveInMs) {
+            Validate.isTrue(timeToLiveInMs > 0, "time to live must be strictly positive");
+            this.defaultTimeToLive = timeToLiveInMs;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests sent at the same time to a client.
+         * <p>
+         * Default value is {@literal 4}.
+         */
+        public Builder setPipelineDepth(int pipelineDepth) {
+            Validate.isTrue(pipelineDepth > 0, "pipeline depth must be strictly positive");
+            this.pipelineDepth = pipelineDepth;
+            return this;
+        }
+
+        /**
+         * Enable or disable coalescing of duplicate queued requests.
+         * <p>
+         * Default value is {@literal true}.
+         */
+        public Builder setCoalescing(boolean coalescing) {
+            this.coalescing = coalescing;
+            return this;
+        }
+
+        /**
+         * Set the executor used to send queued requests. It will not be shutdown on
+         * {@link DownlinkRequestQueue#destroy()}.
+         * <p>
+         * Default value is a fixed thread pool of size equal to the number of available processors.
+         */
+        public Builder setExecutor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set the executor used to expire queued requests. It will not be shutdown on
+         * {@link DownlinkRequestQueue#destroy()}.
+         * <p>
+         * Default value is a single thread scheduled executor.
+         */
+        public Builder setSchedExecutor(ScheduledExecutorService schedExecutor) {
+            this.schedExecutor = schedExecutor;
+            return this;
+        }
+
+        public DownlinkRequestQueue build() {
+            if (store == null) {
+                store = new InMemoryDownlinkRequestQueueStore();
+            }
+            shutdownExecutor = executor == null;
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                        new NamedThreadFactory("DownlinkRequestQueue"));
+            }
+            shutdownSchedExecutor = schedExecutor == null;
+            if (schedExecutor == null) {
+                schedExecutor = Executors
+                        .newSingleThreadScheduledExecutor(new NamedThreadFactory("DownlinkRequestQueue Expiration"));
+            }
+            return new DownlinkRequestQueue(this);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import org.eclipse.leshan.core.response.LwM2mResponse;
+
+/**
+ * A listener notified each time a request of a {@link DownlinkRequestQueue} is completed.
+ * <p>
+ * Unlike callbacks given to {@link DownlinkRequestQueue}, this listener is also notified for requests restored from a
+ * persistent {@link DownlinkRequestQueueStore} after a server restart.
+ */
+public interface DownlinkRequestQueueListener {
+
+    /**
+     * Called when a response is received for a queued request.
+     */
+    void onResponse(QueuedRequest request, LwM2mResponse response);
+
+    /**
+     * Called when a queued request failed, expired or was cancelled.
+     */
+    void onError(QueuedRequest request, Exception error);
+}
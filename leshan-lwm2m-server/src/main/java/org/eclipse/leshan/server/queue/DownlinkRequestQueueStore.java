@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import java.util.List;
+
+/**
+ * A store for requests queued by a {@link DownlinkRequestQueue}.
+ * <p>
+ * A persistent implementation allows queued requests to survive a server restart. Calls for a given endpoint are never
+ * done concurrently by a {@link DownlinkRequestQueue}.
+ */
+public interface DownlinkRequestQueueStore {
+
+    /**
+     * Add a request at the end of the queue of {@link QueuedRequest#getEndpoint()}.
+     */
+    void add(QueuedRequest request);
+
+    /**
+     * Replace a queued request by another one with the same id and endpoint, keeping its position in the queue.
+     *
+     * @return <code>true</code> if the request was replaced, <code>false</code> if there was no queued request with
+     *         this id.
+     */
+    boolean replace(QueuedRequest request);
+
+    /**
+     * @return all requests queued for the given endpoint, in queue order.
+     */
+    List<QueuedRequest> get(String endpoint);
+
+    /**
+     * Remove a request from the queue of the given endpoint.
+     *
+     * @return <code>true</code> if the request was removed.
+     */
+    boolean remove(String endpoint, String requestId);
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link DownlinkRequestQueueStore} which keeps queued requests in memory, they are lost on server restart.
+ */
+public class InMemoryDownlinkRequestQueueStore implements DownlinkRequestQueueStore {
+
+    private final ConcurrentHashMap<String /* endpoint */, List<QueuedRequest>> queues = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(QueuedRequest request) {
+        queues.compute(request.getEndpoint(), (endpoint, queue) -> {
+            if (queue == null) {
+                queue = new ArrayList<>();
+            }
+            queue.add(request);
+            return queue;
+        });
+    }
+
+    @Override
+    public boolean replace(QueuedRequest request) {
+        boolean[] replaced = new boolean[1];
+        queues.computeIfPresent(request.getEndpoint(), (endpoint, queue) -> {
+            for (ListIterator<QueuedRequest> it = queue.listIterator(); it.hasNext();) {
+                if (it.next().getId().equals(request.getId())) {
+                    it.set(request);
+                    replaced[0] = true;
+                    break;
+                }
+            }
+            return queue;
+        });
+        return replaced[0];
+    }
+
+    @Override
+    public List<QueuedRequest> get(String endpoint) {
+        List<QueuedRequest> result = new ArrayList<>();
+        queues.computeIfPresent(endpoint, (ep, queue) -> {
+            result.addAll(queue);
+            return queue;
+        });
+        return result;
+    }
+
+    @Override
+    public boolean remove(String endpoint, String requestId) {
+        boolean[] removed = new boolean[1];
+        queues.computeIfPresent(endpoint, (ep, queue) -> {
+            removed[0] = queue.removeIf(r -> r.getId().equals(requestId));
+            return queue.isEmpty() ? null : queue;
+        });
+        return removed[0];
+    }
+}
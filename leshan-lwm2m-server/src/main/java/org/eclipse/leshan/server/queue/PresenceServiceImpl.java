@@ -16,18 +16,23 @@
  *******************************************************************************/
 package org.eclipse.leshan.server.queue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
 import org.eclipse.leshan.server.registration.Registration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,18 +41,70 @@ import org.slf4j.LoggerFactory;
  * Tracks the status of each LWM2M client registered with Queue mode binding. Also ensures that the
  * {@link PresenceListener} are notified on state changes only for those LWM2M clients registered using Queue mode
  * binding.
+ * <p>
+ * Awake timers are kept in a hashed timer wheel: a single thread advances the wheel every tick and puts to sleep
+ * clients whose awake time is expired. Re-arming the timer of an already awake client (e.g. on each uplink request)
+ * only updates its deadline, without allocation nor rescheduling. The counterpart is that clients go to sleep up to one
+ * tick after their awake time expires.
  */
 public final class PresenceServiceImpl implements PresenceService, Destroyable {
     private final Logger LOG = LoggerFactory.getLogger(PresenceServiceImpl.class);
 
-    private final ConcurrentMap<String /* endpoint */, AtomicReference<ScheduledFuture<?>>> clientPresences = new ConcurrentHashMap<>();
+    private static final long NO_TICK = Long.MAX_VALUE;
+
+    private final ConcurrentMap<String /* endpoint */, Presence> clientPresences = new ConcurrentHashMap<>();
     private final List<PresenceListener> listeners = new CopyOnWriteArrayList<>();
     private final ClientAwakeTimeProvider awakeTimeProvider;
+    private final Executor listenerExecutor;
     private final ScheduledExecutorService clientTimersExecutor = Executors
             .newSingleThreadScheduledExecutor(new NamedThreadFactory("Presence Service"));
 
+    // Timer wheel
+    private final Queue<Presence>[] wheel;
+    private final int wheelMask;
+    private final long tickDuration; // in ms
+    private final long startTime; // in ms
+    private volatile long currentTick = -1; // only modified by timer thread
+    private final List<Presence> nextTurnEntries = new ArrayList<>(); // only used by timer thread
+
+    /**
+     * Create a {@link PresenceServiceImpl} using a timer wheel of 512 ticks of 100ms. {@link PresenceListener} are
+     * notified from the timer thread when clients go to sleep.
+     */
     public PresenceServiceImpl(ClientAwakeTimeProvider awakeTimeProvider) {
+        this(awakeTimeProvider, 100, 512, null);
+    }
+
+    /**
+     * @param awakeTimeProvider provides awake time of each client.
+     * @param tickDurationInMs the precision of awake timers in milliseconds.
+     * @param ticksPerWheel the number of buckets of the timer wheel, rounded up to the next power of 2. Timers longer
+     *        than <code>tickDurationInMs * ticksPerWheel</code> are checked once per wheel turn until they expire.
+     * @param listenerExecutor the executor used to notify {@link PresenceListener#onSleeping(Registration)} when awake
+     *        time of a client expires. If <code>null</code>, listeners are notified from the timer thread.
+     */
+    @SuppressWarnings("unchecked")
+    public PresenceServiceImpl(ClientAwakeTimeProvider awakeTimeProvider, long tickDurationInMs, int ticksPerWheel,
+            Executor listenerExecutor) {
+        Validate.isTrue(tickDurationInMs > 0, "tick duration must be strictly positive");
+        Validate.isTrue(ticksPerWheel > 0 && ticksPerWheel <= 1 << 20, "ticks per wheel must be between 1 and 2^20");
         this.awakeTimeProvider = awakeTimeProvider;
+        this.listenerExecutor = listenerExecutor;
+        this.tickDuration = tickDurationInMs;
+
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size = size << 1;
+        }
+        this.wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.wheelMask = size - 1;
+
+        this.startTime = currentTimeMillis();
+        clientTimersExecutor.scheduleAtFixedRate(this::advanceWheel, tickDurationInMs, tickDurationInMs,
+                TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -65,6 +122,13 @@ public final class PresenceServiceImpl implements PresenceService, Destroyable {
         return clientPresences.containsKey(registration.getEndpoint());
     }
 
+    /**
+     * @return the number of clients currently awake.
+     */
+    public int getAwakeClientCount() {
+        return clientPresences.size();
+    }
+
     /**
      * Set the client identified by registration as awake. Listeners are notified if that client state changed to awake
      * state.
@@ -73,48 +137,30 @@ public final class PresenceServiceImpl implements PresenceService, Destroyable {
      */
     public void setAwake(final Registration reg) {
         if (reg.usesQueueMode()) {
-            boolean stateChanged;
-            final AtomicReference<ScheduledFuture<?>> timerFuture = new AtomicReference<>();
-            // set this device as awake
-            AtomicReference<ScheduledFuture<?>> previous = clientPresences.put(reg.getEndpoint(), timerFuture);
-            if (previous != null) {
-                stateChanged = false;
-                // cancel previous timer
-                if (previous.get() != null) {
-                    previous.get().cancel(false);
-                }
-            } else {
-                stateChanged = true;
-            }
-
             // Every time we set the clientAwakeTime, in case it changes dynamically
             int clientAwakeTime = awakeTimeProvider.getClientAwakeTime(reg);
-            if (clientAwakeTime != 0) {
-                timerFuture.set(clientTimersExecutor.schedule(new Runnable() {
-                    @Override
-                    public void run() {
-                        boolean removed = clientPresences.remove(reg.getEndpoint(), timerFuture);
-                        if (removed) {
-                            // success remove means we go in sleeping mode.
-                            for (PresenceListener listener : listeners) {
-                                listener.onSleeping(reg);
-                            }
-                        }
-                    }
-                }, clientAwakeTime, TimeUnit.MILLISECONDS));
-
-                // There is some rare race conditions (several quick call to setAwake)
-                // where the timerFuture could have been already removed but not cancelled.
-                // So to be sure to not keep useless cleaning task we cancel it if this is not the current timerFuture
-                // anymore.
-                // (This make the code a bit more complex but the is a cost of the non-blocking implementation)
-                if (clientPresences.get(reg.getEndpoint()) != timerFuture) {
-                    timerFuture.get().cancel(false);
+            long deadline = clientAwakeTime == 0 ? Long.MAX_VALUE : currentTimeMillis() + clientAwakeTime;
+
+            // re-arm timer if device is already awake
+            Presence presence = clientPresences.get(reg.getEndpoint());
+            if (presence != null) {
+                presence.registration = reg;
+                presence.deadline = deadline;
+                schedule(presence, deadline);
+                // There is some rare race conditions where the timer expires during re-arming, in this case we
+                // consider the device as newly awake.
+                if (clientPresences.get(reg.getEndpoint()) == presence) {
+                    return;
                 }
             }
 
+            // set this device as awake
+            presence = new Presence(reg, deadline);
+            Presence previous = clientPresences.put(reg.getEndpoint(), presence);
+            schedule(presence, deadline);
+
             // notify if state changed
-            if (stateChanged) {
+            if (previous == null) {
                 for (PresenceListener listener : listeners) {
                     listener.onAwake(reg);
                 }
@@ -132,13 +178,9 @@ public final class PresenceServiceImpl implements PresenceService, Destroyable {
      */
     public void setSleeping(Registration reg) {
         if (reg.usesQueueMode()) {
-            AtomicReference<ScheduledFuture<?>> timerFuture = clientPresences.remove(reg.getEndpoint());
-            if (timerFuture != null) {
-                if (timerFuture.get() != null) {
-                    // we can not be sure timerFuture is set but this is not a big deal as timer is only able to removed
-                    // itself.
-                    timerFuture.get().cancel(false);
-                }
+            // timer entry will be dropped lazily by the wheel
+            Presence presence = clientPresences.remove(reg.getEndpoint());
+            if (presence != null) {
                 for (PresenceListener listener : listeners) {
                     listener.onSleeping(reg);
                 }
@@ -164,4 +206,142 @@ public final class PresenceServiceImpl implements PresenceService, Destroyable {
             LOG.warn("Destroying presence service was interrupted.", e);
         }
     }
+
+    /* *************** Timer wheel **************** */
+
+    /**
+     * Move presence timer to the bucket of the given deadline if it is earlier than the currently scheduled one.
+     */
+    private void schedule(Presence presence, long deadline) {
+        if (deadline == Long.MAX_VALUE) {
+            return;
+        }
+        long tick = Math.max(tickOf(deadline), currentTick + 1);
+        long scheduledTick;
+        do {
+            scheduledTick = presence.scheduledTick;
+            if (tick >= scheduledTick) {
+                // a later deadline is handled lazily when the current bucket expires
+                return;
+            }
+        } while (!Presence.SCHEDULED_TICK.compareAndSet(presence, scheduledTick, tick));
+        wheel[(int) (tick & wheelMask)].add(presence);
+    }
+
+    private long tickOf(long time) {
+        // round up, so a presence is never expired before its deadline
+        return (time - startTime + tickDuration - 1) / tickDuration;
+    }
+
+    private void advanceWheel() {
+        try {
+            long now = currentTimeMillis();
+            long lastTick = (now - startTime) / tickDuration;
+            // catch up if timer thread was late
+            for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+                currentTick = tick;
+                expireBucket(tick, now);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Unexpected error while expiring presence timers", e);
+        }
+    }
+
+    private void expireBucket(long tick, long now) {
+        Queue<Presence> bucket = wheel[(int) (tick & wheelMask)];
+        Presence presence;
+        while ((presence = bucket.poll()) != null) {
+            if (clientPresences.get(presence.registration.getEndpoint()) != presence) {
+                continue; // no more tracked, drop it
+            }
+
+            long scheduledTick = presence.scheduledTick;
+            if (scheduledTick == NO_TICK) {
+                continue; // timer disabled
+            } else if (scheduledTick > tick) {
+                // expires in a later turn of the wheel, else it is a stale entry also queued in another bucket
+                if ((scheduledTick & wheelMask) == (tick & wheelMask) && presence.nextTurnTick != tick) {
+                    presence.nextTurnTick = tick;
+                    nextTurnEntries.add(presence);
+                }
+            } else {
+                long deadline = presence.deadline;
+                // times are truncated to the millisecond, so deadline is only reached once now is strictly after it
+                if (deadline < now) {
+                    expire(presence);
+                } else if (deadline == Long.MAX_VALUE) {
+                    // timer was disabled
+                    if (Presence.SCHEDULED_TICK.compareAndSet(presence, scheduledTick, NO_TICK)) {
+                        rescheduleIfChanged(presence, deadline);
+                    }
+                } else {
+                    // timer was re-armed, move it to its new bucket
+                    long newTick = Math.max(tickOf(deadline), tick + 1);
+                    if (Presence.SCHEDULED_TICK.compareAndSet(presence, scheduledTick, newTick)) {
+                        wheel[(int) (newTick & wheelMask)].add(presence);
+                        rescheduleIfChanged(presence, deadline);
+                    }
+                }
+            }
+        }
+        // re-add entries of next turns once bucket is drained
+        if (!nextTurnEntries.isEmpty()) {
+            bucket.addAll(nextTurnEntries);
+            nextTurnEntries.clear();
+        }
+    }
+
+    private void rescheduleIfChanged(Presence presence, long previousDeadline) {
+        // deadline may have been modified by a concurrent re-arm which did not see the new scheduled tick
+        long deadline = presence.deadline;
+        if (deadline != previousDeadline) {
+            schedule(presence, deadline);
+        }
+    }
+
+    private void expire(Presence presence) {
+        Registration reg = presence.registration;
+        // success remove means we go in sleeping mode.
+        if (clientPresences.remove(reg.getEndpoint(), presence)) {
+            if (listenerExecutor == null) {
+                notifySleeping(reg);
+            } else {
+                try {
+                    listenerExecutor.execute(() -> notifySleeping(reg));
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("Unable to notify that {} is sleeping", reg.getEndpoint(), e);
+                }
+            }
+        }
+    }
+
+    private void notifySleeping(Registration reg) {
+        for (PresenceListener listener : listeners) {
+            listener.onSleeping(reg);
+        }
+    }
+
+    private static long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * Presence state of an awake client, reused while it stays awake.
+     */
+    private static class Presence {
+        static final AtomicLongFieldUpdater<Presence> SCHEDULED_TICK = AtomicLongFieldUpdater.newUpdater(Presence.class,
+                "scheduledTick");
+
+        volatile Registration registration;
+        volatile long deadline;
+        // tick of the bucket where presence is queued
+        volatile long scheduledTick = NO_TICK;
+        // last tick where presence was kept for next wheel turn, only accessed by timer thread
+        long nextTurnTick = -1;
+
+        Presence(Registration registration, long deadline) {
+            this.registration = registration;
+            this.deadline = deadline;
+        }
+    }
 }
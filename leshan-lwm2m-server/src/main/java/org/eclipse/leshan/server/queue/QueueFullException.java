@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+/**
+ * Raised when a request can not be queued because the queue of its destination client is full.
+ *
+ * @see DownlinkRequestQueue.Builder#setMaxQueueSize(int)
+ */
+public class QueueFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QueueFullException(String message, Object... args) {
+        super(String.format(message, args));
+    }
+}
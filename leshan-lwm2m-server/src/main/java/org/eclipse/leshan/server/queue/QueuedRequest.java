@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A {@link DownlinkDeviceManagementRequest} waiting in a {@link DownlinkRequestQueue} for its destination client to
+ * wake up.
+ */
+public class QueuedRequest {
+
+    private final String id;
+    private final String endpoint;
+    private final DownlinkDeviceManagementRequest<?> request;
+    private final long timeoutInMs;
+    private final long creationTime;
+    private final long expirationTime;
+
+    /**
+     * @param id an identifier of this queued request, unique for a given endpoint.
+     * @param endpoint the endpoint name of the destination client.
+     * @param request the request to send.
+     * @param timeoutInMs the timeout used when the request is sent.
+     * @param creationTime the time when the request was queued in milliseconds since epoch.
+     * @param expirationTime the time after which the request should not be sent anymore in milliseconds since epoch,
+     *        {@link Long#MAX_VALUE} means no expiration.
+     */
+    public QueuedRequest(String id, String endpoint, DownlinkDeviceManagementRequest<?> request, long timeoutInMs,
+            long creationTime, long expirationTime) {
+        Validate.notNull(id);
+        Validate.notEmpty(endpoint);
+        Validate.notNull(request);
+
+        this.id = id;
+        this.endpoint = endpoint;
+        this.request = request;
+        this.timeoutInMs = timeoutInMs;
+        this.creationTime = creationTime;
+        this.expirationTime = expirationTime;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public DownlinkDeviceManagementRequest<?> getRequest() {
+        return request;
+    }
+
+    public long getTimeoutInMs() {
+        return timeoutInMs;
+    }
+
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expirationTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("QueuedRequest [id=%s, endpoint=%s, request=%s, timeoutInMs=%s, expirationTime=%s]", id,
+                endpoint, request, timeoutInMs, expirationTime);
+    }
+}
@@ -0,0 +1,531 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.Startable;
+import org.eclipse.leshan.core.Stoppable;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.LwM2mIdentity;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in memory store for registration and observation which is designed for multi-core servers handling a large number
+ * of devices.
+ * <p>
+ * Unlike {@link InMemoryRegistrationStore} which protects all its data with one global lock, this store keeps its
+ * indexes in {@link ConcurrentHashMap}s and serializes modifications per endpoint using a fixed set of lock stripes.
+ * This means that :
+ * <ul>
+ * <li>read operations (e.g. {@link #getRegistration(String)}, {@link #getObservation(ObservationIdentifier)}) never
+ * block,</li>
+ * <li>modifications of registrations with different endpoints mostly run in parallel,</li>
+ * <li>modifications of a given endpoint (and its observations) are still atomic regarding each other.</li>
+ * </ul>
+ * It can be used as a drop-in replacement of {@link InMemoryRegistrationStore}.
+ */
+public class ConcurrentInMemoryRegistrationStore implements RegistrationStore, Startable, Stoppable, Destroyable {
+    private final Logger LOG = LoggerFactory.getLogger(ConcurrentInMemoryRegistrationStore.class);
+
+    // Data structure
+    private final ConcurrentMap<String /* end-point */, Registration> regsByEp = new ConcurrentHashMap<>();
+    private final ConcurrentMap<InetSocketAddress, Registration> regsByAddr = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String /* reg-id */, Registration> regsByRegId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<LwM2mIdentity, Registration> regsByIdentity = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ObservationIdentifier, Observation> obsByToken = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<ObservationIdentifier>> tokensByRegId = new ConcurrentHashMap<>();
+    private final RegistrationExpirationIndex expirationIndex = new RegistrationExpirationIndex();
+
+    // Locks used to serialize modifications for a given endpoint
+    private final Lock[] stripes;
+    private final int stripeMask;
+
+    // Listener use to notify when a registration expires
+    private ExpirationListener expirationListener;
+
+    private final ScheduledExecutorService schedExecutor;
+    private ScheduledFuture<?> cleanerTask;
+    private boolean started = false;
+    private final long cleanPeriod; // in seconds
+
+    public ConcurrentInMemoryRegistrationStore() {
+        this(2); // default clean period : 2s
+    }
+
+    public ConcurrentInMemoryRegistrationStore(long cleanPeriodInSec) {
+        this(Executors.newScheduledThreadPool(1,
+                new NamedThreadFactory(
+                        String.format("ConcurrentInMemoryRegistrationStore Cleaner (%ds)", cleanPeriodInSec))),
+                cleanPeriodInSec);
+    }
+
+    public ConcurrentInMemoryRegistrationStore(ScheduledExecutorService schedExecutor, long cleanPeriodInSec) {
+        this(schedExecutor, cleanPeriodInSec, defaultNumberOfStripes());
+    }
+
+    /**
+     * @param schedExecutor executor used to regularly remove expired registrations.
+     * @param cleanPeriodInSec period between 2 cleanups of expired registrations.
+     * @param numberOfStripes number of locks used to serialize modifications of registrations. Endpoints are spread
+     *        over those locks, the higher this number is, the lower the contention is. It will be rounded up to the
+     *        next power of 2.
+     */
+    public ConcurrentInMemoryRegistrationStore(ScheduledExecutorService schedExecutor, long cleanPeriodInSec,
+            int numberOfStripes) {
+        Validate.isTrue(numberOfStripes > 0, "number of stripes must be strictly positive");
+        Validate.isTrue(numberOfStripes <= 1 << 16, "number of stripes must be lower than 65536");
+        this.schedExecutor = schedExecutor;
+        this.cleanPeriod = cleanPeriodInSec;
+
+        int size = Integer.highestOneBit(numberOfStripes);
+        if (size < numberOfStripes) {
+            size = size << 1;
+        }
+        this.stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    private static int defaultNumberOfStripes() {
+        return Runtime.getRuntime().availableProcessors() * 16;
+    }
+
+    /* *************** Leshan Registration API **************** */
+
+    @Override
+    public Deregistration addRegistration(Registration registration) {
+        Lock lock = lockFor(registration.getEndpoint());
+        try {
+            lock.lock();
+
+            Registration registrationRemoved = regsByEp.put(registration.getEndpoint(), registration);
+            regsByRegId.put(registration.getId(), registration);
+            regsByIdentity.put(registration.getClientTransportData().getIdentity(), registration);
+            // If a registration is already associated to this address we don't care as we only want to keep the most
+            // recent binding.
+            regsByAddr.put(registration.getSocketAddress(), registration);
+            if (registrationRemoved != null) {
+                expirationIndex.remove(registrationRemoved);
+            }
+            expirationIndex.add(registration);
+            if (registrationRemoved != null) {
+                Collection<Observation> observationsRemoved = unsafeRemoveAllObservations(registrationRemoved.getId());
+                if (!registrationRemoved.getSocketAddress().equals(registration.getSocketAddress())) {
+                    regsByAddr.remove(registrationRemoved.getSocketAddress(), registrationRemoved);
+                }
+                if (!registrationRemoved.getId().equals(registration.getId())) {
+                    regsByRegId.remove(registrationRemoved.getId(), registrationRemoved);
+                }
+                if (!registrationRemoved.getClientTransportData().getIdentity()
+                        .equals(registration.getClientTransportData().getIdentity())) {
+                    regsByIdentity.remove(registrationRemoved.getClientTransportData().getIdentity(),
+                            registrationRemoved);
+                }
+                return new Deregistration(registrationRemoved, observationsRemoved);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return null;
+    }
+
+    @Override
+    public UpdatedRegistration updateRegistration(RegistrationUpdate update) {
+        Lock lock = lockForRegistrationId(update.getRegistrationId());
+        if (lock == null) {
+            return null;
+        }
+        try {
+            Registration registration = regsByRegId.get(update.getRegistrationId());
+            if (registration == null) {
+                return null;
+            } else {
+                Registration updatedRegistration = update.update(registration);
+                regsByEp.put(updatedRegistration.getEndpoint(), updatedRegistration);
+                // If registration is already associated to this address we don't care as we only want to keep the most
+                // recent binding.
+                regsByAddr.put(updatedRegistration.getSocketAddress(), updatedRegistration);
+                if (!registration.getSocketAddress().equals(updatedRegistration.getSocketAddress())) {
+                    regsByAddr.remove(registration.getSocketAddress(), registration);
+                }
+                regsByIdentity.put(updatedRegistration.getClientTransportData().getIdentity(), updatedRegistration);
+                if (!registration.getClientTransportData().getIdentity()
+                        .equals(updatedRegistration.getClientTransportData().getIdentity())) {
+                    regsByIdentity.remove(registration.getClientTransportData().getIdentity(), registration);
+                }
+
+                regsByRegId.put(updatedRegistration.getId(), updatedRegistration);
+                expirationIndex.update(registration, updatedRegistration);
+
+                return new UpdatedRegistration(registration, updatedRegistration);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Registration getRegistration(String registrationId) {
+        return regsByRegId.get(registrationId);
+    }
+
+    @Override
+    public Registration getRegistrationByEndpoint(String endpoint) {
+        return regsByEp.get(endpoint);
+    }
+
+    @Override
+    public Registration getRegistrationByAdress(InetSocketAddress address) {
+        return regsByAddr.get(address);
+    }
+
+    @Override
+    public Registration getRegistrationByIdentity(LwM2mIdentity identity) {
+        return regsByIdentity.get(identity);
+    }
+
+    @Override
+    public Iterator<Registration> getAllRegistrations() {
+        return new ArrayList<>(regsByEp.values()).iterator();
+    }
+
+    @Override
+    public Deregistration removeRegistration(String registrationId) {
+        Lock lock = lockForRegistrationId(registrationId);
+        if (lock == null) {
+            return null;
+        }
+        try {
+            Registration registration = regsByRegId.get(registrationId);
+            if (registration != null) {
+                return unsafeRemoveRegistration(registration);
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the registration with the given registration Id only if it is still expired once endpoint lock is
+     * acquired. This avoids to remove a registration which was updated concurrently.
+     */
+    private Deregistration removeExpiredRegistration(String registrationId) {
+        Lock lock = lockForRegistrationId(registrationId);
+        if (lock == null) {
+            return null;
+        }
+        try {
+            Registration registration = regsByRegId.get(registrationId);
+            if (registration != null && !registration.isAlive()) {
+                return unsafeRemoveRegistration(registration);
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must be called with the endpoint lock of the registration.
+    private Deregistration unsafeRemoveRegistration(Registration registration) {
+        Collection<Observation> observationsRemoved = unsafeRemoveAllObservations(registration.getId());
+        regsByEp.remove(registration.getEndpoint(), registration);
+        regsByAddr.remove(registration.getSocketAddress(), registration);
+        regsByRegId.remove(registration.getId(), registration);
+        regsByIdentity.remove(registration.getClientTransportData().getIdentity(), registration);
+        expirationIndex.remove(registration);
+        return new Deregistration(registration, observationsRemoved);
+    }
+
+    /* *************** Leshan Observation API **************** */
+
+    @Override
+    public Collection<Observation> addObservation(String registrationId, Observation observation, boolean addIfAbsent) {
+        List<Observation> removed = new ArrayList<>();
+        Lock lock = lockForRegistrationId(registrationId);
+        if (lock == null) {
+            throw new IllegalStateException(String.format(
+                    "can not add observation %s there is no registration with id %s", observation, registrationId));
+        }
+        try {
+            if (!regsByRegId.containsKey(registrationId)) {
+                throw new IllegalStateException(String.format(
+                        "can not add observation %s there is no registration with id %s", observation, registrationId));
+            }
+
+            Observation previousObservation;
+            ObservationIdentifier id = observation.getId();
+
+            if (addIfAbsent) {
+                previousObservation = obsByToken.putIfAbsent(id, observation);
+            } else {
+                previousObservation = obsByToken.put(id, observation);
+            }
+            Set<ObservationIdentifier> tokens = tokensByRegId.get(registrationId);
+            if (tokens == null) {
+                tokens = Collections.newSetFromMap(new ConcurrentHashMap<ObservationIdentifier, Boolean>());
+                tokensByRegId.put(registrationId, tokens);
+            }
+            tokens.add(id);
+
+            // log any collisions
+            if (previousObservation != null) {
+                removed.add(previousObservation);
+                LOG.warn("Token collision ? observation [{}] will be replaced by observation [{}] ",
+                        previousObservation, observation);
+            }
+
+            // cancel existing observations for the same path and registration id.
+            for (Observation obs : unsafeGetObservations(registrationId)) {
+                if (areTheSamePaths(observation, obs) && !observation.getId().equals(obs.getId())) {
+                    unsafeRemoveObservation(obs.getId());
+                    removed.add(obs);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return removed;
+    }
+
+    private boolean areTheSamePaths(Observation observation, Observation obs) {
+        if (observation instanceof SingleObservation && obs instanceof SingleObservation) {
+            return ((SingleObservation) observation).getPath().equals(((SingleObservation) obs).getPath());
+        }
+        if (observation instanceof CompositeObservation && obs instanceof CompositeObservation) {
+            return ((CompositeObservation) observation).getPaths().equals(((CompositeObservation) obs).getPaths());
+        }
+        return false;
+    }
+
+    @Override
+    public Observation removeObservation(String registrationId, ObservationIdentifier observationId) {
+        Lock lock = lockForRegistrationId(registrationId);
+        if (lock == null) {
+            // registration is already removed so its observations should be removed too.
+            return null;
+        }
+        try {
+            Observation observation = obsByToken.get(observationId);
+            if (observation != null && registrationId.equals(observation.getRegistrationId())) {
+                unsafeRemoveObservation(observationId);
+                return observation;
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Observation getObservation(String registrationId, ObservationIdentifier observationId) {
+        Observation observation = obsByToken.get(observationId);
+        if (observation != null && registrationId.equals(observation.getRegistrationId())) {
+            return observation;
+        }
+        return null;
+    }
+
+    @Override
+    public Observation getObservation(ObservationIdentifier observationId) {
+        return obsByToken.get(observationId);
+    }
+
+    @Override
+    public Collection<Observation> getObservations(String registrationId) {
+        return unsafeGetObservations(registrationId);
+    }
+
+    @Override
+    public Collection<Observation> removeObservations(String registrationId) {
+        Lock lock = lockForRegistrationId(registrationId);
+        if (lock == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return unsafeRemoveAllObservations(registrationId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* *************** Lock utility functions **************** */
+
+    private Lock lockFor(String endpoint) {
+        int h = endpoint.hashCode();
+        // spread higher bits to lower ones, as done by ConcurrentHashMap
+        h ^= (h >>> 16);
+        return stripes[h & stripeMask];
+    }
+
+    /**
+     * Acquire the lock of the endpoint associated to the given registration id.
+     * <p>
+     * As endpoint of a registration never changes, the registration id is always associated to the same lock.
+     *
+     * @return the acquired lock or <code>null</code> if there is no registration for this id.
+     */
+    private Lock lockForRegistrationId(String registrationId) {
+        Registration registration = regsByRegId.get(registrationId);
+        if (registration == null) {
+            return null;
+        }
+        Lock lock = lockFor(registration.getEndpoint());
+        lock.lock();
+        return lock;
+    }
+
+    /* *************** Observation utility functions **************** */
+
+    // Must be called with the endpoint lock of the registration.
+    private void unsafeRemoveObservation(ObservationIdentifier observationId) {
+        Observation removed = obsByToken.remove(observationId);
+
+        if (removed != null) {
+            String registrationId = removed.getRegistrationId();
+            Set<ObservationIdentifier> tokens = tokensByRegId.get(registrationId);
+            if (tokens != null) {
+                tokens.remove(observationId);
+                if (tokens.isEmpty()) {
+                    tokensByRegId.remove(registrationId, tokens);
+                }
+            }
+        }
+    }
+
+    // Must be called with the endpoint lock of the registration.
+    private Collection<Observation> unsafeRemoveAllObservations(String registrationId) {
+        Collection<Observation> removed = new ArrayList<>();
+        Set<ObservationIdentifier> ids = tokensByRegId.remove(registrationId);
+        if (ids != null) {
+            for (ObservationIdentifier id : ids) {
+                Observation observationRemoved = obsByToken.get(id);
+                // ensure we don't remove an observation of another registration (token collision)
+                if (observationRemoved != null && registrationId.equals(observationRemoved.getRegistrationId())
+                        && obsByToken.remove(id, observationRemoved)) {
+                    removed.add(observationRemoved);
+                }
+            }
+        }
+        return removed;
+    }
+
+    private Collection<Observation> unsafeGetObservations(String registrationId) {
+        Collection<Observation> result = new ArrayList<>();
+        Set<ObservationIdentifier> ids = tokensByRegId.get(registrationId);
+        if (ids != null) {
+            for (ObservationIdentifier id : ids) {
+                Observation obs = obsByToken.get(id);
+                if (obs != null) {
+                    result.add(obs);
+                }
+            }
+        }
+        return result;
+    }
+
+    /* *************** Expiration handling **************** */
+
+    @Override
+    public void setExpirationListener(ExpirationListener listener) {
+        this.expirationListener = listener;
+    }
+
+    /**
+     * start the registration store, will start regular cleanup of dead registrations.
+     */
+    @Override
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            cleanerTask = schedExecutor.scheduleAtFixedRate(new Cleaner(), cleanPeriod, cleanPeriod, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stop the underlying cleanup of the registrations.
+     */
+    @Override
+    public synchronized void stop() {
+        if (started) {
+            started = false;
+            if (cleanerTask != null) {
+                cleanerTask.cancel(false);
+                cleanerTask = null;
+            }
+        }
+    }
+
+    /**
+     * Destroy "cleanup" scheduler.
+     */
+    @Override
+    public synchronized void destroy() {
+        started = false;
+        schedExecutor.shutdownNow();
+        try {
+            schedExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            LOG.warn("Destroying ConcurrentInMemoryRegistrationStore was interrupted.", e);
+        }
+    }
+
+    private class Cleaner implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                // only registrations which are due are visited, not all registrations.
+                for (String regId : expirationIndex.getExpiredRegistrationIds(System.currentTimeMillis())) {
+                    // force de-registration
+                    Deregistration removedRegistration = removeExpiredRegistration(regId);
+                    // registration could have been removed or updated concurrently
+                    if (removedRegistration != null && expirationListener != null) {
+                        expirationListener.registrationExpired(removedRegistration.getRegistration(),
+                                removedRegistration.getObservations());
+                    }
+                }
+            } catch (Exception e) {
+                LOG.warn("Unexpected Exception while registration cleaning", e);
+            }
+        }
+    }
+}
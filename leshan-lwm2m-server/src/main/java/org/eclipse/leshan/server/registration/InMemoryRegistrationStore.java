@@ -57,6 +57,7 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
     private final Map<LwM2mIdentity, Registration> regsByIdentity = new HashMap<>();
     private final Map<ObservationIdentifier, Observation> obsByToken = new HashMap<>();
     private final Map<String, Set<ObservationIdentifier>> tokensByRegId = new HashMap<>();
+    private final RegistrationExpirationIndex expirationIndex = new RegistrationExpirationIndex();
 
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
@@ -96,6 +97,10 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
             // If a registration is already associated to this address we don't care as we only want to keep the most
             // recent binding.
             regsByAddr.put(registration.getSocketAddress(), registration);
+            if (registrationRemoved != null) {
+                expirationIndex.remove(registrationRemoved);
+            }
+            expirationIndex.add(registration);
             if (registrationRemoved != null) {
                 Collection<Observation> observationsRemoved = unsafeRemoveAllObservations(registrationRemoved.getId());
                 if (!registrationRemoved.getSocketAddress().equals(registration.getSocketAddress())) {
@@ -141,6 +146,7 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
                 }
 
                 regsByRegId.put(updatedRegistration.getId(), updatedRegistration);
+                expirationIndex.update(registration, updatedRegistration);
 
                 return new UpdatedRegistration(registration, updatedRegistration);
             }
@@ -206,12 +212,7 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
 
             Registration registration = getRegistration(registrationId);
             if (registration != null) {
-                Collection<Observation> observationsRemoved = unsafeRemoveAllObservations(registration.getId());
-                regsByEp.remove(registration.getEndpoint());
-                removeFromMap(regsByAddr, registration.getSocketAddress(), registration);
-                removeFromMap(regsByRegId, registration.getId(), registration);
-                removeFromMap(regsByIdentity, registration.getClientTransportData().getIdentity(), registration);
-                return new Deregistration(registration, observationsRemoved);
+                return unsafeRemoveRegistration(registration);
             }
             return null;
         } finally {
@@ -219,6 +220,34 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
         }
     }
 
+    /**
+     * Remove the registration with the given registration Id only if it is still expired once write lock is acquired.
+     * This avoids to remove a registration which was updated concurrently.
+     */
+    private Deregistration removeExpiredRegistration(String registrationId) {
+        try {
+            lock.writeLock().lock();
+
+            Registration registration = getRegistration(registrationId);
+            if (registration != null && !registration.isAlive()) {
+                return unsafeRemoveRegistration(registration);
+            }
+            return null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Deregistration unsafeRemoveRegistration(Registration registration) {
+        Collection<Observation> observationsRemoved = unsafeRemoveAllObservations(registration.getId());
+        regsByEp.remove(registration.getEndpoint());
+        removeFromMap(regsByAddr, registration.getSocketAddress(), registration);
+        removeFromMap(regsByRegId, registration.getId(), registration);
+        removeFromMap(regsByIdentity, registration.getClientTransportData().getIdentity(), registration);
+        expirationIndex.remove(registration);
+        return new Deregistration(registration, observationsRemoved);
+    }
+
     /* *************** Leshan Observation API **************** */
 
     @Override
@@ -441,18 +470,19 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
         @Override
         public void run() {
             try {
-                Collection<Registration> allRegs = new ArrayList<>();
+                // only registrations which are due are visited, not all registrations.
+                Collection<String> expiredRegIds;
                 try {
                     lock.readLock().lock();
-                    allRegs.addAll(regsByEp.values());
+                    expiredRegIds = expirationIndex.getExpiredRegistrationIds(System.currentTimeMillis());
                 } finally {
                     lock.readLock().unlock();
                 }
 
-                for (Registration reg : allRegs) {
-                    if (!reg.isAlive()) {
-                        // force de-registration
-                        Deregistration removedRegistration = removeRegistration(reg.getId());
+                for (String regId : expiredRegIds) {
+                    // force de-registration
+                    Deregistration removedRegistration = removeExpiredRegistration(regId);
+                    if (removedRegistration != null && expirationListener != null) {
                         expirationListener.registrationExpired(removedRegistration.getRegistration(),
                                 removedRegistration.getObservations());
                     }
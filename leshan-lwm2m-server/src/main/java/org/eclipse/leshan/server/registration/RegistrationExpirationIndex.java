@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * An index of {@link Registration} ordered by {@link Registration#getExpirationTimeStamp()}.
+ * <p>
+ * It allows a {@link RegistrationStore} to find expired registrations without scanning all of them : the cost of
+ * {@link #getExpiredRegistrationIds(long)} only depends on the number of expired registrations.
+ * <p>
+ * The store is in charge of keeping this index up to date each time a registration is added, updated or removed. This
+ * class is thread-safe but does not guarantee atomicity between several calls, so store should call it while
+ * registration modification is locked.
+ */
+public class RegistrationExpirationIndex {
+
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+
+    /**
+     * Add a registration to the index.
+     */
+    public void add(Registration registration) {
+        entries.add(new Entry(registration.getExpirationTimeStamp(), registration.getId()));
+    }
+
+    /**
+     * Remove a registration from the index.
+     */
+    public void remove(Registration registration) {
+        entries.remove(new Entry(registration.getExpirationTimeStamp(), registration.getId()));
+    }
+
+    /**
+     * Replace a previous version of a registration by its updated version.
+     */
+    public void update(Registration previous, Registration updated) {
+        remove(previous);
+        add(updated);
+    }
+
+    /**
+     * @param now the current time in milliseconds.
+     * @return the id of registrations which expired at the given time, ordered by expiration time.
+     */
+    public Collection<String> getExpiredRegistrationIds(long now) {
+        if (entries.isEmpty() || entries.first().expirationTimestamp > now) {
+            return Collections.emptyList();
+        }
+        Collection<String> expired = new ArrayList<>();
+        for (Entry entry : entries) {
+            // registration is alive if expiration timestamp > now
+            if (entry.expirationTimestamp > now) {
+                break;
+            }
+            expired.add(entry.registrationId);
+        }
+        return expired;
+    }
+
+    /**
+     * @return the number of indexed registrations.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        private final long expirationTimestamp;
+        private final String registrationId;
+
+        public Entry(long expirationTimestamp, String registrationId) {
+            this.expirationTimestamp = expirationTimestamp;
+            this.registrationId = registrationId;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            int res = Long.compare(expirationTimestamp, o.expirationTimestamp);
+            if (res != 0) {
+                return res;
+            }
+            return registrationId.compareTo(o.registrationId);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Entry))
+                return false;
+            Entry other = (Entry) obj;
+            return expirationTimestamp == other.expirationTimestamp && registrationId.equals(other.registrationId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(expirationTimestamp) + registrationId.hashCode();
+        }
+    }
+}
@@ -21,18 +21,30 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.server.dispatch.ListenerDispatcher;
+import org.eclipse.leshan.server.dispatch.SynchronousListenerDispatcher;
 
 /**
  * An implementation of {@link RegistrationService}
  */
 public class RegistrationServiceImpl implements RegistrationService, ExpirationListener {
 
+    private final List<RegistrationListener> synchronousListeners = new CopyOnWriteArrayList<>();
     private final List<RegistrationListener> listeners = new CopyOnWriteArrayList<>();
+    private final ListenerDispatcher dispatcher;
 
     private RegistrationStore store;
 
     public RegistrationServiceImpl(RegistrationStore store) {
+        this(store, new SynchronousListenerDispatcher());
+    }
+
+    /**
+     * @param dispatcher used to notify listeners added with {@link #addListener(RegistrationListener)}.
+     */
+    public RegistrationServiceImpl(RegistrationStore store, ListenerDispatcher dispatcher) {
         this.store = store;
+        this.dispatcher = dispatcher;
         store.setExpirationListener(this);
     }
 
@@ -41,9 +53,22 @@ public class RegistrationServiceImpl implements RegistrationService, ExpirationL
         listeners.add(listener);
     }
 
+    /**
+     * Adds a listener which is always called synchronously, before listeners added with
+     * {@link #addListener(RegistrationListener)}, whatever the {@link ListenerDispatcher} used.
+     * <p>
+     * This should be used for listeners which are part of the protocol processing.
+     */
+    public void addSynchronousListener(RegistrationListener listener) {
+        synchronousListeners.add(listener);
+    }
+
     @Override
     public void removeListener(RegistrationListener listener) {
-        listeners.remove(listener);
+        synchronousListeners.remove(listener);
+        if (listeners.remove(listener) && !listeners.contains(listener)) {
+            dispatcher.removeListener(listener);
+        }
     }
 
     @Override
@@ -63,29 +88,44 @@ public class RegistrationServiceImpl implements RegistrationService, ExpirationL
 
     @Override
     public void registrationExpired(Registration registration, Collection<Observation> observations) {
-        for (RegistrationListener l : listeners) {
+        for (RegistrationListener l : synchronousListeners) {
             l.unregistered(registration, observations, true, null);
         }
+        for (RegistrationListener l : listeners) {
+            dispatcher.dispatch(l, registration.getId(), () -> l.unregistered(registration, observations, true, null));
+        }
     }
 
     public void fireRegistered(Registration registration, Registration previousReg,
             Collection<Observation> previousObservations) {
-        for (RegistrationListener l : listeners) {
+        for (RegistrationListener l : synchronousListeners) {
             l.registered(registration, previousReg, previousObservations);
         }
+        for (RegistrationListener l : listeners) {
+            dispatcher.dispatch(l, registration.getId(),
+                    () -> l.registered(registration, previousReg, previousObservations));
+        }
     }
 
     public void fireUnregistered(Registration registration, Collection<Observation> observations, Registration newReg) {
-        for (RegistrationListener l : listeners) {
+        for (RegistrationListener l : synchronousListeners) {
             l.unregistered(registration, observations, false, newReg);
         }
+        for (RegistrationListener l : listeners) {
+            dispatcher.dispatch(l, registration.getId(),
+                    () -> l.unregistered(registration, observations, false, newReg));
+        }
     }
 
     public void fireUpdated(RegistrationUpdate update, Registration updatedRegistration,
             Registration previousRegistration) {
-        for (RegistrationListener l : listeners) {
+        for (RegistrationListener l : synchronousListeners) {
             l.updated(update, updatedRegistration, previousRegistration);
         }
+        for (RegistrationListener l : listeners) {
+            dispatcher.dispatch(l, updatedRegistration.getId(),
+                    () -> l.updated(update, updatedRegistration, previousRegistration));
+        }
     }
 
     public RegistrationStore getStore() {
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.request;
+
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.LeshanServer;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * A {@link DownlinkRequestSender} sending requests with a {@link LeshanServer}.
+ * <p>
+ * This allows components which send requests through a {@link DownlinkRequestSender} (e.g.
+ * {@link org.eclipse.leshan.server.queue.DownlinkRequestQueue} or
+ * {@link org.eclipse.leshan.server.bulk.BulkRequestSender}) to be plugged on an existing server.
+ */
+public class LeshanServerRequestSender implements DownlinkRequestSender {
+
+    private final LeshanServer server;
+
+    public LeshanServerRequestSender(LeshanServer server) {
+        Validate.notNull(server);
+        this.server = server;
+    }
+
+    @Override
+    public <T extends LwM2mResponse> T send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+            LowerLayerConfig lowerLayerConfig, long timeoutInMs) throws InterruptedException {
+        return server.send(destination, request, lowerLayerConfig, timeoutInMs);
+    }
+
+    @Override
+    public <T extends LwM2mResponse> void send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+            LowerLayerConfig lowerLayerConfig, long timeoutInMs, ResponseCallback<T> responseCallback,
+            ErrorCallback errorCallback) {
+        server.send(destination, request, lowerLayerConfig, timeoutInMs, responseCallback, errorCallback);
+    }
+
+    @Override
+    public void cancelOngoingRequests(Registration registration) {
+        server.cancelOngoingRequests(registration);
+    }
+}
@@ -30,6 +30,8 @@ import org.eclipse.leshan.core.request.UpdateRequest;
 import org.eclipse.leshan.core.request.exception.InvalidRequestException;
 import org.eclipse.leshan.core.response.SendResponse;
 import org.eclipse.leshan.core.response.SendableResponse;
+import org.eclipse.leshan.server.dispatch.ListenerDispatcher;
+import org.eclipse.leshan.server.dispatch.SynchronousListenerDispatcher;
 import org.eclipse.leshan.server.registration.Registration;
 import org.eclipse.leshan.server.registration.RegistrationStore;
 import org.eclipse.leshan.server.registration.RegistrationUpdate;
@@ -52,10 +54,21 @@ public class SendHandler implements SendService {
     private final Authorizer authorizer;
     private final boolean updateRegistrationOnSend;
 
-    private final List<SendListener> listeners = new CopyOnWriteArrayList<>();;
+    private final List<SendListener> synchronousListeners = new CopyOnWriteArrayList<>();
+    private final List<SendListener> listeners = new CopyOnWriteArrayList<>();
+    private final ListenerDispatcher dispatcher;
 
     public SendHandler(RegistrationStore registrationStore, Authorizer authorizer, boolean updateRegistrationOnSend) {
+        this(registrationStore, authorizer, updateRegistrationOnSend, new SynchronousListenerDispatcher());
+    }
+
+    /**
+     * @param dispatcher used to notify {@link SendListener}.
+     */
+    public SendHandler(RegistrationStore registrationStore, Authorizer authorizer, boolean updateRegistrationOnSend,
+            ListenerDispatcher dispatcher) {
         this.registrationStore = registrationStore;
+        this.dispatcher = dispatcher;
         this.authorizer = authorizer;
         this.updateRegistrationOnSend = updateRegistrationOnSend;
     }
@@ -65,9 +78,20 @@ public class SendHandler implements SendService {
         listeners.add(listener);
     }
 
+    /**
+     * Adds a listener which is always called synchronously, before listeners added with
+     * {@link #addListener(SendListener)}, whatever the {@link ListenerDispatcher} used.
+     */
+    public void addSynchronousListener(SendListener listener) {
+        synchronousListeners.add(listener);
+    }
+
     @Override
     public void removeListener(SendListener listener) {
-        listeners.remove(listener);
+        synchronousListeners.remove(listener);
+        if (listeners.remove(listener) && !listeners.contains(listener)) {
+            dispatcher.removeListener(listener);
+        }
     }
 
     public SendableResponse<SendResponse> handleSend(LwM2mPeer sender, Registration registration,
@@ -155,15 +179,23 @@ public class SendHandler implements SendService {
     }
 
     protected void fireDataReceived(Registration registration, TimestampedLwM2mNodes data, SendRequest request) {
-        for (SendListener listener : listeners) {
+        for (SendListener listener : synchronousListeners) {
             listener.dataReceived(registration, data, request);
         }
+        for (SendListener listener : listeners) {
+            dispatcher.dispatch(listener, registration.getId(),
+                    () -> listener.dataReceived(registration, data, request));
+        }
     }
 
     public void onError(Registration registration, String errorMessage, Exception error) {
-        for (SendListener listener : listeners) {
+        for (SendListener listener : synchronousListeners) {
             listener.onError(registration, errorMessage, error);
         }
+        for (SendListener listener : listeners) {
+            dispatcher.dispatch(listener, registration != null ? registration.getId() : null,
+                    () -> listener.onError(registration, errorMessage, error));
+        }
     }
 
     protected SendResponse validateSendRequest(Registration registration, SendRequest request) {
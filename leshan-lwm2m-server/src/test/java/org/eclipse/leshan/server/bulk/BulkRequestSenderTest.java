@@ -0,0 +1,369 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.Inet4Address;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.core.request.exception.ClientSleepingException;
+import org.eclipse.leshan.core.request.exception.RequestCanceledException;
+import org.eclipse.leshan.core.request.exception.TimeoutException;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.ExecuteResponse;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.server.queue.PresenceServiceImpl;
+import org.eclipse.leshan.server.queue.StaticClientAwakeTimeProvider;
+import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationServiceImpl;
+import org.eclipse.leshan.server.registration.RegistrationStore;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.eclipse.leshan.server.request.LowerLayerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tests the implementation of {@link BulkRequestSender}
+ */
+public class BulkRequestSenderTest {
+
+    private final PresenceServiceImpl presenceService = new PresenceServiceImpl(new StaticClientAwakeTimeProvider());
+    private final RegistrationStore registrationStore = new InMemoryRegistrationStore();
+    private final RegistrationServiceImpl registrationService = new RegistrationServiceImpl(registrationStore);
+    private final FakeSender sender = new FakeSender();
+    private final Results results = new Results();
+
+    private BulkRequestSender bulkSender;
+
+    @AfterEach
+    public void tearDown() {
+        if (bulkSender != null) {
+            bulkSender.destroy();
+        }
+    }
+
+    @Test
+    public void limit_concurrent_requests() throws InterruptedException {
+        bulkSender = builder().setMaxConcurrentRequests(3).build();
+        List<Registration> registrations = given_registrations(10, 5683, false);
+
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(registrations.iterator(), reboot(), results);
+
+        List<SentRequest> sent = sender.drain();
+        assertEquals(3, sent.size());
+        assertEquals(3, bulkSender.getInFlightCount());
+        assertEquals(3, operation.getSelectedCount());
+
+        sent.get(0).respond(ExecuteResponse.success());
+        List<SentRequest> next = sender.drain();
+        assertEquals(1, next.size());
+        sent.addAll(next);
+
+        respondUntilDone(operation, sent.subList(1, sent.size()));
+        assertEquals(10, operation.getSuccessCount());
+        assertEquals(10, results.responses.size());
+        assertEquals(0, bulkSender.getInFlightCount());
+        assertTrue(bulkSender.getActiveOperations().isEmpty());
+    }
+
+    @Test
+    public void limit_concurrent_requests_per_endpoint() throws InterruptedException {
+        bulkSender = builder().setMaxConcurrentRequests(10).setMaxConcurrentRequestsPerEndpoint(2).build();
+        List<Registration> registrations = given_registrations(5, 5683, false);
+        registrations.addAll(given_registrations(5, 5684, false));
+
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(registrations.iterator(), reboot(), results);
+
+        List<SentRequest> sent = sender.drain();
+        assertEquals(4, sent.size());
+        assertEquals(2, sent.stream().filter(s -> s.destination.getEndpointUri().getPort() == 5683).count());
+        assertEquals(2, sent.stream().filter(s -> s.destination.getEndpointUri().getPort() == 5684).count());
+
+        respondUntilDone(operation, sent);
+        assertEquals(10, operation.getSuccessCount());
+    }
+
+    @Test
+    public void defer_requests_to_sleeping_clients() throws InterruptedException {
+        bulkSender = builder().build();
+        List<Registration> registrations = given_registrations(1, 5683, true);
+        registrations.addAll(given_registrations(1, 5684, false));
+
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(registrations.iterator(), reboot(), results);
+        List<SentRequest> sent = sender.drain();
+        assertEquals(1, sent.size());
+        assertFalse(sent.get(0).destination.usesQueueMode());
+        assertEquals(1, operation.getDeferredCount());
+        assertEquals(1, bulkSender.getDeferredCount());
+
+        presenceService.setAwake(registrations.get(0));
+        sent.addAll(sender.drain());
+        assertEquals(2, sent.size());
+        assertEquals(0, operation.getDeferredCount());
+
+        for (SentRequest request : sent) {
+            request.respond(ExecuteResponse.success());
+        }
+        assertTrue(operation.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void select_registrations_and_count_results() throws InterruptedException {
+        bulkSender = builder().build();
+        for (Registration registration : given_registrations(6, 5683, false)) {
+            registrationStore.addRegistration(registration);
+        }
+
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(r -> !r.getEndpoint().equals("client0"),
+                r -> r.getEndpoint().equals("client1") ? null : new ExecuteRequest(3, 0, 4), results);
+
+        List<SentRequest> sent = sender.drain();
+        assertEquals(4, sent.size());
+        sent.get(0).respond(ExecuteResponse.notFound());
+        sent.get(1).fail(new TimeoutException(TimeoutException.Type.RESPONSE_TIMEOUT, "timeout"));
+        sent.get(2).respond(ExecuteResponse.success());
+        sent.get(3).respond(ExecuteResponse.success());
+
+        assertTrue(operation.await(1, TimeUnit.SECONDS));
+        assertEquals(5, operation.getSelectedCount());
+        assertEquals(1, operation.getSkippedCount());
+        assertEquals(2, operation.getSuccessCount());
+        assertEquals(2, operation.getFailureCount());
+        assertInstanceOf(TimeoutException.class, results.errors.poll());
+        assertNotNull(results.completed.poll());
+    }
+
+    @Test
+    public void cancel_operation() throws InterruptedException {
+        bulkSender = builder().setMaxConcurrentRequests(1).build();
+        List<Registration> registrations = given_registrations(3, 5683, false);
+        registrations.addAll(given_registrations(1, 5684, true));
+
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(registrations.iterator(), reboot(), results);
+        SentRequest sent = sender.drain().get(0);
+
+        operation.cancel();
+        assertFalse(operation.isDone());
+        sent.respond(ExecuteResponse.success());
+
+        assertTrue(operation.await(1, TimeUnit.SECONDS));
+        assertTrue(sender.drain().isEmpty());
+        assertEquals(1, operation.getSuccessCount());
+        assertEquals(0, operation.getDeferredCount());
+        for (Exception error : results.errors) {
+            assertInstanceOf(RequestCanceledException.class, error);
+        }
+    }
+
+    @Test
+    public void limit_request_rate() throws InterruptedException {
+        bulkSender = builder().setMaxRequestsPerSecond(20).build();
+        List<Registration> registrations = given_registrations(5, 5683, false);
+
+        long start = System.nanoTime();
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(registrations.iterator(), reboot(), results);
+        List<SentRequest> sent = new ArrayList<>();
+        while (sent.size() < 5) {
+            SentRequest request = sender.sent.poll(1, TimeUnit.SECONDS);
+            assertNotNull(request);
+            request.respond(ExecuteResponse.success());
+            sent.add(request);
+        }
+
+        assertTrue(operation.await(1, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 190);
+    }
+
+    @Test
+    public void count_request_sent_again_after_client_fell_asleep_once() throws InterruptedException {
+        bulkSender = builder().build();
+        List<Registration> registrations = given_registrations(1, 5683, true);
+        presenceService.setAwake(registrations.get(0));
+
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(registrations.iterator(), reboot(), results);
+        presenceService.setSleeping(registrations.get(0));
+        sender.drain().get(0).fail(new ClientSleepingException("client is sleeping"));
+        assertEquals(1, operation.getDeferredCount());
+
+        presenceService.setAwake(registrations.get(0));
+        sender.drain().get(0).respond(ExecuteResponse.success());
+
+        assertTrue(operation.await(1, TimeUnit.SECONDS));
+        assertEquals(1, operation.getSentCount());
+        assertEquals(1, operation.getSuccessCount());
+    }
+
+    @Test
+    public void pull_registrations_without_holding_lock() throws Exception {
+        bulkSender = builder().build();
+        Iterator<Registration> registrations = given_registrations(40, 5683, false).iterator();
+        ExecutorService otherThread = Executors.newSingleThreadExecutor();
+        try {
+            // an iterator which needs another thread to access the bulk sender, like a slow store iterator would
+            Iterator<Registration> iterator = new Iterator<Registration>() {
+                @Override
+                public boolean hasNext() {
+                    return registrations.hasNext();
+                }
+
+                @Override
+                public Registration next() {
+                    try {
+                        otherThread.submit(() -> bulkSender.getWaitingCount()).get(1, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("bulk sender is locked while pulling registrations", e);
+                    }
+                    return registrations.next();
+                }
+            };
+
+            BulkOperation<ExecuteResponse> operation = bulkSender.send(iterator, reboot(), results);
+            respondUntilDone(operation, sender.drain());
+            assertEquals(40, operation.getSuccessCount());
+        } finally {
+            otherThread.shutdownNow();
+        }
+    }
+
+    private BulkRequestSender.Builder builder() {
+        return new BulkRequestSender.Builder(sender, registrationService, presenceService);
+    }
+
+    private Function<Registration, DownlinkDeviceManagementRequest<ExecuteResponse>> reboot() {
+        return r -> new ExecuteRequest(3, 0, 4);
+    }
+
+    private List<Registration> given_registrations(int count, int serverPort, boolean queueMode) {
+        List<Registration> registrations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String endpoint = "client" + (serverPort == 5683 ? "" : serverPort + "-") + i;
+            registrations.add(new Registration.Builder("ID-" + endpoint, endpoint,
+                    new IpPeer(new InetSocketAddress(Inet4Address.getLoopbackAddress(), 10000 + i)),
+                    uriHandler.createUri("coap://localhost:" + serverPort)) //
+                            .bindingMode(
+                                    queueMode ? EnumSet.of(BindingMode.U, BindingMode.Q) : EnumSet.of(BindingMode.U))
+                            .build());
+        }
+        return registrations;
+    }
+
+    private void respondUntilDone(BulkOperation<ExecuteResponse> operation, List<SentRequest> alreadySent)
+            throws InterruptedException {
+        for (SentRequest request : alreadySent) {
+            request.respond(ExecuteResponse.success());
+        }
+        while (!operation.isDone()) {
+            SentRequest request = sender.sent.poll(1, TimeUnit.SECONDS);
+            assertNotNull(request);
+            request.respond(ExecuteResponse.success());
+        }
+        assertNull(sender.sent.poll());
+    }
+
+    private static class SentRequest {
+        private final Registration destination;
+        private final ResponseCallback<LwM2mResponse> responseCallback;
+        private final ErrorCallback errorCallback;
+
+        @SuppressWarnings("unchecked")
+        SentRequest(Registration destination, ResponseCallback<?> responseCallback, ErrorCallback errorCallback) {
+            this.destination = destination;
+            this.responseCallback = (ResponseCallback<LwM2mResponse>) responseCallback;
+            this.errorCallback = errorCallback;
+        }
+
+        void respond(LwM2mResponse response) {
+            responseCallback.onResponse(response);
+        }
+
+        void fail(Exception error) {
+            errorCallback.onError(error);
+        }
+    }
+
+    private static class FakeSender implements DownlinkRequestSender {
+        private final BlockingQueue<SentRequest> sent = new LinkedBlockingQueue<>();
+
+        List<SentRequest> drain() {
+            List<SentRequest> requests = new ArrayList<>();
+            sent.drainTo(requests);
+            return requests;
+        }
+
+        @Override
+        public <T extends LwM2mResponse> T send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+                LowerLayerConfig lowerLayerConfig, long timeoutInMs) throws InterruptedException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends LwM2mResponse> void send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+                LowerLayerConfig lowerLayerConfig, long timeoutInMs, ResponseCallback<T> responseCallback,
+                ErrorCallback errorCallback) {
+            sent.add(new SentRequest(destination, responseCallback, errorCallback));
+        }
+
+        @Override
+        public void cancelOngoingRequests(Registration registration) {
+        }
+    }
+
+    private static class Results implements BulkOperationListener<ExecuteResponse> {
+        private final BlockingQueue<ExecuteResponse> responses = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Exception> errors = new LinkedBlockingQueue<>();
+        private final BlockingQueue<BulkOperation<ExecuteResponse>> completed = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onResponse(Registration registration, DownlinkDeviceManagementRequest<ExecuteResponse> request,
+                ExecuteResponse response) {
+            responses.add(response);
+        }
+
+        @Override
+        public void onError(Registration registration, DownlinkDeviceManagementRequest<ExecuteResponse> request,
+                Exception error) {
+            errors.add(error);
+        }
+
+        @Override
+        public void onCompleted(BulkOperation<ExecuteResponse> operation) {
+            completed.add(operation);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.dispatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.server.dispatch.AsyncListenerDispatcher.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tests the implementation of {@link AsyncListenerDispatcher}
+ */
+public class AsyncListenerDispatcherTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Object listener = new Object();
+    private final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch running = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    public void stop() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void events_of_a_registration_are_handled_in_order() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher.Builder().setExecutor(executor)
+                .setQueuesPerListener(3).build();
+
+        Map<String, List<Integer>> eventsByRegistration = new HashMap<>();
+        CountDownLatch done = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            String registrationId = "reg" + (i % 10);
+            List<Integer> events = eventsByRegistration.computeIfAbsent(registrationId,
+                    r -> Collections.synchronizedList(new ArrayList<>()));
+            int event = i;
+            dispatcher.dispatch(listener, registrationId, () -> {
+                events.add(event);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (List<Integer> events : eventsByRegistration.values()) {
+            List<Integer> sorted = new ArrayList<>(events);
+            Collections.sort(sorted);
+            assertEquals(sorted, events);
+            assertEquals(100, events.size());
+        }
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    public void slow_listener_does_not_delay_other_listeners() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher.Builder().setExecutor(executor).build();
+        dispatchBlockingEvent(dispatcher);
+
+        CountDownLatch done = new CountDownLatch(1);
+        dispatcher.dispatch(new Object(), "reg", done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        dispatchEvent(dispatcher, 1);
+        assertEquals(1, dispatcher.getQueueDepth(listener));
+        assertEquals(1, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    public void reject_policy_drops_new_events() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher.Builder().setExecutor(executor)
+                .setQueueCapacity(2).setOverflowPolicy(OverflowPolicy.REJECT).build();
+        dispatchBlockingEvent(dispatcher);
+
+        for (int i = 1; i <= 3; i++) {
+            dispatchEvent(dispatcher, i);
+        }
+        assertEquals(2, dispatcher.getQueueDepth());
+        assertEquals(2, dispatcher.getQueueDepth(listener));
+        assertEquals(1, dispatcher.getRejectedEventCount());
+
+        release.countDown();
+        waitUntilHandled(3);
+        assertEquals(Arrays.asList(0, 1, 2), handled);
+    }
+
+    @Test
+    public void drop_oldest_policy_drops_queued_events() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher.Builder().setExecutor(executor)
+                .setQueueCapacity(2).setOverflowPolicy(OverflowPolicy.DROP_OLDEST).build();
+        dispatchBlockingEvent(dispatcher);
+
+        for (int i = 1; i <= 3; i++) {
+            dispatchEvent(dispatcher, i);
+        }
+        assertEquals(2, dispatcher.getQueueDepth());
+        assertEquals(1, dispatcher.getDroppedEventCount());
+
+        release.countDown();
+        waitUntilHandled(3);
+        assertEquals(Arrays.asList(0, 2, 3), handled);
+    }
+
+    @Test
+    public void block_policy_waits_for_room_in_queue() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher.Builder().setExecutor(executor)
+                .setQueueCapacity(1).setOverflowPolicy(OverflowPolicy.BLOCK).build();
+        dispatchBlockingEvent(dispatcher);
+        dispatchEvent(dispatcher, 1);
+
+        CountDownLatch dispatched = new CountDownLatch(1);
+        Thread dispatchingThread = new Thread(() -> {
+            dispatchEvent(dispatcher, 2);
+            dispatched.countDown();
+        });
+        dispatchingThread.start();
+        assertFalse(dispatched.await(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        waitUntilHandled(3);
+        assertEquals(Arrays.asList(0, 1, 2), handled);
+        assertEquals(0, dispatcher.getDroppedEventCount() + dispatcher.getRejectedEventCount());
+    }
+
+    @Test
+    public void listener_exception_does_not_stop_dispatching() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher.Builder().setExecutor(executor).build();
+        dispatcher.dispatch(listener, "reg", () -> {
+            throw new IllegalStateException("listener failure");
+        });
+        dispatchEvent(dispatcher, 1);
+
+        waitUntilHandled(1);
+        assertEquals(Arrays.asList(1), handled);
+    }
+
+    @Test
+    public void listener_error_does_not_stop_dispatching() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher.Builder().setExecutor(executor).build();
+        dispatcher.dispatch(listener, "reg", () -> {
+            throw new AssertionError("listener failure");
+        });
+        dispatchEvent(dispatcher, 1);
+
+        waitUntilHandled(1);
+        assertEquals(Arrays.asList(1), handled);
+
+        // queue is not stuck in scheduled state after the error
+        dispatchEvent(dispatcher, 2);
+        waitUntilHandled(2);
+        assertEquals(Arrays.asList(1, 2), handled);
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    public void removed_listener_queues_are_released() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher.Builder().setExecutor(executor).build();
+        dispatchBlockingEvent(dispatcher);
+        dispatchEvent(dispatcher, 1);
+        assertEquals(1, dispatcher.getQueueDepth(listener));
+
+        dispatcher.removeListener(listener);
+        assertEquals(0, dispatcher.getQueueDepth(listener));
+
+        // events dispatched before removal are still handled
+        release.countDown();
+        waitUntilHandled(2);
+        assertEquals(Arrays.asList(0, 1), handled);
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    private void dispatchBlockingEvent(AsyncListenerDispatcher dispatcher) throws InterruptedException {
+        dispatcher.dispatch(listener, "reg", () -> {
+            handled.add(0);
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+    }
+
+    private void dispatchEvent(AsyncListenerDispatcher dispatcher, int event) {
+        dispatcher.dispatch(listener, "reg", () -> handled.add(event));
+    }
+
+    private void waitUntilHandled(int nbEvents) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (handled.size() < nbEvents && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        // let a chance to unexpected events to be handled
+        Thread.sleep(50);
+    }
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.endpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.eclipse.leshan.server.endpoint.OngoingRequestIndex.Entry;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tests the implementation of {@link OngoingRequestIndex}
+ */
+public class OngoingRequestIndexTest {
+
+    private final OngoingRequestIndex<String> index = new OngoingRequestIndex<>();
+
+    @Test
+    public void remove_completed_requests() {
+        Entry<String> first = index.add("reg1", "first");
+        Entry<String> second = index.add("reg1", "second");
+        Entry<String> third = index.add("reg1", "third");
+
+        assertTrue(index.remove(second));
+        assertFalse(index.remove(second));
+        assertEquals(new HashSet<>(Arrays.asList("first", "third")), new HashSet<>(index.removeAll("reg1")));
+
+        // already removed by removeAll
+        assertFalse(index.remove(first));
+        assertFalse(index.remove(third));
+        assertEquals(0, index.getRegistrationCount());
+    }
+
+    @Test
+    public void remove_all_requests_of_a_registration() {
+        index.add("reg1", "first");
+        index.add("reg2", "second");
+        index.add("reg1", "third");
+        assertEquals(2, index.getRegistrationCount());
+
+        assertEquals(new HashSet<>(Arrays.asList("first", "third")), new HashSet<>(index.removeAll("reg1")));
+        assertTrue(index.removeAll("reg1").isEmpty());
+        assertEquals(Arrays.asList("second"), index.removeAll("reg2"));
+        assertEquals(0, index.getRegistrationCount());
+    }
+
+    @Test
+    public void registration_is_cleaned_when_last_request_is_removed() {
+        Entry<String> first = index.add("reg1", "first");
+        Entry<String> second = index.add("reg1", "second");
+
+        index.remove(first);
+        assertEquals(1, index.getRegistrationCount());
+        index.remove(second);
+        assertEquals(0, index.getRegistrationCount());
+
+        // registration can be used again after cleaning
+        index.add("reg1", "third");
+        assertEquals(Arrays.asList("third"), index.removeAll("reg1"));
+    }
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.metrics;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.Inet4Address;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.core.request.exception.TimeoutException;
+import org.eclipse.leshan.core.request.exception.TimeoutException.Type;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.ExecuteResponse;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.server.queue.PresenceServiceImpl;
+import org.eclipse.leshan.server.queue.StaticClientAwakeTimeProvider;
+import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.eclipse.leshan.server.request.LowerLayerConfig;
+import org.eclipse.leshan.servers.metrics.MetricNames;
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tests server instrumentation classes of {@link org.eclipse.leshan.server.metrics}
+ */
+public class ServerMetricsTest {
+
+    private final RecordingMetrics metrics = new RecordingMetrics();
+    private final PresenceServiceImpl presenceService = new PresenceServiceImpl(new StaticClientAwakeTimeProvider());
+
+    @AfterEach
+    public void tearDown() {
+        presenceService.destroy();
+    }
+
+    @Test
+    public void record_downlink_requests() throws InterruptedException {
+        FakeSender fakeSender = new FakeSender();
+        InstrumentedDownlinkRequestSender sender = new InstrumentedDownlinkRequestSender(fakeSender, metrics);
+        Registration registration = given_registration("client", false);
+
+        sender.send(registration, new ExecuteRequest(3, 0, 4), null, 1000, r -> {
+        }, e -> {
+        });
+        sender.send(registration, new ReadRequest(3, 0, 0), null, 1000, r -> {
+        }, e -> {
+        });
+        assertEquals(2, metrics.gauge(MetricNames.REQUESTS_IN_FLIGHT));
+
+        fakeSender.responseCallbacks.get(0).onResponse(ExecuteResponse.success());
+        fakeSender.errorCallbacks.get(1).onError(new TimeoutException(Type.RESPONSE_TIMEOUT, "timeout"));
+
+        assertEquals(0, metrics.gauge(MetricNames.REQUESTS_IN_FLIGHT));
+        assertEquals(1, metrics.count(MetricNames.REQUESTS_RTT, MetricNames.TAG_TYPE, "ExecuteRequest"));
+        assertEquals(0, metrics.count(MetricNames.REQUESTS_RTT, MetricNames.TAG_TYPE, "ReadRequest"));
+        assertEquals(1, metrics.count(MetricNames.REQUESTS_TIMEOUTS));
+    }
+
+    @Test
+    public void record_registration_store_operations() {
+        InstrumentedRegistrationStore store = new InstrumentedRegistrationStore(new InMemoryRegistrationStore(),
+                metrics);
+        Registration registration = given_registration("client", false);
+
+        store.addRegistration(registration);
+        store.getRegistration(registration.getId());
+        store.getRegistrationByEndpoint(registration.getEndpoint());
+        store.removeRegistration(registration.getId());
+
+        assertEquals(1,
+                metrics.count(MetricNames.REGISTRATION_STORE_OPERATIONS, MetricNames.TAG_OPERATION, "addRegistration"));
+        assertEquals(2,
+                metrics.count(MetricNames.REGISTRATION_STORE_OPERATIONS, MetricNames.TAG_OPERATION, "getRegistration"));
+        assertEquals(1, metrics.count(MetricNames.REGISTRATION_STORE_OPERATIONS, MetricNames.TAG_OPERATION,
+                "removeRegistration"));
+    }
+
+    @Test
+    public void count_registrations_and_sleeping_clients() {
+        ServerMetricsListener listener = new ServerMetricsListener(metrics, presenceService);
+        presenceService.addListener(listener);
+
+        Registration queueClient1 = given_registration("queue1", true);
+        Registration queueClient2 = given_registration("queue2", true);
+        Registration client = given_registration("client", false);
+        listener.registered(queueClient1, null, null);
+        listener.registered(queueClient2, null, null);
+        listener.registered(client, null, null);
+        presenceService.setAwake(queueClient1);
+
+        assertEquals(3, metrics.count(MetricNames.REGISTRATIONS, MetricNames.TAG_EVENT, "registered"));
+        assertEquals(1, metrics.gauge(MetricNames.PRESENCE_CLIENTS, MetricNames.TAG_STATE, "awake"));
+        assertEquals(1, metrics.gauge(MetricNames.PRESENCE_CLIENTS, MetricNames.TAG_STATE, "sleeping"));
+
+        presenceService.setSleeping(queueClient1);
+        listener.unregistered(queueClient2, null, false, null);
+
+        assertEquals(1, metrics.count(MetricNames.REGISTRATIONS, MetricNames.TAG_EVENT, "deregistered"));
+        assertEquals(1, metrics.count(MetricNames.PRESENCE_TRANSITIONS, MetricNames.TAG_STATE, "sleeping"));
+        assertEquals(0, metrics.gauge(MetricNames.PRESENCE_CLIENTS, MetricNames.TAG_STATE, "awake"));
+        assertEquals(1, metrics.gauge(MetricNames.PRESENCE_CLIENTS, MetricNames.TAG_STATE, "sleeping"));
+    }
+
+    private Registration given_registration(String endpoint, boolean queueMode) {
+        return new Registration.Builder("ID-" + endpoint, endpoint,
+                new IpPeer(new InetSocketAddress(Inet4Address.getLoopbackAddress(), 10000)),
+                uriHandler.createUri("coap://localhost:5683")) //
+                        .bindingMode(queueMode ? EnumSet.of(BindingMode.U, BindingMode.Q) : EnumSet.of(BindingMode.U))
+                        .build();
+    }
+
+    private static class RecordingMetrics implements Metrics {
+        private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+        private final Map<String, Supplier<Number>> gauges = new ConcurrentHashMap<>();
+
+        private static String key(String name, String... tags) {
+            return name + String.join(",", tags);
+        }
+
+        long count(String name, String... tags) {
+            AtomicLong count = counts.get(key(name, tags));
+            return count == null ? 0 : count.get();
+        }
+
+        long gauge(String name, String... tags) {
+            return gauges.get(key(name, tags)).get().longValue();
+        }
+
+        @Override
+        public Counter counter(String name, String... tags) {
+            AtomicLong count = counts.computeIfAbsent(key(name, tags), k -> new AtomicLong());
+            return new Counter() {
+                @Override
+                public void increment() {
+                    count.incrementAndGet();
+                }
+
+                @Override
+                public void increment(long amount) {
+                    count.addAndGet(amount);
+                }
+            };
+        }
+
+        @Override
+        public Timer timer(String name, String... tags) {
+            AtomicLong count = counts.computeIfAbsent(key(name, tags), k -> new AtomicLong());
+            return (duration, unit) -> count.incrementAndGet();
+        }
+
+        @Override
+        public void gauge(String name, Supplier<Number> value, String... tags) {
+            gauges.put(key(name, tags), value);
+        }
+    }
+
+    private static class FakeSender implements DownlinkRequestSender {
+        private final List<ResponseCallback<LwM2mResponse>> responseCallbacks = new ArrayList<>();
+        private final List<ErrorCallback> errorCallbacks = new ArrayList<>();
+
+        @Override
+        public <T extends LwM2mResponse> T send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+                LowerLayerConfig lowerLayerConfig, long timeoutInMs) throws InterruptedException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends LwM2mResponse> void send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+                LowerLayerConfig lowerLayerConfig, long timeoutInMs, ResponseCallback<T> responseCallback,
+                ErrorCallback errorCallback) {
+            responseCallbacks.add((ResponseCallback<LwM2mResponse>) responseCallback);
+            errorCallbacks.add(errorCallback);
+        }
+
+        @Override
+        public void cancelOngoingRequests(Registration registration) {
+        }
+    }
+}
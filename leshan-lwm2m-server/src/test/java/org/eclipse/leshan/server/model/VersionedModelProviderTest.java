@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.model;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.InetSocketAddress;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.LinkParseException;
+import org.eclipse.leshan.core.link.LinkParser;
+import org.eclipse.leshan.core.link.lwm2m.DefaultLwM2mLinkParser;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.LwM2mModelRepository;
+import org.eclipse.leshan.core.model.ObjectLoader;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.server.registration.DefaultRegistrationDataExtractor;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationDataExtractor.RegistrationData;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tests the implementation of {@link VersionedModelProvider}
+ */
+public class VersionedModelProviderTest {
+
+    private final LinkParser linkParser = new DefaultLwM2mLinkParser();
+    private final LwM2mModelRepository repository = new LwM2mModelRepository(ObjectLoader.loadAllDefault());
+
+    @Test
+    public void registrations_with_same_objects_share_model() throws LinkParseException {
+        VersionedModelProvider provider = new VersionedModelProvider(repository);
+
+        LwM2mModel model = provider.getObjectModel(given_a_registration("reg1", "</1/0>,</3/0>,</5/0>"));
+        LwM2mModel other = provider.getObjectModel(given_a_registration("reg2", "</1/0>,</3/0>,</5/0>"));
+
+        assertSame(model, other);
+        assertEquals(3, model.getObjectModels().size());
+        assertNotNull(model.getResourceModel(5, 1));
+        assertNull(model.getObjectModel(4));
+        assertNull(model.getResourceModel(4, 0));
+    }
+
+    @Test
+    public void object_version_is_used_to_resolve_model() throws LinkParseException {
+        VersionedModelProvider provider = new VersionedModelProvider(repository);
+
+        LwM2mModel model = provider.getObjectModel(given_a_registration("reg1", "</3/0>"));
+        LwM2mModel modelV11 = provider.getObjectModel(given_a_registration("reg2", "</3>;ver=1.1,</3/0>"));
+
+        assertNotSame(model, modelV11);
+        assertEquals("1.0", model.getObjectModel(3).version);
+        assertEquals("1.1", modelV11.getObjectModel(3).version);
+    }
+
+    @Test
+    public void updated_object_links_change_model() throws LinkParseException {
+        VersionedModelProvider provider = new VersionedModelProvider(repository);
+        Registration registration = given_a_registration("reg1", "</1/0>,</3/0>");
+        LwM2mModel model = provider.getObjectModel(registration);
+
+        Registration updatedRegistration = given_a_registration("reg1", "</1/0>,</3/0>,</5/0>");
+        LwM2mModel updatedModel = provider.getObjectModel(updatedRegistration);
+
+        assertNull(model.getObjectModel(5));
+        assertNotNull(updatedModel.getObjectModel(5));
+    }
+
+    @Test
+    public void model_is_resolved_each_time_when_cache_is_disabled() throws LinkParseException {
+        VersionedModelProvider provider = new VersionedModelProvider(repository, 0);
+        Registration registration = given_a_registration("reg1", "</1/0>,</3/0>");
+
+        LwM2mModel model = provider.getObjectModel(registration);
+        LwM2mModel other = provider.getObjectModel(registration);
+
+        assertNotSame(model, other);
+        assertSame(model.getObjectModel(3), other.getObjectModel(3));
+    }
+
+    private Registration given_a_registration(String registrationId, String objectLinks) throws LinkParseException {
+        Registration.Builder builder = new Registration.Builder(registrationId, "endpoint",
+                new IpPeer(InetSocketAddress.createUnresolved("localhost", 0)),
+                uriHandler.createUri("coap://localhost:5683"));
+
+        Link[] links = linkParser.parseCoreLinkFormat(objectLinks.getBytes());
+        builder.objectLinks(links);
+
+        RegistrationData data = new DefaultRegistrationDataExtractor().extractDataFromObjectLinks(links,
+                LwM2mVersion.V1_0);
+        builder.rootPath(data.getAlternatePath());
+        builder.supportedObjects(data.getSupportedObjects());
+        builder.availableInstances(data.getAvailableInstances());
+        return builder.build();
+    }
+}
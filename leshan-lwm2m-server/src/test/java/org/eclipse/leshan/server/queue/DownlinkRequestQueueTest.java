@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.Inet4Address;
+import java.net.InetSocketAddress;
+import java.util.EnumSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.core.request.WriteRequest;
+import org.eclipse.leshan.core.request.WriteRequest.Mode;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.response.ReadResponse;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.core.response.WriteResponse;
+import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationServiceImpl;
+import org.eclipse.leshan.server.registration.RegistrationStore;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.eclipse.leshan.server.request.LowerLayerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tests the implementation of {@link DownlinkRequestQueue}
+ */
+public class DownlinkRequestQueueTest {
+
+    private final PresenceServiceImpl presenceService = new PresenceServiceImpl(new StaticClientAwakeTimeProvider());
+    private final RegistrationStore registrationStore = new InMemoryRegistrationStore();
+    private final RegistrationServiceImpl registrationService = new RegistrationServiceImpl(registrationStore);
+    private final FakeSender sender = new FakeSender();
+
+    private DownlinkRequestQueue queue;
+    private Registration registration;
+
+    @BeforeEach
+    public void setUp() {
+        registration = new Registration.Builder("ID", "urn:client",
+                new IpPeer(new InetSocketAddress(Inet4Address.getLoopbackAddress(), 12354)),
+                uriHandler.createUri("coap://localhost:5683")) //
+                        .bindingMode(EnumSet.of(BindingMode.U, BindingMode.Q)).build();
+        registrationStore.addRegistration(registration);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (queue != null) {
+            queue.destroy();
+        }
+    }
+
+    @Test
+    public void send_queued_requests_on_wake_up() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).build();
+        Callbacks<ReadResponse> callbacks = new Callbacks<>();
+
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, callbacks, callbacks);
+        assertNull(sender.sent.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, queue.getQueuedRequests("urn:client").size());
+
+        presenceService.setAwake(registration);
+        SentRequest sent = sender.next();
+        assertEquals(new ReadRequest(3, 0, 1), sent.request);
+
+        ReadResponse response = ReadResponse.success(LwM2mSingleResource.newStringResource(1, "value"));
+        sent.respond(response);
+        assertSame(response, callbacks.nextResponse());
+        assertEquals(0, queue.getQueuedRequests("urn:client").size());
+    }
+
+    @Test
+    public void limit_requests_sent_at_same_time() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).setPipelineDepth(2)
+                .build();
+        Callbacks<ReadResponse> callbacks = new Callbacks<>();
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, callbacks, callbacks);
+        queue.send(registration, new ReadRequest(3, 0, 2), 1000, callbacks, callbacks);
+        queue.send(registration, new ReadRequest(3, 0, 3), 1000, callbacks, callbacks);
+
+        presenceService.setAwake(registration);
+        SentRequest first = sender.next();
+        SentRequest second = sender.next();
+        assertEquals(new ReadRequest(3, 0, 1), first.request);
+        assertEquals(new ReadRequest(3, 0, 2), second.request);
+        assertNull(sender.sent.poll(100, TimeUnit.MILLISECONDS));
+
+        first.respond(ReadResponse.notFound());
+        assertEquals(new ReadRequest(3, 0, 3), sender.next().request);
+    }
+
+    @Test
+    public void fail_when_queue_is_full() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).setMaxQueueSize(1)
+                .build();
+        Callbacks<ReadResponse> callbacks = new Callbacks<>();
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, callbacks, callbacks);
+        queue.send(registration, new ReadRequest(3, 0, 2), 1000, callbacks, callbacks);
+
+        assertInstanceOf(QueueFullException.class, callbacks.nextError());
+        assertEquals(1, queue.getQueuedRequests("urn:client").size());
+    }
+
+    @Test
+    public void expire_queued_requests() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).build();
+        Callbacks<ReadResponse> callbacks = new Callbacks<>();
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, 50, callbacks, callbacks);
+
+        assertInstanceOf(QueuedRequestExpiredException.class, callbacks.nextError());
+        assertEquals(0, queue.getQueuedRequests("urn:client").size());
+    }
+
+    @Test
+    public void expire_requests_restored_from_store() throws InterruptedException {
+        InMemoryDownlinkRequestQueueStore store = new InMemoryDownlinkRequestQueueStore();
+        long now = System.currentTimeMillis();
+        QueuedRequest restored = new QueuedRequest("restored", "urn:client", new ReadRequest(3, 0, 1), 1000, now,
+                now + 50);
+        store.add(restored);
+
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).setStore(store).build();
+        BlockingQueue<Exception> errors = new ArrayBlockingQueue<>(10);
+        queue.addListener(new DownlinkRequestQueueListener() {
+            @Override
+            public void onResponse(QueuedRequest request, LwM2mResponse response) {
+            }
+
+            @Override
+            public void onError(QueuedRequest request, Exception error) {
+                errors.add(error);
+            }
+        });
+        assertEquals(1, queue.getQueuedRequests("urn:client").size());
+
+        assertInstanceOf(QueuedRequestExpiredException.class, errors.poll(1, TimeUnit.SECONDS));
+        assertEquals(0, queue.getQueuedRequests("urn:client").size());
+    }
+
+    @Test
+    public void coalesce_duplicate_reads() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).build();
+        Callbacks<ReadResponse> callbacks1 = new Callbacks<>();
+        Callbacks<ReadResponse> callbacks2 = new Callbacks<>();
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, callbacks1, callbacks1);
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, callbacks2, callbacks2);
+        assertEquals(1, queue.getQueuedRequests("urn:client").size());
+
+        presenceService.setAwake(registration);
+        ReadResponse response = ReadResponse.notFound();
+        sender.next().respond(response);
+        assertSame(response, callbacks1.nextResponse());
+        assertSame(response, callbacks2.nextResponse());
+        assertNull(sender.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void do_not_coalesce_reads_separated_by_a_write() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).build();
+        Callbacks<ReadResponse> callbacks = new Callbacks<>();
+        Callbacks<WriteResponse> writeCallbacks = new Callbacks<>();
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, callbacks, callbacks);
+        queue.send(registration, new WriteRequest(Mode.UPDATE, ContentFormat.TLV, 3, 0,
+                LwM2mSingleResource.newStringResource(14, "+02")), 1000, writeCallbacks, writeCallbacks);
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, callbacks, callbacks);
+        queue.send(registration, new ReadRequest(3, 0), 1000, callbacks, callbacks);
+
+        assertEquals(4, queue.getQueuedRequests("urn:client").size());
+    }
+
+    @Test
+    public void supersede_queued_replace_write() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).build();
+        Callbacks<WriteResponse> callbacks1 = new Callbacks<>();
+        Callbacks<WriteResponse> callbacks2 = new Callbacks<>();
+        queue.send(registration, new WriteRequest(ContentFormat.TLV, 3, 0, 14, "+01"), 1000, callbacks1, callbacks1);
+        queue.send(registration, new WriteRequest(ContentFormat.TLV, 3, 0, 14, "+02"), 1000, callbacks2, callbacks2);
+        assertEquals(1, queue.getQueuedRequests("urn:client").size());
+
+        presenceService.setAwake(registration);
+        SentRequest sent = sender.next();
+        assertEquals(new WriteRequest(ContentFormat.TLV, 3, 0, 14, "+02"), sent.request);
+
+        WriteResponse response = WriteResponse.success();
+        sent.respond(response);
+        assertSame(response, callbacks1.nextResponse());
+        assertSame(response, callbacks2.nextResponse());
+    }
+
+    @Test
+    public void cancel_queued_requests_on_clear() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).build();
+        Callbacks<ReadResponse> callbacks = new Callbacks<>();
+        queue.send(registration, new ReadRequest(3, 0, 1), 1000, callbacks, callbacks);
+
+        queue.clear("urn:client");
+        assertEquals(0, queue.getQueuedRequests("urn:client").size());
+        assertEquals("Queued request cancelled", callbacks.nextError().getMessage());
+    }
+
+    @Test
+    public void send_directly_to_clients_without_queue_mode() throws InterruptedException {
+        queue = new DownlinkRequestQueue.Builder(presenceService, registrationService, sender).build();
+        Registration noQueueRegistration = new Registration.Builder("ID2", "urn:client2",
+                new IpPeer(new InetSocketAddress(Inet4Address.getLoopbackAddress(), 12355)),
+                uriHandler.createUri("coap://localhost:5683")).build();
+        Callbacks<ReadResponse> callbacks = new Callbacks<>();
+        queue.send(noQueueRegistration, new ReadRequest(3, 0, 1), 1000, callbacks, callbacks);
+
+        assertEquals(new ReadRequest(3, 0, 1), sender.next().request);
+        assertEquals(0, queue.getQueuedRequests("urn:client2").size());
+    }
+
+    private static class SentRequest {
+        private final DownlinkDeviceManagementRequest<?> request;
+        private final ResponseCallback<?> responseCallback;
+
+        SentRequest(DownlinkDeviceManagementRequest<?> request, ResponseCallback<?> responseCallback) {
+            this.request = request;
+            this.responseCallback = responseCallback;
+        }
+
+        @SuppressWarnings("unchecked")
+        void respond(LwM2mResponse response) {
+            ((ResponseCallback<LwM2mResponse>) responseCallback).onResponse(response);
+        }
+    }
+
+    private static class FakeSender implements DownlinkRequestSender {
+        private final BlockingQueue<SentRequest> sent = new LinkedBlockingQueue<>();
+
+        SentRequest next() throws InterruptedException {
+            return sent.poll(1, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public <T extends LwM2mResponse> T send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+                LowerLayerConfig lowerLayerConfig, long timeoutInMs) throws InterruptedException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends LwM2mResponse> void send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+                LowerLayerConfig lowerLayerConfig, long timeoutInMs, ResponseCallback<T> responseCallback,
+                ErrorCallback errorCallback) {
+            sent.add(new SentRequest(request, responseCallback));
+        }
+
+        @Override
+        public void cancelOngoingRequests(Registration registration) {
+        }
+    }
+
+    private static class Callbacks<T extends LwM2mResponse> implements ResponseCallback<T>, ErrorCallback {
+        private final BlockingQueue<T> responses = new ArrayBlockingQueue<>(10);
+        private final BlockingQueue<Exception> errors = new ArrayBlockingQueue<>(10);
+
+        T nextResponse() throws InterruptedException {
+            return responses.poll(1, TimeUnit.SECONDS);
+        }
+
+        Exception nextError() throws InterruptedException {
+            return errors.poll(1, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void onResponse(T response) {
+            responses.add(response);
+        }
+
+        @Override
+        public void onError(Exception e) {
+            errors.add(e);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.eclipse.leshan.server.queue;
 
 import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -24,9 +25,15 @@ import java.net.Inet4Address;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.leshan.core.peer.IpPeer;
 import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
 import org.eclipse.leshan.server.registration.Registration;
 import org.junit.jupiter.api.Test;
 
@@ -66,6 +73,92 @@ public class PresenceServiceTest {
         assertFalse(presenceService.isClientAwake(queueModeRegistration));
     }
 
+    @Test
+    public void testSleepingWhenAwakeTimeExpires() throws Exception {
+        // awake time is longer than a wheel turn (8 x 10ms)
+        PresenceServiceImpl wheelPresenceService = new PresenceServiceImpl(new StaticClientAwakeTimeProvider(200), 10,
+                8, null);
+        try {
+            CountDownLatch sleeping = new CountDownLatch(1);
+            wheelPresenceService.addListener(new SleepingListener(sleeping, null));
+
+            Registration registration = givenASimpleClientWithQueueMode();
+            long start = System.nanoTime();
+            wheelPresenceService.setAwake(registration);
+
+            assertTrue(sleeping.await(2, TimeUnit.SECONDS));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+            assertFalse(wheelPresenceService.isClientAwake(registration));
+        } finally {
+            wheelPresenceService.destroy();
+        }
+    }
+
+    @Test
+    public void testSetAwakeExtendsAwakeTime() throws Exception {
+        PresenceServiceImpl wheelPresenceService = new PresenceServiceImpl(new StaticClientAwakeTimeProvider(100), 10,
+                8, null);
+        try {
+            CountDownLatch sleeping = new CountDownLatch(1);
+            wheelPresenceService.addListener(new SleepingListener(sleeping, null));
+
+            Registration registration = givenASimpleClientWithQueueMode();
+            for (int i = 0; i < 6; i++) {
+                wheelPresenceService.setAwake(registration);
+                Thread.sleep(50);
+            }
+            assertTrue(wheelPresenceService.isClientAwake(registration));
+            assertEquals(1, sleeping.getCount());
+
+            assertTrue(sleeping.await(2, TimeUnit.SECONDS));
+            assertFalse(wheelPresenceService.isClientAwake(registration));
+        } finally {
+            wheelPresenceService.destroy();
+        }
+    }
+
+    @Test
+    public void testSleepingNotifiedWithListenerExecutor() throws Exception {
+        ExecutorService listenerExecutor = Executors.newSingleThreadExecutor(new NamedThreadFactory("Listener"));
+        PresenceServiceImpl wheelPresenceService = new PresenceServiceImpl(new StaticClientAwakeTimeProvider(50), 10, 8,
+                listenerExecutor);
+        try {
+            CountDownLatch sleeping = new CountDownLatch(1);
+            AtomicReference<String> threadName = new AtomicReference<>();
+            wheelPresenceService.addListener(new SleepingListener(sleeping, threadName));
+
+            wheelPresenceService.setAwake(givenASimpleClientWithQueueMode());
+
+            assertTrue(sleeping.await(2, TimeUnit.SECONDS));
+            assertTrue(threadName.get().startsWith("Listener"));
+        } finally {
+            wheelPresenceService.destroy();
+            listenerExecutor.shutdownNow();
+        }
+    }
+
+    private static class SleepingListener implements PresenceListener {
+        private final CountDownLatch sleeping;
+        private final AtomicReference<String> threadName;
+
+        SleepingListener(CountDownLatch sleeping, AtomicReference<String> threadName) {
+            this.sleeping = sleeping;
+            this.threadName = threadName;
+        }
+
+        @Override
+        public void onAwake(Registration registration) {
+        }
+
+        @Override
+        public void onSleeping(Registration registration) {
+            if (threadName != null) {
+                threadName.set(Thread.currentThread().getName());
+            }
+            sleeping.countDown();
+        }
+    }
+
     private Registration givenASimpleClient() throws UnknownHostException {
         Registration.Builder builder = new Registration.Builder("ID", "urn:client",
                 new IpPeer(new InetSocketAddress(Inet4Address.getLoopbackAddress(), 12354)),
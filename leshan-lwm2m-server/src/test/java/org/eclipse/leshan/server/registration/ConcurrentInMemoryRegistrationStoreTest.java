@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentInMemoryRegistrationStoreTest {
+
+    private final Link[] objectLinks = new Link[] { new Link("/3") };
+    private final EndpointUri endpointUri = uriHandler.createUri("coap://localhost:5683");
+
+    ConcurrentInMemoryRegistrationStore store;
+    InetAddress address;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        address = InetAddress.getLoopbackAddress();
+        store = new ConcurrentInMemoryRegistrationStore(Executors.newSingleThreadScheduledExecutor(), 1, 4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        store.destroy();
+    }
+
+    @Test
+    public void replacing_registration_cleans_previous_indexes_and_observations() {
+        Registration first = givenRegistration("reg1", "urn:endpoint", 5000);
+        store.addRegistration(first);
+        store.addObservation("reg1", givenObservation("reg1", new byte[] { 1 }, "/3/0/1"), false);
+
+        Registration second = givenRegistration("reg2", "urn:endpoint", 5001);
+        Deregistration deregistration = store.addRegistration(second);
+
+        assertSame(first, deregistration.getRegistration());
+        assertEquals(1, deregistration.getObservations().size());
+        assertNull(store.getRegistration("reg1"));
+        assertNull(store.getRegistrationByAdress(first.getSocketAddress()));
+        assertNull(store.getObservation(new ObservationIdentifier(endpointUri, new byte[] { 1 })));
+        assertSame(second, store.getRegistrationByEndpoint("urn:endpoint"));
+        assertSame(second, store.getRegistrationByAdress(second.getSocketAddress()));
+        assertSame(second, store.getRegistrationByIdentity(second.getClientTransportData().getIdentity()));
+    }
+
+    @Test
+    public void add_observation_replaces_observation_on_same_path() {
+        store.addRegistration(givenRegistration("reg1", "urn:endpoint", 5000));
+        Observation first = givenObservation("reg1", new byte[] { 1 }, "/3/0/1");
+        store.addObservation("reg1", first, false);
+
+        List<Observation> removed = new ArrayList<>(
+                store.addObservation("reg1", givenObservation("reg1", new byte[] { 2 }, "/3/0/1"), false));
+
+        assertEquals(1, removed.size());
+        assertSame(first, removed.get(0));
+        assertEquals(1, store.getObservations("reg1").size());
+    }
+
+    @Test
+    public void remove_registration_removes_observations() {
+        store.addRegistration(givenRegistration("reg1", "urn:endpoint", 5000));
+        store.addObservation("reg1", givenObservation("reg1", new byte[] { 1 }, "/3/0/1"), false);
+        store.addObservation("reg1", givenObservation("reg1", new byte[] { 2 }, "/3/0/2"), false);
+
+        Deregistration deregistration = store.removeRegistration("reg1");
+
+        assertEquals(2, deregistration.getObservations().size());
+        assertTrue(store.getObservations("reg1").isEmpty());
+        assertNull(store.getRegistrationByEndpoint("urn:endpoint"));
+        assertNull(store.removeRegistration("reg1"));
+    }
+
+    @Test
+    public void concurrent_modifications_keep_indexes_consistent() throws Exception {
+        final int nbThreads = 8;
+        final int nbEndpoints = 64;
+        final int nbIterations = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < nbThreads; t++) {
+                final int threadId = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < nbIterations; i++) {
+                        int epIndex = random.nextInt(nbEndpoints);
+                        String endpoint = "urn:endpoint" + epIndex;
+                        String regId = endpoint + "#" + threadId + "#" + i;
+                        switch (random.nextInt(4)) {
+                        case 0:
+                            store.addRegistration(givenRegistration(regId, endpoint, 10000 + epIndex));
+                            break;
+                        case 1:
+                            Registration reg = store.getRegistrationByEndpoint(endpoint);
+                            if (reg != null) {
+                                store.updateRegistration(
+                                        new RegistrationUpdate(reg.getId(), reg.getClientTransportData(), null, null,
+                                                null, null, null, null, null, null, null, null));
+                            }
+                            break;
+                        case 2:
+                            reg = store.getRegistrationByEndpoint(endpoint);
+                            if (reg != null) {
+                                try {
+                                    store.addObservation(reg.getId(), givenObservation(reg.getId(),
+                                            new byte[] { (byte) threadId, (byte) i, (byte) (i >> 8) }, "/3/0/1"),
+                                            false);
+                                } catch (IllegalStateException e) {
+                                    // registration removed concurrently
+                                }
+                            }
+                            break;
+                        default:
+                            reg = store.getRegistrationByEndpoint(endpoint);
+                            if (reg != null) {
+                                store.removeRegistration(reg.getId());
+                            }
+                            break;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // check that all indexes agree
+        Iterator<Registration> registrations = store.getAllRegistrations();
+        while (registrations.hasNext()) {
+            Registration reg = registrations.next();
+            assertSame(reg, store.getRegistration(reg.getId()));
+            assertSame(reg, store.getRegistrationByAdress(reg.getSocketAddress()));
+            assertSame(reg, store.getRegistrationByIdentity(reg.getClientTransportData().getIdentity()));
+            // only one observation by path is kept
+            assertTrue(store.getObservations(reg.getId()).size() <= 1);
+            for (Observation obs : store.getObservations(reg.getId())) {
+                assertEquals(reg.getId(), obs.getRegistrationId());
+            }
+        }
+    }
+
+    private Registration givenRegistration(String registrationId, String endpoint, int port) {
+        return new Registration.Builder(registrationId, endpoint, new IpPeer(new InetSocketAddress(address, port)),
+                endpointUri).lifeTimeInSec(10000L).objectLinks(objectLinks).build();
+    }
+
+    private Observation givenObservation(String registrationId, byte[] token, String path) {
+        return new SingleObservation(new ObservationIdentifier(endpointUri, token), registrationId, new LwM2mPath(path),
+                ContentFormat.TLV, null, null);
+    }
+}
@@ -20,6 +20,7 @@ package org.eclipse.leshan.server.registration;
 import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -27,6 +28,8 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.leshan.core.link.Link;
 import org.eclipse.leshan.core.peer.IpPeer;
@@ -98,6 +101,24 @@ public class InMemoryRegistrationStoreTest {
         assertTrue(reg.isAlive());
     }
 
+    @Test
+    public void expired_registration_is_removed_by_cleaner() throws InterruptedException {
+        InMemoryRegistrationStore cleanedStore = new InMemoryRegistrationStore(1);
+        try {
+            final CountDownLatch expired = new CountDownLatch(1);
+            cleanedStore.setExpirationListener((reg, observations) -> expired.countDown());
+            cleanedStore.start();
+
+            givenASimpleRegistration(0L);
+            cleanedStore.addRegistration(registration);
+
+            assertTrue(expired.await(5, TimeUnit.SECONDS));
+            assertNull(cleanedStore.getRegistrationByEndpoint(ep));
+        } finally {
+            cleanedStore.destroy();
+        }
+    }
+
     private void givenASimpleRegistration(Long lifetime) {
 
         Registration.Builder builder = new Registration.Builder(registrationId, ep,
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.junit.jupiter.api.Test;
+
+public class RegistrationExpirationIndexTest {
+
+    private final RegistrationExpirationIndex index = new RegistrationExpirationIndex();
+
+    @Test
+    public void only_expired_registrations_are_returned_in_expiration_order() {
+        index.add(givenRegistration("reg3", 3000, 30));
+        index.add(givenRegistration("reg1", 1000, 10));
+        index.add(givenRegistration("reg2", 2000, 10));
+
+        assertTrue(index.getExpiredRegistrationIds(10999).isEmpty());
+        assertEquals(Arrays.asList("reg1"), new ArrayList<>(index.getExpiredRegistrationIds(11000)));
+        assertEquals(Arrays.asList("reg1", "reg2"), new ArrayList<>(index.getExpiredRegistrationIds(15000)));
+        assertEquals(Arrays.asList("reg1", "reg2", "reg3"), new ArrayList<>(index.getExpiredRegistrationIds(33000)));
+    }
+
+    @Test
+    public void updated_registration_is_rescheduled() {
+        Registration registration = givenRegistration("reg1", 1000, 10);
+        index.add(registration);
+        index.update(registration, givenRegistration("reg1", 5000, 10));
+
+        assertEquals(1, index.size());
+        assertTrue(index.getExpiredRegistrationIds(11000).isEmpty());
+        assertEquals(Arrays.asList("reg1"), new ArrayList<>(index.getExpiredRegistrationIds(15000)));
+    }
+
+    @Test
+    public void removed_registration_is_not_returned() {
+        Registration registration = givenRegistration("reg1", 1000, 10);
+        index.add(registration);
+        index.remove(registration);
+
+        assertEquals(0, index.size());
+        assertTrue(index.getExpiredRegistrationIds(Long.MAX_VALUE).isEmpty());
+    }
+
+    private Registration givenRegistration(String registrationId, long lastUpdate, long lifetime) {
+        return new Registration.Builder(registrationId, "urn:" + registrationId,
+                new IpPeer(new InetSocketAddress(5683)), uriHandler.createUri("coap://localhost:5683"))
+                        .lastUpdate(new Date(lastUpdate)).lifeTimeInSec(lifetime).objectLinks(new Link[0]).build();
+    }
+}
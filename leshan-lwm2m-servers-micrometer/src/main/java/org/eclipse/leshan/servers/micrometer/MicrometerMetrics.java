@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.micrometer;
+
+import java.util.function.Supplier;
+
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.servers.metrics.Metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * A {@link Metrics} implementation based on a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Timers publish a percentile histogram, so latency percentiles can be computed by the monitoring system (e.g.
+ * Prometheus).
+ *
+ * <pre>
+ * LeshanServerBuilder builder = new LeshanServerBuilder();
+ * builder.setMetrics(new MicrometerMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)));
+ * </pre>
+ */
+public class MicrometerMetrics implements Metrics {
+
+    private final MeterRegistry registry;
+    private final Tags commonTags;
+
+    public MicrometerMetrics(MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    /**
+     * @param registry the registry where meters are registered.
+     * @param commonTags tags added to all meters (e.g. to identify a server instance in a cluster).
+     */
+    public MicrometerMetrics(MeterRegistry registry, Tags commonTags) {
+        Validate.notNull(registry);
+        Validate.notNull(commonTags);
+        this.registry = registry;
+        this.commonTags = commonTags;
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        io.micrometer.core.instrument.Counter counter = io.micrometer.core.instrument.Counter.builder(name)
+                .tags(tags(tags)).register(registry);
+        return new Counter() {
+            @Override
+            public void increment() {
+                counter.increment();
+            }
+
+            @Override
+            public void increment(long amount) {
+                counter.increment(amount);
+            }
+        };
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        io.micrometer.core.instrument.Timer timer = io.micrometer.core.instrument.Timer.builder(name) //
+                .tags(tags(tags)) //
+                .publishPercentileHistogram() //
+                .register(registry);
+        return timer::record;
+    }
+
+    @Override
+    public void gauge(String name, Supplier<Number> value, String... tags) {
+        // the server keeps no reference on gauges, so the registry must not hold them weakly
+        Gauge.builder(name, value).tags(tags(tags)).strongReference(true).register(registry);
+    }
+
+    private Tags tags(String... tags) {
+        return commonTags.and(tags);
+    }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.micrometer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.leshan.servers.metrics.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MicrometerMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerMetrics metrics;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerMetrics(registry, Tags.of("server", "s1"));
+    }
+
+    @Test
+    public void counter_is_registered_with_common_and_given_tags() {
+        Metrics.Counter counter = metrics.counter("leshan.test.counter", "type", "ReadRequest");
+        counter.increment();
+        counter.increment(2);
+
+        Counter meter = registry.find("leshan.test.counter").tags("server", "s1", "type", "ReadRequest").counter();
+        assertNotNull(meter);
+        assertEquals(3d, meter.count());
+    }
+
+    @Test
+    public void same_name_and_tags_share_one_meter() {
+        metrics.counter("leshan.test.counter", "type", "ReadRequest").increment();
+        metrics.counter("leshan.test.counter", "type", "ReadRequest").increment();
+        metrics.counter("leshan.test.counter", "type", "WriteRequest").increment();
+
+        assertEquals(2, registry.find("leshan.test.counter").counters().size());
+        assertEquals(2d, registry.get("leshan.test.counter").tag("type", "ReadRequest").counter().count());
+    }
+
+    @Test
+    public void timer_records_durations() {
+        metrics.timer("leshan.test.timer", "store", "redis").record(15, TimeUnit.MILLISECONDS);
+
+        Timer meter = registry.get("leshan.test.timer").tags("server", "s1", "store", "redis").timer();
+        assertEquals(1, meter.count());
+        assertEquals(15d, meter.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void gauge_samples_supplier_value() {
+        AtomicInteger value = new AtomicInteger(4);
+        metrics.gauge("leshan.test.gauge", value::get, "queue", "registrations");
+
+        Gauge meter = registry.get("leshan.test.gauge").tags("server", "s1", "queue", "registrations").gauge();
+        assertEquals(4d, meter.value());
+        value.set(7);
+        assertEquals(7d, meter.value());
+    }
+
+    @Test
+    public void default_constructor_adds_no_common_tags() {
+        new MicrometerMetrics(registry).counter("leshan.test.untagged").increment();
+
+        Counter meter = registry.get("leshan.test.untagged").counter();
+        assertEquals(0, meter.getId().getTags().size());
+    }
+}
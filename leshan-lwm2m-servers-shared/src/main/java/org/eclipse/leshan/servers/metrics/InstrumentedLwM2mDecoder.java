@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.metrics;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.servers.metrics.Metrics.Timer;
+
+/**
+ * A {@link LwM2mDecoder} which records decoding time by {@link ContentFormat} (see {@link MetricNames#CODEC_DECODE}).
+ */
+public class InstrumentedLwM2mDecoder implements LwM2mDecoder {
+
+    private final LwM2mDecoder decoder;
+    private final Metrics metrics;
+    private final ConcurrentHashMap<ContentFormat, Timer> timers = new ConcurrentHashMap<>();
+
+    public InstrumentedLwM2mDecoder(LwM2mDecoder decoder, Metrics metrics) {
+        this.decoder = decoder;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public LwM2mNode decode(byte[] content, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model)
+            throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decode(content, format, rootPath, path, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public <T extends LwM2mNode> T decode(byte[] content, ContentFormat format, String rootPath, LwM2mPath path,
+            LwM2mModel model, Class<T> nodeClass) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decode(content, format, rootPath, path, model, nodeClass);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public <T extends LwM2mNode> T decode(ByteBuffer content, ContentFormat format, String rootPath, LwM2mPath path,
+            LwM2mModel model, Class<T> nodeClass) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decode(content, format, rootPath, path, model, nodeClass);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public Map<LwM2mPath, LwM2mNode> decodeNodes(byte[] content, ContentFormat format, String rootPath,
+            List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decodeNodes(content, format, rootPath, paths, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public Map<LwM2mPath, LwM2mNode> decodeNodes(ByteBuffer content, ContentFormat format, String rootPath,
+            List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decodeNodes(content, format, rootPath, paths, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public List<TimestampedLwM2mNode> decodeTimestampedData(byte[] content, ContentFormat format, String rootPath,
+            LwM2mPath path, LwM2mModel model) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decodeTimestampedData(content, format, rootPath, path, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public TimestampedLwM2mNodes decodeTimestampedNodes(byte[] content, ContentFormat format, String rootPath,
+            List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decodeTimestampedNodes(content, format, rootPath, paths, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public TimestampedLwM2mNodes decodeTimestampedNodes(ByteBuffer content, ContentFormat format, String rootPath,
+            List<LwM2mPath> paths, LwM2mModel model) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decodeTimestampedNodes(content, format, rootPath, paths, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public List<LwM2mPath> decodePaths(byte[] content, ContentFormat format, String rootPath) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return decoder.decodePaths(content, format, rootPath);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public boolean isSupported(ContentFormat format) {
+        return decoder.isSupported(format);
+    }
+
+    @Override
+    public Set<ContentFormat> getSupportedContentFormat() {
+        return decoder.getSupportedContentFormat();
+    }
+
+    private void record(ContentFormat format, long start) {
+        if (format != null) {
+            timers.computeIfAbsent(format,
+                    f -> metrics.timer(MetricNames.CODEC_DECODE, MetricNames.TAG_FORMAT, f.getName()))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.metrics;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.servers.metrics.Metrics.Timer;
+
+/**
+ * A {@link LwM2mEncoder} which records encoding time by {@link ContentFormat} (see {@link MetricNames#CODEC_ENCODE}).
+ */
+public class InstrumentedLwM2mEncoder implements LwM2mEncoder {
+
+    private final LwM2mEncoder encoder;
+    private final Metrics metrics;
+    private final ConcurrentHashMap<ContentFormat, Timer> timers = new ConcurrentHashMap<>();
+
+    public InstrumentedLwM2mEncoder(LwM2mEncoder encoder, Metrics metrics) {
+        this.encoder = encoder;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public byte[] encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model)
+            throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return encoder.encode(node, format, rootPath, path, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public void encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model,
+            OutputStream out) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            encoder.encode(node, format, rootPath, path, model, out);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public void encode(LwM2mNode node, ContentFormat format, String rootPath, LwM2mPath path, LwM2mModel model,
+            ByteBuffer target) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            encoder.encode(node, format, rootPath, path, model, target);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public byte[] encodeNodes(Map<LwM2mPath, LwM2mNode> nodes, ContentFormat format, String rootPath, LwM2mModel model)
+            throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return encoder.encodeNodes(nodes, format, rootPath, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public void encodeNodes(Map<LwM2mPath, LwM2mNode> nodes, ContentFormat format, String rootPath, LwM2mModel model,
+            OutputStream out) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            encoder.encodeNodes(nodes, format, rootPath, model, out);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public byte[] encodeTimestampedData(List<TimestampedLwM2mNode> timestampedNodes, ContentFormat format,
+            String rootPath, LwM2mPath path, LwM2mModel model) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return encoder.encodeTimestampedData(timestampedNodes, format, rootPath, path, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public byte[] encodeTimestampedNodes(TimestampedLwM2mNodes data, ContentFormat format, String rootPath,
+            LwM2mModel model) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return encoder.encodeTimestampedNodes(data, format, rootPath, model);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public void encodeTimestampedNodes(TimestampedLwM2mNodes data, ContentFormat format, String rootPath,
+            LwM2mModel model, OutputStream out) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            encoder.encodeTimestampedNodes(data, format, rootPath, model, out);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public byte[] encodePaths(List<LwM2mPath> paths, ContentFormat format, String rootPath) throws CodecException {
+        long start = System.nanoTime();
+        try {
+            return encoder.encodePaths(paths, format, rootPath);
+        } finally {
+            record(format, start);
+        }
+    }
+
+    @Override
+    public boolean isSupported(ContentFormat format) {
+        return encoder.isSupported(format);
+    }
+
+    @Override
+    public Set<ContentFormat> getSupportedContentFormat() {
+        return encoder.getSupportedContentFormat();
+    }
+
+    private void record(ContentFormat format, long start) {
+        if (format != null) {
+            timers.computeIfAbsent(format,
+                    f -> metrics.timer(MetricNames.CODEC_ENCODE, MetricNames.TAG_FORMAT, f.getName()))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
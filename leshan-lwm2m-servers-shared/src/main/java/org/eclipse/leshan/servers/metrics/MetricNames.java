@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.metrics;
+
+/**
+ * Names and tags of meters recorded by Leshan servers using {@link Metrics}.
+ */
+public final class MetricNames {
+
+    private MetricNames() {
+    }
+
+    /* *************** Tags **************** */
+
+    public static final String TAG_EVENT = "event";
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_FORMAT = "format";
+    public static final String TAG_TYPE = "type";
+    public static final String TAG_STATE = "state";
+    public static final String TAG_RESULT = "result";
+
+    /* *************** Codec **************** */
+
+    /** Timer of payload encoding, tagged by {@link #TAG_FORMAT} (content format name). */
+    public static final String CODEC_ENCODE = "leshan.codec.encode";
+    /** Timer of payload decoding, tagged by {@link #TAG_FORMAT} (content format name). */
+    public static final String CODEC_DECODE = "leshan.codec.decode";
+
+    /* *************** LWM2M Server **************** */
+
+    /** Counter of registration events, tagged by {@link #TAG_EVENT} : registered, updated or deregistered. */
+    public static final String REGISTRATIONS = "leshan.registrations";
+    /** Timer of registration store operations, tagged by {@link #TAG_OPERATION} (store method name). */
+    public static final String REGISTRATION_STORE_OPERATIONS = "leshan.registration.store.operations";
+    /** Counter of received notifications, tagged by {@link #TAG_RESULT} : success or error. */
+    public static final String NOTIFICATIONS = "leshan.notifications";
+    /** Counter of received Send requests, tagged by {@link #TAG_RESULT} : success or error. */
+    public static final String SEND_REQUESTS = "leshan.send.requests";
+    /** Counter of timestamped records received with Send requests. */
+    public static final String SEND_RECORDS = "leshan.send.records";
+    /** Timer of downlink requests round trip, tagged by {@link #TAG_TYPE} (request class name). */
+    public static final String REQUESTS_RTT = "leshan.requests.rtt";
+    /** Counter of downlink requests which timed out, tagged by {@link #TAG_TYPE} (request class name). */
+    public static final String REQUESTS_TIMEOUTS = "leshan.requests.timeouts";
+    /** Gauge of downlink requests waiting for a response. */
+    public static final String REQUESTS_IN_FLIGHT = "leshan.requests.inflight";
+    /** Gauge of queue mode clients, tagged by {@link #TAG_STATE} : awake or sleeping. */
+    public static final String PRESENCE_CLIENTS = "leshan.presence.clients";
+    /** Counter of queue mode clients state changes, tagged by {@link #TAG_STATE} : awake or sleeping. */
+    public static final String PRESENCE_TRANSITIONS = "leshan.presence.transitions";
+
+    /* *************** LWM2M Bootstrap Server **************** */
+
+    /** Counter of bootstrap session events, tagged by {@link #TAG_EVENT} : initiated, unauthorized, ended or failed. */
+    public static final String BOOTSTRAP_SESSIONS = "leshan.bootstrap.sessions";
+    /** Timer of bootstrap session duration, tagged by {@link #TAG_RESULT} : success or failure. */
+    public static final String BOOTSTRAP_SESSION_DURATION = "leshan.bootstrap.session.duration";
+}
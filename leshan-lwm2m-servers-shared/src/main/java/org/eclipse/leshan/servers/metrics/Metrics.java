@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A Service Provider Interface used by LWM2M servers to record metrics, it should be implemented to bridge a metrics
+ * library.
+ * <p>
+ * Meters are identified by a name (see {@link MetricNames}) and a list of tags given as key/value pairs (e.g.
+ * <code>counter("leshan.requests.timeouts", "type", "ReadRequest")</code>). Meters are requested when the server is
+ * created or lazily the first time a tag value is seen, then kept by the server, so implementations do not need to
+ * cache them. Implementations must be thread-safe.
+ *
+ * @see NoopMetrics
+ */
+public interface Metrics {
+
+    /**
+     * @return a counter for the given name and tags.
+     */
+    Counter counter(String name, String... tags);
+
+    /**
+     * @return a timer for the given name and tags.
+     */
+    Timer timer(String name, String... tags);
+
+    /**
+     * Registers a gauge, a value which is sampled by the metrics library when needed.
+     */
+    void gauge(String name, Supplier<Number> value, String... tags);
+
+    /**
+     * A monotonically increasing count of events, rates (e.g. registrations per second) are computed from it.
+     */
+    interface Counter {
+
+        void increment();
+
+        void increment(long amount);
+    }
+
+    /**
+     * A distribution of durations (e.g. store operation latency or request round trip time).
+     */
+    interface Timer {
+
+        void record(long duration, TimeUnit unit);
+    }
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Metrics} which records nothing. This is the default one, servers do not add any instrumentation when it is
+ * used.
+ */
+public final class NoopMetrics implements Metrics {
+
+    public static final NoopMetrics INSTANCE = new NoopMetrics();
+
+    private static final Counter NOOP_COUNTER = new Counter() {
+        @Override
+        public void increment() {
+        }
+
+        @Override
+        public void increment(long amount) {
+        }
+    };
+
+    private static final Timer NOOP_TIMER = new Timer() {
+        @Override
+        public void record(long duration, TimeUnit unit) {
+        }
+    };
+
+    private NoopMetrics() {
+    }
+
+    /**
+     * @return <code>true</code> if the given metrics records nothing, meaning instrumentation can be skipped.
+     */
+    public static boolean isNoop(Metrics metrics) {
+        return metrics == null || metrics instanceof NoopMetrics;
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return NOOP_COUNTER;
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return NOOP_TIMER;
+    }
+
+    @Override
+    public void gauge(String name, Supplier<Number> value, String... tags) {
+    }
+}
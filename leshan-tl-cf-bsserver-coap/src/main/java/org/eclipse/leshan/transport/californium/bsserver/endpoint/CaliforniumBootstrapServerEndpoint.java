@@ -36,6 +36,8 @@ import org.eclipse.leshan.core.response.ErrorCallback;
 import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.core.response.ResponseCallback;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.ExecutorTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.transport.californium.AsyncRequestObserver;
 import org.eclipse.leshan.transport.californium.ExceptionTranslator;
 import org.eclipse.leshan.transport.californium.SyncRequestObserver;
@@ -45,7 +47,7 @@ public class CaliforniumBootstrapServerEndpoint implements LwM2mBootstrapServerE
 
     private final Protocol protocol;
     private final String description;
-    private final ScheduledExecutorService executor;
+    private final TimeoutScheduler timeoutScheduler;
     private final CoapEndpoint endpoint;
     private final BootstrapServerEndpointToolbox toolbox;
     private final BootstrapServerCoapMessageTranslator translator;
@@ -60,6 +62,14 @@ public class CaliforniumBootstrapServerEndpoint implements LwM2mBootstrapServerE
             BootstrapServerCoapMessageTranslator translator, BootstrapServerEndpointToolbox toolbox,
             IdentityHandler identityHandler, ExceptionTranslator exceptionTranslator,
             ScheduledExecutorService executor) {
+        this(protocol, description, endpoint, translator, toolbox, identityHandler, exceptionTranslator,
+                new ExecutorTimeoutScheduler(executor));
+    }
+
+    public CaliforniumBootstrapServerEndpoint(Protocol protocol, String description, CoapEndpoint endpoint,
+            BootstrapServerCoapMessageTranslator translator, BootstrapServerEndpointToolbox toolbox,
+            IdentityHandler identityHandler, ExceptionTranslator exceptionTranslator,
+            TimeoutScheduler timeoutScheduler) {
         this.protocol = protocol;
         this.description = description;
         this.translator = translator;
@@ -67,7 +77,7 @@ public class CaliforniumBootstrapServerEndpoint implements LwM2mBootstrapServerE
         this.endpoint = endpoint;
         this.identityHandler = identityHandler;
         this.exceptionTranslator = exceptionTranslator;
-        this.executor = executor;
+        this.timeoutScheduler = timeoutScheduler;
     }
 
     @Override
@@ -127,7 +137,7 @@ public class CaliforniumBootstrapServerEndpoint implements LwM2mBootstrapServerE
 
         // Add CoAP request callback
         MessageObserver obs = new AsyncRequestObserver<T>(coapRequest, responseCallback, errorCallback, timeoutInMs,
-                executor, exceptionTranslator) {
+                timeoutScheduler, exceptionTranslator) {
             @Override
             public T buildResponse(Response coapResponse) {
                 // Build LwM2m response
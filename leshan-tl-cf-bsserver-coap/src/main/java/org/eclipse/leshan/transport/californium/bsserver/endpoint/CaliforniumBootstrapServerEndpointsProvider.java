@@ -22,9 +22,6 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.californium.core.CoapServer;
@@ -37,11 +34,14 @@ import org.eclipse.leshan.bsserver.endpoint.BootstrapServerEndpointToolbox;
 import org.eclipse.leshan.bsserver.endpoint.LwM2mBootstrapServerEndpoint;
 import org.eclipse.leshan.bsserver.endpoint.LwM2mBootstrapServerEndpointsProvider;
 import org.eclipse.leshan.bsserver.request.BootstrapUplinkRequestReceiver;
+import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.endpoint.DefaultEndPointUriHandler;
 import org.eclipse.leshan.core.endpoint.EndPointUriHandler;
 import org.eclipse.leshan.core.endpoint.EndpointUri;
 import org.eclipse.leshan.core.endpoint.Protocol;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.timeout.HashedWheelTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.servers.security.ServerSecurityInfo;
 import org.eclipse.leshan.transport.californium.ExceptionTranslator;
 import org.eclipse.leshan.transport.californium.bsserver.endpoint.coap.CoapBootstrapServerProtocolProvider;
@@ -56,8 +56,8 @@ public class CaliforniumBootstrapServerEndpointsProvider implements LwM2mBootstr
 
     private final Logger LOG = LoggerFactory.getLogger(CaliforniumBootstrapServerEndpointsProvider.class);
 
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1,
-            new NamedThreadFactory("Leshan Async Request timeout"));
+    private final TimeoutScheduler timeoutScheduler;
+    private final boolean destroyTimeoutScheduler;
 
     private final Configuration serverConfig;
     private final List<CaliforniumBootstrapServerEndpointFactory> endpointsFactory;
@@ -70,6 +70,14 @@ public class CaliforniumBootstrapServerEndpointsProvider implements LwM2mBootstr
     }
 
     protected CaliforniumBootstrapServerEndpointsProvider(Builder builder) {
+        if (builder.timeoutScheduler != null) {
+            this.timeoutScheduler = builder.timeoutScheduler;
+            this.destroyTimeoutScheduler = false;
+        } else {
+            this.timeoutScheduler = new HashedWheelTimeoutScheduler.Builder()
+                    .setThreadFactory(new NamedThreadFactory("Leshan Async Request timeout")).build();
+            this.destroyTimeoutScheduler = true;
+        }
         this.serverConfig = builder.serverConfiguration;
         this.endpointsFactory = builder.endpointsFactory;
         this.endpoints = new ArrayList<CaliforniumBootstrapServerEndpoint>();
@@ -124,7 +132,7 @@ public class CaliforniumBootstrapServerEndpointsProvider implements LwM2mBootstr
                 // create LWM2M endpoint
                 CaliforniumBootstrapServerEndpoint lwm2mEndpoint = new CaliforniumBootstrapServerEndpoint(
                         endpointFactory.getProtocol(), endpointFactory.getEndpointDescription(), coapEndpoint,
-                        messagetranslator, toolbox, identityHandler, exceptionTranslator, executor);
+                        messagetranslator, toolbox, identityHandler, exceptionTranslator, timeoutScheduler);
                 endpoints.add(lwm2mEndpoint);
 
                 // add Californium endpoint to coap server
@@ -152,11 +160,8 @@ public class CaliforniumBootstrapServerEndpointsProvider implements LwM2mBootstr
 
     @Override
     public void destroy() {
-        executor.shutdownNow();
-        try {
-            executor.awaitTermination(5, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            LOG.warn("Destroying RequestSender was interrupted.", e);
+        if (destroyTimeoutScheduler && timeoutScheduler instanceof Destroyable) {
+            ((Destroyable) timeoutScheduler).destroy();
         }
         coapServer.destroy();
     }
@@ -167,6 +172,7 @@ public class CaliforniumBootstrapServerEndpointsProvider implements LwM2mBootstr
         private Configuration serverConfiguration;
         private final List<CaliforniumBootstrapServerEndpointFactory> endpointsFactory;
         private EndPointUriHandler uriHandler;
+        private TimeoutScheduler timeoutScheduler;
 
         public Builder(BootstrapServerProtocolProvider... protocolProviders) {
             this(new DefaultEndPointUriHandler(), protocolProviders);
@@ -296,6 +302,18 @@ public class CaliforniumBootstrapServerEndpointsProvider implements LwM2mBootstr
             return this;
         }
 
+        /**
+         * Set the {@link TimeoutScheduler} used to raise response timeout of requests sent by endpoints of this
+         * provider. A same scheduler can be shared by several endpoints providers (of any transport), it will not be
+         * destroyed by this provider.
+         * <p>
+         * By default, a {@link HashedWheelTimeoutScheduler} with default resolution is created for this provider.
+         */
+        public Builder setTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+            this.timeoutScheduler = timeoutScheduler;
+            return this;
+        }
+
         protected Builder generateDefaultValue() {
             if (serverConfiguration == null) {
                 serverConfiguration = createDefaultConfiguration();
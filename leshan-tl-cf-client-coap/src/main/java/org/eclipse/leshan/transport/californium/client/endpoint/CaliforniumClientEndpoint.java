@@ -34,6 +34,8 @@ import org.eclipse.leshan.core.response.ErrorCallback;
 import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.core.response.ResponseCallback;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.ExecutorTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.transport.californium.AsyncRequestObserver;
 import org.eclipse.leshan.transport.californium.ExceptionTranslator;
 import org.eclipse.leshan.transport.californium.SyncRequestObserver;
@@ -48,7 +50,7 @@ public class CaliforniumClientEndpoint implements LwM2mClientEndpoint {
 
     private final Protocol protocol;
     private final String description;
-    private final ScheduledExecutorService executor;
+    private final TimeoutScheduler timeoutScheduler;
     private final CoapEndpoint endpoint;
     private final ClientEndpointToolbox toolbox;
     private final ClientCoapMessageTranslator translator;
@@ -61,6 +63,14 @@ public class CaliforniumClientEndpoint implements LwM2mClientEndpoint {
             ClientCoapMessageTranslator translator, ClientEndpointToolbox toolbox, IdentityHandler identityHandler,
             CaliforniumConnectionController connectionController, LwM2mModel model,
             ExceptionTranslator exceptionTranslator, ScheduledExecutorService executor) {
+        this(protocol, description, endpoint, translator, toolbox, identityHandler, connectionController, model,
+                exceptionTranslator, new ExecutorTimeoutScheduler(executor));
+    }
+
+    public CaliforniumClientEndpoint(Protocol protocol, String description, CoapEndpoint endpoint,
+            ClientCoapMessageTranslator translator, ClientEndpointToolbox toolbox, IdentityHandler identityHandler,
+            CaliforniumConnectionController connectionController, LwM2mModel model,
+            ExceptionTranslator exceptionTranslator, TimeoutScheduler timeoutScheduler) {
         this.protocol = protocol;
         this.description = description;
         this.translator = translator;
@@ -70,7 +80,7 @@ public class CaliforniumClientEndpoint implements LwM2mClientEndpoint {
         this.connectionController = connectionController;
         this.model = model;
         this.exceptionTranslator = exceptionTranslator;
-        this.executor = executor;
+        this.timeoutScheduler = timeoutScheduler;
     }
 
     @Override
@@ -149,7 +159,7 @@ public class CaliforniumClientEndpoint implements LwM2mClientEndpoint {
 
         // Add CoAP request callback
         MessageObserver obs = new AsyncRequestObserver<T>(coapRequest, responseCallback, errorCallback, timeoutInMs,
-                executor, exceptionTranslator) {
+                timeoutScheduler, exceptionTranslator) {
             @Override
             public T buildResponse(Response coapResponse) {
                 // Build LwM2m response
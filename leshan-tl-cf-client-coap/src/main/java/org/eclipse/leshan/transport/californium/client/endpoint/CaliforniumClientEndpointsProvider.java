@@ -25,9 +25,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.californium.core.CoapServer;
 import org.eclipse.californium.core.network.CoapEndpoint;
@@ -36,6 +33,7 @@ import org.eclipse.californium.core.network.Exchange;
 import org.eclipse.californium.core.server.resources.Resource;
 import org.eclipse.californium.elements.config.Configuration;
 import org.eclipse.californium.elements.config.Configuration.ModuleDefinitionsProvider;
+import org.eclipse.californium.elements.util.ProtocolScheduledExecutorService;
 import org.eclipse.leshan.client.endpoint.ClientEndpointToolbox;
 import org.eclipse.leshan.client.endpoint.LwM2mClientEndpoint;
 import org.eclipse.leshan.client.endpoint.LwM2mClientEndpointsProvider;
@@ -44,6 +42,7 @@ import org.eclipse.leshan.client.request.DownlinkRequestReceiver;
 import org.eclipse.leshan.client.resource.LwM2mObjectTree;
 import org.eclipse.leshan.client.servers.LwM2mServer;
 import org.eclipse.leshan.client.servers.ServerInfo;
+import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.SecurityMode;
 import org.eclipse.leshan.core.endpoint.Protocol;
 import org.eclipse.leshan.core.peer.IpPeer;
@@ -52,6 +51,8 @@ import org.eclipse.leshan.core.peer.PskIdentity;
 import org.eclipse.leshan.core.peer.RpkIdentity;
 import org.eclipse.leshan.core.peer.X509Identity;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.timeout.HashedWheelTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.transport.californium.client.endpoint.coap.CoapClientProtocolProvider;
 import org.eclipse.leshan.transport.californium.identity.IdentityHandler;
 import org.eclipse.leshan.transport.californium.identity.IdentityHandlerProvider;
@@ -64,8 +65,8 @@ public class CaliforniumClientEndpointsProvider implements LwM2mClientEndpointsP
 
     private final Logger LOG = LoggerFactory.getLogger(CaliforniumClientEndpointsProvider.class);
 
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1,
-            new NamedThreadFactory("Leshan Async Request timeout"));
+    private final TimeoutScheduler timeoutScheduler;
+    private final boolean destroyTimeoutScheduler;
 
     protected boolean started = false;
 
@@ -77,6 +78,7 @@ public class CaliforniumClientEndpointsProvider implements LwM2mClientEndpointsP
     private LwM2mObjectTree objectTree;
 
     private final InetAddress clientAddress;
+    private final ProtocolScheduledExecutorService sharedExecutor;
 
     // we support only 1 endpoint at a time by
     private LwM2mServer currentServer;
@@ -88,9 +90,18 @@ public class CaliforniumClientEndpointsProvider implements LwM2mClientEndpointsP
     }
 
     protected CaliforniumClientEndpointsProvider(Builder builder) {
+        if (builder.timeoutScheduler != null) {
+            this.timeoutScheduler = builder.timeoutScheduler;
+            this.destroyTimeoutScheduler = false;
+        } else {
+            this.timeoutScheduler = new HashedWheelTimeoutScheduler.Builder()
+                    .setThreadFactory(new NamedThreadFactory("Leshan Async Request timeout")).build();
+            this.destroyTimeoutScheduler = true;
+        }
         this.serverConfig = builder.configuration;
         this.endpointsFactory = builder.endpointsFactory;
         this.clientAddress = builder.clientAddress;
+        this.sharedExecutor = builder.sharedExecutor;
 
         // create identity handler provider
         identityHandlerProvider = new IdentityHandlerProvider();
@@ -158,6 +169,9 @@ public class CaliforniumClientEndpointsProvider implements LwM2mClientEndpointsP
                         requestReceiver, toolbox, objectTree);
             }
         };
+        if (sharedExecutor != null) {
+            coapServer.setExecutor(sharedExecutor, true);
+        }
 
         // create resources
         List<Resource> resources = messagetranslator.createResources(coapServer, identityHandlerProvider,
@@ -186,7 +200,7 @@ public class CaliforniumClientEndpointsProvider implements LwM2mClientEndpointsP
                     endpoint = new CaliforniumClientEndpoint(endpointFactory.getProtocol(),
                             endpointFactory.getEndpointDescription(), coapEndpoint, messagetranslator, toolbox,
                             identityHandler, endpointFactory.createConnectionController(), objectTree.getModel(),
-                            endpointFactory.createExceptionTranslator(), executor);
+                            endpointFactory.createExceptionTranslator(), timeoutScheduler);
 
                     // add Californium endpoint to coap server
                     coapServer.addEndpoint(coapEndpoint);
@@ -304,11 +318,8 @@ public class CaliforniumClientEndpointsProvider implements LwM2mClientEndpointsP
         if (started)
             started = false;
 
-        executor.shutdownNow();
-        try {
-            executor.awaitTermination(5, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            LOG.warn("Destroying RequestSender was interrupted.", e);
+        if (destroyTimeoutScheduler && timeoutScheduler instanceof Destroyable) {
+            ((Destroyable) timeoutScheduler).destroy();
         }
 
         coapServer.destroy();
@@ -320,6 +331,8 @@ public class CaliforniumClientEndpointsProvider implements LwM2mClientEndpointsP
         private Configuration configuration;
         private final List<CaliforniumClientEndpointFactory> endpointsFactory;
         private InetAddress clientAddress;
+        private TimeoutScheduler timeoutScheduler;
+        private ProtocolScheduledExecutorService sharedExecutor;
 
         public Builder(ClientProtocolProvider... protocolProviders) {
             // TODO TL : handle duplicate ?
@@ -368,6 +381,29 @@ public class CaliforniumClientEndpointsProvider implements LwM2mClientEndpointsP
             return this;
         }
 
+        /**
+         * Set the {@link TimeoutScheduler} used to raise response timeout of requests sent by endpoints of this
+         * provider. A same scheduler can be shared by several endpoints providers (of any transport), it will not be
+         * destroyed by this provider.
+         * <p>
+         * By default, a {@link HashedWheelTimeoutScheduler} with default resolution is created for this provider.
+         */
+        public Builder setTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+            this.timeoutScheduler = timeoutScheduler;
+            return this;
+        }
+
+        /**
+         * Set an executor used by the {@link CoapServer} of this provider and its endpoints instead of creating their
+         * own thread pools. This is generally used to simulate a lot of clients in the same JVM.
+         * <p>
+         * Executor will not be shutdown automatically when the provider is destroyed, this should be done manually.
+         */
+        public Builder setSharedExecutor(ProtocolScheduledExecutorService executor) {
+            this.sharedExecutor = executor;
+            return this;
+        }
+
         protected Builder generateDefaultValue() {
             if (configuration == null) {
                 configuration = createDefaultConfiguration();
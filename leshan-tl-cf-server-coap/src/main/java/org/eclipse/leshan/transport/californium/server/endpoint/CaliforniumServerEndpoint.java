@@ -15,11 +15,7 @@
  *******************************************************************************/
 package org.eclipse.leshan.transport.californium.server.endpoint;
 
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.californium.core.coap.MessageObserver;
 import org.eclipse.californium.core.coap.MessageObserverAdapter;
@@ -37,7 +33,10 @@ import org.eclipse.leshan.core.response.ObserveCompositeResponse;
 import org.eclipse.leshan.core.response.ObserveResponse;
 import org.eclipse.leshan.core.response.ResponseCallback;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.ExecutorTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
+import org.eclipse.leshan.server.endpoint.OngoingRequestIndex;
 import org.eclipse.leshan.server.endpoint.ServerEndpointToolbox;
 import org.eclipse.leshan.server.observation.LwM2mNotificationReceiver;
 import org.eclipse.leshan.server.profile.ClientProfile;
@@ -51,7 +50,7 @@ public class CaliforniumServerEndpoint implements LwM2mServerEndpoint {
 
     private final Protocol protocol;
     private final String description;
-    private final ScheduledExecutorService executor;
+    private final TimeoutScheduler timeoutScheduler;
     private final CoapEndpoint endpoint;
     private final ServerEndpointToolbox toolbox;
     private final ServerCoapMessageTranslator translator;
@@ -59,14 +58,22 @@ public class CaliforniumServerEndpoint implements LwM2mServerEndpoint {
     private final IdentityHandler identityHandler;
     private final ExceptionTranslator exceptionTranslator;
 
-    // A map which contains all ongoing CoAP requests
+    // An index which contains all ongoing CoAP requests by session
     // This is used to be able to cancel request
-    private final ConcurrentNavigableMap<String/* sessionId#requestId */, Request /* ongoing coap Request */> ongoingRequests = new ConcurrentSkipListMap<>();
+    private final OngoingRequestIndex<Request> ongoingRequests = new OngoingRequestIndex<>();
 
     public CaliforniumServerEndpoint(Protocol protocol, String description, CoapEndpoint endpoint,
             ServerCoapMessageTranslator translator, ServerEndpointToolbox toolbox,
             LwM2mNotificationReceiver notificationReceiver, IdentityHandler identityHandler,
             ExceptionTranslator exceptionTranslator, ScheduledExecutorService executor) {
+        this(protocol, description, endpoint, translator, toolbox, notificationReceiver, identityHandler,
+                exceptionTranslator, new ExecutorTimeoutScheduler(executor));
+    }
+
+    public CaliforniumServerEndpoint(Protocol protocol, String description, CoapEndpoint endpoint,
+            ServerCoapMessageTranslator translator, ServerEndpointToolbox toolbox,
+            LwM2mNotificationReceiver notificationReceiver, IdentityHandler identityHandler,
+            ExceptionTranslator exceptionTranslator, TimeoutScheduler timeoutScheduler) {
         this.protocol = protocol;
         this.description = description;
         this.translator = translator;
@@ -75,7 +82,7 @@ public class CaliforniumServerEndpoint implements LwM2mServerEndpoint {
         this.notificationReceiver = notificationReceiver;
         this.identityHandler = identityHandler;
         this.exceptionTranslator = exceptionTranslator;
-        this.executor = executor;
+        this.timeoutScheduler = timeoutScheduler;
     }
 
     @Override
@@ -160,7 +167,7 @@ public class CaliforniumServerEndpoint implements LwM2mServerEndpoint {
 
         // Add CoAP request callback
         MessageObserver obs = new AsyncRequestObserver<T>(coapRequest, responseCallback, errorCallback, timeoutInMs,
-                executor, exceptionTranslator) {
+                timeoutScheduler, exceptionTranslator) {
             @Override
             public T buildResponse(Response coapResponse) {
                 // Build LwM2m response
@@ -205,55 +212,25 @@ public class CaliforniumServerEndpoint implements LwM2mServerEndpoint {
     @Override
     public void cancelRequests(String sessionID) {
         Validate.notNull(sessionID);
-        SortedMap<String, Request> requests = ongoingRequests.subMap(getFloorKey(sessionID), getCeilingKey(sessionID));
-        for (Request coapRequest : requests.values()) {
+        for (Request coapRequest : ongoingRequests.removeAll(sessionID)) {
             coapRequest.cancel();
         }
-        requests.clear();
-    }
-
-    private static String getFloorKey(String sessionID) {
-        // The key format is sessionid#long, So we need a key which is always before this pattern (in natural order).
-        return sessionID + '#';
-    }
-
-    private static String getCeilingKey(String sessionID) {
-        // The key format is sessionid#long, So we need a key which is always after this pattern (in natural order).
-        return sessionID + "#A";
-    }
-
-    private static String getKey(String sessionID, long requestId) {
-        return sessionID + '#' + requestId;
     }
 
     private void addOngoingRequest(String sessionID, Request coapRequest) {
         if (sessionID != null) {
-            CleanerMessageObserver observer = new CleanerMessageObserver(sessionID, coapRequest);
-            coapRequest.addMessageObserver(observer);
-            ongoingRequests.put(observer.getRequestKey(), coapRequest);
+            OngoingRequestIndex.Entry<Request> entry = ongoingRequests.add(sessionID, coapRequest);
+            coapRequest.addMessageObserver(new CleanerMessageObserver(entry));
         }
     }
 
-    private void removeOngoingRequest(String key, Request coapRequest) {
-        Validate.notNull(key);
-        ongoingRequests.remove(key, coapRequest);
-    }
-
-    private final AtomicLong idGenerator = new AtomicLong(0l);
-
     private class CleanerMessageObserver extends MessageObserverAdapter {
 
-        private final String requestKey;
-        private final Request coapRequest;
+        private final OngoingRequestIndex.Entry<Request> entry;
 
-        public CleanerMessageObserver(String sessionID, Request coapRequest) {
+        public CleanerMessageObserver(OngoingRequestIndex.Entry<Request> entry) {
             super();
-            requestKey = getKey(sessionID, idGenerator.incrementAndGet());
-            this.coapRequest = coapRequest;
-        }
-
-        public String getRequestKey() {
-            return requestKey;
+            this.entry = entry;
         }
 
         @Override
@@ -262,7 +239,7 @@ public class CaliforniumServerEndpoint implements LwM2mServerEndpoint {
 
         @Override
         public void onResponse(Response response) {
-            removeOngoingRequest(requestKey, coapRequest);
+            ongoingRequests.remove(entry);
         }
 
         @Override
@@ -271,12 +248,12 @@ public class CaliforniumServerEndpoint implements LwM2mServerEndpoint {
 
         @Override
         protected void failed() {
-            removeOngoingRequest(requestKey, coapRequest);
+            ongoingRequests.remove(entry);
         }
 
         @Override
         public void onCancel() {
-            removeOngoingRequest(requestKey, coapRequest);
+            ongoingRequests.remove(entry);
         }
     }
 }
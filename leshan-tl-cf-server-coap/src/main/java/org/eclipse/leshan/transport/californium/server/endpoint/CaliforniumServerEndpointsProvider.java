@@ -22,9 +22,6 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.californium.core.CoapServer;
@@ -35,6 +32,7 @@ import org.eclipse.californium.core.observe.NotificationListener;
 import org.eclipse.californium.core.server.resources.Resource;
 import org.eclipse.californium.elements.config.Configuration;
 import org.eclipse.californium.elements.config.Configuration.ModuleDefinitionsProvider;
+import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.endpoint.DefaultEndPointUriHandler;
 import org.eclipse.leshan.core.endpoint.EndPointUriHandler;
 import org.eclipse.leshan.core.endpoint.EndpointUri;
@@ -48,6 +46,8 @@ import org.eclipse.leshan.core.response.AbstractLwM2mResponse;
 import org.eclipse.leshan.core.response.ObserveCompositeResponse;
 import org.eclipse.leshan.core.response.ObserveResponse;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.timeout.HashedWheelTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.server.LeshanServer;
 import org.eclipse.leshan.server.endpoint.EffectiveEndpointUriProvider;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
@@ -72,8 +72,8 @@ public class CaliforniumServerEndpointsProvider implements LwM2mServerEndpointsP
 
     private final Logger LOG = LoggerFactory.getLogger(CaliforniumServerEndpointsProvider.class);
 
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1,
-            new NamedThreadFactory("Leshan Async Request timeout"));
+    private final TimeoutScheduler timeoutScheduler;
+    private final boolean destroyTimeoutScheduler;
 
     private final Configuration serverConfig;
     private final List<CaliforniumServerEndpointFactory> endpointsFactory;
@@ -86,6 +86,14 @@ public class CaliforniumServerEndpointsProvider implements LwM2mServerEndpointsP
     }
 
     protected CaliforniumServerEndpointsProvider(Builder builder) {
+        if (builder.timeoutScheduler != null) {
+            this.timeoutScheduler = builder.timeoutScheduler;
+            this.destroyTimeoutScheduler = false;
+        } else {
+            this.timeoutScheduler = new HashedWheelTimeoutScheduler.Builder()
+                    .setThreadFactory(new NamedThreadFactory("Leshan Async Request timeout")).build();
+            this.destroyTimeoutScheduler = true;
+        }
         this.serverConfig = builder.serverConfiguration;
         this.endpointsFactory = builder.endpointsFactory;
         this.endpoints = new ArrayList<CaliforniumServerEndpoint>();
@@ -145,7 +153,7 @@ public class CaliforniumServerEndpointsProvider implements LwM2mServerEndpointsP
                 // create LWM2M endpoint
                 CaliforniumServerEndpoint lwm2mEndpoint = new CaliforniumServerEndpoint(endpointFactory.getProtocol(),
                         endpointFactory.getEndpointDescription(), coapEndpoint, messagetranslator, toolbox,
-                        notificatonReceiver, identityHandler, exceptionTranslator, executor);
+                        notificatonReceiver, identityHandler, exceptionTranslator, timeoutScheduler);
                 uriProvider.setEndpoint(lwm2mEndpoint);
                 endpoints.add(lwm2mEndpoint);
 
@@ -218,11 +226,8 @@ public class CaliforniumServerEndpointsProvider implements LwM2mServerEndpointsP
 
     @Override
     public void destroy() {
-        executor.shutdownNow();
-        try {
-            executor.awaitTermination(5, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            LOG.warn("Destroying RequestSender was interrupted.", e);
+        if (destroyTimeoutScheduler && timeoutScheduler instanceof Destroyable) {
+            ((Destroyable) timeoutScheduler).destroy();
         }
         coapServer.destroy();
     }
@@ -233,6 +238,7 @@ public class CaliforniumServerEndpointsProvider implements LwM2mServerEndpointsP
         private Configuration serverConfiguration;
         private final List<CaliforniumServerEndpointFactory> endpointsFactory;
         private final EndPointUriHandler uriHandler;
+        private TimeoutScheduler timeoutScheduler;
 
         public Builder(ServerProtocolProvider... protocolProviders) {
             this(new DefaultEndPointUriHandler(), protocolProviders);
@@ -358,6 +364,18 @@ public class CaliforniumServerEndpointsProvider implements LwM2mServerEndpointsP
             return this;
         }
 
+        /**
+         * Set the {@link TimeoutScheduler} used to raise response timeout of requests sent by endpoints of this
+         * provider. A same scheduler can be shared by several endpoints providers (of any transport), it will not be
+         * destroyed by this provider.
+         * <p>
+         * By default, a {@link HashedWheelTimeoutScheduler} with default resolution is created for this provider.
+         */
+        public Builder setTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+            this.timeoutScheduler = timeoutScheduler;
+            return this;
+        }
+
         protected Builder generateDefaultValue() {
             if (serverConfiguration == null) {
                 serverConfiguration = createDefaultConfiguration();
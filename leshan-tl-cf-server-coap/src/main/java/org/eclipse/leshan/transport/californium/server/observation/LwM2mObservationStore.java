@@ -17,6 +17,9 @@ package org.eclipse.leshan.transport.californium.server.observation;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.californium.core.coap.Token;
@@ -29,19 +32,43 @@ import org.eclipse.leshan.server.observation.LwM2mNotificationReceiver;
 import org.eclipse.leshan.server.registration.RegistrationStore;
 import org.eclipse.leshan.transport.californium.ObserveUtil;
 
+/**
+ * An {@link ObservationStore} which stores Californium {@link Observation} in the {@link RegistrationStore}.
+ * <p>
+ * Deserialized Californium {@link Observation} are cached by token, so notifications of an already known observation do
+ * not need to parse it again. The {@link RegistrationStore} stays the reference : a cached observation is only used if
+ * the observation is still in the {@link RegistrationStore} with the same serialized form.
+ */
 public class LwM2mObservationStore implements ObservationStore {
 
+    /**
+     * Default maximum number of cached Californium {@link Observation}.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 65536;
+
     private final RegistrationStore registrationStore;
     private final LwM2mNotificationReceiver notificationListener;
     private final ObservationSerDes observationSerDes;
     private final EffectiveEndpointUriProvider uriProvider;
 
+    private final ConcurrentMap<Token, CachedObservation> cache = new ConcurrentHashMap<>();
+    private final int maxCacheSize;
+
     public LwM2mObservationStore(EffectiveEndpointUriProvider uriProvider, RegistrationStore registrationStore,
             LwM2mNotificationReceiver notificationListener, ObservationSerDes observationSerDes) {
+        this(uriProvider, registrationStore, notificationListener, observationSerDes, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param maxCacheSize maximum number of cached Californium {@link Observation}, <code>0</code> disables the cache.
+     */
+    public LwM2mObservationStore(EffectiveEndpointUriProvider uriProvider, RegistrationStore registrationStore,
+            LwM2mNotificationReceiver notificationListener, ObservationSerDes observationSerDes, int maxCacheSize) {
         this.registrationStore = registrationStore;
         this.notificationListener = notificationListener;
         this.observationSerDes = observationSerDes;
         this.uriProvider = uriProvider;
+        this.maxCacheSize = maxCacheSize;
     }
 
     @Override
@@ -49,6 +76,8 @@ public class LwM2mObservationStore implements ObservationStore {
         org.eclipse.leshan.core.observation.Observation lwm2mObservation = buildLwM2mObservation(obs);
         Collection<org.eclipse.leshan.core.observation.Observation> removed = registrationStore
                 .addObservation(lwm2mObservation.getRegistrationId(), lwm2mObservation, true);
+        // observation may not have been added, cache will be refreshed on next get
+        cache.remove(token);
 
         Observation previousObservation = null;
         if (removed != null && !removed.isEmpty()) {
@@ -69,7 +98,8 @@ public class LwM2mObservationStore implements ObservationStore {
     public Observation put(Token token, Observation obs) {
         org.eclipse.leshan.core.observation.Observation lwm2mObservation = buildLwM2mObservation(obs);
         Collection<org.eclipse.leshan.core.observation.Observation> removed = registrationStore
-                .addObservation(lwm2mObservation.getRegistrationId(), buildLwM2mObservation(obs), false);
+                .addObservation(lwm2mObservation.getRegistrationId(), lwm2mObservation, false);
+        cache(token, ObserveUtil.extractSerializedObservation(lwm2mObservation), obs);
 
         Observation previousObservation = null;
         if (removed != null && !removed.isEmpty()) {
@@ -101,6 +131,7 @@ public class LwM2mObservationStore implements ObservationStore {
                 notificationListener.cancelled(removedObservation);
             }
         }
+        cache.remove(token);
     }
 
     @Override
@@ -108,10 +139,24 @@ public class LwM2mObservationStore implements ObservationStore {
         org.eclipse.leshan.core.observation.Observation observation = registrationStore
                 .getObservation(new ObservationIdentifier(uriProvider.getEndpointUri(), token.getBytes()));
         if (observation == null) {
+            cache.remove(token);
             return null;
-        } else {
-            return buildCoapObservation(observation);
         }
+
+        String serializedObservation = ObserveUtil.extractSerializedObservation(observation);
+        if (serializedObservation == null) {
+            return null;
+        }
+
+        // use cached observation if it is still the one in registration store
+        CachedObservation cached = cache.get(token);
+        if (cached != null && cached.serializedObservation.equals(serializedObservation)) {
+            return cached.observation;
+        }
+
+        Observation coapObservation = observationSerDes.deserialize(serializedObservation);
+        cache(token, serializedObservation, coapObservation);
+        return coapObservation;
     }
 
     @Override
@@ -134,6 +179,23 @@ public class LwM2mObservationStore implements ObservationStore {
         // Internal RegistrationStore is stopped by Leshan.
     }
 
+    private void cache(Token token, String serializedObservation, Observation observation) {
+        if (maxCacheSize <= 0 || serializedObservation == null) {
+            return;
+        }
+        cache.put(token, new CachedObservation(serializedObservation, observation));
+
+        // evict arbitrary entries when cache is full, they will be deserialized again if needed
+        if (cache.size() > maxCacheSize) {
+            Iterator<Token> tokens = cache.keySet().iterator();
+            while (cache.size() > maxCacheSize && tokens.hasNext()) {
+                if (!tokens.next().equals(token)) {
+                    tokens.remove();
+                }
+            }
+        }
+    }
+
     private org.eclipse.leshan.core.observation.Observation buildLwM2mObservation(Observation observation) {
         String obs = observationSerDes.serialize(observation);
         return ObserveUtil.createLwM2mObservation(uriProvider.getEndpointUri(), observation, obs);
@@ -146,4 +208,14 @@ public class LwM2mObservationStore implements ObservationStore {
 
         return observationSerDes.deserialize(serializedObservation);
     }
+
+    private static class CachedObservation {
+        private final String serializedObservation;
+        private final Observation observation;
+
+        CachedObservation(String serializedObservation, Observation observation) {
+            this.serializedObservation = serializedObservation;
+            this.observation = observation;
+        }
+    }
 }
@@ -18,7 +18,9 @@ package org.eclipse.leshan.transport.californium.server.observation;
 import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.InetAddress;
@@ -75,6 +77,8 @@ public class LwM2mObservationStoreTest {
     private final EndpointUri endpointUri = uriHandler.createUri("coap://localhost:5683");
 
     RegistrationStore store;
+    EffectiveEndpointUriProvider uriProvider;
+    LwM2mNotificationReceiver notificationReceiver;
     LwM2mObservationStore observationStore;
     InetAddress address;
     Registration registration;
@@ -83,12 +87,13 @@ public class LwM2mObservationStoreTest {
     public void setUp() throws UnknownHostException {
         address = InetAddress.getLocalHost();
         store = new InMemoryRegistrationStore();
-        observationStore = new LwM2mObservationStore(new EffectiveEndpointUriProvider() {
+        uriProvider = new EffectiveEndpointUriProvider() {
             @Override
             public EndpointUri getEndpointUri() {
                 return endpointUri;
             }
-        }, store, new LwM2mNotificationReceiver() {
+        };
+        notificationReceiver = new LwM2mNotificationReceiver() {
             @Override
             public void onNotification(CompositeObservation observation, LwM2mPeer sender, ClientProfile profile,
                     ObserveCompositeResponse response) {
@@ -110,7 +115,9 @@ public class LwM2mObservationStoreTest {
             @Override
             public void cancelled(Observation observation) {
             }
-        }, new ObservationSerDes(new UdpDataParser(), new UdpDataSerializer()));
+        };
+        observationStore = new LwM2mObservationStore(uriProvider, store, notificationReceiver,
+                new ObservationSerDes(new UdpDataParser(), new UdpDataSerializer()));
     }
 
     @Test
@@ -189,6 +196,95 @@ public class LwM2mObservationStoreTest {
         assertNull(leshanObservation);
     }
 
+    @Test
+    public void get_cached_observation() {
+        // given
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+
+        org.eclipse.californium.core.observe.Observation observationToStore = prepareCoapObservation();
+        observationStore.put(exampleToken, observationToStore);
+
+        // when
+        org.eclipse.californium.core.observe.Observation firstFetched = observationStore.get(exampleToken);
+        org.eclipse.californium.core.observe.Observation secondFetched = observationStore.get(exampleToken);
+
+        // then
+        assertSame(observationToStore, firstFetched);
+        assertSame(firstFetched, secondFetched);
+    }
+
+    @Test
+    public void get_observation_without_cache() {
+        // given
+        observationStore = new LwM2mObservationStore(uriProvider, store, notificationReceiver,
+                new ObservationSerDes(new UdpDataParser(), new UdpDataSerializer()), 0);
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+
+        org.eclipse.californium.core.observe.Observation observationToStore = prepareCoapObservation();
+        observationStore.put(exampleToken, observationToStore);
+
+        // when
+        org.eclipse.californium.core.observe.Observation observationFetched = observationStore.get(exampleToken);
+
+        // then
+        assertNotSame(observationToStore, observationFetched);
+        assertEquals(observationToStore.toString(), observationFetched.toString());
+    }
+
+    @Test
+    public void get_removed_observation() {
+        // given
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+
+        observationStore.put(exampleToken, prepareCoapObservation());
+        assertNotNull(observationStore.get(exampleToken));
+
+        // when
+        observationStore.remove(exampleToken);
+
+        // then
+        assertNull(observationStore.get(exampleToken));
+    }
+
+    @Test
+    public void get_observation_removed_from_registration_store() {
+        // given
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+
+        observationStore.put(exampleToken, prepareCoapObservation());
+        assertNotNull(observationStore.get(exampleToken));
+
+        // when
+        store.removeObservation(registrationId, new ObservationIdentifier(endpointUri, exampleToken.getBytes()));
+
+        // then
+        assertNull(observationStore.get(exampleToken));
+    }
+
+    @Test
+    public void get_observation_replaced_in_registration_store() {
+        // given
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+
+        observationStore.put(exampleToken, prepareCoapObservation());
+        assertNotNull(observationStore.get(exampleToken));
+
+        // when observation with same token is replaced without using observation store
+        LwM2mObservationStore otherObservationStore = new LwM2mObservationStore(uriProvider, store,
+                notificationReceiver, new ObservationSerDes(new UdpDataParser(), new UdpDataSerializer()));
+        org.eclipse.californium.core.observe.Observation newObservation = prepareCoapCompositeObservation();
+        otherObservationStore.put(exampleToken, newObservation);
+
+        // then
+        org.eclipse.californium.core.observe.Observation observationFetched = observationStore.get(exampleToken);
+        assertEquals(newObservation.toString(), observationFetched.toString());
+    }
+
     private org.eclipse.californium.core.observe.Observation prepareCoapObservation() {
         ObserveRequest observeRequest = new ObserveRequest(null, examplePath);
 
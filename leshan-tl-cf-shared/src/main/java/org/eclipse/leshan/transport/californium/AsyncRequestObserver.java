@@ -22,6 +22,8 @@ import org.eclipse.californium.core.coap.Response;
 import org.eclipse.leshan.core.response.ErrorCallback;
 import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.core.util.timeout.ExecutorTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 
 /**
  * A dedicated {@link CoapAsyncRequestObserver} for LWM2M.
@@ -33,6 +35,19 @@ import org.eclipse.leshan.core.response.ResponseCallback;
  */
 public abstract class AsyncRequestObserver<T extends LwM2mResponse> extends CoapAsyncRequestObserver {
 
+    /**
+     * A Californium message observer for a CoAP request helping to get results asynchronously dedicated for LWM2M
+     * requests, which schedules its timeout on the given executor.
+     *
+     * @see #AsyncRequestObserver(Request, ResponseCallback, ErrorCallback, long, TimeoutScheduler, ExceptionTranslator)
+     */
+    public AsyncRequestObserver(Request coapRequest, final ResponseCallback<T> responseCallback,
+            final ErrorCallback errorCallback, long timeoutInMs, ScheduledExecutorService executor,
+            ExceptionTranslator exceptionTranslator) {
+        this(coapRequest, responseCallback, errorCallback, timeoutInMs, new ExecutorTimeoutScheduler(executor),
+                exceptionTranslator);
+    }
+
     /**
      * A Californium message observer for a CoAP request helping to get results asynchronously dedicated for LWM2M
      * requests.
@@ -46,12 +61,12 @@ public abstract class AsyncRequestObserver<T extends LwM2mResponse> extends Coap
      * @param errorCallback This is called when an error happens. This MUST NOT be null.
      * @param timeoutInMs A response timeout(in millisecond) which is raised if neither a response or error happens (see
      *        https://github.com/eclipse/leshan/wiki/Request-Timeout).
-     * @param executor used to scheduled timeout tasks.
+     * @param timeoutScheduler used to schedule timeout tasks.
      */
     public AsyncRequestObserver(Request coapRequest, final ResponseCallback<T> responseCallback,
-            final ErrorCallback errorCallback, long timeoutInMs, ScheduledExecutorService executor,
+            final ErrorCallback errorCallback, long timeoutInMs, TimeoutScheduler timeoutScheduler,
             ExceptionTranslator exceptionTranslator) {
-        super(coapRequest, null, errorCallback, timeoutInMs, executor, exceptionTranslator);
+        super(coapRequest, null, errorCallback, timeoutInMs, timeoutScheduler, exceptionTranslator);
         this.responseCallback = new CoapResponseCallback() {
 
             @Override
@@ -19,7 +19,6 @@
 package org.eclipse.leshan.transport.californium;
 
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -30,6 +29,9 @@ import org.eclipse.leshan.core.request.exception.RequestRejectedException;
 import org.eclipse.leshan.core.request.exception.TimeoutException;
 import org.eclipse.leshan.core.request.exception.TimeoutException.Type;
 import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.util.timeout.ExecutorTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.Timeout;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,9 +51,9 @@ public class CoapAsyncRequestObserver extends AbstractRequestObserver {
     protected CoapResponseCallback responseCallback;
     private final ErrorCallback errorCallback;
     private final long timeoutInMs;
-    private ScheduledFuture<?> cleaningTask;
+    private Timeout cleaningTask;
     private boolean cancelled = false;
-    private final ScheduledExecutorService executor;
+    private final TimeoutScheduler timeoutScheduler;
     private final ExceptionTranslator exceptionTranslator;
 
     // The Californium API does not ensure that message callback are exclusive
@@ -63,6 +65,20 @@ public class CoapAsyncRequestObserver extends AbstractRequestObserver {
 
     private final AtomicBoolean responseTimedOut = new AtomicBoolean(false);
 
+    /**
+     * A Californium message observer for a CoAP request helping to get results asynchronously, which schedules its
+     * timeout on the given executor.
+     *
+     * @see #CoapAsyncRequestObserver(Request, CoapResponseCallback, ErrorCallback, long, TimeoutScheduler,
+     *      ExceptionTranslator)
+     */
+    public CoapAsyncRequestObserver(Request coapRequest, CoapResponseCallback responseCallback,
+            ErrorCallback errorCallback, long timeoutInMs, ScheduledExecutorService executor,
+            ExceptionTranslator exceptionTranslator) {
+        this(coapRequest, responseCallback, errorCallback, timeoutInMs, new ExecutorTimeoutScheduler(executor),
+                exceptionTranslator);
+    }
+
     /**
      * A Californium message observer for a CoAP request helping to get results asynchronously.
      * <p>
@@ -75,16 +91,16 @@ public class CoapAsyncRequestObserver extends AbstractRequestObserver {
      * @param errorCallback This is called when an error happens. This MUST NOT be null.
      * @param timeoutInMs A response timeout(in millisecond) which is raised if neither a response or error happens (see
      *        https://github.com/eclipse/leshan/wiki/Request-Timeout).
-     * @param executor used to scheduled timeout tasks.
+     * @param timeoutScheduler used to schedule timeout tasks.
      */
     public CoapAsyncRequestObserver(Request coapRequest, CoapResponseCallback responseCallback,
-            ErrorCallback errorCallback, long timeoutInMs, ScheduledExecutorService executor,
+            ErrorCallback errorCallback, long timeoutInMs, TimeoutScheduler timeoutScheduler,
             ExceptionTranslator exceptionTranslator) {
         super(coapRequest);
         this.responseCallback = responseCallback;
         this.errorCallback = errorCallback;
         this.timeoutInMs = timeoutInMs;
-        this.executor = executor;
+        this.timeoutScheduler = timeoutScheduler;
         this.exceptionTranslator = exceptionTranslator;
     }
 
@@ -165,7 +181,7 @@ public class CoapAsyncRequestObserver extends AbstractRequestObserver {
         if (!cancelled)
             if (cleaningTask == null) {
                 LOG.trace("Schedule Cleaning Task for {}", coapRequest);
-                cleaningTask = executor.schedule(new Runnable() {
+                cleaningTask = timeoutScheduler.schedule(new Runnable() {
                     @Override
                     public void run() {
                         responseTimedOut.set(true);
@@ -177,7 +193,7 @@ public class CoapAsyncRequestObserver extends AbstractRequestObserver {
 
     private synchronized void cancelCleaningTask() {
         if (cleaningTask != null) {
-            cleaningTask.cancel(false);
+            cleaningTask.cancel();
         }
         cancelled = true;
     }
@@ -29,6 +29,7 @@ import org.eclipse.leshan.client.request.DownlinkRequestReceiver;
 import org.eclipse.leshan.client.resource.LwM2mObjectTree;
 import org.eclipse.leshan.client.servers.LwM2mServer;
 import org.eclipse.leshan.client.servers.ServerInfo;
+import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.SecurityMode;
 import org.eclipse.leshan.core.endpoint.Protocol;
 import org.eclipse.leshan.core.node.LwM2mPath;
@@ -38,6 +39,9 @@ import org.eclipse.leshan.core.peer.PskIdentity;
 import org.eclipse.leshan.core.peer.RpkIdentity;
 import org.eclipse.leshan.core.peer.X509Identity;
 import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.timeout.HashedWheelTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.transport.javacoap.State;
 import org.eclipse.leshan.transport.javacoap.client.observe.HashMapObserversStore;
 import org.eclipse.leshan.transport.javacoap.client.observe.LwM2mKeys;
@@ -71,6 +75,8 @@ public abstract class AbstractJavaCoapClientEndpointsProvider implements LwM2mCl
     private Service<CoapRequest, CoapResponse> router;
     private ClientEndpointToolbox toolbox;
     private final IdentityHandler identityHandler;
+    private TimeoutScheduler timeoutScheduler;
+    private boolean destroyTimeoutScheduler;
 
     private JavaCoapClientEndpoint lwm2mEndpoint;
     private CoapServer coapServer;
@@ -191,7 +197,34 @@ public abstract class AbstractJavaCoapClientEndpointsProvider implements LwM2mCl
         coapServer = createCoapServer(lwm2mServer, router, trustStore);
         observersManager.init(coapServer);
         lwm2mEndpoint = new JavaCoapClientEndpoint(supportedProtocol, endpointDescription, coapServer,
-                messagetranslator, toolbox, objectTree.getModel());
+                messagetranslator, toolbox, objectTree.getModel(), getOrCreateTimeoutScheduler());
+    }
+
+    /**
+     * Set the {@link TimeoutScheduler} used to raise response timeout of requests sent by the endpoint of this
+     * provider. A same scheduler can be shared by several endpoints providers (of any transport), it will not be
+     * destroyed by this provider.
+     * <p>
+     * It must be set before endpoint creation. By default, a {@link HashedWheelTimeoutScheduler} with default
+     * resolution is created for this provider.
+     */
+    public void setTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+        this.timeoutScheduler = timeoutScheduler;
+    }
+
+    private TimeoutScheduler getOrCreateTimeoutScheduler() {
+        if (timeoutScheduler == null) {
+            timeoutScheduler = new HashedWheelTimeoutScheduler.Builder()
+                    .setThreadFactory(new NamedThreadFactory("Leshan Async Request timeout")).build();
+            destroyTimeoutScheduler = true;
+        }
+        return timeoutScheduler;
+    }
+
+    private void destroyTimeoutScheduler() {
+        if (destroyTimeoutScheduler && timeoutScheduler instanceof Destroyable) {
+            ((Destroyable) timeoutScheduler).destroy();
+        }
     }
 
     protected abstract CoapServer createCoapServer(ServerInfo serverInfo, Service<CoapRequest, CoapResponse> router,
@@ -267,6 +300,7 @@ public abstract class AbstractJavaCoapClientEndpointsProvider implements LwM2mCl
     public synchronized void destroy() {
         state = State.DESTROYED;
         destroyEndpoints();
+        destroyTimeoutScheduler();
     }
 
     private LwM2mServer extractIdentity(ServerInfo serverInfo) {
@@ -20,8 +20,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -39,6 +37,9 @@ import org.eclipse.leshan.core.response.ErrorCallback;
 import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.core.response.ResponseCallback;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.timeout.ExecutorTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.Timeout;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.transport.javacoap.client.request.ClientCoapMessageTranslator;
 
 import com.mbed.coap.exception.CoapTimeoutException;
@@ -54,11 +55,20 @@ public class JavaCoapClientEndpoint implements LwM2mClientEndpoint {
     private final ClientCoapMessageTranslator translator;
     private final ClientEndpointToolbox toolbox;
     private final LwM2mModel model;
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1,
-            new NamedThreadFactory("Leshan Async Request timeout"));
+    private final TimeoutScheduler timeoutScheduler;
 
+    /**
+     * Create an endpoint which schedules its request timeouts on its own single thread executor.
+     */
     public JavaCoapClientEndpoint(Protocol protocol, String endpointDescription, CoapServer coapServer,
             ClientCoapMessageTranslator translator, ClientEndpointToolbox toolbox, LwM2mModel model) {
+        this(protocol, endpointDescription, coapServer, translator, toolbox, model, new ExecutorTimeoutScheduler(
+                Executors.newScheduledThreadPool(1, new NamedThreadFactory("Leshan Async Request timeout"))));
+    }
+
+    public JavaCoapClientEndpoint(Protocol protocol, String endpointDescription, CoapServer coapServer,
+            ClientCoapMessageTranslator translator, ClientEndpointToolbox toolbox, LwM2mModel model,
+            TimeoutScheduler timeoutScheduler) {
         this.supportedProtocol = protocol;
         this.endpointDescription = endpointDescription;
 
@@ -66,6 +76,7 @@ public class JavaCoapClientEndpoint implements LwM2mClientEndpoint {
         this.translator = translator;
         this.toolbox = toolbox;
         this.model = model;
+        this.timeoutScheduler = timeoutScheduler;
     }
 
     @Override
@@ -189,7 +200,7 @@ public class JavaCoapClientEndpoint implements LwM2mClientEndpoint {
 
     public void timeoutAfter(CompletableFuture<?> future, long timeoutInMs) {
         // schedule a timeout task to stop future after given amount of time
-        ScheduledFuture<?> timeoutTask = executor.schedule(() -> {
+        Timeout timeoutTask = timeoutScheduler.schedule(() -> {
             if (future != null && !future.isDone()) {
                 future.completeExceptionally(new TimeoutException());
             }
@@ -197,9 +208,7 @@ public class JavaCoapClientEndpoint implements LwM2mClientEndpoint {
 
         future.whenComplete((r, e) -> {
             // Cancel TimeoutTask just above when future is complete
-            if (e == null && timeoutTask != null && !timeoutTask.isDone()) {
-                timeoutTask.cancel(false);
-            }
+            timeoutTask.cancel();
         });
     }
 }
@@ -21,8 +21,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.endpoint.EndpointUri;
 import org.eclipse.leshan.core.endpoint.Protocol;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.timeout.HashedWheelTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.server.LeshanServer;
 import org.eclipse.leshan.server.endpoint.EffectiveEndpointUriProvider;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
@@ -54,6 +58,8 @@ public abstract class AbstractJavaCoapServerEndpointsProvider implements LwM2mSe
     private CoapServer coapServer;
     private JavaCoapServerEndpoint lwm2mEndpoint;
     private final IdentityHandler identityHandler;
+    private TimeoutScheduler timeoutScheduler;
+    private boolean destroyTimeoutScheduler;
 
     public AbstractJavaCoapServerEndpointsProvider(Protocol protocol, String endpointDescription,
             InetSocketAddress localAddress, IdentityHandler identityHandler) {
@@ -93,11 +99,38 @@ public abstract class AbstractJavaCoapServerEndpointsProvider implements LwM2mSe
         );
 
         lwm2mEndpoint = new JavaCoapServerEndpoint(supportedProtocol, endpointDescription, coapServer,
-                new ServerCoapMessageTranslator(identityHandler), toolbox);
+                new ServerCoapMessageTranslator(identityHandler), toolbox, getOrCreateTimeoutScheduler());
 
         endpointUriProvider.setEndpoint(lwm2mEndpoint);
     }
 
+    /**
+     * Set the {@link TimeoutScheduler} used to raise response timeout of requests sent by the endpoint of this
+     * provider. A same scheduler can be shared by several endpoints providers (of any transport), it will not be
+     * destroyed by this provider.
+     * <p>
+     * It must be set before endpoint creation. By default, a {@link HashedWheelTimeoutScheduler} with default
+     * resolution is created for this provider.
+     */
+    public void setTimeoutScheduler(TimeoutScheduler timeoutScheduler) {
+        this.timeoutScheduler = timeoutScheduler;
+    }
+
+    private TimeoutScheduler getOrCreateTimeoutScheduler() {
+        if (timeoutScheduler == null) {
+            timeoutScheduler = new HashedWheelTimeoutScheduler.Builder()
+                    .setThreadFactory(new NamedThreadFactory("Leshan Async Request timeout")).build();
+            destroyTimeoutScheduler = true;
+        }
+        return timeoutScheduler;
+    }
+
+    private void destroyTimeoutScheduler() {
+        if (destroyTimeoutScheduler && timeoutScheduler instanceof Destroyable) {
+            ((Destroyable) timeoutScheduler).destroy();
+        }
+    }
+
     protected abstract CoapServer createCoapServer(InetSocketAddress localAddress,
             ServerSecurityInfo serverSecurityInfo, SecurityStore SecurityStore,
             Service<CoapRequest, CoapResponse> resources, NotificationsReceiver notificationReceiver,
@@ -146,5 +179,6 @@ public abstract class AbstractJavaCoapServerEndpointsProvider implements LwM2mSe
     public void destroy() {
         // TODO there is no destroy, so we just stop ?
         coapServer.stop();
+        destroyTimeoutScheduler();
     }
 }
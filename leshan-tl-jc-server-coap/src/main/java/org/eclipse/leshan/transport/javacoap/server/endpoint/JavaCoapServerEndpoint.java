@@ -15,19 +15,13 @@
  *******************************************************************************/
 package org.eclipse.leshan.transport.javacoap.server.endpoint;
 
-import java.util.SortedMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.leshan.core.endpoint.EndpointUri;
 import org.eclipse.leshan.core.endpoint.Protocol;
@@ -41,7 +35,11 @@ import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.core.response.ResponseCallback;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.timeout.ExecutorTimeoutScheduler;
+import org.eclipse.leshan.core.util.timeout.Timeout;
+import org.eclipse.leshan.core.util.timeout.TimeoutScheduler;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
+import org.eclipse.leshan.server.endpoint.OngoingRequestIndex;
 import org.eclipse.leshan.server.endpoint.ServerEndpointToolbox;
 import org.eclipse.leshan.server.profile.ClientProfile;
 import org.eclipse.leshan.server.request.LowerLayerConfig;
@@ -59,23 +57,31 @@ public class JavaCoapServerEndpoint implements LwM2mServerEndpoint {
     private final ServerCoapMessageTranslator translator;
     private final ServerEndpointToolbox toolbox;
 
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1,
-            new NamedThreadFactory("Leshan Async Request timeout"));
+    private final TimeoutScheduler timeoutScheduler;
 
-    // A map which contains all ongoing CoAP requests
+    // An index which contains futures of all ongoing CoAP requests by session
     // This is used to be able to cancel request
-    private final ConcurrentNavigableMap< //
-            String, // sessionId#requestId
-            CompletableFuture<? extends LwM2mResponse>> // future of the ongoing Coap Request
-    ongoingRequests = new ConcurrentSkipListMap<>();
+    private final OngoingRequestIndex<CompletableFuture<? extends LwM2mResponse>> ongoingRequests =
+            new OngoingRequestIndex<>();
 
+    /**
+     * Create an endpoint which schedules its request timeouts on its own single thread executor.
+     */
     public JavaCoapServerEndpoint(Protocol protocol, String endpointDescription, CoapServer coapServer,
             ServerCoapMessageTranslator translator, ServerEndpointToolbox toolbox) {
+        this(protocol, endpointDescription, coapServer, translator, toolbox, new ExecutorTimeoutScheduler(
+                Executors.newScheduledThreadPool(1, new NamedThreadFactory("Leshan Async Request timeout"))));
+    }
+
+    public JavaCoapServerEndpoint(Protocol protocol, String endpointDescription, CoapServer coapServer,
+            ServerCoapMessageTranslator translator, ServerEndpointToolbox toolbox,
+            TimeoutScheduler timeoutScheduler) {
         this.supportedProtocol = protocol;
         this.endpointDescription = endpointDescription;
         this.coapServer = coapServer;
         this.translator = translator;
         this.toolbox = toolbox;
+        this.timeoutScheduler = timeoutScheduler;
     }
 
     @Override
@@ -179,7 +185,7 @@ public class JavaCoapServerEndpoint implements LwM2mServerEndpoint {
 
     public void timeoutAfter(CompletableFuture<?> future, long timeoutInMs) {
         // schedule a timeout task to stop future after given amount of time
-        ScheduledFuture<?> timeoutTask = executor.schedule(() -> {
+        Timeout timeoutTask = timeoutScheduler.schedule(() -> {
             if (future != null && !future.isDone()) {
                 future.completeExceptionally(new TimeoutException());
             }
@@ -187,21 +193,16 @@ public class JavaCoapServerEndpoint implements LwM2mServerEndpoint {
 
         future.whenComplete((r, e) -> {
             // Cancel TimeoutTask just above when future is complete
-            if (e == null && timeoutTask != null && !timeoutTask.isDone()) {
-                timeoutTask.cancel(false);
-            }
+            timeoutTask.cancel();
         });
     }
 
     @Override
     public void cancelRequests(String sessionID) {
         Validate.notNull(sessionID);
-        SortedMap<String, CompletableFuture<? extends LwM2mResponse>> requests = ongoingRequests
-                .subMap(getFloorKey(sessionID), getCeilingKey(sessionID));
-        for (CompletableFuture<? extends LwM2mResponse> request : requests.values()) {
+        for (CompletableFuture<? extends LwM2mResponse> request : ongoingRequests.removeAll(sessionID)) {
             request.cancel(false);
         }
-        requests.clear();
     }
 
     @Override
@@ -210,28 +211,12 @@ public class JavaCoapServerEndpoint implements LwM2mServerEndpoint {
         // Maybe trying to cancel ongoing observe request linked to this observation ?
     }
 
-    private static String getFloorKey(String sessionID) {
-        // The key format is sessionid#long, So we need a key which is always before this pattern (in natural order).
-        return sessionID + '#';
-    }
-
-    private static String getCeilingKey(String sessionID) {
-        // The key format is sessionid#long, So we need a key which is always after this pattern (in natural order).
-        return sessionID + "#A";
-    }
-
-    private static String getKey(String sessionID, long requestId) {
-        return sessionID + '#' + requestId;
-    }
-
-    private final AtomicLong idGenerator = new AtomicLong(0l);
-
     private void addOngoingRequest(String sessionID, CompletableFuture<? extends LwM2mResponse> coapRequest) {
         if (sessionID != null) {
-            final String key = getKey(sessionID, idGenerator.incrementAndGet());
-            ongoingRequests.put(key, coapRequest);
+            OngoingRequestIndex.Entry<CompletableFuture<? extends LwM2mResponse>> entry = ongoingRequests
+                    .add(sessionID, coapRequest);
             coapRequest.whenComplete((r, e) -> {
-                ongoingRequests.remove(key);
+                ongoingRequests.remove(entry);
             });
         }
     }